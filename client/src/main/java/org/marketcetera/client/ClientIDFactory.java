@@ -4,14 +4,15 @@ import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.wrappers.RemoteException;
 import org.marketcetera.core.IDFactory;
 import org.marketcetera.core.NoMoreIDsException;
+import org.marketcetera.core.PrefetchingIDFactory;
 
 /* $License$ */
 /**
  * Client's ID factory that generates unique IDs based on IDs given out by the
  * server. The generate IDs have the supplied prefix, if one is supplied,
  * followed by the ID provided by the server, followed by a client
- * generated number between 000-999. A request is made to the server to
- * request the next ID value, when the client ID value reaches 999.
+ * generated number between 000-999. The next ID value is requested from
+ * the server in the background before the client ID value reaches 999.
  *
  * @author anshul@marketcetera.com
  * @version $Id$
@@ -27,45 +28,43 @@ public class ClientIDFactory implements IDFactory {
      * the server.
      */
     ClientIDFactory(String inPrefix, ClientImpl inClientImpl) {
-        mPrefix = inPrefix == null
-                ? ""   //$NON-NLS-1$
-                : inPrefix;
         mClientImpl = inClientImpl;
+        mIDs = new PrefetchingIDFactory(inPrefix, new IDFactory() {
+            @Override
+            public String getNext() throws NoMoreIDsException {
+                return getNextServer();
+            }
+            @Override
+            public void init() {
+            }
+        }, MAX_CLIENT_ID + 1, (MAX_CLIENT_ID + 1) / 2);
     }
 
     @Override
-    public synchronized String getNext() throws NoMoreIDsException {
-        mClientID++;
-        if(mClientID > MAX_CLIENT_ID) {
-            getNextServer();
-        }
-        return String.format("%1$s%2$s%3$03d",  //$NON-NLS-1$
-                mPrefix, mServerID, mClientID);
+    public String getNext() throws NoMoreIDsException {
+        return mIDs.getNext();
     }
 
     @Override
     public void init() throws NoMoreIDsException {
-        getNextServer();
+        mIDs.init();
     }
 
     /**
-     * Fetches the next orderID base from the server and initializes, the
-     * client portion of the ID back to zero.
+     * Fetches the next orderID base from the server.
      *
+     * @return the orderID base.
      * @throws NoMoreIDsException if the ID couldn't be fetched from the server.
      */
-    private void getNextServer() throws NoMoreIDsException {
+    private String getNextServer() throws NoMoreIDsException {
         try {
-            mServerID = mClientImpl.getNextServerID();
-            mClientID = 0;
+            return mClientImpl.getNextServerID();
         } catch (RemoteException e) {
             Messages.LOG_UNABLE_FETCH_ID_SERVER.error(this,e);
             throw new NoMoreIDsException(e, Messages.UNABLE_FETCH_ID_SERVER);
         }
     }
-    private String mServerID;
-    private short mClientID = 0;
-    private final String mPrefix;
+    private final PrefetchingIDFactory mIDs;
     private final ClientImpl mClientImpl;
     static final short MAX_CLIENT_ID = 999;
 }
@@ -286,6 +286,15 @@ public final class RpcClient {
      */
     com.google.protobuf.ByteString
         getPasswordBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginRequest}
@@ -382,6 +391,17 @@ public final class RpcClient {
               password_ = bs;
               break;
             }
+            case 56: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000040;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -653,6 +673,21 @@ public final class RpcClient {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 7;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       appId_ = "";
       clientId_ = "";
@@ -660,6 +695,7 @@ public final class RpcClient {
       versionId_ = "";
       username_ = "";
       password_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -720,6 +756,9 @@ public final class RpcClient {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeBytes(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeEnum(7, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -753,6 +792,10 @@ public final class RpcClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -887,6 +930,8 @@ public final class RpcClient {
         bitField0_ = (bitField0_ & ~0x00000010);
         password_ = "";
         bitField0_ = (bitField0_ & ~0x00000020);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -943,6 +988,10 @@ public final class RpcClient {
           to_bitField0_ |= 0x00000020;
         }
         result.password_ = password_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -987,6 +1036,9 @@ public final class RpcClient {
           password_ = other.password_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1538,6 +1590,41 @@ public final class RpcClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginRequest)
     }
 
@@ -1566,6 +1653,15 @@ public final class RpcClient {
      */
     com.google.protobuf.ByteString
         getSessionIdBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginResponse}
@@ -1625,6 +1721,17 @@ public final class RpcClient {
               sessionId_ = bs;
               break;
             }
+            case 16: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1707,8 +1814,24 @@ public final class RpcClient {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       sessionId_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1730,6 +1853,9 @@ public final class RpcClient {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getSessionIdBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1743,6 +1869,10 @@ public final class RpcClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, getSessionIdBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1862,6 +1992,8 @@ public final class RpcClient {
         super.clear();
         sessionId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -1894,6 +2026,10 @@ public final class RpcClient {
           to_bitField0_ |= 0x00000001;
         }
         result.sessionId_ = sessionId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1915,6 +2051,9 @@ public final class RpcClient {
           sessionId_ = other.sessionId_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2022,6 +2161,41 @@ public final class RpcClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginResponse)
     }
 
@@ -13011,6 +13185,30 @@ public final class RpcClient {
      */
     com.google.protobuf.ByteString
         getReportsBytes(int index);
+
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    java.util.List<org.marketcetera.rpc.PayloadRpc.Report> 
+        getReportPayloadsList();
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Report getReportPayloads(int index);
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    int getReportPayloadsCount();
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    java.util.List<? extends org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> 
+        getReportPayloadsOrBuilderList();
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportPayloadsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code ReportList}
@@ -13073,6 +13271,14 @@ public final class RpcClient {
               reports_.add(bs);
               break;
             }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                reportPayloads_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Report>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              reportPayloads_.add(input.readMessage(org.marketcetera.rpc.PayloadRpc.Report.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13084,6 +13290,9 @@ public final class RpcClient {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           reports_ = reports_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          reportPayloads_ = java.util.Collections.unmodifiableList(reportPayloads_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -13144,8 +13353,44 @@ public final class RpcClient {
       return reports_.getByteString(index);
     }
 
+    public static final int REPORTPAYLOADS_FIELD_NUMBER = 2;
+    private java.util.List<org.marketcetera.rpc.PayloadRpc.Report> reportPayloads_;
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    public java.util.List<org.marketcetera.rpc.PayloadRpc.Report> getReportPayloadsList() {
+      return reportPayloads_;
+    }
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> 
+        getReportPayloadsOrBuilderList() {
+      return reportPayloads_;
+    }
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    public int getReportPayloadsCount() {
+      return reportPayloads_.size();
+    }
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Report getReportPayloads(int index) {
+      return reportPayloads_.get(index);
+    }
+    /**
+     * <code>repeated .payload.Report reportPayloads = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportPayloadsOrBuilder(
+        int index) {
+      return reportPayloads_.get(index);
+    }
+
     private void initFields() {
       reports_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      reportPayloads_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -13163,6 +13408,9 @@ public final class RpcClient {
       for (int i = 0; i < reports_.size(); i++) {
         output.writeBytes(1, reports_.getByteString(i));
       }
+      for (int i = 0; i < reportPayloads_.size(); i++) {
+        output.writeMessage(2, reportPayloads_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -13181,6 +13429,10 @@ public final class RpcClient {
         size += dataSize;
         size += 1 * getReportsList().size();
       }
+      for (int i = 0; i < reportPayloads_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, reportPayloads_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -13290,6 +13542,7 @@ public final class RpcClient {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getReportPayloadsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -13300,6 +13553,12 @@ public final class RpcClient {
         super.clear();
         reports_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
+        if (reportPayloadsBuilder_ == null) {
+          reportPayloads_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          reportPayloadsBuilder_.clear();
+        }
         return this;
       }
 
@@ -13332,6 +13591,15 @@ public final class RpcClient {
           bitField0_ = (bitField0_ & ~0x00000001);
         }
         result.reports_ = reports_;
+        if (reportPayloadsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            reportPayloads_ = java.util.Collections.unmodifiableList(reportPayloads_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.reportPayloads_ = reportPayloads_;
+        } else {
+          result.reportPayloads_ = reportPayloadsBuilder_.build();
+        }
         onBuilt();
         return result;
       }
@@ -13357,6 +13625,32 @@ public final class RpcClient {
           }
           onChanged();
         }
+        if (reportPayloadsBuilder_ == null) {
+          if (!other.reportPayloads_.isEmpty()) {
+            if (reportPayloads_.isEmpty()) {
+              reportPayloads_ = other.reportPayloads_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureReportPayloadsIsMutable();
+              reportPayloads_.addAll(other.reportPayloads_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.reportPayloads_.isEmpty()) {
+            if (reportPayloadsBuilder_.isEmpty()) {
+              reportPayloadsBuilder_.dispose();
+              reportPayloadsBuilder_ = null;
+              reportPayloads_ = other.reportPayloads_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              reportPayloadsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getReportPayloadsFieldBuilder() : null;
+            } else {
+              reportPayloadsBuilder_.addAllMessages(other.reportPayloads_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -13477,6 +13771,246 @@ public final class RpcClient {
         return this;
       }
 
+      private java.util.List<org.marketcetera.rpc.PayloadRpc.Report> reportPayloads_ =
+        java.util.Collections.emptyList();
+      private void ensureReportPayloadsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          reportPayloads_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Report>(reportPayloads_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> reportPayloadsBuilder_;
+
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Report> getReportPayloadsList() {
+        if (reportPayloadsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(reportPayloads_);
+        } else {
+          return reportPayloadsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public int getReportPayloadsCount() {
+        if (reportPayloadsBuilder_ == null) {
+          return reportPayloads_.size();
+        } else {
+          return reportPayloadsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report getReportPayloads(int index) {
+        if (reportPayloadsBuilder_ == null) {
+          return reportPayloads_.get(index);
+        } else {
+          return reportPayloadsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder setReportPayloads(
+          int index, org.marketcetera.rpc.PayloadRpc.Report value) {
+        if (reportPayloadsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.set(index, value);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder setReportPayloads(
+          int index, org.marketcetera.rpc.PayloadRpc.Report.Builder builderForValue) {
+        if (reportPayloadsBuilder_ == null) {
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder addReportPayloads(org.marketcetera.rpc.PayloadRpc.Report value) {
+        if (reportPayloadsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.add(value);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder addReportPayloads(
+          int index, org.marketcetera.rpc.PayloadRpc.Report value) {
+        if (reportPayloadsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.add(index, value);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder addReportPayloads(
+          org.marketcetera.rpc.PayloadRpc.Report.Builder builderForValue) {
+        if (reportPayloadsBuilder_ == null) {
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.add(builderForValue.build());
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder addReportPayloads(
+          int index, org.marketcetera.rpc.PayloadRpc.Report.Builder builderForValue) {
+        if (reportPayloadsBuilder_ == null) {
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder addAllReportPayloads(
+          java.lang.Iterable<? extends org.marketcetera.rpc.PayloadRpc.Report> values) {
+        if (reportPayloadsBuilder_ == null) {
+          ensureReportPayloadsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, reportPayloads_);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder clearReportPayloads() {
+        if (reportPayloadsBuilder_ == null) {
+          reportPayloads_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public Builder removeReportPayloads(int index) {
+        if (reportPayloadsBuilder_ == null) {
+          ensureReportPayloadsIsMutable();
+          reportPayloads_.remove(index);
+          onChanged();
+        } else {
+          reportPayloadsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report.Builder getReportPayloadsBuilder(
+          int index) {
+        return getReportPayloadsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportPayloadsOrBuilder(
+          int index) {
+        if (reportPayloadsBuilder_ == null) {
+          return reportPayloads_.get(index);  } else {
+          return reportPayloadsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> 
+           getReportPayloadsOrBuilderList() {
+        if (reportPayloadsBuilder_ != null) {
+          return reportPayloadsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(reportPayloads_);
+        }
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report.Builder addReportPayloadsBuilder() {
+        return getReportPayloadsFieldBuilder().addBuilder(
+            org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report.Builder addReportPayloadsBuilder(
+          int index) {
+        return getReportPayloadsFieldBuilder().addBuilder(
+            index, org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Report reportPayloads = 2;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Report.Builder> 
+           getReportPayloadsBuilderList() {
+        return getReportPayloadsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> 
+          getReportPayloadsFieldBuilder() {
+        if (reportPayloadsBuilder_ == null) {
+          reportPayloadsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder>(
+                  reportPayloads_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          reportPayloads_ = null;
+        }
+        return reportPayloadsBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:ReportList)
     }
 
@@ -13838,12 +14372,6 @@ public final class RpcClient {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (hasInstrument()) {
-        if (!getInstrument().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -14138,12 +14666,6 @@ public final class RpcClient {
           
           return false;
         }
-        if (hasInstrument()) {
-          if (!getInstrument().isInitialized()) {
-            
-            return false;
-          }
-        }
         return true;
       }
 
@@ -16433,10 +16955,6 @@ public final class RpcClient {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getInstrument().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -16670,10 +17188,6 @@ public final class RpcClient {
           
           return false;
         }
-        if (!getInstrument().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -17181,10 +17695,6 @@ public final class RpcClient {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getInstrument().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -17432,10 +17942,6 @@ public final class RpcClient {
           
           return false;
         }
-        if (!getInstrument().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -17742,18 +18248,31 @@ public final class RpcClient {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     boolean hasPayload();
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     java.lang.String getPayload();
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     com.google.protobuf.ByteString
         getPayloadBytes();
+
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    boolean hasInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Instrument getInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder();
   }
   /**
    * Protobuf type {@code Instrument}
@@ -17813,6 +18332,19 @@ public final class RpcClient {
               payload_ = bs;
               break;
             }
+            case 18: {
+              org.marketcetera.rpc.PayloadRpc.Instrument.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = instrument_.toBuilder();
+              }
+              instrument_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(instrument_);
+                instrument_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -17856,13 +18388,13 @@ public final class RpcClient {
     public static final int PAYLOAD_FIELD_NUMBER = 1;
     private java.lang.Object payload_;
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public boolean hasPayload() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public java.lang.String getPayload() {
       java.lang.Object ref = payload_;
@@ -17879,7 +18411,7 @@ public final class RpcClient {
       }
     }
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public com.google.protobuf.ByteString
         getPayloadBytes() {
@@ -17895,8 +18427,30 @@ public final class RpcClient {
       }
     }
 
+    public static final int INSTRUMENT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.Instrument instrument_;
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public boolean hasInstrument() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+      return instrument_;
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+      return instrument_;
+    }
+
     private void initFields() {
       payload_ = "";
+      instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -17904,10 +18458,6 @@ public final class RpcClient {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasPayload()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -17918,6 +18468,9 @@ public final class RpcClient {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, instrument_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -17931,6 +18484,10 @@ public final class RpcClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, instrument_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -18040,6 +18597,7 @@ public final class RpcClient {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getInstrumentFieldBuilder();
         }
       }
       private static Builder create() {
@@ -18050,6 +18608,12 @@ public final class RpcClient {
         super.clear();
         payload_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -18082,6 +18646,14 @@ public final class RpcClient {
           to_bitField0_ |= 0x00000001;
         }
         result.payload_ = payload_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (instrumentBuilder_ == null) {
+          result.instrument_ = instrument_;
+        } else {
+          result.instrument_ = instrumentBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -18103,15 +18675,14 @@ public final class RpcClient {
           payload_ = other.payload_;
           onChanged();
         }
+        if (other.hasInstrument()) {
+          mergeInstrument(other.getInstrument());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasPayload()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -18136,13 +18707,13 @@ public final class RpcClient {
 
       private java.lang.Object payload_ = "";
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public boolean hasPayload() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public java.lang.String getPayload() {
         java.lang.Object ref = payload_;
@@ -18159,7 +18730,7 @@ public final class RpcClient {
         }
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public com.google.protobuf.ByteString
           getPayloadBytes() {
@@ -18175,7 +18746,7 @@ public final class RpcClient {
         }
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder setPayload(
           java.lang.String value) {
@@ -18188,7 +18759,7 @@ public final class RpcClient {
         return this;
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder clearPayload() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -18197,7 +18768,7 @@ public final class RpcClient {
         return this;
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder setPayloadBytes(
           com.google.protobuf.ByteString value) {
@@ -18210,6 +18781,122 @@ public final class RpcClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.Instrument instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> instrumentBuilder_;
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public boolean hasInstrument() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+        if (instrumentBuilder_ == null) {
+          return instrument_;
+        } else {
+          return instrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instrument_ = value;
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(
+          org.marketcetera.rpc.PayloadRpc.Instrument.Builder builderForValue) {
+        if (instrumentBuilder_ == null) {
+          instrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder mergeInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              instrument_ != org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) {
+            instrument_ =
+              org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder(instrument_).mergeFrom(value).buildPartial();
+          } else {
+            instrument_ = value;
+          }
+          onChanged();
+        } else {
+          instrumentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder clearInstrument() {
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument.Builder getInstrumentBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+        if (instrumentBuilder_ != null) {
+          return instrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return instrument_;
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> 
+          getInstrumentFieldBuilder() {
+        if (instrumentBuilder_ == null) {
+          instrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder>(
+                  getInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          instrument_ = null;
+        }
+        return instrumentBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:Instrument)
     }
 
@@ -23288,12 +23975,6 @@ public final class RpcClient {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (hasInstrument()) {
-        if (!getInstrument().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -23501,12 +24182,6 @@ public final class RpcClient {
       }
 
       public final boolean isInitialized() {
-        if (hasInstrument()) {
-          if (!getInstrument().isInitialized()) {
-            
-            return false;
-          }
-        }
         return true;
       }
 
@@ -30730,102 +31405,107 @@ public final class RpcClient {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\020rpc_client.proto\"\177\n\014LoginRequest\022\r\n\005ap" +
-      "pId\030\001 \002(\t\022\020\n\010clientId\030\002 \002(\t\022\027\n\006locale\030\003 " +
-      "\002(\0132\007.Locale\022\021\n\tversionId\030\004 \002(\t\022\020\n\010usern" +
-      "ame\030\005 \002(\t\022\020\n\010password\030\006 \002(\t\"\"\n\rLoginResp" +
-      "onse\022\021\n\tsessionId\030\001 \002(\t\"\"\n\rLogoutRequest" +
-      "\022\021\n\tsessionId\030\001 \002(\t\" \n\016LogoutResponse\022\016\n" +
-      "\006status\030\001 \002(\010\"\'\n\022NextOrderIdRequest\022\021\n\ts" +
-      "essionId\030\001 \002(\t\"&\n\023NextOrderIdResponse\022\017\n" +
-      "\007orderId\030\001 \002(\t\"<\n\006Locale\022\017\n\007country\030\001 \002(" +
-      "\t\022\020\n\010language\030\002 \002(\t\022\017\n\007variant\030\003 \001(\t\")\n\024",
-      "BrokersStatusRequest\022\021\n\tsessionId\030\001 \002(\t\"" +
-      ">\n\025BrokersStatusResponse\022%\n\rbrokersStatu" +
-      "s\030\001 \002(\0132\016.BrokersStatus\"/\n\rBrokersStatus" +
-      "\022\036\n\007brokers\030\001 \003(\0132\r.BrokerStatus\"\211\001\n\014Bro" +
-      "kerStatus\022\014\n\004name\030\001 \002(\t\022\020\n\010brokerId\030\002 \002(" +
-      "\t\022\020\n\010loggedOn\030\003 \002(\010\022$\n\013brokerAlgos\030\004 \003(\013" +
-      "2\017.BrokerAlgoSpec\022!\n\010settings\030\005 \003(\0132\017.Se" +
-      "ssionSetting\",\n\016SessionSetting\022\013\n\003key\030\001 " +
-      "\002(\t\022\r\n\005value\030\002 \002(\t\"H\n\016BrokerAlgoSpec\022\014\n\004" +
-      "name\030\001 \002(\t\022(\n\014algoTagSpecs\030\002 \003(\0132\022.Broke",
-      "rAlgoTagSpec\"\261\001\n\021BrokerAlgoTagSpec\022\013\n\003ta" +
-      "g\030\001 \002(\005\022\r\n\005label\030\002 \002(\t\022\023\n\013description\030\003 " +
-      "\001(\t\022\021\n\tmandatory\030\004 \002(\010\022\017\n\007pattern\030\005 \001(\t\022" +
-      "\017\n\007options\030\006 \001(\t\022\020\n\010readOnly\030\007 \002(\010\022\024\n\014de" +
-      "faultValue\030\010 \001(\t\022\016\n\006advice\030\t \001(\t\"&\n\021Open" +
-      "OrdersRequest\022\021\n\tsessionId\030\001 \002(\t\"2\n\022Open" +
-      "OrdersResponse\022\034\n\007reports\030\001 \002(\0132\013.Report" +
-      "List\"8\n\023ReportsSinceRequest\022\021\n\tsessionId" +
-      "\030\001 \002(\t\022\016\n\006origin\030\002 \002(\003\"4\n\024ReportsSinceRe" +
-      "sponse\022\034\n\007reports\030\001 \002(\0132\013.ReportList\"\035\n\n",
-      "ReportList\022\017\n\007reports\030\001 \003(\t\"\220\001\n\017Position" +
-      "Request\022\021\n\tsessionId\030\001 \002(\t\022\'\n\016instrument" +
-      "Type\030\002 \001(\0162\017.InstrumentType\022\037\n\ninstrumen" +
-      "t\030\003 \001(\0132\013.Instrument\022\022\n\006origin\030\004 \002(\003:\002-1" +
-      "\022\014\n\004root\030\005 \003(\t\">\n\020PositionResponse\022\032\n\004ke" +
-      "ys\030\001 \003(\0132\014.PositionKey\022\016\n\006values\030\002 \003(\t\"\036" +
-      "\n\020HeartbeatRequest\022\n\n\002id\030\001 \002(\003\"\037\n\021Heartb" +
-      "eatResponse\022\n\n\002id\030\001 \002(\003\"=\n\010Position\022\037\n\ni" +
-      "nstrument\030\001 \002(\0132\013.Instrument\022\020\n\010position" +
-      "\030\002 \002(\t\"Q\n\013PositionKey\022\037\n\ninstrument\030\001 \002(",
-      "\0132\013.Instrument\022\017\n\007account\030\002 \001(\t\022\020\n\010trade" +
-      "rId\030\003 \001(\t\"\035\n\nInstrument\022\017\n\007payload\030\001 \002(\t" +
-      "\"0\n\017UserInfoRequest\022\021\n\tsessionId\030\001 \002(\t\022\n" +
-      "\n\002id\030\002 \002(\003\"/\n\020UserInfoResponse\022\033\n\010userIn" +
-      "fo\030\001 \002(\0132\t.UserInfo\"Y\n\010UserInfo\022\014\n\004name\030" +
-      "\001 \002(\t\022\n\n\002id\030\002 \002(\003\022\016\n\006active\030\003 \002(\010\022\021\n\tsup" +
-      "eruser\030\004 \002(\010\022\020\n\010userdata\030\005 \001(\t\"6\n\021Underl" +
-      "yingRequest\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006symbol" +
-      "\030\002 \002(\t\"$\n\022UnderlyingResponse\022\016\n\006symbol\030\001" +
-      " \001(\t\"7\n\022OptionRootsRequest\022\021\n\tsessionId\030",
-      "\001 \002(\t\022\016\n\006symbol\030\002 \002(\t\"%\n\023OptionRootsResp" +
-      "onse\022\016\n\006symbol\030\001 \003(\t\"9\n\024ResolveSymbolReq" +
-      "uest\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006symbol\030\002 \002(\t\"" +
-      "8\n\025ResolveSymbolResponse\022\037\n\ninstrument\030\001" +
-      " \001(\0132\013.Instrument\"8\n\022RootOrderIdRequest\022" +
-      "\021\n\tsessionId\030\001 \002(\t\022\017\n\007orderId\030\002 \002(\t\"&\n\023R" +
-      "ootOrderIdResponse\022\017\n\007orderId\030\001 \001(\t\"\'\n\022G" +
-      "etUserDataRequest\022\021\n\tsessionId\030\001 \002(\t\"\'\n\023" +
-      "GetUserDataResponse\022\020\n\010userData\030\001 \001(\t\"9\n" +
-      "\022SetUserDataRequest\022\021\n\tsessionId\030\001 \002(\t\022\020",
-      "\n\010userData\030\002 \001(\t\"\025\n\023SetUserDataResponse\"" +
-      "g\n\020AddReportRequest\022\021\n\tsessionId\030\001 \002(\t\022\020" +
-      "\n\010brokerId\030\002 \002(\t\022\017\n\007message\030\003 \002(\t\022\035\n\thie" +
-      "rarchy\030\004 \002(\0162\n.Hierarchy\"4\n\021AddReportRes" +
-      "ponse\022\016\n\006status\030\001 \002(\010\022\017\n\007message\030\002 \001(\t\"9" +
-      "\n\023DeleteReportRequest\022\021\n\tsessionId\030\001 \002(\t" +
-      "\022\017\n\007message\030\002 \002(\t\"\026\n\024DeleteReportRespons" +
-      "e*B\n\016InstrumentType\022\n\n\006EQUITY\020\000\022\n\n\006OPTIO" +
-      "N\020\001\022\n\n\006FUTURE\020\002\022\014\n\010CURRENCY\020\003*,\n\tHierarc" +
-      "hy\022\n\n\006Parent\020\000\022\t\n\005Child\020\001\022\010\n\004Flat\020\0022\330\007\n\020",
-      "RpcClientService\022&\n\005login\022\r.LoginRequest" +
-      "\032\016.LoginResponse\022)\n\006logout\022\016.LogoutReque" +
-      "st\032\017.LogoutResponse\022;\n\016getNextOrderID\022\023." +
-      "NextOrderIdRequest\032\024.NextOrderIdResponse" +
-      "\022A\n\020getBrokersStatus\022\025.BrokersStatusRequ" +
-      "est\032\026.BrokersStatusResponse\0228\n\rgetOpenOr" +
-      "ders\022\022.OpenOrdersRequest\032\023.OpenOrdersRes" +
-      "ponse\022>\n\017getReportsSince\022\024.ReportsSinceR" +
-      "equest\032\025.ReportsSinceResponse\0223\n\014getPosi" +
-      "tions\022\020.PositionRequest\032\021.PositionRespon",
-      "se\0222\n\theartbeat\022\021.HeartbeatRequest\032\022.Hea" +
-      "rtbeatResponse\0222\n\013getUserInfo\022\020.UserInfo" +
-      "Request\032\021.UserInfoResponse\0228\n\rgetUnderly" +
-      "ing\022\022.UnderlyingRequest\032\023.UnderlyingResp" +
-      "onse\022;\n\016getOptionRoots\022\023.OptionRootsRequ" +
-      "est\032\024.OptionRootsResponse\022>\n\rresolveSymb" +
-      "ol\022\025.ResolveSymbolRequest\032\026.ResolveSymbo" +
-      "lResponse\022>\n\021getRootOrderIdFor\022\023.RootOrd" +
-      "erIdRequest\032\024.RootOrderIdResponse\0228\n\013get" +
-      "UserData\022\023.GetUserDataRequest\032\024.GetUserD",
-      "ataResponse\0228\n\013setUserData\022\023.SetUserData" +
-      "Request\032\024.SetUserDataResponse\0222\n\taddRepo" +
-      "rt\022\021.AddReportRequest\032\022.AddReportRespons" +
-      "e\022;\n\014deleteReport\022\024.DeleteReportRequest\032" +
-      "\025.DeleteReportResponseB+\n\033org.marketcete" +
-      "ra.client.rpcB\tRpcClient\210\001\001"
+      "\n\020rpc_client.proto\032\021rpc_payload.proto\"\256\001" +
+      "\n\014LoginRequest\022\r\n\005appId\030\001 \002(\t\022\020\n\010clientI" +
+      "d\030\002 \002(\t\022\027\n\006locale\030\003 \002(\0132\007.Locale\022\021\n\tvers" +
+      "ionId\030\004 \002(\t\022\020\n\010username\030\005 \002(\t\022\020\n\010passwor" +
+      "d\030\006 \002(\t\022-\n\rpayloadFormat\030\007 \001(\0162\026.payload" +
+      ".PayloadFormat\"Q\n\rLoginResponse\022\021\n\tsessi" +
+      "onId\030\001 \002(\t\022-\n\rpayloadFormat\030\002 \001(\0162\026.payl" +
+      "oad.PayloadFormat\"\"\n\rLogoutRequest\022\021\n\tse" +
+      "ssionId\030\001 \002(\t\" \n\016LogoutResponse\022\016\n\006statu" +
+      "s\030\001 \002(\010\"\'\n\022NextOrderIdRequest\022\021\n\tsession",
+      "Id\030\001 \002(\t\"&\n\023NextOrderIdResponse\022\017\n\007order" +
+      "Id\030\001 \002(\t\"<\n\006Locale\022\017\n\007country\030\001 \002(\t\022\020\n\010l" +
+      "anguage\030\002 \002(\t\022\017\n\007variant\030\003 \001(\t\")\n\024Broker" +
+      "sStatusRequest\022\021\n\tsessionId\030\001 \002(\t\">\n\025Bro" +
+      "kersStatusResponse\022%\n\rbrokersStatus\030\001 \002(" +
+      "\0132\016.BrokersStatus\"/\n\rBrokersStatus\022\036\n\007br" +
+      "okers\030\001 \003(\0132\r.BrokerStatus\"\211\001\n\014BrokerSta" +
+      "tus\022\014\n\004name\030\001 \002(\t\022\020\n\010brokerId\030\002 \002(\t\022\020\n\010l" +
+      "oggedOn\030\003 \002(\010\022$\n\013brokerAlgos\030\004 \003(\0132\017.Bro" +
+      "kerAlgoSpec\022!\n\010settings\030\005 \003(\0132\017.SessionS",
+      "etting\",\n\016SessionSetting\022\013\n\003key\030\001 \002(\t\022\r\n" +
+      "\005value\030\002 \002(\t\"H\n\016BrokerAlgoSpec\022\014\n\004name\030\001" +
+      " \002(\t\022(\n\014algoTagSpecs\030\002 \003(\0132\022.BrokerAlgoT" +
+      "agSpec\"\261\001\n\021BrokerAlgoTagSpec\022\013\n\003tag\030\001 \002(" +
+      "\005\022\r\n\005label\030\002 \002(\t\022\023\n\013description\030\003 \001(\t\022\021\n" +
+      "\tmandatory\030\004 \002(\010\022\017\n\007pattern\030\005 \001(\t\022\017\n\007opt" +
+      "ions\030\006 \001(\t\022\020\n\010readOnly\030\007 \002(\010\022\024\n\014defaultV" +
+      "alue\030\010 \001(\t\022\016\n\006advice\030\t \001(\t\"&\n\021OpenOrders" +
+      "Request\022\021\n\tsessionId\030\001 \002(\t\"2\n\022OpenOrders" +
+      "Response\022\034\n\007reports\030\001 \002(\0132\013.ReportList\"8",
+      "\n\023ReportsSinceRequest\022\021\n\tsessionId\030\001 \002(\t" +
+      "\022\016\n\006origin\030\002 \002(\003\"4\n\024ReportsSinceResponse" +
+      "\022\034\n\007reports\030\001 \002(\0132\013.ReportList\"F\n\nReport" +
+      "List\022\017\n\007reports\030\001 \003(\t\022\'\n\016reportPayloads\030" +
+      "\002 \003(\0132\017.payload.Report\"\220\001\n\017PositionReque" +
+      "st\022\021\n\tsessionId\030\001 \002(\t\022\'\n\016instrumentType\030" +
+      "\002 \001(\0162\017.InstrumentType\022\037\n\ninstrument\030\003 \001" +
+      "(\0132\013.Instrument\022\022\n\006origin\030\004 \002(\003:\002-1\022\014\n\004r" +
+      "oot\030\005 \003(\t\">\n\020PositionResponse\022\032\n\004keys\030\001 " +
+      "\003(\0132\014.PositionKey\022\016\n\006values\030\002 \003(\t\"\036\n\020Hea",
+      "rtbeatRequest\022\n\n\002id\030\001 \002(\003\"\037\n\021HeartbeatRe" +
+      "sponse\022\n\n\002id\030\001 \002(\003\"=\n\010Position\022\037\n\ninstru" +
+      "ment\030\001 \002(\0132\013.Instrument\022\020\n\010position\030\002 \002(" +
+      "\t\"Q\n\013PositionKey\022\037\n\ninstrument\030\001 \002(\0132\013.I" +
+      "nstrument\022\017\n\007account\030\002 \001(\t\022\020\n\010traderId\030\003" +
+      " \001(\t\"F\n\nInstrument\022\017\n\007payload\030\001 \001(\t\022\'\n\ni" +
+      "nstrument\030\002 \001(\0132\023.payload.Instrument\"0\n\017" +
+      "UserInfoRequest\022\021\n\tsessionId\030\001 \002(\t\022\n\n\002id" +
+      "\030\002 \002(\003\"/\n\020UserInfoResponse\022\033\n\010userInfo\030\001" +
+      " \002(\0132\t.UserInfo\"Y\n\010UserInfo\022\014\n\004name\030\001 \002(",
+      "\t\022\n\n\002id\030\002 \002(\003\022\016\n\006active\030\003 \002(\010\022\021\n\tsuperus" +
+      "er\030\004 \002(\010\022\020\n\010userdata\030\005 \001(\t\"6\n\021Underlying" +
+      "Request\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006symbol\030\002 \002" +
+      "(\t\"$\n\022UnderlyingResponse\022\016\n\006symbol\030\001 \001(\t" +
+      "\"7\n\022OptionRootsRequest\022\021\n\tsessionId\030\001 \002(" +
+      "\t\022\016\n\006symbol\030\002 \002(\t\"%\n\023OptionRootsResponse" +
+      "\022\016\n\006symbol\030\001 \003(\t\"9\n\024ResolveSymbolRequest" +
+      "\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006symbol\030\002 \002(\t\"8\n\025R" +
+      "esolveSymbolResponse\022\037\n\ninstrument\030\001 \001(\013" +
+      "2\013.Instrument\"8\n\022RootOrderIdRequest\022\021\n\ts",
+      "essionId\030\001 \002(\t\022\017\n\007orderId\030\002 \002(\t\"&\n\023RootO" +
+      "rderIdResponse\022\017\n\007orderId\030\001 \001(\t\"\'\n\022GetUs" +
+      "erDataRequest\022\021\n\tsessionId\030\001 \002(\t\"\'\n\023GetU" +
+      "serDataResponse\022\020\n\010userData\030\001 \001(\t\"9\n\022Set" +
+      "UserDataRequest\022\021\n\tsessionId\030\001 \002(\t\022\020\n\010us" +
+      "erData\030\002 \001(\t\"\025\n\023SetUserDataResponse\"g\n\020A" +
+      "ddReportRequest\022\021\n\tsessionId\030\001 \002(\t\022\020\n\010br" +
+      "okerId\030\002 \002(\t\022\017\n\007message\030\003 \002(\t\022\035\n\thierarc" +
+      "hy\030\004 \002(\0162\n.Hierarchy\"4\n\021AddReportRespons" +
+      "e\022\016\n\006status\030\001 \002(\010\022\017\n\007message\030\002 \001(\t\"9\n\023De",
+      "leteReportRequest\022\021\n\tsessionId\030\001 \002(\t\022\017\n\007" +
+      "message\030\002 \002(\t\"\026\n\024DeleteReportResponse*B\n" +
+      "\016InstrumentType\022\n\n\006EQUITY\020\000\022\n\n\006OPTION\020\001\022" +
+      "\n\n\006FUTURE\020\002\022\014\n\010CURRENCY\020\003*,\n\tHierarchy\022\n" +
+      "\n\006Parent\020\000\022\t\n\005Child\020\001\022\010\n\004Flat\020\0022\330\007\n\020RpcC" +
+      "lientService\022&\n\005login\022\r.LoginRequest\032\016.L" +
+      "oginResponse\022)\n\006logout\022\016.LogoutRequest\032\017" +
+      ".LogoutResponse\022;\n\016getNextOrderID\022\023.Next" +
+      "OrderIdRequest\032\024.NextOrderIdResponse\022A\n\020" +
+      "getBrokersStatus\022\025.BrokersStatusRequest\032",
+      "\026.BrokersStatusResponse\0228\n\rgetOpenOrders" +
+      "\022\022.OpenOrdersRequest\032\023.OpenOrdersRespons" +
+      "e\022>\n\017getReportsSince\022\024.ReportsSinceReque" +
+      "st\032\025.ReportsSinceResponse\0223\n\014getPosition" +
+      "s\022\020.PositionRequest\032\021.PositionResponse\0222" +
+      "\n\theartbeat\022\021.HeartbeatRequest\032\022.Heartbe" +
+      "atResponse\0222\n\013getUserInfo\022\020.UserInfoRequ" +
+      "est\032\021.UserInfoResponse\0228\n\rgetUnderlying\022" +
+      "\022.UnderlyingRequest\032\023.UnderlyingResponse" +
+      "\022;\n\016getOptionRoots\022\023.OptionRootsRequest\032",
+      "\024.OptionRootsResponse\022>\n\rresolveSymbol\022\025" +
+      ".ResolveSymbolRequest\032\026.ResolveSymbolRes" +
+      "ponse\022>\n\021getRootOrderIdFor\022\023.RootOrderId" +
+      "Request\032\024.RootOrderIdResponse\0228\n\013getUser" +
+      "Data\022\023.GetUserDataRequest\032\024.GetUserDataR" +
+      "esponse\0228\n\013setUserData\022\023.SetUserDataRequ" +
+      "est\032\024.SetUserDataResponse\0222\n\taddReport\022\021" +
+      ".AddReportRequest\032\022.AddReportResponse\022;\n" +
+      "\014deleteReport\022\024.DeleteReportRequest\032\025.De" +
+      "leteReportResponseB+\n\033org.marketcetera.c",
+      "lient.rpcB\tRpcClient\210\001\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -30838,19 +31518,20 @@ public final class RpcClient {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.marketcetera.rpc.PayloadRpc.getDescriptor(),
         }, assigner);
     internal_static_LoginRequest_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_LoginRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginRequest_descriptor,
-        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", });
+        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", "PayloadFormat", });
     internal_static_LoginResponse_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_LoginResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginResponse_descriptor,
-        new java.lang.String[] { "SessionId", });
+        new java.lang.String[] { "SessionId", "PayloadFormat", });
     internal_static_LogoutRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_LogoutRequest_fieldAccessorTable = new
@@ -30952,7 +31633,7 @@ public final class RpcClient {
     internal_static_ReportList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ReportList_descriptor,
-        new java.lang.String[] { "Reports", });
+        new java.lang.String[] { "Reports", "ReportPayloads", });
     internal_static_PositionRequest_descriptor =
       getDescriptor().getMessageTypes().get(19);
     internal_static_PositionRequest_fieldAccessorTable = new
@@ -30994,7 +31675,7 @@ public final class RpcClient {
     internal_static_Instrument_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Instrument_descriptor,
-        new java.lang.String[] { "Payload", });
+        new java.lang.String[] { "Payload", "Instrument", });
     internal_static_UserInfoRequest_descriptor =
       getDescriptor().getMessageTypes().get(26);
     internal_static_UserInfoRequest_fieldAccessorTable = new
@@ -31109,6 +31790,7 @@ public final class RpcClient {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_DeleteReportResponse_descriptor,
         new java.lang.String[] { });
+    org.marketcetera.rpc.PayloadRpc.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
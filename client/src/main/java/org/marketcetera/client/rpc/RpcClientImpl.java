@@ -54,6 +54,8 @@ import org.marketcetera.client.users.UserInfo;
 import org.marketcetera.core.Util;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.Currency;
 import org.marketcetera.trade.Equity;
@@ -62,6 +64,7 @@ import org.marketcetera.trade.FIXMessageWrapper;
 import org.marketcetera.trade.Future;
 import org.marketcetera.trade.Hierarchy;
 import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.MessageCreationException;
 import org.marketcetera.trade.Option;
 import org.marketcetera.trade.OrderID;
 import org.marketcetera.trade.ReportBase;
@@ -85,6 +88,8 @@ import com.googlecode.protobuf.pro.duplex.execute.RpcServerCallExecutor;
 import com.googlecode.protobuf.pro.duplex.execute.ThreadPoolCallExecutor;
 import com.googlecode.protobuf.pro.duplex.logging.CategoryPerServiceLogger;
 
+import quickfix.InvalidMessage;
+
 /* $License$ */
 
 /**
@@ -257,10 +262,7 @@ public class RpcClientImpl
                                                                                    RpcClient.ResolveSymbolRequest.newBuilder().setSessionId(sessionId.getValue()).setSymbol(inSymbol).build());
             Instrument instrument = null;
             if(response.hasInstrument()) {
-                synchronized(contextLock) {
-                    Unmarshaller unmarshaller = getUnmarshaller();
-                    instrument = (Instrument)unmarshaller.unmarshal(new StringReader(response.getInstrument().getPayload()));
-                }
+                instrument = getInstrument(response.getInstrument());
                 SLF4JLoggerProxy.debug(this,
                                        "Resolved {} to {}",
                                        inSymbol,
@@ -442,11 +444,14 @@ public class RpcClientImpl
                     reports.add((ReportBase)getUnmarshaller().unmarshal(new StringReader(report)));
                 }
             }
+            for(PayloadRpc.Report report : response.getReports().getReportPayloadsList()) {
+                reports.add(getReport(report));
+            }
             SLF4JLoggerProxy.debug(this,
                                    "Retrieved reports: {}",
                                    reports);
             return reports.toArray(new ReportBase[reports.size()]);
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | InvalidMessage | MessageCreationException e) {
             throw new ConnectionException(e,
                                           Messages.ERROR_REMOTE_EXECUTION);
         }
@@ -470,11 +475,14 @@ public class RpcClientImpl
                     reports.add((ReportBaseImpl)getUnmarshaller().unmarshal(new StringReader(report)));
                 }
             }
+            for(PayloadRpc.Report report : response.getReports().getReportPayloadsList()) {
+                reports.add(getReport(report));
+            }
             SLF4JLoggerProxy.debug(this,
                                    "Retrieved open orders: {}",
                                    reports);
             return reports;
-        } catch (ServiceException | JAXBException e) {
+        } catch (ServiceException | JAXBException | InvalidMessage | MessageCreationException e) {
             throw new ConnectionException(e,
                                           Messages.ERROR_REMOTE_EXECUTION);
         }
@@ -657,10 +665,12 @@ public class RpcClientImpl
                                .setLanguage(currentLocale.getLanguage()==null?"":currentLocale.getLanguage())
                                .setVariant(currentLocale.getVariant()==null?"":currentLocale.getVariant()).build())
                     .setUsername(mParameters.getUsername())
-                    .setPassword(new String(mParameters.getPassword())).build();
+                    .setPassword(new String(mParameters.getPassword()))
+                    .setPayloadFormat(PayloadRpc.PayloadFormat.PROTOBUF).build();
             LoginResponse loginResponse = clientService.login(controller,
                                                               loginRequest);
             sessionId = new SessionId(loginResponse.getSessionId());
+            payloadFormat = loginResponse.getPayloadFormat();
         } catch (Exception e) {
             try {
                 stopRpcServices();
@@ -751,6 +761,7 @@ public class RpcClientImpl
             clientService = null;
             channel = null;
             sessionId = null;
+            payloadFormat = PayloadRpc.PayloadFormat.XML;
         }
     }
     /**
@@ -838,18 +849,9 @@ public class RpcClientImpl
                     request = RpcClient.PositionRequest.newBuilder().setSessionId(sessionId.getValue()).setInstrumentType(inInstrumentType).setOrigin(inDate.getTime()).build(); 
                 }
             } else {
-                StringWriter output = new StringWriter();
-                try {
-                    synchronized(contextLock) {
-                        getMarshaller().marshal(inInstrument,
-                                                output);
-                    }
-                } catch (JAXBException e) {
-                    throw new ServiceException(e);
-                }
                 request = RpcClient.PositionRequest.newBuilder()
                         .setSessionId(sessionId.getValue())
-                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(output.toString()))
+                        .setInstrument(getRpcInstrument(inInstrument))
                         .setOrigin(inDate.getTime()).build(); 
             }
             RpcClient.PositionResponse response = clientService.getPositions(controller,
@@ -861,10 +863,7 @@ public class RpcClientImpl
                 RpcClient.Instrument rpcInstrument = rpcKey.getInstrument();
                 String rpcAccount = rpcKey.getAccount();
                 String rpcTraderId = rpcKey.getTraderId();
-                Instrument instrument;
-                synchronized(contextLock) {
-                    instrument = (Instrument)getUnmarshaller().unmarshal(new StringReader(rpcInstrument.getPayload()));
-                }
+                Instrument instrument = getInstrument(rpcInstrument);
                 PositionKey<? extends Instrument> positionKey = null;
                 if(instrument instanceof Equity) {
                     positionKey = PositionKeyFactory.createEquityKey(instrument.getSymbol(),
@@ -904,6 +903,72 @@ public class RpcClientImpl
                                           Messages.ERROR_REMOTE_EXECUTION);
         }
     }
+    /**
+     * Gets the RPC form of the given instrument.
+     * 
+     * <p>The native form is used if the server agreed to it and the instrument has one, otherwise the
+     * instrument is marshalled to XML.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>RpcClient.Instrument</code> value
+     * @throws JAXBException if the instrument cannot be marshalled
+     */
+    private RpcClient.Instrument getRpcInstrument(Instrument inInstrument)
+            throws JAXBException
+    {
+        if(payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+            PayloadRpc.Instrument rpcInstrument = PayloadRpcUtil.getRpcInstrument(inInstrument);
+            if(rpcInstrument != null) {
+                return RpcClient.Instrument.newBuilder().setInstrument(rpcInstrument).build();
+            }
+        }
+        StringWriter output = new StringWriter();
+        synchronized(contextLock) {
+            getMarshaller().marshal(inInstrument,
+                                    output);
+        }
+        return RpcClient.Instrument.newBuilder().setPayload(output.toString()).build();
+    }
+    /**
+     * Gets the instrument from the given RPC form.
+     *
+     * @param inRpcInstrument an <code>RpcClient.Instrument</code> value
+     * @return an <code>Instrument</code> value
+     * @throws JAXBException if the instrument cannot be unmarshalled
+     */
+    private Instrument getInstrument(RpcClient.Instrument inRpcInstrument)
+            throws JAXBException
+    {
+        if(inRpcInstrument.hasInstrument()) {
+            Instrument instrument = PayloadRpcUtil.getInstrument(inRpcInstrument.getInstrument());
+            if(instrument != null) {
+                return instrument;
+            }
+        }
+        synchronized(contextLock) {
+            return (Instrument)getUnmarshaller().unmarshal(new StringReader(inRpcInstrument.getPayload()));
+        }
+    }
+    /**
+     * Gets the report from the given RPC form.
+     *
+     * @param inRpcReport a <code>PayloadRpc.Report</code> value
+     * @return a <code>ReportBaseImpl</code> value
+     * @throws JAXBException if the report cannot be unmarshalled
+     * @throws InvalidMessage if the report FIX message cannot be parsed
+     * @throws MessageCreationException if the report cannot be created
+     */
+    private ReportBaseImpl getReport(PayloadRpc.Report inRpcReport)
+            throws JAXBException, InvalidMessage, MessageCreationException
+    {
+        ReportBaseImpl report = PayloadRpcUtil.getReport(inRpcReport);
+        if(report != null) {
+            return report;
+        }
+        synchronized(contextLock) {
+            return (ReportBaseImpl)getUnmarshaller().unmarshal(new StringReader(inRpcReport.getPayload()));
+        }
+    }
     /**
      * Gets the list of context classes to use with the JAXB context.
      *
@@ -973,6 +1038,10 @@ public class RpcClientImpl
      * session ID value for this connection, may be <code>null</code> if the connection is inactive
      */
     private SessionId sessionId;
+    /**
+     * payload format agreed with the server at login
+     */
+    private volatile PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.XML;
     /**
      * provides access to RPC services
      */
@@ -1,5 +1,7 @@
 package org.marketcetera.client.utils;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 import java.util.*;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
@@ -8,6 +10,7 @@ import org.marketcetera.client.Client;
 import org.marketcetera.client.ClientInitException;
 import org.marketcetera.client.ClientManager;
 import org.marketcetera.client.ConnectionException;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.trade.ExecutionReport;
 import org.marketcetera.trade.OrderID;
 import org.marketcetera.trade.ReportBase;
@@ -17,6 +20,9 @@ import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.springframework.context.Lifecycle;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+
 /* $License$ */
 
 /**
@@ -42,6 +48,11 @@ import org.springframework.context.Lifecycle;
  * <p>It may take a significant amount of time to {@link #start() start} this object as it must process historical
  * order history. Callers may choose to make this operation asynchronous. The object will report that it 
  * {@link #isRunning() is running} when the processing is complete.
+ * 
+ * <p>While running, the number of reports held and the number of completed and archived order chains are published
+ * as gauges named <code>LiveOrderHistoryManager.reports</code>, <code>LiveOrderHistoryManager.completedOrders</code>
+ * and <code>LiveOrderHistoryManager.archivedOrders</code>. Use the archival settings of {@link OrderHistoryManager}
+ * to bound them.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -160,6 +171,7 @@ public class LiveOrderHistoryManager
         },
         "LiveOrderHistoryManager Report Processor"); //$NON-NLS-1$
         reportProcessor.start();
+        registerMetrics();
         isRunning = true;
     }
     /* (non-Javadoc)
@@ -180,6 +192,7 @@ public class LiveOrderHistoryManager
             } catch (InterruptedException ignored) {}
             reportProcessor = null;
         }
+        removeMetrics();
         clear();
         isRunning = false;
     }
@@ -211,6 +224,70 @@ public class LiveOrderHistoryManager
     {
         return client;
     }
+    /**
+     * Publishes the size of the order history.
+     * 
+     * <p>If another instance has already published its size, this instance does not.
+     */
+    private void registerMetrics()
+    {
+        Map<String,Gauge<Integer>> gauges = new LinkedHashMap<String,Gauge<Integer>>();
+        gauges.put(name(LiveOrderHistoryManager.class.getSimpleName(),
+                        "reports"), //$NON-NLS-1$
+                   new Gauge<Integer>() {
+            @Override
+            public Integer getValue()
+            {
+                return getReportCount();
+            }
+        });
+        gauges.put(name(LiveOrderHistoryManager.class.getSimpleName(),
+                        "completedOrders"), //$NON-NLS-1$
+                   new Gauge<Integer>() {
+            @Override
+            public Integer getValue()
+            {
+                return getCompletedOrderCount();
+            }
+        });
+        gauges.put(name(LiveOrderHistoryManager.class.getSimpleName(),
+                        "archivedOrders"), //$NON-NLS-1$
+                   new Gauge<Integer>() {
+            @Override
+            public Integer getValue()
+            {
+                return getArchivedOrderCount();
+            }
+        });
+        for(Map.Entry<String,Gauge<Integer>> entry : gauges.entrySet()) {
+            try {
+                metrics.register(entry.getKey(),
+                                 entry.getValue());
+                metricNames.add(entry.getKey());
+            } catch (IllegalArgumentException e) {
+                SLF4JLoggerProxy.debug(this,
+                                       e);
+            }
+        }
+    }
+    /**
+     * Removes the metrics published by this instance.
+     */
+    private void removeMetrics()
+    {
+        for(String metricName : metricNames) {
+            metrics.remove(metricName);
+        }
+        metricNames.clear();
+    }
+    /**
+     * main metrics object
+     */
+    private final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * names of the metrics published by this instance
+     */
+    private final List<String> metricNames = new ArrayList<String>();
     /**
      * processes incoming reports from the live report channel
      */
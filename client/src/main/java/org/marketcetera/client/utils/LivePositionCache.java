@@ -0,0 +1,850 @@
+package org.marketcetera.client.utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.marketcetera.client.Client;
+import org.marketcetera.client.ClientInitException;
+import org.marketcetera.client.ClientManager;
+import org.marketcetera.client.ConnectionException;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.core.position.PositionMetrics;
+import org.marketcetera.core.position.Trade;
+import org.marketcetera.core.position.impl.PositionMetricsCalculator;
+import org.marketcetera.core.position.impl.PositionMetricsCalculatorImpl;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.ExecutionType;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.misc.NamedThreadFactory;
+import org.springframework.context.Lifecycle;
+
+/* $License$ */
+
+/**
+ * Maintains positions and position metrics locally from the fills in execution reports.
+ *
+ * <p>The position in an instrument is requested from the server the first time it is needed. From then on, the
+ * position is kept current by applying the fills in the execution reports {@link #add(ReportBase) added} to the cache,
+ * typically the same reports given to a {@link LiveOrderHistoryManager}. Bought quantities increase the position and
+ * sold quantities decrease it. Fills that occurred at or before the time the position was requested from the server are
+ * already included in the server position and are ignored.
+ *
+ * <p>A position as of a given date is answered from the cache if no fill in the instrument has been applied after that
+ * date, so the usual request for the position as of now does not reach the server. Requests for earlier dates are passed
+ * to the server.
+ *
+ * <p>Realized and unrealized profit and loss are tracked for each cached instrument position with a
+ * {@link PositionMetricsCalculatorImpl}. The server position is valued at the first price seen for the instrument,
+ * either the price of a fill or a market price supplied with {@link #tick(Instrument, BigDecimal)}.
+ *
+ * <p>While {@link #start() started}, the cached positions are {@link #reconcile() reconciled} with the server at the
+ * {@link #getReconcileInterval() reconcile interval}. A position that differs from the server position is replaced by the
+ * server position.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class LivePositionCache
+        implements Lifecycle
+{
+    /**
+     * Create a new LivePositionCache instance.
+     *
+     * @throws ClientInitException if a connection to the <code>Client</code> cannot be made
+     */
+    public LivePositionCache()
+            throws ClientInitException
+    {
+        this(ClientManager.getInstance());
+    }
+    /**
+     * Create a new LivePositionCache instance.
+     *
+     * @param inClient a <code>Client</code> value
+     */
+    public LivePositionCache(Client inClient)
+    {
+        this(new ClientPositionSource(inClient));
+    }
+    /**
+     * Create a new LivePositionCache instance.
+     *
+     * @param inPositionSource a <code>PositionSource</code> value
+     */
+    public LivePositionCache(PositionSource inPositionSource)
+    {
+        positionSource = inPositionSource;
+    }
+    /**
+     * Applies the fill in the given report, if any, to the cached positions.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     */
+    public void add(ReportBase inReport)
+    {
+        if(!(inReport instanceof ExecutionReport)) {
+            return;
+        }
+        ExecutionReport report = (ExecutionReport)inReport;
+        if(!FILLS.contains(report.getExecutionType()) ||
+           report.getInstrument() == null ||
+           report.getSide() == null ||
+           report.getLastQuantity() == null ||
+           report.getLastQuantity().signum() == 0) {
+            return;
+        }
+        BigDecimal quantity;
+        if(report.getSide().isBuy()) {
+            quantity = report.getLastQuantity();
+        } else if(report.getSide().isSell()) {
+            quantity = report.getLastQuantity().negate();
+        } else {
+            return;
+        }
+        Fill fill = new Fill(PositionKeyFactory.createKey(report.getInstrument(),
+                                                          report.getAccount(),
+                                                          report.getActorID() == null ? null : String.valueOf(report.getActorID().getValue())),
+                             quantity,
+                             report.getLastPrice(),
+                             report.getTransactTime() == null ? System.currentTimeMillis() : report.getTransactTime().getTime());
+        synchronized(this) {
+            if(report.getExecutionID() != null && appliedExecutionIds.put(report.getExecutionID(),
+                                                                          Boolean.TRUE) != null) {
+                SLF4JLoggerProxy.debug(this,
+                                       "Ignoring duplicate fill {}", //$NON-NLS-1$
+                                       report.getExecutionID());
+                return;
+            }
+            if(outstandingRequests > 0) {
+                // a server position requested now may not include this fill, keep it to apply when the position arrives
+                inflightFills.add(fill);
+            }
+            CachedPosition position = positions.get(fill.getInstrument());
+            if(position != null) {
+                position.apply(fill);
+            }
+            KeyedPositions keyedPositions = positionsByKey.get(fill.getInstrument().getClass());
+            if(keyedPositions != null) {
+                keyedPositions.apply(fill);
+            }
+        }
+    }
+    /**
+     * Gets the position in the given instrument as of the given date.
+     *
+     * @param inDate a <code>Date</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the server does not know the position
+     * @throws ConnectionException if the position must be requested from the server and the request fails
+     * @throws ClientInitException if the position must be requested from the server and the request fails
+     */
+    public BigDecimal getPositionAsOf(Date inDate,
+                                      Instrument inInstrument)
+            throws ConnectionException, ClientInitException
+    {
+        CachedPosition position = getCachedPosition(inInstrument);
+        synchronized(this) {
+            if(inDate.getTime() >= position.lastUpdated) {
+                return position.position;
+            }
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "Requesting the position in {} as of {} from the server", //$NON-NLS-1$
+                               inInstrument,
+                               inDate);
+        return positionSource.getPositionAsOf(inDate,
+                                              inInstrument);
+    }
+    /**
+     * Gets all positions in instruments of the given type as of the given date.
+     *
+     * <p>The positions are keyed by instrument, account, and trader as they are by the server.
+     *
+     * @param inDate a <code>Date</code> value
+     * @param inInstrumentType a <code>Class&lt;I&gt;</code> value, one of {@link Equity}, {@link Future}, {@link Currency}, or {@link Option}
+     * @return a <code>Map&lt;PositionKey&lt;I&gt;,BigDecimal&gt;</code> value
+     * @throws ConnectionException if the positions must be requested from the server and the request fails
+     * @throws ClientInitException if the positions must be requested from the server and the request fails
+     * @throws UnsupportedOperationException if the instrument type is not supported
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public <I extends Instrument> Map<PositionKey<I>,BigDecimal> getAllPositionsAsOf(Date inDate,
+                                                                                     Class<I> inInstrumentType)
+            throws ConnectionException, ClientInitException
+    {
+        KeyedPositions keyedPositions;
+        synchronized(this) {
+            keyedPositions = positionsByKey.get(inInstrumentType);
+            if(keyedPositions == null) {
+                outstandingRequests += 1;
+            }
+        }
+        if(keyedPositions == null) {
+            try {
+                Date asOf = new Date();
+                Map<PositionKey<I>,BigDecimal> serverPositions = requestAllPositions(asOf,
+                                                                                     inInstrumentType);
+                synchronized(this) {
+                    keyedPositions = positionsByKey.get(inInstrumentType);
+                    if(keyedPositions == null) {
+                        keyedPositions = new KeyedPositions((Map)serverPositions,
+                                                            asOf.getTime());
+                        for(Fill fill : inflightFills) {
+                            if(inInstrumentType.equals(fill.getInstrument().getClass())) {
+                                keyedPositions.apply(fill);
+                            }
+                        }
+                        positionsByKey.put(inInstrumentType,
+                                           keyedPositions);
+                    }
+                }
+            } finally {
+                requestDone();
+            }
+        }
+        synchronized(this) {
+            if(inDate.getTime() >= keyedPositions.lastUpdated) {
+                return new LinkedHashMap<PositionKey<I>,BigDecimal>((Map)keyedPositions.positions);
+            }
+        }
+        return requestAllPositions(inDate,
+                                   inInstrumentType);
+    }
+    /**
+     * Gets the current position metrics of the given instrument.
+     *
+     * <p>Metrics are available once a price for the instrument is known from a fill or a {@link #tick(Instrument, BigDecimal) tick}.
+     * The position held before that price became known is valued at that price.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>PositionMetrics</code> value or <code>null</code> if no price is known
+     * @throws ConnectionException if the position must be requested from the server and the request fails
+     * @throws ClientInitException if the position must be requested from the server and the request fails
+     */
+    public PositionMetrics getPositionMetrics(Instrument inInstrument)
+            throws ConnectionException, ClientInitException
+    {
+        CachedPosition position = getCachedPosition(inInstrument);
+        synchronized(this) {
+            return position.metrics;
+        }
+    }
+    /**
+     * Supplies a new market price for the given instrument and gets the updated position metrics.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inPrice a <code>BigDecimal</code> value
+     * @return a <code>PositionMetrics</code> value
+     * @throws ConnectionException if the position must be requested from the server and the request fails
+     * @throws ClientInitException if the position must be requested from the server and the request fails
+     */
+    public PositionMetrics tick(Instrument inInstrument,
+                                BigDecimal inPrice)
+            throws ConnectionException, ClientInitException
+    {
+        CachedPosition position = getCachedPosition(inInstrument);
+        synchronized(this) {
+            position.tick(inPrice);
+            return position.metrics;
+        }
+    }
+    /**
+     * Compares the cached positions with the server positions and replaces those that differ.
+     *
+     * @return an <code>int</code> value containing the number of positions replaced
+     * @throws ConnectionException if the server positions cannot be retrieved
+     * @throws ClientInitException if the server positions cannot be retrieved
+     */
+    public int reconcile()
+            throws ConnectionException, ClientInitException
+    {
+        Set<Instrument> instruments;
+        synchronized(this) {
+            instruments = new HashSet<Instrument>(positions.keySet());
+            // keyed positions are requested again when next needed
+            positionsByKey.clear();
+        }
+        int mismatches = 0;
+        for(Instrument instrument : instruments) {
+            Date asOf = new Date();
+            BigDecimal serverPosition = positionSource.getPositionAsOf(asOf,
+                                                                       instrument);
+            synchronized(this) {
+                CachedPosition position = positions.get(instrument);
+                if(position == null || position.lastUpdated > asOf.getTime()) {
+                    // the position was removed or a fill was applied while the server was queried, check it next time
+                    continue;
+                }
+                // an unknown position is the same as no position
+                BigDecimal cachedValue = position.position == null ? BigDecimal.ZERO : position.position;
+                BigDecimal serverValue = serverPosition == null ? BigDecimal.ZERO : serverPosition;
+                if(cachedValue.compareTo(serverValue) != 0) {
+                    SLF4JLoggerProxy.warn(this,
+                                          "Cached position {} in {} does not match the server position {}, using the server position", //$NON-NLS-1$
+                                          position.position,
+                                          instrument,
+                                          serverPosition);
+                    positions.put(instrument,
+                                  new CachedPosition(instrument,
+                                                     serverPosition,
+                                                     asOf.getTime()));
+                    mismatches += 1;
+                }
+            }
+        }
+        return mismatches;
+    }
+    /**
+     * Removes all cached positions.
+     */
+    public synchronized void clear()
+    {
+        positions.clear();
+        positionsByKey.clear();
+        appliedExecutionIds.clear();
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#isRunning()
+     */
+    @Override
+    public synchronized boolean isRunning()
+    {
+        return reconcileService != null;
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#start()
+     */
+    @Override
+    public synchronized void start()
+    {
+        if(isRunning()) {
+            stop();
+        }
+        reconcileService = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("LivePositionCacheReconcile")); //$NON-NLS-1$
+        if(reconcileInterval > 0) {
+            reconcileService.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run()
+                {
+                    try {
+                        reconcile();
+                    } catch (Exception e) {
+                        SLF4JLoggerProxy.warn(LivePositionCache.this,
+                                              e,
+                                              "Unable to reconcile cached positions"); //$NON-NLS-1$
+                    }
+                }
+            },reconcileInterval,reconcileInterval,TimeUnit.MILLISECONDS);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#stop()
+     */
+    @Override
+    public synchronized void stop()
+    {
+        if(reconcileService != null) {
+            reconcileService.shutdownNow();
+            reconcileService = null;
+        }
+        clear();
+    }
+    /**
+     * Get the reconcileInterval value.
+     *
+     * @return a <code>long</code> value in milliseconds
+     */
+    public long getReconcileInterval()
+    {
+        return reconcileInterval;
+    }
+    /**
+     * Sets the reconcileInterval value.
+     *
+     * <p>The interval takes effect when the cache is next started.
+     *
+     * @param inReconcileInterval a <code>long</code> value in milliseconds or 0 to reconcile only on request
+     */
+    public void setReconcileInterval(long inReconcileInterval)
+    {
+        reconcileInterval = inReconcileInterval;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("LivePositionCache [").append(positions.size()).append(" position(s)]"); //$NON-NLS-1$ //$NON-NLS-2$
+        return builder.toString();
+    }
+    /**
+     * Gets the cached position for the given instrument, requesting it from the server if necessary.
+     *
+     * <p>The server is queried without holding the lock on this object so fills and requests for other instruments
+     * are not held up. Fills that arrive while the request is outstanding are applied once the position arrives.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>CachedPosition</code> value
+     * @throws ConnectionException if the position cannot be requested from the server
+     * @throws ClientInitException if the position cannot be requested from the server
+     */
+    private CachedPosition getCachedPosition(Instrument inInstrument)
+            throws ConnectionException, ClientInitException
+    {
+        synchronized(this) {
+            CachedPosition position = positions.get(inInstrument);
+            if(position != null) {
+                return position;
+            }
+            outstandingRequests += 1;
+        }
+        try {
+            Date asOf = new Date();
+            BigDecimal serverPosition = positionSource.getPositionAsOf(asOf,
+                                                                       inInstrument);
+            synchronized(this) {
+                CachedPosition position = positions.get(inInstrument);
+                if(position == null) {
+                    position = new CachedPosition(inInstrument,
+                                                  serverPosition,
+                                                  asOf.getTime());
+                    for(Fill fill : inflightFills) {
+                        if(inInstrument.equals(fill.getInstrument())) {
+                            position.apply(fill);
+                        }
+                    }
+                    positions.put(inInstrument,
+                                  position);
+                    SLF4JLoggerProxy.debug(this,
+                                           "Cached position {} in {}", //$NON-NLS-1$
+                                           position.position,
+                                           inInstrument);
+                }
+                return position;
+            }
+        } finally {
+            requestDone();
+        }
+    }
+    /**
+     * Records the completion of a server request started while the cache was missing a position.
+     */
+    private synchronized void requestDone()
+    {
+        outstandingRequests -= 1;
+        if(outstandingRequests == 0) {
+            inflightFills.clear();
+        }
+    }
+    /**
+     * Requests all positions in instruments of the given type from the server.
+     *
+     * @param inDate a <code>Date</code> value
+     * @param inInstrumentType a <code>Class&lt;I&gt;</code> value
+     * @return a <code>Map&lt;PositionKey&lt;I&gt;,BigDecimal&gt;</code> value
+     * @throws ConnectionException if the request fails
+     * @throws ClientInitException if the request fails
+     * @throws UnsupportedOperationException if the instrument type is not supported
+     */
+    private <I extends Instrument> Map<PositionKey<I>,BigDecimal> requestAllPositions(Date inDate,
+                                                                                      Class<I> inInstrumentType)
+            throws ConnectionException, ClientInitException
+    {
+        Map<PositionKey<I>,BigDecimal> positions = positionSource.getAllPositionsAsOf(inDate,
+                                                                                      inInstrumentType);
+        return positions == null ? Collections.<PositionKey<I>,BigDecimal>emptyMap() : positions;
+    }
+    /**
+     * Provides server positions from a {@link Client}.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class ClientPositionSource
+            implements PositionSource
+    {
+        /**
+         * Create a new ClientPositionSource instance.
+         *
+         * @param inClient a <code>Client</code> value
+         */
+        private ClientPositionSource(Client inClient)
+        {
+            client = inClient;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.utils.PositionSource#getPositionAsOf(java.util.Date, org.marketcetera.trade.Instrument)
+         */
+        @Override
+        public BigDecimal getPositionAsOf(Date inDate,
+                                          Instrument inInstrument)
+                throws ConnectionException
+        {
+            if(inInstrument instanceof Equity) {
+                return client.getEquityPositionAsOf(inDate,
+                                                    (Equity)inInstrument);
+            } else if(inInstrument instanceof Future) {
+                return client.getFuturePositionAsOf(inDate,
+                                                    (Future)inInstrument);
+            } else if(inInstrument instanceof Currency) {
+                return client.getCurrencyPositionAsOf(inDate,
+                                                      (Currency)inInstrument);
+            } else if(inInstrument instanceof Option) {
+                return client.getOptionPositionAsOf(inDate,
+                                                    (Option)inInstrument);
+            }
+            throw new UnsupportedOperationException(String.valueOf(inInstrument));
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.utils.PositionSource#getAllPositionsAsOf(java.util.Date, java.lang.Class)
+         */
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public <I extends Instrument> Map<PositionKey<I>,BigDecimal> getAllPositionsAsOf(Date inDate,
+                                                                                         Class<I> inInstrumentType)
+                throws ConnectionException
+        {
+            if(Equity.class.equals(inInstrumentType)) {
+                return (Map)client.getAllEquityPositionsAsOf(inDate);
+            } else if(Future.class.equals(inInstrumentType)) {
+                return (Map)client.getAllFuturePositionsAsOf(inDate);
+            } else if(Currency.class.equals(inInstrumentType)) {
+                return (Map)client.getAllCurrencyPositionsAsOf(inDate);
+            } else if(Option.class.equals(inInstrumentType)) {
+                return (Map)client.getAllOptionPositionsAsOf(inDate);
+            }
+            throw new UnsupportedOperationException(String.valueOf(inInstrumentType));
+        }
+        /**
+         * provides access to server positions
+         */
+        private final Client client;
+    }
+    /**
+     * A fill applied to the cached positions.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Fill
+            implements Trade<Instrument>
+    {
+        /**
+         * Create a new Fill instance.
+         *
+         * @param inPositionKey a <code>PositionKey&lt;Instrument&gt;</code> value
+         * @param inQuantity a <code>BigDecimal</code> value, negative for sales
+         * @param inPrice a <code>BigDecimal</code> value or <code>null</code>
+         * @param inFillTime a <code>long</code> value
+         */
+        private Fill(PositionKey<Instrument> inPositionKey,
+                     BigDecimal inQuantity,
+                     BigDecimal inPrice,
+                     long inFillTime)
+        {
+            positionKey = inPositionKey;
+            quantity = inQuantity;
+            price = inPrice;
+            fillTime = inFillTime;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getPositionKey()
+         */
+        @Override
+        public PositionKey<Instrument> getPositionKey()
+        {
+            return positionKey;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getPrice()
+         */
+        @Override
+        public BigDecimal getPrice()
+        {
+            return price == null ? BigDecimal.ZERO : price;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getQuantity()
+         */
+        @Override
+        public BigDecimal getQuantity()
+        {
+            return quantity;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getSequenceNumber()
+         */
+        @Override
+        public long getSequenceNumber()
+        {
+            return sequenceNumber;
+        }
+        /**
+         * Gets the instrument of the fill.
+         *
+         * @return an <code>Instrument</code> value
+         */
+        private Instrument getInstrument()
+        {
+            return positionKey.getInstrument();
+        }
+        /**
+         * position to which the fill applies
+         */
+        private final PositionKey<Instrument> positionKey;
+        /**
+         * quantity of the fill, negative for sales
+         */
+        private final BigDecimal quantity;
+        /**
+         * price of the fill or <code>null</code>
+         */
+        private final BigDecimal price;
+        /**
+         * time of the fill
+         */
+        private final long fillTime;
+        /**
+         * orders fills for the position metrics calculator
+         */
+        private final long sequenceNumber = SEQUENCE.incrementAndGet();
+        /**
+         * generates fill sequence numbers
+         */
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+    }
+    /**
+     * Holds the cached position in an instrument.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class CachedPosition
+    {
+        /**
+         * Create a new CachedPosition instance.
+         *
+         * @param inInstrument an <code>Instrument</code> value
+         * @param inServerPosition a <code>BigDecimal</code> value or <code>null</code> if the server does not know the position
+         * @param inAsOf a <code>long</code> value containing the time as of which the server position was requested
+         */
+        private CachedPosition(Instrument inInstrument,
+                               BigDecimal inServerPosition,
+                               long inAsOf)
+        {
+            instrument = inInstrument;
+            position = inServerPosition;
+            asOf = inAsOf;
+            lastUpdated = inAsOf;
+        }
+        /**
+         * Applies the given fill.
+         *
+         * @param inFill a <code>Fill</code> value
+         */
+        private void apply(Fill inFill)
+        {
+            if(inFill.fillTime <= asOf) {
+                // included in the server position
+                return;
+            }
+            BigDecimal currentPosition = position == null ? BigDecimal.ZERO : position;
+            if(calculator == null && inFill.price != null) {
+                // the cost of the position held before this fill is unknown, value it at the fill price
+                calculator = new PositionMetricsCalculatorImpl(currentPosition,
+                                                               inFill.price);
+            }
+            position = currentPosition.add(inFill.quantity);
+            lastUpdated = Math.max(lastUpdated,
+                                   inFill.fillTime);
+            if(calculator != null) {
+                metrics = calculator.trade(inFill);
+            }
+        }
+        /**
+         * Applies the given market price.
+         *
+         * @param inPrice a <code>BigDecimal</code> value
+         */
+        private void tick(BigDecimal inPrice)
+        {
+            if(calculator == null) {
+                // the cost of the position is unknown, value it at the first market price
+                calculator = new PositionMetricsCalculatorImpl(position == null ? BigDecimal.ZERO : position,
+                                                               inPrice);
+            }
+            metrics = calculator.tick(inPrice);
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return instrument + "=" + position; //$NON-NLS-1$
+        }
+        /**
+         * instrument of the position
+         */
+        private final Instrument instrument;
+        /**
+         * current position or <code>null</code> if the server does not know the position and no fill has been applied
+         */
+        private BigDecimal position;
+        /**
+         * time as of which the server position was requested
+         */
+        private final long asOf;
+        /**
+         * time of the last change to the position
+         */
+        private long lastUpdated;
+        /**
+         * calculates position metrics once a price is known
+         */
+        private PositionMetricsCalculator calculator;
+        /**
+         * most recent position metrics or <code>null</code> if no price is known
+         */
+        private PositionMetrics metrics;
+    }
+    /**
+     * Holds the cached positions by position key in instruments of one type.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class KeyedPositions
+    {
+        /**
+         * Create a new KeyedPositions instance.
+         *
+         * @param inServerPositions a <code>Map&lt;PositionKey&lt;?&gt;,BigDecimal&gt;</code> value
+         * @param inAsOf a <code>long</code> value containing the time as of which the server positions were requested
+         */
+        private KeyedPositions(Map<PositionKey<?>,BigDecimal> inServerPositions,
+                               long inAsOf)
+        {
+            positions = new LinkedHashMap<PositionKey<?>,BigDecimal>(inServerPositions);
+            asOf = inAsOf;
+            lastUpdated = inAsOf;
+        }
+        /**
+         * Applies the given fill.
+         *
+         * @param inFill a <code>Fill</code> value
+         */
+        private void apply(Fill inFill)
+        {
+            if(inFill.fillTime <= asOf) {
+                // included in the server positions
+                return;
+            }
+            BigDecimal value = positions.get(inFill.positionKey);
+            positions.put(inFill.positionKey,
+                          value == null ? inFill.quantity : value.add(inFill.quantity));
+            lastUpdated = Math.max(lastUpdated,
+                                   inFill.fillTime);
+        }
+        /**
+         * current positions by position key
+         */
+        private final Map<PositionKey<?>,BigDecimal> positions;
+        /**
+         * time as of which the server positions were requested
+         */
+        private final long asOf;
+        /**
+         * time of the last change to the positions
+         */
+        private long lastUpdated;
+    }
+    /**
+     * execution types whose last quantity changes the position
+     */
+    private static final Set<ExecutionType> FILLS = EnumSet.of(ExecutionType.PartialFill,
+                                                               ExecutionType.Fill,
+                                                               ExecutionType.Trade);
+    /**
+     * number of execution ids retained to detect duplicate fills
+     */
+    private static final int EXECUTION_ID_HISTORY = 10000;
+    /**
+     * provides access to server positions
+     */
+    private final PositionSource positionSource;
+    /**
+     * interval in milliseconds at which to reconcile positions with the server
+     */
+    private volatile long reconcileInterval = TimeUnit.MINUTES.toMillis(5);
+    /**
+     * cached positions by instrument
+     */
+    @GuardedBy("this")
+    private final Map<Instrument,CachedPosition> positions = new HashMap<Instrument,CachedPosition>();
+    /**
+     * cached positions by position key for each instrument type
+     */
+    @GuardedBy("this")
+    private final Map<Class<?>,KeyedPositions> positionsByKey = new HashMap<Class<?>,KeyedPositions>();
+    /**
+     * number of server requests for positions missing from the cache that have not completed
+     */
+    @GuardedBy("this")
+    private int outstandingRequests;
+    /**
+     * fills received while a server request for a missing position was outstanding
+     */
+    @GuardedBy("this")
+    private final List<Fill> inflightFills = new ArrayList<Fill>();
+    /**
+     * execution ids of recently applied fills
+     */
+    @GuardedBy("this")
+    private final Map<String,Boolean> appliedExecutionIds = new LinkedHashMap<String,Boolean>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String,Boolean> inEldest)
+        {
+            return size() > EXECUTION_ID_HISTORY;
+        }
+        private static final long serialVersionUID = 1L;
+    };
+    /**
+     * reconciles positions with the server while the cache is running
+     */
+    @GuardedBy("this")
+    private ScheduledExecutorService reconcileService;
+}
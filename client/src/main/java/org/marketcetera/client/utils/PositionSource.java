@@ -0,0 +1,55 @@
+package org.marketcetera.client.utils;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Map;
+
+import org.marketcetera.client.ClientInitException;
+import org.marketcetera.client.ConnectionException;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Provides the server positions maintained by a {@link LivePositionCache}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface PositionSource
+{
+    /**
+     * Gets the position in the given instrument as of the given date.
+     *
+     * @param inDate a <code>Date</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the position is not known
+     * @throws ConnectionException if the position cannot be retrieved
+     * @throws ClientInitException if the position cannot be retrieved
+     * @throws UnsupportedOperationException if the instrument type is not supported
+     */
+    BigDecimal getPositionAsOf(Date inDate,
+                               Instrument inInstrument)
+            throws ConnectionException, ClientInitException;
+    /**
+     * Gets all positions in instruments of the given type as of the given date.
+     *
+     * @param inDate a <code>Date</code> value
+     * @param inInstrumentType a <code>Class&lt;I&gt;</code> value, one of {@link Equity}, {@link Future}, {@link Currency}, or {@link Option}
+     * @return a <code>Map&lt;PositionKey&lt;I&gt;,BigDecimal&gt;</code> value or <code>null</code>
+     * @throws ConnectionException if the positions cannot be retrieved
+     * @throws ClientInitException if the positions cannot be retrieved
+     * @throws UnsupportedOperationException if the instrument type is not supported
+     */
+    <I extends Instrument> Map<PositionKey<I>,BigDecimal> getAllPositionsAsOf(Date inDate,
+                                                                              Class<I> inInstrumentType)
+            throws ConnectionException, ClientInitException;
+}
@@ -3,6 +3,7 @@ package org.marketcetera.client.utils;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Date;
@@ -19,6 +20,7 @@ import org.marketcetera.client.ClientManager;
 import org.marketcetera.client.ConnectionException;
 import org.marketcetera.client.MockClient;
 import org.marketcetera.marketdata.MarketDataFeedTestBase;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.ExpectedFailure;
 import org.marketcetera.trade.ExecutionReport;
 import org.marketcetera.trade.OrderID;
@@ -27,6 +29,11 @@ import org.marketcetera.trade.ReportBase;
 import org.marketcetera.trade.ReportBaseImpl;
 import org.marketcetera.trade.utils.OrderHistoryManagerTest;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+
 /* $License$ */
 
 /**
@@ -507,6 +514,47 @@ public class LiveOrderHistoryManagerTest
         assertTrue(manager.isRunning());
         assertNotNull(manager.toString());
     }
+    /**
+     * Tests the metrics published while the manager is running.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMetrics()
+            throws Exception
+    {
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        // managers left running by other tests may have published their own metrics
+        metrics.removeMatching(new MetricFilter() {
+            @Override
+            public boolean matches(String inName,
+                                   Metric inMetric)
+            {
+                return inName.startsWith(LiveOrderHistoryManager.class.getSimpleName());
+            }
+        });
+        final LiveOrderHistoryManager manager = new LiveOrderHistoryManager(null);
+        manager.setMaxCompletedOrders(1);
+        manager.start();
+        manager.add(OrderHistoryManagerTest.generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                                    null,
+                                                                    OrderStatus.Filled));
+        manager.add(OrderHistoryManagerTest.generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                                    null,
+                                                                    OrderStatus.Filled));
+        manager.add(OrderHistoryManagerTest.generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                                    null,
+                                                                    OrderStatus.New));
+        Map<String,Gauge> gauges = metrics.getGauges();
+        assertEquals(2,
+                     gauges.get("LiveOrderHistoryManager.reports").getValue());
+        assertEquals(1,
+                     gauges.get("LiveOrderHistoryManager.completedOrders").getValue());
+        assertEquals(1,
+                     gauges.get("LiveOrderHistoryManager.archivedOrders").getValue());
+        manager.stop();
+        assertNull(metrics.getGauges().get("LiveOrderHistoryManager.reports"));
+    }
     /**
      * test client used to simulate connections to the server
      */
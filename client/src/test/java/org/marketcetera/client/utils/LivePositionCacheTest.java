@@ -0,0 +1,295 @@
+package org.marketcetera.client.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.client.Client;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.core.position.PositionMetrics;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.ExecutionType;
+import org.marketcetera.trade.Side;
+import org.marketcetera.trade.UserID;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/* $License$ */
+
+/**
+ * Tests {@link LivePositionCache}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class LivePositionCacheTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        client = mock(Client.class);
+        when(client.getEquityPositionAsOf(any(Date.class),
+                                          eq(equity))).thenReturn(new BigDecimal("100"));
+        cache = new LivePositionCache(client);
+        cache.setReconcileInterval(0);
+    }
+    /**
+     * Tests that the position is requested from the server once and then kept current from fills.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testIncrementalPosition()
+            throws Exception
+    {
+        assertEquals(new BigDecimal("100"),
+                     cache.getPositionAsOf(new Date(),
+                                           equity));
+        cache.add(createFill("exec-1",
+                             Side.Buy,
+                             "50",
+                             "10"));
+        cache.add(createFill("exec-2",
+                             Side.SellShort,
+                             "20",
+                             "11"));
+        // duplicate fills are ignored
+        cache.add(createFill("exec-1",
+                             Side.Buy,
+                             "50",
+                             "10"));
+        // reports that are not fills are ignored
+        ExecutionReport newReport = createFill("exec-3",
+                                               Side.Buy,
+                                               "1000",
+                                               "10");
+        when(newReport.getExecutionType()).thenReturn(ExecutionType.New);
+        cache.add(newReport);
+        assertEquals(new BigDecimal("130"),
+                     cache.getPositionAsOf(new Date(System.currentTimeMillis() + 1000),
+                                           equity));
+        verify(client,times(1)).getEquityPositionAsOf(any(Date.class),
+                                                      eq(equity));
+        // fills after the requested date send the request to the server
+        assertEquals(new BigDecimal("100"),
+                     cache.getPositionAsOf(new Date(0),
+                                           equity));
+        verify(client,times(2)).getEquityPositionAsOf(any(Date.class),
+                                                      eq(equity));
+    }
+    /**
+     * Tests that fills included in the server position are not applied again.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testFillBeforeServerPosition()
+            throws Exception
+    {
+        cache.getPositionAsOf(new Date(),
+                              equity);
+        ExecutionReport fill = createFill("exec-1",
+                                          Side.Buy,
+                                          "50",
+                                          "10");
+        when(fill.getTransactTime()).thenReturn(new Date(0));
+        cache.add(fill);
+        assertEquals(new BigDecimal("100"),
+                     cache.getPositionAsOf(new Date(),
+                                           equity));
+    }
+    /**
+     * Tests the position metrics calculated from fills and market prices.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPositionMetrics()
+            throws Exception
+    {
+        assertNull(cache.getPositionMetrics(equity));
+        cache.add(createFill("exec-1",
+                             Side.Buy,
+                             "100",
+                             "10"));
+        cache.add(createFill("exec-2",
+                             Side.Sell,
+                             "50",
+                             "12"));
+        PositionMetrics metrics = cache.getPositionMetrics(equity);
+        assertEquals(new BigDecimal("150"),
+                     metrics.getPosition());
+        assertEquals(0,
+                     new BigDecimal("100").compareTo(metrics.getRealizedPL()));
+        metrics = cache.tick(equity,
+                             new BigDecimal("13"));
+        assertEquals(0,
+                     new BigDecimal("450").compareTo(metrics.getUnrealizedPL()));
+    }
+    /**
+     * Tests that reconciliation replaces positions that differ from the server.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReconcile()
+            throws Exception
+    {
+        cache.getPositionAsOf(new Date(),
+                              equity);
+        assertEquals(0,
+                     cache.reconcile());
+        cache.add(createFill("exec-1",
+                             Side.Buy,
+                             "50",
+                             "10"));
+        // positions changed while the server is queried are not reconciled
+        Thread.sleep(10);
+        assertEquals(1,
+                     cache.reconcile());
+        assertEquals(new BigDecimal("100"),
+                     cache.getPositionAsOf(new Date(),
+                                           equity));
+    }
+    /**
+     * Tests that all positions are requested from the server once and then kept current from fills.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testAllPositions()
+            throws Exception
+    {
+        PositionKey<Equity> key = PositionKeyFactory.createKey(equity,
+                                                               "account",
+                                                               "1");
+        when(client.getAllEquityPositionsAsOf(any(Date.class))).thenReturn(Collections.singletonMap(key,
+                                                                                                    new BigDecimal("10")));
+        assertEquals(new BigDecimal("10"),
+                     cache.getAllPositionsAsOf(new Date(),
+                                               Equity.class).get(key));
+        cache.add(createFill("exec-1",
+                             Side.Buy,
+                             "5",
+                             "10"));
+        Map<PositionKey<Equity>,BigDecimal> positions = cache.getAllPositionsAsOf(new Date(System.currentTimeMillis() + 1000),
+                                                                                  Equity.class);
+        assertEquals(new BigDecimal("15"),
+                     positions.get(key));
+        verify(client,times(1)).getAllEquityPositionsAsOf(any(Date.class));
+    }
+    /**
+     * Tests that a position unknown to the server stays unknown until a fill is applied.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testUnknownPosition()
+            throws Exception
+    {
+        Equity unknown = new Equity("UNKNOWN");
+        assertNull(cache.getPositionAsOf(new Date(),
+                                         unknown));
+        assertNull(cache.getPositionAsOf(new Date(),
+                                         unknown));
+        verify(client,times(1)).getEquityPositionAsOf(any(Date.class),
+                                                      eq(unknown));
+        ExecutionReport fill = createFill("exec-1",
+                                          Side.Buy,
+                                          "5",
+                                          "10");
+        when(fill.getInstrument()).thenReturn(unknown);
+        cache.add(fill);
+        assertEquals(new BigDecimal("5"),
+                     cache.getPositionAsOf(new Date(System.currentTimeMillis() + 1000),
+                                           unknown));
+    }
+    /**
+     * Tests that a fill received while the server position is being requested is applied to that position.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testFillDuringRequest()
+            throws Exception
+    {
+        final ExecutionReport fill = createFill("exec-1",
+                                                Side.Buy,
+                                                "50",
+                                                "10");
+        when(fill.getTransactTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+        when(client.getEquityPositionAsOf(any(Date.class),
+                                          eq(equity))).thenAnswer(new Answer<BigDecimal>() {
+            @Override
+            public BigDecimal answer(InvocationOnMock inInvocation)
+                    throws Throwable
+            {
+                // the cache lock is not held while the server is queried
+                cache.add(fill);
+                return new BigDecimal("100");
+            }
+        });
+        assertEquals(new BigDecimal("150"),
+                     cache.getPositionAsOf(new Date(System.currentTimeMillis() + 2000),
+                                           equity));
+    }
+    /**
+     * Creates a fill of the test equity executed now.
+     *
+     * @param inExecutionId a <code>String</code> value
+     * @param inSide a <code>Side</code> value
+     * @param inQuantity a <code>String</code> value
+     * @param inPrice a <code>String</code> value
+     * @return an <code>ExecutionReport</code> value
+     */
+    private ExecutionReport createFill(String inExecutionId,
+                                       Side inSide,
+                                       String inQuantity,
+                                       String inPrice)
+    {
+        ExecutionReport report = mock(ExecutionReport.class);
+        when(report.getExecutionID()).thenReturn(inExecutionId);
+        when(report.getExecutionType()).thenReturn(ExecutionType.PartialFill);
+        when(report.getInstrument()).thenReturn(equity);
+        when(report.getSide()).thenReturn(inSide);
+        when(report.getLastQuantity()).thenReturn(new BigDecimal(inQuantity));
+        when(report.getLastPrice()).thenReturn(new BigDecimal(inPrice));
+        when(report.getAccount()).thenReturn("account");
+        when(report.getActorID()).thenReturn(new UserID(1));
+        when(report.getTransactTime()).thenReturn(new Date(System.currentTimeMillis() + 1));
+        return report;
+    }
+    /**
+     * test instrument
+     */
+    private final Equity equity = new Equity("METC");
+    /**
+     * mock client
+     */
+    private Client client;
+    /**
+     * cache under test
+     */
+    private LivePositionCache cache;
+}
@@ -0,0 +1,512 @@
+package org.marketcetera.core;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+import org.springframework.context.Lifecycle;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/* $License$ */
+
+/**
+ * Executes tasks in submission order per key on a shared set of threads.
+ *
+ * <p>Tasks submitted with the same key are never run concurrently and are run in the order
+ * they were submitted. Tasks with different keys may run in parallel. Unlike a
+ * {@link QueueProcessor} per key, no thread is dedicated to a key: a key holds a
+ * small queue only while it has work pending and is discarded as soon as its queue
+ * drains, so there is no limit on the number of keys and nothing to time out.
+ *
+ * <p>Tasks are run either on a fixed pool of platform threads or, if requested and
+ * supported by the running JVM, on virtual threads. A key that has many tasks pending
+ * yields its thread after {@link #getMaxTasksPerTurn()} tasks so other keys are not starved.
+ *
+ * <p>The executor publishes the number of pending tasks, the time tasks wait before they
+ * are run, and the task execution rate to the {@link MetricService}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class KeyedSerialExecutor<KeyClazz>
+        implements Lifecycle
+{
+    /**
+     * Create a new KeyedSerialExecutor instance.
+     *
+     * @param inName a <code>String</code> value describing the executor
+     * @param inThreadCount an <code>int</code> value indicating the number of platform threads to use
+     * @param inUseVirtualThreads a <code>boolean</code> value indicating whether to use virtual threads, if available, instead of platform threads
+     */
+    public KeyedSerialExecutor(String inName,
+                               int inThreadCount,
+                               boolean inUseVirtualThreads)
+    {
+        Validate.notNull(inName);
+        Validate.isTrue(inThreadCount > 0);
+        name = inName;
+        threadCount = inThreadCount;
+        useVirtualThreads = inUseVirtualThreads;
+        metrics = MetricService.getInstance().getMetrics();
+    }
+    /**
+     * Indicates if virtual threads are supported by the running JVM.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return getVirtualThreadFactoryMethod() != null;
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#isRunning()
+     */
+    @Override
+    public boolean isRunning()
+    {
+        return running.get();
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#start()
+     */
+    @Override
+    @PostConstruct
+    public synchronized void start()
+    {
+        if(isRunning()) {
+            return;
+        }
+        pendingCounter = metrics.counter(registerMetric("pendingCounter"));
+        waitTimer = metrics.timer(registerMetric("waitTimer"));
+        processMeter = metrics.meter(registerMetric("processMeter"));
+        executor = null;
+        if(useVirtualThreads) {
+            Method virtualThreadFactoryMethod = getVirtualThreadFactoryMethod();
+            if(virtualThreadFactoryMethod == null) {
+                SLF4JLoggerProxy.warn(this,
+                                      "{} virtual threads are not supported by this JVM, using {} platform threads instead",
+                                      name,
+                                      threadCount);
+            } else {
+                try {
+                    executor = (ExecutorService)virtualThreadFactoryMethod.invoke(null);
+                } catch (Exception e) {
+                    SLF4JLoggerProxy.warn(this,
+                                          e,
+                                          "{} unable to create virtual thread executor, using {} platform threads instead",
+                                          name,
+                                          threadCount);
+                }
+            }
+        }
+        if(executor == null) {
+            executor = Executors.newFixedThreadPool(threadCount,
+                                                    new ThreadFactoryBuilder().setNameFormat(name+"-%d").setDaemon(true).build());
+        }
+        running.set(true);
+        Messages.STARTED.debug(this,
+                               name);
+    }
+    /* (non-Javadoc)
+     * @see org.springframework.context.Lifecycle#stop()
+     */
+    @Override
+    @PreDestroy
+    public synchronized void stop()
+    {
+        if(!isRunning()) {
+            return;
+        }
+        running.set(false);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(shutdownTimeout,
+                                      TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ignored) {}
+        queues.clear();
+        for(String metricName : metricNames) {
+            try {
+                metrics.remove(metricName);
+            } catch (Exception ignored) {}
+        }
+        metricNames.clear();
+        Messages.STOPPED.debug(this,
+                               name);
+    }
+    /**
+     * Submits the given task to be run after all tasks previously submitted with the same key.
+     *
+     * @param inKey a <code>KeyClazz</code> value
+     * @param inTask a <code>Runnable</code> value
+     * @throws RejectedExecutionException if the executor is not running
+     */
+    public void execute(KeyClazz inKey,
+                        Runnable inTask)
+    {
+        if(!isRunning()) {
+            throw new RejectedExecutionException(name);
+        }
+        PendingTask pendingTask = new PendingTask(inTask);
+        pendingCounter.inc();
+        while(true) {
+            KeyQueue keyQueue = queues.get(inKey);
+            if(keyQueue == null) {
+                keyQueue = new KeyQueue(inKey);
+                KeyQueue existingQueue = queues.putIfAbsent(inKey,
+                                                            keyQueue);
+                if(existingQueue != null) {
+                    keyQueue = existingQueue;
+                }
+            }
+            synchronized(keyQueue) {
+                if(keyQueue.retired) {
+                    // the queue drained and was discarded between the lookup and the lock, try again
+                    continue;
+                }
+                keyQueue.tasks.add(pendingTask);
+                if(keyQueue.scheduled) {
+                    return;
+                }
+                keyQueue.scheduled = true;
+            }
+            try {
+                executor.execute(keyQueue);
+            } catch (RejectedExecutionException e) {
+                // nothing will run this queue, withdraw the task so the key is not left scheduled
+                synchronized(keyQueue) {
+                    if(keyQueue.tasks.remove(pendingTask)) {
+                        pendingCounter.dec();
+                    }
+                    keyQueue.unschedule();
+                }
+                throw e;
+            }
+            return;
+        }
+    }
+    /**
+     * Gets the number of tasks submitted but not yet run.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getPendingCount()
+    {
+        return pendingCounter == null ? 0 : pendingCounter.getCount();
+    }
+    /**
+     * Gets the number of keys that currently have tasks pending or running.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getActiveKeyCount()
+    {
+        return queues.size();
+    }
+    /**
+     * Get the maxTasksPerTurn value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxTasksPerTurn()
+    {
+        return maxTasksPerTurn;
+    }
+    /**
+     * Sets the maxTasksPerTurn value.
+     *
+     * @param inMaxTasksPerTurn an <code>int</code> value
+     */
+    public void setMaxTasksPerTurn(int inMaxTasksPerTurn)
+    {
+        Validate.isTrue(inMaxTasksPerTurn > 0);
+        maxTasksPerTurn = inMaxTasksPerTurn;
+    }
+    /**
+     * Get the shutdownTimeout value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getShutdownTimeout()
+    {
+        return shutdownTimeout;
+    }
+    /**
+     * Sets the shutdownTimeout value.
+     *
+     * @param inShutdownTimeout a <code>long</code> value
+     */
+    public void setShutdownTimeout(long inShutdownTimeout)
+    {
+        shutdownTimeout = inShutdownTimeout;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+    /**
+     * Invoked when a task throws an exception.
+     *
+     * <p>Subclasses may override this method to customize error handling. The default
+     * implementation logs the exception. Subsequent tasks for the same key are run regardless.
+     *
+     * @param inKey a <code>KeyClazz</code> value
+     * @param inException a <code>RuntimeException</code> value
+     */
+    protected void onException(KeyClazz inKey,
+                               RuntimeException inException)
+    {
+        Messages.IGNORING_EXCEPTION.warn(this,
+                                         inException,
+                                         name+"-"+inKey);
+    }
+    /**
+     * Registers the metric with the given base name for this executor.
+     *
+     * @param inMetricName a <code>String</code> value
+     * @return a <code>String</code> value containing the full metric name
+     */
+    private String registerMetric(String inMetricName)
+    {
+        String metricName = name(getClass().getSimpleName(),
+                                 name,
+                                 inMetricName);
+        metricNames.add(metricName);
+        return metricName;
+    }
+    /**
+     * Gets the method used to create a virtual thread executor.
+     *
+     * @return a <code>Method</code> value or <code>null</code> if virtual threads are not supported
+     */
+    private static Method getVirtualThreadFactoryMethod()
+    {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+    /**
+     * Holds a task and the time it was submitted.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private static class PendingTask
+    {
+        /**
+         * Create a new PendingTask instance.
+         *
+         * @param inTask a <code>Runnable</code> value
+         */
+        private PendingTask(Runnable inTask)
+        {
+            task = inTask;
+            submitted = System.nanoTime();
+        }
+        /**
+         * task to run
+         */
+        private final Runnable task;
+        /**
+         * time the task was submitted in nanos
+         */
+        private final long submitted;
+    }
+    /**
+     * Holds the pending tasks for a single key and runs them in order.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private class KeyQueue
+            implements Runnable
+    {
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            try {
+                for(int i=0;i<maxTasksPerTurn;i++) {
+                    PendingTask pendingTask;
+                    synchronized(this) {
+                        pendingTask = tasks.poll();
+                    }
+                    if(pendingTask == null) {
+                        break;
+                    }
+                    pendingCounter.dec();
+                    waitTimer.update(System.nanoTime()-pendingTask.submitted,
+                                     TimeUnit.NANOSECONDS);
+                    processMeter.mark();
+                    try {
+                        pendingTask.task.run();
+                    } catch (RuntimeException e) {
+                        onException(key,
+                                    e);
+                    }
+                }
+            } finally {
+                // runs even if a task threw an error so the key is never left scheduled with nothing to run it
+                reschedule();
+            }
+        }
+        /**
+         * Submits this queue to the executor again if it has more work to do, otherwise retires it.
+         */
+        private void reschedule()
+        {
+            synchronized(this) {
+                if(tasks.isEmpty()) {
+                    unschedule();
+                    return;
+                }
+            }
+            // this key has more work to do, give other keys a turn before continuing
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                synchronized(this) {
+                    unschedule();
+                }
+                SLF4JLoggerProxy.debug(KeyedSerialExecutor.this,
+                                       "{} not rescheduling {} because the executor is stopped",
+                                       name,
+                                       key);
+            }
+        }
+        /**
+         * Marks this queue as no longer scheduled, retiring it if it has no tasks left.
+         *
+         * <p>The caller must hold the lock on this queue.
+         */
+        @GuardedBy("this")
+        private void unschedule()
+        {
+            scheduled = false;
+            if(tasks.isEmpty()) {
+                retired = true;
+                queues.remove(key,
+                              this);
+            }
+        }
+        /**
+         * Create a new KeyQueue instance.
+         *
+         * @param inKey a <code>KeyClazz</code> value
+         */
+        private KeyQueue(KeyClazz inKey)
+        {
+            key = inKey;
+        }
+        /**
+         * key for which tasks are queued
+         */
+        private final KeyClazz key;
+        /**
+         * tasks waiting to be run
+         */
+        @GuardedBy("this")
+        private final Queue<PendingTask> tasks = new ArrayDeque<>();
+        /**
+         * indicates if this queue is scheduled to run on the executor
+         */
+        @GuardedBy("this")
+        private boolean scheduled = false;
+        /**
+         * indicates if this queue has drained and been removed from the active queues
+         */
+        @GuardedBy("this")
+        private boolean retired = false;
+    }
+    /**
+     * describes the executor
+     */
+    private final String name;
+    /**
+     * number of platform threads to use
+     */
+    private final int threadCount;
+    /**
+     * indicates whether to use virtual threads, if available
+     */
+    private final boolean useVirtualThreads;
+    /**
+     * maximum number of tasks for one key to run before yielding the thread
+     */
+    private volatile int maxTasksPerTurn = 64;
+    /**
+     * number of milliseconds to wait for running tasks to complete on stop
+     */
+    private long shutdownTimeout = 5000;
+    /**
+     * runs key queues
+     */
+    private volatile ExecutorService executor;
+    /**
+     * queues with pending tasks by key
+     */
+    private final ConcurrentMap<KeyClazz,KeyQueue> queues = new ConcurrentHashMap<>();
+    /**
+     * indicates if the executor is running
+     */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    /**
+     * tracks the number of tasks waiting to be run
+     */
+    private volatile Counter pendingCounter;
+    /**
+     * measures the time tasks wait before being run
+     */
+    private volatile Timer waitTimer;
+    /**
+     * measures the rate at which tasks are run
+     */
+    private volatile Meter processMeter;
+    /**
+     * main metrics object
+     */
+    private final MetricRegistry metrics;
+    /**
+     * holds the names of the metrics used
+     */
+    private final Set<String> metricNames = new HashSet<>();
+}
@@ -0,0 +1,351 @@
+package org.marketcetera.core;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/* $License$ */
+
+/**
+ * Assigns IDs within blocks obtained from a block factory, requesting the next block before the current one runs out.
+ *
+ * <p>Each block provided by the block factory is divided into {@link #getBlockSize()} IDs. An ID is made of the prefix,
+ * the block ID, and the position of the ID in the block, zero-padded to the width of the largest position. With the
+ * default block size of 1000, a block <code>123</code> and a prefix <code>A</code> yield the IDs <code>A123000</code>
+ * through <code>A123999</code>.
+ *
+ * <p>IDs are claimed from the current block with an atomic counter, so callers do not contend on a lock. When
+ * {@link #getPrefetchThreshold()} IDs remain in the current block, the next block is requested on a background thread.
+ * Callers wait for a block only if the current block is exhausted before the next block arrives, or if the request for
+ * the next block failed, in which case the block is requested again on the calling thread.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+public class PrefetchingIDFactory
+        implements IDFactory
+{
+    /**
+     * Create a new PrefetchingIDFactory instance with the default block size and prefetch threshold.
+     *
+     * @param inPrefix a <code>String</code> value to prepend to each ID or <code>null</code>
+     * @param inBlockFactory an <code>IDFactory</code> value that provides unique block IDs
+     */
+    public PrefetchingIDFactory(String inPrefix,
+                                IDFactory inBlockFactory)
+    {
+        this(inPrefix,
+             inBlockFactory,
+             DEFAULT_BLOCK_SIZE,
+             DEFAULT_BLOCK_SIZE / 2);
+    }
+    /**
+     * Create a new PrefetchingIDFactory instance.
+     *
+     * @param inPrefix a <code>String</code> value to prepend to each ID or <code>null</code>
+     * @param inBlockFactory an <code>IDFactory</code> value that provides unique block IDs
+     * @param inBlockSize an <code>int</code> value containing the number of IDs assigned per block
+     * @param inPrefetchThreshold an <code>int</code> value containing the number of IDs remaining in a block when the next block is requested, or 0 to request blocks only when needed
+     * @throws IllegalArgumentException if the block factory is <code>null</code> or the sizes are out of range
+     */
+    public PrefetchingIDFactory(String inPrefix,
+                                IDFactory inBlockFactory,
+                                int inBlockSize,
+                                int inPrefetchThreshold)
+    {
+        Validate.notNull(inBlockFactory);
+        Validate.isTrue(inBlockSize > 0);
+        Validate.isTrue(inPrefetchThreshold >= 0 && inPrefetchThreshold <= inBlockSize);
+        prefix = inPrefix == null ? "" : inPrefix; //$NON-NLS-1$
+        blockFactory = inBlockFactory;
+        blockSize = inBlockSize;
+        prefetchThreshold = inPrefetchThreshold;
+        prefetchIndex = inPrefetchThreshold == 0 ? inBlockSize : inBlockSize - inPrefetchThreshold;
+        int padLimit = 1;
+        for(int width=String.valueOf(inBlockSize - 1).length();width>1;width--) {
+            padLimit *= 10;
+        }
+        localPadLimit = padLimit;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.core.IDFactory#getNext()
+     */
+    @Override
+    public String getNext()
+            throws NoMoreIDsException
+    {
+        while(true) {
+            Block block = currentBlock;
+            if(block != null) {
+                int local = block.claim();
+                if(local >= 0) {
+                    if(local == prefetchIndex) {
+                        prefetch();
+                    }
+                    return block.format(local);
+                }
+            }
+            advance(block);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.core.IDFactory#init()
+     */
+    @Override
+    public void init()
+            throws NoMoreIDsException
+    {
+        advance(null);
+    }
+    /**
+     * Gets the next ID as a number.
+     *
+     * <p>The ID is the block ID multiplied by the block size plus the position of the ID in the block. The prefix is
+     * not used. The block factory must provide numeric block IDs.
+     *
+     * @return a <code>long</code> value
+     * @throws NoMoreIDsException if the next block cannot be obtained
+     * @throws NumberFormatException if the block factory provided a block ID that is not a number
+     */
+    public long getNextLong()
+            throws NoMoreIDsException
+    {
+        while(true) {
+            Block block = currentBlock;
+            if(block != null) {
+                int local = block.claim();
+                if(local >= 0) {
+                    if(local == prefetchIndex) {
+                        prefetch();
+                    }
+                    return block.getNumericBase() + local;
+                }
+            }
+            advance(block);
+        }
+    }
+    /**
+     * Get the blockFactory value.
+     *
+     * @return an <code>IDFactory</code> value
+     */
+    public IDFactory getBlockFactory()
+    {
+        return blockFactory;
+    }
+    /**
+     * Get the blockSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getBlockSize()
+    {
+        return blockSize;
+    }
+    /**
+     * Get the prefetchThreshold value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getPrefetchThreshold()
+    {
+        return prefetchThreshold;
+    }
+    /**
+     * Replaces the given exhausted block with the next block.
+     *
+     * <p>If another caller has already replaced the given block, this method returns immediately.
+     *
+     * @param inExhaustedBlock a <code>Block</code> value or <code>null</code> if no block has been obtained yet
+     * @throws NoMoreIDsException if the next block cannot be obtained
+     */
+    private synchronized void advance(Block inExhaustedBlock)
+            throws NoMoreIDsException
+    {
+        if(currentBlock != inExhaustedBlock) {
+            return;
+        }
+        FutureTask<Block> pendingBlock = nextBlock.getAndSet(null);
+        if(pendingBlock == null) {
+            currentBlock = fetchBlock();
+            return;
+        }
+        try {
+            currentBlock = pendingBlock.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoMoreIDsException(e);
+        } catch (ExecutionException e) {
+            SLF4JLoggerProxy.warn(this,
+                                  e.getCause(),
+                                  "Unable to prefetch the next ID block from {}", //$NON-NLS-1$
+                                  blockFactory);
+            // the prefetch failed, try again now as the failure may have been transient
+            currentBlock = fetchBlock();
+        }
+    }
+    /**
+     * Requests the next block in the background if it has not already been requested.
+     */
+    private void prefetch()
+    {
+        FutureTask<Block> task = new FutureTask<>(new Callable<Block>() {
+            @Override
+            public Block call()
+                    throws Exception
+            {
+                return fetchBlock();
+            }
+        });
+        if(nextBlock.compareAndSet(null,
+                                   task)) {
+            prefetchService.execute(task);
+        }
+    }
+    /**
+     * Obtains a new block from the block factory.
+     *
+     * @return a <code>Block</code> value
+     * @throws NoMoreIDsException if the block cannot be obtained
+     */
+    private Block fetchBlock()
+            throws NoMoreIDsException
+    {
+        String blockId = blockFactory.getNext();
+        SLF4JLoggerProxy.debug(this,
+                               "Obtained ID block {}", //$NON-NLS-1$
+                               blockId);
+        return new Block(blockId);
+    }
+    /**
+     * A range of IDs within a block.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class Block
+    {
+        /**
+         * Create a new Block instance.
+         *
+         * @param inBlockId a <code>String</code> value
+         */
+        private Block(String inBlockId)
+        {
+            blockId = inBlockId;
+            idBase = prefix + inBlockId;
+        }
+        /**
+         * Claims the next position in the block.
+         *
+         * @return an <code>int</code> value or -1 if the block is exhausted
+         */
+        private int claim()
+        {
+            int local = nextLocal.getAndIncrement();
+            return local < blockSize ? local : -1;
+        }
+        /**
+         * Formats the ID at the given position in the block.
+         *
+         * @param inLocal an <code>int</code> value
+         * @return a <code>String</code> value
+         */
+        private String format(int inLocal)
+        {
+            StringBuilder id = new StringBuilder(idBase.length() + 10);
+            id.append(idBase);
+            for(int limit=localPadLimit;limit>1 && inLocal<limit;limit/=10) {
+                id.append('0');
+            }
+            return id.append(inLocal).toString();
+        }
+        /**
+         * Gets the first numeric ID of the block.
+         *
+         * @return a <code>long</code> value
+         * @throws NumberFormatException if the block ID is not a number
+         */
+        private long getNumericBase()
+        {
+            long base = numericBase;
+            if(base < 0) {
+                base = Long.parseLong(blockId) * blockSize;
+                numericBase = base;
+            }
+            return base;
+        }
+        /**
+         * block ID provided by the block factory
+         */
+        private final String blockId;
+        /**
+         * prefix followed by the block ID
+         */
+        private final String idBase;
+        /**
+         * first numeric ID of the block, computed when first needed
+         */
+        private volatile long numericBase = -1;
+        /**
+         * next position to claim
+         */
+        private final AtomicInteger nextLocal = new AtomicInteger();
+    }
+    /**
+     * default number of IDs assigned per block
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+    /**
+     * prefix for each ID
+     */
+    private final String prefix;
+    /**
+     * provides block IDs
+     */
+    private final IDFactory blockFactory;
+    /**
+     * number of IDs assigned per block
+     */
+    private final int blockSize;
+    /**
+     * number of IDs remaining in a block when the next block is requested
+     */
+    private final int prefetchThreshold;
+    /**
+     * position in a block whose claim triggers the request for the next block
+     */
+    private final int prefetchIndex;
+    /**
+     * positions below this value are zero-padded
+     */
+    private final int localPadLimit;
+    /**
+     * block from which IDs are currently claimed
+     */
+    private volatile Block currentBlock;
+    /**
+     * block requested in the background, if any
+     */
+    private final AtomicReference<FutureTask<Block>> nextBlock = new AtomicReference<>();
+    /**
+     * requests blocks in the background for all factories
+     */
+    private static final ExecutorService prefetchService = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("IDPrefetch-%d").setDaemon(true).build()); //$NON-NLS-1$
+}
@@ -1,5 +1,6 @@
 package org.marketcetera.core.position.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -54,6 +55,18 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
 
     private GroupMatcherFactory<E, GroupMatcher<E>> factory;
 
+    /**
+     * Groups with changes in the current event. Only these groups are notified
+     * when the event is committed, so an event costs the same no matter how
+     * many groups there are.
+     */
+    private final List<GroupList> changedGroups = new ArrayList<GroupList>();
+
+    /**
+     * Reused to look up groups without creating a new GroupList.
+     */
+    private GroupList probe;
+
     /**
      * Constructor.
      * 
@@ -96,10 +109,9 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
                 GroupMatcher<E> oldMatcher = factory.createGroupMatcher(oldValue);
                 if (oldMatcher.matches(updated)) {
                     // same group
-                    GroupList oldGroup = new GroupList(oldMatcher);
-                    int oldIndex = groupLists.indexOfValue(oldGroup, true, false, (byte) 1);
+                    int oldIndex = groupLists.indexOfValue(probe(oldMatcher), true, false, (byte) 1);
                     GroupList oldList = groupLists.get(oldIndex).get();
-                    oldList.getListEventAssembler().elementUpdated(
+                    groupUpdates(oldList).elementUpdated(
                             oldList.barcode.getBlackIndex(changeIndex), oldValue, updated);
                     updates.elementUpdated(oldIndex, oldList, oldList);
                 } else {
@@ -116,11 +128,28 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
 
     private void beginEvent() {
         updates.beginEvent();
-        for (SimpleTreeIterator<GroupList> i = new SimpleTreeIterator<GroupList>(groupLists); i.hasNext();) {
-            i.next();
-            GroupList group = i.value();
+    }
+
+    /**
+     * Returns the event assembler of the given group, beginning an event on it
+     * if this is the first change to the group in the current event.
+     */
+    private ListEventAssembler<E> groupUpdates(GroupList group) {
+        if (!group.changed) {
+            group.changed = true;
             group.getListEventAssembler().beginEvent();
+            changedGroups.add(group);
+        }
+        return group.getListEventAssembler();
+    }
+
+    private GroupList probe(GroupMatcher<E> matcher) {
+        if (probe == null) {
+            probe = new GroupList(matcher);
+        } else {
+            probe.matcher = matcher;
         }
+        return probe;
     }
 
     private void processInsert(final int changeIndex, E inserted, boolean notify) {
@@ -128,25 +157,25 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
         // creating a new GroupList and looking for it in the tree. GroupLists
         // are considered equal if their matchers compare equal.
         GroupMatcher<E> matcher = factory.createGroupMatcher(inserted);
-        GroupList newGroup = new GroupList(matcher);
-        int groupIndex = groupLists.indexOfValue(newGroup, true, false, (byte) 1);
+        int groupIndex = groupLists.indexOfValue(probe(matcher), true, false, (byte) 1);
         if (groupIndex >= 0) {
             insertHelper(changeIndex, groupIndex);
             if (notify) {
                 GroupList groupingList = groupLists.get(groupIndex).get();
                 // an insert on the existing list
-                groupingList.getListEventAssembler().elementInserted(
+                groupUpdates(groupingList).elementInserted(
                         groupingList.barcode.getBlackIndex(changeIndex), inserted);
                 // an update on the grouping list
                 updates.elementUpdated(groupIndex, groupingList, groupingList);
             }
         } else {
+            GroupList newGroup = new GroupList(matcher);
             Element<GroupList> newList = groupLists.addInSortedOrder((byte) 1, newGroup, 1);
             groupIndex = groupLists.indexOfNode(newList, (byte) 1);
             insertHelper(changeIndex, groupIndex);
             if (notify) {
                 // begin event so later inserts, updates, deletes will work
-                newGroup.getListEventAssembler().beginEvent();
+                groupUpdates(newGroup);
                 // an update on the grouping list
                 updates.elementInserted(groupIndex, newGroup);
             }
@@ -183,40 +212,32 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
             int blackIndex = group.barcode.getBlackIndex(changeIndex);
             if (blackIndex != -1) {
                 // this will happen on one of the groups (the matching group)
-                group.getListEventAssembler().elementDeleted(blackIndex, oldValue);
+                groupUpdates(group).elementDeleted(blackIndex, oldValue);
             }
             group.barcode.remove(changeIndex, 1);
         }
     }
 
     private void commitEventAndDelete() {
-        int index = 0;
-        // parallel lists of index-group pairs for delete notification
-        List<Integer> toRemove = new LinkedList<Integer>();
         List<GroupList> toRemoveGroups = new LinkedList<GroupList>();
-        for (SimpleTreeIterator<GroupList> i = new SimpleTreeIterator<GroupList>(groupLists); i
-                .hasNext(); index++) {
-            i.next();
-            GroupList group = i.value();
+        for (GroupList group : changedGroups) {
+            group.changed = false;
             ListEventAssembler<E> listEventAssembler = group.getListEventAssembler();
             if (listEventAssembler.isEventEmpty()) {
                 listEventAssembler.discardEvent();
             } else {
                 listEventAssembler.commitEvent();
             }
+            // only a group with changes can have become empty
             if (group.barcode.blackSize() == 0) {
-                // don't remove now since we are iterating,
-                // but mark for later
-                toRemove.add(index--);
                 toRemoveGroups.add(group);
             }
         }
-        Iterator<Integer> i = toRemove.iterator();
-        Iterator<GroupList> j = toRemoveGroups.iterator();
-        while (i.hasNext()) {
-            Integer remIndex = i.next();
+        changedGroups.clear();
+        for (GroupList group : toRemoveGroups) {
+            int remIndex = groupLists.indexOfValue(group, true, false, (byte) 1);
             groupLists.remove(remIndex, 1);
-            updates.elementDeleted(remIndex, j.next());
+            updates.elementDeleted(remIndex, group);
         }
         updates.commitEvent();
     }
@@ -305,6 +326,11 @@ public class GroupingList<E> extends TransformedList<E, EventList<E>> {
 
         private Barcode barcode = new Barcode();
 
+        /**
+         * indicates if the group has changes in the current event
+         */
+        private boolean changed;
+
         private ListEventAssembler<E> getListEventAssembler() {
             return updates;
         }
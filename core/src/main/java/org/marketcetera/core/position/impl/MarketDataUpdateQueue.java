@@ -0,0 +1,127 @@
+package org.marketcetera.core.position.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.misc.NamedThreadFactory;
+
+/* $License$ */
+
+/**
+ * Applies market data updates to positions on a single thread, in batches.
+ * <p>
+ * Updates run in the order they are submitted. Work that only needs to happen
+ * once per batch, such as publishing the positions that changed, can be
+ * deferred with {@link #deferToEndOfBatch(Runnable)} while a batch is running.
+ * A batch ends when the queue is empty or after {@link #MAX_BATCH_SIZE}
+ * updates, whichever comes first.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+final class MarketDataUpdateQueue {
+
+    /**
+     * Queues the given update.
+     *
+     * @param update
+     *            the update to run
+     */
+    static void submit(Runnable update) {
+        sUpdates.add(update);
+        if (sScheduled.compareAndSet(false, true)) {
+            sExecutor.execute(DRAIN);
+        }
+    }
+
+    /**
+     * Runs the given action once the current batch has been applied. The
+     * action is run at most once per batch no matter how many times it is
+     * deferred.
+     *
+     * @param action
+     *            the action to run
+     * @return true if the action was deferred, false if the caller is not
+     *         running a batch and should run the action itself
+     */
+    static boolean deferToEndOfBatch(Runnable action) {
+        if (Thread.currentThread() != sBatchThread) {
+            return false;
+        }
+        if (!sDeferred.contains(action)) {
+            sDeferred.add(action);
+        }
+        return true;
+    }
+
+    private static void drain() {
+        while (true) {
+            sBatchThread = Thread.currentThread();
+            Runnable update;
+            int count = 0;
+            while (count++ < MAX_BATCH_SIZE && (update = sUpdates.poll()) != null) {
+                run(update);
+            }
+            sBatchThread = null;
+            List<Runnable> deferred = new ArrayList<Runnable>(sDeferred);
+            sDeferred.clear();
+            for (Runnable action : deferred) {
+                run(action);
+            }
+            if (!sUpdates.isEmpty()) {
+                continue;
+            }
+            sScheduled.set(false);
+            // an update may have been queued after the queue was found empty
+            // but before the flag was cleared
+            if (sUpdates.isEmpty() || !sScheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private static void run(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            SLF4JLoggerProxy.warn(MarketDataUpdateQueue.class, e);
+        }
+    }
+
+    private MarketDataUpdateQueue() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * maximum number of updates applied before deferred actions are run
+     */
+    static final int MAX_BATCH_SIZE = 4096;
+    private static final ExecutorService sExecutor = Executors
+            .newSingleThreadExecutor(new NamedThreadFactory("PositionRowUpdater")); //$NON-NLS-1$
+    private static final Queue<Runnable> sUpdates = new ConcurrentLinkedQueue<Runnable>();
+    private static final AtomicBoolean sScheduled = new AtomicBoolean();
+    /**
+     * actions deferred to the end of the current batch, used only by the
+     * executor thread
+     */
+    private static final List<Runnable> sDeferred = new ArrayList<Runnable>();
+    /**
+     * thread running the current batch, null between batches
+     */
+    private static volatile Thread sBatchThread;
+    private static final Runnable DRAIN = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+}
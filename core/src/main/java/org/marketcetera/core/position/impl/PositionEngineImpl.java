@@ -1,13 +1,17 @@
 package org.marketcetera.core.position.impl;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.Validate;
-import org.apache.commons.lang.builder.CompareToBuilder;
 import org.marketcetera.core.instruments.UnderlyingSymbolSupport;
 import org.marketcetera.core.position.Grouping;
 import org.marketcetera.core.position.IncomingPositionSupport;
@@ -24,8 +28,6 @@ import org.marketcetera.util.misc.ClassVersion;
 import ca.odell.glazedlists.BasicEventList;
 import ca.odell.glazedlists.EventList;
 import ca.odell.glazedlists.FunctionList;
-import ca.odell.glazedlists.GlazedLists;
-import ca.odell.glazedlists.ObservableElementList;
 import ca.odell.glazedlists.SortedList;
 import ca.odell.glazedlists.FunctionList.AdvancedFunction;
 import ca.odell.glazedlists.event.ListEvent;
@@ -55,54 +57,94 @@ public final class PositionEngineImpl implements PositionEngine {
 
         @Override
         public int compare(PositionRow o1, PositionRow o2) {
-            return new CompareToBuilder().append(o1.getTraderId(),
-                    o2.getTraderId()).append(o1.getUnderlying(),
-                    o2.getUnderlying())
-                    .append(o1.getAccount(), o2.getAccount()).toComparison();
+            // called for every published change, so compare without allocating
+            int result = compareValues(o1.getTraderId(), o2.getTraderId());
+            if (result == 0) {
+                result = compareValues(o1.getUnderlying(), o2.getUnderlying());
+            }
+            if (result == 0) {
+                result = compareValues(o1.getAccount(), o2.getAccount());
+            }
+            return result;
         }
     }
 
     /**
-     * Supports grouping of trades by trader id, symbol, and account.
+     * Orders trades by sequence number.
      */
     @ClassVersion("$Id$")
-    private final static class TradeGroupMatcher implements
-            GroupMatcher<Trade<?>> {
-
-        private final PositionKey<?> mKey;
-
-        public TradeGroupMatcher(Trade<?> trade) {
-            mKey = trade.getPositionKey();
-        }
+    private final static class TradeSequenceComparator implements
+            Comparator<Trade<?>> {
 
-        @Override
-        public boolean matches(Trade<?> item) {
-            return internalCompare(item.getPositionKey()) == 0;
-        }
+        public final static TradeSequenceComparator INSTANCE = new TradeSequenceComparator();
 
         @Override
-        public int compareTo(GroupMatcher<Trade<?>> o) {
-            TradeGroupMatcher rhs = (TradeGroupMatcher) o;
-            return internalCompare(rhs.mKey);
-        }
-
-        private int internalCompare(PositionKey<?> key) {
-            return PositionKeyComparator.INSTANCE.compare(mKey, key);
+        public int compare(Trade<?> o1, Trade<?> o2) {
+            long s1 = o1.getSequenceNumber();
+            long s2 = o2.getSequenceNumber();
+            return s1 < s2 ? -1 : (s1 == s2 ? 0 : 1);
         }
     }
 
     /**
-     * Creates group matchers from trades. Used by {@link GroupingList}.
+     * The trades of one position and the updater that applies them.
+     * <p>
+     * Each position's trade list has its own lock, which is the lock market
+     * data updates to the position take, so a tick for one position does not
+     * wait for trades or ticks of other positions. Trades are applied while
+     * the base trade list lock is held as well, so locks are always taken in
+     * that order.
      */
     @ClassVersion("$Id$")
-    private final static class TradeGroupMatcherFactory implements
-            GroupMatcherFactory<Trade<?>, GroupMatcher<Trade<?>>> {
+    private final static class Position {
 
-        @Override
-        public TradeGroupMatcher createGroupMatcher(final Trade<?> element) {
-            return new TradeGroupMatcher(element);
+        private final EventList<Trade<?>> mTrades;
+        private final PositionRowUpdater mUpdater;
+
+        public Position(EventList<Trade<?>> trades, PositionRowUpdater updater) {
+            mTrades = trades;
+            mUpdater = updater;
+        }
+
+        /**
+         * Adds a trade in sequence order. A trade that arrives in order is
+         * appended, which the updater applies as a delta.
+         */
+        void add(Trade<?> trade) {
+            Lock lock = mTrades.getReadWriteLock().writeLock();
+            lock.lock();
+            try {
+                int index = mTrades.size();
+                if (index > 0
+                        && TradeSequenceComparator.INSTANCE.compare(mTrades
+                                .get(index - 1), trade) > 0) {
+                    index = Collections.binarySearch(mTrades, trade,
+                            TradeSequenceComparator.INSTANCE);
+                    if (index < 0) {
+                        index = -index - 1;
+                    }
+                }
+                mTrades.add(index, trade);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Trade<?> trade) {
+            Lock lock = mTrades.getReadWriteLock().writeLock();
+            lock.lock();
+            try {
+                for (int i = mTrades.size() - 1; i >= 0; i--) {
+                    if (mTrades.get(i) == trade) {
+                        mTrades.remove(i);
+                        return;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
         }
-    };
+    }
 
     /**
      * Supports grouping of positions by a number of grouping criteria.
@@ -135,8 +177,14 @@ public final class PositionEngineImpl implements PositionEngine {
         @Override
         public int compareTo(GroupMatcher<PositionRow> o) {
             GroupingMatcher other = (GroupingMatcher) o;
-            return new CompareToBuilder().append(mValues, other.mValues)
-                    .toComparison();
+            // the values have the same length since they use the same groupings
+            for (int i = 0; i < mValues.length; i++) {
+                int result = compareValues(mValues[i], other.mValues[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
         }
     }
 
@@ -203,15 +251,25 @@ public final class PositionEngineImpl implements PositionEngine {
     private final MarketDataSupport mMarketDataSupport;
     private final IncomingPositionSupport mIncomingPositionSupport;
     private final UnderlyingSymbolSupport mUnderlyingSymbolSupport;
-    private final SortedList<Trade<?>> mSorted;
-    private final GroupingList<Trade<?>> mGrouped;
+    private final EventList<Trade<?>> mTrades;
+    /**
+     * copy of mTrades, used to find the trade a delete or update refers to
+     */
+    private final List<Trade<?>> mTradesCopy;
+    private final ListEventListener<Trade<?>> mTradeListener;
     private final EventList<PositionRow> mPositionsBase;
-    private final EventList<PositionRow> mFlatView;
-    private final Map<PositionKey<?>, PositionRowUpdater> mPositions = Maps
+    private final SortedList<PositionRow> mSortedPositions;
+    private final PositionRowList mFlatView;
+    private final PropertyChangeListener mMetricsListener;
+    private final Map<PositionKey<?>, Position> mPositions = Maps
             .newHashMap();
 
     /**
      * Constructor.
+     * <p>
+     * Trades are routed to their position through a hash index and each
+     * position applies a trade or a tick as a delta to its metrics, so the
+     * cost of an update does not depend on the number of positions.
      * 
      * @param trades
      *            base list of reports to drive the positions lists, cannot be
@@ -234,63 +292,109 @@ public final class PositionEngineImpl implements PositionEngine {
         mMarketDataSupport = marketDataSupport;
         mIncomingPositionSupport = incomingPositionSupport;
         mUnderlyingSymbolSupport = underlyingSymbolSupport;
-        mSorted = new SortedList<Trade<?>>(trades, new Comparator<Trade<?>>() {
-
+        mTrades = trades;
+        mTradesCopy = new ArrayList<Trade<?>>(trades);
+        mPositionsBase = new BasicEventList<PositionRow>(trades
+                .getReadWriteLock());
+        mMetricsListener = new PropertyChangeListener() {
             @Override
-            public int compare(Trade<?> o1, Trade<?> o2) {
-                return new Long(o1.getSequenceNumber()).compareTo(new Long(o2
-                        .getSequenceNumber()));
+            public void propertyChange(PropertyChangeEvent evt) {
+                mFlatView.elementChanged((PositionRow) evt.getSource());
             }
-        });
-        mGrouped = new GroupingList<Trade<?>>(mSorted,
-                new TradeGroupMatcherFactory());
-        mPositionsBase = new BasicEventList<PositionRow>(mGrouped
-                .getReadWriteLock());
+        };
         for (PositionKey<?> key : mIncomingPositionSupport
                 .getIncomingPositions().keySet()) {
-            addPosition(key, null);
+            addPosition(key, Collections.<Trade<?>> emptyList());
+        }
+        /*
+         * Add the positions in key order so positions that sort equally keep
+         * the same relative order in the flat view.
+         */
+        Map<PositionKey<?>, List<Trade<?>>> tradesByKey = Maps.newHashMap();
+        for (Trade<?> trade : mTradesCopy) {
+            List<Trade<?>> keyTrades = tradesByKey.get(trade.getPositionKey());
+            if (keyTrades == null) {
+                keyTrades = new ArrayList<Trade<?>>();
+                tradesByKey.put(trade.getPositionKey(), keyTrades);
+            }
+            keyTrades.add(trade);
         }
-        for (EventList<Trade<?>> trade : mGrouped) {
-            addPosition(trade);
+        List<PositionKey<?>> keys = new ArrayList<PositionKey<?>>(tradesByKey
+                .keySet());
+        Collections.sort(keys, PositionKeyComparator.INSTANCE);
+        for (PositionKey<?> key : keys) {
+            List<Trade<?>> keyTrades = tradesByKey.get(key);
+            Collections.sort(keyTrades, TradeSequenceComparator.INSTANCE);
+            Position position = mPositions.get(key);
+            if (position == null) {
+                addPosition(key, keyTrades);
+            } else {
+                for (Trade<?> trade : keyTrades) {
+                    position.add(trade);
+                }
+            }
+        }
+        mSortedPositions = new SortedList<PositionRow>(mPositionsBase,
+                new PositionRowComparator());
+        mFlatView = new PositionRowList(mSortedPositions);
+        for (PositionRow row : mPositionsBase) {
+            row.addPropertyChangeListener("positionMetrics", mMetricsListener); //$NON-NLS-1$
+        }
+        mTradeListener = new ListEventListener<Trade<?>>() {
+            @Override
+            public void listChanged(ListEvent<Trade<?>> listChanges) {
+                tradesChanged(listChanges);
+            }
+        };
+        mTrades.addListEventListener(mTradeListener);
+    }
+
+    private void tradesChanged(ListEvent<Trade<?>> listChanges) {
+        if (listChanges.isReordering()) {
+            // the trades are the same, only the copy needs to follow
+            mTradesCopy.clear();
+            mTradesCopy.addAll(mTrades);
+            return;
+        }
+        while (listChanges.next()) {
+            int index = listChanges.getIndex();
+            switch (listChanges.getType()) {
+            case ListEvent.INSERT:
+                Trade<?> inserted = mTrades.get(index);
+                mTradesCopy.add(index, inserted);
+                addTrade(inserted);
+                break;
+            case ListEvent.DELETE:
+                removeTrade(mTradesCopy.remove(index));
+                break;
+            case ListEvent.UPDATE:
+                Trade<?> updated = mTrades.get(index);
+                removeTrade(mTradesCopy.set(index, updated));
+                addTrade(updated);
+                break;
+            }
         }
-        mGrouped
-                .addListEventListener(new ListEventListener<EventList<Trade<?>>>() {
-                    @Override
-                    public void listChanged(
-                            ListEvent<EventList<Trade<?>>> listChanges) {
-                        while (listChanges.next()) {
-                            if (listChanges.getType() == ListEvent.INSERT) {
-                                EventList<Trade<?>> newTrades = listChanges
-                                        .getSourceList().get(
-                                                listChanges.getIndex());
-                                addPosition(newTrades);
-                            }
-                        }
-                    }
-                });
-        mFlatView = new ObservableElementList<PositionRow>(
-                new SortedList<PositionRow>(mPositionsBase,
-                        new PositionRowComparator()), GlazedLists
-                        .beanConnector(PositionRow.class, true,
-                                "positionMetrics")); //$NON-NLS-1$
     }
 
-    private void addPosition(EventList<Trade<?>> trades) {
-        PositionKey<?> key = getKey(trades);
-        PositionRowUpdater updater = mPositions.get(key);
-        if (updater == null) {
-            addPosition(key, trades);
+    private void addTrade(Trade<?> trade) {
+        PositionKey<?> key = trade.getPositionKey();
+        Position position = mPositions.get(key);
+        if (position == null) {
+            addPosition(key, Collections.<Trade<?>> singletonList(trade));
         } else {
-            updater.connect(trades);
+            position.add(trade);
         }
     }
 
-    private PositionKey<?> getKey(EventList<Trade<?>> sourceValue) {
-        Trade<?> trade = sourceValue.get(0);
-        return trade.getPositionKey();
+    private void removeTrade(Trade<?> trade) {
+        // positions are kept when their last trade is removed
+        Position position = mPositions.get(trade.getPositionKey());
+        if (position != null) {
+            position.remove(trade);
+        }
     }
 
-    private void addPosition(PositionKey<?> key, EventList<Trade<?>> trades) {
+    private void addPosition(PositionKey<?> key, List<Trade<?>> trades) {
         Instrument instrument = key.getInstrument();
         String underlying = mUnderlyingSymbolSupport.getUnderlying(instrument);
         PositionRowImpl positionRow = new PositionRowImpl(instrument,
@@ -298,9 +402,23 @@ public final class PositionEngineImpl implements PositionEngine {
                                                           key.getAccount(),
                                                           key.getTraderId(),
                                                           mIncomingPositionSupport.getIncomingPositionFor(key));
-        PositionRowUpdater updater = new PositionRowUpdater(positionRow,
-                trades, mMarketDataSupport);
-        mPositions.put(key, updater);
+        // each position has its own lock, see Position
+        EventList<Trade<?>> positionTrades = new BasicEventList<Trade<?>>();
+        PositionRowUpdater updater;
+        Lock lock = positionTrades.getReadWriteLock().writeLock();
+        lock.lock();
+        try {
+            positionTrades.addAll(trades);
+            // the metrics are calculated before the position is published
+            updater = new PositionRowUpdater(positionRow, positionTrades,
+                    mMarketDataSupport);
+        } finally {
+            lock.unlock();
+        }
+        mPositions.put(key, new Position(positionTrades, updater));
+        if (mFlatView != null) {
+            positionRow.addPropertyChangeListener("positionMetrics", mMetricsListener); //$NON-NLS-1$
+        }
         mPositionsBase.add(positionRow);
     }
 
@@ -406,11 +524,31 @@ public final class PositionEngineImpl implements PositionEngine {
         }
     }
 
+    /**
+     * Compares two values, with null before any other value.
+     */
+    private static int compareValues(String s1, String s2) {
+        if (s1 == s2) {
+            return 0;
+        } else if (s1 == null) {
+            return -1;
+        } else if (s2 == null) {
+            return 1;
+        }
+        return s1.compareTo(s2);
+    }
+
     @Override
     public void dispose() {
+        mTrades.removeListEventListener(mTradeListener);
+        for (Position position : mPositions.values()) {
+            position.mUpdater.getPosition().removePropertyChangeListener(
+                    "positionMetrics", mMetricsListener); //$NON-NLS-1$
+            position.mUpdater.dispose();
+        }
+        mFlatView.dispose();
+        mSortedPositions.dispose();
         mPositionsBase.dispose();
-        mGrouped.dispose();
-        mSorted.dispose();
         mMarketDataSupport.dispose();
     }
 }
@@ -13,6 +13,9 @@ import org.marketcetera.util.misc.ClassVersion;
 
 /**
  * An implementation of {@link PositionMetricsCalculator}.
+ * <p>
+ * This class is not thread safe. {@link PositionRowUpdater} serializes calls
+ * with the write lock of the position's trade list.
  * 
  * @author <a href="mailto:will@marketcetera.com">Will Horn</a>
  * @version $Id$
@@ -77,14 +80,14 @@ public final class PositionMetricsCalculatorImpl
         return createPositionMetrics();
     }
     @Override
-    public synchronized PositionMetrics tick(final BigDecimal tradePrice) {
+    public PositionMetrics tick(final BigDecimal tradePrice) {
         mLastTradePrice = tradePrice;
         quoteChange = false;
         return createPositionMetrics();
     }
 
     @Override
-    public synchronized PositionMetrics trade(final Trade<?> trade) {
+    public PositionMetrics trade(final Trade<?> trade) {
         processTrade(trade.getQuantity(), trade.getPrice());
         return createPositionMetrics();
     }
@@ -255,4 +258,4 @@ public final class PositionMetricsCalculatorImpl
         }
     }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package org.marketcetera.core.position.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.marketcetera.core.position.PositionRow;
+import org.marketcetera.util.misc.ClassVersion;
+
+import ca.odell.glazedlists.SortedList;
+import ca.odell.glazedlists.TransformedList;
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.util.concurrent.Lock;
+
+/* $License$ */
+
+/**
+ * Read only view of sorted positions that also publishes changes to the
+ * positions themselves.
+ * <p>
+ * The owner calls {@link #elementChanged(PositionRow)} when the metrics of a
+ * position change. The position is found by its sort keys, which do not
+ * change, rather than by scanning the list. Changes made by a batch of market
+ * data updates are published together as one event at the end of the batch.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+final class PositionRowList extends TransformedList<PositionRow, PositionRow> {
+
+    private final SortedList<PositionRow> mSorted;
+    /**
+     * positions changed during the current market data batch, used only by the
+     * market data thread
+     */
+    private final Set<PositionRow> mChanged = new LinkedHashSet<PositionRow>();
+    private final Runnable mPublishChanged = new Runnable() {
+        @Override
+        public void run() {
+            List<PositionRow> changed = new ArrayList<PositionRow>(mChanged);
+            mChanged.clear();
+            publish(changed);
+        }
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param source
+     *            the sorted positions
+     */
+    PositionRowList(SortedList<PositionRow> source) {
+        super(source);
+        mSorted = source;
+        source.addListEventListener(this);
+    }
+
+    /**
+     * Publishes a change to the given position.
+     *
+     * @param row
+     *            the position that changed
+     */
+    void elementChanged(PositionRow row) {
+        if (MarketDataUpdateQueue.deferToEndOfBatch(mPublishChanged)) {
+            mChanged.add(row);
+        } else {
+            publish(Collections.singleton(row));
+        }
+    }
+
+    @Override
+    protected boolean isWritable() {
+        return false;
+    }
+
+    @Override
+    public void listChanged(ListEvent<PositionRow> listChanges) {
+        updates.forwardEvent(listChanges);
+    }
+
+    private void publish(Collection<PositionRow> rows) {
+        Lock lock = getReadWriteLock().writeLock();
+        lock.lock();
+        try {
+            boolean started = false;
+            for (PositionRow row : rows) {
+                int index = find(row);
+                if (index == -1) {
+                    // not added yet, it will be published when it is
+                    continue;
+                }
+                if (!started) {
+                    updates.beginEvent();
+                    started = true;
+                }
+                updates.elementUpdated(index, row, row);
+            }
+            if (started) {
+                updates.commitEvent();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int find(PositionRow row) {
+        Comparator<? super PositionRow> comparator = mSorted.getComparator();
+        int size = mSorted.size();
+        for (int i = mSorted.sortIndex(row); i < size; i++) {
+            PositionRow candidate = mSorted.get(i);
+            if (candidate == row) {
+                return i;
+            }
+            if (comparator.compare(candidate, row) != 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+}
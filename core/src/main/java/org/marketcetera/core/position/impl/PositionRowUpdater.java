@@ -1,8 +1,6 @@
 package org.marketcetera.core.position.impl;
 
 import java.math.BigDecimal;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang.Validate;
@@ -16,11 +14,11 @@ import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataList
 import org.marketcetera.trade.Future;
 import org.marketcetera.trade.Option;
 import org.marketcetera.util.misc.ClassVersion;
-import org.marketcetera.util.misc.NamedThreadFactory;
 
 import ca.odell.glazedlists.EventList;
 import ca.odell.glazedlists.event.ListEvent;
 import ca.odell.glazedlists.event.ListEventListener;
+import ca.odell.glazedlists.util.concurrent.Lock;
 
 /* $License$ */
 
@@ -35,12 +33,10 @@ import ca.odell.glazedlists.event.ListEventListener;
 public final class PositionRowUpdater {
 
     private final ListEventListener<Trade<?>> mListChangeListener;
-    private EventList<Trade<?>> mTrades;
+    private volatile EventList<Trade<?>> mTrades;
     private final PositionRowImpl mPositionRow;
     private final MarketDataSupport mMarketDataSupport;
     private final InstrumentMarketDataListener mSymbolChangeListener;
-    private static final ExecutorService sMarketDataUpdateExecutor = Executors
-            .newSingleThreadExecutor(new NamedThreadFactory("PositionRowUpdater"));  //$NON-NLS-1$
     private final AtomicBoolean mTickPending = new AtomicBoolean();
     private final AtomicBoolean mBidPending = new AtomicBoolean();
     private final AtomicBoolean mAskPending = new AtomicBoolean();
@@ -167,12 +163,17 @@ public final class PositionRowUpdater {
          * multiple updates since the runnable always uses the latest value.
          */
         if (mTickPending.compareAndSet(false, true)) {
-            sMarketDataUpdateExecutor.execute(new Runnable() {
+            MarketDataUpdateQueue.submit(new Runnable() {
                 @Override
                 public void run() {
                     mTickPending.set(false);
-                    if (mCalculator != null) {
-                        mPositionRow.setPositionMetrics(mCalculator.tick(mLastTradePrice));
+                    Lock lock = lockTrades();
+                    try {
+                        if (mCalculator != null) {
+                            mPositionRow.setPositionMetrics(mCalculator.tick(mLastTradePrice));
+                        }
+                    } finally {
+                        unlock(lock);
                     }
                 }
             });
@@ -192,12 +193,17 @@ public final class PositionRowUpdater {
          * multiple updates since the runnable always uses the latest value.
          */
         if(mBidPending.compareAndSet(false,true)) {
-            sMarketDataUpdateExecutor.execute(new Runnable() {
+            MarketDataUpdateQueue.submit(new Runnable() {
                 @Override
                 public void run() {
                     mBidPending.set(false);
-                    if(mCalculator != null) {
-                        mPositionRow.setPositionMetrics(mCalculator.bid(mLastBidPrice));
+                    Lock lock = lockTrades();
+                    try {
+                        if(mCalculator != null) {
+                            mPositionRow.setPositionMetrics(mCalculator.bid(mLastBidPrice));
+                        }
+                    } finally {
+                        unlock(lock);
                     }
                 }
             });
@@ -217,12 +223,17 @@ public final class PositionRowUpdater {
          * multiple updates since the runnable always uses the latest value.
          */
         if(mAskPending.compareAndSet(false,true)) {
-            sMarketDataUpdateExecutor.execute(new Runnable() {
+            MarketDataUpdateQueue.submit(new Runnable() {
                 @Override
                 public void run() {
                     mAskPending.set(false);
-                    if(mCalculator != null) {
-                        mPositionRow.setPositionMetrics(mCalculator.ask(mLastAskPrice));
+                    Lock lock = lockTrades();
+                    try {
+                        if(mCalculator != null) {
+                            mPositionRow.setPositionMetrics(mCalculator.ask(mLastAskPrice));
+                        }
+                    } finally {
+                        unlock(lock);
                     }
                 }
             });
@@ -248,11 +259,16 @@ public final class PositionRowUpdater {
          * value.
          */
         if (mClosingPricePending.compareAndSet(false, true)) {
-            sMarketDataUpdateExecutor.execute(new Runnable() {
+            MarketDataUpdateQueue.submit(new Runnable() {
                 @Override
                 public void run() {
                     mClosingPricePending.set(false);
-                    mPositionRow.setPositionMetrics(recalculate());
+                    Lock lock = lockTrades();
+                    try {
+                        mPositionRow.setPositionMetrics(recalculate());
+                    } finally {
+                        unlock(lock);
+                    }
                 }
             });
         }
@@ -277,17 +293,44 @@ public final class PositionRowUpdater {
          * value.
          */
         if (mMultiplierPending.compareAndSet(false, true)) {
-            sMarketDataUpdateExecutor.execute(new Runnable() {
+            MarketDataUpdateQueue.submit(new Runnable() {
                 @Override
                 public void run() {
                     mMultiplierPending.set(false);
-                    mPositionRow.setPositionMetrics(recalculate());
+                    Lock lock = lockTrades();
+                    try {
+                        mPositionRow.setPositionMetrics(recalculate());
+                    } finally {
+                        unlock(lock);
+                    }
                 }
             });
         }
 
     }
 
+    /**
+     * Acquires the write lock of the trade list, if there is one, so a market
+     * data update does not interleave with a trade.
+     * 
+     * @return the acquired lock, or null if there is no trade list
+     */
+    private Lock lockTrades() {
+        EventList<Trade<?>> trades = mTrades;
+        if (trades == null) {
+            return null;
+        }
+        Lock lock = trades.getReadWriteLock().writeLock();
+        lock.lock();
+        return lock;
+    }
+
+    private void unlock(Lock lock) {
+        if (lock != null) {
+            lock.unlock();
+        }
+    }
+
     private void listChanged(ListEvent<Trade<?>> listChanges) {
         assert listChanges.getSourceList() == mTrades;
         while (listChanges.next()) {
@@ -1,6 +1,9 @@
 package org.marketcetera.core.position.impl;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.lang.Validate;
 import org.marketcetera.core.position.PositionMetrics;
@@ -15,6 +18,10 @@ import ca.odell.glazedlists.event.ListEventListener;
 
 /**
  * This class maintains a summary position row based on its child positions.
+ * <p>
+ * The summary keeps a running sum of each value and applies each child change
+ * as a difference, so the cost of a change does not depend on the number of
+ * children.
  * 
  * @author <a href="mailto:will@marketcetera.com">Will Horn</a>
  * @version $Id$
@@ -26,6 +33,20 @@ public class SummaryRowUpdater {
     private final EventList<PositionRow> mChildren;
     private final PositionRowImpl mPositionRow;
     private final ListEventListener<PositionRow> listChangeListener;
+    /**
+     * number of summarized values, in the order of the
+     * {@link PositionMetricsImpl} constructor
+     */
+    private static final int FIELDS = 7;
+    /**
+     * child metrics included in the sums, in child order
+     */
+    private final List<PositionMetrics> mCounted = new ArrayList<PositionMetrics>();
+    private final BigDecimal[] mSums = new BigDecimal[FIELDS];
+    /**
+     * number of children with an unknown value for each field
+     */
+    private final int[] mUnknowns = new int[FIELDS];
 
     /**
      * Constructor.
@@ -71,47 +92,128 @@ public class SummaryRowUpdater {
         if (listChanges.getSourceList() != mChildren) {
             throw new IllegalStateException();
         }
+        if (listChanges.isReordering()) {
+            // the children are the same, but the mirror must follow their order
+            recalculate();
+            return;
+        }
+        boolean changed = false;
         while (listChanges.next()) {
             final int changeIndex = listChanges.getIndex();
             final int changeType = listChanges.getType();
             if (changeType == ListEvent.INSERT) {
-                // we can optimize on insert
-                PositionRow row = mChildren.get(changeIndex);
-                mPositionRow.setPositionMetrics(add(mPositionRow.getPositionMetrics(), row
-                        .getPositionMetrics()));
+                PositionMetrics metrics = mChildren.get(changeIndex).getPositionMetrics();
+                mCounted.add(changeIndex, metrics);
+                count(metrics, 1);
+                changed = true;
+            } else if (changeType == ListEvent.DELETE) {
+                count(mCounted.remove(changeIndex), -1);
+                changed = true;
             } else {
-                // recompute summary from scratch
-                recalculate();
+                PositionMetrics metrics = mChildren.get(changeIndex).getPositionMetrics();
+                PositionMetrics previous = mCounted.set(changeIndex, metrics);
+                if (previous != metrics) {
+                    replace(previous, metrics);
+                    changed = true;
+                }
             }
         }
+        if (changed) {
+            publish();
+        }
     }
 
     private void recalculate() {
-        PositionMetrics metrics = new PositionMetricsImpl(BigDecimal.ZERO, BigDecimal.ZERO,
-                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
-
+        mCounted.clear();
+        Arrays.fill(mSums, BigDecimal.ZERO);
+        Arrays.fill(mUnknowns, 0);
         for (PositionRow row : mChildren) {
-            metrics = add(metrics, row.getPositionMetrics());
+            PositionMetrics metrics = row.getPositionMetrics();
+            mCounted.add(metrics);
+            count(metrics, 1);
         }
-        mPositionRow.setPositionMetrics(metrics);
+        publish();
     }
 
-    private PositionMetrics add(PositionMetrics current, PositionMetrics augend) {
-        BigDecimal incomingPosition = add(current.getIncomingPosition(), augend
-                .getIncomingPosition());
-        BigDecimal position = add(current.getPosition(), augend.getPosition());
-        BigDecimal positionPL = add(current.getPositionPL(), augend.getPositionPL());
-        BigDecimal tradingPL = add(current.getTradingPL(), augend.getTradingPL());
-        BigDecimal realizedPL = add(current.getRealizedPL(), augend.getRealizedPL());
-        BigDecimal unrealizedPL = add(current.getUnrealizedPL(), augend.getUnrealizedPL());
-        BigDecimal totalPL = add(current.getTotalPL(), augend.getTotalPL());
-        return new PositionMetricsImpl(incomingPosition, position, positionPL, tradingPL,
-                realizedPL, unrealizedPL, totalPL);
+    /**
+     * Adds the given child metrics to the summary, or removes them.
+     * 
+     * @param metrics
+     *            the child metrics
+     * @param sign
+     *            1 to add, -1 to remove
+     */
+    private void count(PositionMetrics metrics, int sign) {
+        for (int i = 0; i < FIELDS; i++) {
+            BigDecimal value = get(metrics, i);
+            if (value == null) {
+                mUnknowns[i] += sign;
+            } else {
+                mSums[i] = sign > 0 ? mSums[i].add(value) : mSums[i].subtract(value);
+            }
+        }
     }
 
-    private BigDecimal add(BigDecimal current, BigDecimal augend) {
-        // if either is null (unknown), the result is also unknown
-        return current == null || augend == null ? null : current.add(augend);
+    /**
+     * Replaces child metrics already included in the summary with new ones,
+     * applying only the values that differ rather than summing every child
+     * again.
+     * 
+     * @param previous
+     *            the metrics included in the summary
+     * @param metrics
+     *            the new metrics
+     */
+    private void replace(PositionMetrics previous, PositionMetrics metrics) {
+        for (int i = 0; i < FIELDS; i++) {
+            BigDecimal before = get(previous, i);
+            BigDecimal after = get(metrics, i);
+            if (before == after) {
+                // unchanged values are usually the same instance
+                continue;
+            }
+            if (before == null) {
+                mUnknowns[i]--;
+            } else {
+                mSums[i] = mSums[i].subtract(before);
+            }
+            if (after == null) {
+                mUnknowns[i]++;
+            } else {
+                mSums[i] = mSums[i].add(after);
+            }
+        }
+    }
+
+    private void publish() {
+        mPositionRow.setPositionMetrics(new PositionMetricsImpl(getSum(0), getSum(1), getSum(2),
+                getSum(3), getSum(4), getSum(5), getSum(6)));
+    }
+
+    private BigDecimal getSum(int field) {
+        // if any child value is null (unknown), the sum is also unknown
+        return mUnknowns[field] > 0 ? null : mSums[field];
+    }
+
+    private static BigDecimal get(PositionMetrics metrics, int field) {
+        switch (field) {
+        case 0:
+            return metrics.getIncomingPosition();
+        case 1:
+            return metrics.getPosition();
+        case 2:
+            return metrics.getPositionPL();
+        case 3:
+            return metrics.getTradingPL();
+        case 4:
+            return metrics.getRealizedPL();
+        case 5:
+            return metrics.getUnrealizedPL();
+        case 6:
+            return metrics.getTotalPL();
+        default:
+            throw new IllegalArgumentException();
+        }
     }
 
 }
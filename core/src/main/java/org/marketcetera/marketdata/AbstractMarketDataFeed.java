@@ -550,7 +550,13 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
                                 ((HasTimestamps)event).setProcessedTimestamp(processedTimestamp);
                             }
                         }
-                        token.publish(event);
+                    }
+                    if(actualEvents.size() > 1 && acceptsBatches(token)) {
+                        token.publish(actualEvents.toArray(new Event[actualEvents.size()]));
+                    } else {
+                        for(Event event : actualEvents) {
+                            token.publish(event);
+                        }
                     }
                 } catch (Exception e) {
                     Messages.WARNING_MARKET_DATA_FEED_DATA_IGNORED.warn(this,
@@ -562,6 +568,25 @@ public abstract class AbstractMarketDataFeed<T extends AbstractMarketDataFeedTok
             ThreadedMetric.end(PUBLISHING_CONDITION);
         }
     }
+    /**
+     * Indicates if every subscriber to the given token accepts events in a single publication.
+     *
+     * @param inToken a <code>T</code> value
+     * @return a <code>boolean</code> value
+     */
+    private boolean acceptsBatches(T inToken)
+    {
+        ISubscriber[] subscribers = inToken.getTokenSpec().getSubscribers();
+        if(subscribers.length == 0) {
+            return false;
+        }
+        for(ISubscriber subscriber : subscribers) {
+            if(!(subscriber instanceof BatchSubscriber)) {
+                return false;
+            }
+        }
+        return true;
+    }
     /*
      * the following methods can be called by other package classes
      */
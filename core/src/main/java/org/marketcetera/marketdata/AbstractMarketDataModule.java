@@ -176,15 +176,32 @@ public abstract class AbstractMarketDataModule<T extends MarketDataFeedToken,
                                                       requestPayload);
         }
         try {
-            ISubscriber subscriber = new ISubscriber() {
+            ISubscriber subscriber = new BatchSubscriber() {
                 @Override
                 public boolean isInteresting(Object inData)
                 {
-                    return inData instanceof Event;
+                    return inData instanceof Event || inData instanceof Event[];
                 }
                 @Override
                 public void publishTo(final Object inEvent)
                 {
+                    if(inEvent instanceof Event[]) {
+                        // events translated from the same feed data are sent downstream in one call
+                        final Event[] events = (Event[])inEvent;
+                        requestLock.executeRead(new Runnable() {
+                            @Override
+                            public void run()
+                            {
+                                for(Event event : events) {
+                                    event.setSource(requests.get(event.getSource()));
+                                }
+                            }
+                        });
+                        ThreadedMetric.event("mdata-OUT");  //$NON-NLS-1$
+                        inSupport.sendBatch(events,
+                                            events.length);
+                        return;
+                    }
                     if(inEvent instanceof Event) {
                         requestLock.executeRead(new Runnable() {
                             @Override
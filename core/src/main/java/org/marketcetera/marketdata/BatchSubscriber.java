@@ -0,0 +1,23 @@
+package org.marketcetera.marketdata;
+
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.event.Event;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Subscribes to market data feed tokens and accepts the events translated from the same feed data in one publication.
+ *
+ * <p>If all the subscribers of a token implement this interface, {@link AbstractMarketDataFeed} publishes the events
+ * translated from each piece of feed data as a single {@link Event Event[]} instead of one event at a time.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface BatchSubscriber
+        extends ISubscriber
+{
+}
@@ -1,5 +1,6 @@
 package org.marketcetera.marketdata;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static org.marketcetera.marketdata.Messages.DIVIDEND_REQUEST_MISSING_INSTRUMENT;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_CODE_MISMATCH;
 import static org.marketcetera.marketdata.Messages.SIMULATED_EXCHANGE_OUT_OF_EVENTS;
@@ -19,20 +20,21 @@ import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.apache.commons.lang.Validate;
 import org.marketcetera.core.Pair;
 import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.core.publisher.PublisherEngine;
@@ -57,6 +59,7 @@ import org.marketcetera.event.impl.MarketstatEventBuilder;
 import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.impl.TradeEventBuilder;
 import org.marketcetera.event.util.PriceAndSizeComparator;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.options.ExpirationType;
 import org.marketcetera.trade.DeliveryType;
 import org.marketcetera.trade.Equity;
@@ -67,11 +70,16 @@ import org.marketcetera.trade.StandardType;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /* $License$ */
 
@@ -100,6 +108,15 @@ import com.google.common.collect.Multimaps;
  * continue to simulate behavior in a modified Monte Carlo method.  The exchange will continue simulating
  * market data until stopped. 
  *
+ * <p>In random mode, each exchange ticks its books on its own threads.  The books are divided among
+ * {@link #setTickThreads(int) tick threads} by instrument, and each thread ticks its books once every
+ * {@link #setTickInterval(long) tick interval}.  If a {@link #setTargetEventRate(int) target event rate}
+ * is set, each thread instead ticks its books in turn until it has published its share of the events
+ * for the interval.  The share of each thread is in proportion to the number of books it holds, so
+ * the target is met even if some threads have no books.  The rate of published events and the duration of ticks are available from
+ * {@link #getEventMeter()} and {@link #getTickTimer()} and are registered with the {@link MetricService}
+ * while the exchange is running.
+ *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
  * @since 1.5.0
@@ -475,6 +492,10 @@ public class SimulatedExchange
         if(getStatus().isRunning()) {
             throw new IllegalStateException();
         }
+        registerMetric("events",
+                       eventMeter);
+        registerMetric("tickTimer",
+                       tickTimer);
         // clear the scripted events collection and then add the passed
         //  events if there are any.  the contents of the events list passed
         //  in dictates the mode of the exchange
@@ -488,26 +509,30 @@ public class SimulatedExchange
         } else {
             STARTING_RANDOM_EXCHANGE.info(SimulatedExchange.class,
                                           getName());
+            // divide the books among the tick threads, books added later are assigned as they are created
+            int threadCount = tickThreads;
+            TickShard[] newShards = new TickShard[threadCount];
+            // the threads together publish the target events for each interval, each in proportion to its books
+            eventsPerInterval = targetEventRate == 0 ? 0 : Math.max(1,
+                                                                    (long)targetEventRate * tickInterval / 1000);
+            shardedBookCount.set(0);
+            for(int i=0;i<threadCount;i++) {
+                newShards[i] = new TickShard();
+            }
+            shards = newShards;
+            for(PrivateInstrumentInfo book : books.values()) {
+                getShard(book).add(book);
+            }
             setStatus(Status.RANDOM);
-            // set up a job to run a tick every second until stopped
-            ticker = executor.scheduleAtFixedRate(new Runnable()
-            {
-                public void run()
-                {
-                    try {
-                        executeTick();
-                    } catch (Exception e) {
-                        SIMULATED_EXCHANGE_TICK_ERROR.warn(SimulatedExchange.class,
-                                                           e,
-                                                           getName());
-                    }
-                }
-            },
-                                                  0,
-                                                  1,
-                                                  TimeUnit.SECONDS);
-            // prepare to execute ticks
-            readyForTick.set(true);
+            // each thread runs a tick of its books every interval until stopped
+            executor = new ScheduledThreadPoolExecutor(threadCount,
+                                                       new ThreadFactoryBuilder().setNameFormat(getName().replace("%","%%")+"-tick-%d").setDaemon(true).build());
+            for(TickShard shard : newShards) {
+                executor.scheduleAtFixedRate(shard,
+                                             0,
+                                             tickInterval,
+                                             TimeUnit.MILLISECONDS);
+            }
         }
     }
     /* (non-Javadoc)
@@ -523,11 +548,18 @@ public class SimulatedExchange
             STOPPING_SIMULATED_EXCHANGE.info(SimulatedExchange.class,
                                              getName());
             // turn off the update engine
-            if(ticker != null) {
-                ticker.cancel(true);
-                executor.purge();
+            if(executor != null) {
+                executor.shutdownNow();
+                executor = null;
             }
+            shards = null;
             books.clear();
+            for(String metricName : metricNames) {
+                try {
+                    metrics.remove(metricName);
+                } catch (Exception ignored) {}
+            }
+            metricNames.clear();
         } finally {
             setStatus(Status.STOPPED);
         }
@@ -560,6 +592,100 @@ public class SimulatedExchange
     {
         return maxDepth;
     }
+    /**
+     * Get the tickThreads value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getTickThreads()
+    {
+        return tickThreads;
+    }
+    /**
+     * Sets the number of threads among which the books are divided in {@link Status#RANDOM} mode.
+     *
+     * <p>The change takes effect the next time the exchange is started.
+     *
+     * @param inTickThreads an <code>int</code> value
+     * @throws IllegalArgumentException if the given value is not positive
+     */
+    public void setTickThreads(int inTickThreads)
+    {
+        Validate.isTrue(inTickThreads > 0);
+        tickThreads = inTickThreads;
+    }
+    /**
+     * Get the tickInterval value.
+     *
+     * @return a <code>long</code> value in milliseconds
+     */
+    public long getTickInterval()
+    {
+        return tickInterval;
+    }
+    /**
+     * Sets the interval between ticks in {@link Status#RANDOM} mode.
+     *
+     * <p>The change takes effect the next time the exchange is started.
+     *
+     * @param inTickInterval a <code>long</code> value in milliseconds
+     * @throws IllegalArgumentException if the given value is not positive
+     */
+    public void setTickInterval(long inTickInterval)
+    {
+        Validate.isTrue(inTickInterval > 0);
+        tickInterval = inTickInterval;
+    }
+    /**
+     * Get the targetEventRate value.
+     *
+     * @return an <code>int</code> value in events per second or 0 if there is no target
+     */
+    public int getTargetEventRate()
+    {
+        return targetEventRate;
+    }
+    /**
+     * Sets the number of events per second to publish in {@link Status#RANDOM} mode.
+     *
+     * <p>If 0, each book is ticked once per interval regardless of the number of events that
+     * produces.  Otherwise, books are ticked in turn until the share of the target rate for the
+     * interval is published, so a book may be ticked more or less often than once per interval.
+     * Each tick thread publishes a share of the target in proportion to the number of books it
+     * holds, which is recalculated as books are added.
+     * If the books cannot be ticked fast enough to meet the target, the exchange publishes as
+     * fast as it can.
+     *
+     * <p>The change takes effect the next time the exchange is started.
+     *
+     * @param inTargetEventRate an <code>int</code> value
+     * @throws IllegalArgumentException if the given value is negative
+     */
+    public void setTargetEventRate(int inTargetEventRate)
+    {
+        Validate.isTrue(inTargetEventRate >= 0);
+        targetEventRate = inTargetEventRate;
+    }
+    /**
+     * Gets the meter of the events published by this exchange.
+     *
+     * @return a <code>Meter</code> value
+     */
+    public Meter getEventMeter()
+    {
+        return eventMeter;
+    }
+    /**
+     * Gets the timer of the ticks executed by this exchange in {@link Status#RANDOM} mode.
+     *
+     * <p>Each tick of each tick thread is timed separately.
+     *
+     * @return a <code>Timer</code> value
+     */
+    public Timer getTickTimer()
+    {
+        return tickTimer;
+    }
     /**
      * Executes an asynchronous request with the given parameters. 
      *
@@ -776,8 +902,9 @@ public class SimulatedExchange
                           book);
                 if(getStatus().isRunning() &&
                    getStatus() == Status.RANDOM) {
-                    // set some initial data in the book
+                    // set some initial data in the book before handing it to its tick thread
                     doRandomBookTick(book);
+                    getShard(book).add(book);
                 }
             }
         }
@@ -793,8 +920,9 @@ public class SimulatedExchange
                               underlyingBook);
                     if(getStatus().isRunning() &&
                        getStatus() == Status.RANDOM) {
-                        // set some initial data in the book
+                        // set some initial data in the book before handing it to its tick thread
                         doRandomBookTick(underlyingBook);
+                        getShard(underlyingBook).add(underlyingBook);
                     }
                 }
                 // there may be entries in the option chain for the underlying that do
@@ -874,15 +1002,16 @@ public class SimulatedExchange
      * Publishes the given events to interested subscribers.
      *
      * @param inEventsToPublish a <code>Deque&lt;? extends Event&gt;</code> value
+     * @return an <code>int</code> value containing the number of events published
      */
-    private void publishEvents(Deque<? extends Event> inEventsToPublish)
+    private int publishEvents(Deque<? extends Event> inEventsToPublish)
     {
         SLF4JLoggerProxy.debug(SimulatedExchange.class,
                                "{} publishing events: {}", //$NON-NLS-1$
                                this,
                                inEventsToPublish);
         if(inEventsToPublish.isEmpty()) {
-            return;
+            return 0;
         }
         Event lastEvent = inEventsToPublish.getLast();
         if(lastEvent instanceof HasEventType) {
@@ -891,51 +1020,37 @@ public class SimulatedExchange
         for(Event event : inEventsToPublish) {
             publisher.publish(event);
         }
+        int eventCount = inEventsToPublish.size();
+        eventMeter.mark(eventCount);
+        return eventCount;
     }
     /**
-     * Executes one round of processing for all instruments.
+     * Gets the tick thread to which the given book belongs.
+     *
+     * <p>The exchange must be running in {@link Status#RANDOM} mode.
+     *
+     * @param inBook a <code>PrivateInstrumentInfo</code> value
+     * @return a <code>TickShard</code> value
      */
-    private void executeTick()
+    private TickShard getShard(PrivateInstrumentInfo inBook)
     {
-        SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                               "{} beginning tick {} at {}", //$NON-NLS-1$
-                               this,
-                               iterationCounter.incrementAndGet(),
-                               DateUtils.dateToString(new Date()));
-        // if the previous tick hasn't completed yet, skip this tick and wait for the next one
-        if(readyForTick.getAndSet(false)) {
-            // the previous tick has completed, so we can begin this one
-            long startTime = System.currentTimeMillis();
-            try {
-                for(PrivateInstrumentInfo book : books.values()) {
-                    doRandomBookTick(book);
-                }
-            } finally {
-                // indicate that we're ready for the next tick
-                readyForTick.set(true);
-                SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                       "{} completed tick {} after {} ms", //$NON-NLS-1$
-                                       this,
-                                       iterationCounter.get(),
-                                       System.currentTimeMillis() - startTime);
-            }
-        } else {
-            // the previous tick has not yet completed, skip this one
-            SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                   "{} skipped tick {}", //$NON-NLS-1$
-                                   this,
-                                   iterationCounter.get()); //$NON-NLS-1$
-        }
+        TickShard[] currentShards = shards;
+        assert(currentShards != null);
+        return currentShards[(inBook.getInstrument().hashCode() & Integer.MAX_VALUE) % currentShards.length];
     }
     /**
      * Executes a single tick for the given order book.
      *
+     * <p>This method requires exclusive access to the given book.  Once a book has been assigned to a
+     * {@link TickShard}, only that shard's thread ticks it.
+     *
      * @param inBook an <code>OrderBookWrapper</code> value
+     * @return an <code>int</code> value containing the number of events published
      */
-    private void doRandomBookTick(PrivateInstrumentInfo inBook)
+    private int doRandomBookTick(PrivateInstrumentInfo inBook)
     {
         // adjust the order book base value
-        inBook.adjustPrice();
+        int eventCount = inBook.adjustPrice();
         // settle the book (generates additional activity which needs to be published)
         Deque<Event> eventsToPublish = Lists.newLinkedList();
         eventsToPublish.addAll(settleBook(inBook));
@@ -945,7 +1060,34 @@ public class SimulatedExchange
         if(inBook.getInstrument() instanceof Equity) {
             eventsToPublish.addAll(getDividends(ExchangeRequestBuilder.newRequest().withInstrument(inBook.getBook().getInstrument()).create()));
         }
-        publishEvents(eventsToPublish);
+        return eventCount + publishEvents(eventsToPublish);
+    }
+    /**
+     * Registers the given metric with the given base name for this exchange.
+     *
+     * <p>If another running exchange with the same name has already registered the metric, the metric
+     * is still kept up to date but is not registered.
+     *
+     * @param inMetricName a <code>String</code> value
+     * @param inMetric a <code>Metric</code> value
+     */
+    private void registerMetric(String inMetricName,
+                                Metric inMetric)
+    {
+        String metricName = name(SimulatedExchange.class.getSimpleName(),
+                                 getName(),
+                                 inMetricName);
+        try {
+            metrics.register(metricName,
+                             inMetric);
+            metricNames.add(metricName);
+        } catch (IllegalArgumentException e) {
+            SLF4JLoggerProxy.warn(SimulatedExchange.class,
+                                  "{} unable to register metric {}: {}", //$NON-NLS-1$
+                                  this,
+                                  metricName,
+                                  e.getMessage());
+        }
     }
     /**
      * Determines the correct <code>ExpirationType</code> to use for the given <code>Option</code>.
@@ -1044,13 +1186,13 @@ public class SimulatedExchange
      * Examines the given <code>PrivateInstrumentInfo</code>, matching bids and asks
      * until all the bids are either filled or there are no matching asks.
      *
-     * <p>Each bid is considered in turn, from the highest price to the lowest.
-     * For each bid, the asks are examined in order from lowest to highest.
+     * <p>The best bid is matched against the best ask, read from the book after
+     * each match, so the book is settled in place.
      * If the bid price is greater than or equal to the ask price, a trade
-     * is created for the minimum value of the set of the bid size and ask
-     * size.  Both the bid and the ask are adjusted as appropriate.  If the
-     * bid is fully filled, it is removed from the book, otherwise, the ask
-     * is removed and the next ask is considered.
+     * is created for the size of the ask.  Both the bid and the ask are adjusted
+     * as appropriate.  If the bid is fully filled, it is removed from the book,
+     * otherwise, the ask is removed and the bid is matched against the next ask.
+     * A bid with nothing left to fill is removed from the book without a trade.
      * 
      * <p>This method requires exclusive access to the <code>PrivateInstrumentInfo</code> but
      * does not perform any synchronization explicitly.  It is the caller's
@@ -1067,116 +1209,99 @@ public class SimulatedExchange
                                inBook.getBook());
         List<MarketDataEvent> eventsToReturn = new ArrayList<MarketDataEvent>();
         try {
-            // this is the list of bids over which to operate - note this is a static list, it does
-            //  not reflect the ongoing changes to the order book
-            List<BidEvent> bids = new ArrayList<BidEvent>(inBook.getBook().getBidBook());
+            SortedOrderBook book = inBook.getBook();
             // this is the time that we're going to use for all the trades
             long tradeTime = System.currentTimeMillis();
-            // iterate over the bid list
-            for(BidEvent bid : bids) {
+            BidEvent bid;
+            AskEvent ask;
+            while((bid = book.getBestBid()) != null &&
+                  (ask = book.getBestAsk()) != null) {
                 SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                       "Settler looking for matches for {}", //$NON-NLS-1$
-                                       bid);
-                // search for the first ask that matches the bid
+                                       "Settler matching {} and {}", //$NON-NLS-1$
+                                       bid,
+                                       ask);
                 BigDecimal bidPrice = bid.getPrice();
                 BigDecimal bidSize = bid.getSize();
-                // grab the list of asks, this, too, is a static list and is refreshed each bid iteration
-                List<AskEvent> asks = new ArrayList<AskEvent>(inBook.getBook().getAskBook());
-                // iterate over the list of asks looking for a match
-                for(AskEvent ask : asks) {
+                // check to see if the bid is fully filled before continuing
+                if(bidSize.compareTo(BigDecimal.ZERO) != 1) {
                     SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                           "Bid has {} left to fill", //$NON-NLS-1$
-                                           bidSize);
-                    // check to see if the bid is fully filled before continuing
-                    if(bidSize.compareTo(BigDecimal.ZERO) != 1) {
-                        // bid is fully filled
-                        SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                               "{} fully filled", //$NON-NLS-1$
-                                               bid);
-                        break; // out of the ask iteration loop
-                    }
-                    // bid is not fully filled
+                                           "{} fully filled", //$NON-NLS-1$
+                                           bid);
+                    BidEvent bidCorrection = QuoteEventBuilder.delete(bid);
+                    bidCorrection.setEventType(EventType.UPDATE_FINAL);
+                    book.process(bidCorrection);
+                    eventsToReturn.add(bidCorrection);
+                    continue;
+                }
+                BigDecimal askPrice = ask.getPrice();
+                // if the buyer is not willing to pay as much as the seller will take (bid < ask), the book is settled
+                if(bidPrice.compareTo(askPrice) == -1) {
                     SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                           "Examining {}", //$NON-NLS-1$
-                                           ask);
-                    BigDecimal askPrice = ask.getPrice();
-                    // if the buyer is willing to pay at least as much as the seller will take (bid >= ask)
-                    if(bidPrice.compareTo(askPrice) != -1) {
-                        // hooray, we have a transaction
-                        BigDecimal askSize = ask.getSize();
-                        // these values are important - they are used to create the trade and to adjust the bid and the ask
-                        // the price is the lower of what the buyer is willing to pay and what the seller will take
-                        BigDecimal tradePrice = bidPrice.min(askPrice);
-                        // the size is the lower of what the buyer wants and what the seller is willing to sell
-                        BigDecimal tradeSize = askSize;
-                        SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                               "Trade is {} at {}", //$NON-NLS-1$
-                                               tradeSize.toPlainString(),
-                                               tradePrice.toPlainString());
-                        // create the new trade
-                        TradeEventBuilder<TradeEvent> tradeBuilder = TradeEventBuilder.tradeEvent(bid.getInstrument()).withEventType(EventType.UPDATE_FINAL)
-                                                                                                                      .withExchange(bid.getExchange())
-                                                                                                                      .withPrice(tradePrice)
-                                                                                                                      .withSize(tradeSize)
-                                                                                                                      .withTradeDate(new Date(tradeTime));
-                        if(bid.getInstrument() instanceof Option) {
-                            tradeBuilder.withExpirationType(getExpirationType((Option)bid.getInstrument()));
-                            tradeBuilder.withUnderlyingInstrument(inBook.getUnderlyingInstrument());
-                        }
-                        if(bid.getInstrument() instanceof Future) {
-                            tradeBuilder.withContractSize(100)
-                                        .withDeliveryType(DeliveryType.PHYSICAL)
-                                        .withStandardType(StandardType.STANDARD);
-                        }
-                        TradeEvent trade = tradeBuilder.create();
-                        // these events are used to modify the orders in the book
-                        BidEvent bidCorrection;
-                        AskEvent askCorrection;
-                        if(tradeSize.compareTo(bidSize) == -1) {
-                            // trade is smaller than the bid, this is a partial fill
-                            bidCorrection = QuoteEventBuilder.change(bid,
-                                                                     new Date(tradeTime),
-                                                                     bidSize.subtract(tradeSize));
-                            bidCorrection.setEventType(EventType.UPDATE_FINAL);
-                            askCorrection = QuoteEventBuilder.delete(ask); 
-                            askCorrection.setEventType(EventType.UPDATE_FINAL); 
-                        } else {
-                            // trade is equal to the bid, this is a full fill
-                            bidCorrection = QuoteEventBuilder.delete(bid);
-                            bidCorrection.setEventType(EventType.UPDATE_FINAL);
-                            askCorrection = tradeSize.equals(askSize) ? QuoteEventBuilder.delete(ask) :
-                                                                        QuoteEventBuilder.change(ask,
-                                                                                                 new Date(tradeTime),
-                                                                                                 askSize.subtract(tradeSize));
-                            askCorrection.setEventType(EventType.UPDATE_FINAL); 
-                        }
-                        // adjust the remainder we need to fill
-                        bidSize = bidSize.subtract(tradeSize);
-                        SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                               "OrderBookSettler is creating the following events:\n{}\n{}\n{}", //$NON-NLS-1$
-                                               trade,
-                                               bidCorrection,
-                                               askCorrection);
-                        // post events to the feed's internal book
-                        inBook.setLatestTrade(trade);
-                        inBook.getBook().process(bidCorrection);
-                        inBook.getBook().process(askCorrection);
-                        // collect the events to return to the subscribers
-                        eventsToReturn.add(trade);
-                        eventsToReturn.add(bidCorrection);
-                        eventsToReturn.add(askCorrection);
-                    } else {
-                        // all the rest of the asks are higher than the highest bid, so no point in looking any more
-                        SLF4JLoggerProxy.debug(SimulatedExchange.class,
-                                               "Best Bid is less than Best Ask, quitting"); //$NON-NLS-1$
-                        bids.clear();
-                        asks.clear();
-                        return eventsToReturn;
-                    }
+                                           "Best Bid is less than Best Ask, quitting"); //$NON-NLS-1$
+                    break;
                 }
-                asks.clear();
+                // hooray, we have a transaction
+                BigDecimal askSize = ask.getSize();
+                // these values are important - they are used to create the trade and to adjust the bid and the ask
+                // the price is the lower of what the buyer is willing to pay and what the seller will take
+                BigDecimal tradePrice = bidPrice.min(askPrice);
+                // the size is what the seller is willing to sell
+                BigDecimal tradeSize = askSize;
+                SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                       "Trade is {} at {}", //$NON-NLS-1$
+                                       tradeSize.toPlainString(),
+                                       tradePrice.toPlainString());
+                // create the new trade
+                TradeEventBuilder<TradeEvent> tradeBuilder = TradeEventBuilder.tradeEvent(bid.getInstrument()).withEventType(EventType.UPDATE_FINAL)
+                                                                                                              .withExchange(bid.getExchange())
+                                                                                                              .withPrice(tradePrice)
+                                                                                                              .withSize(tradeSize)
+                                                                                                              .withTradeDate(new Date(tradeTime));
+                if(bid.getInstrument() instanceof Option) {
+                    tradeBuilder.withExpirationType(getExpirationType((Option)bid.getInstrument()));
+                    tradeBuilder.withUnderlyingInstrument(inBook.getUnderlyingInstrument());
+                }
+                if(bid.getInstrument() instanceof Future) {
+                    tradeBuilder.withContractSize(100)
+                                .withDeliveryType(DeliveryType.PHYSICAL)
+                                .withStandardType(StandardType.STANDARD);
+                }
+                TradeEvent trade = tradeBuilder.create();
+                // these events are used to modify the orders in the book
+                BidEvent bidCorrection;
+                AskEvent askCorrection;
+                if(tradeSize.compareTo(bidSize) == -1) {
+                    // trade is smaller than the bid, this is a partial fill
+                    bidCorrection = QuoteEventBuilder.change(bid,
+                                                             new Date(tradeTime),
+                                                             bidSize.subtract(tradeSize));
+                    bidCorrection.setEventType(EventType.UPDATE_FINAL);
+                    askCorrection = QuoteEventBuilder.delete(ask); 
+                    askCorrection.setEventType(EventType.UPDATE_FINAL); 
+                } else {
+                    // trade is equal to the bid, this is a full fill
+                    bidCorrection = QuoteEventBuilder.delete(bid);
+                    bidCorrection.setEventType(EventType.UPDATE_FINAL);
+                    askCorrection = tradeSize.equals(askSize) ? QuoteEventBuilder.delete(ask) :
+                                                                QuoteEventBuilder.change(ask,
+                                                                                         new Date(tradeTime),
+                                                                                         askSize.subtract(tradeSize));
+                    askCorrection.setEventType(EventType.UPDATE_FINAL); 
+                }
+                SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                       "OrderBookSettler is creating the following events:\n{}\n{}\n{}", //$NON-NLS-1$
+                                       trade,
+                                       bidCorrection,
+                                       askCorrection);
+                // post events to the feed's internal book
+                inBook.setLatestTrade(trade);
+                book.process(bidCorrection);
+                book.process(askCorrection);
+                // collect the events to return to the subscribers
+                eventsToReturn.add(trade);
+                eventsToReturn.add(bidCorrection);
+                eventsToReturn.add(askCorrection);
             }
-            bids.clear();
             return eventsToReturn;
         } finally {
             SLF4JLoggerProxy.debug(SimulatedExchange.class,
@@ -1193,7 +1318,7 @@ public class SimulatedExchange
      */
     private static BigDecimal randomDecimalDifference(int inUpperBound)
     {
-        if(random.nextBoolean()) {
+        if(ThreadLocalRandom.current().nextBoolean()) {
             // higher
             return BigDecimal.ZERO.add(randomDecimal(inUpperBound));
         } else {
@@ -1209,7 +1334,7 @@ public class SimulatedExchange
      */
     private static BigDecimal randomInteger(int inUpperBound)
     {
-        return new BigDecimal(random.nextInt(inUpperBound));
+        return new BigDecimal(ThreadLocalRandom.current().nextInt(inUpperBound));
     }
     /**
      * Generates a random decimal value in the interval (0.00,(inUpperBound-1).99).
@@ -1220,8 +1345,8 @@ public class SimulatedExchange
     private static BigDecimal randomDecimal(int inUpperBound)
     {
         return new BigDecimal(String.format("%s.%s", //$NON-NLS-1$
-                                            random.nextInt(inUpperBound),
-                                            random.nextInt(100)));
+                                            ThreadLocalRandom.current().nextInt(inUpperBound),
+                                            ThreadLocalRandom.current().nextInt(100)));
     }
     // immutable state of this exchange
     /**
@@ -1236,10 +1361,6 @@ public class SimulatedExchange
      * the maximum depth for orderbooks held by this exchange
      */
     private final int maxDepth;
-    /**
-     * indicates if the previous tick processing has completed or not
-     */
-    private final AtomicBoolean readyForTick = new AtomicBoolean(true);
     /**
      * the order books for the instruments managed by this exchange
      */
@@ -1256,15 +1377,59 @@ public class SimulatedExchange
      * set of subscribers who are interested in the option chain of this object
      */
     private final Multimap<Instrument,FilteringSubscriber> optionChainSubscribers;
+    /**
+     * publishes events generated by the order books of this exchange and manages subscriptions
+     */
+    private final PublisherEngine publisher = new PublisherEngine(true);
+    /**
+     * measures the events published by this exchange
+     */
+    private final Meter eventMeter = new Meter();
+    /**
+     * measures the duration of ticks in {@link Status#RANDOM} mode
+     */
+    private final Timer tickTimer = new Timer();
+    /**
+     * main metrics object
+     */
+    private final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * holds the names of the metrics registered while the exchange is running
+     */
+    private final Set<String> metricNames = new HashSet<String>();
     // mutable state of this exchange
     /**
      * the exchange status
      */
     private volatile Status status;
     /**
-     * stores the handle for the task submitted to the scheduler to run updates on this exchange
+     * number of threads among which books are divided in {@link Status#RANDOM} mode
+     */
+    private volatile int tickThreads = 1;
+    /**
+     * interval between ticks in {@link Status#RANDOM} mode in milliseconds
+     */
+    private volatile long tickInterval = 1000;
+    /**
+     * events per second to publish in {@link Status#RANDOM} mode or 0 to tick each book once per interval
+     */
+    private volatile int targetEventRate = 0;
+    /**
+     * runs the tick threads while the exchange is running in {@link Status#RANDOM} mode
+     */
+    private volatile ScheduledThreadPoolExecutor executor;
+    /**
+     * the books of each tick thread while the exchange is running in {@link Status#RANDOM} mode
+     */
+    private volatile TickShard[] shards;
+    /**
+     * number of events all tick threads together publish each interval or 0 to tick each book once per interval
      */
-    private volatile ScheduledFuture<?> ticker = null;
+    private volatile long eventsPerInterval;
+    /**
+     * number of books assigned to tick threads while the exchange is running in {@link Status#RANDOM} mode
+     */
+    private final AtomicInteger shardedBookCount = new AtomicInteger(0);
     // common to all exchanges
     // immutable state of all exchanges
     /**
@@ -1279,22 +1444,10 @@ public class SimulatedExchange
      * the number of milliseconds in one day
      */
     private static final long DAYms = HOURms * 24l;
-    /**
-     * random generator used to manipulate prices
-     */
-    private static final Random random = new Random(System.nanoTime());
     /**
      * data for instruments shared across exchanges
      */
     private static final Map<Instrument,SharedInstrumentInfo> sharedInstruments = new ConcurrentHashMap<Instrument,SharedInstrumentInfo>();
-    /**
-     * mechanism which manages the threads that create the market data
-     */
-    private static final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
-    /**
-     * publishes events generated by order books from exchanges and manages subscriptions 
-     */
-    private static final PublisherEngine publisher = new PublisherEngine(true);
     // inner classes
     /**
      * The status of the exchange.
@@ -1423,8 +1576,8 @@ public class SimulatedExchange
             SharedInstrumentInfo sharedInfo = getSharedInstrumentInfo(instrument);
             assert(sharedInfo != null);
             setValue(sharedInfo.getMostRecentValue());
-            book = new OrderBook(instrument,
-                                 getMaxDepth());
+            book = new SortedOrderBook(instrument,
+                                       getMaxDepth());
         }
         /**
          * Applies the changes implied by the given <code>Event</code> to
@@ -1461,10 +1614,12 @@ public class SimulatedExchange
          *
          * <p>This method causes the price to be adjusted randomly.  New bids and
          * asks are submitted to the object's order book.
+         *
+         * @return an <code>int</code> value containing the number of events published
          */
-        private void adjustPrice()
+        private int adjustPrice()
         {
-            if(random.nextBoolean()) {
+            if(ThreadLocalRandom.current().nextBoolean()) {
                 value = value.add(PENNY);
             } else {
                 if(!value.equals(PENNY)) {
@@ -1507,15 +1662,14 @@ public class SimulatedExchange
                           .withStandardType(StandardType.STANDARD);
             }
             // create the events
-            process(askBuilder.create());
-            process(bidBuilder.create());
+            return process(askBuilder.create()).size() + process(bidBuilder.create()).size();
         }
         /**
          * Get the book value.
          *
-         * @return an <code>OrderBook</code> value
+         * @return a <code>SortedOrderBook</code> value
          */
-        private OrderBook getBook()
+        private SortedOrderBook getBook()
         {
             return book;
         }
@@ -1572,7 +1726,7 @@ public class SimulatedExchange
         /**
          * the order book itself
          */
-        private final OrderBook book;
+        private final SortedOrderBook book;
         // mutable state
         /**
          * the most recent value of the instrument
@@ -1583,6 +1737,97 @@ public class SimulatedExchange
          */
         private volatile TradeEvent latestTrade;
     }
+    /**
+     * Ticks a share of the books of the exchange in {@link Status#RANDOM} mode.
+     * 
+     * <p>Each book belongs to exactly one shard, so books are ticked without locking.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ThreadSafe
+    @ClassVersion("$Id$")
+    private class TickShard
+            implements Runnable
+    {
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            try {
+                executeTick();
+            } catch (Exception e) {
+                SIMULATED_EXCHANGE_TICK_ERROR.warn(SimulatedExchange.class,
+                                                   e,
+                                                   getName());
+            }
+        }
+        /**
+         * Adds the given book to this shard.
+         *
+         * @param inBook a <code>PrivateInstrumentInfo</code> value
+         */
+        private void add(PrivateInstrumentInfo inBook)
+        {
+            shardBooks.add(inBook);
+            shardedBookCount.incrementAndGet();
+        }
+        /**
+         * Executes one round of processing for the books of this shard.
+         */
+        private void executeTick()
+        {
+            if(shardBooks.isEmpty()) {
+                return;
+            }
+            long tick = iterationCounter.incrementAndGet();
+            SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                   "{} beginning tick {} at {}", //$NON-NLS-1$
+                                   SimulatedExchange.this,
+                                   tick,
+                                   DateUtils.dateToString(new Date()));
+            Timer.Context context = tickTimer.time();
+            try {
+                long eventsPerTick = eventsPerInterval;
+                if(eventsPerTick == 0) {
+                    for(PrivateInstrumentInfo book : shardBooks) {
+                        doRandomBookTick(book);
+                    }
+                } else {
+                    // this shard's share of the interval's events is in proportion to its books, so shards without
+                    //  books take no share. the share follows the books as they are added
+                    long eventsRemaining = Math.max(1,
+                                                    eventsPerTick * shardBooks.size() / Math.max(1,
+                                                                                                 shardedBookCount.get()));
+                    // tick books in turn, picking up where the last tick left off, until this tick's events are published
+                    while(eventsRemaining > 0 &&
+                          !Thread.currentThread().isInterrupted()) {
+                        if(nextBook >= shardBooks.size()) {
+                            nextBook = 0;
+                        }
+                        eventsRemaining -= doRandomBookTick(shardBooks.get(nextBook++));
+                    }
+                }
+            } finally {
+                SLF4JLoggerProxy.debug(SimulatedExchange.class,
+                                       "{} completed tick {} after {} ms", //$NON-NLS-1$
+                                       SimulatedExchange.this,
+                                       tick,
+                                       TimeUnit.NANOSECONDS.toMillis(context.stop()));
+            }
+        }
+        /**
+         * books ticked by this shard
+         */
+        private final List<PrivateInstrumentInfo> shardBooks = new CopyOnWriteArrayList<PrivateInstrumentInfo>();
+        /**
+         * index of the next book to tick when ticking to a number of events, used only by the tick thread
+         */
+        private int nextBook = 0;
+    }
     /**
      * Holds information common to all exchanges for a given <code>Instrument</code>.
      *
@@ -1797,7 +2042,7 @@ public class SimulatedExchange
                 inExchange.optionChainSubscribers.put(inExchangeRequest.getUnderlyingInstrument(),
                                                       subscriber);
             }
-            publisher.subscribe(subscriber);
+            inExchange.publisher.subscribe(subscriber);
             return subscriber.getToken();
         }
         /**
@@ -0,0 +1,569 @@
+package org.marketcetera.marketdata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.apache.commons.lang.SystemUtils;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.DepthOfBookEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.DepthOfBookEventBuilder;
+import org.marketcetera.event.impl.TopOfBookEventBuilder;
+import org.marketcetera.event.util.BookPriceComparator;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Represents the order book for a given symbol with each side kept in price order.
+ *
+ * <p>This book accepts the same events and follows the same rules as {@link OrderBook}
+ * (including pruning of the oldest event when a maximum depth is set), but each side of
+ * the book is stored in a price-ordered structure alongside an index by message id. As a result:
+ * <ul>
+ *   <li>the best bid and best ask are available in constant time, so {@link #getTopOfBook()} does not
+ *       touch the depth of the book</li>
+ *   <li>adds, changes, and deletes are logarithmic in the depth of the side</li>
+ *   <li>{@link #getBidBook()} and {@link #getAskBook()} return an immutable snapshot that is built at most
+ *       once per change to the side, repeated reads between changes share the same snapshot</li>
+ * </ul>
+ *
+ * <p>On books with a maximum depth, event levels are assigned when the book is read with {@link #getTopOfBook()},
+ * {@link #getDepthOfBook()}, {@link #getBidBook()}, or {@link #getAskBook()} rather than on each change.
+ * {@link #getBestBid()} and {@link #getBestAsk()} do not update levels.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class SortedOrderBook
+{
+    /**
+     * Create a new SortedOrderBook instance with unlimited maximum depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     */
+    public SortedOrderBook(Instrument inInstrument)
+    {
+        this(inInstrument,
+             OrderBook.UNLIMITED_DEPTH);
+    }
+    /**
+     * Create a new SortedOrderBook instance with unlimited maximum depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inLenient a <code>boolean</code> value
+     */
+    public SortedOrderBook(Instrument inInstrument,
+                           boolean inLenient)
+    {
+        this(inInstrument,
+             OrderBook.UNLIMITED_DEPTH,
+             inLenient);
+    }
+    /**
+     * Create a new SortedOrderBook instance.
+     *
+     * <p>A <code>SortedOrderBook</code> with a maximum depth will
+     * never grow larger than the specified depth.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inMaxDepth an <code>int</code> value
+     * @throws IllegalArgumentException if the given depth is invalid
+     */
+    public SortedOrderBook(Instrument inInstrument,
+                           int inMaxDepth)
+    {
+        this(inInstrument,
+             inMaxDepth,
+             false);
+    }
+    /**
+     * Create a new SortedOrderBook instance.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inMaxDepth an <code>int</code> value
+     * @param inLenient a <code>boolean</code> value
+     * @throws IllegalArgumentException if the given depth is invalid
+     */
+    public SortedOrderBook(Instrument inInstrument,
+                           int inMaxDepth,
+                           boolean inLenient)
+    {
+        if(inInstrument == null) {
+            throw new NullPointerException();
+        }
+        OrderBook.validateMaximumBookDepth(inMaxDepth);
+        instrument = inInstrument;
+        maxDepth = inMaxDepth;
+        lenient = inLenient;
+        askBook = new SortedBookCollection<AskEvent>(inMaxDepth,
+                                                     BookPriceComparator.askComparator);
+        bidBook = new SortedBookCollection<BidEvent>(inMaxDepth,
+                                                     BookPriceComparator.bidComparator);
+    }
+    /**
+     * Get the instrument value.
+     *
+     * @return an <code>Instrument</code> value
+     */
+    public final Instrument getInstrument()
+    {
+        return instrument;
+    }
+    /**
+     * Get the maxDepth value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxDepth()
+    {
+        return maxDepth;
+    }
+    /**
+     * Clear the order book.
+     */
+    public void clear()
+    {
+        askBook.clear();
+        bidBook.clear();
+    }
+    /**
+     * Gets the best bid in the book.
+     *
+     * @return a <code>BidEvent</code> value or <code>null</code> if the bid side of the book is empty
+     */
+    public final BidEvent getBestBid()
+    {
+        return bidBook.getBest();
+    }
+    /**
+     * Gets the best ask in the book.
+     *
+     * @return an <code>AskEvent</code> value or <code>null</code> if the ask side of the book is empty
+     */
+    public final AskEvent getBestAsk()
+    {
+        return askBook.getBest();
+    }
+    /**
+     * Gets the {@link TopOfBookEvent} view of the order book.
+     *
+     * @return a <code>TopOfBookEvent</code> value
+     */
+    public final TopOfBookEvent getTopOfBook()
+    {
+        bidBook.assignLevels();
+        askBook.assignLevels();
+        return TopOfBookEventBuilder.topOfBookEvent().withBid(getBestBid())
+                                                     .withAsk(getBestAsk())
+                                                     .withInstrument(getInstrument())
+                                                     .withTimestamp(new Date()).create();
+    }
+    /**
+     * Returns the {@link DepthOfBookEvent} view of the order book.
+     *
+     * @return a <code>DepthOfBookEvent</code> value
+     */
+    public final DepthOfBookEvent getDepthOfBook()
+    {
+        return DepthOfBookEventBuilder.depthOfBook().withBids(getBidBook())
+                                                    .withAsks(getAskBook())
+                                                    .withInstrument(getInstrument()).create();
+    }
+    /**
+     * Gets the current state of the <code>Bid</code> book sorted by price.
+     *
+     * <p>The returned list is an immutable snapshot and is not affected by subsequent changes to the book.
+     *
+     * @return a <code>List&lt;BidEvent&gt;</code> value
+     */
+    public final List<BidEvent> getBidBook()
+    {
+        return bidBook.getSnapshot();
+    }
+    /**
+     * Gets the current state of the <code>Ask</code> book sorted by price.
+     *
+     * <p>The returned list is an immutable snapshot and is not affected by subsequent changes to the book.
+     *
+     * @return a <code>List&lt;AskEvent&gt;</code> value
+     */
+    public final List<AskEvent> getAskBook()
+    {
+        return askBook.getSnapshot();
+    }
+    /**
+     * Gets the number of bids in the book.
+     *
+     * @return an <code>int</code> value
+     */
+    public final int getBidDepth()
+    {
+        return bidBook.size();
+    }
+    /**
+     * Gets the number of asks in the book.
+     *
+     * @return an <code>int</code> value
+     */
+    public final int getAskDepth()
+    {
+        return askBook.size();
+    }
+    /**
+     * Processes all the events in the given list.
+     *
+     * @param inEvents a <code>List&lt;Event&gt;</code> value
+     * @return a <code>List&lt;QuoteEvent&gt;</code> value containing the events displaced by the change, may be empty
+     * @throws IllegalArgumentException if any quote in the give list is not a <code>QuoteEvent</code> or the event's symbol does not match the book's symbol
+     */
+    public final List<QuoteEvent> processAll(List<Event> inEvents)
+    {
+        List<QuoteEvent> results = Lists.newArrayList();
+        for(Event quote : inEvents) {
+            if(quote instanceof QuoteEvent) {
+                results.add(process((QuoteEvent)quote));
+            } else {
+                throw new IllegalArgumentException();
+            }
+        }
+        return results;
+    }
+    /**
+     * Processes the given event for the order book.
+     *
+     * @param inEvent a <code>QuoteEvent</code> value
+     * @return a <code>QuoteEvent</code> value containing the event displaced by the change or <code>null</code>
+     * @throws IllegalArgumentException if the event's symbol does not match the book's symbol
+     */
+    public final QuoteEvent process(QuoteEvent inEvent)
+    {
+        checkEvent(inEvent);
+        SLF4JLoggerProxy.debug(this,
+                               "Received {}", //$NON-NLS-1$
+                               inEvent);
+        if(inEvent instanceof BidEvent) {
+            return process(bidBook,
+                           (BidEvent)inEvent);
+        } else if(inEvent instanceof AskEvent) {
+            return process(askBook,
+                           (AskEvent)inEvent);
+        }
+        throw new UnsupportedOperationException();
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((instrument == null) ? 0 : instrument.hashCode());
+        return result;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final SortedOrderBook other = (SortedOrderBook) obj;
+        if (instrument == null) {
+            if (other.instrument != null)
+                return false;
+        } else if (!instrument.equals(other.instrument))
+            return false;
+        return true;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder book = new StringBuilder();
+        book.append(getInstrument()).append(SystemUtils.LINE_SEPARATOR);
+        book.append(OrderBook.printBook(getBidBook().iterator(),
+                                        getAskBook().iterator(),
+                                        false));
+        return book.toString();
+    }
+    /**
+     * Applies the given event to the given side of the book.
+     *
+     * @param inBook a <code>SortedBookCollection&lt;E&gt;</code> value
+     * @param inEvent an <code>E</code> value
+     * @return an <code>E</code> value containing the event displaced by the change or <code>null</code>
+     */
+    private <E extends QuoteEvent> E process(SortedBookCollection<E> inBook,
+                                             E inEvent)
+    {
+        if(inEvent.isEmpty()) {
+            SLF4JLoggerProxy.debug(this,
+                                   "{} order book received empty event: {}", //$NON-NLS-1$
+                                   getInstrument(),
+                                   inEvent);
+            inBook.clear();
+            return null;
+        }
+        switch(inEvent.getAction()) {
+            case ADD :
+                return inBook.add(inEvent);
+            case DELETE :
+                inBook.remove(inEvent);
+                return null;
+            case CHANGE :
+                inBook.change(inEvent);
+                return null;
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+    /**
+     * Checks the given event to make sure it is appropriate to add to the book.
+     *
+     * @param inEvent a <code>QuoteEvent</code> value
+     * @throws IllegalArgumentException if the event's symbol does not match the book's symbol
+     */
+    private void checkEvent(QuoteEvent inEvent)
+    {
+        if(!lenient && !inEvent.getInstrument().equals(getInstrument())) {
+            throw new IllegalArgumentException(Messages.INSTRUMENT_DOES_NOT_MATCH_ORDER_BOOK_INSTRUMENT.getText(inEvent.getInstrument(),
+                                                                                                                getInstrument()));
+        }
+    }
+    /**
+     * Stores the orders of one side of a book in price order.
+     *
+     * <p>Events are held twice: once in a message id index that preserves the order in which events were added,
+     * which is used for CRUD and for pruning the oldest event when the book is at its maximum depth, and once in
+     * a price-ordered set from which the best event and the sorted snapshot are taken.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$") //$NON-NLS-1$
+    private static class SortedBookCollection<E extends QuoteEvent>
+    {
+        /**
+         * Create a new SortedBookCollection instance.
+         *
+         * @param inMaxDepth an <code>int</code> value indicating the maximum depth of the book or {@link OrderBook#UNLIMITED_DEPTH} if the book is to have no depth limit
+         * @param inComparator a <code>Comparator&lt;QuoteEvent&gt;</code> value which determines the price order of the side
+         */
+        private SortedBookCollection(int inMaxDepth,
+                                     final Comparator<QuoteEvent> inComparator)
+        {
+            maxDepth = inMaxDepth;
+            index = inMaxDepth == OrderBook.UNLIMITED_DEPTH ? new LinkedHashMap<Long,E>() : new LinkedHashMap<Long,E>(inMaxDepth*2);
+            // events with the same price and time are distinct entries in the book, break the tie with the message id to stay consistent with equals
+            sortedBook = new TreeSet<E>(new Comparator<E>() {
+                @Override
+                public int compare(E inO1,
+                                   E inO2)
+                {
+                    int result = inComparator.compare(inO1,
+                                                      inO2);
+                    if(result == 0) {
+                        result = Long.compare(inO1.getMessageId(),
+                                              inO2.getMessageId());
+                    }
+                    return result;
+                }
+            });
+        }
+        /**
+         * Gets the best event on this side of the book.
+         *
+         * @return an <code>E</code> value or <code>null</code>
+         */
+        private E getBest()
+        {
+            return best;
+        }
+        /**
+         * Gets the number of events on this side of the book.
+         *
+         * @return an <code>int</code> value
+         */
+        private synchronized int size()
+        {
+            return index.size();
+        }
+        /**
+         * Adds the given event to the book.
+         *
+         * @param inEvent an <code>E</code> value to add to the book
+         * @return an <code>E</code> value if the incoming event displaced an existing event because the book is already at its maximum depth or null if no event was displaced
+         */
+        private synchronized E add(E inEvent)
+        {
+            E oldestEvent = null;
+            E existingEvent = index.remove(inEvent.getMessageId());
+            if(existingEvent != null) {
+                sortedBook.remove(existingEvent);
+            } else if(maxDepth != OrderBook.UNLIMITED_DEPTH && index.size() >= maxDepth) {
+                Iterator<E> oldestIterator = index.values().iterator();
+                oldestEvent = oldestIterator.next();
+                oldestIterator.remove();
+                sortedBook.remove(oldestEvent);
+            }
+            index.put(inEvent.getMessageId(),
+                      inEvent);
+            sortedBook.add(inEvent);
+            updated();
+            return oldestEvent;
+        }
+        /**
+         * Updates the given event, if present.
+         *
+         * <p>If the event is not present in the order book, this method does nothing.  Executing
+         * this method does not change the age of the order on the book.
+         *
+         * @param inEvent an <code>E</code> value
+         */
+        private synchronized void change(E inEvent)
+        {
+            // replacing the value of an existing key does not change its position in the index
+            E existingEvent = index.get(inEvent.getMessageId());
+            if(existingEvent == null) {
+                return;
+            }
+            index.put(inEvent.getMessageId(),
+                      inEvent);
+            sortedBook.remove(existingEvent);
+            sortedBook.add(inEvent);
+            updated();
+        }
+        /**
+         * Removes the given event from the book, if present.
+         *
+         * <p>If the event is not present in the order book, this method does nothing.
+         *
+         * @param inEvent an <code>E</code> value
+         */
+        private synchronized void remove(E inEvent)
+        {
+            E existingEvent = index.remove(inEvent.getMessageId());
+            if(existingEvent == null) {
+                return;
+            }
+            sortedBook.remove(existingEvent);
+            updated();
+        }
+        /**
+         * Gets a sorted, immutable snapshot of the book.
+         *
+         * @return a <code>List&lt;E&gt;</code> value
+         */
+        private synchronized List<E> getSnapshot()
+        {
+            assignLevels();
+            if(snapshot == null) {
+                snapshot = Collections.unmodifiableList(new ArrayList<E>(sortedBook));
+            }
+            return snapshot;
+        }
+        /**
+         * Clear the book.
+         */
+        private synchronized void clear()
+        {
+            index.clear();
+            sortedBook.clear();
+            updated();
+        }
+        /**
+         * Assigns the levels of the events in the book, if they have changed since they were last assigned.
+         */
+        private synchronized void assignLevels()
+        {
+            if(!levelsStale) {
+                return;
+            }
+            // levels are assigned by age only for books with a maximum depth, newest first, consistent with OrderBook
+            int level = index.size();
+            for(E event : index.values()) {
+                event.setLevel(level--);
+            }
+            levelsStale = false;
+        }
+        /**
+         * Updates the derived values of the book after a change.
+         */
+        private void updated()
+        {
+            snapshot = null;
+            best = sortedBook.isEmpty() ? null : sortedBook.first();
+            // walking the book to assign levels is linear, so it is put off until the book is read
+            levelsStale = maxDepth != OrderBook.UNLIMITED_DEPTH;
+        }
+        /**
+         * the maximum depth of the book.  if set to {@link OrderBook#UNLIMITED_DEPTH}, the book has no maximum depth
+         */
+        private final int maxDepth;
+        /**
+         * events by message id in the order they were added to the book
+         */
+        private final LinkedHashMap<Long,E> index;
+        /**
+         * events in price order
+         */
+        private final TreeSet<E> sortedBook;
+        /**
+         * best event on the book or <code>null</code>
+         */
+        private volatile E best;
+        /**
+         * sorted view of the book, built on demand and discarded on change
+         */
+        private List<E> snapshot;
+        /**
+         * indicates if the levels of the events have changed since they were last assigned
+         */
+        private boolean levelsStale = false;
+    }
+    /**
+     * the instrument for this book
+     */
+    private final Instrument instrument;
+    /**
+     * the maximum depth of the order book
+     */
+    private final int maxDepth;
+    /**
+     * indicates if the order book is lenient or not with respect to event validation
+     */
+    private final boolean lenient;
+    /**
+     * the ask side of the book
+     */
+    private final SortedBookCollection<AskEvent> askBook;
+    /**
+     * the bid side of the book
+     */
+    private final SortedBookCollection<BidEvent> bidBook;
+}
@@ -1,5 +1,6 @@
 package org.marketcetera.module;
 
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.marketcetera.util.except.I18NException;
@@ -43,11 +44,28 @@ abstract class AbstractDataCoupler
             return;
         }
         mEmitted.incrementAndGet();
-        SLF4JLoggerProxy.debug(this,"Module {} emitted \"{}\"",  //$NON-NLS-1$
-                mEmitter.getURN(), inData);
+        if(SLF4JLoggerProxy.isDebugEnabled(this)) {
+            SLF4JLoggerProxy.debug(this,"Module {} emitted \"{}\"",  //$NON-NLS-1$
+                    mEmitter.getURN(), inData);
+        }
         process(inData);
     }
 
+    @Override
+    public final void sendBatch(Object[] inData,
+                                int inCount) {
+        //ignore data if the request has been canceled
+        if(mRequestCanceled || inCount <= 0) {
+            return;
+        }
+        mEmitted.addAndGet(inCount);
+        if(SLF4JLoggerProxy.isDebugEnabled(this)) {
+            SLF4JLoggerProxy.debug(this,"Module {} emitted {} objects",  //$NON-NLS-1$
+                    mEmitter.getURN(), inCount);
+        }
+        processBatch(inData, inCount);
+    }
+
     @Override
     public final void dataEmitError(I18NBoundMessage inMessage,
                                     boolean inStopDataFlow) {
@@ -147,6 +165,26 @@ abstract class AbstractDataCoupler
      */
     protected abstract void process(Object inData);
 
+    /**
+     * This method is invoked when the emitter module emits several
+     * data objects in one call. Subclasses that can hand the data
+     * to the receiver in one call should override this method and
+     * eventually call {@link #receiveBatch(Object[], int)}. The
+     * default implementation calls {@link #process(Object)} for
+     * each data object.
+     *
+     * <p>The array may be reused by the emitter once this method
+     * returns.
+     *
+     * @param inData the data objects, starting at index 0
+     * @param inCount the number of elements of the array that hold data
+     */
+    protected void processBatch(Object[] inData, int inCount) {
+        for(int i = 0; i < inCount; i++) {
+            process(inData[i]);
+        }
+    }
+
     /**
      * This method is invoked to supply the data emitted by
      * the emitter to the receiver of this data. This method
@@ -162,9 +200,11 @@ abstract class AbstractDataCoupler
             try {
                 ((DataReceiver)mReceiver).receiveData(mFlowID,inData);
                 failed = false;
-                SLF4JLoggerProxy.debug(this, "{} received {}",  //$NON-NLS-1$
-                        mReceiver.getURN(),
-                        mReceived);
+                if(SLF4JLoggerProxy.isDebugEnabled(this)) {
+                    SLF4JLoggerProxy.debug(this, "{} received {}",  //$NON-NLS-1$
+                            mReceiver.getURN(),
+                            mReceived);
+                }
             } finally {
                 if(failed) {
                     //This counter needs to be incremented before
@@ -173,26 +213,77 @@ abstract class AbstractDataCoupler
                 }
             }
         } catch (Throwable t) {
-            if(t instanceof I18NException) {
-                mLastReceiveError = ((I18NException)t).getLocalizedDetail();
-            } else {
-                mLastReceiveError = t.getLocalizedMessage();
-            }
-            Messages.LOG_DATA_RECEIVE_ERROR.warn(this, t,
-                    mReceiver.getURN(), inData);
-            if(t instanceof StopDataFlowException) {
-                Messages.LOG_CANCELING_DATA_FLOW.info(this, t,
-                        mFlowID, getReceiverURN());
-                cancelDataFlow(mReceiver);
+            receiveFailed(t, inData);
+        }
+    }
+
+    /**
+     * Supplies several data objects to the receiver of this data.
+     * If the receiver implements {@link BatchDataReceiver}, the data
+     * is supplied in one call and the counters are updated once for
+     * the batch. Otherwise, {@link #receive(Object)} is invoked for
+     * each data object.
+     *
+     * @param inData the data objects, starting at index 0
+     * @param inCount the number of elements of the array that hold data
+     */
+    protected final void receiveBatch(Object[] inData, int inCount) {
+        if(!(mReceiver instanceof BatchDataReceiver)) {
+            for(int i = 0; i < inCount; i++) {
+                receive(inData[i]);
             }
-            if(exceptionHandler != null) {
-                try {
-                    exceptionHandler.onException(t);
-                } catch (Exception e) {
-                    SLF4JLoggerProxy.warn(this,
-                                          e);
+            return;
+        }
+        try {
+            mReceived.addAndGet(inCount);
+            boolean failed = true;
+            try {
+                ((BatchDataReceiver)mReceiver).receiveData(mFlowID,inData,inCount);
+                failed = false;
+                if(SLF4JLoggerProxy.isDebugEnabled(this)) {
+                    SLF4JLoggerProxy.debug(this, "{} received {}",  //$NON-NLS-1$
+                            mReceiver.getURN(),
+                            mReceived);
+                }
+            } finally {
+                if(failed) {
+                    //This counter needs to be incremented before
+                    //data flow is cancelled.
+                    mReceiveErrors.incrementAndGet();
                 }
             }
+        } catch (Throwable t) {
+            receiveFailed(t, Arrays.asList(inData).subList(0, inCount));
+        }
+    }
+
+    /**
+     * Records a failure of the receiver to receive data and cancels
+     * the data flow if the receiver requested it.
+     *
+     * @param t the failure
+     * @param inData the data that was not received
+     */
+    private void receiveFailed(Throwable t, Object inData) {
+        if(t instanceof I18NException) {
+            mLastReceiveError = ((I18NException)t).getLocalizedDetail();
+        } else {
+            mLastReceiveError = t.getLocalizedMessage();
+        }
+        Messages.LOG_DATA_RECEIVE_ERROR.warn(this, t,
+                mReceiver.getURN(), inData);
+        if(t instanceof StopDataFlowException) {
+            Messages.LOG_CANCELING_DATA_FLOW.info(this, t,
+                    mFlowID, getReceiverURN());
+            cancelDataFlow(mReceiver);
+        }
+        if(exceptionHandler != null) {
+            try {
+                exceptionHandler.onException(t);
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e);
+            }
         }
     }
 
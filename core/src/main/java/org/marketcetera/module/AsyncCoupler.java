@@ -1,5 +1,7 @@
 package org.marketcetera.module;
 
+import java.util.Arrays;
+
 import org.marketcetera.core.QueueProcessor;
 
 /* $License$ */
@@ -46,6 +48,17 @@ public class AsyncCoupler
     {
         processor.add(inData);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#processBatch(java.lang.Object[], int)
+     */
+    @Override
+    protected void processBatch(Object[] inData,
+                                int inCount)
+    {
+        // the emitter may reuse the array once this method returns
+        processor.add(new Batch(Arrays.copyOf(inData,
+                                              inCount)));
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.module.AbstractDataCoupler#preInitiate()
      */
@@ -93,9 +106,38 @@ public class AsyncCoupler
         protected void processData(Object inData)
                 throws Exception
         {
-            AsyncCoupler.this.receive(inData);
+            if(inData instanceof Batch) {
+                Object[] data = ((Batch)inData).data;
+                AsyncCoupler.this.receiveBatch(data,
+                                               data.length);
+            } else {
+                AsyncCoupler.this.receive(inData);
+            }
         }
     }
+    /**
+     * Holds data emitted as a batch while it waits in the queue.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Batch
+    {
+        /**
+         * Create a new Batch instance.
+         *
+         * @param inData an <code>Object[]</code> value
+         */
+        private Batch(Object[] inData)
+        {
+            data = inData;
+        }
+        /**
+         * data objects in the batch
+         */
+        private final Object[] data;
+    }
     /**
      * processes async data objects
      */
@@ -0,0 +1,40 @@
+package org.marketcetera.module;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Implemented by a {@link DataReceiver} that can receive several data objects in one call.
+ *
+ * <p>The module framework delivers data with {@link #receiveData(DataFlowID, Object[], int)} when the emitter sends a
+ * batch with {@link DataEmitterSupport#sendBatch(Object[], int)} or when a {@link DataCoupling#RING_BUFFER} coupler
+ * finds more than one data object waiting. Otherwise, data is delivered with {@link #receiveData(DataFlowID, Object)}
+ * as usual.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface BatchDataReceiver
+        extends DataReceiver
+{
+    /**
+     * Receives the given data objects in order.
+     *
+     * <p>The array belongs to the caller and may be reused once this method returns. If this method throws an exception,
+     * the batch counts as one receive error and the data objects after the one that failed are not delivered.
+     *
+     * @param inFlowID a <code>DataFlowID</code> value
+     * @param inData an <code>Object[]</code> value holding the data objects, which may be <code>null</code>, starting at index 0
+     * @param inCount an <code>int</code> value indicating how many elements of the array hold data
+     * @throws UnsupportedDataTypeException if the module does not support receiving a data object that was sent to it
+     * @throws StopDataFlowException if the module cannot receive any more data and wants to stop any more data flowing into it
+     * @throws ReceiveDataException if the module cannot receive data for any other reason
+     */
+    void receiveData(DataFlowID inFlowID,
+                     Object[] inData,
+                     int inCount)
+            throws ReceiveDataException;
+}
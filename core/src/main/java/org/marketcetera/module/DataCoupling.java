@@ -1,71 +1,99 @@
-package org.marketcetera.module;
-
-import org.marketcetera.util.misc.ClassVersion;
-
-/* $License$ */
-/**
- * The type of coupling to use between two modules
- * within a data flow.
- *
- * @author anshul@marketcetera.com
- * @version $Id$
- * @since 1.0.0
- */
-@ClassVersion("$Id$")
-public enum DataCoupling {
-    /**
-     * Data is communicated synchronously, ie. the data receiver
-     * receives the data within the context of the same thread as
-     * the emitter.
-     */
-    SYNC {
-        AbstractDataCoupler createCoupler(ModuleManager inManager,
-                                          Module inEmitter,
-                                          Module inReceiver,
-                                          DataFlowID inFlowID,
-                                          DataFlowExceptionHandler inExceptionHandler)
-        {
-            return new SyncCoupler(inManager,
-                                   inEmitter,
-                                   inReceiver,
-                                   inFlowID,
-                                   inExceptionHandler);
-        }
-    },
-    /**
-     * Data is communicated asynchronously, ie. the data receiver
-     * receivers the data in a separate thread from the one emitting
-     * data.
-     */
-    ASYNC {
-        AbstractDataCoupler createCoupler(ModuleManager inManager,
-                                          Module inEmitter,
-                                          Module inReceiver,
-                                          DataFlowID inFlowID,
-                                          DataFlowExceptionHandler inExceptionHandler)
-        {
-            return new AsyncCoupler(inManager,
-                                    inEmitter,
-                                    inReceiver,
-                                    inFlowID,
-                                    inExceptionHandler);
-        }
-    };
-
-    /**
-     * Creates an instance of the data coupler for data coupling mode.
-     *
-     * @param inManager the module manager instance
-     * @param inEmitter the module that will emit data into the coupling
-     * @param inReceiver the module that will receive data from the coupling
-     * @param inFlowID the data flow ID for the data flow within which this
-     * coupling is operating.
-     * @param inExceptionHandler the optional exception handler for exceptions generated by the receiver of the flow
-     * @return the coupler for this data coupling mode.
-     */
-    abstract AbstractDataCoupler createCoupler(ModuleManager inManager,
-                                               Module inEmitter,
-                                               Module inReceiver,
-                                               DataFlowID inFlowID,
-                                               DataFlowExceptionHandler inExceptionHandler);
-}
+package org.marketcetera.module;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+/**
+ * The type of coupling to use between two modules
+ * within a data flow.
+ *
+ * @author anshul@marketcetera.com
+ * @version $Id$
+ * @since 1.0.0
+ */
+@ClassVersion("$Id$")
+public enum DataCoupling {
+    /**
+     * Data is communicated synchronously, ie. the data receiver
+     * receives the data within the context of the same thread as
+     * the emitter.
+     */
+    SYNC {
+        AbstractDataCoupler createCoupler(ModuleManager inManager,
+                                          Module inEmitter,
+                                          Module inReceiver,
+                                          DataFlowID inFlowID,
+                                          DataFlowExceptionHandler inExceptionHandler,
+                                          RingBufferSettings inRingBufferSettings)
+        {
+            return new SyncCoupler(inManager,
+                                   inEmitter,
+                                   inReceiver,
+                                   inFlowID,
+                                   inExceptionHandler);
+        }
+    },
+    /**
+     * Data is communicated asynchronously, ie. the data receiver
+     * receivers the data in a separate thread from the one emitting
+     * data.
+     */
+    ASYNC {
+        AbstractDataCoupler createCoupler(ModuleManager inManager,
+                                          Module inEmitter,
+                                          Module inReceiver,
+                                          DataFlowID inFlowID,
+                                          DataFlowExceptionHandler inExceptionHandler,
+                                          RingBufferSettings inRingBufferSettings)
+        {
+            return new AsyncCoupler(inManager,
+                                    inEmitter,
+                                    inReceiver,
+                                    inFlowID,
+                                    inExceptionHandler);
+        }
+    },
+    /**
+     * Data is communicated asynchronously through a preallocated
+     * ring buffer and delivered to the receiver in batches. The
+     * emitter must not emit data from more than one thread at a
+     * time.
+     *
+     * @see RingBufferCoupler
+     */
+    RING_BUFFER {
+        AbstractDataCoupler createCoupler(ModuleManager inManager,
+                                          Module inEmitter,
+                                          Module inReceiver,
+                                          DataFlowID inFlowID,
+                                          DataFlowExceptionHandler inExceptionHandler,
+                                          RingBufferSettings inRingBufferSettings)
+        {
+            return new RingBufferCoupler(inManager,
+                                         inEmitter,
+                                         inReceiver,
+                                         inFlowID,
+                                         inExceptionHandler,
+                                         inRingBufferSettings);
+        }
+    };
+
+    /**
+     * Creates an instance of the data coupler for data coupling mode.
+     *
+     * @param inManager the module manager instance
+     * @param inEmitter the module that will emit data into the coupling
+     * @param inReceiver the module that will receive data from the coupling
+     * @param inFlowID the data flow ID for the data flow within which this
+     * coupling is operating.
+     * @param inExceptionHandler the optional exception handler for exceptions generated by the receiver of the flow
+     * @param inRingBufferSettings the optional ring buffer settings, used only by {@link #RING_BUFFER}
+     * @return the coupler for this data coupling mode.
+     */
+    abstract AbstractDataCoupler createCoupler(ModuleManager inManager,
+                                               Module inEmitter,
+                                               Module inReceiver,
+                                               DataFlowID inFlowID,
+                                               DataFlowExceptionHandler inExceptionHandler,
+                                               RingBufferSettings inRingBufferSettings);
+}
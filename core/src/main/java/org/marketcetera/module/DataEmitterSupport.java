@@ -26,6 +26,20 @@ public interface DataEmitterSupport {
      */
     public void send(Object data);
 
+    /**
+     * Sends several data objects to any downstream module in one call.
+     *
+     * <p>Receivers that implement {@link BatchDataReceiver} receive the
+     * data objects in one call as well, others receive them one at a time.
+     * The array is not retained once this method returns, so the emitter
+     * may reuse it.
+     *
+     * @param inData the data objects, starting at index 0
+     * @param inCount the number of elements of the array that hold data
+     */
+    public void sendBatch(Object[] inData,
+                          int inCount);
+
     /**
      * If the data emitter is facing an error that might inhibit
      * it from being able to emit data.
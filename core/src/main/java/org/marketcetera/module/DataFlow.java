@@ -120,7 +120,8 @@ class DataFlow {
                                                                     inModules[i],
                                                                     inModules[i + 1],
                                                                     mFlowID,
-                                                                    mRequests[i+1].getExceptionHandler());
+                                                                    mRequests[i+1].getExceptionHandler(),
+                                                                    mRequests[i].getRingBufferSettings());
         }
     }
 
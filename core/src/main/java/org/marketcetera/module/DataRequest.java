@@ -55,17 +55,39 @@ public final class DataRequest
      * @param inRequestUrn a <code>ModuleURN</code> value
      * @param inCoupling a <code>DataCoupling</code> value
      * @param inExceptionHandler a <code>DataFlowExceptionHandler</code> value
+     * @param inRingBufferSettings a <code>RingBufferSettings</code> value or <code>null</code> to use the defaults
      * @param inData an <code>Object</code> value
      */
     public DataRequest(ModuleURN inRequestUrn,
                        DataCoupling inCoupling,
                        DataFlowExceptionHandler inExceptionHandler,
+                       RingBufferSettings inRingBufferSettings,
                        Object inData)
     {
         super(inCoupling == null ? DataCoupling.SYNC : inCoupling,
               inRequestUrn);
         mData = inData;
         exceptionHandler = inExceptionHandler;
+        ringBufferSettings = inRingBufferSettings;
+    }
+    /**
+     * Create a new DataRequest instance.
+     *
+     * @param inRequestUrn a <code>ModuleURN</code> value
+     * @param inCoupling a <code>DataCoupling</code> value
+     * @param inExceptionHandler a <code>DataFlowExceptionHandler</code> value
+     * @param inData an <code>Object</code> value
+     */
+    public DataRequest(ModuleURN inRequestUrn,
+                       DataCoupling inCoupling,
+                       DataFlowExceptionHandler inExceptionHandler,
+                       Object inData)
+    {
+        this(inRequestUrn,
+             inCoupling,
+             inExceptionHandler,
+             null,
+             inData);
     }
     /**
      * Create a new DataRequest instance.
@@ -144,6 +166,17 @@ public final class DataRequest
     {
         return exceptionHandler;
     }
+    /**
+     * Get the ringBufferSettings value.
+     *
+     * <p>The settings apply only if the coupling is {@link DataCoupling#RING_BUFFER}.
+     *
+     * @return a <code>RingBufferSettings</code> value or <code>null</code> to use the {@link RingBufferSettings#getDefault() defaults}
+     */
+    public RingBufferSettings getRingBufferSettings()
+    {
+        return ringBufferSettings;
+    }
     /**
      * Converts this request to a string data request instance.
      * The returned instance is similar to this instance except
@@ -170,6 +203,10 @@ public final class DataRequest
      * optional exception handler for data reception events
      */
     private final DataFlowExceptionHandler exceptionHandler;
+    /**
+     * optional settings of a ring buffer coupling
+     */
+    private final RingBufferSettings ringBufferSettings;
     /**
      * data object passed as object of data request
      */
@@ -0,0 +1,404 @@
+package org.marketcetera.module;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.lmax.disruptor.BatchEventProcessor;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/* $License$ */
+
+/**
+ * Manages asynchronous data flow coupling through a preallocated ring buffer.
+ *
+ * <p>Unlike {@link AsyncCoupler}, adding data to the coupler does not allocate and the receiver is handed all the data
+ * available each time it wakes up: in one call if it implements {@link BatchDataReceiver}, otherwise one data object at
+ * a time. Metrics are updated once per batch and the backlog is measured only when the metrics are read.
+ *
+ * <p>The ring buffer has a single producer: the emitter must not emit data for the same data flow from more than one
+ * thread at a time. If the ring buffer is full, the emitter waits until the receiver catches up or the data flow is
+ * canceled.
+ *
+ * <p>The size of the ring buffer and the strategy the receiver uses to wait for data are given for each data flow with
+ * the {@link RingBufferSettings} of its {@link DataRequest}. If the request has none, they are set with the
+ * {@value #BUFFER_SIZE_PROPERTY} and {@value #WAIT_STRATEGY_PROPERTY} system properties.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class RingBufferCoupler
+        extends AbstractDataCoupler
+{
+    /**
+     * Create a new RingBufferCoupler instance.
+     *
+     * @param inManager a <code>ModuleManager</code> value
+     * @param inEmitter a <code>Module</code> value
+     * @param inReceiver a <code>Module</code> value
+     * @param inFlowID a <code>DataFlowID</code> value
+     * @param inExceptionHandler a <code>DataFlowExceptionHandler</code> value
+     * @param inSettings a <code>RingBufferSettings</code> value or <code>null</code> to use the {@link RingBufferSettings#getDefault() defaults}
+     */
+    RingBufferCoupler(ModuleManager inManager,
+                      Module inEmitter,
+                      Module inReceiver,
+                      DataFlowID inFlowID,
+                      DataFlowExceptionHandler inExceptionHandler,
+                      RingBufferSettings inSettings)
+    {
+        super(inManager,
+              inEmitter,
+              inReceiver,
+              inFlowID,
+              inExceptionHandler);
+        RingBufferSettings settings = inSettings == null ? RingBufferSettings.getDefault() : inSettings;
+        bufferSize = settings.getBufferSize();
+        waitStrategy = settings.getWaitStrategy();
+        batchReceiver = inReceiver instanceof BatchDataReceiver;
+    }
+    /**
+     * Indicates how the receiver waits for data.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    public enum WaitStrategyType
+    {
+        /**
+         * spins continuously, lowest latency but uses a full core per data flow
+         */
+        BUSY_SPIN {
+            @Override
+            WaitStrategy create()
+            {
+                return new BusySpinWaitStrategy();
+            }
+        },
+        /**
+         * spins and yields the thread between attempts
+         */
+        YIELD {
+            @Override
+            WaitStrategy create()
+            {
+                return new YieldingWaitStrategy();
+            }
+        },
+        /**
+         * spins briefly, then yields, then parks the thread for short periods
+         */
+        PARK {
+            @Override
+            WaitStrategy create()
+            {
+                return new SleepingWaitStrategy();
+            }
+        },
+        /**
+         * blocks on a lock until data is available, lowest CPU use
+         */
+        BLOCK {
+            @Override
+            WaitStrategy create()
+            {
+                return new BlockingWaitStrategy();
+            }
+        };
+        /**
+         * Creates a new wait strategy of this type.
+         *
+         * @return a <code>WaitStrategy</code> value
+         */
+        abstract WaitStrategy create();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#process(java.lang.Object)
+     */
+    @Override
+    protected void process(Object inData)
+    {
+        RingBuffer<DataEvent> buffer = ringBuffer;
+        if(buffer == null) {
+            return;
+        }
+        // wait for the receiver to make room, unless the data flow is canceled meanwhile
+        while(!buffer.tryPublishEvent(TRANSLATOR,
+                                      inData)) {
+            if(ringBuffer != buffer) {
+                return;
+            }
+            LockSupport.parkNanos(1);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#processBatch(java.lang.Object[], int)
+     */
+    @Override
+    protected void processBatch(Object[] inData,
+                                int inCount)
+    {
+        RingBuffer<DataEvent> buffer = ringBuffer;
+        if(buffer == null) {
+            return;
+        }
+        int published = 0;
+        while(published < inCount) {
+            int chunk = Math.min(inCount - published,
+                                 bufferSize);
+            if(buffer.tryPublishEvents(TRANSLATOR,
+                                       published,
+                                       chunk,
+                                       inData)) {
+                published += chunk;
+            } else if(ringBuffer != buffer) {
+                return;
+            } else {
+                LockSupport.parkNanos(1);
+            }
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#preInitiate()
+     */
+    @Override
+    protected void preInitiate()
+    {
+        final RingBuffer<DataEvent> buffer = RingBuffer.createSingleProducer(FACTORY,
+                                                                             bufferSize,
+                                                                             waitStrategy.create());
+        processor = new BatchEventProcessor<>(buffer,
+                                              buffer.newBarrier(),
+                                              new Handler());
+        buffer.addGatingSequences(processor.getSequence());
+        String prefix = name(getClass().getSimpleName(),
+                             getFlowID().getValue());
+        backlogMetricName = name(prefix,
+                                 "backlog"); //$NON-NLS-1$
+        batchSizeMetricName = name(prefix,
+                                   "batchSize"); //$NON-NLS-1$
+        processMetricName = name(prefix,
+                                 "processMeter"); //$NON-NLS-1$
+        try {
+            metrics.register(backlogMetricName,
+                             new Gauge<Long>() {
+                @Override
+                public Long getValue()
+                {
+                    return buffer.getBufferSize() - buffer.remainingCapacity();
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            SLF4JLoggerProxy.debug(this,
+                                   e);
+        }
+        batchSizeMetric = metrics.histogram(batchSizeMetricName);
+        processMetric = metrics.meter(processMetricName);
+        ringBuffer = buffer;
+        thread = new Thread(processor,
+                            prefix);
+        thread.start();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.AbstractDataCoupler#postCancel()
+     */
+    @Override
+    protected void postCancel()
+    {
+        ringBuffer = null;
+        if(processor != null) {
+            processor.halt();
+            // the receiver may cancel the data flow from the processor thread
+            if(thread != null && thread != Thread.currentThread()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            processor = null;
+            thread = null;
+        }
+        for(String metricName : new String[] { backlogMetricName, batchSizeMetricName, processMetricName }) {
+            if(metricName != null) {
+                try {
+                    metrics.remove(metricName);
+                } catch (Exception ignored) {}
+            }
+        }
+    }
+    /**
+     * Holds a data object in the ring buffer.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class DataEvent
+    {
+        /**
+         * data object value
+         */
+        private Object data;
+    }
+    /**
+     * Delivers data from the ring buffer to the receiver.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class Handler
+            implements EventHandler<DataEvent>
+    {
+        /* (non-Javadoc)
+         * @see com.lmax.disruptor.EventHandler#onEvent(java.lang.Object, long, boolean)
+         */
+        @Override
+        public void onEvent(DataEvent inEvent,
+                            long inSequence,
+                            boolean inEndOfBatch)
+        {
+            Object data = inEvent.data;
+            // release the data so the ring buffer does not keep it alive
+            inEvent.data = null;
+            if(batchReceiver) {
+                batch[batchSize] = data;
+            } else {
+                receive(data);
+            }
+            batchSize += 1;
+            if(inEndOfBatch || (batchReceiver && batchSize == batch.length)) {
+                if(batchReceiver) {
+                    if(batchSize == 1) {
+                        receive(batch[0]);
+                    } else {
+                        receiveBatch(batch,
+                                     batchSize);
+                    }
+                    Arrays.fill(batch,
+                                0,
+                                batchSize,
+                                null);
+                }
+                batchSizeMetric.update(batchSize);
+                processMetric.mark(batchSize);
+                batchSize = 0;
+            }
+        }
+        /**
+         * number of data objects delivered in the current batch
+         */
+        private int batchSize;
+        /**
+         * holds the current batch for a {@link BatchDataReceiver}
+         */
+        private final Object[] batch = new Object[batchReceiver ? bufferSize : 1];
+    }
+    /**
+     * system property used to set the ring buffer size, which must be a power of 2
+     */
+    public static final String BUFFER_SIZE_PROPERTY = "metc.module.ringbuffer.size"; //$NON-NLS-1$
+    /**
+     * system property used to set the {@link WaitStrategyType}
+     */
+    public static final String WAIT_STRATEGY_PROPERTY = "metc.module.ringbuffer.wait"; //$NON-NLS-1$
+    /**
+     * default ring buffer size
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    /**
+     * default wait strategy
+     */
+    public static final WaitStrategyType DEFAULT_WAIT_STRATEGY = WaitStrategyType.PARK;
+    /**
+     * preallocates ring buffer entries
+     */
+    private static final EventFactory<DataEvent> FACTORY = new EventFactory<DataEvent>() {
+        @Override
+        public DataEvent newInstance()
+        {
+            return new DataEvent();
+        }
+    };
+    /**
+     * copies data objects into ring buffer entries
+     */
+    private static final EventTranslatorOneArg<DataEvent,Object> TRANSLATOR = new EventTranslatorOneArg<DataEvent,Object>() {
+        @Override
+        public void translateTo(DataEvent inEvent,
+                                long inSequence,
+                                Object inData)
+        {
+            inEvent.data = inData;
+        }
+    };
+    /**
+     * ring buffer size
+     */
+    private final int bufferSize;
+    /**
+     * wait strategy of the receiver
+     */
+    private final WaitStrategyType waitStrategy;
+    /**
+     * indicates if the receiver implements {@link BatchDataReceiver}
+     */
+    private final boolean batchReceiver;
+    /**
+     * main metrics object
+     */
+    private final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * ring buffer holding data not yet delivered, <code>null</code> if the data flow is not active
+     */
+    private volatile RingBuffer<DataEvent> ringBuffer;
+    /**
+     * delivers data to the receiver
+     */
+    private BatchEventProcessor<DataEvent> processor;
+    /**
+     * thread running the processor
+     */
+    private Thread thread;
+    /**
+     * name of the backlog gauge
+     */
+    private String backlogMetricName;
+    /**
+     * name of the batch size histogram
+     */
+    private String batchSizeMetricName;
+    /**
+     * name of the process meter
+     */
+    private String processMetricName;
+    /**
+     * measures the size of delivered batches
+     */
+    private Histogram batchSizeMetric;
+    /**
+     * measures the delivery rate
+     */
+    private Meter processMetric;
+}
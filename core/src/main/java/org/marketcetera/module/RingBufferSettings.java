@@ -0,0 +1,94 @@
+package org.marketcetera.module;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.Validate;
+import org.marketcetera.module.RingBufferCoupler.WaitStrategyType;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Sets the size and wait strategy of the ring buffer of a {@link DataCoupling#RING_BUFFER} data flow.
+ *
+ * <p>Settings are given for a data flow with its {@link DataRequest}. Data flows requested without settings use
+ * {@link #getDefault() the defaults} set with the {@value RingBufferCoupler#BUFFER_SIZE_PROPERTY} and
+ * {@value RingBufferCoupler#WAIT_STRATEGY_PROPERTY} system properties.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@Immutable
+@ClassVersion("$Id$")
+public class RingBufferSettings
+        implements Serializable
+{
+    /**
+     * Create a new RingBufferSettings instance.
+     *
+     * @param inBufferSize an <code>int</code> value, must be a power of 2
+     * @param inWaitStrategy a <code>WaitStrategyType</code> value
+     * @throws IllegalArgumentException if the buffer size is not a power of 2 or the wait strategy is <code>null</code>
+     */
+    public RingBufferSettings(int inBufferSize,
+                              WaitStrategyType inWaitStrategy)
+    {
+        Validate.isTrue(inBufferSize > 0 && Integer.bitCount(inBufferSize) == 1);
+        Validate.notNull(inWaitStrategy);
+        bufferSize = inBufferSize;
+        waitStrategy = inWaitStrategy;
+    }
+    /**
+     * Gets the settings given by the {@value RingBufferCoupler#BUFFER_SIZE_PROPERTY} and
+     * {@value RingBufferCoupler#WAIT_STRATEGY_PROPERTY} system properties.
+     *
+     * @return a <code>RingBufferSettings</code> value
+     * @throws IllegalArgumentException if a system property has an invalid value
+     */
+    public static RingBufferSettings getDefault()
+    {
+        String waitStrategy = StringUtils.trimToNull(System.getProperty(RingBufferCoupler.WAIT_STRATEGY_PROPERTY));
+        return new RingBufferSettings(Integer.getInteger(RingBufferCoupler.BUFFER_SIZE_PROPERTY,
+                                                         RingBufferCoupler.DEFAULT_BUFFER_SIZE),
+                                      waitStrategy == null ? RingBufferCoupler.DEFAULT_WAIT_STRATEGY : WaitStrategyType.valueOf(waitStrategy.toUpperCase()));
+    }
+    /**
+     * Get the bufferSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getBufferSize()
+    {
+        return bufferSize;
+    }
+    /**
+     * Get the waitStrategy value.
+     *
+     * @return a <code>WaitStrategyType</code> value
+     */
+    public WaitStrategyType getWaitStrategy()
+    {
+        return waitStrategy;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append("RingBufferSettings [bufferSize=").append(bufferSize).append(", waitStrategy=").append(waitStrategy).append("]").toString(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+    /**
+     * ring buffer size
+     */
+    private final int bufferSize;
+    /**
+     * wait strategy of the receiver
+     */
+    private final WaitStrategyType waitStrategy;
+    private static final long serialVersionUID = 5014312378458621735L;
+}
@@ -43,4 +43,9 @@ class SyncCoupler
     protected void process(Object inData) {
         receive(inData);
     }
+
+    @Override
+    protected void processBatch(Object[] inData, int inCount) {
+        receiveBatch(inData, inCount);
+    }
 }
@@ -0,0 +1,11630 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: rpc_payload.proto
+
+package org.marketcetera.rpc;
+
+@SuppressWarnings("unused")
+public final class PayloadRpc {
+  private PayloadRpc() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  /**
+   * Protobuf enum {@code payload.PayloadFormat}
+   */
+  public enum PayloadFormat
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>XML = 0;</code>
+     */
+    XML(0, 0),
+    /**
+     * <code>PROTOBUF = 1;</code>
+     */
+    PROTOBUF(1, 1),
+    ;
+
+    /**
+     * <code>XML = 0;</code>
+     */
+    public static final int XML_VALUE = 0;
+    /**
+     * <code>PROTOBUF = 1;</code>
+     */
+    public static final int PROTOBUF_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static PayloadFormat valueOf(int value) {
+      switch (value) {
+        case 0: return XML;
+        case 1: return PROTOBUF;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<PayloadFormat>() {
+            public PayloadFormat findValueByNumber(int number) {
+              return PayloadFormat.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final PayloadFormat[] VALUES = values();
+
+    public static PayloadFormat valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private PayloadFormat(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.PayloadFormat)
+  }
+
+  /**
+   * Protobuf enum {@code payload.InstrumentType}
+   */
+  public enum InstrumentType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>EQUITY = 0;</code>
+     */
+    EQUITY(0, 0),
+    /**
+     * <code>OPTION = 1;</code>
+     */
+    OPTION(1, 1),
+    /**
+     * <code>FUTURE = 2;</code>
+     */
+    FUTURE(2, 2),
+    /**
+     * <code>CURRENCY = 3;</code>
+     */
+    CURRENCY(3, 3),
+    ;
+
+    /**
+     * <code>EQUITY = 0;</code>
+     */
+    public static final int EQUITY_VALUE = 0;
+    /**
+     * <code>OPTION = 1;</code>
+     */
+    public static final int OPTION_VALUE = 1;
+    /**
+     * <code>FUTURE = 2;</code>
+     */
+    public static final int FUTURE_VALUE = 2;
+    /**
+     * <code>CURRENCY = 3;</code>
+     */
+    public static final int CURRENCY_VALUE = 3;
+
+
+    public final int getNumber() { return value; }
+
+    public static InstrumentType valueOf(int value) {
+      switch (value) {
+        case 0: return EQUITY;
+        case 1: return OPTION;
+        case 2: return FUTURE;
+        case 3: return CURRENCY;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<InstrumentType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<InstrumentType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<InstrumentType>() {
+            public InstrumentType findValueByNumber(int number) {
+              return InstrumentType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final InstrumentType[] VALUES = values();
+
+    public static InstrumentType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private InstrumentType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.InstrumentType)
+  }
+
+  /**
+   * Protobuf enum {@code payload.ReportType}
+   */
+  public enum ReportType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ExecutionReport = 0;</code>
+     */
+    ExecutionReport(0, 0),
+    /**
+     * <code>OrderCancelReject = 1;</code>
+     */
+    OrderCancelReject(1, 1),
+    ;
+
+    /**
+     * <code>ExecutionReport = 0;</code>
+     */
+    public static final int ExecutionReport_VALUE = 0;
+    /**
+     * <code>OrderCancelReject = 1;</code>
+     */
+    public static final int OrderCancelReject_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static ReportType valueOf(int value) {
+      switch (value) {
+        case 0: return ExecutionReport;
+        case 1: return OrderCancelReject;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ReportType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<ReportType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ReportType>() {
+            public ReportType findValueByNumber(int number) {
+              return ReportType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(2);
+    }
+
+    private static final ReportType[] VALUES = values();
+
+    public static ReportType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private ReportType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.ReportType)
+  }
+
+  /**
+   * Protobuf enum {@code payload.Originator}
+   */
+  public enum Originator
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>Server = 0;</code>
+     */
+    Server(0, 0),
+    /**
+     * <code>Broker = 1;</code>
+     */
+    Broker(1, 1),
+    ;
+
+    /**
+     * <code>Server = 0;</code>
+     */
+    public static final int Server_VALUE = 0;
+    /**
+     * <code>Broker = 1;</code>
+     */
+    public static final int Broker_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static Originator valueOf(int value) {
+      switch (value) {
+        case 0: return Server;
+        case 1: return Broker;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Originator>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<Originator>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Originator>() {
+            public Originator findValueByNumber(int number) {
+              return Originator.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(3);
+    }
+
+    private static final Originator[] VALUES = values();
+
+    public static Originator valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private Originator(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.Originator)
+  }
+
+  /**
+   * Protobuf enum {@code payload.Hierarchy}
+   */
+  public enum Hierarchy
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>Flat = 0;</code>
+     */
+    Flat(0, 0),
+    /**
+     * <code>Parent = 1;</code>
+     */
+    Parent(1, 1),
+    /**
+     * <code>Child = 2;</code>
+     */
+    Child(2, 2),
+    ;
+
+    /**
+     * <code>Flat = 0;</code>
+     */
+    public static final int Flat_VALUE = 0;
+    /**
+     * <code>Parent = 1;</code>
+     */
+    public static final int Parent_VALUE = 1;
+    /**
+     * <code>Child = 2;</code>
+     */
+    public static final int Child_VALUE = 2;
+
+
+    public final int getNumber() { return value; }
+
+    public static Hierarchy valueOf(int value) {
+      switch (value) {
+        case 0: return Flat;
+        case 1: return Parent;
+        case 2: return Child;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Hierarchy>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<Hierarchy>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Hierarchy>() {
+            public Hierarchy findValueByNumber(int number) {
+              return Hierarchy.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(4);
+    }
+
+    private static final Hierarchy[] VALUES = values();
+
+    public static Hierarchy valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private Hierarchy(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.Hierarchy)
+  }
+
+  /**
+   * Protobuf enum {@code payload.EventClass}
+   */
+  public enum EventClass
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>BID = 0;</code>
+     */
+    BID(0, 0),
+    /**
+     * <code>ASK = 1;</code>
+     */
+    ASK(1, 1),
+    /**
+     * <code>TRADE = 2;</code>
+     */
+    TRADE(2, 2),
+    /**
+     * <code>MARKETSTAT = 3;</code>
+     */
+    MARKETSTAT(3, 3),
+    ;
+
+    /**
+     * <code>BID = 0;</code>
+     */
+    public static final int BID_VALUE = 0;
+    /**
+     * <code>ASK = 1;</code>
+     */
+    public static final int ASK_VALUE = 1;
+    /**
+     * <code>TRADE = 2;</code>
+     */
+    public static final int TRADE_VALUE = 2;
+    /**
+     * <code>MARKETSTAT = 3;</code>
+     */
+    public static final int MARKETSTAT_VALUE = 3;
+
+
+    public final int getNumber() { return value; }
+
+    public static EventClass valueOf(int value) {
+      switch (value) {
+        case 0: return BID;
+        case 1: return ASK;
+        case 2: return TRADE;
+        case 3: return MARKETSTAT;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EventClass>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<EventClass>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EventClass>() {
+            public EventClass findValueByNumber(int number) {
+              return EventClass.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(5);
+    }
+
+    private static final EventClass[] VALUES = values();
+
+    public static EventClass valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private EventClass(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.EventClass)
+  }
+
+  /**
+   * Protobuf enum {@code payload.EventType}
+   */
+  public enum EventType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>SNAPSHOT_PART = 0;</code>
+     */
+    SNAPSHOT_PART(0, 0),
+    /**
+     * <code>SNAPSHOT_FINAL = 1;</code>
+     */
+    SNAPSHOT_FINAL(1, 1),
+    /**
+     * <code>UPDATE_PART = 2;</code>
+     */
+    UPDATE_PART(2, 2),
+    /**
+     * <code>UPDATE_FINAL = 3;</code>
+     */
+    UPDATE_FINAL(3, 3),
+    /**
+     * <code>UNKNOWN = 4;</code>
+     */
+    UNKNOWN(4, 4),
+    ;
+
+    /**
+     * <code>SNAPSHOT_PART = 0;</code>
+     */
+    public static final int SNAPSHOT_PART_VALUE = 0;
+    /**
+     * <code>SNAPSHOT_FINAL = 1;</code>
+     */
+    public static final int SNAPSHOT_FINAL_VALUE = 1;
+    /**
+     * <code>UPDATE_PART = 2;</code>
+     */
+    public static final int UPDATE_PART_VALUE = 2;
+    /**
+     * <code>UPDATE_FINAL = 3;</code>
+     */
+    public static final int UPDATE_FINAL_VALUE = 3;
+    /**
+     * <code>UNKNOWN = 4;</code>
+     */
+    public static final int UNKNOWN_VALUE = 4;
+
+
+    public final int getNumber() { return value; }
+
+    public static EventType valueOf(int value) {
+      switch (value) {
+        case 0: return SNAPSHOT_PART;
+        case 1: return SNAPSHOT_FINAL;
+        case 2: return UPDATE_PART;
+        case 3: return UPDATE_FINAL;
+        case 4: return UNKNOWN;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EventType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<EventType>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EventType>() {
+            public EventType findValueByNumber(int number) {
+              return EventType.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(6);
+    }
+
+    private static final EventType[] VALUES = values();
+
+    public static EventType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private EventType(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.EventType)
+  }
+
+  /**
+   * Protobuf enum {@code payload.QuoteAction}
+   */
+  public enum QuoteAction
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ADD = 0;</code>
+     */
+    ADD(0, 0),
+    /**
+     * <code>CHANGE = 1;</code>
+     */
+    CHANGE(1, 1),
+    /**
+     * <code>DELETE = 2;</code>
+     */
+    DELETE(2, 2),
+    ;
+
+    /**
+     * <code>ADD = 0;</code>
+     */
+    public static final int ADD_VALUE = 0;
+    /**
+     * <code>CHANGE = 1;</code>
+     */
+    public static final int CHANGE_VALUE = 1;
+    /**
+     * <code>DELETE = 2;</code>
+     */
+    public static final int DELETE_VALUE = 2;
+
+
+    public final int getNumber() { return value; }
+
+    public static QuoteAction valueOf(int value) {
+      switch (value) {
+        case 0: return ADD;
+        case 1: return CHANGE;
+        case 2: return DELETE;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<QuoteAction>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<QuoteAction>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<QuoteAction>() {
+            public QuoteAction findValueByNumber(int number) {
+              return QuoteAction.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.getDescriptor().getEnumTypes().get(7);
+    }
+
+    private static final QuoteAction[] VALUES = values();
+
+    public static QuoteAction valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private QuoteAction(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:payload.QuoteAction)
+  }
+
+  public interface InstrumentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:payload.Instrument)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+     */
+    boolean hasInstrumentType();
+    /**
+     * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentType getInstrumentType();
+
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    boolean hasSymbol();
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    java.lang.String getSymbol();
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getSymbolBytes();
+
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    boolean hasSymbolSfx();
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    java.lang.String getSymbolSfx();
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getSymbolSfxBytes();
+
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    boolean hasExpiry();
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    java.lang.String getExpiry();
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getExpiryBytes();
+
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    boolean hasStrikePrice();
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    java.lang.String getStrikePrice();
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getStrikePriceBytes();
+
+    /**
+     * <code>optional bool call = 6;</code>
+     */
+    boolean hasCall();
+    /**
+     * <code>optional bool call = 6;</code>
+     */
+    boolean getCall();
+
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    boolean hasLeftCcy();
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    java.lang.String getLeftCcy();
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getLeftCcyBytes();
+
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    boolean hasRightCcy();
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    java.lang.String getRightCcy();
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getRightCcyBytes();
+
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    boolean hasNearTenor();
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    java.lang.String getNearTenor();
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getNearTenorBytes();
+
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    boolean hasFarTenor();
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    java.lang.String getFarTenor();
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getFarTenorBytes();
+
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    boolean hasTradedCcy();
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    java.lang.String getTradedCcy();
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradedCcyBytes();
+
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    java.lang.String getPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes();
+  }
+  /**
+   * Protobuf type {@code payload.Instrument}
+   */
+  public static final class Instrument extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:payload.Instrument)
+      InstrumentOrBuilder {
+    // Use Instrument.newBuilder() to construct.
+    private Instrument(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Instrument(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Instrument defaultInstance;
+    public static Instrument getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Instrument getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Instrument(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.InstrumentType value = org.marketcetera.rpc.PayloadRpc.InstrumentType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                instrumentType_ = value;
+              }
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              symbol_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              symbolSfx_ = bs;
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              expiry_ = bs;
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              strikePrice_ = bs;
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              call_ = input.readBool();
+              break;
+            }
+            case 58: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000040;
+              leftCcy_ = bs;
+              break;
+            }
+            case 66: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000080;
+              rightCcy_ = bs;
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              nearTenor_ = bs;
+              break;
+            }
+            case 82: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000200;
+              farTenor_ = bs;
+              break;
+            }
+            case 90: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000400;
+              tradedCcy_ = bs;
+              break;
+            }
+            case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000800;
+              payload_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Instrument_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Instrument_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.rpc.PayloadRpc.Instrument.class, org.marketcetera.rpc.PayloadRpc.Instrument.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Instrument> PARSER =
+        new com.google.protobuf.AbstractParser<Instrument>() {
+      public Instrument parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Instrument(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Instrument> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int INSTRUMENTTYPE_FIELD_NUMBER = 1;
+    private org.marketcetera.rpc.PayloadRpc.InstrumentType instrumentType_;
+    /**
+     * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+     */
+    public boolean hasInstrumentType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentType getInstrumentType() {
+      return instrumentType_;
+    }
+
+    public static final int SYMBOL_FIELD_NUMBER = 2;
+    private java.lang.Object symbol_;
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public boolean hasSymbol() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public java.lang.String getSymbol() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          symbol_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string symbol = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSymbolBytes() {
+      java.lang.Object ref = symbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SYMBOLSFX_FIELD_NUMBER = 3;
+    private java.lang.Object symbolSfx_;
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    public boolean hasSymbolSfx() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    public java.lang.String getSymbolSfx() {
+      java.lang.Object ref = symbolSfx_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          symbolSfx_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string symbolSfx = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSymbolSfxBytes() {
+      java.lang.Object ref = symbolSfx_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        symbolSfx_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXPIRY_FIELD_NUMBER = 4;
+    private java.lang.Object expiry_;
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    public boolean hasExpiry() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    public java.lang.String getExpiry() {
+      java.lang.Object ref = expiry_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          expiry_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string expiry = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExpiryBytes() {
+      java.lang.Object ref = expiry_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        expiry_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STRIKEPRICE_FIELD_NUMBER = 5;
+    private java.lang.Object strikePrice_;
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    public boolean hasStrikePrice() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    public java.lang.String getStrikePrice() {
+      java.lang.Object ref = strikePrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          strikePrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string strikePrice = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStrikePriceBytes() {
+      java.lang.Object ref = strikePrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        strikePrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CALL_FIELD_NUMBER = 6;
+    private boolean call_;
+    /**
+     * <code>optional bool call = 6;</code>
+     */
+    public boolean hasCall() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bool call = 6;</code>
+     */
+    public boolean getCall() {
+      return call_;
+    }
+
+    public static final int LEFTCCY_FIELD_NUMBER = 7;
+    private java.lang.Object leftCcy_;
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    public boolean hasLeftCcy() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    public java.lang.String getLeftCcy() {
+      java.lang.Object ref = leftCcy_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          leftCcy_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string leftCcy = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLeftCcyBytes() {
+      java.lang.Object ref = leftCcy_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        leftCcy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RIGHTCCY_FIELD_NUMBER = 8;
+    private java.lang.Object rightCcy_;
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    public boolean hasRightCcy() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    public java.lang.String getRightCcy() {
+      java.lang.Object ref = rightCcy_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          rightCcy_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string rightCcy = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRightCcyBytes() {
+      java.lang.Object ref = rightCcy_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rightCcy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NEARTENOR_FIELD_NUMBER = 9;
+    private java.lang.Object nearTenor_;
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public boolean hasNearTenor() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public java.lang.String getNearTenor() {
+      java.lang.Object ref = nearTenor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nearTenor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string nearTenor = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNearTenorBytes() {
+      java.lang.Object ref = nearTenor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nearTenor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FARTENOR_FIELD_NUMBER = 10;
+    private java.lang.Object farTenor_;
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public boolean hasFarTenor() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public java.lang.String getFarTenor() {
+      java.lang.Object ref = farTenor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          farTenor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string farTenor = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFarTenorBytes() {
+      java.lang.Object ref = farTenor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        farTenor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADEDCCY_FIELD_NUMBER = 11;
+    private java.lang.Object tradedCcy_;
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    public boolean hasTradedCcy() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    public java.lang.String getTradedCcy() {
+      java.lang.Object ref = tradedCcy_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradedCcy_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradedCcy = 11;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradedCcyBytes() {
+      java.lang.Object ref = tradedCcy_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradedCcy_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 15;
+    private java.lang.Object payload_;
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public java.lang.String getPayload() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          payload_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPayloadBytes() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        payload_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      instrumentType_ = org.marketcetera.rpc.PayloadRpc.InstrumentType.EQUITY;
+      symbol_ = "";
+      symbolSfx_ = "";
+      expiry_ = "";
+      strikePrice_ = "";
+      call_ = false;
+      leftCcy_ = "";
+      rightCcy_ = "";
+      nearTenor_ = "";
+      farTenor_ = "";
+      tradedCcy_ = "";
+      payload_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, instrumentType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getSymbolBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getSymbolSfxBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getExpiryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getStrikePriceBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBool(6, call_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getLeftCcyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getRightCcyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getNearTenorBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(10, getFarTenorBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(11, getTradedCcyBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(15, getPayloadBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, instrumentType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getSymbolBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getSymbolSfxBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getExpiryBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getStrikePriceBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, call_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getLeftCcyBytes());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getRightCcyBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getNearTenorBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getFarTenorBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, getTradedCcyBytes());
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(15, getPayloadBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Instrument parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.rpc.PayloadRpc.Instrument prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code payload.Instrument}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:payload.Instrument)
+        org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Instrument_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Instrument_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.rpc.PayloadRpc.Instrument.class, org.marketcetera.rpc.PayloadRpc.Instrument.Builder.class);
+      }
+
+      // Construct using org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        instrumentType_ = org.marketcetera.rpc.PayloadRpc.InstrumentType.EQUITY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        symbol_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        symbolSfx_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        expiry_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        strikePrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        call_ = false;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        leftCcy_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rightCcy_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nearTenor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        farTenor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        tradedCcy_ = "";
+        bitField0_ = (bitField0_ & ~0x00000400);
+        payload_ = "";
+        bitField0_ = (bitField0_ & ~0x00000800);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Instrument_descriptor;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Instrument getDefaultInstanceForType() {
+        return org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Instrument build() {
+        org.marketcetera.rpc.PayloadRpc.Instrument result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Instrument buildPartial() {
+        org.marketcetera.rpc.PayloadRpc.Instrument result = new org.marketcetera.rpc.PayloadRpc.Instrument(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.instrumentType_ = instrumentType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.symbol_ = symbol_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.symbolSfx_ = symbolSfx_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.expiry_ = expiry_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.strikePrice_ = strikePrice_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.call_ = call_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.leftCcy_ = leftCcy_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.rightCcy_ = rightCcy_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.nearTenor_ = nearTenor_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.farTenor_ = farTenor_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.tradedCcy_ = tradedCcy_;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.rpc.PayloadRpc.Instrument) {
+          return mergeFrom((org.marketcetera.rpc.PayloadRpc.Instrument)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.rpc.PayloadRpc.Instrument other) {
+        if (other == org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) return this;
+        if (other.hasInstrumentType()) {
+          setInstrumentType(other.getInstrumentType());
+        }
+        if (other.hasSymbol()) {
+          bitField0_ |= 0x00000002;
+          symbol_ = other.symbol_;
+          onChanged();
+        }
+        if (other.hasSymbolSfx()) {
+          bitField0_ |= 0x00000004;
+          symbolSfx_ = other.symbolSfx_;
+          onChanged();
+        }
+        if (other.hasExpiry()) {
+          bitField0_ |= 0x00000008;
+          expiry_ = other.expiry_;
+          onChanged();
+        }
+        if (other.hasStrikePrice()) {
+          bitField0_ |= 0x00000010;
+          strikePrice_ = other.strikePrice_;
+          onChanged();
+        }
+        if (other.hasCall()) {
+          setCall(other.getCall());
+        }
+        if (other.hasLeftCcy()) {
+          bitField0_ |= 0x00000040;
+          leftCcy_ = other.leftCcy_;
+          onChanged();
+        }
+        if (other.hasRightCcy()) {
+          bitField0_ |= 0x00000080;
+          rightCcy_ = other.rightCcy_;
+          onChanged();
+        }
+        if (other.hasNearTenor()) {
+          bitField0_ |= 0x00000100;
+          nearTenor_ = other.nearTenor_;
+          onChanged();
+        }
+        if (other.hasFarTenor()) {
+          bitField0_ |= 0x00000200;
+          farTenor_ = other.farTenor_;
+          onChanged();
+        }
+        if (other.hasTradedCcy()) {
+          bitField0_ |= 0x00000400;
+          tradedCcy_ = other.tradedCcy_;
+          onChanged();
+        }
+        if (other.hasPayload()) {
+          bitField0_ |= 0x00000800;
+          payload_ = other.payload_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.rpc.PayloadRpc.Instrument parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.rpc.PayloadRpc.Instrument) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.marketcetera.rpc.PayloadRpc.InstrumentType instrumentType_ = org.marketcetera.rpc.PayloadRpc.InstrumentType.EQUITY;
+      /**
+       * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+       */
+      public boolean hasInstrumentType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentType getInstrumentType() {
+        return instrumentType_;
+      }
+      /**
+       * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+       */
+      public Builder setInstrumentType(org.marketcetera.rpc.PayloadRpc.InstrumentType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        instrumentType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.InstrumentType instrumentType = 1;</code>
+       */
+      public Builder clearInstrumentType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        instrumentType_ = org.marketcetera.rpc.PayloadRpc.InstrumentType.EQUITY;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object symbol_ = "";
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public boolean hasSymbol() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public java.lang.String getSymbol() {
+        java.lang.Object ref = symbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            symbol_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSymbolBytes() {
+        java.lang.Object ref = symbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder setSymbol(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        symbol_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder clearSymbol() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        symbol_ = getDefaultInstance().getSymbol();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbol = 2;</code>
+       */
+      public Builder setSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        symbol_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object symbolSfx_ = "";
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public boolean hasSymbolSfx() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public java.lang.String getSymbolSfx() {
+        java.lang.Object ref = symbolSfx_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            symbolSfx_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSymbolSfxBytes() {
+        java.lang.Object ref = symbolSfx_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          symbolSfx_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public Builder setSymbolSfx(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        symbolSfx_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public Builder clearSymbolSfx() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        symbolSfx_ = getDefaultInstance().getSymbolSfx();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string symbolSfx = 3;</code>
+       */
+      public Builder setSymbolSfxBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        symbolSfx_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object expiry_ = "";
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public boolean hasExpiry() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public java.lang.String getExpiry() {
+        java.lang.Object ref = expiry_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            expiry_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExpiryBytes() {
+        java.lang.Object ref = expiry_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          expiry_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public Builder setExpiry(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        expiry_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public Builder clearExpiry() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        expiry_ = getDefaultInstance().getExpiry();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expiry = 4;</code>
+       */
+      public Builder setExpiryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        expiry_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object strikePrice_ = "";
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public boolean hasStrikePrice() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public java.lang.String getStrikePrice() {
+        java.lang.Object ref = strikePrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            strikePrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStrikePriceBytes() {
+        java.lang.Object ref = strikePrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          strikePrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public Builder setStrikePrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        strikePrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public Builder clearStrikePrice() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        strikePrice_ = getDefaultInstance().getStrikePrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string strikePrice = 5;</code>
+       */
+      public Builder setStrikePriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        strikePrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean call_ ;
+      /**
+       * <code>optional bool call = 6;</code>
+       */
+      public boolean hasCall() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bool call = 6;</code>
+       */
+      public boolean getCall() {
+        return call_;
+      }
+      /**
+       * <code>optional bool call = 6;</code>
+       */
+      public Builder setCall(boolean value) {
+        bitField0_ |= 0x00000020;
+        call_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool call = 6;</code>
+       */
+      public Builder clearCall() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        call_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object leftCcy_ = "";
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public boolean hasLeftCcy() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public java.lang.String getLeftCcy() {
+        java.lang.Object ref = leftCcy_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            leftCcy_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLeftCcyBytes() {
+        java.lang.Object ref = leftCcy_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          leftCcy_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public Builder setLeftCcy(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        leftCcy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public Builder clearLeftCcy() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        leftCcy_ = getDefaultInstance().getLeftCcy();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string leftCcy = 7;</code>
+       */
+      public Builder setLeftCcyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        leftCcy_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object rightCcy_ = "";
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public boolean hasRightCcy() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public java.lang.String getRightCcy() {
+        java.lang.Object ref = rightCcy_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            rightCcy_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRightCcyBytes() {
+        java.lang.Object ref = rightCcy_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          rightCcy_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public Builder setRightCcy(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        rightCcy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public Builder clearRightCcy() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        rightCcy_ = getDefaultInstance().getRightCcy();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string rightCcy = 8;</code>
+       */
+      public Builder setRightCcyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        rightCcy_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nearTenor_ = "";
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public boolean hasNearTenor() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public java.lang.String getNearTenor() {
+        java.lang.Object ref = nearTenor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            nearTenor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNearTenorBytes() {
+        java.lang.Object ref = nearTenor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nearTenor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder setNearTenor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        nearTenor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder clearNearTenor() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        nearTenor_ = getDefaultInstance().getNearTenor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string nearTenor = 9;</code>
+       */
+      public Builder setNearTenorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        nearTenor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object farTenor_ = "";
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public boolean hasFarTenor() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public java.lang.String getFarTenor() {
+        java.lang.Object ref = farTenor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            farTenor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFarTenorBytes() {
+        java.lang.Object ref = farTenor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          farTenor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder setFarTenor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        farTenor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder clearFarTenor() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        farTenor_ = getDefaultInstance().getFarTenor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string farTenor = 10;</code>
+       */
+      public Builder setFarTenorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        farTenor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradedCcy_ = "";
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public boolean hasTradedCcy() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public java.lang.String getTradedCcy() {
+        java.lang.Object ref = tradedCcy_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradedCcy_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradedCcyBytes() {
+        java.lang.Object ref = tradedCcy_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradedCcy_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public Builder setTradedCcy(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        tradedCcy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public Builder clearTradedCcy() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        tradedCcy_ = getDefaultInstance().getTradedCcy();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradedCcy = 11;</code>
+       */
+      public Builder setTradedCcyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+        tradedCcy_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object payload_ = "";
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public java.lang.String getPayload() {
+        java.lang.Object ref = payload_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            payload_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes() {
+        java.lang.Object ref = payload_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          payload_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:payload.Instrument)
+    }
+
+    static {
+      defaultInstance = new Instrument(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:payload.Instrument)
+  }
+
+  public interface ReportOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:payload.Report)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .payload.ReportType reportType = 1;</code>
+     */
+    boolean hasReportType();
+    /**
+     * <code>optional .payload.ReportType reportType = 1;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.ReportType getReportType();
+
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    boolean hasMessage();
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    boolean hasBrokerId();
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    java.lang.String getBrokerId();
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getBrokerIdBytes();
+
+    /**
+     * <code>optional .payload.Originator originator = 4;</code>
+     */
+    boolean hasOriginator();
+    /**
+     * <code>optional .payload.Originator originator = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Originator getOriginator();
+
+    /**
+     * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+     */
+    boolean hasHierarchy();
+    /**
+     * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Hierarchy getHierarchy();
+
+    /**
+     * <code>optional int64 actorId = 6;</code>
+     */
+    boolean hasActorId();
+    /**
+     * <code>optional int64 actorId = 6;</code>
+     */
+    long getActorId();
+
+    /**
+     * <code>optional int64 viewerId = 7;</code>
+     */
+    boolean hasViewerId();
+    /**
+     * <code>optional int64 viewerId = 7;</code>
+     */
+    long getViewerId();
+
+    /**
+     * <code>optional int64 reportId = 8;</code>
+     */
+    boolean hasReportId();
+    /**
+     * <code>optional int64 reportId = 8;</code>
+     */
+    long getReportId();
+
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    java.lang.String getPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes();
+  }
+  /**
+   * Protobuf type {@code payload.Report}
+   */
+  public static final class Report extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:payload.Report)
+      ReportOrBuilder {
+    // Use Report.newBuilder() to construct.
+    private Report(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Report(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Report defaultInstance;
+    public static Report getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Report getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Report(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.ReportType value = org.marketcetera.rpc.PayloadRpc.ReportType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                reportType_ = value;
+              }
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              message_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              brokerId_ = bs;
+              break;
+            }
+            case 32: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.Originator value = org.marketcetera.rpc.PayloadRpc.Originator.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                originator_ = value;
+              }
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.Hierarchy value = org.marketcetera.rpc.PayloadRpc.Hierarchy.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(5, rawValue);
+              } else {
+                bitField0_ |= 0x00000010;
+                hierarchy_ = value;
+              }
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              actorId_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000040;
+              viewerId_ = input.readInt64();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              reportId_ = input.readInt64();
+              break;
+            }
+            case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              payload_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Report_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Report_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.rpc.PayloadRpc.Report.class, org.marketcetera.rpc.PayloadRpc.Report.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Report> PARSER =
+        new com.google.protobuf.AbstractParser<Report>() {
+      public Report parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Report(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Report> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int REPORTTYPE_FIELD_NUMBER = 1;
+    private org.marketcetera.rpc.PayloadRpc.ReportType reportType_;
+    /**
+     * <code>optional .payload.ReportType reportType = 1;</code>
+     */
+    public boolean hasReportType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .payload.ReportType reportType = 1;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.ReportType getReportType() {
+      return reportType_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 2;
+    private java.lang.Object message_;
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    public boolean hasMessage() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          message_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string message = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BROKERID_FIELD_NUMBER = 3;
+    private java.lang.Object brokerId_;
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    public boolean hasBrokerId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    public java.lang.String getBrokerId() {
+      java.lang.Object ref = brokerId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          brokerId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string brokerId = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getBrokerIdBytes() {
+      java.lang.Object ref = brokerId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        brokerId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ORIGINATOR_FIELD_NUMBER = 4;
+    private org.marketcetera.rpc.PayloadRpc.Originator originator_;
+    /**
+     * <code>optional .payload.Originator originator = 4;</code>
+     */
+    public boolean hasOriginator() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .payload.Originator originator = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Originator getOriginator() {
+      return originator_;
+    }
+
+    public static final int HIERARCHY_FIELD_NUMBER = 5;
+    private org.marketcetera.rpc.PayloadRpc.Hierarchy hierarchy_;
+    /**
+     * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+     */
+    public boolean hasHierarchy() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Hierarchy getHierarchy() {
+      return hierarchy_;
+    }
+
+    public static final int ACTORID_FIELD_NUMBER = 6;
+    private long actorId_;
+    /**
+     * <code>optional int64 actorId = 6;</code>
+     */
+    public boolean hasActorId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 actorId = 6;</code>
+     */
+    public long getActorId() {
+      return actorId_;
+    }
+
+    public static final int VIEWERID_FIELD_NUMBER = 7;
+    private long viewerId_;
+    /**
+     * <code>optional int64 viewerId = 7;</code>
+     */
+    public boolean hasViewerId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int64 viewerId = 7;</code>
+     */
+    public long getViewerId() {
+      return viewerId_;
+    }
+
+    public static final int REPORTID_FIELD_NUMBER = 8;
+    private long reportId_;
+    /**
+     * <code>optional int64 reportId = 8;</code>
+     */
+    public boolean hasReportId() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int64 reportId = 8;</code>
+     */
+    public long getReportId() {
+      return reportId_;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 15;
+    private java.lang.Object payload_;
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public java.lang.String getPayload() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          payload_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPayloadBytes() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        payload_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      reportType_ = org.marketcetera.rpc.PayloadRpc.ReportType.ExecutionReport;
+      message_ = "";
+      brokerId_ = "";
+      originator_ = org.marketcetera.rpc.PayloadRpc.Originator.Server;
+      hierarchy_ = org.marketcetera.rpc.PayloadRpc.Hierarchy.Flat;
+      actorId_ = 0L;
+      viewerId_ = 0L;
+      reportId_ = 0L;
+      payload_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, reportType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getMessageBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getBrokerIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, originator_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeEnum(5, hierarchy_.getNumber());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, actorId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt64(7, viewerId_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt64(8, reportId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(15, getPayloadBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, reportType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getMessageBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getBrokerIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, originator_.getNumber());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, hierarchy_.getNumber());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, actorId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, viewerId_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, reportId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(15, getPayloadBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Report parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.rpc.PayloadRpc.Report prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code payload.Report}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:payload.Report)
+        org.marketcetera.rpc.PayloadRpc.ReportOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Report_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Report_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.rpc.PayloadRpc.Report.class, org.marketcetera.rpc.PayloadRpc.Report.Builder.class);
+      }
+
+      // Construct using org.marketcetera.rpc.PayloadRpc.Report.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        reportType_ = org.marketcetera.rpc.PayloadRpc.ReportType.ExecutionReport;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        message_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        brokerId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        originator_ = org.marketcetera.rpc.PayloadRpc.Originator.Server;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        hierarchy_ = org.marketcetera.rpc.PayloadRpc.Hierarchy.Flat;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        actorId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        viewerId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        reportId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        payload_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Report_descriptor;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Report getDefaultInstanceForType() {
+        return org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance();
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Report build() {
+        org.marketcetera.rpc.PayloadRpc.Report result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Report buildPartial() {
+        org.marketcetera.rpc.PayloadRpc.Report result = new org.marketcetera.rpc.PayloadRpc.Report(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.reportType_ = reportType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.message_ = message_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.brokerId_ = brokerId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.originator_ = originator_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.hierarchy_ = hierarchy_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.actorId_ = actorId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.viewerId_ = viewerId_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.reportId_ = reportId_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.rpc.PayloadRpc.Report) {
+          return mergeFrom((org.marketcetera.rpc.PayloadRpc.Report)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.rpc.PayloadRpc.Report other) {
+        if (other == org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance()) return this;
+        if (other.hasReportType()) {
+          setReportType(other.getReportType());
+        }
+        if (other.hasMessage()) {
+          bitField0_ |= 0x00000002;
+          message_ = other.message_;
+          onChanged();
+        }
+        if (other.hasBrokerId()) {
+          bitField0_ |= 0x00000004;
+          brokerId_ = other.brokerId_;
+          onChanged();
+        }
+        if (other.hasOriginator()) {
+          setOriginator(other.getOriginator());
+        }
+        if (other.hasHierarchy()) {
+          setHierarchy(other.getHierarchy());
+        }
+        if (other.hasActorId()) {
+          setActorId(other.getActorId());
+        }
+        if (other.hasViewerId()) {
+          setViewerId(other.getViewerId());
+        }
+        if (other.hasReportId()) {
+          setReportId(other.getReportId());
+        }
+        if (other.hasPayload()) {
+          bitField0_ |= 0x00000100;
+          payload_ = other.payload_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.rpc.PayloadRpc.Report parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.rpc.PayloadRpc.Report) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.marketcetera.rpc.PayloadRpc.ReportType reportType_ = org.marketcetera.rpc.PayloadRpc.ReportType.ExecutionReport;
+      /**
+       * <code>optional .payload.ReportType reportType = 1;</code>
+       */
+      public boolean hasReportType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .payload.ReportType reportType = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.ReportType getReportType() {
+        return reportType_;
+      }
+      /**
+       * <code>optional .payload.ReportType reportType = 1;</code>
+       */
+      public Builder setReportType(org.marketcetera.rpc.PayloadRpc.ReportType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        reportType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.ReportType reportType = 1;</code>
+       */
+      public Builder clearReportType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        reportType_ = org.marketcetera.rpc.PayloadRpc.ReportType.ExecutionReport;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public boolean hasMessage() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            message_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public Builder clearMessage() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 2;</code>
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object brokerId_ = "";
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public boolean hasBrokerId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public java.lang.String getBrokerId() {
+        java.lang.Object ref = brokerId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            brokerId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getBrokerIdBytes() {
+        java.lang.Object ref = brokerId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          brokerId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public Builder setBrokerId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        brokerId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public Builder clearBrokerId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        brokerId_ = getDefaultInstance().getBrokerId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string brokerId = 3;</code>
+       */
+      public Builder setBrokerIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        brokerId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Originator originator_ = org.marketcetera.rpc.PayloadRpc.Originator.Server;
+      /**
+       * <code>optional .payload.Originator originator = 4;</code>
+       */
+      public boolean hasOriginator() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .payload.Originator originator = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Originator getOriginator() {
+        return originator_;
+      }
+      /**
+       * <code>optional .payload.Originator originator = 4;</code>
+       */
+      public Builder setOriginator(org.marketcetera.rpc.PayloadRpc.Originator value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        originator_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.Originator originator = 4;</code>
+       */
+      public Builder clearOriginator() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        originator_ = org.marketcetera.rpc.PayloadRpc.Originator.Server;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Hierarchy hierarchy_ = org.marketcetera.rpc.PayloadRpc.Hierarchy.Flat;
+      /**
+       * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+       */
+      public boolean hasHierarchy() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Hierarchy getHierarchy() {
+        return hierarchy_;
+      }
+      /**
+       * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+       */
+      public Builder setHierarchy(org.marketcetera.rpc.PayloadRpc.Hierarchy value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000010;
+        hierarchy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.Hierarchy hierarchy = 5;</code>
+       */
+      public Builder clearHierarchy() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        hierarchy_ = org.marketcetera.rpc.PayloadRpc.Hierarchy.Flat;
+        onChanged();
+        return this;
+      }
+
+      private long actorId_ ;
+      /**
+       * <code>optional int64 actorId = 6;</code>
+       */
+      public boolean hasActorId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int64 actorId = 6;</code>
+       */
+      public long getActorId() {
+        return actorId_;
+      }
+      /**
+       * <code>optional int64 actorId = 6;</code>
+       */
+      public Builder setActorId(long value) {
+        bitField0_ |= 0x00000020;
+        actorId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 actorId = 6;</code>
+       */
+      public Builder clearActorId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        actorId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long viewerId_ ;
+      /**
+       * <code>optional int64 viewerId = 7;</code>
+       */
+      public boolean hasViewerId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional int64 viewerId = 7;</code>
+       */
+      public long getViewerId() {
+        return viewerId_;
+      }
+      /**
+       * <code>optional int64 viewerId = 7;</code>
+       */
+      public Builder setViewerId(long value) {
+        bitField0_ |= 0x00000040;
+        viewerId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 viewerId = 7;</code>
+       */
+      public Builder clearViewerId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        viewerId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long reportId_ ;
+      /**
+       * <code>optional int64 reportId = 8;</code>
+       */
+      public boolean hasReportId() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 reportId = 8;</code>
+       */
+      public long getReportId() {
+        return reportId_;
+      }
+      /**
+       * <code>optional int64 reportId = 8;</code>
+       */
+      public Builder setReportId(long value) {
+        bitField0_ |= 0x00000080;
+        reportId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 reportId = 8;</code>
+       */
+      public Builder clearReportId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        reportId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object payload_ = "";
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public java.lang.String getPayload() {
+        java.lang.Object ref = payload_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            payload_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes() {
+        java.lang.Object ref = payload_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          payload_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:payload.Report)
+    }
+
+    static {
+      defaultInstance = new Report(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:payload.Report)
+  }
+
+  public interface EventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:payload.Event)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .payload.EventClass eventClass = 1;</code>
+     */
+    boolean hasEventClass();
+    /**
+     * <code>optional .payload.EventClass eventClass = 1;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventClass getEventClass();
+
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    boolean hasInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Instrument getInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder();
+
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    boolean hasMessageId();
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    long getMessageId();
+
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    long getTimestamp();
+
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    boolean hasProvider();
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    java.lang.String getProvider();
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getProviderBytes();
+
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    boolean hasRequestId();
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    long getRequestId();
+
+    /**
+     * <code>optional .payload.EventType eventType = 7;</code>
+     */
+    boolean hasEventType();
+    /**
+     * <code>optional .payload.EventType eventType = 7;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventType getEventType();
+
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    boolean hasExchange();
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    java.lang.String getExchange();
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    com.google.protobuf.ByteString
+        getExchangeBytes();
+
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    boolean hasPrice();
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    java.lang.String getPrice();
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    com.google.protobuf.ByteString
+        getPriceBytes();
+
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    java.lang.String getSize();
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    com.google.protobuf.ByteString
+        getSizeBytes();
+
+    /**
+     * <code>optional int64 exchangeTimestamp = 11;</code>
+     */
+    boolean hasExchangeTimestamp();
+    /**
+     * <code>optional int64 exchangeTimestamp = 11;</code>
+     */
+    long getExchangeTimestamp();
+
+    /**
+     * <code>optional int64 receivedTimestamp = 12;</code>
+     */
+    boolean hasReceivedTimestamp();
+    /**
+     * <code>optional int64 receivedTimestamp = 12;</code>
+     */
+    long getReceivedTimestamp();
+
+    /**
+     * <code>optional int64 processedTimestamp = 13;</code>
+     */
+    boolean hasProcessedTimestamp();
+    /**
+     * <code>optional int64 processedTimestamp = 13;</code>
+     */
+    long getProcessedTimestamp();
+
+    /**
+     * <code>optional .payload.QuoteAction action = 14;</code>
+     */
+    boolean hasAction();
+    /**
+     * <code>optional .payload.QuoteAction action = 14;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.QuoteAction getAction();
+
+    /**
+     * <code>optional int32 level = 15;</code>
+     */
+    boolean hasLevel();
+    /**
+     * <code>optional int32 level = 15;</code>
+     */
+    int getLevel();
+
+    /**
+     * <code>optional int32 count = 16;</code>
+     */
+    boolean hasCount();
+    /**
+     * <code>optional int32 count = 16;</code>
+     */
+    int getCount();
+
+    /**
+     * <code>optional bool empty = 17;</code>
+     */
+    boolean hasEmpty();
+    /**
+     * <code>optional bool empty = 17;</code>
+     */
+    boolean getEmpty();
+
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    boolean hasTradeCondition();
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    java.lang.String getTradeCondition();
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradeConditionBytes();
+
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    boolean hasOpenPrice();
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    java.lang.String getOpenPrice();
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    com.google.protobuf.ByteString
+        getOpenPriceBytes();
+
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    boolean hasHighPrice();
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    java.lang.String getHighPrice();
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    com.google.protobuf.ByteString
+        getHighPriceBytes();
+
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    boolean hasLowPrice();
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    java.lang.String getLowPrice();
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    com.google.protobuf.ByteString
+        getLowPriceBytes();
+
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    boolean hasClosePrice();
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    java.lang.String getClosePrice();
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    com.google.protobuf.ByteString
+        getClosePriceBytes();
+
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    boolean hasPreviousClosePrice();
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    java.lang.String getPreviousClosePrice();
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    com.google.protobuf.ByteString
+        getPreviousClosePriceBytes();
+
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    boolean hasVolume();
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    java.lang.String getVolume();
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    com.google.protobuf.ByteString
+        getVolumeBytes();
+
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    java.lang.String getValue();
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    boolean hasCloseDate();
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    java.lang.String getCloseDate();
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    com.google.protobuf.ByteString
+        getCloseDateBytes();
+
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    boolean hasPreviousCloseDate();
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    java.lang.String getPreviousCloseDate();
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    com.google.protobuf.ByteString
+        getPreviousCloseDateBytes();
+
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    boolean hasTradeHighTime();
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    java.lang.String getTradeHighTime();
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradeHighTimeBytes();
+
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    boolean hasTradeLowTime();
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    java.lang.String getTradeLowTime();
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    com.google.protobuf.ByteString
+        getTradeLowTimeBytes();
+
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    boolean hasOpenExchange();
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    java.lang.String getOpenExchange();
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    com.google.protobuf.ByteString
+        getOpenExchangeBytes();
+
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    boolean hasHighExchange();
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    java.lang.String getHighExchange();
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    com.google.protobuf.ByteString
+        getHighExchangeBytes();
+
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    boolean hasLowExchange();
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    java.lang.String getLowExchange();
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    com.google.protobuf.ByteString
+        getLowExchangeBytes();
+
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    boolean hasCloseExchange();
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    java.lang.String getCloseExchange();
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    com.google.protobuf.ByteString
+        getCloseExchangeBytes();
+
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    boolean hasVolumeChange();
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    java.lang.String getVolumeChange();
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    com.google.protobuf.ByteString
+        getVolumeChangeBytes();
+
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    boolean hasInterestChange();
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    java.lang.String getInterestChange();
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    com.google.protobuf.ByteString
+        getInterestChangeBytes();
+
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    boolean hasUnderlyingInstrument();
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Instrument getUnderlyingInstrument();
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder();
+
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    boolean hasExpirationType();
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    java.lang.String getExpirationType();
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    com.google.protobuf.ByteString
+        getExpirationTypeBytes();
+
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    boolean hasMultiplier();
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    java.lang.String getMultiplier();
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    com.google.protobuf.ByteString
+        getMultiplierBytes();
+
+    /**
+     * <code>optional bool hasDeliverable = 39;</code>
+     */
+    boolean hasHasDeliverable();
+    /**
+     * <code>optional bool hasDeliverable = 39;</code>
+     */
+    boolean getHasDeliverable();
+
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    boolean hasProviderSymbol();
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    java.lang.String getProviderSymbol();
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    com.google.protobuf.ByteString
+        getProviderSymbolBytes();
+
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    boolean hasFutureType();
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    java.lang.String getFutureType();
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    com.google.protobuf.ByteString
+        getFutureTypeBytes();
+
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    boolean hasDeliveryType();
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    java.lang.String getDeliveryType();
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    com.google.protobuf.ByteString
+        getDeliveryTypeBytes();
+
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    boolean hasStandardType();
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    java.lang.String getStandardType();
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    com.google.protobuf.ByteString
+        getStandardTypeBytes();
+
+    /**
+     * <code>optional int32 contractSize = 44;</code>
+     */
+    boolean hasContractSize();
+    /**
+     * <code>optional int32 contractSize = 44;</code>
+     */
+    int getContractSize();
+
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    java.lang.String getPayload();
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes();
+  }
+  /**
+   * Protobuf type {@code payload.Event}
+   */
+  public static final class Event extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:payload.Event)
+      EventOrBuilder {
+    // Use Event.newBuilder() to construct.
+    private Event(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Event(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Event defaultInstance;
+    public static Event getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Event getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Event(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      int mutable_bitField1_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.EventClass value = org.marketcetera.rpc.PayloadRpc.EventClass.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                eventClass_ = value;
+              }
+              break;
+            }
+            case 18: {
+              org.marketcetera.rpc.PayloadRpc.Instrument.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = instrument_.toBuilder();
+              }
+              instrument_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(instrument_);
+                instrument_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              messageId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 42: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000010;
+              provider_ = bs;
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              requestId_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.EventType value = org.marketcetera.rpc.PayloadRpc.EventType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000040;
+                eventType_ = value;
+              }
+              break;
+            }
+            case 66: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000080;
+              exchange_ = bs;
+              break;
+            }
+            case 74: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000100;
+              price_ = bs;
+              break;
+            }
+            case 82: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000200;
+              size_ = bs;
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000400;
+              exchangeTimestamp_ = input.readInt64();
+              break;
+            }
+            case 96: {
+              bitField0_ |= 0x00000800;
+              receivedTimestamp_ = input.readInt64();
+              break;
+            }
+            case 104: {
+              bitField0_ |= 0x00001000;
+              processedTimestamp_ = input.readInt64();
+              break;
+            }
+            case 112: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.QuoteAction value = org.marketcetera.rpc.PayloadRpc.QuoteAction.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(14, rawValue);
+              } else {
+                bitField0_ |= 0x00002000;
+                action_ = value;
+              }
+              break;
+            }
+            case 120: {
+              bitField0_ |= 0x00004000;
+              level_ = input.readInt32();
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00008000;
+              count_ = input.readInt32();
+              break;
+            }
+            case 136: {
+              bitField0_ |= 0x00010000;
+              empty_ = input.readBool();
+              break;
+            }
+            case 146: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00020000;
+              tradeCondition_ = bs;
+              break;
+            }
+            case 154: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00040000;
+              openPrice_ = bs;
+              break;
+            }
+            case 162: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00080000;
+              highPrice_ = bs;
+              break;
+            }
+            case 170: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00100000;
+              lowPrice_ = bs;
+              break;
+            }
+            case 178: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00200000;
+              closePrice_ = bs;
+              break;
+            }
+            case 186: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00400000;
+              previousClosePrice_ = bs;
+              break;
+            }
+            case 194: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00800000;
+              volume_ = bs;
+              break;
+            }
+            case 202: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x01000000;
+              value_ = bs;
+              break;
+            }
+            case 210: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x02000000;
+              closeDate_ = bs;
+              break;
+            }
+            case 218: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x04000000;
+              previousCloseDate_ = bs;
+              break;
+            }
+            case 226: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x08000000;
+              tradeHighTime_ = bs;
+              break;
+            }
+            case 234: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x10000000;
+              tradeLowTime_ = bs;
+              break;
+            }
+            case 242: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x20000000;
+              openExchange_ = bs;
+              break;
+            }
+            case 250: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x40000000;
+              highExchange_ = bs;
+              break;
+            }
+            case 258: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x80000000;
+              lowExchange_ = bs;
+              break;
+            }
+            case 266: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000001;
+              closeExchange_ = bs;
+              break;
+            }
+            case 274: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000002;
+              volumeChange_ = bs;
+              break;
+            }
+            case 282: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000004;
+              interestChange_ = bs;
+              break;
+            }
+            case 290: {
+              org.marketcetera.rpc.PayloadRpc.Instrument.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000008) == 0x00000008)) {
+                subBuilder = underlyingInstrument_.toBuilder();
+              }
+              underlyingInstrument_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(underlyingInstrument_);
+                underlyingInstrument_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000008;
+              break;
+            }
+            case 298: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000010;
+              expirationType_ = bs;
+              break;
+            }
+            case 306: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000020;
+              multiplier_ = bs;
+              break;
+            }
+            case 312: {
+              bitField1_ |= 0x00000040;
+              hasDeliverable_ = input.readBool();
+              break;
+            }
+            case 322: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000080;
+              providerSymbol_ = bs;
+              break;
+            }
+            case 330: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000100;
+              futureType_ = bs;
+              break;
+            }
+            case 338: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000200;
+              deliveryType_ = bs;
+              break;
+            }
+            case 346: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00000400;
+              standardType_ = bs;
+              break;
+            }
+            case 352: {
+              bitField1_ |= 0x00000800;
+              contractSize_ = input.readInt32();
+              break;
+            }
+            case 402: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField1_ |= 0x00001000;
+              payload_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Event_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Event_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.rpc.PayloadRpc.Event.class, org.marketcetera.rpc.PayloadRpc.Event.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Event> PARSER =
+        new com.google.protobuf.AbstractParser<Event>() {
+      public Event parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Event(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Event> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    private int bitField1_;
+    public static final int EVENTCLASS_FIELD_NUMBER = 1;
+    private org.marketcetera.rpc.PayloadRpc.EventClass eventClass_;
+    /**
+     * <code>optional .payload.EventClass eventClass = 1;</code>
+     */
+    public boolean hasEventClass() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .payload.EventClass eventClass = 1;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventClass getEventClass() {
+      return eventClass_;
+    }
+
+    public static final int INSTRUMENT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.Instrument instrument_;
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public boolean hasInstrument() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+      return instrument_;
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+      return instrument_;
+    }
+
+    public static final int MESSAGEID_FIELD_NUMBER = 3;
+    private long messageId_;
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    public boolean hasMessageId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 messageId = 3;</code>
+     */
+    public long getMessageId() {
+      return messageId_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    private long timestamp_;
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 timestamp = 4;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int PROVIDER_FIELD_NUMBER = 5;
+    private java.lang.Object provider_;
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public boolean hasProvider() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public java.lang.String getProvider() {
+      java.lang.Object ref = provider_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          provider_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string provider = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProviderBytes() {
+      java.lang.Object ref = provider_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        provider_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestId_;
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    public boolean hasRequestId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int64 requestId = 6;</code>
+     */
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    public static final int EVENTTYPE_FIELD_NUMBER = 7;
+    private org.marketcetera.rpc.PayloadRpc.EventType eventType_;
+    /**
+     * <code>optional .payload.EventType eventType = 7;</code>
+     */
+    public boolean hasEventType() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .payload.EventType eventType = 7;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventType getEventType() {
+      return eventType_;
+    }
+
+    public static final int EXCHANGE_FIELD_NUMBER = 8;
+    private java.lang.Object exchange_;
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    public boolean hasExchange() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    public java.lang.String getExchange() {
+      java.lang.Object ref = exchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          exchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string exchange = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExchangeBytes() {
+      java.lang.Object ref = exchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        exchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRICE_FIELD_NUMBER = 9;
+    private java.lang.Object price_;
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    public boolean hasPrice() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    public java.lang.String getPrice() {
+      java.lang.Object ref = price_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          price_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string price = 9;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPriceBytes() {
+      java.lang.Object ref = price_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        price_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SIZE_FIELD_NUMBER = 10;
+    private java.lang.Object size_;
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    public java.lang.String getSize() {
+      java.lang.Object ref = size_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          size_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string size = 10;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSizeBytes() {
+      java.lang.Object ref = size_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        size_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXCHANGETIMESTAMP_FIELD_NUMBER = 11;
+    private long exchangeTimestamp_;
+    /**
+     * <code>optional int64 exchangeTimestamp = 11;</code>
+     */
+    public boolean hasExchangeTimestamp() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional int64 exchangeTimestamp = 11;</code>
+     */
+    public long getExchangeTimestamp() {
+      return exchangeTimestamp_;
+    }
+
+    public static final int RECEIVEDTIMESTAMP_FIELD_NUMBER = 12;
+    private long receivedTimestamp_;
+    /**
+     * <code>optional int64 receivedTimestamp = 12;</code>
+     */
+    public boolean hasReceivedTimestamp() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional int64 receivedTimestamp = 12;</code>
+     */
+    public long getReceivedTimestamp() {
+      return receivedTimestamp_;
+    }
+
+    public static final int PROCESSEDTIMESTAMP_FIELD_NUMBER = 13;
+    private long processedTimestamp_;
+    /**
+     * <code>optional int64 processedTimestamp = 13;</code>
+     */
+    public boolean hasProcessedTimestamp() {
+      return ((bitField0_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional int64 processedTimestamp = 13;</code>
+     */
+    public long getProcessedTimestamp() {
+      return processedTimestamp_;
+    }
+
+    public static final int ACTION_FIELD_NUMBER = 14;
+    private org.marketcetera.rpc.PayloadRpc.QuoteAction action_;
+    /**
+     * <code>optional .payload.QuoteAction action = 14;</code>
+     */
+    public boolean hasAction() {
+      return ((bitField0_ & 0x00002000) == 0x00002000);
+    }
+    /**
+     * <code>optional .payload.QuoteAction action = 14;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.QuoteAction getAction() {
+      return action_;
+    }
+
+    public static final int LEVEL_FIELD_NUMBER = 15;
+    private int level_;
+    /**
+     * <code>optional int32 level = 15;</code>
+     */
+    public boolean hasLevel() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional int32 level = 15;</code>
+     */
+    public int getLevel() {
+      return level_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 16;
+    private int count_;
+    /**
+     * <code>optional int32 count = 16;</code>
+     */
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00008000) == 0x00008000);
+    }
+    /**
+     * <code>optional int32 count = 16;</code>
+     */
+    public int getCount() {
+      return count_;
+    }
+
+    public static final int EMPTY_FIELD_NUMBER = 17;
+    private boolean empty_;
+    /**
+     * <code>optional bool empty = 17;</code>
+     */
+    public boolean hasEmpty() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
+    }
+    /**
+     * <code>optional bool empty = 17;</code>
+     */
+    public boolean getEmpty() {
+      return empty_;
+    }
+
+    public static final int TRADECONDITION_FIELD_NUMBER = 18;
+    private java.lang.Object tradeCondition_;
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    public boolean hasTradeCondition() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
+    }
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    public java.lang.String getTradeCondition() {
+      java.lang.Object ref = tradeCondition_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeCondition_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeCondition = 18;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradeConditionBytes() {
+      java.lang.Object ref = tradeCondition_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeCondition_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPENPRICE_FIELD_NUMBER = 19;
+    private java.lang.Object openPrice_;
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    public boolean hasOpenPrice() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
+    }
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    public java.lang.String getOpenPrice() {
+      java.lang.Object ref = openPrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          openPrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string openPrice = 19;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOpenPriceBytes() {
+      java.lang.Object ref = openPrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        openPrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HIGHPRICE_FIELD_NUMBER = 20;
+    private java.lang.Object highPrice_;
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    public boolean hasHighPrice() {
+      return ((bitField0_ & 0x00080000) == 0x00080000);
+    }
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    public java.lang.String getHighPrice() {
+      java.lang.Object ref = highPrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          highPrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string highPrice = 20;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHighPriceBytes() {
+      java.lang.Object ref = highPrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        highPrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOWPRICE_FIELD_NUMBER = 21;
+    private java.lang.Object lowPrice_;
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    public boolean hasLowPrice() {
+      return ((bitField0_ & 0x00100000) == 0x00100000);
+    }
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    public java.lang.String getLowPrice() {
+      java.lang.Object ref = lowPrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          lowPrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string lowPrice = 21;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLowPriceBytes() {
+      java.lang.Object ref = lowPrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lowPrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CLOSEPRICE_FIELD_NUMBER = 22;
+    private java.lang.Object closePrice_;
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    public boolean hasClosePrice() {
+      return ((bitField0_ & 0x00200000) == 0x00200000);
+    }
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    public java.lang.String getClosePrice() {
+      java.lang.Object ref = closePrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          closePrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string closePrice = 22;</code>
+     */
+    public com.google.protobuf.ByteString
+        getClosePriceBytes() {
+      java.lang.Object ref = closePrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        closePrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREVIOUSCLOSEPRICE_FIELD_NUMBER = 23;
+    private java.lang.Object previousClosePrice_;
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    public boolean hasPreviousClosePrice() {
+      return ((bitField0_ & 0x00400000) == 0x00400000);
+    }
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    public java.lang.String getPreviousClosePrice() {
+      java.lang.Object ref = previousClosePrice_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          previousClosePrice_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string previousClosePrice = 23;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPreviousClosePriceBytes() {
+      java.lang.Object ref = previousClosePrice_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        previousClosePrice_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 24;
+    private java.lang.Object volume_;
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    public boolean hasVolume() {
+      return ((bitField0_ & 0x00800000) == 0x00800000);
+    }
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    public java.lang.String getVolume() {
+      java.lang.Object ref = volume_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volume_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string volume = 24;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeBytes() {
+      java.lang.Object ref = volume_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volume_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 25;
+    private java.lang.Object value_;
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x01000000) == 0x01000000);
+    }
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value = 25;</code>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CLOSEDATE_FIELD_NUMBER = 26;
+    private java.lang.Object closeDate_;
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    public boolean hasCloseDate() {
+      return ((bitField0_ & 0x02000000) == 0x02000000);
+    }
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    public java.lang.String getCloseDate() {
+      java.lang.Object ref = closeDate_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          closeDate_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string closeDate = 26;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCloseDateBytes() {
+      java.lang.Object ref = closeDate_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        closeDate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREVIOUSCLOSEDATE_FIELD_NUMBER = 27;
+    private java.lang.Object previousCloseDate_;
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    public boolean hasPreviousCloseDate() {
+      return ((bitField0_ & 0x04000000) == 0x04000000);
+    }
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    public java.lang.String getPreviousCloseDate() {
+      java.lang.Object ref = previousCloseDate_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          previousCloseDate_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string previousCloseDate = 27;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPreviousCloseDateBytes() {
+      java.lang.Object ref = previousCloseDate_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        previousCloseDate_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADEHIGHTIME_FIELD_NUMBER = 28;
+    private java.lang.Object tradeHighTime_;
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    public boolean hasTradeHighTime() {
+      return ((bitField0_ & 0x08000000) == 0x08000000);
+    }
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    public java.lang.String getTradeHighTime() {
+      java.lang.Object ref = tradeHighTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeHighTime_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeHighTime = 28;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradeHighTimeBytes() {
+      java.lang.Object ref = tradeHighTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeHighTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADELOWTIME_FIELD_NUMBER = 29;
+    private java.lang.Object tradeLowTime_;
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    public boolean hasTradeLowTime() {
+      return ((bitField0_ & 0x10000000) == 0x10000000);
+    }
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    public java.lang.String getTradeLowTime() {
+      java.lang.Object ref = tradeLowTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeLowTime_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tradeLowTime = 29;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTradeLowTimeBytes() {
+      java.lang.Object ref = tradeLowTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeLowTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPENEXCHANGE_FIELD_NUMBER = 30;
+    private java.lang.Object openExchange_;
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    public boolean hasOpenExchange() {
+      return ((bitField0_ & 0x20000000) == 0x20000000);
+    }
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    public java.lang.String getOpenExchange() {
+      java.lang.Object ref = openExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          openExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string openExchange = 30;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOpenExchangeBytes() {
+      java.lang.Object ref = openExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        openExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HIGHEXCHANGE_FIELD_NUMBER = 31;
+    private java.lang.Object highExchange_;
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    public boolean hasHighExchange() {
+      return ((bitField0_ & 0x40000000) == 0x40000000);
+    }
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    public java.lang.String getHighExchange() {
+      java.lang.Object ref = highExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          highExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string highExchange = 31;</code>
+     */
+    public com.google.protobuf.ByteString
+        getHighExchangeBytes() {
+      java.lang.Object ref = highExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        highExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOWEXCHANGE_FIELD_NUMBER = 32;
+    private java.lang.Object lowExchange_;
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    public boolean hasLowExchange() {
+      return ((bitField0_ & 0x80000000) == 0x80000000);
+    }
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    public java.lang.String getLowExchange() {
+      java.lang.Object ref = lowExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          lowExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string lowExchange = 32;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLowExchangeBytes() {
+      java.lang.Object ref = lowExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lowExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CLOSEEXCHANGE_FIELD_NUMBER = 33;
+    private java.lang.Object closeExchange_;
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    public boolean hasCloseExchange() {
+      return ((bitField1_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    public java.lang.String getCloseExchange() {
+      java.lang.Object ref = closeExchange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          closeExchange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string closeExchange = 33;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCloseExchangeBytes() {
+      java.lang.Object ref = closeExchange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        closeExchange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VOLUMECHANGE_FIELD_NUMBER = 34;
+    private java.lang.Object volumeChange_;
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    public boolean hasVolumeChange() {
+      return ((bitField1_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    public java.lang.String getVolumeChange() {
+      java.lang.Object ref = volumeChange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeChange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string volumeChange = 34;</code>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeChangeBytes() {
+      java.lang.Object ref = volumeChange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeChange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INTERESTCHANGE_FIELD_NUMBER = 35;
+    private java.lang.Object interestChange_;
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    public boolean hasInterestChange() {
+      return ((bitField1_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    public java.lang.String getInterestChange() {
+      java.lang.Object ref = interestChange_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          interestChange_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string interestChange = 35;</code>
+     */
+    public com.google.protobuf.ByteString
+        getInterestChangeBytes() {
+      java.lang.Object ref = interestChange_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        interestChange_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UNDERLYINGINSTRUMENT_FIELD_NUMBER = 36;
+    private org.marketcetera.rpc.PayloadRpc.Instrument underlyingInstrument_;
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    public boolean hasUnderlyingInstrument() {
+      return ((bitField1_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Instrument getUnderlyingInstrument() {
+      return underlyingInstrument_;
+    }
+    /**
+     * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder() {
+      return underlyingInstrument_;
+    }
+
+    public static final int EXPIRATIONTYPE_FIELD_NUMBER = 37;
+    private java.lang.Object expirationType_;
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    public boolean hasExpirationType() {
+      return ((bitField1_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    public java.lang.String getExpirationType() {
+      java.lang.Object ref = expirationType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          expirationType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string expirationType = 37;</code>
+     */
+    public com.google.protobuf.ByteString
+        getExpirationTypeBytes() {
+      java.lang.Object ref = expirationType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        expirationType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MULTIPLIER_FIELD_NUMBER = 38;
+    private java.lang.Object multiplier_;
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    public boolean hasMultiplier() {
+      return ((bitField1_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    public java.lang.String getMultiplier() {
+      java.lang.Object ref = multiplier_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          multiplier_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string multiplier = 38;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMultiplierBytes() {
+      java.lang.Object ref = multiplier_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        multiplier_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int HASDELIVERABLE_FIELD_NUMBER = 39;
+    private boolean hasDeliverable_;
+    /**
+     * <code>optional bool hasDeliverable = 39;</code>
+     */
+    public boolean hasHasDeliverable() {
+      return ((bitField1_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bool hasDeliverable = 39;</code>
+     */
+    public boolean getHasDeliverable() {
+      return hasDeliverable_;
+    }
+
+    public static final int PROVIDERSYMBOL_FIELD_NUMBER = 40;
+    private java.lang.Object providerSymbol_;
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    public boolean hasProviderSymbol() {
+      return ((bitField1_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    public java.lang.String getProviderSymbol() {
+      java.lang.Object ref = providerSymbol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          providerSymbol_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string providerSymbol = 40;</code>
+     */
+    public com.google.protobuf.ByteString
+        getProviderSymbolBytes() {
+      java.lang.Object ref = providerSymbol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        providerSymbol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FUTURETYPE_FIELD_NUMBER = 41;
+    private java.lang.Object futureType_;
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    public boolean hasFutureType() {
+      return ((bitField1_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    public java.lang.String getFutureType() {
+      java.lang.Object ref = futureType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          futureType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string futureType = 41;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFutureTypeBytes() {
+      java.lang.Object ref = futureType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        futureType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DELIVERYTYPE_FIELD_NUMBER = 42;
+    private java.lang.Object deliveryType_;
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    public boolean hasDeliveryType() {
+      return ((bitField1_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    public java.lang.String getDeliveryType() {
+      java.lang.Object ref = deliveryType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          deliveryType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string deliveryType = 42;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDeliveryTypeBytes() {
+      java.lang.Object ref = deliveryType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        deliveryType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STANDARDTYPE_FIELD_NUMBER = 43;
+    private java.lang.Object standardType_;
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    public boolean hasStandardType() {
+      return ((bitField1_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    public java.lang.String getStandardType() {
+      java.lang.Object ref = standardType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          standardType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string standardType = 43;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStandardTypeBytes() {
+      java.lang.Object ref = standardType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        standardType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CONTRACTSIZE_FIELD_NUMBER = 44;
+    private int contractSize_;
+    /**
+     * <code>optional int32 contractSize = 44;</code>
+     */
+    public boolean hasContractSize() {
+      return ((bitField1_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional int32 contractSize = 44;</code>
+     */
+    public int getContractSize() {
+      return contractSize_;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 50;
+    private java.lang.Object payload_;
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField1_ & 0x00001000) == 0x00001000);
+    }
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    public java.lang.String getPayload() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          payload_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string payload = 50;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPayloadBytes() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        payload_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      eventClass_ = org.marketcetera.rpc.PayloadRpc.EventClass.BID;
+      instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      messageId_ = 0L;
+      timestamp_ = 0L;
+      provider_ = "";
+      requestId_ = 0L;
+      eventType_ = org.marketcetera.rpc.PayloadRpc.EventType.SNAPSHOT_PART;
+      exchange_ = "";
+      price_ = "";
+      size_ = "";
+      exchangeTimestamp_ = 0L;
+      receivedTimestamp_ = 0L;
+      processedTimestamp_ = 0L;
+      action_ = org.marketcetera.rpc.PayloadRpc.QuoteAction.ADD;
+      level_ = 0;
+      count_ = 0;
+      empty_ = false;
+      tradeCondition_ = "";
+      openPrice_ = "";
+      highPrice_ = "";
+      lowPrice_ = "";
+      closePrice_ = "";
+      previousClosePrice_ = "";
+      volume_ = "";
+      value_ = "";
+      closeDate_ = "";
+      previousCloseDate_ = "";
+      tradeHighTime_ = "";
+      tradeLowTime_ = "";
+      openExchange_ = "";
+      highExchange_ = "";
+      lowExchange_ = "";
+      closeExchange_ = "";
+      volumeChange_ = "";
+      interestChange_ = "";
+      underlyingInstrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      expirationType_ = "";
+      multiplier_ = "";
+      hasDeliverable_ = false;
+      providerSymbol_ = "";
+      futureType_ = "";
+      deliveryType_ = "";
+      standardType_ = "";
+      contractSize_ = 0;
+      payload_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, eventClass_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, instrument_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, messageId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getProviderBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, requestId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeEnum(7, eventType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, getExchangeBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(9, getPriceBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(10, getSizeBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeInt64(11, exchangeTimestamp_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeInt64(12, receivedTimestamp_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        output.writeInt64(13, processedTimestamp_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        output.writeEnum(14, action_.getNumber());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeInt32(15, level_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        output.writeInt32(16, count_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeBool(17, empty_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeBytes(18, getTradeConditionBytes());
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeBytes(19, getOpenPriceBytes());
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        output.writeBytes(20, getHighPriceBytes());
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        output.writeBytes(21, getLowPriceBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        output.writeBytes(22, getClosePriceBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        output.writeBytes(23, getPreviousClosePriceBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        output.writeBytes(24, getVolumeBytes());
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        output.writeBytes(25, getValueBytes());
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        output.writeBytes(26, getCloseDateBytes());
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        output.writeBytes(27, getPreviousCloseDateBytes());
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        output.writeBytes(28, getTradeHighTimeBytes());
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        output.writeBytes(29, getTradeLowTimeBytes());
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        output.writeBytes(30, getOpenExchangeBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        output.writeBytes(31, getHighExchangeBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        output.writeBytes(32, getLowExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(33, getCloseExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(34, getVolumeChangeBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(35, getInterestChangeBytes());
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(36, underlyingInstrument_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(37, getExpirationTypeBytes());
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(38, getMultiplierBytes());
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        output.writeBool(39, hasDeliverable_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(40, getProviderSymbolBytes());
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        output.writeBytes(41, getFutureTypeBytes());
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        output.writeBytes(42, getDeliveryTypeBytes());
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        output.writeBytes(43, getStandardTypeBytes());
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        output.writeInt32(44, contractSize_);
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        output.writeBytes(50, getPayloadBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, eventClass_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, instrument_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, messageId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getProviderBytes());
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, requestId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, eventType_.getNumber());
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getExchangeBytes());
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, getPriceBytes());
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(10, getSizeBytes());
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(11, exchangeTimestamp_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(12, receivedTimestamp_);
+      }
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(13, processedTimestamp_);
+      }
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(14, action_.getNumber());
+      }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(15, level_);
+      }
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(16, count_);
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(17, empty_);
+      }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, getTradeConditionBytes());
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(19, getOpenPriceBytes());
+      }
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(20, getHighPriceBytes());
+      }
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(21, getLowPriceBytes());
+      }
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(22, getClosePriceBytes());
+      }
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(23, getPreviousClosePriceBytes());
+      }
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(24, getVolumeBytes());
+      }
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(25, getValueBytes());
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(26, getCloseDateBytes());
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(27, getPreviousCloseDateBytes());
+      }
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(28, getTradeHighTimeBytes());
+      }
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(29, getTradeLowTimeBytes());
+      }
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(30, getOpenExchangeBytes());
+      }
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(31, getHighExchangeBytes());
+      }
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(32, getLowExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(33, getCloseExchangeBytes());
+      }
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(34, getVolumeChangeBytes());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(35, getInterestChangeBytes());
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(36, underlyingInstrument_);
+      }
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(37, getExpirationTypeBytes());
+      }
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(38, getMultiplierBytes());
+      }
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(39, hasDeliverable_);
+      }
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(40, getProviderSymbolBytes());
+      }
+      if (((bitField1_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(41, getFutureTypeBytes());
+      }
+      if (((bitField1_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(42, getDeliveryTypeBytes());
+      }
+      if (((bitField1_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(43, getStandardTypeBytes());
+      }
+      if (((bitField1_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(44, contractSize_);
+      }
+      if (((bitField1_ & 0x00001000) == 0x00001000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(50, getPayloadBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Event parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.rpc.PayloadRpc.Event prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code payload.Event}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:payload.Event)
+        org.marketcetera.rpc.PayloadRpc.EventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Event_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Event_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.rpc.PayloadRpc.Event.class, org.marketcetera.rpc.PayloadRpc.Event.Builder.class);
+      }
+
+      // Construct using org.marketcetera.rpc.PayloadRpc.Event.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getInstrumentFieldBuilder();
+          getUnderlyingInstrumentFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        eventClass_ = org.marketcetera.rpc.PayloadRpc.EventClass.BID;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        messageId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        provider_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        requestId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        eventType_ = org.marketcetera.rpc.PayloadRpc.EventType.SNAPSHOT_PART;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        exchange_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
+        price_ = "";
+        bitField0_ = (bitField0_ & ~0x00000100);
+        size_ = "";
+        bitField0_ = (bitField0_ & ~0x00000200);
+        exchangeTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        receivedTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000800);
+        processedTimestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00001000);
+        action_ = org.marketcetera.rpc.PayloadRpc.QuoteAction.ADD;
+        bitField0_ = (bitField0_ & ~0x00002000);
+        level_ = 0;
+        bitField0_ = (bitField0_ & ~0x00004000);
+        count_ = 0;
+        bitField0_ = (bitField0_ & ~0x00008000);
+        empty_ = false;
+        bitField0_ = (bitField0_ & ~0x00010000);
+        tradeCondition_ = "";
+        bitField0_ = (bitField0_ & ~0x00020000);
+        openPrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00040000);
+        highPrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00080000);
+        lowPrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00100000);
+        closePrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00200000);
+        previousClosePrice_ = "";
+        bitField0_ = (bitField0_ & ~0x00400000);
+        volume_ = "";
+        bitField0_ = (bitField0_ & ~0x00800000);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x01000000);
+        closeDate_ = "";
+        bitField0_ = (bitField0_ & ~0x02000000);
+        previousCloseDate_ = "";
+        bitField0_ = (bitField0_ & ~0x04000000);
+        tradeHighTime_ = "";
+        bitField0_ = (bitField0_ & ~0x08000000);
+        tradeLowTime_ = "";
+        bitField0_ = (bitField0_ & ~0x10000000);
+        openExchange_ = "";
+        bitField0_ = (bitField0_ & ~0x20000000);
+        highExchange_ = "";
+        bitField0_ = (bitField0_ & ~0x40000000);
+        lowExchange_ = "";
+        bitField0_ = (bitField0_ & ~0x80000000);
+        closeExchange_ = "";
+        bitField1_ = (bitField1_ & ~0x00000001);
+        volumeChange_ = "";
+        bitField1_ = (bitField1_ & ~0x00000002);
+        interestChange_ = "";
+        bitField1_ = (bitField1_ & ~0x00000004);
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+        } else {
+          underlyingInstrumentBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
+        expirationType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000010);
+        multiplier_ = "";
+        bitField1_ = (bitField1_ & ~0x00000020);
+        hasDeliverable_ = false;
+        bitField1_ = (bitField1_ & ~0x00000040);
+        providerSymbol_ = "";
+        bitField1_ = (bitField1_ & ~0x00000080);
+        futureType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000100);
+        deliveryType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000200);
+        standardType_ = "";
+        bitField1_ = (bitField1_ & ~0x00000400);
+        contractSize_ = 0;
+        bitField1_ = (bitField1_ & ~0x00000800);
+        payload_ = "";
+        bitField1_ = (bitField1_ & ~0x00001000);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Event_descriptor;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Event getDefaultInstanceForType() {
+        return org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance();
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Event build() {
+        org.marketcetera.rpc.PayloadRpc.Event result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Event buildPartial() {
+        org.marketcetera.rpc.PayloadRpc.Event result = new org.marketcetera.rpc.PayloadRpc.Event(this);
+        int from_bitField0_ = bitField0_;
+        int from_bitField1_ = bitField1_;
+        int to_bitField0_ = 0;
+        int to_bitField1_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.eventClass_ = eventClass_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (instrumentBuilder_ == null) {
+          result.instrument_ = instrument_;
+        } else {
+          result.instrument_ = instrumentBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.messageId_ = messageId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.provider_ = provider_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.requestId_ = requestId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.eventType_ = eventType_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.exchange_ = exchange_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.price_ = price_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.size_ = size_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.exchangeTimestamp_ = exchangeTimestamp_;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.receivedTimestamp_ = receivedTimestamp_;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00001000;
+        }
+        result.processedTimestamp_ = processedTimestamp_;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00002000;
+        }
+        result.action_ = action_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.level_ = level_;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00008000;
+        }
+        result.count_ = count_;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        result.empty_ = empty_;
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.tradeCondition_ = tradeCondition_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.openPrice_ = openPrice_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00080000;
+        }
+        result.highPrice_ = highPrice_;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00100000;
+        }
+        result.lowPrice_ = lowPrice_;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00200000;
+        }
+        result.closePrice_ = closePrice_;
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00400000;
+        }
+        result.previousClosePrice_ = previousClosePrice_;
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00800000;
+        }
+        result.volume_ = volume_;
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x01000000;
+        }
+        result.value_ = value_;
+        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
+          to_bitField0_ |= 0x02000000;
+        }
+        result.closeDate_ = closeDate_;
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x04000000;
+        }
+        result.previousCloseDate_ = previousCloseDate_;
+        if (((from_bitField0_ & 0x08000000) == 0x08000000)) {
+          to_bitField0_ |= 0x08000000;
+        }
+        result.tradeHighTime_ = tradeHighTime_;
+        if (((from_bitField0_ & 0x10000000) == 0x10000000)) {
+          to_bitField0_ |= 0x10000000;
+        }
+        result.tradeLowTime_ = tradeLowTime_;
+        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
+          to_bitField0_ |= 0x20000000;
+        }
+        result.openExchange_ = openExchange_;
+        if (((from_bitField0_ & 0x40000000) == 0x40000000)) {
+          to_bitField0_ |= 0x40000000;
+        }
+        result.highExchange_ = highExchange_;
+        if (((from_bitField0_ & 0x80000000) == 0x80000000)) {
+          to_bitField0_ |= 0x80000000;
+        }
+        result.lowExchange_ = lowExchange_;
+        if (((from_bitField1_ & 0x00000001) == 0x00000001)) {
+          to_bitField1_ |= 0x00000001;
+        }
+        result.closeExchange_ = closeExchange_;
+        if (((from_bitField1_ & 0x00000002) == 0x00000002)) {
+          to_bitField1_ |= 0x00000002;
+        }
+        result.volumeChange_ = volumeChange_;
+        if (((from_bitField1_ & 0x00000004) == 0x00000004)) {
+          to_bitField1_ |= 0x00000004;
+        }
+        result.interestChange_ = interestChange_;
+        if (((from_bitField1_ & 0x00000008) == 0x00000008)) {
+          to_bitField1_ |= 0x00000008;
+        }
+        if (underlyingInstrumentBuilder_ == null) {
+          result.underlyingInstrument_ = underlyingInstrument_;
+        } else {
+          result.underlyingInstrument_ = underlyingInstrumentBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000010) == 0x00000010)) {
+          to_bitField1_ |= 0x00000010;
+        }
+        result.expirationType_ = expirationType_;
+        if (((from_bitField1_ & 0x00000020) == 0x00000020)) {
+          to_bitField1_ |= 0x00000020;
+        }
+        result.multiplier_ = multiplier_;
+        if (((from_bitField1_ & 0x00000040) == 0x00000040)) {
+          to_bitField1_ |= 0x00000040;
+        }
+        result.hasDeliverable_ = hasDeliverable_;
+        if (((from_bitField1_ & 0x00000080) == 0x00000080)) {
+          to_bitField1_ |= 0x00000080;
+        }
+        result.providerSymbol_ = providerSymbol_;
+        if (((from_bitField1_ & 0x00000100) == 0x00000100)) {
+          to_bitField1_ |= 0x00000100;
+        }
+        result.futureType_ = futureType_;
+        if (((from_bitField1_ & 0x00000200) == 0x00000200)) {
+          to_bitField1_ |= 0x00000200;
+        }
+        result.deliveryType_ = deliveryType_;
+        if (((from_bitField1_ & 0x00000400) == 0x00000400)) {
+          to_bitField1_ |= 0x00000400;
+        }
+        result.standardType_ = standardType_;
+        if (((from_bitField1_ & 0x00000800) == 0x00000800)) {
+          to_bitField1_ |= 0x00000800;
+        }
+        result.contractSize_ = contractSize_;
+        if (((from_bitField1_ & 0x00001000) == 0x00001000)) {
+          to_bitField1_ |= 0x00001000;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        result.bitField1_ = to_bitField1_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.rpc.PayloadRpc.Event) {
+          return mergeFrom((org.marketcetera.rpc.PayloadRpc.Event)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.rpc.PayloadRpc.Event other) {
+        if (other == org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance()) return this;
+        if (other.hasEventClass()) {
+          setEventClass(other.getEventClass());
+        }
+        if (other.hasInstrument()) {
+          mergeInstrument(other.getInstrument());
+        }
+        if (other.hasMessageId()) {
+          setMessageId(other.getMessageId());
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasProvider()) {
+          bitField0_ |= 0x00000010;
+          provider_ = other.provider_;
+          onChanged();
+        }
+        if (other.hasRequestId()) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasEventType()) {
+          setEventType(other.getEventType());
+        }
+        if (other.hasExchange()) {
+          bitField0_ |= 0x00000080;
+          exchange_ = other.exchange_;
+          onChanged();
+        }
+        if (other.hasPrice()) {
+          bitField0_ |= 0x00000100;
+          price_ = other.price_;
+          onChanged();
+        }
+        if (other.hasSize()) {
+          bitField0_ |= 0x00000200;
+          size_ = other.size_;
+          onChanged();
+        }
+        if (other.hasExchangeTimestamp()) {
+          setExchangeTimestamp(other.getExchangeTimestamp());
+        }
+        if (other.hasReceivedTimestamp()) {
+          setReceivedTimestamp(other.getReceivedTimestamp());
+        }
+        if (other.hasProcessedTimestamp()) {
+          setProcessedTimestamp(other.getProcessedTimestamp());
+        }
+        if (other.hasAction()) {
+          setAction(other.getAction());
+        }
+        if (other.hasLevel()) {
+          setLevel(other.getLevel());
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        if (other.hasEmpty()) {
+          setEmpty(other.getEmpty());
+        }
+        if (other.hasTradeCondition()) {
+          bitField0_ |= 0x00020000;
+          tradeCondition_ = other.tradeCondition_;
+          onChanged();
+        }
+        if (other.hasOpenPrice()) {
+          bitField0_ |= 0x00040000;
+          openPrice_ = other.openPrice_;
+          onChanged();
+        }
+        if (other.hasHighPrice()) {
+          bitField0_ |= 0x00080000;
+          highPrice_ = other.highPrice_;
+          onChanged();
+        }
+        if (other.hasLowPrice()) {
+          bitField0_ |= 0x00100000;
+          lowPrice_ = other.lowPrice_;
+          onChanged();
+        }
+        if (other.hasClosePrice()) {
+          bitField0_ |= 0x00200000;
+          closePrice_ = other.closePrice_;
+          onChanged();
+        }
+        if (other.hasPreviousClosePrice()) {
+          bitField0_ |= 0x00400000;
+          previousClosePrice_ = other.previousClosePrice_;
+          onChanged();
+        }
+        if (other.hasVolume()) {
+          bitField0_ |= 0x00800000;
+          volume_ = other.volume_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          bitField0_ |= 0x01000000;
+          value_ = other.value_;
+          onChanged();
+        }
+        if (other.hasCloseDate()) {
+          bitField0_ |= 0x02000000;
+          closeDate_ = other.closeDate_;
+          onChanged();
+        }
+        if (other.hasPreviousCloseDate()) {
+          bitField0_ |= 0x04000000;
+          previousCloseDate_ = other.previousCloseDate_;
+          onChanged();
+        }
+        if (other.hasTradeHighTime()) {
+          bitField0_ |= 0x08000000;
+          tradeHighTime_ = other.tradeHighTime_;
+          onChanged();
+        }
+        if (other.hasTradeLowTime()) {
+          bitField0_ |= 0x10000000;
+          tradeLowTime_ = other.tradeLowTime_;
+          onChanged();
+        }
+        if (other.hasOpenExchange()) {
+          bitField0_ |= 0x20000000;
+          openExchange_ = other.openExchange_;
+          onChanged();
+        }
+        if (other.hasHighExchange()) {
+          bitField0_ |= 0x40000000;
+          highExchange_ = other.highExchange_;
+          onChanged();
+        }
+        if (other.hasLowExchange()) {
+          bitField0_ |= 0x80000000;
+          lowExchange_ = other.lowExchange_;
+          onChanged();
+        }
+        if (other.hasCloseExchange()) {
+          bitField1_ |= 0x00000001;
+          closeExchange_ = other.closeExchange_;
+          onChanged();
+        }
+        if (other.hasVolumeChange()) {
+          bitField1_ |= 0x00000002;
+          volumeChange_ = other.volumeChange_;
+          onChanged();
+        }
+        if (other.hasInterestChange()) {
+          bitField1_ |= 0x00000004;
+          interestChange_ = other.interestChange_;
+          onChanged();
+        }
+        if (other.hasUnderlyingInstrument()) {
+          mergeUnderlyingInstrument(other.getUnderlyingInstrument());
+        }
+        if (other.hasExpirationType()) {
+          bitField1_ |= 0x00000010;
+          expirationType_ = other.expirationType_;
+          onChanged();
+        }
+        if (other.hasMultiplier()) {
+          bitField1_ |= 0x00000020;
+          multiplier_ = other.multiplier_;
+          onChanged();
+        }
+        if (other.hasHasDeliverable()) {
+          setHasDeliverable(other.getHasDeliverable());
+        }
+        if (other.hasProviderSymbol()) {
+          bitField1_ |= 0x00000080;
+          providerSymbol_ = other.providerSymbol_;
+          onChanged();
+        }
+        if (other.hasFutureType()) {
+          bitField1_ |= 0x00000100;
+          futureType_ = other.futureType_;
+          onChanged();
+        }
+        if (other.hasDeliveryType()) {
+          bitField1_ |= 0x00000200;
+          deliveryType_ = other.deliveryType_;
+          onChanged();
+        }
+        if (other.hasStandardType()) {
+          bitField1_ |= 0x00000400;
+          standardType_ = other.standardType_;
+          onChanged();
+        }
+        if (other.hasContractSize()) {
+          setContractSize(other.getContractSize());
+        }
+        if (other.hasPayload()) {
+          bitField1_ |= 0x00001000;
+          payload_ = other.payload_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.rpc.PayloadRpc.Event parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.rpc.PayloadRpc.Event) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+      private int bitField1_;
+
+      private org.marketcetera.rpc.PayloadRpc.EventClass eventClass_ = org.marketcetera.rpc.PayloadRpc.EventClass.BID;
+      /**
+       * <code>optional .payload.EventClass eventClass = 1;</code>
+       */
+      public boolean hasEventClass() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .payload.EventClass eventClass = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventClass getEventClass() {
+        return eventClass_;
+      }
+      /**
+       * <code>optional .payload.EventClass eventClass = 1;</code>
+       */
+      public Builder setEventClass(org.marketcetera.rpc.PayloadRpc.EventClass value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        eventClass_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.EventClass eventClass = 1;</code>
+       */
+      public Builder clearEventClass() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        eventClass_ = org.marketcetera.rpc.PayloadRpc.EventClass.BID;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Instrument instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> instrumentBuilder_;
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public boolean hasInstrument() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+        if (instrumentBuilder_ == null) {
+          return instrument_;
+        } else {
+          return instrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instrument_ = value;
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(
+          org.marketcetera.rpc.PayloadRpc.Instrument.Builder builderForValue) {
+        if (instrumentBuilder_ == null) {
+          instrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder mergeInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              instrument_ != org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) {
+            instrument_ =
+              org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder(instrument_).mergeFrom(value).buildPartial();
+          } else {
+            instrument_ = value;
+          }
+          onChanged();
+        } else {
+          instrumentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder clearInstrument() {
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument.Builder getInstrumentBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+        if (instrumentBuilder_ != null) {
+          return instrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return instrument_;
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> 
+          getInstrumentFieldBuilder() {
+        if (instrumentBuilder_ == null) {
+          instrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder>(
+                  getInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          instrument_ = null;
+        }
+        return instrumentBuilder_;
+      }
+
+      private long messageId_ ;
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public boolean hasMessageId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public long getMessageId() {
+        return messageId_;
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public Builder setMessageId(long value) {
+        bitField0_ |= 0x00000004;
+        messageId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 messageId = 3;</code>
+       */
+      public Builder clearMessageId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        messageId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000008;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 4;</code>
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object provider_ = "";
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public boolean hasProvider() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public java.lang.String getProvider() {
+        java.lang.Object ref = provider_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            provider_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProviderBytes() {
+        java.lang.Object ref = provider_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          provider_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder setProvider(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        provider_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder clearProvider() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        provider_ = getDefaultInstance().getProvider();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string provider = 5;</code>
+       */
+      public Builder setProviderBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        provider_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public boolean hasRequestId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public Builder setRequestId(long value) {
+        bitField0_ |= 0x00000020;
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 requestId = 6;</code>
+       */
+      public Builder clearRequestId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.EventType eventType_ = org.marketcetera.rpc.PayloadRpc.EventType.SNAPSHOT_PART;
+      /**
+       * <code>optional .payload.EventType eventType = 7;</code>
+       */
+      public boolean hasEventType() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .payload.EventType eventType = 7;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventType getEventType() {
+        return eventType_;
+      }
+      /**
+       * <code>optional .payload.EventType eventType = 7;</code>
+       */
+      public Builder setEventType(org.marketcetera.rpc.PayloadRpc.EventType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        eventType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.EventType eventType = 7;</code>
+       */
+      public Builder clearEventType() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        eventType_ = org.marketcetera.rpc.PayloadRpc.EventType.SNAPSHOT_PART;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object exchange_ = "";
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public boolean hasExchange() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public java.lang.String getExchange() {
+        java.lang.Object ref = exchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            exchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExchangeBytes() {
+        java.lang.Object ref = exchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          exchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public Builder setExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        exchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public Builder clearExchange() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        exchange_ = getDefaultInstance().getExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string exchange = 8;</code>
+       */
+      public Builder setExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        exchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object price_ = "";
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public boolean hasPrice() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public java.lang.String getPrice() {
+        java.lang.Object ref = price_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            price_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPriceBytes() {
+        java.lang.Object ref = price_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          price_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public Builder setPrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        price_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public Builder clearPrice() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        price_ = getDefaultInstance().getPrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string price = 9;</code>
+       */
+      public Builder setPriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+        price_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object size_ = "";
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public java.lang.String getSize() {
+        java.lang.Object ref = size_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            size_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSizeBytes() {
+        java.lang.Object ref = size_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          size_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public Builder setSize(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        size_ = getDefaultInstance().getSize();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string size = 10;</code>
+       */
+      public Builder setSizeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long exchangeTimestamp_ ;
+      /**
+       * <code>optional int64 exchangeTimestamp = 11;</code>
+       */
+      public boolean hasExchangeTimestamp() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 11;</code>
+       */
+      public long getExchangeTimestamp() {
+        return exchangeTimestamp_;
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 11;</code>
+       */
+      public Builder setExchangeTimestamp(long value) {
+        bitField0_ |= 0x00000400;
+        exchangeTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 exchangeTimestamp = 11;</code>
+       */
+      public Builder clearExchangeTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        exchangeTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long receivedTimestamp_ ;
+      /**
+       * <code>optional int64 receivedTimestamp = 12;</code>
+       */
+      public boolean hasReceivedTimestamp() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 12;</code>
+       */
+      public long getReceivedTimestamp() {
+        return receivedTimestamp_;
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 12;</code>
+       */
+      public Builder setReceivedTimestamp(long value) {
+        bitField0_ |= 0x00000800;
+        receivedTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 receivedTimestamp = 12;</code>
+       */
+      public Builder clearReceivedTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        receivedTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long processedTimestamp_ ;
+      /**
+       * <code>optional int64 processedTimestamp = 13;</code>
+       */
+      public boolean hasProcessedTimestamp() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 13;</code>
+       */
+      public long getProcessedTimestamp() {
+        return processedTimestamp_;
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 13;</code>
+       */
+      public Builder setProcessedTimestamp(long value) {
+        bitField0_ |= 0x00001000;
+        processedTimestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 processedTimestamp = 13;</code>
+       */
+      public Builder clearProcessedTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00001000);
+        processedTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.QuoteAction action_ = org.marketcetera.rpc.PayloadRpc.QuoteAction.ADD;
+      /**
+       * <code>optional .payload.QuoteAction action = 14;</code>
+       */
+      public boolean hasAction() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional .payload.QuoteAction action = 14;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.QuoteAction getAction() {
+        return action_;
+      }
+      /**
+       * <code>optional .payload.QuoteAction action = 14;</code>
+       */
+      public Builder setAction(org.marketcetera.rpc.PayloadRpc.QuoteAction value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00002000;
+        action_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.QuoteAction action = 14;</code>
+       */
+      public Builder clearAction() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        action_ = org.marketcetera.rpc.PayloadRpc.QuoteAction.ADD;
+        onChanged();
+        return this;
+      }
+
+      private int level_ ;
+      /**
+       * <code>optional int32 level = 15;</code>
+       */
+      public boolean hasLevel() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional int32 level = 15;</code>
+       */
+      public int getLevel() {
+        return level_;
+      }
+      /**
+       * <code>optional int32 level = 15;</code>
+       */
+      public Builder setLevel(int value) {
+        bitField0_ |= 0x00004000;
+        level_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 level = 15;</code>
+       */
+      public Builder clearLevel() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        level_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <code>optional int32 count = 16;</code>
+       */
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional int32 count = 16;</code>
+       */
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional int32 count = 16;</code>
+       */
+      public Builder setCount(int value) {
+        bitField0_ |= 0x00008000;
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 count = 16;</code>
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00008000);
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean empty_ ;
+      /**
+       * <code>optional bool empty = 17;</code>
+       */
+      public boolean hasEmpty() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional bool empty = 17;</code>
+       */
+      public boolean getEmpty() {
+        return empty_;
+      }
+      /**
+       * <code>optional bool empty = 17;</code>
+       */
+      public Builder setEmpty(boolean value) {
+        bitField0_ |= 0x00010000;
+        empty_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool empty = 17;</code>
+       */
+      public Builder clearEmpty() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        empty_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeCondition_ = "";
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public boolean hasTradeCondition() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public java.lang.String getTradeCondition() {
+        java.lang.Object ref = tradeCondition_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeCondition_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradeConditionBytes() {
+        java.lang.Object ref = tradeCondition_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeCondition_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public Builder setTradeCondition(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        tradeCondition_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public Builder clearTradeCondition() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        tradeCondition_ = getDefaultInstance().getTradeCondition();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeCondition = 18;</code>
+       */
+      public Builder setTradeConditionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        tradeCondition_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object openPrice_ = "";
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public boolean hasOpenPrice() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public java.lang.String getOpenPrice() {
+        java.lang.Object ref = openPrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            openPrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOpenPriceBytes() {
+        java.lang.Object ref = openPrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          openPrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public Builder setOpenPrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00040000;
+        openPrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public Builder clearOpenPrice() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        openPrice_ = getDefaultInstance().getOpenPrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openPrice = 19;</code>
+       */
+      public Builder setOpenPriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00040000;
+        openPrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object highPrice_ = "";
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public boolean hasHighPrice() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public java.lang.String getHighPrice() {
+        java.lang.Object ref = highPrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            highPrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHighPriceBytes() {
+        java.lang.Object ref = highPrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          highPrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public Builder setHighPrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00080000;
+        highPrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public Builder clearHighPrice() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        highPrice_ = getDefaultInstance().getHighPrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highPrice = 20;</code>
+       */
+      public Builder setHighPriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00080000;
+        highPrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lowPrice_ = "";
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public boolean hasLowPrice() {
+        return ((bitField0_ & 0x00100000) == 0x00100000);
+      }
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public java.lang.String getLowPrice() {
+        java.lang.Object ref = lowPrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            lowPrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLowPriceBytes() {
+        java.lang.Object ref = lowPrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lowPrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public Builder setLowPrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00100000;
+        lowPrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public Builder clearLowPrice() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        lowPrice_ = getDefaultInstance().getLowPrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowPrice = 21;</code>
+       */
+      public Builder setLowPriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00100000;
+        lowPrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object closePrice_ = "";
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public boolean hasClosePrice() {
+        return ((bitField0_ & 0x00200000) == 0x00200000);
+      }
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public java.lang.String getClosePrice() {
+        java.lang.Object ref = closePrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            closePrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public com.google.protobuf.ByteString
+          getClosePriceBytes() {
+        java.lang.Object ref = closePrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          closePrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public Builder setClosePrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        closePrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public Builder clearClosePrice() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        closePrice_ = getDefaultInstance().getClosePrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closePrice = 22;</code>
+       */
+      public Builder setClosePriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00200000;
+        closePrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object previousClosePrice_ = "";
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public boolean hasPreviousClosePrice() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public java.lang.String getPreviousClosePrice() {
+        java.lang.Object ref = previousClosePrice_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            previousClosePrice_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPreviousClosePriceBytes() {
+        java.lang.Object ref = previousClosePrice_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          previousClosePrice_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public Builder setPreviousClosePrice(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        previousClosePrice_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public Builder clearPreviousClosePrice() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        previousClosePrice_ = getDefaultInstance().getPreviousClosePrice();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousClosePrice = 23;</code>
+       */
+      public Builder setPreviousClosePriceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        previousClosePrice_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object volume_ = "";
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public boolean hasVolume() {
+        return ((bitField0_ & 0x00800000) == 0x00800000);
+      }
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public java.lang.String getVolume() {
+        java.lang.Object ref = volume_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            volume_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeBytes() {
+        java.lang.Object ref = volume_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volume_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public Builder setVolume(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00800000;
+        volume_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        volume_ = getDefaultInstance().getVolume();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volume = 24;</code>
+       */
+      public Builder setVolumeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00800000;
+        volume_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x01000000) == 0x01000000);
+      }
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x01000000;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 25;</code>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x01000000;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object closeDate_ = "";
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public boolean hasCloseDate() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
+      }
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public java.lang.String getCloseDate() {
+        java.lang.Object ref = closeDate_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            closeDate_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCloseDateBytes() {
+        java.lang.Object ref = closeDate_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          closeDate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public Builder setCloseDate(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x02000000;
+        closeDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public Builder clearCloseDate() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        closeDate_ = getDefaultInstance().getCloseDate();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeDate = 26;</code>
+       */
+      public Builder setCloseDateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x02000000;
+        closeDate_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object previousCloseDate_ = "";
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public boolean hasPreviousCloseDate() {
+        return ((bitField0_ & 0x04000000) == 0x04000000);
+      }
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public java.lang.String getPreviousCloseDate() {
+        java.lang.Object ref = previousCloseDate_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            previousCloseDate_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPreviousCloseDateBytes() {
+        java.lang.Object ref = previousCloseDate_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          previousCloseDate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public Builder setPreviousCloseDate(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        previousCloseDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public Builder clearPreviousCloseDate() {
+        bitField0_ = (bitField0_ & ~0x04000000);
+        previousCloseDate_ = getDefaultInstance().getPreviousCloseDate();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string previousCloseDate = 27;</code>
+       */
+      public Builder setPreviousCloseDateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x04000000;
+        previousCloseDate_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeHighTime_ = "";
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public boolean hasTradeHighTime() {
+        return ((bitField0_ & 0x08000000) == 0x08000000);
+      }
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public java.lang.String getTradeHighTime() {
+        java.lang.Object ref = tradeHighTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeHighTime_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradeHighTimeBytes() {
+        java.lang.Object ref = tradeHighTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeHighTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public Builder setTradeHighTime(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        tradeHighTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public Builder clearTradeHighTime() {
+        bitField0_ = (bitField0_ & ~0x08000000);
+        tradeHighTime_ = getDefaultInstance().getTradeHighTime();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeHighTime = 28;</code>
+       */
+      public Builder setTradeHighTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x08000000;
+        tradeHighTime_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tradeLowTime_ = "";
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public boolean hasTradeLowTime() {
+        return ((bitField0_ & 0x10000000) == 0x10000000);
+      }
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public java.lang.String getTradeLowTime() {
+        java.lang.Object ref = tradeLowTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeLowTime_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTradeLowTimeBytes() {
+        java.lang.Object ref = tradeLowTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeLowTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public Builder setTradeLowTime(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        tradeLowTime_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public Builder clearTradeLowTime() {
+        bitField0_ = (bitField0_ & ~0x10000000);
+        tradeLowTime_ = getDefaultInstance().getTradeLowTime();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tradeLowTime = 29;</code>
+       */
+      public Builder setTradeLowTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x10000000;
+        tradeLowTime_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object openExchange_ = "";
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public boolean hasOpenExchange() {
+        return ((bitField0_ & 0x20000000) == 0x20000000);
+      }
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public java.lang.String getOpenExchange() {
+        java.lang.Object ref = openExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            openExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOpenExchangeBytes() {
+        java.lang.Object ref = openExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          openExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public Builder setOpenExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x20000000;
+        openExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public Builder clearOpenExchange() {
+        bitField0_ = (bitField0_ & ~0x20000000);
+        openExchange_ = getDefaultInstance().getOpenExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string openExchange = 30;</code>
+       */
+      public Builder setOpenExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x20000000;
+        openExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object highExchange_ = "";
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public boolean hasHighExchange() {
+        return ((bitField0_ & 0x40000000) == 0x40000000);
+      }
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public java.lang.String getHighExchange() {
+        java.lang.Object ref = highExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            highExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHighExchangeBytes() {
+        java.lang.Object ref = highExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          highExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public Builder setHighExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        highExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public Builder clearHighExchange() {
+        bitField0_ = (bitField0_ & ~0x40000000);
+        highExchange_ = getDefaultInstance().getHighExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string highExchange = 31;</code>
+       */
+      public Builder setHighExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x40000000;
+        highExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lowExchange_ = "";
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public boolean hasLowExchange() {
+        return ((bitField0_ & 0x80000000) == 0x80000000);
+      }
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public java.lang.String getLowExchange() {
+        java.lang.Object ref = lowExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            lowExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLowExchangeBytes() {
+        java.lang.Object ref = lowExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lowExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public Builder setLowExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        lowExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public Builder clearLowExchange() {
+        bitField0_ = (bitField0_ & ~0x80000000);
+        lowExchange_ = getDefaultInstance().getLowExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string lowExchange = 32;</code>
+       */
+      public Builder setLowExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x80000000;
+        lowExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object closeExchange_ = "";
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public boolean hasCloseExchange() {
+        return ((bitField1_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public java.lang.String getCloseExchange() {
+        java.lang.Object ref = closeExchange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            closeExchange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCloseExchangeBytes() {
+        java.lang.Object ref = closeExchange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          closeExchange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public Builder setCloseExchange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000001;
+        closeExchange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public Builder clearCloseExchange() {
+        bitField1_ = (bitField1_ & ~0x00000001);
+        closeExchange_ = getDefaultInstance().getCloseExchange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string closeExchange = 33;</code>
+       */
+      public Builder setCloseExchangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000001;
+        closeExchange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object volumeChange_ = "";
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public boolean hasVolumeChange() {
+        return ((bitField1_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public java.lang.String getVolumeChange() {
+        java.lang.Object ref = volumeChange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            volumeChange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeChangeBytes() {
+        java.lang.Object ref = volumeChange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeChange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public Builder setVolumeChange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000002;
+        volumeChange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public Builder clearVolumeChange() {
+        bitField1_ = (bitField1_ & ~0x00000002);
+        volumeChange_ = getDefaultInstance().getVolumeChange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volumeChange = 34;</code>
+       */
+      public Builder setVolumeChangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000002;
+        volumeChange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object interestChange_ = "";
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public boolean hasInterestChange() {
+        return ((bitField1_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public java.lang.String getInterestChange() {
+        java.lang.Object ref = interestChange_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            interestChange_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInterestChangeBytes() {
+        java.lang.Object ref = interestChange_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          interestChange_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public Builder setInterestChange(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000004;
+        interestChange_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public Builder clearInterestChange() {
+        bitField1_ = (bitField1_ & ~0x00000004);
+        interestChange_ = getDefaultInstance().getInterestChange();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string interestChange = 35;</code>
+       */
+      public Builder setInterestChangeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000004;
+        interestChange_ = value;
+        onChanged();
+        return this;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Instrument underlyingInstrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> underlyingInstrumentBuilder_;
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public boolean hasUnderlyingInstrument() {
+        return ((bitField1_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument getUnderlyingInstrument() {
+        if (underlyingInstrumentBuilder_ == null) {
+          return underlyingInstrument_;
+        } else {
+          return underlyingInstrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public Builder setUnderlyingInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (underlyingInstrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          underlyingInstrument_ = value;
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public Builder setUnderlyingInstrument(
+          org.marketcetera.rpc.PayloadRpc.Instrument.Builder builderForValue) {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public Builder mergeUnderlyingInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (underlyingInstrumentBuilder_ == null) {
+          if (((bitField1_ & 0x00000008) == 0x00000008) &&
+              underlyingInstrument_ != org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) {
+            underlyingInstrument_ =
+              org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder(underlyingInstrument_).mergeFrom(value).buildPartial();
+          } else {
+            underlyingInstrument_ = value;
+          }
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public Builder clearUnderlyingInstrument() {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          underlyingInstrumentBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument.Builder getUnderlyingInstrumentBuilder() {
+        bitField1_ |= 0x00000008;
+        onChanged();
+        return getUnderlyingInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getUnderlyingInstrumentOrBuilder() {
+        if (underlyingInstrumentBuilder_ != null) {
+          return underlyingInstrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return underlyingInstrument_;
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument underlyingInstrument = 36;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> 
+          getUnderlyingInstrumentFieldBuilder() {
+        if (underlyingInstrumentBuilder_ == null) {
+          underlyingInstrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder>(
+                  getUnderlyingInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          underlyingInstrument_ = null;
+        }
+        return underlyingInstrumentBuilder_;
+      }
+
+      private java.lang.Object expirationType_ = "";
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public boolean hasExpirationType() {
+        return ((bitField1_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public java.lang.String getExpirationType() {
+        java.lang.Object ref = expirationType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            expirationType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public com.google.protobuf.ByteString
+          getExpirationTypeBytes() {
+        java.lang.Object ref = expirationType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          expirationType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public Builder setExpirationType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000010;
+        expirationType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public Builder clearExpirationType() {
+        bitField1_ = (bitField1_ & ~0x00000010);
+        expirationType_ = getDefaultInstance().getExpirationType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string expirationType = 37;</code>
+       */
+      public Builder setExpirationTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000010;
+        expirationType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object multiplier_ = "";
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public boolean hasMultiplier() {
+        return ((bitField1_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public java.lang.String getMultiplier() {
+        java.lang.Object ref = multiplier_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            multiplier_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMultiplierBytes() {
+        java.lang.Object ref = multiplier_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          multiplier_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public Builder setMultiplier(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000020;
+        multiplier_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public Builder clearMultiplier() {
+        bitField1_ = (bitField1_ & ~0x00000020);
+        multiplier_ = getDefaultInstance().getMultiplier();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string multiplier = 38;</code>
+       */
+      public Builder setMultiplierBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000020;
+        multiplier_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean hasDeliverable_ ;
+      /**
+       * <code>optional bool hasDeliverable = 39;</code>
+       */
+      public boolean hasHasDeliverable() {
+        return ((bitField1_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool hasDeliverable = 39;</code>
+       */
+      public boolean getHasDeliverable() {
+        return hasDeliverable_;
+      }
+      /**
+       * <code>optional bool hasDeliverable = 39;</code>
+       */
+      public Builder setHasDeliverable(boolean value) {
+        bitField1_ |= 0x00000040;
+        hasDeliverable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool hasDeliverable = 39;</code>
+       */
+      public Builder clearHasDeliverable() {
+        bitField1_ = (bitField1_ & ~0x00000040);
+        hasDeliverable_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object providerSymbol_ = "";
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public boolean hasProviderSymbol() {
+        return ((bitField1_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public java.lang.String getProviderSymbol() {
+        java.lang.Object ref = providerSymbol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            providerSymbol_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public com.google.protobuf.ByteString
+          getProviderSymbolBytes() {
+        java.lang.Object ref = providerSymbol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          providerSymbol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public Builder setProviderSymbol(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000080;
+        providerSymbol_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public Builder clearProviderSymbol() {
+        bitField1_ = (bitField1_ & ~0x00000080);
+        providerSymbol_ = getDefaultInstance().getProviderSymbol();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string providerSymbol = 40;</code>
+       */
+      public Builder setProviderSymbolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000080;
+        providerSymbol_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object futureType_ = "";
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public boolean hasFutureType() {
+        return ((bitField1_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public java.lang.String getFutureType() {
+        java.lang.Object ref = futureType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            futureType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFutureTypeBytes() {
+        java.lang.Object ref = futureType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          futureType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public Builder setFutureType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000100;
+        futureType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public Builder clearFutureType() {
+        bitField1_ = (bitField1_ & ~0x00000100);
+        futureType_ = getDefaultInstance().getFutureType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string futureType = 41;</code>
+       */
+      public Builder setFutureTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000100;
+        futureType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object deliveryType_ = "";
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public boolean hasDeliveryType() {
+        return ((bitField1_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public java.lang.String getDeliveryType() {
+        java.lang.Object ref = deliveryType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            deliveryType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDeliveryTypeBytes() {
+        java.lang.Object ref = deliveryType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          deliveryType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public Builder setDeliveryType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000200;
+        deliveryType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public Builder clearDeliveryType() {
+        bitField1_ = (bitField1_ & ~0x00000200);
+        deliveryType_ = getDefaultInstance().getDeliveryType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string deliveryType = 42;</code>
+       */
+      public Builder setDeliveryTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000200;
+        deliveryType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object standardType_ = "";
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public boolean hasStandardType() {
+        return ((bitField1_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public java.lang.String getStandardType() {
+        java.lang.Object ref = standardType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            standardType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStandardTypeBytes() {
+        java.lang.Object ref = standardType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          standardType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public Builder setStandardType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000400;
+        standardType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public Builder clearStandardType() {
+        bitField1_ = (bitField1_ & ~0x00000400);
+        standardType_ = getDefaultInstance().getStandardType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string standardType = 43;</code>
+       */
+      public Builder setStandardTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00000400;
+        standardType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int contractSize_ ;
+      /**
+       * <code>optional int32 contractSize = 44;</code>
+       */
+      public boolean hasContractSize() {
+        return ((bitField1_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional int32 contractSize = 44;</code>
+       */
+      public int getContractSize() {
+        return contractSize_;
+      }
+      /**
+       * <code>optional int32 contractSize = 44;</code>
+       */
+      public Builder setContractSize(int value) {
+        bitField1_ |= 0x00000800;
+        contractSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 contractSize = 44;</code>
+       */
+      public Builder clearContractSize() {
+        bitField1_ = (bitField1_ & ~0x00000800);
+        contractSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object payload_ = "";
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField1_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public java.lang.String getPayload() {
+        java.lang.Object ref = payload_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            payload_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes() {
+        java.lang.Object ref = payload_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          payload_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public Builder setPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00001000;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public Builder clearPayload() {
+        bitField1_ = (bitField1_ & ~0x00001000);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 50;</code>
+       */
+      public Builder setPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField1_ |= 0x00001000;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:payload.Event)
+    }
+
+    static {
+      defaultInstance = new Event(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:payload.Event)
+  }
+
+  public interface PayloadOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:payload.Payload)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    boolean hasInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Instrument getInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder();
+
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    boolean hasReport();
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Report getReport();
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportOrBuilder();
+
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    boolean hasEvent();
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Event getEvent();
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventOrBuilder();
+
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    boolean hasPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    java.lang.String getPayload();
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes();
+  }
+  /**
+   * Protobuf type {@code payload.Payload}
+   */
+  public static final class Payload extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:payload.Payload)
+      PayloadOrBuilder {
+    // Use Payload.newBuilder() to construct.
+    private Payload(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Payload(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Payload defaultInstance;
+    public static Payload getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Payload getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Payload(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.marketcetera.rpc.PayloadRpc.Instrument.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = instrument_.toBuilder();
+              }
+              instrument_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(instrument_);
+                instrument_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.marketcetera.rpc.PayloadRpc.Report.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = report_.toBuilder();
+              }
+              report_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Report.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(report_);
+                report_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              org.marketcetera.rpc.PayloadRpc.Event.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = event_.toBuilder();
+              }
+              event_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Event.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(event_);
+                event_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 122: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              payload_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Payload_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Payload_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.rpc.PayloadRpc.Payload.class, org.marketcetera.rpc.PayloadRpc.Payload.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Payload> PARSER =
+        new com.google.protobuf.AbstractParser<Payload>() {
+      public Payload parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Payload(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Payload> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int INSTRUMENT_FIELD_NUMBER = 1;
+    private org.marketcetera.rpc.PayloadRpc.Instrument instrument_;
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    public boolean hasInstrument() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+      return instrument_;
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 1;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+      return instrument_;
+    }
+
+    public static final int REPORT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.Report report_;
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    public boolean hasReport() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Report getReport() {
+      return report_;
+    }
+    /**
+     * <code>optional .payload.Report report = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportOrBuilder() {
+      return report_;
+    }
+
+    public static final int EVENT_FIELD_NUMBER = 3;
+    private org.marketcetera.rpc.PayloadRpc.Event event_;
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    public boolean hasEvent() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Event getEvent() {
+      return event_;
+    }
+    /**
+     * <code>optional .payload.Event event = 3;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventOrBuilder() {
+      return event_;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 15;
+    private java.lang.Object payload_;
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public boolean hasPayload() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public java.lang.String getPayload() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          payload_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string payload = 15;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPayloadBytes() {
+      java.lang.Object ref = payload_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        payload_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      report_ = org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance();
+      event_ = org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance();
+      payload_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, instrument_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, report_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, event_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(15, getPayloadBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, instrument_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, report_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, event_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(15, getPayloadBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.rpc.PayloadRpc.Payload parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.rpc.PayloadRpc.Payload prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code payload.Payload}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:payload.Payload)
+        org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Payload_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Payload_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.rpc.PayloadRpc.Payload.class, org.marketcetera.rpc.PayloadRpc.Payload.Builder.class);
+      }
+
+      // Construct using org.marketcetera.rpc.PayloadRpc.Payload.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getInstrumentFieldBuilder();
+          getReportFieldBuilder();
+          getEventFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (reportBuilder_ == null) {
+          report_ = org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance();
+        } else {
+          reportBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (eventBuilder_ == null) {
+          event_ = org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance();
+        } else {
+          eventBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        payload_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.rpc.PayloadRpc.internal_static_payload_Payload_descriptor;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Payload getDefaultInstanceForType() {
+        return org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance();
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Payload build() {
+        org.marketcetera.rpc.PayloadRpc.Payload result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.rpc.PayloadRpc.Payload buildPartial() {
+        org.marketcetera.rpc.PayloadRpc.Payload result = new org.marketcetera.rpc.PayloadRpc.Payload(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (instrumentBuilder_ == null) {
+          result.instrument_ = instrument_;
+        } else {
+          result.instrument_ = instrumentBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (reportBuilder_ == null) {
+          result.report_ = report_;
+        } else {
+          result.report_ = reportBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (eventBuilder_ == null) {
+          result.event_ = event_;
+        } else {
+          result.event_ = eventBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.payload_ = payload_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.rpc.PayloadRpc.Payload) {
+          return mergeFrom((org.marketcetera.rpc.PayloadRpc.Payload)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.rpc.PayloadRpc.Payload other) {
+        if (other == org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance()) return this;
+        if (other.hasInstrument()) {
+          mergeInstrument(other.getInstrument());
+        }
+        if (other.hasReport()) {
+          mergeReport(other.getReport());
+        }
+        if (other.hasEvent()) {
+          mergeEvent(other.getEvent());
+        }
+        if (other.hasPayload()) {
+          bitField0_ |= 0x00000008;
+          payload_ = other.payload_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.rpc.PayloadRpc.Payload parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.rpc.PayloadRpc.Payload) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.marketcetera.rpc.PayloadRpc.Instrument instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> instrumentBuilder_;
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public boolean hasInstrument() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+        if (instrumentBuilder_ == null) {
+          return instrument_;
+        } else {
+          return instrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public Builder setInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instrument_ = value;
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public Builder setInstrument(
+          org.marketcetera.rpc.PayloadRpc.Instrument.Builder builderForValue) {
+        if (instrumentBuilder_ == null) {
+          instrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public Builder mergeInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              instrument_ != org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) {
+            instrument_ =
+              org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder(instrument_).mergeFrom(value).buildPartial();
+          } else {
+            instrument_ = value;
+          }
+          onChanged();
+        } else {
+          instrumentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public Builder clearInstrument() {
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument.Builder getInstrumentBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+        if (instrumentBuilder_ != null) {
+          return instrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return instrument_;
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> 
+          getInstrumentFieldBuilder() {
+        if (instrumentBuilder_ == null) {
+          instrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder>(
+                  getInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          instrument_ = null;
+        }
+        return instrumentBuilder_;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Report report_ = org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> reportBuilder_;
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public boolean hasReport() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report getReport() {
+        if (reportBuilder_ == null) {
+          return report_;
+        } else {
+          return reportBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public Builder setReport(org.marketcetera.rpc.PayloadRpc.Report value) {
+        if (reportBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          report_ = value;
+          onChanged();
+        } else {
+          reportBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public Builder setReport(
+          org.marketcetera.rpc.PayloadRpc.Report.Builder builderForValue) {
+        if (reportBuilder_ == null) {
+          report_ = builderForValue.build();
+          onChanged();
+        } else {
+          reportBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public Builder mergeReport(org.marketcetera.rpc.PayloadRpc.Report value) {
+        if (reportBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              report_ != org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance()) {
+            report_ =
+              org.marketcetera.rpc.PayloadRpc.Report.newBuilder(report_).mergeFrom(value).buildPartial();
+          } else {
+            report_ = value;
+          }
+          onChanged();
+        } else {
+          reportBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public Builder clearReport() {
+        if (reportBuilder_ == null) {
+          report_ = org.marketcetera.rpc.PayloadRpc.Report.getDefaultInstance();
+          onChanged();
+        } else {
+          reportBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Report.Builder getReportBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getReportFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.ReportOrBuilder getReportOrBuilder() {
+        if (reportBuilder_ != null) {
+          return reportBuilder_.getMessageOrBuilder();
+        } else {
+          return report_;
+        }
+      }
+      /**
+       * <code>optional .payload.Report report = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder> 
+          getReportFieldBuilder() {
+        if (reportBuilder_ == null) {
+          reportBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Report, org.marketcetera.rpc.PayloadRpc.Report.Builder, org.marketcetera.rpc.PayloadRpc.ReportOrBuilder>(
+                  getReport(),
+                  getParentForChildren(),
+                  isClean());
+          report_ = null;
+        }
+        return reportBuilder_;
+      }
+
+      private org.marketcetera.rpc.PayloadRpc.Event event_ = org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> eventBuilder_;
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public boolean hasEvent() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event getEvent() {
+        if (eventBuilder_ == null) {
+          return event_;
+        } else {
+          return eventBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public Builder setEvent(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          event_ = value;
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public Builder setEvent(
+          org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventBuilder_ == null) {
+          event_ = builderForValue.build();
+          onChanged();
+        } else {
+          eventBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public Builder mergeEvent(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              event_ != org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance()) {
+            event_ =
+              org.marketcetera.rpc.PayloadRpc.Event.newBuilder(event_).mergeFrom(value).buildPartial();
+          } else {
+            event_ = value;
+          }
+          onChanged();
+        } else {
+          eventBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public Builder clearEvent() {
+        if (eventBuilder_ == null) {
+          event_ = org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance();
+          onChanged();
+        } else {
+          eventBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder getEventBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getEventFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventOrBuilder() {
+        if (eventBuilder_ != null) {
+          return eventBuilder_.getMessageOrBuilder();
+        } else {
+          return event_;
+        }
+      }
+      /**
+       * <code>optional .payload.Event event = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+          getEventFieldBuilder() {
+        if (eventBuilder_ == null) {
+          eventBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder>(
+                  getEvent(),
+                  getParentForChildren(),
+                  isClean());
+          event_ = null;
+        }
+        return eventBuilder_;
+      }
+
+      private java.lang.Object payload_ = "";
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public java.lang.String getPayload() {
+        java.lang.Object ref = payload_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            payload_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes() {
+        java.lang.Object ref = payload_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          payload_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder clearPayload() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        payload_ = getDefaultInstance().getPayload();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string payload = 15;</code>
+       */
+      public Builder setPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        payload_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:payload.Payload)
+    }
+
+    static {
+      defaultInstance = new Payload(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:payload.Payload)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_payload_Instrument_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_payload_Instrument_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_payload_Report_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_payload_Report_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_payload_Event_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_payload_Event_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_payload_Payload_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_payload_Payload_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021rpc_payload.proto\022\007payload\"\377\001\n\nInstrum" +
+      "ent\022/\n\016instrumentType\030\001 \001(\0162\027.payload.In" +
+      "strumentType\022\016\n\006symbol\030\002 \001(\t\022\021\n\tsymbolSf" +
+      "x\030\003 \001(\t\022\016\n\006expiry\030\004 \001(\t\022\023\n\013strikePrice\030\005" +
+      " \001(\t\022\014\n\004call\030\006 \001(\010\022\017\n\007leftCcy\030\007 \001(\t\022\020\n\010r" +
+      "ightCcy\030\010 \001(\t\022\021\n\tnearTenor\030\t \001(\t\022\020\n\010farT" +
+      "enor\030\n \001(\t\022\021\n\ttradedCcy\030\013 \001(\t\022\017\n\007payload" +
+      "\030\017 \001(\t\"\352\001\n\006Report\022\'\n\nreportType\030\001 \001(\0162\023." +
+      "payload.ReportType\022\017\n\007message\030\002 \001(\t\022\020\n\010b" +
+      "rokerId\030\003 \001(\t\022\'\n\noriginator\030\004 \001(\0162\023.payl",
+      "oad.Originator\022%\n\thierarchy\030\005 \001(\0162\022.payl" +
+      "oad.Hierarchy\022\017\n\007actorId\030\006 \001(\003\022\020\n\010viewer" +
+      "Id\030\007 \001(\003\022\020\n\010reportId\030\010 \001(\003\022\017\n\007payload\030\017 " +
+      "\001(\t\"\225\010\n\005Event\022\'\n\neventClass\030\001 \001(\0162\023.payl" +
+      "oad.EventClass\022\'\n\ninstrument\030\002 \001(\0132\023.pay" +
+      "load.Instrument\022\021\n\tmessageId\030\003 \001(\003\022\021\n\tti" +
+      "mestamp\030\004 \001(\003\022\020\n\010provider\030\005 \001(\t\022\021\n\treque" +
+      "stId\030\006 \001(\003\022%\n\teventType\030\007 \001(\0162\022.payload." +
+      "EventType\022\020\n\010exchange\030\010 \001(\t\022\r\n\005price\030\t \001" +
+      "(\t\022\014\n\004size\030\n \001(\t\022\031\n\021exchangeTimestamp\030\013 ",
+      "\001(\003\022\031\n\021receivedTimestamp\030\014 \001(\003\022\032\n\022proces" +
+      "sedTimestamp\030\r \001(\003\022$\n\006action\030\016 \001(\0162\024.pay" +
+      "load.QuoteAction\022\r\n\005level\030\017 \001(\005\022\r\n\005count" +
+      "\030\020 \001(\005\022\r\n\005empty\030\021 \001(\010\022\026\n\016tradeCondition\030" +
+      "\022 \001(\t\022\021\n\topenPrice\030\023 \001(\t\022\021\n\thighPrice\030\024 " +
+      "\001(\t\022\020\n\010lowPrice\030\025 \001(\t\022\022\n\nclosePrice\030\026 \001(" +
+      "\t\022\032\n\022previousClosePrice\030\027 \001(\t\022\016\n\006volume\030" +
+      "\030 \001(\t\022\r\n\005value\030\031 \001(\t\022\021\n\tcloseDate\030\032 \001(\t\022" +
+      "\031\n\021previousCloseDate\030\033 \001(\t\022\025\n\rtradeHighT" +
+      "ime\030\034 \001(\t\022\024\n\014tradeLowTime\030\035 \001(\t\022\024\n\014openE",
+      "xchange\030\036 \001(\t\022\024\n\014highExchange\030\037 \001(\t\022\023\n\013l" +
+      "owExchange\030  \001(\t\022\025\n\rcloseExchange\030! \001(\t\022" +
+      "\024\n\014volumeChange\030\" \001(\t\022\026\n\016interestChange\030" +
+      "# \001(\t\0221\n\024underlyingInstrument\030$ \001(\0132\023.pa" +
+      "yload.Instrument\022\026\n\016expirationType\030% \001(\t" +
+      "\022\022\n\nmultiplier\030& \001(\t\022\026\n\016hasDeliverable\030\'" +
+      " \001(\010\022\026\n\016providerSymbol\030( \001(\t\022\022\n\nfutureTy" +
+      "pe\030) \001(\t\022\024\n\014deliveryType\030* \001(\t\022\024\n\014standa" +
+      "rdType\030+ \001(\t\022\024\n\014contractSize\030, \001(\005\022\017\n\007pa" +
+      "yload\0302 \001(\t\"\203\001\n\007Payload\022\'\n\ninstrument\030\001 ",
+      "\001(\0132\023.payload.Instrument\022\037\n\006report\030\002 \001(\013" +
+      "2\017.payload.Report\022\035\n\005event\030\003 \001(\0132\016.paylo" +
+      "ad.Event\022\017\n\007payload\030\017 \001(\t*&\n\rPayloadForm" +
+      "at\022\007\n\003XML\020\000\022\014\n\010PROTOBUF\020\001*B\n\016InstrumentT" +
+      "ype\022\n\n\006EQUITY\020\000\022\n\n\006OPTION\020\001\022\n\n\006FUTURE\020\002\022" +
+      "\014\n\010CURRENCY\020\003*8\n\nReportType\022\023\n\017Execution" +
+      "Report\020\000\022\025\n\021OrderCancelReject\020\001*$\n\nOrigi" +
+      "nator\022\n\n\006Server\020\000\022\n\n\006Broker\020\001*,\n\tHierarc" +
+      "hy\022\010\n\004Flat\020\000\022\n\n\006Parent\020\001\022\t\n\005Child\020\002*9\n\nE" +
+      "ventClass\022\007\n\003BID\020\000\022\007\n\003ASK\020\001\022\t\n\005TRADE\020\002\022\016",
+      "\n\nMARKETSTAT\020\003*b\n\tEventType\022\021\n\rSNAPSHOT_" +
+      "PART\020\000\022\022\n\016SNAPSHOT_FINAL\020\001\022\017\n\013UPDATE_PAR" +
+      "T\020\002\022\020\n\014UPDATE_FINAL\020\003\022\013\n\007UNKNOWN\020\004*.\n\013Qu" +
+      "oteAction\022\007\n\003ADD\020\000\022\n\n\006CHANGE\020\001\022\n\n\006DELETE" +
+      "\020\002B\"\n\024org.marketcetera.rpcB\nPayloadRpc"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_payload_Instrument_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_payload_Instrument_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_payload_Instrument_descriptor,
+        new java.lang.String[] { "InstrumentType", "Symbol", "SymbolSfx", "Expiry", "StrikePrice", "Call", "LeftCcy", "RightCcy", "NearTenor", "FarTenor", "TradedCcy", "Payload", });
+    internal_static_payload_Report_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_payload_Report_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_payload_Report_descriptor,
+        new java.lang.String[] { "ReportType", "Message", "BrokerId", "Originator", "Hierarchy", "ActorId", "ViewerId", "ReportId", "Payload", });
+    internal_static_payload_Event_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_payload_Event_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_payload_Event_descriptor,
+        new java.lang.String[] { "EventClass", "Instrument", "MessageId", "Timestamp", "Provider", "RequestId", "EventType", "Exchange", "Price", "Size", "ExchangeTimestamp", "ReceivedTimestamp", "ProcessedTimestamp", "Action", "Level", "Count", "Empty", "TradeCondition", "OpenPrice", "HighPrice", "LowPrice", "ClosePrice", "PreviousClosePrice", "Volume", "Value", "CloseDate", "PreviousCloseDate", "TradeHighTime", "TradeLowTime", "OpenExchange", "HighExchange", "LowExchange", "CloseExchange", "VolumeChange", "InterestChange", "UnderlyingInstrument", "ExpirationType", "Multiplier", "HasDeliverable", "ProviderSymbol", "FutureType", "DeliveryType", "StandardType", "ContractSize", "Payload", });
+    internal_static_payload_Payload_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_payload_Payload_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_payload_Payload_descriptor,
+        new java.lang.String[] { "Instrument", "Report", "Event", "Payload", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,631 @@
+package org.marketcetera.rpc;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.CurrencyEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.FutureEvent;
+import org.marketcetera.event.HasProviderSymbol;
+import org.marketcetera.event.HasTimestamps;
+import org.marketcetera.event.MarketDataEvent;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.OptionEvent;
+import org.marketcetera.event.OptionMarketstatEvent;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.event.impl.MarketstatEventBuilder;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.event.impl.TradeEventBuilder;
+import org.marketcetera.options.ExpirationType;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.DeliveryType;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.FutureType;
+import org.marketcetera.trade.Hierarchy;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.MessageCreationException;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.marketcetera.trade.StandardType;
+import org.marketcetera.trade.UserID;
+import org.marketcetera.util.misc.ClassVersion;
+
+import quickfix.InvalidMessage;
+import quickfix.Message;
+
+/* $License$ */
+
+/**
+ * Converts instruments, reports, and market data events to and from their native protobuf form.
+ *
+ * <p>Objects that have no native form are reported as <code>null</code> by the <code>getRpc...</code> methods. The caller
+ * is expected to send those as XML in the <code>payload</code> field of the same message instead. Likewise, the
+ * <code>get...</code> methods return <code>null</code> for messages that carry only an XML payload.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class PayloadRpcUtil
+{
+    /**
+     * Gets the native form of the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>PayloadRpc.Instrument</code> value or <code>null</code> if the instrument has no native form
+     */
+    public static PayloadRpc.Instrument getRpcInstrument(Instrument inInstrument)
+    {
+        PayloadRpc.Instrument.Builder builder = PayloadRpc.Instrument.newBuilder();
+        if(inInstrument instanceof Equity) {
+            Equity equity = (Equity)inInstrument;
+            builder.setInstrumentType(PayloadRpc.InstrumentType.EQUITY).setSymbol(equity.getSymbol());
+            if(equity.getSymbolSfx() != null) {
+                builder.setSymbolSfx(equity.getSymbolSfx());
+            }
+        } else if(inInstrument instanceof Option) {
+            Option option = (Option)inInstrument;
+            if(option.getType() != OptionType.Put && option.getType() != OptionType.Call) {
+                return null;
+            }
+            builder.setInstrumentType(PayloadRpc.InstrumentType.OPTION)
+                   .setSymbol(option.getSymbol())
+                   .setExpiry(option.getExpiry())
+                   .setStrikePrice(option.getStrikePrice().toPlainString())
+                   .setCall(option.getType() == OptionType.Call);
+        } else if(inInstrument instanceof Future) {
+            Future future = (Future)inInstrument;
+            builder.setInstrumentType(PayloadRpc.InstrumentType.FUTURE)
+                   .setSymbol(future.getSymbol())
+                   .setExpiry(future.getExpiryAsString());
+        } else if(inInstrument instanceof Currency) {
+            Currency currency = (Currency)inInstrument;
+            builder.setInstrumentType(PayloadRpc.InstrumentType.CURRENCY).setSymbol(currency.getSymbol());
+            if(currency.getLeftCCY() != null) {
+                builder.setLeftCcy(currency.getLeftCCY()).setRightCcy(currency.getRightCCY());
+            }
+            if(currency.getNearTenor() != null) {
+                builder.setNearTenor(currency.getNearTenor());
+            }
+            if(currency.getFarTenor() != null) {
+                builder.setFarTenor(currency.getFarTenor());
+            }
+            if(currency.getTradedCCY() != null) {
+                builder.setTradedCcy(currency.getTradedCCY());
+            }
+        } else {
+            return null;
+        }
+        return builder.build();
+    }
+    /**
+     * Gets the instrument described by the given native form.
+     *
+     * @param inRpcInstrument a <code>PayloadRpc.Instrument</code> value
+     * @return an <code>Instrument</code> value or <code>null</code> if the given value has no native form
+     */
+    public static Instrument getInstrument(PayloadRpc.Instrument inRpcInstrument)
+    {
+        if(!inRpcInstrument.hasInstrumentType()) {
+            return null;
+        }
+        switch(inRpcInstrument.getInstrumentType()) {
+            case EQUITY:
+                return new Equity(inRpcInstrument.getSymbol(),
+                                  inRpcInstrument.hasSymbolSfx() ? inRpcInstrument.getSymbolSfx() : null);
+            case OPTION:
+                return new Option(inRpcInstrument.getSymbol(),
+                                  inRpcInstrument.getExpiry(),
+                                  new BigDecimal(inRpcInstrument.getStrikePrice()),
+                                  inRpcInstrument.getCall() ? OptionType.Call : OptionType.Put);
+            case FUTURE:
+                return new Future(inRpcInstrument.getSymbol(),
+                                  inRpcInstrument.getExpiry());
+            case CURRENCY:
+                if(!inRpcInstrument.hasLeftCcy()) {
+                    return new Currency(inRpcInstrument.getSymbol());
+                }
+                return new Currency(inRpcInstrument.getLeftCcy(),
+                                    inRpcInstrument.getRightCcy(),
+                                    inRpcInstrument.hasNearTenor() ? inRpcInstrument.getNearTenor() : null,
+                                    inRpcInstrument.hasFarTenor() ? inRpcInstrument.getFarTenor() : null,
+                                    inRpcInstrument.hasTradedCcy() ? inRpcInstrument.getTradedCcy() : inRpcInstrument.getLeftCcy());
+            default:
+                throw new UnsupportedOperationException(String.valueOf(inRpcInstrument.getInstrumentType()));
+        }
+    }
+    /**
+     * Gets the native form of the given report.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @return a <code>PayloadRpc.Report</code> value or <code>null</code> if the report has no native form
+     */
+    public static PayloadRpc.Report getRpcReport(ReportBase inReport)
+    {
+        if(!(inReport instanceof ReportBaseImpl)) {
+            return null;
+        }
+        PayloadRpc.Report.Builder builder = PayloadRpc.Report.newBuilder();
+        if(inReport instanceof ExecutionReport) {
+            builder.setReportType(PayloadRpc.ReportType.ExecutionReport);
+        } else if(inReport instanceof OrderCancelReject) {
+            builder.setReportType(PayloadRpc.ReportType.OrderCancelReject);
+        } else {
+            return null;
+        }
+        builder.setMessage(((ReportBaseImpl)inReport).getMessage().toString());
+        if(inReport.getBrokerID() != null) {
+            builder.setBrokerId(inReport.getBrokerID().getValue());
+        }
+        if(inReport.getOriginator() != null) {
+            builder.setOriginator(PayloadRpc.Originator.valueOf(inReport.getOriginator().name()));
+        }
+        if(inReport.getHierarchy() != null) {
+            builder.setHierarchy(PayloadRpc.Hierarchy.valueOf(inReport.getHierarchy().name()));
+        }
+        if(inReport.getActorID() != null) {
+            builder.setActorId(inReport.getActorID().getValue());
+        }
+        if(inReport.getViewerID() != null) {
+            builder.setViewerId(inReport.getViewerID().getValue());
+        }
+        if(inReport.getReportID() != null) {
+            builder.setReportId(inReport.getReportID().longValue());
+        }
+        return builder.build();
+    }
+    /**
+     * Gets the report described by the given native form.
+     *
+     * @param inRpcReport a <code>PayloadRpc.Report</code> value
+     * @return a <code>ReportBaseImpl</code> value or <code>null</code> if the given value has no native form
+     * @throws InvalidMessage if the FIX message of the report cannot be parsed
+     * @throws MessageCreationException if the report cannot be created from the FIX message
+     */
+    public static ReportBaseImpl getReport(PayloadRpc.Report inRpcReport)
+            throws InvalidMessage, MessageCreationException
+    {
+        if(!inRpcReport.hasReportType()) {
+            return null;
+        }
+        Message message = new Message(inRpcReport.getMessage());
+        BrokerID brokerId = inRpcReport.hasBrokerId() ? new BrokerID(inRpcReport.getBrokerId()) : null;
+        Originator originator = inRpcReport.hasOriginator() ? Originator.valueOf(inRpcReport.getOriginator().name()) : null;
+        Hierarchy hierarchy = inRpcReport.hasHierarchy() ? Hierarchy.valueOf(inRpcReport.getHierarchy().name()) : null;
+        UserID actorId = inRpcReport.hasActorId() ? new UserID(inRpcReport.getActorId()) : null;
+        UserID viewerId = inRpcReport.hasViewerId() ? new UserID(inRpcReport.getViewerId()) : null;
+        ReportBase report;
+        switch(inRpcReport.getReportType()) {
+            case ExecutionReport:
+                report = Factory.getInstance().createExecutionReport(message,
+                                                                     brokerId,
+                                                                     originator,
+                                                                     hierarchy,
+                                                                     actorId,
+                                                                     viewerId);
+                break;
+            case OrderCancelReject:
+                report = Factory.getInstance().createOrderCancelReject(message,
+                                                                       brokerId,
+                                                                       originator,
+                                                                       hierarchy,
+                                                                       actorId,
+                                                                       viewerId);
+                break;
+            default:
+                throw new UnsupportedOperationException(String.valueOf(inRpcReport.getReportType()));
+        }
+        if(inRpcReport.hasReportId()) {
+            ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                          new ReportID(inRpcReport.getReportId()));
+        }
+        return (ReportBaseImpl)report;
+    }
+    /**
+     * Gets the native form of the given event.
+     *
+     * <p>Bid, ask, trade, and marketstat events of equities, options, futures, and currencies have a native form.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>PayloadRpc.Event</code> value or <code>null</code> if the event has no native form
+     */
+    public static PayloadRpc.Event getRpcEvent(Event inEvent)
+    {
+        PayloadRpc.Event.Builder builder = PayloadRpc.Event.newBuilder();
+        Instrument instrument;
+        if(inEvent instanceof QuoteEvent) {
+            QuoteEvent quote = (QuoteEvent)inEvent;
+            instrument = quote.getInstrument();
+            if(inEvent instanceof BidEvent) {
+                builder.setEventClass(PayloadRpc.EventClass.BID);
+            } else if(inEvent instanceof AskEvent) {
+                builder.setEventClass(PayloadRpc.EventClass.ASK);
+            } else {
+                return null;
+            }
+            builder.setAction(PayloadRpc.QuoteAction.valueOf(quote.getAction().name()))
+                   .setLevel(quote.getLevel())
+                   .setCount(quote.getCount())
+                   .setEmpty(quote.isEmpty());
+            setMarketDataFields(quote,
+                                builder);
+        } else if(inEvent instanceof TradeEvent) {
+            TradeEvent trade = (TradeEvent)inEvent;
+            instrument = trade.getInstrument();
+            builder.setEventClass(PayloadRpc.EventClass.TRADE);
+            if(trade.getTradeCondition() != null) {
+                builder.setTradeCondition(trade.getTradeCondition());
+            }
+            setMarketDataFields(trade,
+                                builder);
+        } else if(inEvent instanceof MarketstatEvent) {
+            MarketstatEvent marketstat = (MarketstatEvent)inEvent;
+            instrument = marketstat.getInstrument();
+            builder.setEventClass(PayloadRpc.EventClass.MARKETSTAT);
+            if(marketstat.getEventType() != null) {
+                builder.setEventType(PayloadRpc.EventType.valueOf(marketstat.getEventType().name()));
+            }
+            if(marketstat.getOpen() != null) {
+                builder.setOpenPrice(marketstat.getOpen().toPlainString());
+            }
+            if(marketstat.getHigh() != null) {
+                builder.setHighPrice(marketstat.getHigh().toPlainString());
+            }
+            if(marketstat.getLow() != null) {
+                builder.setLowPrice(marketstat.getLow().toPlainString());
+            }
+            if(marketstat.getClose() != null) {
+                builder.setClosePrice(marketstat.getClose().toPlainString());
+            }
+            if(marketstat.getPreviousClose() != null) {
+                builder.setPreviousClosePrice(marketstat.getPreviousClose().toPlainString());
+            }
+            if(marketstat.getVolume() != null) {
+                builder.setVolume(marketstat.getVolume().toPlainString());
+            }
+            if(marketstat.getValue() != null) {
+                builder.setValue(marketstat.getValue().toPlainString());
+            }
+            if(marketstat.getCloseDate() != null) {
+                builder.setCloseDate(marketstat.getCloseDate());
+            }
+            if(marketstat.getPreviousCloseDate() != null) {
+                builder.setPreviousCloseDate(marketstat.getPreviousCloseDate());
+            }
+            if(marketstat.getTradeHighTime() != null) {
+                builder.setTradeHighTime(marketstat.getTradeHighTime());
+            }
+            if(marketstat.getTradeLowTime() != null) {
+                builder.setTradeLowTime(marketstat.getTradeLowTime());
+            }
+            if(marketstat.getOpenExchange() != null) {
+                builder.setOpenExchange(marketstat.getOpenExchange());
+            }
+            if(marketstat.getHighExchange() != null) {
+                builder.setHighExchange(marketstat.getHighExchange());
+            }
+            if(marketstat.getLowExchange() != null) {
+                builder.setLowExchange(marketstat.getLowExchange());
+            }
+            if(marketstat.getCloseExchange() != null) {
+                builder.setCloseExchange(marketstat.getCloseExchange());
+            }
+            if(marketstat instanceof OptionMarketstatEvent) {
+                OptionMarketstatEvent optionMarketstat = (OptionMarketstatEvent)marketstat;
+                if(optionMarketstat.getVolumeChange() != null) {
+                    builder.setVolumeChange(optionMarketstat.getVolumeChange().toPlainString());
+                }
+                if(optionMarketstat.getInterestChange() != null) {
+                    builder.setInterestChange(optionMarketstat.getInterestChange().toPlainString());
+                }
+            }
+        } else {
+            return null;
+        }
+        PayloadRpc.Instrument rpcInstrument = instrument == null ? null : getRpcInstrument(instrument);
+        if(rpcInstrument == null) {
+            return null;
+        }
+        builder.setInstrument(rpcInstrument)
+               .setMessageId(inEvent.getMessageId())
+               .setRequestId(inEvent.getRequestId());
+        if(inEvent.getTimestamp() != null) {
+            builder.setTimestamp(inEvent.getTimestamp().getTime());
+        }
+        if(inEvent.getProvider() != null) {
+            builder.setProvider(inEvent.getProvider());
+        }
+        if(inEvent instanceof HasTimestamps) {
+            builder.setReceivedTimestamp(((HasTimestamps)inEvent).getReceivedTimestamp())
+                   .setProcessedTimestamp(((HasTimestamps)inEvent).getProcessedTimestamp());
+        }
+        if(inEvent instanceof HasProviderSymbol && ((HasProviderSymbol)inEvent).getProviderSymbol() != null) {
+            builder.setProviderSymbol(((HasProviderSymbol)inEvent).getProviderSymbol());
+        }
+        if(inEvent instanceof OptionEvent) {
+            OptionEvent optionEvent = (OptionEvent)inEvent;
+            if(optionEvent.getUnderlyingInstrument() != null) {
+                PayloadRpc.Instrument rpcUnderlyingInstrument = getRpcInstrument(optionEvent.getUnderlyingInstrument());
+                if(rpcUnderlyingInstrument == null) {
+                    return null;
+                }
+                builder.setUnderlyingInstrument(rpcUnderlyingInstrument);
+            }
+            if(optionEvent.getExpirationType() != null) {
+                builder.setExpirationType(optionEvent.getExpirationType().name());
+            }
+            if(optionEvent.getMultiplier() != null) {
+                builder.setMultiplier(optionEvent.getMultiplier().toPlainString());
+            }
+            builder.setHasDeliverable(optionEvent.hasDeliverable());
+        } else if(inEvent instanceof FutureEvent) {
+            FutureEvent futureEvent = (FutureEvent)inEvent;
+            if(futureEvent.getType() != null) {
+                builder.setFutureType(futureEvent.getType().name());
+            }
+            if(futureEvent.getDeliveryType() != null) {
+                builder.setDeliveryType(futureEvent.getDeliveryType().name());
+            }
+            if(futureEvent.getStandardType() != null) {
+                builder.setStandardType(futureEvent.getStandardType().name());
+            }
+            builder.setContractSize(futureEvent.getContractSize());
+        } else if(inEvent instanceof CurrencyEvent) {
+            // the event builders cannot set these values for currencies
+            CurrencyEvent currencyEvent = (CurrencyEvent)inEvent;
+            if(currencyEvent.getDeliveryType() != null || currencyEvent.getContractSize() != 1) {
+                return null;
+            }
+        }
+        return builder.build();
+    }
+    /**
+     * Gets the event described by the given native form.
+     *
+     * @param inRpcEvent a <code>PayloadRpc.Event</code> value
+     * @return an <code>Event</code> value or <code>null</code> if the given value has no native form
+     */
+    public static Event getEvent(PayloadRpc.Event inRpcEvent)
+    {
+        if(!inRpcEvent.hasEventClass()) {
+            return null;
+        }
+        Instrument instrument = getInstrument(inRpcEvent.getInstrument());
+        Date timestamp = inRpcEvent.hasTimestamp() ? new Date(inRpcEvent.getTimestamp()) : null;
+        String provider = inRpcEvent.hasProvider() ? inRpcEvent.getProvider() : null;
+        Instrument underlyingInstrument = inRpcEvent.hasUnderlyingInstrument() ? getInstrument(inRpcEvent.getUnderlyingInstrument()) : null;
+        ExpirationType expirationType = inRpcEvent.hasExpirationType() ? ExpirationType.valueOf(inRpcEvent.getExpirationType()) : null;
+        BigDecimal multiplier = getDecimal(inRpcEvent.hasMultiplier(),
+                                           inRpcEvent.getMultiplier());
+        String providerSymbol = inRpcEvent.hasProviderSymbol() ? inRpcEvent.getProviderSymbol() : null;
+        FutureType futureType = inRpcEvent.hasFutureType() ? FutureType.valueOf(inRpcEvent.getFutureType()) : null;
+        DeliveryType deliveryType = inRpcEvent.hasDeliveryType() ? DeliveryType.valueOf(inRpcEvent.getDeliveryType()) : null;
+        StandardType standardType = inRpcEvent.hasStandardType() ? StandardType.valueOf(inRpcEvent.getStandardType()) : null;
+        Event event;
+        switch(inRpcEvent.getEventClass()) {
+            case BID:
+            case ASK: {
+                QuoteEventBuilder<? extends QuoteEvent> builder;
+                if(inRpcEvent.getEventClass() == PayloadRpc.EventClass.BID) {
+                    builder = QuoteEventBuilder.bidEvent(instrument);
+                } else {
+                    builder = QuoteEventBuilder.askEvent(instrument);
+                }
+                builder.withMessageId(inRpcEvent.getMessageId())
+                       .withTimestamp(timestamp)
+                       .withProvider(provider)
+                       .withExchange(inRpcEvent.hasExchange() ? inRpcEvent.getExchange() : null)
+                       .withPrice(getDecimal(inRpcEvent.hasPrice(),
+                                             inRpcEvent.getPrice()))
+                       .withSize(getDecimal(inRpcEvent.hasSize(),
+                                            inRpcEvent.getSize()))
+                       .withQuoteDate(inRpcEvent.hasExchangeTimestamp() ? new Date(inRpcEvent.getExchangeTimestamp()) : null)
+                       .withReceivedTimestamp(inRpcEvent.getReceivedTimestamp())
+                       .withProcessedTimestamp(inRpcEvent.getProcessedTimestamp())
+                       .withAction(QuoteAction.valueOf(inRpcEvent.getAction().name()))
+                       .withLevel(inRpcEvent.getLevel())
+                       .withCount(inRpcEvent.getCount())
+                       .isEmpty(inRpcEvent.getEmpty())
+                       .withUnderlyingInstrument(underlyingInstrument)
+                       .withExpirationType(expirationType)
+                       .withMultiplier(multiplier)
+                       .hasDeliverable(inRpcEvent.getHasDeliverable())
+                       .withProviderSymbol(providerSymbol)
+                       .withFutureType(futureType)
+                       .withDeliveryType(deliveryType)
+                       .withStandardType(standardType);
+                if(inRpcEvent.hasEventType()) {
+                    builder.withEventType(EventType.valueOf(inRpcEvent.getEventType().name()));
+                }
+                if(inRpcEvent.hasContractSize()) {
+                    builder.withContractSize(inRpcEvent.getContractSize());
+                }
+                event = builder.create();
+                break;
+            }
+            case TRADE: {
+                TradeEventBuilder<TradeEvent> builder = TradeEventBuilder.tradeEvent(instrument);
+                builder.withMessageId(inRpcEvent.getMessageId())
+                       .withTimestamp(timestamp)
+                       .withProvider(provider)
+                       .withExchange(inRpcEvent.hasExchange() ? inRpcEvent.getExchange() : null)
+                       .withPrice(getDecimal(inRpcEvent.hasPrice(),
+                                             inRpcEvent.getPrice()))
+                       .withSize(getDecimal(inRpcEvent.hasSize(),
+                                            inRpcEvent.getSize()))
+                       .withTradeDate(inRpcEvent.hasExchangeTimestamp() ? new Date(inRpcEvent.getExchangeTimestamp()) : null)
+                       .withReceivedTimestamp(inRpcEvent.getReceivedTimestamp())
+                       .withProcessedTimestamp(inRpcEvent.getProcessedTimestamp())
+                       .withTradeCondition(inRpcEvent.hasTradeCondition() ? inRpcEvent.getTradeCondition() : null)
+                       .withUnderlyingInstrument(underlyingInstrument)
+                       .withExpirationType(expirationType)
+                       .withMultiplier(multiplier)
+                       .hasDeliverable(inRpcEvent.getHasDeliverable())
+                       .withProviderSymbol(providerSymbol)
+                       .withFutureType(futureType)
+                       .withDeliveryType(deliveryType)
+                       .withStandardType(standardType);
+                if(inRpcEvent.hasEventType()) {
+                    builder.withEventType(EventType.valueOf(inRpcEvent.getEventType().name()));
+                }
+                if(inRpcEvent.hasContractSize()) {
+                    builder.withContractSize(inRpcEvent.getContractSize());
+                }
+                event = builder.create();
+                break;
+            }
+            case MARKETSTAT: {
+                MarketstatEventBuilder builder = MarketstatEventBuilder.marketstat(instrument);
+                builder.withMessageId(inRpcEvent.getMessageId())
+                       .withTimestamp(timestamp)
+                       .withProvider(provider)
+                       .withOpenPrice(getDecimal(inRpcEvent.hasOpenPrice(),
+                                                 inRpcEvent.getOpenPrice()))
+                       .withHighPrice(getDecimal(inRpcEvent.hasHighPrice(),
+                                                 inRpcEvent.getHighPrice()))
+                       .withLowPrice(getDecimal(inRpcEvent.hasLowPrice(),
+                                                inRpcEvent.getLowPrice()))
+                       .withClosePrice(getDecimal(inRpcEvent.hasClosePrice(),
+                                                  inRpcEvent.getClosePrice()))
+                       .withPreviousClosePrice(getDecimal(inRpcEvent.hasPreviousClosePrice(),
+                                                          inRpcEvent.getPreviousClosePrice()))
+                       .withVolume(getDecimal(inRpcEvent.hasVolume(),
+                                              inRpcEvent.getVolume()))
+                       .withValue(getDecimal(inRpcEvent.hasValue(),
+                                             inRpcEvent.getValue()))
+                       .withCloseDate(inRpcEvent.hasCloseDate() ? inRpcEvent.getCloseDate() : null)
+                       .withPreviousCloseDate(inRpcEvent.hasPreviousCloseDate() ? inRpcEvent.getPreviousCloseDate() : null)
+                       .withTradeHighTime(inRpcEvent.hasTradeHighTime() ? inRpcEvent.getTradeHighTime() : null)
+                       .withTradeLowTime(inRpcEvent.hasTradeLowTime() ? inRpcEvent.getTradeLowTime() : null)
+                       .withOpenExchange(inRpcEvent.hasOpenExchange() ? inRpcEvent.getOpenExchange() : null)
+                       .withHighExchange(inRpcEvent.hasHighExchange() ? inRpcEvent.getHighExchange() : null)
+                       .withLowExchange(inRpcEvent.hasLowExchange() ? inRpcEvent.getLowExchange() : null)
+                       .withCloseExchange(inRpcEvent.hasCloseExchange() ? inRpcEvent.getCloseExchange() : null)
+                       .withVolumeChange(getDecimal(inRpcEvent.hasVolumeChange(),
+                                                    inRpcEvent.getVolumeChange()))
+                       .withInterestChange(getDecimal(inRpcEvent.hasInterestChange(),
+                                                      inRpcEvent.getInterestChange()))
+                       .withUnderlyingInstrument(underlyingInstrument)
+                       .withExpirationType(expirationType)
+                       .withMultiplier(multiplier)
+                       .hasDeliverable(inRpcEvent.getHasDeliverable())
+                       .withProviderSymbol(providerSymbol)
+                       .withFutureType(futureType)
+                       .withDeliveryType(deliveryType)
+                       .withStandardType(standardType);
+                if(inRpcEvent.hasEventType()) {
+                    builder.withEventType(EventType.valueOf(inRpcEvent.getEventType().name()));
+                }
+                if(inRpcEvent.hasContractSize()) {
+                    builder.withContractSize(inRpcEvent.getContractSize());
+                }
+                event = builder.create();
+                break;
+            }
+            default:
+                throw new UnsupportedOperationException(String.valueOf(inRpcEvent.getEventClass()));
+        }
+        event.setRequestId(inRpcEvent.getRequestId());
+        return event;
+    }
+    /**
+     * Gets the native form of the given object.
+     *
+     * @param inObject an <code>Object</code> value
+     * @return a <code>PayloadRpc.Payload</code> value or <code>null</code> if the object has no native form
+     */
+    public static PayloadRpc.Payload getRpcPayload(Object inObject)
+    {
+        if(inObject instanceof Instrument) {
+            PayloadRpc.Instrument rpcInstrument = getRpcInstrument((Instrument)inObject);
+            return rpcInstrument == null ? null : PayloadRpc.Payload.newBuilder().setInstrument(rpcInstrument).build();
+        }
+        if(inObject instanceof ReportBase) {
+            PayloadRpc.Report rpcReport = getRpcReport((ReportBase)inObject);
+            return rpcReport == null ? null : PayloadRpc.Payload.newBuilder().setReport(rpcReport).build();
+        }
+        if(inObject instanceof Event) {
+            PayloadRpc.Event rpcEvent = getRpcEvent((Event)inObject);
+            return rpcEvent == null ? null : PayloadRpc.Payload.newBuilder().setEvent(rpcEvent).build();
+        }
+        return null;
+    }
+    /**
+     * Gets the object described by the given native form.
+     *
+     * @param inRpcPayload a <code>PayloadRpc.Payload</code> value
+     * @return an <code>Object</code> value or <code>null</code> if the given value has no native form
+     * @throws InvalidMessage if the FIX message of a report cannot be parsed
+     * @throws MessageCreationException if a report cannot be created from the FIX message
+     */
+    public static Object getPayload(PayloadRpc.Payload inRpcPayload)
+            throws InvalidMessage, MessageCreationException
+    {
+        if(inRpcPayload.hasInstrument()) {
+            return getInstrument(inRpcPayload.getInstrument());
+        }
+        if(inRpcPayload.hasReport()) {
+            return getReport(inRpcPayload.getReport());
+        }
+        if(inRpcPayload.hasEvent()) {
+            return getEvent(inRpcPayload.getEvent());
+        }
+        return null;
+    }
+    /**
+     * Copies the fields common to quote and trade events to the given builder.
+     *
+     * @param inEvent a <code>MarketDataEvent</code> value
+     * @param inBuilder a <code>PayloadRpc.Event.Builder</code> value
+     */
+    private static void setMarketDataFields(MarketDataEvent inEvent,
+                                            PayloadRpc.Event.Builder inBuilder)
+    {
+        if(inEvent.getEventType() != null) {
+            inBuilder.setEventType(PayloadRpc.EventType.valueOf(inEvent.getEventType().name()));
+        }
+        if(inEvent.getExchange() != null) {
+            inBuilder.setExchange(inEvent.getExchange());
+        }
+        if(inEvent.getPrice() != null) {
+            inBuilder.setPrice(inEvent.getPrice().toPlainString());
+        }
+        if(inEvent.getSize() != null) {
+            inBuilder.setSize(inEvent.getSize().toPlainString());
+        }
+        if(inEvent.getExchangeTimestamp() != null) {
+            inBuilder.setExchangeTimestamp(inEvent.getExchangeTimestamp().getTime());
+        }
+    }
+    /**
+     * Gets the decimal value of the given field.
+     *
+     * @param inHasValue a <code>boolean</code> value indicating if the field is set
+     * @param inValue a <code>String</code> value
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the field is not set
+     */
+    private static BigDecimal getDecimal(boolean inHasValue,
+                                         String inValue)
+    {
+        return inHasValue ? new BigDecimal(inValue) : null;
+    }
+    /**
+     * Create a new PayloadRpcUtil instance.
+     */
+    private PayloadRpcUtil() {}
+}
@@ -2,9 +2,10 @@ package org.marketcetera.trade.utils;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import javax.annotation.concurrent.GuardedBy;
-import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.marketcetera.marketdata.DateUtils;
@@ -22,6 +23,16 @@ import org.nocrala.tools.texttablefmt.CellStyle.HorizontalAlign;
 
 /**
  * Manages order history for multiple orders throughout the order lifecycle.
+ * 
+ * <p>Reads do not lock: order histories are indexed in concurrent maps and may be read while reports are being
+ * added. Reports are added one at a time.
+ * 
+ * <p>An order chain is completed when its latest report has a status that cannot be canceled. Completed order chains
+ * may be archived to bound memory usage, see {@link #setMaxCompletedOrders(int)} and
+ * {@link #setMaxCompletedOrderAge(long)}. An archived order chain keeps only its latest report and its order IDs: it
+ * is still found by {@link #getLatestReportFor(OrderID)}, {@link #getRootOrderIdFor(OrderID)} and
+ * {@link #getOrderChain(OrderID)}, but {@link #getReportHistoryFor(OrderID)} returns only its latest report. The
+ * archive itself may be bounded with {@link #setMaxArchivedOrders(int)}. By default, nothing is archived.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -39,11 +50,18 @@ public class OrderHistoryManager
      */
     public OrderID getRootOrderIdFor(OrderID inOrderID)
     {
-        Deque<ReportBase> orders = getReportHistoryFor(inOrderID);
-        if(orders == null || orders.isEmpty()) {
-            return null;
+        if(inOrderID == null) {
+            throw new NullPointerException();
+        }
+        OrderHistory history = orders.get(inOrderID);
+        if(history != null) {
+            return history.getRootOrderID();
         }
-        return orders.getLast().getOrderID();
+        ArchivedOrder archivedOrder = archivedOrders.get(inOrderID);
+        if(archivedOrder != null) {
+            return archivedOrder.rootOrderID;
+        }
+        return null;
     }
     /**
      * Gets the latest <code>ReportBase</code> for the given <code>OrderID</code>.
@@ -62,21 +80,30 @@ public class OrderHistoryManager
         SLF4JLoggerProxy.debug(this,
                                "Searching order tracker for {}", //$NON-NLS-1$
                                inOrderID);
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderID);
-            if(history != null) {
-                ReportBase report = history.getLatestReport();
-                SLF4JLoggerProxy.debug(this,
-                                       "Retrieved {} for {}",
-                                       report,
-                                       inOrderID);
-                return report;
-            }
+        if(inOrderID == null) {
+            return null;
+        }
+        OrderHistory history = orders.get(inOrderID);
+        if(history != null) {
+            ReportBase report = history.getLatestReport();
             SLF4JLoggerProxy.debug(this,
-                                   "No history for {}", //$NON-NLS-1$
+                                   "Retrieved {} for {}",
+                                   report,
                                    inOrderID);
-            return null;
+            return report;
         }
+        ArchivedOrder archivedOrder = archivedOrders.get(inOrderID);
+        if(archivedOrder != null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Retrieved archived {} for {}",
+                                   archivedOrder.latestReport,
+                                   inOrderID);
+            return archivedOrder.latestReport;
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "No history for {}", //$NON-NLS-1$
+                               inOrderID);
+        return null;
     }
     /**
      * Adds the given <code>ReportBase</code> to the order history.
@@ -101,21 +128,35 @@ public class OrderHistoryManager
             // first, look for a match of the actual order ID (simple, non-replace order case)
             OrderHistory history = orders.get(actualOrderID);
             if(history == null) {
-                // ok, no order history for the actual order ID. this is caused by one of two things:
+                // ok, no order history for the actual order ID. this is caused by one of three things:
                 //  1/ This is the first time we've seen anything in this chain
                 //  2/ The report is a replace order and we should search using the originalOrderID
-                history = orders.get(originalOrderID);
+                //  3/ The order chain has been archived and has to be restored
+                history = originalOrderID == null ? null : orders.get(originalOrderID);
                 if(history == null) {
-                    // now we know this is case #1 from above: create a new order history and add it
                     history = new OrderHistory();
-                    // index the new history using the actual order ID
+                    ArchivedOrder archivedOrder = archivedOrders.get(actualOrderID);
+                    if(archivedOrder == null && originalOrderID != null) {
+                        archivedOrder = archivedOrders.get(originalOrderID);
+                    }
+                    if(archivedOrder == null) {
+                        // case #1 from above: index the new history using the actual order ID
+                        SLF4JLoggerProxy.debug(this,
+                                               "Created new {} for actual order ID: {} because there was no order history for this actual order ID nor the original order ID: {}",
+                                               history,
+                                               actualOrderID,
+                                               originalOrderID);
+                    } else {
+                        // case #3 from above: move the archived chain back to the live history
+                        restore(archivedOrder,
+                                history);
+                        SLF4JLoggerProxy.debug(this,
+                                               "Restored {} from the archive for actual order ID: {}",
+                                               history,
+                                               actualOrderID);
+                    }
                     orders.put(actualOrderID,
                                history);
-                    SLF4JLoggerProxy.debug(this,
-                                           "Created new {} for actual order ID: {} because there was no order history for this actual order ID nor the original order ID: {}",
-                                           history,
-                                           actualOrderID,
-                                           originalOrderID);
                 } else {
                     // case #2 from above: add an index reference for the new actual order ID
                     orders.put(actualOrderID,
@@ -128,13 +169,13 @@ public class OrderHistoryManager
                 }
             } else {
                 SLF4JLoggerProxy.debug(this,
-                                       "Selected order history {} based on actual orderID: {} from {}",
+                                       "Selected order history {} based on actual orderID: {}",
                                        history,
-                                       actualOrderID,
-                                       orders);
+                                       actualOrderID);
             }
             // add the report to the order history
             history.add(inReport);
+            reportCount++;
             SLF4JLoggerProxy.debug(this,
                                    "Added {} to {}",
                                    inReport,
@@ -151,6 +192,7 @@ public class OrderHistoryManager
                     openOrders.put(inReport.getOrderID(),
                                    (ExecutionReport)inReport);
                 }
+                completedOrders.remove(history);
             } else {
                 SLF4JLoggerProxy.debug(this,
                                        "{} represents a closed order ({}) updating live order list for {}", //$NON-NLS-1$
@@ -158,6 +200,10 @@ public class OrderHistoryManager
                                        inReport.getOrderStatus(),
                                        history);
                 openOrders.remove(inReport.getOrderID());
+                // move the chain to the end of the completed list
+                completedOrders.remove(history);
+                completedOrders.put(history,
+                                    System.currentTimeMillis());
             }
             if(inReport.getOriginalOrderID() != null) {
                 SLF4JLoggerProxy.debug(this,
@@ -166,6 +212,7 @@ public class OrderHistoryManager
                                        inReport.getOriginalOrderID());
                 openOrders.remove(inReport.getOriginalOrderID());
             }
+            archiveCompletedOrders();
             if(SLF4JLoggerProxy.isTraceEnabled(this)) {
                 SLF4JLoggerProxy.trace(this,
                                        display());
@@ -302,7 +349,8 @@ public class OrderHistoryManager
      * 
      * <p>The given <code>OrderID</code> may be either an order ID or an original order ID. The reports
      * returned will be the same in either case. If no history exists for the given <code>OrderID</code>,
-     * an empty <code>Deque</code> is returned.
+     * an empty <code>Deque</code> is returned. If the order chain has been archived, only its latest report
+     * is returned.
      * 
      * <p>The underlying order history is populated by calls to {@link #add(ReportBase)}.</p>
      *
@@ -314,13 +362,17 @@ public class OrderHistoryManager
         if(inOrderId == null) {
             throw new NullPointerException();
         }
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderId);
-            if(history == null) {
-                return NO_ORDER_HISTORY;
-            }
+        OrderHistory history = orders.get(inOrderId);
+        if(history != null) {
             return history.getOrderHistory();
         }
+        ArchivedOrder archivedOrder = archivedOrders.get(inOrderId);
+        if(archivedOrder != null) {
+            Deque<ReportBase> reports = new LinkedList<ReportBase>();
+            reports.add(archivedOrder.latestReport);
+            return new UnmodifiableDeque<ReportBase>(reports);
+        }
+        return NO_ORDER_HISTORY;
     }
     /**
      * Gets the open orders.
@@ -337,15 +389,13 @@ public class OrderHistoryManager
      * Gets all <code>OrderID</code> values for which history is known.
      * 
      * <p>The returned collection will be updated as new order history is received. The
-     * sort order of the returned collection is unspecified. 
+     * sort order of the returned collection is unspecified. Archived orders are not included.
      *
      * @return a <code>Set&lt;OrderID&gt;</code> value
      */
     public Set<OrderID> getOrderIds()
     {
-        synchronized(orders) {
-            return Collections.unmodifiableSet(orders.keySet());
-        }
+        return Collections.unmodifiableSet(orders.keySet());
     }
     /**
      * Clears all order history.
@@ -358,6 +408,10 @@ public class OrderHistoryManager
             }
             orders.clear();
             openOrders.clear();
+            completedOrders.clear();
+            archivedOrders.clear();
+            archive.clear();
+            reportCount = 0;
         }
     }
     /**
@@ -373,6 +427,9 @@ public class OrderHistoryManager
      */
     public void clear(OrderID inOrderId)
     {
+        if(inOrderId == null) {
+            return;
+        }
         synchronized(orders) {
             OrderHistory history = orders.get(inOrderId);
             if(history != null) {
@@ -382,11 +439,15 @@ public class OrderHistoryManager
                                            orderID);
                     orders.remove(orderID);
                 }
+                completedOrders.remove(history);
+                reportCount -= history.size();
                 history.clear();
             }
-            if(inOrderId != null) {
-                openOrders.remove(inOrderId);
+            ArchivedOrder archivedOrder = archivedOrders.get(inOrderId);
+            if(archivedOrder != null) {
+                removeFromArchive(archivedOrder);
             }
+            openOrders.remove(inOrderId);
         }
     }
     /**
@@ -405,13 +466,111 @@ public class OrderHistoryManager
      */
     public Set<OrderID> getOrderChain(OrderID inOrderId)
     {
-        synchronized(orders) {
-            OrderHistory history = orders.get(inOrderId);
-            if(history != null) {
-                return history.getOrderIdChain();
-            }
+        if(inOrderId == null) {
             return NO_ORDER_CHAIN;
         }
+        OrderHistory history = orders.get(inOrderId);
+        if(history != null) {
+            return history.getOrderIdChain();
+        }
+        ArchivedOrder archivedOrder = archivedOrders.get(inOrderId);
+        if(archivedOrder != null) {
+            return archivedOrder.orderIdChain;
+        }
+        return NO_ORDER_CHAIN;
+    }
+    /**
+     * Gets the number of reports held in the live order history.
+     * 
+     * <p>This is the main contributor to the memory used by this object.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getReportCount()
+    {
+        return reportCount;
+    }
+    /**
+     * Gets the number of completed order chains that have not been archived yet.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getCompletedOrderCount()
+    {
+        synchronized(orders) {
+            return completedOrders.size();
+        }
+    }
+    /**
+     * Gets the number of archived order chains.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getArchivedOrderCount()
+    {
+        synchronized(orders) {
+            return archive.size();
+        }
+    }
+    /**
+     * Get the maxCompletedOrders value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxCompletedOrders()
+    {
+        return maxCompletedOrders;
+    }
+    /**
+     * Sets the number of completed order chains to keep with their full history.
+     * 
+     * <p>When there are more completed order chains than this, the oldest ones are archived.
+     *
+     * @param inMaxCompletedOrders an <code>int</code> value, &lt;= 0 for no limit
+     */
+    public void setMaxCompletedOrders(int inMaxCompletedOrders)
+    {
+        maxCompletedOrders = inMaxCompletedOrders;
+    }
+    /**
+     * Get the maxCompletedOrderAge value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getMaxCompletedOrderAge()
+    {
+        return maxCompletedOrderAge;
+    }
+    /**
+     * Sets how long to keep the full history of a completed order chain.
+     * 
+     * <p>Order chains that completed longer ago than this are archived when the next report is added.
+     *
+     * @param inMaxCompletedOrderAge a <code>long</code> value in milliseconds, &lt;= 0 for no limit
+     */
+    public void setMaxCompletedOrderAge(long inMaxCompletedOrderAge)
+    {
+        maxCompletedOrderAge = inMaxCompletedOrderAge;
+    }
+    /**
+     * Get the maxArchivedOrders value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxArchivedOrders()
+    {
+        return maxArchivedOrders;
+    }
+    /**
+     * Sets the number of archived order chains to keep.
+     * 
+     * <p>When there are more archived order chains than this, the oldest ones are discarded.
+     *
+     * @param inMaxArchivedOrders an <code>int</code> value, &lt;= 0 for no limit
+     */
+    public void setMaxArchivedOrders(int inMaxArchivedOrders)
+    {
+        maxArchivedOrders = inMaxArchivedOrders;
     }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
@@ -423,6 +582,94 @@ public class OrderHistoryManager
         builder.append("OrderHistoryManager with history for: ").append(orders.keySet()); //$NON-NLS-1$
         return builder.toString();
     }
+    /**
+     * Archives completed order chains that exceed the configured count or age.
+     */
+    @GuardedBy("orders")
+    private void archiveCompletedOrders()
+    {
+        int maxCount = maxCompletedOrders;
+        long maxAge = maxCompletedOrderAge;
+        if(maxCount <= 0 && maxAge <= 0) {
+            return;
+        }
+        long oldest = System.currentTimeMillis() - maxAge;
+        Iterator<Map.Entry<OrderHistory,Long>> iterator = completedOrders.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<OrderHistory,Long> entry = iterator.next();
+            if((maxCount <= 0 || completedOrders.size() <= maxCount) &&
+               (maxAge <= 0 || entry.getValue() > oldest)) {
+                return;
+            }
+            iterator.remove();
+            archive(entry.getKey());
+        }
+    }
+    /**
+     * Replaces the given order history with a compact archive entry.
+     *
+     * @param inHistory an <code>OrderHistory</code> value
+     */
+    @GuardedBy("orders")
+    private void archive(OrderHistory inHistory)
+    {
+        ArchivedOrder archivedOrder = new ArchivedOrder(inHistory);
+        // readers do not lock and look in orders before archivedOrders, so each order ID must be in archivedOrders
+        //  before it leaves orders or a concurrent lookup could find it in neither
+        for(OrderID orderID : archivedOrder.orderIdChain) {
+            archivedOrders.put(orderID,
+                               archivedOrder);
+            orders.remove(orderID);
+        }
+        reportCount -= inHistory.size();
+        archive.add(archivedOrder);
+        SLF4JLoggerProxy.debug(this,
+                               "Archived {}", //$NON-NLS-1$
+                               inHistory);
+        int maxCount = maxArchivedOrders;
+        if(maxCount > 0) {
+            Iterator<ArchivedOrder> iterator = archive.iterator();
+            while(archive.size() > maxCount) {
+                ArchivedOrder discardedOrder = iterator.next();
+                iterator.remove();
+                for(OrderID orderID : discardedOrder.orderIdChain) {
+                    archivedOrders.remove(orderID);
+                }
+            }
+        }
+    }
+    /**
+     * Moves the given archived order chain to the given new order history.
+     *
+     * @param inArchivedOrder an <code>ArchivedOrder</code> value
+     * @param inHistory an <code>OrderHistory</code> value
+     */
+    @GuardedBy("orders")
+    private void restore(ArchivedOrder inArchivedOrder,
+                         OrderHistory inHistory)
+    {
+        // the order chain must be in orders before it leaves the archive, see archive(OrderHistory)
+        inHistory.restore(inArchivedOrder);
+        reportCount += inHistory.size();
+        for(OrderID orderID : inArchivedOrder.orderIdChain) {
+            orders.put(orderID,
+                       inHistory);
+        }
+        removeFromArchive(inArchivedOrder);
+    }
+    /**
+     * Removes the given archived order chain from the archive.
+     *
+     * @param inArchivedOrder an <code>ArchivedOrder</code> value
+     */
+    @GuardedBy("orders")
+    private void removeFromArchive(ArchivedOrder inArchivedOrder)
+    {
+        archive.remove(inArchivedOrder);
+        for(OrderID orderID : inArchivedOrder.orderIdChain) {
+            archivedOrders.remove(orderID);
+        }
+    }
     /**
      * Tracks order history for a single order.
      * 
@@ -430,12 +677,14 @@ public class OrderHistoryManager
      * this same order chain. No validation is done to make sure that incoming
      * <code>ReportBase</code> objects are truly part of the order chain: the
      * act of invoking <code>add</code> implicitly establishes this fact.
+     * 
+     * <p>Only one thread may modify the order history, but any number of threads may read it.
      *
      * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
      * @version $Id$
      * @since 2.1.4
      */
-    @NotThreadSafe
+    @ThreadSafe
     @ClassVersion("$Id$")
     private static class OrderHistory
     {
@@ -456,9 +705,26 @@ public class OrderHistoryManager
          */
         private void add(ReportBase inReport)
         {
+            if(rootOrderID == null) {
+                rootOrderID = inReport.getOrderID();
+            }
             orderHistory.addFirst(inReport);
             orderIdChain.add(inReport.getOrderID());
             latestReport = inReport;
+            size++;
+        }
+        /**
+         * Starts this order history with the contents of the given archived order chain.
+         *
+         * @param inArchivedOrder an <code>ArchivedOrder</code> value
+         */
+        private void restore(ArchivedOrder inArchivedOrder)
+        {
+            rootOrderID = inArchivedOrder.rootOrderID;
+            orderIdChain.addAll(inArchivedOrder.orderIdChain);
+            orderHistory.addFirst(inArchivedOrder.latestReport);
+            latestReport = inArchivedOrder.latestReport;
+            size++;
         }
         /**
          * Clears the order history object.
@@ -468,6 +734,8 @@ public class OrderHistoryManager
             orderHistory.clear();
             orderIdChain.clear();
             latestReport = null;
+            rootOrderID = null;
+            size = 0;
         }
         /**
          * Gets the order history.
@@ -492,6 +760,24 @@ public class OrderHistoryManager
         {
             return latestReport;
         }
+        /**
+         * Gets the order ID of the first order in the chain.
+         *
+         * @return an <code>OrderID</code> value or <code>null</code>
+         */
+        private OrderID getRootOrderID()
+        {
+            return rootOrderID;
+        }
+        /**
+         * Gets the number of reports in the order history.
+         *
+         * @return an <code>int</code> value
+         */
+        private int size()
+        {
+            return size;
+        }
         /**
          * Gets the chain of <code>OrderID</code> values that describe the evolution of this
          * order.
@@ -510,26 +796,97 @@ public class OrderHistoryManager
         /**
          * order history sorted from newest to oldest
          */
-        private final Deque<ReportBase> orderHistory = new LinkedList<ReportBase>();
+        private final Deque<ReportBase> orderHistory = new ConcurrentLinkedDeque<ReportBase>();
         /**
          * order IDs in the order chain in the order they occurred
          */
-        private final Set<OrderID> orderIdChain = new LinkedHashSet<OrderID>();
+        private final Set<OrderID> orderIdChain = new CopyOnWriteArraySet<OrderID>();
         /**
          * most recent <code>ExecutionReport</code>, may be <code>null</code>
          */
         private volatile ReportBase latestReport;
+        /**
+         * order ID of the first report in the order history, may be <code>null</code>
+         */
+        private volatile OrderID rootOrderID;
+        /**
+         * number of reports in the order history, written only by the thread that adds reports
+         */
+        private int size;
     }
     /**
-     * order history objects indexed by actual order ID
+     * What remains of a completed order chain after it has been archived.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
      */
-    @GuardedBy("orders")
-    private final Map<OrderID,OrderHistory> orders = new LinkedHashMap<OrderID,OrderHistory>();
+    @ClassVersion("$Id$")
+    private static class ArchivedOrder
+    {
+        /**
+         * Create a new ArchivedOrder instance.
+         *
+         * @param inHistory an <code>OrderHistory</code> value
+         */
+        private ArchivedOrder(OrderHistory inHistory)
+        {
+            latestReport = inHistory.getLatestReport();
+            rootOrderID = inHistory.getRootOrderID();
+            orderIdChain = Collections.unmodifiableSet(new LinkedHashSet<OrderID>(inHistory.getOrderIdChain()));
+        }
+        /**
+         * most recent report of the order chain
+         */
+        private final ReportBase latestReport;
+        /**
+         * order ID of the first order in the chain
+         */
+        private final OrderID rootOrderID;
+        /**
+         * order IDs in the order chain in the order they occurred
+         */
+        private final Set<OrderID> orderIdChain;
+    }
+    /**
+     * order history objects indexed by actual order ID, modified only while holding its own lock
+     */
+    private final Map<OrderID,OrderHistory> orders = new ConcurrentHashMap<OrderID,OrderHistory>();
     /**
      * collection containing only the open orders
      */
     @GuardedBy("orders")
     private final Map<OrderID,ExecutionReport> openOrders = new ConcurrentHashMap<OrderID,ExecutionReport>();
+    /**
+     * completed order histories and the time they completed, oldest first
+     */
+    @GuardedBy("orders")
+    private final Map<OrderHistory,Long> completedOrders = new LinkedHashMap<OrderHistory,Long>();
+    /**
+     * archived order chains indexed by each order ID in the chain, modified only while holding the lock of {@link #orders}
+     */
+    private final Map<OrderID,ArchivedOrder> archivedOrders = new ConcurrentHashMap<OrderID,ArchivedOrder>();
+    /**
+     * archived order chains, oldest first
+     */
+    @GuardedBy("orders")
+    private final Set<ArchivedOrder> archive = new LinkedHashSet<ArchivedOrder>();
+    /**
+     * number of reports in the live order history
+     */
+    private volatile int reportCount;
+    /**
+     * number of completed order chains to keep with their full history, &lt;= 0 for no limit
+     */
+    private volatile int maxCompletedOrders;
+    /**
+     * milliseconds to keep the full history of a completed order chain, &lt;= 0 for no limit
+     */
+    private volatile long maxCompletedOrderAge;
+    /**
+     * number of archived order chains to keep, &lt;= 0 for no limit
+     */
+    private volatile int maxArchivedOrders;
     /**
      * sentinel collection used to indicate there is no order chain for a given order ID
      */
@@ -0,0 +1,224 @@
+package org.marketcetera.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Compares the number of order IDs per second assigned by a synchronized ID factory and by {@link PrefetchingIDFactory}
+ * with 1, 4, and 16 threads requesting IDs.
+ *
+ * <p>The synchronized factory assigns IDs the way the client and DARE ID factories did before they prefetched blocks:
+ * it holds a lock for each ID, formats the ID with {@link String#format(String, Object...)}, and requests the next block
+ * while holding the lock. Both factories obtain blocks from a block factory that takes {@link #blockLatencyMillis}
+ * to respond, standing in for the round-trip to the server or database. With no latency, the benchmark measures
+ * the cost of assigning and formatting IDs under contention. With latency, the synchronized factory stalls all callers
+ * for each block, while the prefetching factory is limited only by the rate at which blocks can be provided.
+ *
+ * <p>Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.core.IDFactoryBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class IDFactoryBenchmark
+{
+    /**
+     * Runs the benchmark with 1, 4, and 16 threads.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        for(int threads : new int[] { 1, 4, 16 }) {
+            new Runner(new OptionsBuilder().include(IDFactoryBenchmark.class.getSimpleName()).threads(threads).build()).run();
+        }
+    }
+    /**
+     * Creates the ID factories.
+     *
+     * @throws Exception if the factories cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        synchronizedFactory = new SynchronizedIDFactory(new SlowBlockFactory(blockLatencyMillis));
+        synchronizedFactory.init();
+        prefetchingFactory = new PrefetchingIDFactory("METC",
+                                                      new SlowBlockFactory(blockLatencyMillis));
+        prefetchingFactory.init();
+    }
+    /**
+     * Assigns an ID with the synchronized factory.
+     *
+     * @return a <code>String</code> value
+     * @throws NoMoreIDsException if the ID cannot be assigned
+     */
+    @Benchmark
+    public String synchronizedFactory()
+            throws NoMoreIDsException
+    {
+        return synchronizedFactory.getNext();
+    }
+    /**
+     * Assigns an ID with the prefetching factory.
+     *
+     * @return a <code>String</code> value
+     * @throws NoMoreIDsException if the ID cannot be assigned
+     */
+    @Benchmark
+    public String prefetchingFactory()
+            throws NoMoreIDsException
+    {
+        return prefetchingFactory.getNext();
+    }
+    /**
+     * Provides sequential block IDs after a delay.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class SlowBlockFactory
+            implements IDFactory
+    {
+        /**
+         * Create a new SlowBlockFactory instance.
+         *
+         * @param inLatencyMillis a <code>long</code> value
+         */
+        private SlowBlockFactory(long inLatencyMillis)
+        {
+            latencyMillis = inLatencyMillis;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#getNext()
+         */
+        @Override
+        public String getNext()
+                throws NoMoreIDsException
+        {
+            try {
+                if(latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NoMoreIDsException(e);
+            }
+            return String.valueOf(lastBlock.incrementAndGet());
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#init()
+         */
+        @Override
+        public void init()
+        {
+        }
+        /**
+         * time to wait before providing a block
+         */
+        private final long latencyMillis;
+        /**
+         * last block provided
+         */
+        private final AtomicLong lastBlock = new AtomicLong();
+    }
+    /**
+     * Assigns IDs under a lock and requests blocks while holding the lock.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class SynchronizedIDFactory
+            implements IDFactory
+    {
+        /**
+         * Create a new SynchronizedIDFactory instance.
+         *
+         * @param inBlockFactory an <code>IDFactory</code> value
+         */
+        private SynchronizedIDFactory(IDFactory inBlockFactory)
+        {
+            blockFactory = inBlockFactory;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#getNext()
+         */
+        @Override
+        public synchronized String getNext()
+                throws NoMoreIDsException
+        {
+            localId++;
+            if(localId > 999) {
+                init();
+            }
+            return String.format("%1$s%2$s%3$03d", //$NON-NLS-1$
+                                 "METC", //$NON-NLS-1$
+                                 blockId,
+                                 localId);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#init()
+         */
+        @Override
+        public synchronized void init()
+                throws NoMoreIDsException
+        {
+            blockId = blockFactory.getNext();
+            localId = 0;
+        }
+        /**
+         * provides blocks
+         */
+        private final IDFactory blockFactory;
+        /**
+         * current block
+         */
+        private String blockId;
+        /**
+         * last position assigned in the current block
+         */
+        private int localId;
+    }
+    /**
+     * time the block factories take to provide a block
+     */
+    @Param({"0","2"})
+    public long blockLatencyMillis;
+    /**
+     * factory that assigns IDs under a lock
+     */
+    private SynchronizedIDFactory synchronizedFactory;
+    /**
+     * factory that assigns IDs without a lock and prefetches blocks
+     */
+    private PrefetchingIDFactory prefetchingFactory;
+}
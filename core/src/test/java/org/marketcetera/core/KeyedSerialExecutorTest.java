@@ -0,0 +1,241 @@
+package org.marketcetera.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Tests {@link KeyedSerialExecutor}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class KeyedSerialExecutorTest
+{
+    /**
+     * Runs after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        if(executor != null) {
+            executor.stop();
+        }
+    }
+    /**
+     * Tests that tasks for the same key are run in order and never concurrently.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOrderingPerKey()
+            throws Exception
+    {
+        doOrderingTest(false);
+    }
+    /**
+     * Tests ordering with virtual threads requested, which falls back to platform threads if virtual threads are not supported.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOrderingPerKeyVirtual()
+            throws Exception
+    {
+        doOrderingTest(true);
+    }
+    /**
+     * Tests that a failing task does not prevent subsequent tasks for the same key from running.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testTaskFailure()
+            throws Exception
+    {
+        executor = new KeyedSerialExecutor<>("testTaskFailure",
+                                             2,
+                                             false);
+        new ExpectedFailure<RejectedExecutionException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                executor.execute("key",
+                                 new Runnable() {
+                    @Override
+                    public void run() {}
+                });
+            }
+        };
+        executor.start();
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute("key",
+                         new Runnable() {
+            @Override
+            public void run()
+            {
+                throw new IllegalStateException("This exception is expected");
+            }
+        });
+        executor.execute("key",
+                         new Runnable() {
+            @Override
+            public void run()
+            {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10,
+                               TimeUnit.SECONDS));
+        waitForIdle();
+    }
+    /**
+     * Tests that a task that throws an error does not leave its key wedged.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testTaskError()
+            throws Exception
+    {
+        executor = new KeyedSerialExecutor<>("testTaskError",
+                                             2,
+                                             false);
+        executor.start();
+        final CountDownLatch blockLatch = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute("key",
+                         new Runnable() {
+            @Override
+            public void run()
+            {
+                try {
+                    blockLatch.await();
+                } catch (InterruptedException ignored) {}
+                throw new AssertionError("This error is expected");
+            }
+        });
+        executor.execute("key",
+                         new Runnable() {
+            @Override
+            public void run()
+            {
+                latch.countDown();
+            }
+        });
+        blockLatch.countDown();
+        assertTrue(latch.await(10,
+                               TimeUnit.SECONDS));
+        waitForIdle();
+        executor.execute("key",
+                         new Runnable() {
+            @Override
+            public void run() {}
+        });
+        waitForIdle();
+    }
+    /**
+     * Submits tasks for many keys from several threads and verifies per-key ordering.
+     *
+     * @param inUseVirtualThreads a <code>boolean</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void doOrderingTest(boolean inUseVirtualThreads)
+            throws Exception
+    {
+        executor = new KeyedSerialExecutor<>("testOrdering",
+                                             4,
+                                             inUseVirtualThreads);
+        executor.setMaxTasksPerTurn(3);
+        executor.start();
+        final int keyCount = 50;
+        final int tasksPerKey = 200;
+        final Map<String,List<Integer>> results = new ConcurrentHashMap<>();
+        final Map<String,AtomicInteger> running = new ConcurrentHashMap<>();
+        final AtomicInteger overlaps = new AtomicInteger(0);
+        for(int keyIndex=0;keyIndex<keyCount;keyIndex++) {
+            String key = "key-" + keyIndex;
+            results.put(key,
+                        new CopyOnWriteArrayList<Integer>());
+            running.put(key,
+                        new AtomicInteger(0));
+        }
+        Thread[] submitters = new Thread[keyCount];
+        for(int keyIndex=0;keyIndex<keyCount;keyIndex++) {
+            final String key = "key-" + keyIndex;
+            submitters[keyIndex] = new Thread(new Runnable() {
+                @Override
+                public void run()
+                {
+                    for(int taskIndex=0;taskIndex<tasksPerKey;taskIndex++) {
+                        final int value = taskIndex;
+                        executor.execute(key,
+                                         new Runnable() {
+                            @Override
+                            public void run()
+                            {
+                                if(running.get(key).incrementAndGet() != 1) {
+                                    overlaps.incrementAndGet();
+                                }
+                                results.get(key).add(value);
+                                running.get(key).decrementAndGet();
+                            }
+                        });
+                    }
+                }
+            });
+            submitters[keyIndex].start();
+        }
+        for(Thread submitter : submitters) {
+            submitter.join();
+        }
+        waitForIdle();
+        assertEquals(0,
+                     overlaps.get());
+        for(List<Integer> keyResults : results.values()) {
+            assertEquals(tasksPerKey,
+                         keyResults.size());
+            for(int taskIndex=0;taskIndex<tasksPerKey;taskIndex++) {
+                assertEquals(taskIndex,
+                             keyResults.get(taskIndex).intValue());
+            }
+        }
+    }
+    /**
+     * Waits for the executor to run all pending tasks and discard all key queues.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    private void waitForIdle()
+            throws Exception
+    {
+        long timeout = System.currentTimeMillis() + 10000;
+        while(executor.getPendingCount() != 0 || executor.getActiveKeyCount() != 0) {
+            assertTrue(System.currentTimeMillis() < timeout);
+            Thread.sleep(10);
+        }
+    }
+    /**
+     * test executor
+     */
+    private KeyedSerialExecutor<String> executor;
+}
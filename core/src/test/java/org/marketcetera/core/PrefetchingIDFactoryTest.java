@@ -0,0 +1,251 @@
+package org.marketcetera.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Tests {@link PrefetchingIDFactory}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class PrefetchingIDFactoryTest
+{
+    /**
+     * Tests the format of the IDs and the transition between blocks.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testFormat()
+            throws Exception
+    {
+        BlockFactory blocks = new BlockFactory(41);
+        PrefetchingIDFactory factory = new PrefetchingIDFactory("A",
+                                                                blocks,
+                                                                1000,
+                                                                0);
+        factory.init();
+        assertEquals("A42000",
+                     factory.getNext());
+        assertEquals("A42001",
+                     factory.getNext());
+        for(int i=2;i<999;i++) {
+            factory.getNext();
+        }
+        assertEquals("A42999",
+                     factory.getNext());
+        assertEquals("A43000",
+                     factory.getNext());
+        assertEquals(2,
+                     blocks.requests.get());
+        factory = new PrefetchingIDFactory(null,
+                                           new BlockFactory(0),
+                                           20,
+                                           0);
+        assertEquals("100",
+                     factory.getNext());
+        for(int i=1;i<10;i++) {
+            factory.getNext();
+        }
+        assertEquals("110",
+                     factory.getNext());
+        assertEquals(20000,
+                     new PrefetchingIDFactory(null,
+                                              new BlockFactory(19),
+                                              1000,
+                                              0).getNextLong());
+    }
+    /**
+     * Tests that the next block is requested before the current block is exhausted.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPrefetch()
+            throws Exception
+    {
+        final CountDownLatch prefetchRequested = new CountDownLatch(1);
+        BlockFactory blocks = new BlockFactory(0) {
+            @Override
+            public String getNext()
+                    throws NoMoreIDsException
+            {
+                String block = super.getNext();
+                if(requests.get() == 2) {
+                    prefetchRequested.countDown();
+                }
+                return block;
+            }
+        };
+        PrefetchingIDFactory factory = new PrefetchingIDFactory(null,
+                                                                blocks,
+                                                                10,
+                                                                5);
+        for(int i=0;i<5;i++) {
+            factory.getNext();
+        }
+        assertEquals(1,
+                     blocks.requests.get());
+        factory.getNext();
+        assertTrue(prefetchRequested.await(10,
+                                           TimeUnit.SECONDS));
+        for(int i=6;i<10;i++) {
+            factory.getNext();
+        }
+        assertEquals("20",
+                     factory.getNext());
+        assertEquals(2,
+                     blocks.requests.get());
+    }
+    /**
+     * Tests that a failed prefetch is retried when the next block is needed and that failures are reported to the caller.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBlockFailure()
+            throws Exception
+    {
+        final AtomicBoolean fail = new AtomicBoolean(false);
+        BlockFactory blocks = new BlockFactory(0) {
+            @Override
+            public String getNext()
+                    throws NoMoreIDsException
+            {
+                if(fail.get()) {
+                    throw new NoMoreIDsException(new IllegalStateException());
+                }
+                return super.getNext();
+            }
+        };
+        final PrefetchingIDFactory factory = new PrefetchingIDFactory(null,
+                                                                      blocks,
+                                                                      10,
+                                                                      5);
+        assertEquals("10",
+                     factory.getNext());
+        fail.set(true);
+        for(int i=1;i<10;i++) {
+            factory.getNext();
+        }
+        new ExpectedFailure<NoMoreIDsException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                factory.getNext();
+            }
+        };
+        fail.set(false);
+        assertEquals("20",
+                     factory.getNext());
+    }
+    /**
+     * Tests that IDs are unique when requested from many threads.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConcurrentUniqueness()
+            throws Exception
+    {
+        final PrefetchingIDFactory factory = new PrefetchingIDFactory("X",
+                                                                      new BlockFactory(0),
+                                                                      100,
+                                                                      50);
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        final int threads = 8;
+        final int idsPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] results = new Future<?>[threads];
+            for(int i=0;i<threads;i++) {
+                results[i] = executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call()
+                            throws Exception
+                    {
+                        start.await();
+                        for(int j=0;j<idsPerThread;j++) {
+                            assertTrue(ids.add(factory.getNext()));
+                        }
+                        return null;
+                    }
+                });
+            }
+            start.countDown();
+            for(Future<?> result : results) {
+                result.get(30,
+                           TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * idsPerThread,
+                     ids.size());
+    }
+    /**
+     * Provides sequential block IDs.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class BlockFactory
+            implements IDFactory
+    {
+        /**
+         * Create a new BlockFactory instance.
+         *
+         * @param inLastBlock an <code>int</code> value containing the block before the first block to provide
+         */
+        private BlockFactory(int inLastBlock)
+        {
+            lastBlock = new AtomicInteger(inLastBlock);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#getNext()
+         */
+        @Override
+        public String getNext()
+                throws NoMoreIDsException
+        {
+            requests.incrementAndGet();
+            return String.valueOf(lastBlock.incrementAndGet());
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.IDFactory#init()
+         */
+        @Override
+        public void init()
+        {
+        }
+        /**
+         * number of blocks requested
+         */
+        protected final AtomicInteger requests = new AtomicInteger();
+        /**
+         * last block provided
+         */
+        private final AtomicInteger lastBlock;
+    }
+}
@@ -0,0 +1,354 @@
+package org.marketcetera.core.position.impl;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.marketcetera.core.instruments.UnderlyingSymbolSupport;
+import org.marketcetera.core.position.Grouping;
+import org.marketcetera.core.position.ImmutablePositionSupport;
+import org.marketcetera.core.position.MarketDataSupport;
+import org.marketcetera.core.position.PositionEngine;
+import org.marketcetera.core.position.PositionEngine.PositionData;
+import org.marketcetera.core.position.PositionEngineFactory;
+import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionKeyFactory;
+import org.marketcetera.core.position.PositionRow;
+import org.marketcetera.core.position.Trade;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ca.odell.glazedlists.BasicEventList;
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.event.ListEventListener;
+
+import com.google.common.collect.Maps;
+
+/* $License$ */
+
+/**
+ * Measures the rate at which the position engine applies trade ticks to a large number of positions.
+ *
+ * <p>Each invocation sends one tick to each position, in turn, and waits until the position list the client
+ * holds reflects the last of them. Ticks are sent from the calling thread, the way a market data feed sends them.
+ * Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.core.position.impl.PositionEngineBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class PositionEngineBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(PositionEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Creates one position per instrument and gives each a closing price.
+     *
+     * @throws Exception if the positions cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        EventList<Trade<?>> trades = new BasicEventList<Trade<?>>();
+        instruments = new Instrument[POSITIONS];
+        for(int i=0;i<POSITIONS;i++) {
+            instruments[i] = new Equity("SYM" + i); //$NON-NLS-1$
+            trades.add(new BenchmarkTrade(PositionKeyFactory.createKey(instruments[i],
+                                                                       "account" + (i % 10), //$NON-NLS-1$
+                                                                       "trader" + (i % 7)), //$NON-NLS-1$
+                                          i + 1));
+        }
+        engine = PositionEngineFactory.create(trades,
+                                              new ImmutablePositionSupport(Maps.<PositionKey<?>,BigDecimal>newHashMap()),
+                                              marketData,
+                                              new UnderlyingSymbolSupport() {
+            @Override
+            public String getUnderlying(Instrument inInstrument)
+            {
+                return inInstrument.getSymbol();
+            }
+        });
+        positionData = grouped ? engine.getGroupedData(Grouping.Underlying,
+                                                       Grouping.Account) : engine.getFlatData();
+        EventList<PositionRow> flat = engine.getFlatData().getPositions();
+        for(PositionRow row : flat) {
+            if(row.getInstrument().equals(instruments[POSITIONS-1])) {
+                probe = row;
+            }
+        }
+        for(Instrument instrument : instruments) {
+            marketData.listeners.get(instrument).closePriceChanged(new MarketDataSupport.InstrumentMarketDataEvent(this,
+                                                                                                               CLOSE));
+        }
+        positionData.getPositions().addListEventListener(new ListEventListener<PositionRow>() {
+            @Override
+            public void listChanged(ListEvent<PositionRow> inChanges)
+            {
+                CountDownLatch currentLatch = latch;
+                BigDecimal tradingPL = probe.getPositionMetrics().getTradingPL();
+                if(currentLatch != null && tradingPL != null && tradingPL.compareTo(expectedPL) == 0) {
+                    currentLatch.countDown();
+                }
+            }
+        });
+    }
+    /**
+     * Releases the engine.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        positionData.dispose();
+        engine.dispose();
+    }
+    /**
+     * Sends one tick to each position and waits for the last one to reach the position list.
+     *
+     * @throws InterruptedException if the wait is interrupted
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void tick()
+            throws InterruptedException
+    {
+        BigDecimal price = (++invocations & 1) == 0 ? PRICE1 : PRICE2;
+        // each position holds one share
+        expectedPL = price.subtract(CLOSE);
+        latch = new CountDownLatch(1);
+        MarketDataSupport.InstrumentMarketDataEvent event = new MarketDataSupport.InstrumentMarketDataEvent(this,
+                                                                                                            price);
+        for(Instrument instrument : instruments) {
+            marketData.listeners.get(instrument).symbolTraded(event);
+        }
+        latch.await();
+        latch = null;
+    }
+    /**
+     * Buys one share of a position.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class BenchmarkTrade
+            implements Trade<Instrument>
+    {
+        /**
+         * Create a new BenchmarkTrade instance.
+         *
+         * @param inPositionKey a <code>PositionKey&lt;Instrument&gt;</code> value
+         * @param inSequenceNumber a <code>long</code> value
+         */
+        private BenchmarkTrade(PositionKey<Instrument> inPositionKey,
+                               long inSequenceNumber)
+        {
+            positionKey = inPositionKey;
+            sequenceNumber = inSequenceNumber;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getPositionKey()
+         */
+        @Override
+        public PositionKey<Instrument> getPositionKey()
+        {
+            return positionKey;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getPrice()
+         */
+        @Override
+        public BigDecimal getPrice()
+        {
+            return CLOSE;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getQuantity()
+         */
+        @Override
+        public BigDecimal getQuantity()
+        {
+            return BigDecimal.ONE;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.Trade#getSequenceNumber()
+         */
+        @Override
+        public long getSequenceNumber()
+        {
+            return sequenceNumber;
+        }
+        /**
+         * position to which the trade belongs
+         */
+        private final PositionKey<Instrument> positionKey;
+        /**
+         * trade sequence number
+         */
+        private final long sequenceNumber;
+    }
+    /**
+     * Keeps the listener the engine registers for each instrument so ticks can be sent to it.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class BenchmarkMarketData
+            implements MarketDataSupport
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#getLastTradePrice(org.marketcetera.trade.Instrument)
+         */
+        @Override
+        public BigDecimal getLastTradePrice(Instrument inInstrument)
+        {
+            return null;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#getClosingPrice(org.marketcetera.trade.Instrument)
+         */
+        @Override
+        public BigDecimal getClosingPrice(Instrument inInstrument)
+        {
+            return null;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#getOptionMultiplier(org.marketcetera.trade.Option)
+         */
+        @Override
+        public BigDecimal getOptionMultiplier(Option inOption)
+        {
+            return null;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#getFutureMultiplier(org.marketcetera.trade.Future)
+         */
+        @Override
+        public BigDecimal getFutureMultiplier(Future inFuture)
+        {
+            return null;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#addInstrumentMarketDataListener(org.marketcetera.trade.Instrument, org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListener)
+         */
+        @Override
+        public void addInstrumentMarketDataListener(Instrument inInstrument,
+                                                    InstrumentMarketDataListener inListener)
+        {
+            listeners.put(inInstrument,
+                          inListener);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#removeInstrumentMarketDataListener(org.marketcetera.trade.Instrument, org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListener)
+         */
+        @Override
+        public void removeInstrumentMarketDataListener(Instrument inInstrument,
+                                                       InstrumentMarketDataListener inListener)
+        {
+            listeners.remove(inInstrument);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.core.position.MarketDataSupport#dispose()
+         */
+        @Override
+        public void dispose()
+        {
+            listeners.clear();
+        }
+        /**
+         * listener for each instrument
+         */
+        private final Map<Instrument,InstrumentMarketDataListener> listeners = new ConcurrentHashMap<Instrument,InstrumentMarketDataListener>();
+    }
+    /**
+     * indicates if the client holds grouped data rather than flat data
+     */
+    @Param({"false","true"})
+    public boolean grouped;
+    /**
+     * number of positions
+     */
+    private static final int POSITIONS = 10000;
+    /**
+     * closing price and trade price of every position
+     */
+    private static final BigDecimal CLOSE = new BigDecimal("10.00"); //$NON-NLS-1$
+    /**
+     * tick price used by odd invocations
+     */
+    private static final BigDecimal PRICE1 = new BigDecimal("10.25"); //$NON-NLS-1$
+    /**
+     * tick price used by even invocations
+     */
+    private static final BigDecimal PRICE2 = new BigDecimal("10.50"); //$NON-NLS-1$
+    /**
+     * receives ticks
+     */
+    private final BenchmarkMarketData marketData = new BenchmarkMarketData();
+    /**
+     * engine under test
+     */
+    private PositionEngine engine;
+    /**
+     * position data held by the client
+     */
+    private PositionData positionData;
+    /**
+     * instrument of each position
+     */
+    private Instrument[] instruments;
+    /**
+     * position that receives the last tick of each invocation
+     */
+    private volatile PositionRow probe;
+    /**
+     * trading P&amp;L of the probe after the current invocation
+     */
+    private volatile BigDecimal expectedPL;
+    /**
+     * released when the probe reaches the expected trading P&amp;L
+     */
+    private volatile CountDownLatch latch;
+    /**
+     * number of invocations so far
+     */
+    private long invocations;
+}
@@ -3,25 +3,34 @@ package org.marketcetera.core.position.impl;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.marketcetera.core.position.impl.BigDecimalMatchers.comparesEqualTo;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Ignore;
 import org.junit.Test;
 import org.marketcetera.core.instruments.UnderlyingSymbolSupport;
 import org.marketcetera.core.position.*;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataEvent;
+import org.marketcetera.core.position.MarketDataSupport.InstrumentMarketDataListener;
 import org.marketcetera.messagehistory.ReportHolder;
 import org.marketcetera.trade.*;
+import org.mockito.ArgumentCaptor;
 
 import ca.odell.glazedlists.BasicEventList;
 import ca.odell.glazedlists.EventList;
 import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.event.ListEventListener;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 /* $License$ */
 
@@ -672,6 +681,80 @@ public class PositionEngineImplTest {
         }.run();
     }
 
+    @Test
+    public void tradeOutOfOrder() {
+        new PositionEngineTestTemplate() {
+
+            @Override
+            protected int[] getExpectedPositionListChanges() {
+                return new int[] { ListEvent.UPDATE, 0 };
+            }
+
+            @Override
+            protected void initReports() {
+                addEquityTrade("METC", "personal", Side.Buy, "1000", "1");
+                addEquityTrade("METC", "personal", Side.Buy, "100", "1");
+            }
+
+            @Override
+            protected void validatePositions(EventList<PositionRow> positions) {
+                // a trade that precedes the existing trades
+                addTrade(new Equity("METC"), "personal", 1, Side.Sell, "300", "1", 0,
+                        OrderStatus.Filled, ExecutionType.Fill, Originator.Broker);
+                assertThat(positions.size(), is(1));
+                assertEquityPosition(positions.get(0), "METC", "personal", "1", "800");
+            }
+        }.run();
+    }
+
+    @Test
+    public void marketData() throws Exception {
+        EventList<ReportHolder> reports = new BasicEventList<ReportHolder>();
+        Equity metc = new Equity("METC");
+        Equity ibm = new Equity("IBM");
+        reports.add(new ReportHolder(new MockExecutionReport("personal", metc, 1, Side.Buy, "1",
+                "100", 1, OrderStatus.Filled, ExecutionType.Fill, Originator.Broker), null));
+        reports.add(new ReportHolder(new MockExecutionReport("personal", ibm, 1, Side.Buy, "1",
+                "200", 2, OrderStatus.Filled, ExecutionType.Fill, Originator.Broker), null));
+        MarketDataSupport marketData = mock(MarketDataSupport.class);
+        PositionEngine engine = PositionEngineFactory.createFromReportHolders(reports,
+                new ImmutablePositionSupport(Maps.<PositionKey<?>, BigDecimal> newHashMap()),
+                marketData, new UnderlyingSymbolSupport() {
+                    @Override
+                    public String getUnderlying(Instrument instrument) {
+                        return instrument.getSymbol();
+                    }
+                });
+        ArgumentCaptor<InstrumentMarketDataListener> metcListener = ArgumentCaptor
+                .forClass(InstrumentMarketDataListener.class);
+        verify(marketData).addInstrumentMarketDataListener(eq(metc), metcListener.capture());
+        ArgumentCaptor<InstrumentMarketDataListener> ibmListener = ArgumentCaptor
+                .forClass(InstrumentMarketDataListener.class);
+        verify(marketData).addInstrumentMarketDataListener(eq(ibm), ibmListener.capture());
+        EventList<PositionRow> positions = engine.getFlatData().getPositions();
+        final Set<Integer> updated = Sets.newConcurrentHashSet();
+        positions.addListEventListener(new ListEventListener<PositionRow>() {
+            @Override
+            public void listChanged(ListEvent<PositionRow> listChanges) {
+                while (listChanges.next()) {
+                    assertThat(listChanges.getType(), is(ListEvent.UPDATE));
+                    updated.add(listChanges.getIndex());
+                }
+            }
+        });
+        metcListener.getValue().closePriceChanged(new InstrumentMarketDataEvent(this, new BigDecimal("1")));
+        metcListener.getValue().symbolTraded(new InstrumentMarketDataEvent(this, new BigDecimal("3")));
+        ibmListener.getValue().closePriceChanged(new InstrumentMarketDataEvent(this, new BigDecimal("1")));
+        ibmListener.getValue().symbolTraded(new InstrumentMarketDataEvent(this, new BigDecimal("2")));
+        Thread.sleep(500);
+        assertThat(updated, is((Set<Integer>) ImmutableSet.of(0, 1)));
+        // IBM sorts first
+        assertThat(positions.get(0).getPositionMetrics().getTradingPL(), comparesEqualTo("200"));
+        assertThat(positions.get(1).getPositionMetrics().getTradingPL(), comparesEqualTo("200"));
+        engine.dispose();
+        verify(marketData).removeInstrumentMarketDataListener(metc, metcListener.getValue());
+    }
+
     @Test
     public void equityAndOptions() {
         new PositionEngineTestTemplate() {
@@ -0,0 +1,203 @@
+package org.marketcetera.marketdata;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.trade.Equity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Compares {@link OrderBook} and {@link SortedOrderBook} at different book depths.
+ *
+ * <p>Each operation replaces one bid on a book of the given depth with a new bid at a random price
+ * and then reads the book the way market data consumers do.
+ *
+ * <p>Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.marketdata.OrderBookBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class OrderBookBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(OrderBookBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Prepares books of the configured depth.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        orderBook = new OrderBook(symbol);
+        sortedOrderBook = new SortedOrderBook(symbol);
+        liveBids = new BidEvent[depth];
+        for(int i=0;i<depth;i++) {
+            liveBids[i] = generateBid();
+            orderBook.process(liveBids[i]);
+            sortedOrderBook.process(liveBids[i]);
+        }
+        replacements = new BidEvent[REPLACEMENT_COUNT];
+        for(int i=0;i<REPLACEMENT_COUNT;i++) {
+            replacements[i] = generateBid();
+        }
+    }
+    /**
+     * Replaces a bid and reads the top of the existing book.
+     *
+     * @return a <code>TopOfBookEvent</code> value
+     */
+    @Benchmark
+    public TopOfBookEvent orderBookTopOfBook()
+    {
+        replaceBid(true);
+        return orderBook.getTopOfBook();
+    }
+    /**
+     * Replaces a bid and reads the top of the sorted book.
+     *
+     * @return a <code>TopOfBookEvent</code> value
+     */
+    @Benchmark
+    public TopOfBookEvent sortedOrderBookTopOfBook()
+    {
+        replaceBid(false);
+        return sortedOrderBook.getTopOfBook();
+    }
+    /**
+     * Replaces a bid and reads the depth of the existing book.
+     *
+     * @return a <code>List&lt;BidEvent&gt;</code> value
+     */
+    @Benchmark
+    public List<BidEvent> orderBookDepth()
+    {
+        replaceBid(true);
+        return orderBook.getBidBook();
+    }
+    /**
+     * Replaces a bid and reads the depth of the sorted book.
+     *
+     * @return a <code>List&lt;BidEvent&gt;</code> value
+     */
+    @Benchmark
+    public List<BidEvent> sortedOrderBookDepth()
+    {
+        replaceBid(false);
+        return sortedOrderBook.getBidBook();
+    }
+    /**
+     * Deletes the next live bid and adds a replacement to the indicated book.
+     *
+     * @param inOrderBook a <code>boolean</code> value indicating whether to update the existing or sorted book
+     */
+    private void replaceBid(boolean inOrderBook)
+    {
+        int liveIndex = counter % depth;
+        BidEvent replacement = replacements[counter % REPLACEMENT_COUNT];
+        QuoteEvent delete = QuoteEventBuilder.delete(liveBids[liveIndex]);
+        if(inOrderBook) {
+            orderBook.process(delete);
+            orderBook.process(replacement);
+        } else {
+            sortedOrderBook.process(delete);
+            sortedOrderBook.process(replacement);
+        }
+        replacements[counter % REPLACEMENT_COUNT] = liveBids[liveIndex];
+        liveBids[liveIndex] = replacement;
+        counter += 1;
+    }
+    /**
+     * Generates a bid with a random price.
+     *
+     * @return a <code>BidEvent</code> value
+     */
+    private BidEvent generateBid()
+    {
+        messageId += 1;
+        return QuoteEventBuilder.bidEvent(symbol).withMessageId(messageId)
+                                                 .withTimestamp(new Date(messageId))
+                                                 .withPrice(new BigDecimal(random.nextInt(100000)).movePointLeft(2))
+                                                 .withSize(BigDecimal.TEN)
+                                                 .withExchange("TEST")
+                                                 .withQuoteDate(new Date()).create();
+    }
+    /**
+     * number of pre-generated bids used to replace live bids
+     */
+    private static final int REPLACEMENT_COUNT = 1024;
+    /**
+     * depth of the book
+     */
+    @Param({"10","100","1000"})
+    public int depth;
+    /**
+     * test symbol
+     */
+    private final Equity symbol = new Equity("METC");
+    /**
+     * generates random prices
+     */
+    private final Random random = new Random(1);
+    /**
+     * existing order book implementation
+     */
+    private OrderBook orderBook;
+    /**
+     * sorted order book implementation
+     */
+    private SortedOrderBook sortedOrderBook;
+    /**
+     * bids currently on the book
+     */
+    private BidEvent[] liveBids;
+    /**
+     * bids available to add to the book
+     */
+    private BidEvent[] replacements;
+    /**
+     * number of replacements made
+     */
+    private int counter;
+    /**
+     * last assigned message id
+     */
+    private long messageId;
+}
@@ -50,6 +50,7 @@ import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.impl.TradeEventBuilder;
 import org.marketcetera.marketdata.SimulatedExchange.Token;
 import org.marketcetera.marketdata.SimulatedExchange.TopOfBook;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.ExpectedFailure;
 import org.marketcetera.options.ExpirationType;
 import org.marketcetera.trade.Currency;
@@ -62,6 +63,7 @@ import org.marketcetera.trade.OptionType;
 import org.marketcetera.util.test.CollectionAssert;
 import org.marketcetera.util.test.TestCaseBase;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
@@ -1649,6 +1651,130 @@ public class SimulatedExchangeTest
         });
         exchange.stop();
     }
+    /**
+     * Tests random mode with several tick threads and a target event rate.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void shardedRandomMode()
+            throws Exception
+    {
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                exchange.setTickThreads(0);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                exchange.setTickInterval(0);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                exchange.setTargetEventRate(-1);
+            }
+        };
+        exchange.setTickThreads(4);
+        exchange.setTickInterval(100);
+        exchange.setTargetEventRate(5000);
+        // events are delivered from several tick threads
+        final AtomicLong received = new AtomicLong(0);
+        ISubscriber subscriber = new ISubscriber() {
+            @Override
+            public boolean isInteresting(Object inData)
+            {
+                return true;
+            }
+            @Override
+            public void publishTo(Object inData)
+            {
+                received.incrementAndGet();
+            }
+        };
+        // some books are created by subscriptions before the exchange starts, the rest while it runs
+        final List<Equity> equities = new ArrayList<Equity>();
+        for(int i=0;i<20;i++) {
+            Equity equity = new Equity("sharded-" + counter.incrementAndGet());
+            equities.add(equity);
+            if(i == 10) {
+                exchange.start();
+            }
+            exchange.getTopOfBook(ExchangeRequestBuilder.newRequest().withInstrument(equity).create(),
+                                  subscriber);
+        }
+        final String eventsMetric = MetricRegistry.name(SimulatedExchange.class.getSimpleName(),
+                                                        exchange.getName(),
+                                                        "events");
+        assertTrue(MetricService.getInstance().getMetrics().getMeters().containsKey(eventsMetric));
+        // every book is ticked and the target rate is much higher than one tick per book per interval
+        MarketDataFeedTestBase.wait(new Callable<Boolean>(){
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                for(Equity equity : equities) {
+                    if(exchange.getTopOfBook(ExchangeRequestBuilder.newRequest().withInstrument(equity).create()).isEmpty()) {
+                        return false;
+                    }
+                }
+                return exchange.getEventMeter().getCount() >= 2000 &&
+                       exchange.getTickTimer().getCount() >= 8 &&
+                       received.get() > 0;
+            }
+        });
+        exchange.stop();
+        assertFalse(MetricService.getInstance().getMetrics().getMeters().containsKey(eventsMetric));
+    }
+    /**
+     * Tests that the target event rate is met when there are fewer books than tick threads.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void targetRateWithFewBooks()
+            throws Exception
+    {
+        exchange.setTickThreads(8);
+        exchange.setTickInterval(100);
+        exchange.setTargetEventRate(2000);
+        // one book is created before the exchange starts, the other while it runs
+        ISubscriber subscriber = new ISubscriber() {
+            @Override
+            public boolean isInteresting(Object inData)
+            {
+                return false;
+            }
+            @Override
+            public void publishTo(Object inData)
+            {
+            }
+        };
+        exchange.getTopOfBook(ExchangeRequestBuilder.newRequest().withInstrument(new Equity("few-" + counter.incrementAndGet())).create(),
+                              subscriber);
+        exchange.start();
+        exchange.getTopOfBook(ExchangeRequestBuilder.newRequest().withInstrument(new Equity("few-" + counter.incrementAndGet())).create(),
+                              subscriber);
+        // let the rate settle, then measure it over a few seconds
+        Thread.sleep(1000);
+        long startCount = exchange.getEventMeter().getCount();
+        long startTime = System.nanoTime();
+        Thread.sleep(3000);
+        long events = exchange.getEventMeter().getCount() - startCount;
+        double rate = events * 1000000000.0 / (System.nanoTime() - startTime);
+        exchange.stop();
+        assertTrue("Event rate " + rate + " is not close to the target",
+                   rate > 2000 * 0.75 && rate < 2000 * 1.5);
+    }
     /**
      * Tests the ability of the exchange to deliver a non-zero and non-one contract size. 
      *
@@ -0,0 +1,245 @@
+package org.marketcetera.marketdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TopOfBookEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+
+/* $License$ */
+
+/**
+ * Tests {@link SortedOrderBook}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class SortedOrderBookTest
+{
+    /**
+     * Tests the order book constructors.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void bookConstruction()
+            throws Exception
+    {
+        new ExpectedFailure<NullPointerException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new SortedOrderBook(null);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new SortedOrderBook(symbol,
+                                    0);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new SortedOrderBook(symbol).process(QuoteEventBuilder.bidEvent(new Equity("YHOO")).withMessageId(1)
+                                                                                                 .withPrice(BigDecimal.ONE)
+                                                                                                 .withSize(BigDecimal.ONE)
+                                                                                                 .withExchange(exchange)
+                                                                                                 .withQuoteDate(new Date()).create());
+            }
+        };
+        SortedOrderBook book = new SortedOrderBook(symbol);
+        assertEquals(symbol,
+                     book.getInstrument());
+        assertEquals(OrderBook.UNLIMITED_DEPTH,
+                     book.getMaxDepth());
+        TopOfBookEvent top = book.getTopOfBook();
+        assertNull(top.getBid());
+        assertNull(top.getAsk());
+        assertEquals(10,
+                     new SortedOrderBook(symbol,
+                                         10).getMaxDepth());
+    }
+    /**
+     * Tests that random adds, changes, and deletes produce the same book as {@link OrderBook}.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void matchesOrderBook()
+            throws Exception
+    {
+        for(int maxDepth : new int[] { OrderBook.UNLIMITED_DEPTH, 5, 50 }) {
+            OrderBook expectedBook = new OrderBook(symbol,
+                                                   maxDepth);
+            SortedOrderBook actualBook = new SortedOrderBook(symbol,
+                                                             maxDepth);
+            List<QuoteEvent> liveEvents = new ArrayList<QuoteEvent>();
+            for(int i=0;i<5000;i++) {
+                QuoteEvent event;
+                int action = random.nextInt(10);
+                if(liveEvents.isEmpty() || action < 6) {
+                    event = generateQuote(random.nextBoolean());
+                    liveEvents.add(event);
+                } else if(action < 8) {
+                    QuoteEvent existingEvent = liveEvents.get(random.nextInt(liveEvents.size()));
+                    event = QuoteEventBuilder.change(existingEvent,
+                                                     randomPrice(),
+                                                     existingEvent.getSize().add(BigDecimal.ONE),
+                                                     new Date());
+                    liveEvents.set(liveEvents.indexOf(existingEvent),
+                                   event);
+                } else {
+                    event = QuoteEventBuilder.delete(liveEvents.remove(random.nextInt(liveEvents.size())));
+                }
+                QuoteEvent expectedDisplaced = expectedBook.process(event);
+                QuoteEvent actualDisplaced = actualBook.process(event);
+                assertEquals(expectedDisplaced,
+                             actualDisplaced);
+                if(actualDisplaced != null) {
+                    liveEvents.remove(actualDisplaced);
+                }
+                verifyBook(expectedBook,
+                           actualBook);
+            }
+        }
+    }
+    /**
+     * Tests that repeated reads of an unchanged book share the same snapshot.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void snapshotReuse()
+            throws Exception
+    {
+        SortedOrderBook book = new SortedOrderBook(symbol);
+        BidEvent bid = (BidEvent)generateQuote(true);
+        book.process(bid);
+        List<BidEvent> bids = book.getBidBook();
+        assertSame(bids,
+                   book.getBidBook());
+        assertSame(bid,
+                   book.getBestBid());
+        book.process(QuoteEventBuilder.delete(bid));
+        assertEquals(1,
+                     bids.size());
+        assertEquals(0,
+                     book.getBidBook().size());
+        assertNull(book.getBestBid());
+        new ExpectedFailure<UnsupportedOperationException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                book.getBidBook().add(bid);
+            }
+        };
+    }
+    /**
+     * Verifies that the given books hold the same events in the same order.
+     *
+     * @param inExpectedBook an <code>OrderBook</code> value
+     * @param inActualBook a <code>SortedOrderBook</code> value
+     */
+    private void verifyBook(OrderBook inExpectedBook,
+                            SortedOrderBook inActualBook)
+    {
+        // both books hold the same event objects, so capture the levels assigned by OrderBook before the sorted book assigns its own
+        List<Integer> expectedLevels = getLevels(inExpectedBook.getBidBook());
+        expectedLevels.addAll(getLevels(inExpectedBook.getAskBook()));
+        List<Integer> actualLevels = getLevels(inActualBook.getBidBook());
+        actualLevels.addAll(getLevels(inActualBook.getAskBook()));
+        assertEquals(expectedLevels,
+                     actualLevels);
+        assertEquals(OrderBookTest.convertEvents(inExpectedBook.getBidBook()),
+                     OrderBookTest.convertEvents(inActualBook.getBidBook()));
+        assertEquals(OrderBookTest.convertEvents(inExpectedBook.getAskBook()),
+                     OrderBookTest.convertEvents(inActualBook.getAskBook()));
+        TopOfBookEvent expectedTop = inExpectedBook.getTopOfBook();
+        TopOfBookEvent actualTop = inActualBook.getTopOfBook();
+        assertEquals(expectedTop.getBid(),
+                     actualTop.getBid());
+        assertEquals(expectedTop.getAsk(),
+                     actualTop.getAsk());
+        assertEquals(inExpectedBook.getBidBook().size(),
+                     inActualBook.getBidDepth());
+        assertEquals(inExpectedBook.getAskBook().size(),
+                     inActualBook.getAskDepth());
+    }
+    /**
+     * Gets the levels of the given events.
+     *
+     * @param inEvents a <code>List&lt;? extends QuoteEvent&gt;</code> value
+     * @return a <code>List&lt;Integer&gt;</code> value
+     */
+    private List<Integer> getLevels(List<? extends QuoteEvent> inEvents)
+    {
+        List<Integer> levels = new ArrayList<Integer>();
+        for(QuoteEvent event : inEvents) {
+            levels.add(event.getLevel());
+        }
+        return levels;
+    }
+    /**
+     * Generates a new quote with a random price.
+     *
+     * @param inBid a <code>boolean</code> value indicating whether to generate a bid or an ask
+     * @return a <code>QuoteEvent</code> value
+     */
+    private QuoteEvent generateQuote(boolean inBid)
+    {
+        QuoteEventBuilder<? extends QuoteEvent> builder = inBid ? QuoteEventBuilder.bidEvent(symbol) : QuoteEventBuilder.askEvent(symbol);
+        return builder.withMessageId(++messageId)
+                      .withTimestamp(new Date(messageId))
+                      .withPrice(randomPrice())
+                      .withSize(BigDecimal.TEN)
+                      .withExchange(exchange)
+                      .withQuoteDate(new Date()).create();
+    }
+    /**
+     * Generates a random price.
+     *
+     * @return a <code>BigDecimal</code> value
+     */
+    private BigDecimal randomPrice()
+    {
+        return new BigDecimal(random.nextInt(1000)).movePointLeft(2);
+    }
+    /**
+     * test symbol
+     */
+    private final Equity symbol = new Equity("GOOG");
+    /**
+     * test exchange
+     */
+    private final String exchange = "TEST";
+    /**
+     * generates test values
+     */
+    private final Random random = new Random(System.nanoTime());
+    /**
+     * message id counter for generated events
+     */
+    private long messageId = 0;
+}
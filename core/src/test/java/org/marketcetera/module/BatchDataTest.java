@@ -0,0 +1,316 @@
+package org.marketcetera.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.marketcetera.marketdata.MarketDataFeedTestBase;
+
+/* $License$ */
+
+/**
+ * Tests batch delivery of data with {@link DataEmitterSupport#sendBatch(Object[], int)} and {@link BatchDataReceiver}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class BatchDataTest
+{
+    /**
+     * Tests that a batch receiver gets all the data of a batch, in order, with each coupling.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBatchReceiver()
+            throws Exception
+    {
+        for(DataCoupling coupling : DataCoupling.values()) {
+            BatchReceiver receiver = new BatchReceiver(false);
+            AbstractDataCoupler coupler = start(coupling,
+                                                receiver);
+            try {
+                Object[] batch = new Object[] { "1","2","3","4","5",null };
+                coupler.sendBatch(batch,
+                                  5);
+                // the batch belongs to the sender once sendBatch returns
+                Arrays.fill(batch,
+                            "x");
+                waitForReceived(coupler,
+                                5);
+                assertEquals(coupling.name(),
+                             Arrays.asList("1","2","3","4","5"),
+                             receiver.received);
+                assertEquals(coupling.name(),
+                             5,
+                             coupler.getEmitted());
+                assertEquals(coupling.name(),
+                             0,
+                             receiver.singles);
+                if(coupling == DataCoupling.SYNC) {
+                    assertEquals(1,
+                                 receiver.batches);
+                }
+            } finally {
+                coupler.cancelRequest();
+            }
+        }
+    }
+    /**
+     * Tests that a receiver that does not accept batches gets the data of a batch one object at a time.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSingleReceiver()
+            throws Exception
+    {
+        for(DataCoupling coupling : DataCoupling.values()) {
+            Receiver receiver = new Receiver();
+            AbstractDataCoupler coupler = start(coupling,
+                                                receiver);
+            try {
+                coupler.sendBatch(new Object[] { "1","2","3" },
+                                  3);
+                coupler.send("4");
+                waitForReceived(coupler,
+                                4);
+                assertEquals(coupling.name(),
+                             Arrays.asList("1","2","3","4"),
+                             receiver.received);
+                assertEquals(coupling.name(),
+                             4,
+                             receiver.singles);
+            } finally {
+                coupler.cancelRequest();
+            }
+        }
+    }
+    /**
+     * Tests that a failed batch counts as one receive error.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBatchFailure()
+            throws Exception
+    {
+        BatchReceiver receiver = new BatchReceiver(true);
+        AbstractDataCoupler coupler = start(DataCoupling.SYNC,
+                                            receiver);
+        try {
+            coupler.sendBatch(new Object[] { "1","2","3" },
+                              3);
+            assertEquals(1,
+                         coupler.getReceiveErrors());
+            assertEquals(3,
+                         coupler.getReceived());
+            assertTrue(receiver.received.isEmpty());
+            coupler.sendBatch(new Object[0],
+                              0);
+            assertEquals(3,
+                         coupler.getEmitted());
+        } finally {
+            coupler.cancelRequest();
+        }
+    }
+    /**
+     * Creates and starts a coupler with the given coupling and receiver.
+     *
+     * @param inCoupling a <code>DataCoupling</code> value
+     * @param inReceiver a <code>Receiver</code> value
+     * @return an <code>AbstractDataCoupler</code> value
+     * @throws Exception if the coupler cannot be started
+     */
+    private AbstractDataCoupler start(DataCoupling inCoupling,
+                                      Receiver inReceiver)
+            throws Exception
+    {
+        AbstractDataCoupler coupler = inCoupling.createCoupler(null,
+                                                               emitter,
+                                                               inReceiver,
+                                                               new DataFlowID("batch-" + inCoupling), //$NON-NLS-1$
+                                                               null,
+                                                               null);
+        coupler.initiateRequest(new RequestID("1"), //$NON-NLS-1$
+                                new DataRequest(emitter.getURN()));
+        return coupler;
+    }
+    /**
+     * Waits until the given coupler has delivered the given number of data objects.
+     *
+     * @param inCoupler an <code>AbstractDataCoupler</code> value
+     * @param inCount a <code>long</code> value
+     * @throws Exception if the data is not delivered in time
+     */
+    private void waitForReceived(final AbstractDataCoupler inCoupler,
+                                 final long inCount)
+            throws Exception
+    {
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return inCoupler.getReceived() == inCount;
+            }
+        });
+    }
+    /**
+     * Accepts data flow requests without emitting anything on its own.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Emitter
+            extends Module
+            implements DataEmitter
+    {
+        /**
+         * Create a new Emitter instance.
+         */
+        private Emitter()
+        {
+            super(new ModuleURN("metc:batch:emitter:default"), //$NON-NLS-1$
+                  false);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataEmitter#requestData(org.marketcetera.module.DataRequest, org.marketcetera.module.DataEmitterSupport)
+         */
+        @Override
+        public void requestData(DataRequest inRequest,
+                                DataEmitterSupport inSupport)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.DataFlowID, org.marketcetera.module.RequestID)
+         */
+        @Override
+        public void cancel(DataFlowID inFlowID,
+                           RequestID inRequestID)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStart()
+         */
+        @Override
+        protected void preStart()
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStop()
+         */
+        @Override
+        protected void preStop()
+        {
+        }
+    }
+    /**
+     * Records the data it receives one object at a time.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Receiver
+            extends Module
+            implements DataReceiver
+    {
+        /**
+         * Create a new Receiver instance.
+         */
+        private Receiver()
+        {
+            super(new ModuleURN("metc:batch:receiver:default"), //$NON-NLS-1$
+                  false);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object)
+         */
+        @Override
+        public void receiveData(DataFlowID inFlowID,
+                                Object inData)
+        {
+            singles++;
+            received.add(inData);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStart()
+         */
+        @Override
+        protected void preStart()
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStop()
+         */
+        @Override
+        protected void preStop()
+        {
+        }
+        /**
+         * data received, in order
+         */
+        protected final List<Object> received = new CopyOnWriteArrayList<Object>();
+        /**
+         * number of objects delivered one at a time
+         */
+        protected volatile int singles;
+    }
+    /**
+     * Records the data it receives and the number of batches it was delivered in.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class BatchReceiver
+            extends Receiver
+            implements BatchDataReceiver
+    {
+        /**
+         * Create a new BatchReceiver instance.
+         *
+         * @param inFail a <code>boolean</code> value indicating if receiving a batch should fail
+         */
+        private BatchReceiver(boolean inFail)
+        {
+            fail = inFail;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.BatchDataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object[], int)
+         */
+        @Override
+        public void receiveData(DataFlowID inFlowID,
+                                Object[] inData,
+                                int inCount)
+        {
+            if(fail) {
+                throw new IllegalStateException();
+            }
+            batches++;
+            for(int i=0;i<inCount;i++) {
+                received.add(inData[i]);
+            }
+        }
+        /**
+         * indicates if receiving a batch should fail
+         */
+        private final boolean fail;
+        /**
+         * number of batches delivered
+         */
+        private volatile int batches;
+    }
+    /**
+     * emits data
+     */
+    private final Emitter emitter = new Emitter();
+}
@@ -0,0 +1,258 @@
+package org.marketcetera.module;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Compares {@link AsyncCoupler} with {@link RingBufferCoupler} and each of its wait strategies on a single data flow hop.
+ *
+ * <p>{@link #throughput()} measures events per second with the emitter sending as fast as the coupler accepts data.
+ * {@link #hop()} sends one event at a time and waits for the receiver to get it: the sample-time percentiles reported
+ * for it, including p0.99, are the hop latency.
+ *
+ * <p>The emitter stands in for a market data feed and the receiver for a strategy, without the cost of either, so the
+ * results show the overhead of the coupler itself. Run with
+ * <code>java -cp &lt;test classpath&gt; org.marketcetera.module.DataCouplerBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class DataCouplerBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(DataCouplerBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Creates and starts the coupler.
+     *
+     * @throws Exception if the coupler cannot be started
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        DataFlowID flowId = new DataFlowID("benchmark-" + coupler); //$NON-NLS-1$
+        if("ASYNC".equals(coupler)) { //$NON-NLS-1$
+            dataCoupler = DataCoupling.ASYNC.createCoupler(null,
+                                                           emitter,
+                                                           receiver,
+                                                           flowId,
+                                                           null,
+                                                           null);
+        } else {
+            dataCoupler = new RingBufferCoupler(null,
+                                                emitter,
+                                                receiver,
+                                                flowId,
+                                                null,
+                                                new RingBufferSettings(RingBufferCoupler.DEFAULT_BUFFER_SIZE,
+                                                                       RingBufferCoupler.WaitStrategyType.valueOf(coupler)));
+        }
+        dataCoupler.initiateRequest(new RequestID("1"), //$NON-NLS-1$
+                                    new DataRequest(emitter.getURN()));
+    }
+    /**
+     * Stops the coupler.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        dataCoupler.cancelRequest();
+    }
+    /**
+     * Sends a burst of events and waits for all of them to be received.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BURST)
+    public void throughput()
+    {
+        long target = sent + BURST;
+        for(int i=0;i<BURST;i++) {
+            dataCoupler.send(EVENT);
+        }
+        sent = target;
+        awaitReceived(target);
+    }
+    /**
+     * Sends one event and waits for it to be received.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hop()
+    {
+        dataCoupler.send(EVENT);
+        awaitReceived(++sent);
+    }
+    /**
+     * Waits until the receiver has received the given number of events.
+     *
+     * @param inTarget a <code>long</code> value
+     */
+    private void awaitReceived(long inTarget)
+    {
+        while(receiver.received < inTarget) {
+            Thread.yield();
+        }
+    }
+    /**
+     * Accepts data flow requests without emitting anything on its own.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Emitter
+            extends Module
+            implements DataEmitter
+    {
+        /**
+         * Create a new Emitter instance.
+         */
+        private Emitter()
+        {
+            super(new ModuleURN("metc:benchmark:emitter:default"), //$NON-NLS-1$
+                  false);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataEmitter#requestData(org.marketcetera.module.DataRequest, org.marketcetera.module.DataEmitterSupport)
+         */
+        @Override
+        public void requestData(DataRequest inRequest,
+                                DataEmitterSupport inSupport)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.DataFlowID, org.marketcetera.module.RequestID)
+         */
+        @Override
+        public void cancel(DataFlowID inFlowID,
+                           RequestID inRequestID)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStart()
+         */
+        @Override
+        protected void preStart()
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStop()
+         */
+        @Override
+        protected void preStop()
+        {
+        }
+    }
+    /**
+     * Counts the data it receives.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class Receiver
+            extends Module
+            implements DataReceiver
+    {
+        /**
+         * Create a new Receiver instance.
+         */
+        private Receiver()
+        {
+            super(new ModuleURN("metc:benchmark:receiver:default"), //$NON-NLS-1$
+                  false);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.DataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object)
+         */
+        @Override
+        public void receiveData(DataFlowID inFlowID,
+                                Object inData)
+        {
+            received++;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStart()
+         */
+        @Override
+        protected void preStart()
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.module.Module#preStop()
+         */
+        @Override
+        protected void preStop()
+        {
+        }
+        /**
+         * number of events received, written only by the coupler thread
+         */
+        private volatile long received;
+    }
+    /**
+     * coupler to measure: <code>ASYNC</code> or a {@link RingBufferCoupler.WaitStrategyType} name
+     */
+    @Param({"ASYNC","BUSY_SPIN","YIELD","PARK","BLOCK"})
+    public String coupler;
+    /**
+     * number of events sent per throughput invocation
+     */
+    private static final int BURST = 1000;
+    /**
+     * event sent through the coupler
+     */
+    private static final Object EVENT = new Object();
+    /**
+     * emits events
+     */
+    private final Emitter emitter = new Emitter();
+    /**
+     * receives events
+     */
+    private final Receiver receiver = new Receiver();
+    /**
+     * coupler being measured
+     */
+    private AbstractDataCoupler dataCoupler;
+    /**
+     * number of events sent
+     */
+    private long sent;
+}
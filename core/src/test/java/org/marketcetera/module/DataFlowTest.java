@@ -140,6 +140,54 @@ public class DataFlowTest extends ModuleTestBase {
                 new DataRequest(SinkModuleFactory.INSTANCE_URN.parent().parent()));
     }
 
+    /**
+     * Tests a ring buffer data flow with its own ring buffer settings.
+     *
+     * @throws Exception if there's an unexpected error.
+     */
+    @Test(timeout = 10000)
+    public void ringBufferSettings() throws Exception {
+        new ExpectedFailure<IllegalArgumentException>() {
+            protected void run() throws Exception {
+                new RingBufferSettings(3,
+                                       RingBufferCoupler.WaitStrategyType.BLOCK);
+            }
+        };
+        new ExpectedFailure<IllegalArgumentException>() {
+            protected void run() throws Exception {
+                new RingBufferSettings(2,
+                                       null);
+            }
+        };
+        startEmitter();
+        // more data than fits in the ring buffer at once
+        Object[] data = new Object[10];
+        for(int i = 0; i < data.length; i++) {
+            data[i] = String.valueOf(i);
+        }
+        DataFlowID flowID = sManager.createDataFlow(new DataRequest[] {
+                new DataRequest(EmitterModuleFactory.INSTANCE_URN,
+                                DataCoupling.RING_BUFFER,
+                                null,
+                                new RingBufferSettings(2,
+                                                       RingBufferCoupler.WaitStrategyType.BLOCK),
+                                data)
+        });
+        while(sSink.getData().length < data.length) {
+            Thread.sleep(100);
+        }
+        sManager.cancel(flowID);
+        FlowData[] received = sSink.getData();
+        assertEquals(data.length,
+                     received.length);
+        for(int i = 0; i < data.length; i++) {
+            assertEquals(flowID,
+                         received[i].getFirstMember());
+            assertEquals(data[i],
+                         received[i].getSecondMember());
+        }
+    }
+
     /**
      * Verifies that attempts to emit data fail when
      * the data flow has ended.
@@ -210,6 +258,15 @@ public class DataFlowTest extends ModuleTestBase {
                             new DataRequest(procURN,
                                             DataCoupling.ASYNC,
                                             String.class.getName()));
+        // ring buffer data flow
+        checkDataFlowModule(module,
+                            null,
+                            true,
+                            false,
+                            DataCoupling.RING_BUFFER,
+                            new DataRequest(procURN,
+                                            DataCoupling.RING_BUFFER,
+                                            String.class.getName()));
         //data flow with sink explicitly requested to be auto-appended
         checkDataFlowModule(module, null, false, true, new DataRequest(procURN,
                 String.class.getName()));
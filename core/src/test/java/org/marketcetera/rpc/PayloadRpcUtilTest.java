@@ -0,0 +1,247 @@
+package org.marketcetera.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.QuoteAction;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.ConvertibleBond;
+import org.marketcetera.trade.Currency;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Future;
+import org.marketcetera.trade.Hierarchy;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.Option;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.marketcetera.trade.UserID;
+
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.OrdStatus;
+import quickfix.field.OrderID;
+import quickfix.field.OrigClOrdID;
+import quickfix.field.Side;
+
+/* $License$ */
+
+/**
+ * Tests {@link PayloadRpcUtil}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class PayloadRpcUtilTest
+{
+    /**
+     * Tests instrument conversion.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testInstrument()
+            throws Exception
+    {
+        verifyInstrument(new Equity("METC"));
+        verifyInstrument(new Equity("BRK",
+                                    "B"));
+        verifyInstrument(new Option("METC",
+                                    "20201218",
+                                    new BigDecimal("12.50"),
+                                    OptionType.Call));
+        verifyInstrument(new Option("METC",
+                                    "20201218",
+                                    BigDecimal.TEN,
+                                    OptionType.Put));
+        verifyInstrument(new Future("CL",
+                                    "202012"));
+        verifyInstrument(new Currency("USD/GBP"));
+        verifyInstrument(new Currency("USD",
+                                      "JPY",
+                                      "1M",
+                                      "3M",
+                                      "JPY"));
+        assertNull(PayloadRpcUtil.getRpcInstrument(new ConvertibleBond("US0378331005")));
+        assertNull(PayloadRpcUtil.getRpcInstrument(null));
+        assertNull(PayloadRpcUtil.getInstrument(PayloadRpc.Instrument.newBuilder().setPayload("<xml/>").build()));
+        assertEquals(new Equity("METC"),
+                     PayloadRpcUtil.getPayload(PayloadRpcUtil.getRpcPayload(new Equity("METC"))));
+        assertNull(PayloadRpcUtil.getRpcPayload("not a payload"));
+        assertNull(PayloadRpcUtil.getPayload(PayloadRpc.Payload.newBuilder().setPayload("<xml/>").build()));
+    }
+    /**
+     * Tests report conversion.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReport()
+            throws Exception
+    {
+        FIXMessageFactory messageFactory = FIXVersion.FIX42.getMessageFactory();
+        Message message = messageFactory.newExecutionReport("order-1",
+                                                            "order-1",
+                                                            "exec-1",
+                                                            OrdStatus.PARTIALLY_FILLED,
+                                                            Side.BUY,
+                                                            new BigDecimal(1000),
+                                                            new BigDecimal("12.34"),
+                                                            new BigDecimal(100),
+                                                            new BigDecimal("12.34"),
+                                                            new BigDecimal(100),
+                                                            new BigDecimal("12.34"),
+                                                            new Equity("METC"),
+                                                            "account",
+                                                            "text");
+        ExecutionReport executionReport = Factory.getInstance().createExecutionReport(message,
+                                                                                      new BrokerID("broker"),
+                                                                                      Originator.Broker,
+                                                                                      Hierarchy.Child,
+                                                                                      new UserID(1),
+                                                                                      new UserID(2));
+        ReportBaseImpl.assignReportID((ReportBaseImpl)executionReport,
+                                      new ReportID(1000));
+        verifyReport(executionReport);
+        message = messageFactory.newOrderCancelReject(new OrderID("order-2"),
+                                                      new ClOrdID("order-3"),
+                                                      new OrigClOrdID("order-2"),
+                                                      "rejected",
+                                                      null);
+        OrderCancelReject reject = Factory.getInstance().createOrderCancelReject(message,
+                                                                                 null,
+                                                                                 Originator.Server,
+                                                                                 null,
+                                                                                 null);
+        verifyReport(reject);
+        assertNull(PayloadRpcUtil.getReport(PayloadRpc.Report.newBuilder().setPayload("<xml/>").build()));
+    }
+    /**
+     * Tests event conversion.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testEvent()
+            throws Exception
+    {
+        Equity equity = new Equity("METC");
+        Option option = new Option("METC",
+                                   "20201218",
+                                   BigDecimal.TEN,
+                                   OptionType.Put);
+        Future future = new Future("CL",
+                                   "202012");
+        Currency currency = new Currency("USD/GBP");
+        verifyEvent(EventTestBase.generateEquityBidEvent(equity,
+                                                         "exchange"));
+        verifyEvent(EventTestBase.generateEquityAskEvent(equity,
+                                                         QuoteAction.CHANGE));
+        verifyEvent(EventTestBase.generateOptionAskEvent(option,
+                                                         equity));
+        verifyEvent(EventTestBase.generateFutureBidEvent(future,
+                                                         QuoteAction.DELETE));
+        verifyEvent(EventTestBase.generateCurrencyBidEvent(currency,
+                                                           QuoteAction.ADD));
+        verifyEvent(EventTestBase.generateEquityTradeEvent(equity));
+        verifyEvent(EventTestBase.generateOptionTradeEvent(option,
+                                                           equity));
+        verifyEvent(EventTestBase.generateFutureTradeEvent(future,
+                                                           BigDecimal.ONE));
+        verifyEvent(EventTestBase.generateEquityMarketstatEvent(equity));
+        verifyEvent(EventTestBase.generateOptionMarketstatEvent(option,
+                                                                equity));
+        assertNull(PayloadRpcUtil.getRpcEvent(EventTestBase.generateDividendEvent()));
+        assertNull(PayloadRpcUtil.getEvent(PayloadRpc.Event.newBuilder().setPayload("<xml/>").build()));
+        // an unset event type is left at the event's default rather than decoded as the first enum value
+        PayloadRpc.Event rpcEvent = PayloadRpcUtil.getRpcEvent(EventTestBase.generateEquityTradeEvent(equity)).toBuilder().clearEventType().build();
+        assertEquals(EventType.UNKNOWN,
+                     ((TradeEvent)PayloadRpcUtil.getEvent(rpcEvent)).getEventType());
+        rpcEvent = PayloadRpcUtil.getRpcEvent(EventTestBase.generateEquityMarketstatEvent(equity)).toBuilder().clearEventType().build();
+        assertEquals(EventType.UNKNOWN,
+                     ((MarketstatEvent)PayloadRpcUtil.getEvent(rpcEvent)).getEventType());
+    }
+    /**
+     * Verifies that the given instrument survives conversion.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void verifyInstrument(Instrument inInstrument)
+            throws Exception
+    {
+        PayloadRpc.Instrument rpcInstrument = PayloadRpc.Instrument.parseFrom(PayloadRpcUtil.getRpcInstrument(inInstrument).toByteArray());
+        Instrument instrument = PayloadRpcUtil.getInstrument(rpcInstrument);
+        assertEquals(inInstrument,
+                     instrument);
+        assertEquals(inInstrument.getFullSymbol(),
+                     instrument.getFullSymbol());
+        assertEquals(inInstrument.toString(),
+                     instrument.toString());
+    }
+    /**
+     * Verifies that the given report survives conversion.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void verifyReport(ReportBase inReport)
+            throws Exception
+    {
+        PayloadRpc.Report rpcReport = PayloadRpc.Report.parseFrom(PayloadRpcUtil.getRpcReport(inReport).toByteArray());
+        ReportBaseImpl report = PayloadRpcUtil.getReport(rpcReport);
+        assertNotNull(report);
+        assertSame(inReport.getClass(),
+                   report.getClass());
+        assertEquals(((ReportBaseImpl)inReport).getMessage().toString(),
+                     report.getMessage().toString());
+        assertEquals(inReport.getReportID(),
+                     report.getReportID());
+        assertEquals(inReport.getBrokerID(),
+                     report.getBrokerID());
+        assertEquals(inReport.getOriginator(),
+                     report.getOriginator());
+        assertEquals(inReport.getHierarchy(),
+                     report.getHierarchy());
+        assertEquals(inReport.getActorID(),
+                     report.getActorID());
+        assertEquals(inReport.getViewerID(),
+                     report.getViewerID());
+        assertEquals(inReport.toString(),
+                     report.toString());
+    }
+    /**
+     * Verifies that the given event survives conversion.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @throws Exception if an unexpected error occurs
+     */
+    private void verifyEvent(Event inEvent)
+            throws Exception
+    {
+        PayloadRpc.Event rpcEvent = PayloadRpc.Event.parseFrom(PayloadRpcUtil.getRpcEvent(inEvent).toByteArray());
+        Event event = PayloadRpcUtil.getEvent(rpcEvent);
+        assertSame(inEvent.getClass(),
+                   event.getClass());
+        assertEquals(inEvent.toString(),
+                     event.toString());
+    }
+}
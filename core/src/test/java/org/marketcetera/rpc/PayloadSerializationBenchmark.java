@@ -0,0 +1,238 @@
+package org.marketcetera.rpc;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.MessageCreationException;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.marketcetera.trade.UserID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import quickfix.InvalidMessage;
+import quickfix.Message;
+import quickfix.field.OrdStatus;
+import quickfix.field.Side;
+
+/* $License$ */
+
+/**
+ * Compares the XML and native protobuf RPC payloads of reports, instruments, and market data events.
+ *
+ * <p>Each operation encodes the object to the bytes sent on the wire and decodes it again the way the RPC client
+ * and server do. The XML operations reuse their marshaller and unmarshaller, so only the encoding itself is measured.
+ *
+ * <p>Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.rpc.PayloadSerializationBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class PayloadSerializationBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(PayloadSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Prepares the objects to encode.
+     *
+     * @throws Exception if the objects cannot be prepared
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        Message message = FIXVersion.FIX42.getMessageFactory().newExecutionReport("order-1",
+                                                                                  "order-1",
+                                                                                  "exec-1",
+                                                                                  OrdStatus.PARTIALLY_FILLED,
+                                                                                  Side.BUY,
+                                                                                  new BigDecimal(1000),
+                                                                                  new BigDecimal("12.34"),
+                                                                                  new BigDecimal(100),
+                                                                                  new BigDecimal("12.34"),
+                                                                                  new BigDecimal(100),
+                                                                                  new BigDecimal("12.34"),
+                                                                                  instrument,
+                                                                                  "account",
+                                                                                  "text");
+        report = Factory.getInstance().createExecutionReport(message,
+                                                             new BrokerID("broker"),
+                                                             Originator.Broker,
+                                                             new UserID(1),
+                                                             new UserID(1));
+        ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                      new ReportID(1000));
+        event = QuoteEventBuilder.bidEvent(instrument).withMessageId(1)
+                                                      .withTimestamp(new Date())
+                                                      .withPrice(new BigDecimal("12.34"))
+                                                      .withSize(BigDecimal.TEN)
+                                                      .withExchange("TEST")
+                                                      .withQuoteDate(new Date()).create();
+        JAXBContext context = JAXBContext.newInstance(report.getClass(),
+                                                      instrument.getClass(),
+                                                      event.getClass());
+        marshaller = context.createMarshaller();
+        unmarshaller = context.createUnmarshaller();
+    }
+    /**
+     * Encodes and decodes a report as XML.
+     *
+     * @return an <code>Object</code> value
+     * @throws JAXBException if the report cannot be encoded or decoded
+     */
+    @Benchmark
+    public Object reportXml()
+            throws JAXBException
+    {
+        return xmlRoundTrip(report);
+    }
+    /**
+     * Encodes and decodes a report as protobuf.
+     *
+     * @return a <code>ReportBase</code> value
+     * @throws InvalidProtocolBufferException if the report cannot be decoded
+     * @throws InvalidMessage if the report FIX message cannot be parsed
+     * @throws MessageCreationException if the report cannot be created
+     */
+    @Benchmark
+    public ReportBase reportProtobuf()
+            throws InvalidProtocolBufferException, InvalidMessage, MessageCreationException
+    {
+        byte[] bytes = PayloadRpcUtil.getRpcReport(report).toByteArray();
+        return PayloadRpcUtil.getReport(PayloadRpc.Report.parseFrom(bytes));
+    }
+    /**
+     * Encodes and decodes an instrument as XML.
+     *
+     * @return an <code>Object</code> value
+     * @throws JAXBException if the instrument cannot be encoded or decoded
+     */
+    @Benchmark
+    public Object instrumentXml()
+            throws JAXBException
+    {
+        return xmlRoundTrip(instrument);
+    }
+    /**
+     * Encodes and decodes an instrument as protobuf.
+     *
+     * @return an <code>Instrument</code> value
+     * @throws InvalidProtocolBufferException if the instrument cannot be decoded
+     */
+    @Benchmark
+    public Instrument instrumentProtobuf()
+            throws InvalidProtocolBufferException
+    {
+        byte[] bytes = PayloadRpcUtil.getRpcInstrument(instrument).toByteArray();
+        return PayloadRpcUtil.getInstrument(PayloadRpc.Instrument.parseFrom(bytes));
+    }
+    /**
+     * Encodes and decodes a market data event as XML.
+     *
+     * @return an <code>Object</code> value
+     * @throws JAXBException if the event cannot be encoded or decoded
+     */
+    @Benchmark
+    public Object eventXml()
+            throws JAXBException
+    {
+        return xmlRoundTrip(event);
+    }
+    /**
+     * Encodes and decodes a market data event as protobuf.
+     *
+     * @return an <code>Event</code> value
+     * @throws InvalidProtocolBufferException if the event cannot be decoded
+     */
+    @Benchmark
+    public Event eventProtobuf()
+            throws InvalidProtocolBufferException
+    {
+        byte[] bytes = PayloadRpcUtil.getRpcEvent(event).toByteArray();
+        return PayloadRpcUtil.getEvent(PayloadRpc.Event.parseFrom(bytes));
+    }
+    /**
+     * Marshals the given object to XML and unmarshals it again.
+     *
+     * @param inObject an <code>Object</code> value
+     * @return an <code>Object</code> value
+     * @throws JAXBException if the object cannot be encoded or decoded
+     */
+    private Object xmlRoundTrip(Object inObject)
+            throws JAXBException
+    {
+        StringWriter output = new StringWriter();
+        marshaller.marshal(inObject,
+                           output);
+        return unmarshaller.unmarshal(new StringReader(output.toString()));
+    }
+    /**
+     * test instrument
+     */
+    private final Equity instrument = new Equity("METC");
+    /**
+     * test report
+     */
+    private ExecutionReport report;
+    /**
+     * test market data event
+     */
+    private BidEvent event;
+    /**
+     * marshals XML payloads
+     */
+    private Marshaller marshaller;
+    /**
+     * unmarshals XML payloads
+     */
+    private Unmarshaller unmarshaller;
+}
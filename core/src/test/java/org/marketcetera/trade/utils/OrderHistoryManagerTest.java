@@ -686,6 +686,137 @@ public class OrderHistoryManagerTest
         assertEquals(originalReportHistory.size(),
                      replacementReportHistory.size());
     }
+    /**
+     * Tests that completed order chains are archived and restored.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testArchive()
+            throws Exception
+    {
+        OrderHistoryManager orderManager = new OrderHistoryManager();
+        orderManager.setMaxCompletedOrders(1);
+        orderManager.setMaxArchivedOrders(2);
+        // a replaced order chain that completes
+        ExecutionReport report1 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.New);
+        ExecutionReport report2 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          report1.getOrderID().getValue(),
+                                                          OrderStatus.Replaced);
+        ExecutionReport report3 = generateExecutionReport(report2.getOrderID().getValue(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report1);
+        orderManager.add(report2);
+        orderManager.add(report3);
+        assertEquals(3,
+                     orderManager.getReportCount());
+        assertEquals(1,
+                     orderManager.getCompletedOrderCount());
+        assertEquals(0,
+                     orderManager.getArchivedOrderCount());
+        // an open order is never archived
+        ExecutionReport openReport = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                             null,
+                                                             OrderStatus.New);
+        orderManager.add(openReport);
+        // a second completed order chain archives the first
+        ExecutionReport report4 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.Canceled);
+        orderManager.add(report4);
+        assertEquals(2,
+                     orderManager.getReportCount());
+        assertEquals(1,
+                     orderManager.getCompletedOrderCount());
+        assertEquals(1,
+                     orderManager.getArchivedOrderCount());
+        CollectionAssert.assertArrayPermutation(new OrderID[] { openReport.getOrderID(), report4.getOrderID() },
+                                                orderManager.getOrderIds().toArray(new OrderID[0]));
+        for(OrderID orderID : new OrderID[] { report1.getOrderID(), report2.getOrderID() }) {
+            assertEquals(report3,
+                         orderManager.getLatestReportFor(orderID));
+            assertEquals(report1.getOrderID(),
+                         orderManager.getRootOrderIdFor(orderID));
+            assertEquals(Arrays.asList(report1.getOrderID(),report2.getOrderID()),
+                         Arrays.asList(orderManager.getOrderChain(orderID).toArray()));
+            assertEquals(Arrays.asList(report3),
+                         Arrays.asList(orderManager.getReportHistoryFor(orderID).toArray()));
+        }
+        assertEquals(openReport,
+                     orderManager.getOpenOrders().get(openReport.getOrderID()));
+        // a late report restores the archived chain
+        ExecutionReport report5 = generateExecutionReport(report2.getOrderID().getValue(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report5);
+        assertEquals(Arrays.asList(report5,report3),
+                     Arrays.asList(orderManager.getReportHistoryFor(report1.getOrderID()).toArray()));
+        assertEquals(report1.getOrderID(),
+                     orderManager.getRootOrderIdFor(report2.getOrderID()));
+        assertEquals(Arrays.asList(report1.getOrderID(),report2.getOrderID()),
+                     Arrays.asList(orderManager.getOrderChain(report2.getOrderID()).toArray()));
+        // which archives report4 in its place
+        assertEquals(1,
+                     orderManager.getArchivedOrderCount());
+        assertEquals(Arrays.asList(report4),
+                     Arrays.asList(orderManager.getReportHistoryFor(report4.getOrderID()).toArray()));
+        assertEquals(3,
+                     orderManager.getReportCount());
+        // the archive discards its oldest chains
+        for(int i=0;i<3;i++) {
+            orderManager.add(generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                     null,
+                                                     OrderStatus.Rejected));
+        }
+        assertEquals(2,
+                     orderManager.getArchivedOrderCount());
+        assertNull(orderManager.getLatestReportFor(report4.getOrderID()));
+        assertNull(orderManager.getLatestReportFor(report1.getOrderID()));
+        assertTrue(orderManager.getOrderChain(report1.getOrderID()).isEmpty());
+        orderManager.clear();
+        assertEquals(0,
+                     orderManager.getReportCount());
+        assertEquals(0,
+                     orderManager.getArchivedOrderCount());
+        assertEquals(0,
+                     orderManager.getCompletedOrderCount());
+    }
+    /**
+     * Tests that completed order chains are archived by age.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testArchiveByAge()
+            throws Exception
+    {
+        OrderHistoryManager orderManager = new OrderHistoryManager();
+        orderManager.setMaxCompletedOrderAge(100);
+        ExecutionReport report1 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report1);
+        assertEquals(0,
+                     orderManager.getArchivedOrderCount());
+        Thread.sleep(200);
+        ExecutionReport report2 = generateExecutionReport("order-" + counter.incrementAndGet(),
+                                                          null,
+                                                          OrderStatus.Filled);
+        orderManager.add(report2);
+        assertEquals(1,
+                     orderManager.getArchivedOrderCount());
+        assertEquals(1,
+                     orderManager.getCompletedOrderCount());
+        assertEquals(report1,
+                     orderManager.getLatestReportFor(report1.getOrderID()));
+        orderManager.clear(report1.getOrderID());
+        assertEquals(0,
+                     orderManager.getArchivedOrderCount());
+        assertNull(orderManager.getLatestReportFor(report1.getOrderID()));
+    }
     /**
      * Verifies that the given <code>OrderHistoryManager</code> contains the given <code>ReportBase</code> objects.
      * 
@@ -2,11 +2,13 @@ package org.marketcetera.ors;
 
 import org.marketcetera.core.IDFactory;
 import org.marketcetera.core.NoMoreIDsException;
+import org.marketcetera.core.PrefetchingIDFactory;
 import org.marketcetera.util.misc.ClassVersion;
 
 /**
  * A local ID factory. It relies on a block factory to assign blocks,
- * and then locally assigns IDs within that block.
+ * and then locally assigns IDs within that block. The next block is
+ * requested in the background before the current block is exhausted.
  *
  * @author tlerios@marketcetera.com
  * @since 1.0.0
@@ -32,10 +34,7 @@ public class LocalIDFactory
 
     // INSTANCE DATA.
 
-    private final IDFactory mBlockFactory;
-    private String mBlockID;
-    private int mLocalID=0;
-    private boolean initialized = false;
+    private final PrefetchingIDFactory mIDs;
 
     // CONSTRUCTOR.
 
@@ -49,8 +48,8 @@ public class LocalIDFactory
     public LocalIDFactory
         (IDFactory blockFactory)
     {
-        mBlockFactory=blockFactory;
-        initialized = false;
+        mIDs=new PrefetchingIDFactory
+            (null,blockFactory,LOCAL_ID_COUNT,LOCAL_ID_COUNT/2);
     }
 
 
@@ -64,21 +63,7 @@ public class LocalIDFactory
 
     public IDFactory getBlockFactory()
     {
-        return mBlockFactory;
-    }
-
-    /**
-     * Retrieves the next block from the receiver's block factory, and
-     * resets the local ID.
-     *
-     * @throws NoMoreIDsException Thrown if retrieval fails.
-     */
-
-    private void getNextBlock()
-        throws NoMoreIDsException
-    {
-        mBlockID=getBlockFactory().getNext();
-        mLocalID=0;
+        return mIDs.getBlockFactory();
     }
 
 
@@ -87,20 +72,13 @@ public class LocalIDFactory
     @Override
     public void init()
     {
+        // the first block is obtained when the first ID is requested
     }
 
     @Override
-    public synchronized String getNext()
+    public String getNext()
         throws NoMoreIDsException
     {
-        if(!initialized) {
-            getNextBlock();
-            initialized = true;
-        }
-        mLocalID++;
-        if (mLocalID==LOCAL_ID_COUNT) {
-            getNextBlock();
-        }
-        return String.format("%1$s%2$03d",mBlockID,mLocalID); //$NON-NLS-1$
+        return mIDs.getNext();
     }
 }
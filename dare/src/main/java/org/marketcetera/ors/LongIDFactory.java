@@ -2,12 +2,14 @@ package org.marketcetera.ors;
 
 import org.marketcetera.core.IDFactory;
 import org.marketcetera.core.NoMoreIDsException;
+import org.marketcetera.core.PrefetchingIDFactory;
 import org.marketcetera.util.misc.ClassVersion;
 
 /**
  * A long ID factory. It relies on a block factory to assign blocks,
  * and then locally assigns IDs within that block. The block factory
- * must generate numeric IDs.
+ * must generate numeric IDs. The next block is requested in the
+ * background before the current block is exhausted.
  *
  * @author tlerios@marketcetera.com
  * @since 2.1.0
@@ -32,9 +34,7 @@ public class LongIDFactory
 
     // INSTANCE DATA.
 
-    private final IDFactory mBlockFactory;
-    private long mBlockID;
-    private long mLocalID=0;
+    private final PrefetchingIDFactory mIDs;
 
 
     // CONSTRUCTOR.
@@ -49,8 +49,8 @@ public class LongIDFactory
     public LongIDFactory
         (IDFactory blockFactory)
     {
-        mBlockFactory=blockFactory;
-        mLocalID=LOCAL_ID_COUNT-1;
+        mIDs=new PrefetchingIDFactory
+            (null,blockFactory,(int)LOCAL_ID_COUNT,(int)LOCAL_ID_COUNT/2);
     }
 
 
@@ -64,21 +64,7 @@ public class LongIDFactory
 
     public IDFactory getBlockFactory()
     {
-        return mBlockFactory;
-    }
-
-    /**
-     * Retrieves the next block from the receiver's block factory, and
-     * resets the local ID.
-     *
-     * @throws NoMoreIDsException Thrown if retrieval fails.
-     */
-
-    private void getNextBlock()
-        throws NoMoreIDsException
-    {
-        mBlockID=Long.parseLong(getBlockFactory().getNext())*LOCAL_ID_COUNT;
-        mLocalID=0;
+        return mIDs.getBlockFactory();
     }
 
     /**
@@ -89,13 +75,9 @@ public class LongIDFactory
      * @throws NoMoreIDsException Thrown if retrieval fails.
      */
 
-    public synchronized long getNext()
+    public long getNext()
         throws NoMoreIDsException
     {
-        mLocalID++;
-        if (mLocalID==LOCAL_ID_COUNT) {
-            getNextBlock();
-        }
-        return mBlockID+mLocalID;
+        return mIDs.getNextLong();
     }
 }
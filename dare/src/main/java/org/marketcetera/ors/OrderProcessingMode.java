@@ -0,0 +1,26 @@
+package org.marketcetera.ors;
+
+/* $License$ */
+
+/**
+ * Indicates how incoming messages for an order family are serialized.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public enum OrderProcessingMode
+{
+    /**
+     * each order family gets its own processing queue and thread, bounded by the maximum number of execution pools
+     */
+    QUEUE_PER_ORDER,
+    /**
+     * order families share a fixed pool of threads, messages for the same order family are processed in order
+     */
+    POOLED,
+    /**
+     * each order family is processed on virtual threads, if supported by the JVM, otherwise behaves as {@link #POOLED}
+     */
+    VIRTUAL;
+}
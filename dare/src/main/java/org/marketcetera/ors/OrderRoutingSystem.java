@@ -383,6 +383,42 @@ public class OrderRoutingSystem
     {
         executionPoolTtl = inExecutionPoolTtl;
     }
+    /**
+     * Get the orderProcessingMode value.
+     *
+     * @return an <code>OrderProcessingMode</code> value
+     */
+    public OrderProcessingMode getOrderProcessingMode()
+    {
+        return orderProcessingMode;
+    }
+    /**
+     * Sets the orderProcessingMode value.
+     *
+     * @param inOrderProcessingMode an <code>OrderProcessingMode</code> value
+     */
+    public void setOrderProcessingMode(OrderProcessingMode inOrderProcessingMode)
+    {
+        orderProcessingMode = inOrderProcessingMode;
+    }
+    /**
+     * Get the orderProcessingThreads value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getOrderProcessingThreads()
+    {
+        return orderProcessingThreads;
+    }
+    /**
+     * Sets the orderProcessingThreads value.
+     *
+     * @param inOrderProcessingThreads an <code>int</code> value
+     */
+    public void setOrderProcessingThreads(int inOrderProcessingThreads)
+    {
+        orderProcessingThreads = inOrderProcessingThreads;
+    }
     /**
      * Gets the <code>OrderReceiver</code> value.
      *
@@ -446,6 +482,7 @@ public class OrderRoutingSystem
         reportHistoryServices.init(idFactory,
                                    jmsManager,
                                    replyPersister);
+        ReportCache.INSTANCE.setReportDao(reportDao);
         // Set dictionary for all QuickFIX/J messages we generate.
         CurrentFIXDataDictionary.setCurrentFIXDataDictionary(FIXDataDictionary.initializeDataDictionary(FIXVersion.FIX_SYSTEM.getDataDictionaryName()));
         // Initiate web services
@@ -617,6 +654,8 @@ public class OrderRoutingSystem
                 qfApp.setExecutionPoolDelay(executionPoolDelay);
                 qfApp.setExecutionPoolTtl(executionPoolTtl);
                 qfApp.setMaxExecutionPools(maxExecutionPools);
+                qfApp.setOrderProcessingMode(orderProcessingMode);
+                qfApp.setOrderProcessingThreads(orderProcessingThreads);
                 qfApp.setReportDao(reportDao);
                 qfApp.setFixSessionRestoreExecutor(fixSessionRestoreExecutor);
                 qfApp.setFixInjectorDirectory(fixInjectorDirectory);
@@ -1299,6 +1338,14 @@ public class OrderRoutingSystem
      * number of milliseconds to leave an order pool alive before retiring it
      */
     private long executionPoolTtl = 1000;
+    /**
+     * indicates how messages for an order family are serialized
+     */
+    private OrderProcessingMode orderProcessingMode = OrderProcessingMode.QUEUE_PER_ORDER;
+    /**
+     * number of threads used to process order messages if order messages are processed on a shared pool
+     */
+    private int orderProcessingThreads = Runtime.getRuntime().availableProcessors();
     /**
      * messages that should not be forwarded to clients (empty for all messages)
      */
@@ -33,6 +33,7 @@ import org.marketcetera.client.BrokerStatusListener;
 import org.marketcetera.client.BrokerStatusPublisher;
 import org.marketcetera.cluster.ClusterData;
 import org.marketcetera.cluster.service.ClusterService;
+import org.marketcetera.core.KeyedSerialExecutor;
 import org.marketcetera.core.Pair;
 import org.marketcetera.core.QueueProcessor;
 import org.marketcetera.core.file.DirectoryWatcherImpl;
@@ -190,6 +191,16 @@ public class QuickFIXApplication
                 }
             }
         }, 1000, 1000, TimeUnit.MILLISECONDS);
+        if(orderProcessingMode != OrderProcessingMode.QUEUE_PER_ORDER) {
+            orderExecutor = new KeyedSerialExecutor<MessageKey>("OrderMessageProcessor", //$NON-NLS-1$
+                                                                orderProcessingThreads,
+                                                                orderProcessingMode == OrderProcessingMode.VIRTUAL);
+            orderExecutor.start();
+            SLF4JLoggerProxy.info(this,
+                                  "Processing order messages in {} mode with {} threads",
+                                  orderProcessingMode,
+                                  orderProcessingThreads);
+        }
         isRunning.set(true);
     }
     /* (non-Javadoc)
@@ -1128,6 +1139,48 @@ public class QuickFIXApplication
     {
         executionPoolTtl = inExecutionPoolTtl;
     }
+    /**
+     * Get the orderProcessingMode value.
+     *
+     * @return an <code>OrderProcessingMode</code> value
+     */
+    public OrderProcessingMode getOrderProcessingMode()
+    {
+        return orderProcessingMode;
+    }
+    /**
+     * Sets the orderProcessingMode value.
+     *
+     * <p>This value must be set before the object is started.
+     *
+     * @param inOrderProcessingMode an <code>OrderProcessingMode</code> value
+     */
+    public void setOrderProcessingMode(OrderProcessingMode inOrderProcessingMode)
+    {
+        Validate.notNull(inOrderProcessingMode);
+        orderProcessingMode = inOrderProcessingMode;
+    }
+    /**
+     * Get the orderProcessingThreads value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getOrderProcessingThreads()
+    {
+        return orderProcessingThreads;
+    }
+    /**
+     * Sets the orderProcessingThreads value.
+     *
+     * <p>This value must be set before the object is started and is used only for {@link OrderProcessingMode#POOLED} processing
+     * or for {@link OrderProcessingMode#VIRTUAL} processing if virtual threads are not supported.
+     *
+     * @param inOrderProcessingThreads an <code>int</code> value
+     */
+    public void setOrderProcessingThreads(int inOrderProcessingThreads)
+    {
+        orderProcessingThreads = inOrderProcessingThreads;
+    }
     /**
      * Get the reportDao value.
      *
@@ -1211,6 +1264,11 @@ public class QuickFIXApplication
                 orderQueue.stop();
             } catch (Exception ignored) {}
         }
+        if(orderExecutor != null) {
+            try {
+                orderExecutor.stop();
+            } catch (Exception ignored) {}
+        }
         for(SessionMessageProcessingQueue sessionQueue : sessionQueues.values()) {
             try {
                 sessionQueue.stop();
@@ -1691,6 +1749,19 @@ public class QuickFIXApplication
                 inMessagePackage.key = new MessageKey(inMessagePackage.getSessionId(),
                                                       key);
                 MessageKey messageKey = inMessagePackage.key;
+                if(orderExecutor != null) {
+                    // messages for the same order family are processed in order on the shared executor, no need for a dedicated queue
+                    final MessagePackage messagePackage = inMessagePackage;
+                    orderExecutor.execute(messageKey,
+                                          new Runnable() {
+                        @Override
+                        public void run()
+                        {
+                            processMessage(messagePackage);
+                        }
+                    });
+                    return;
+                }
                 OrderMessageProcessingQueue orderQueue = null;
                 // TODO add metrics for order queues
                 boolean warned = false;
@@ -2224,6 +2295,18 @@ public class QuickFIXApplication
      * number of milliseconds to leave an order pool alive before retiring it
      */
     private long executionPoolTtl = 1000;
+    /**
+     * indicates how messages for an order family are serialized
+     */
+    private OrderProcessingMode orderProcessingMode = OrderProcessingMode.QUEUE_PER_ORDER;
+    /**
+     * number of threads used to process order messages if order messages are processed on a shared pool
+     */
+    private int orderProcessingThreads = Runtime.getRuntime().availableProcessors();
+    /**
+     * processes order messages in order per order family, <code>null</code> if order messages are processed with a queue per order
+     */
+    private volatile KeyedSerialExecutor<MessageKey> orderExecutor;
     /**
      * directory name into which FIX injector files will be dropped, may be <code>null</code>
      */
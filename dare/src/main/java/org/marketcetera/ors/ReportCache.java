@@ -1,16 +1,55 @@
 package org.marketcetera.ors;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang.Validate;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.ors.dao.PersistentReportDao;
+import org.marketcetera.ors.history.PersistentReport;
+import org.marketcetera.ors.history.ReportType;
+import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Hierarchy;
+import org.marketcetera.trade.OrderStatus;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.marketcetera.trade.UserID;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.Lists;
+
+import quickfix.InvalidMessage;
+import quickfix.Message;
+
 /* $License$ */
 
 /**
  * Caches latest report by OrderID.
  *
+ * <p>The cache holds at most {@link #getMaxSize()} orders and discards orders that have not been accessed within
+ * {@link #getExpiration()} milliseconds. Reports for orders that are no longer open are converted to a compact, serialized
+ * form the first time they are read, keeping that work off the persistence path, and are rebuilt when requested. Reports
+ * that are not in the cache are read from {@link PersistentReportDao}, if one has been provided. Order IDs for which no
+ * report could be found are remembered for {@link #getMissExpiration()} milliseconds so repeated requests for unknown
+ * orders do not each query persistence.
+ *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
  * @since 2.1.4
@@ -27,17 +66,62 @@ public enum ReportCache
      *
      * @param inOrderId a <code>String</code> value
      * @return an <code>ExecutionReport</code> value or <code>null</code>
+     * @throws RuntimeException if the report could not be read from persistence
      */
     public ExecutionReport getLatestReportFor(String inOrderId)
     {
         if(inOrderId == null) {
             return null;
         }
-        ExecutionReport report = latestReports.get(inOrderId);
-        if(report == null) {
-            // TODO pull report from persistence
+        CachedReport cachedReport = latestReports.getIfPresent(inOrderId);
+        if(cachedReport != null) {
+            hitMeter.mark();
+            return getReport(inOrderId,
+                             cachedReport);
         }
-        return report;
+        if(unknownOrders.getIfPresent(inOrderId) != null) {
+            hitMeter.mark();
+            return null;
+        }
+        missMeter.mark();
+        return load(Collections.singletonList(inOrderId)).get(inOrderId);
+    }
+    /**
+     * Gets the latest <code>ExecutionReport</code> values for the given order ID values.
+     *
+     * <p>Order IDs that are not cached are read from persistence in a single query.
+     *
+     * @param inOrderIds a <code>Collection&lt;String&gt;</code> value
+     * @return a <code>Map&lt;String,ExecutionReport&gt;</code> value containing the order IDs for which a report was found
+     * @throws RuntimeException if the reports could not be read from persistence
+     */
+    public Map<String,ExecutionReport> getLatestReportsFor(Collection<String> inOrderIds)
+    {
+        Map<String,ExecutionReport> reports = new HashMap<>();
+        List<String> misses = Lists.newArrayList();
+        int hits = 0;
+        for(String orderId : inOrderIds) {
+            if(orderId == null) {
+                continue;
+            }
+            CachedReport cachedReport = latestReports.getIfPresent(orderId);
+            if(cachedReport != null) {
+                hits += 1;
+                reports.put(orderId,
+                            getReport(orderId,
+                                      cachedReport));
+            } else if(unknownOrders.getIfPresent(orderId) != null) {
+                hits += 1;
+            } else {
+                misses.add(orderId);
+            }
+        }
+        hitMeter.mark(hits);
+        missMeter.mark(misses.size());
+        if(!misses.isEmpty()) {
+            reports.putAll(load(misses));
+        }
+        return reports;
     }
     /**
      * Caches the given <code>ExecutionReport</code> value.
@@ -48,19 +132,21 @@ public enum ReportCache
     {
         if(inReport != null &&
            inReport.getOrderID() != null) {
-            latestReports.put(inReport.getOrderID().getValue(),
-                              inReport);
+            String orderId = inReport.getOrderID().getValue();
+            latestReports.put(orderId,
+                              new LiveReport(inReport));
+            unknownOrders.invalidate(orderId);
         }
     }
     /**
-     * Clear the cache of the given report. 
+     * Clear the cache of the given report.
      *
      * @param inReport an <code>ExecutionReport</code> value
      */
     public void clear(ExecutionReport inReport)
     {
         if(inReport != null && inReport.getOrderID() != null) {
-            latestReports.remove(inReport.getOrderID().getValue());
+            latestReports.invalidate(inReport.getOrderID().getValue());
         }
     }
     /**
@@ -68,10 +154,399 @@ public enum ReportCache
      */
     public void clear()
     {
-        latestReports.clear();
+        latestReports.invalidateAll();
+        unknownOrders.invalidateAll();
+    }
+    /**
+     * Gets the number of orders currently cached.
+     *
+     * @return a <code>long</code> value
+     */
+    public long size()
+    {
+        return latestReports.size();
+    }
+    /**
+     * Get the maxSize value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getMaxSize()
+    {
+        return maxSize;
+    }
+    /**
+     * Sets the maximum number of orders to cache and discards the current contents of the cache.
+     *
+     * @param inMaxSize a <code>long</code> value
+     */
+    public void setMaxSize(long inMaxSize)
+    {
+        Validate.isTrue(inMaxSize > 0,
+                        "maxSize must be positive");
+        maxSize = inMaxSize;
+        latestReports = buildCache();
+        unknownOrders = buildUnknownOrderCache();
+    }
+    /**
+     * Get the expiration value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getExpiration()
+    {
+        return expiration;
+    }
+    /**
+     * Sets the number of milliseconds an order may go unaccessed before it is discarded and discards the current contents of the cache.
+     *
+     * @param inExpiration a <code>long</code> value
+     */
+    public void setExpiration(long inExpiration)
+    {
+        Validate.isTrue(inExpiration > 0,
+                        "expiration must be positive");
+        expiration = inExpiration;
+        latestReports = buildCache();
+    }
+    /**
+     * Get the missExpiration value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getMissExpiration()
+    {
+        return missExpiration;
+    }
+    /**
+     * Sets the number of milliseconds an order for which no report could be found is remembered as unknown and discards the current unknown orders.
+     *
+     * @param inMissExpiration a <code>long</code> value
+     */
+    public void setMissExpiration(long inMissExpiration)
+    {
+        Validate.isTrue(inMissExpiration > 0,
+                        "missExpiration must be positive");
+        missExpiration = inMissExpiration;
+        unknownOrders = buildUnknownOrderCache();
+    }
+    /**
+     * Get the reportDao value.
+     *
+     * @return a <code>PersistentReportDao</code> value
+     */
+    public PersistentReportDao getReportDao()
+    {
+        return reportDao;
+    }
+    /**
+     * Sets the source of reports that are not in the cache.
+     *
+     * @param inReportDao a <code>PersistentReportDao</code> value or <code>null</code> to disable loading
+     */
+    public void setReportDao(PersistentReportDao inReportDao)
+    {
+        reportDao = inReportDao;
+    }
+    /**
+     * Reads the latest reports for the given order ids from persistence and caches them.
+     *
+     * <p>A report that was cached while the query was running is kept in preference to the persisted report. Order ids
+     * for which no report was found are remembered as unknown.
+     *
+     * @param inOrderIds a <code>List&lt;String&gt;</code> value
+     * @return a <code>Map&lt;String,ExecutionReport&gt;</code> value
+     * @throws RuntimeException if the reports could not be read from persistence
+     */
+    private Map<String,ExecutionReport> load(List<String> inOrderIds)
+    {
+        PersistentReportDao dao = reportDao;
+        if(dao == null) {
+            return Collections.emptyMap();
+        }
+        Map<String,ExecutionReport> reports = new HashMap<>();
+        ConcurrentMap<String,CachedReport> cacheMap = latestReports.asMap();
+        try {
+            for(List<String> orderIds : Lists.partition(inOrderIds,
+                                                        LOAD_BATCH_SIZE)) {
+                for(PersistentReport persistentReport : dao.findLatestByOrderIdIn(orderIds,
+                                                                                   ReportType.ExecutionReport)) {
+                    ReportBase report = persistentReport.toReport();
+                    if(!(report instanceof ExecutionReport)) {
+                        continue;
+                    }
+                    ExecutionReport executionReport = (ExecutionReport)report;
+                    String orderId = executionReport.getOrderID().getValue();
+                    CachedReport existingReport = cacheMap.putIfAbsent(orderId,
+                                                                       createCachedReport(executionReport));
+                    if(existingReport != null) {
+                        executionReport = existingReport.getReport();
+                    }
+                    loadMeter.mark();
+                    reports.put(orderId,
+                                executionReport);
+                }
+            }
+        } catch (RuntimeException e) {
+            loadFailureMeter.mark();
+            SLF4JLoggerProxy.warn(this,
+                                  e,
+                                  "Unable to load reports for {}",
+                                  inOrderIds);
+            throw e;
+        }
+        for(String orderId : inOrderIds) {
+            if(!reports.containsKey(orderId)) {
+                unknownOrders.put(orderId,
+                                  Boolean.TRUE);
+            }
+        }
+        return reports;
+    }
+    /**
+     * Gets the report from the given cached report, replacing a live report of a closed order with its compact form.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inCachedReport a <code>CachedReport</code> value
+     * @return an <code>ExecutionReport</code> value
+     */
+    private ExecutionReport getReport(String inOrderId,
+                                      CachedReport inCachedReport)
+    {
+        ExecutionReport report = inCachedReport.getReport();
+        if(inCachedReport instanceof LiveReport) {
+            CachedReport compactReport = createCachedReport(report);
+            if(compactReport instanceof CompactReport) {
+                // leaves the live report in place if a newer report was cached in the meantime
+                latestReports.asMap().replace(inOrderId,
+                                              inCachedReport,
+                                              compactReport);
+            }
+        }
+        return report;
+    }
+    /**
+     * Creates the cached form of the given report.
+     *
+     * @param inReport an <code>ExecutionReport</code> value
+     * @return a <code>CachedReport</code> value
+     */
+    private static CachedReport createCachedReport(ExecutionReport inReport)
+    {
+        if(inReport instanceof ReportBaseImpl &&
+           inReport.getOrderStatus() != null &&
+           OrderStatus.closedOrderStatuses.contains(inReport.getOrderStatus())) {
+            return new CompactReport((ReportBaseImpl)inReport);
+        }
+        return new LiveReport(inReport);
+    }
+    /**
+     * Builds the report cache with the current settings.
+     *
+     * @return a <code>Cache&lt;String,CachedReport&gt;</code> value
+     */
+    private Cache<String,CachedReport> buildCache()
+    {
+        return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterAccess(expiration,TimeUnit.MILLISECONDS).removalListener(new RemovalListener<String,CachedReport>() {
+            @Override
+            public void onRemoval(RemovalNotification<String,CachedReport> inNotification)
+            {
+                if(inNotification.wasEvicted()) {
+                    evictionMeter.mark();
+                }
+            }
+        }).build();
+    }
+    /**
+     * Builds the cache of order ids for which no report could be found with the current settings.
+     *
+     * @return a <code>Cache&lt;String,Boolean&gt;</code> value
+     */
+    private Cache<String,Boolean> buildUnknownOrderCache()
+    {
+        return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(missExpiration,TimeUnit.MILLISECONDS).build();
+    }
+    /**
+     * Provides access to a cached report.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private interface CachedReport
+    {
+        /**
+         * Gets the cached report.
+         *
+         * @return an <code>ExecutionReport</code> value
+         */
+        ExecutionReport getReport();
+    }
+    /**
+     * Holds the report of an order that may still change.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class LiveReport
+            implements CachedReport
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.ors.ReportCache.CachedReport#getReport()
+         */
+        @Override
+        public ExecutionReport getReport()
+        {
+            return report;
+        }
+        /**
+         * Create a new LiveReport instance.
+         *
+         * @param inReport an <code>ExecutionReport</code> value
+         */
+        private LiveReport(ExecutionReport inReport)
+        {
+            report = inReport;
+        }
+        /**
+         * cached report
+         */
+        private final ExecutionReport report;
     }
     /**
-     * cached reports 
+     * Holds the report of an order that is no longer open as the raw FIX message and report attributes.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class CompactReport
+            implements CachedReport
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.ors.ReportCache.CachedReport#getReport()
+         */
+        @Override
+        public ExecutionReport getReport()
+        {
+            try {
+                ExecutionReport report = Factory.getInstance().createExecutionReport(new Message(new String(fixMessage,
+                                                                                                            StandardCharsets.UTF_8),
+                                                                                                 false),
+                                                                                     brokerId,
+                                                                                     originator,
+                                                                                     hierarchy,
+                                                                                     actorId,
+                                                                                     viewerId);
+                if(reportId != null) {
+                    ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                                  reportId);
+                }
+                return report;
+            } catch (InvalidMessage e) {
+                throw new RuntimeException(e);
+            }
+        }
+        /**
+         * Create a new CompactReport instance.
+         *
+         * @param inReport a <code>ReportBaseImpl</code> value
+         */
+        private CompactReport(ReportBaseImpl inReport)
+        {
+            fixMessage = inReport.getMessage().toString().getBytes(StandardCharsets.UTF_8);
+            brokerId = inReport.getBrokerID();
+            originator = inReport.getOriginator();
+            hierarchy = inReport.getHierarchy();
+            actorId = inReport.getActorID();
+            viewerId = inReport.getViewerID();
+            reportId = inReport.getReportID();
+        }
+        /**
+         * raw FIX message
+         */
+        private final byte[] fixMessage;
+        /**
+         * broker id value
+         */
+        private final BrokerID brokerId;
+        /**
+         * originator value
+         */
+        private final Originator originator;
+        /**
+         * hierarchy value
+         */
+        private final Hierarchy hierarchy;
+        /**
+         * actor id value
+         */
+        private final UserID actorId;
+        /**
+         * viewer id value
+         */
+        private final UserID viewerId;
+        /**
+         * report id value
+         */
+        private final ReportID reportId;
+    }
+    /**
+     * maximum number of order ids to read from persistence in a single query
+     */
+    private static final int LOAD_BATCH_SIZE = 500;
+    /**
+     * maximum number of orders to cache
+     */
+    private volatile long maxSize = 100000;
+    /**
+     * number of milliseconds an order may go unaccessed before it is discarded
+     */
+    private volatile long expiration = TimeUnit.DAYS.toMillis(1);
+    /**
+     * number of milliseconds an order for which no report could be found is remembered as unknown
+     */
+    private volatile long missExpiration = TimeUnit.SECONDS.toMillis(5);
+    /**
+     * provides access to reports that are not cached
+     */
+    private volatile PersistentReportDao reportDao;
+    /**
+     * provides access to metrics
+     */
+    private final MetricRegistry metrics = MetricService.getInstance().getMetrics();
+    /**
+     * tracks requests satisfied from the cache
+     */
+    private final Meter hitMeter = metrics.meter(MetricRegistry.name(ReportCache.class.getSimpleName(),
+                                                                     "hitMeter"));
+    /**
+     * tracks requests not satisfied from the cache
+     */
+    private final Meter missMeter = metrics.meter(MetricRegistry.name(ReportCache.class.getSimpleName(),
+                                                                      "missMeter"));
+    /**
+     * tracks reports read from persistence
+     */
+    private final Meter loadMeter = metrics.meter(MetricRegistry.name(ReportCache.class.getSimpleName(),
+                                                                      "loadMeter"));
+    /**
+     * tracks failed attempts to read reports from persistence
+     */
+    private final Meter loadFailureMeter = metrics.meter(MetricRegistry.name(ReportCache.class.getSimpleName(),
+                                                                             "loadFailureMeter"));
+    /**
+     * tracks orders discarded to keep the cache within bounds
+     */
+    private final Meter evictionMeter = metrics.meter(MetricRegistry.name(ReportCache.class.getSimpleName(),
+                                                                          "evictionMeter"));
+    /**
+     * cached reports by order id
+     */
+    private volatile Cache<String,CachedReport> latestReports = buildCache();
+    /**
+     * order ids for which no report could be found
      */
-    private final Map<String,ExecutionReport> latestReports = new ConcurrentHashMap<String,ExecutionReport>();
+    private volatile Cache<String,Boolean> unknownOrders = buildUnknownOrderCache();
 }
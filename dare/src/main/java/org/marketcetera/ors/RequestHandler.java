@@ -37,6 +37,7 @@ import org.marketcetera.ors.brokers.BrokerService;
 import org.marketcetera.ors.brokers.Selector;
 import org.marketcetera.ors.dao.ReportService;
 import org.marketcetera.ors.filters.OrderFilter;
+import org.marketcetera.ors.filters.UnsentOrderListener;
 import org.marketcetera.ors.info.RequestInfo;
 import org.marketcetera.ors.info.RequestInfoImpl;
 import org.marketcetera.ors.info.SessionInfo;
@@ -456,6 +457,27 @@ public class RequestHandler
         addRequiredFields(qMsgReply);
         return qMsgReply;
     }
+    /**
+     * Tells the order filters that track the orders they accept that the given order was not sent.
+     *
+     * @param inMessage a <code>Message</code> value as accepted by the order filters
+     */
+    private void releaseUnsentOrder(Message inMessage)
+    {
+        if(getAllowedOrders() == null) {
+            return;
+        }
+        for(OrderFilter orderFilter : getAllowedOrders()) {
+            if(orderFilter instanceof UnsentOrderListener) {
+                try {
+                    ((UnsentOrderListener)orderFilter).receiveUnsentOrder(inMessage);
+                } catch (Exception e) {
+                    SLF4JLoggerProxy.warn(this,
+                                          e);
+                }
+            }
+        }
+    }
     // ReplyHandler.
     @Override
     public void receiveMessage(DataEnvelope inDataEnvelope)
@@ -466,7 +488,9 @@ public class RequestHandler
         Broker broker=null;
         Message qMsg=null;
         Message qMsgToSend=null;
+        Message acceptedMessage=null;
         boolean sendOrder = true;
+        boolean orderSent = false;
         try {
             // Reject null message envelopes.
             if(inDataEnvelope==null) {
@@ -611,6 +635,7 @@ public class RequestHandler
                 throw new I18NException(ex,Messages.RH_CONVERSION_FAILED);
             }
             outgoingMessageService.cacheMessageOwner(qMsg,
+                                                     brokerId,
                                                      actor.getUserID());
             broker.logMessage(qMsg);
             ThreadedMetric.event("requestHandler.orderConverted"); //$NON-NLS-1$
@@ -637,6 +662,7 @@ public class RequestHandler
                     }
                 }
             }
+            acceptedMessage = qMsg;
             ThreadedMetric.event("requestHandler.orderAllowed"); //$NON-NLS-1$
             // Apply message modifiers.
             if(broker.getModifiers()!=null) {
@@ -701,6 +727,7 @@ public class RequestHandler
                     isotopeService.remove(qMsgToSend);
                     getSender().sendToTarget(qMsgToSend,
                                              broker.getSessionID());
+                    orderSent = true;
                 }
             } catch (SessionNotFound ex) {
                 throw new I18NException(ex,Messages.RH_UNAVAILABLE_BROKER);
@@ -752,6 +779,10 @@ public class RequestHandler
         } catch (Exception e) {
             SLF4JLoggerProxy.warn(this,
                                   e);
+        } finally {
+            if(acceptedMessage != null && !orderSent) {
+                releaseUnsentOrder(acceptedMessage);
+            }
         }
         ThreadedMetric.end(METRIC_CONDITION_RH);
     }
@@ -0,0 +1,10 @@
+package org.marketcetera.ors;
+
+public final class Version
+{
+    public static final String build_number="-1";
+    public static final String build_time="2026-10-18 10:26:34.532 +0000";
+    public static final String pomversion="3.2.1";
+    public static final String build_repository="";
+    public static final String build_path="";
+}
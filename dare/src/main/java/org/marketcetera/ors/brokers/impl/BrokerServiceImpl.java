@@ -15,7 +15,9 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 
 import javax.annotation.PostConstruct;
@@ -102,13 +104,18 @@ import quickfix.SessionSettings;
 
 /**
  * Provides broker services.
+ * 
+ * <p>Brokers are generated from their FIX sessions on first use and kept in a registry by session ID and broker ID,
+ * so routing a message does not read the FIX session from the database. An entry is dropped when its session is saved,
+ * deleted, enabled, or disabled, and when its broker status disappears from the cluster. The logged on status of the
+ * registered brokers is refreshed whenever the cluster broker status is.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
  * @since $Release$
  */
 public class BrokerServiceImpl
-        implements BrokerService,MembershipListener,ClusterListener
+        implements BrokerService,MembershipListener,ClusterListener,FixSessionListener
 {
     /* (non-Javadoc)
      * @see com.marketcetera.fix.SessionService#getSessionName(quickfix.SessionID)
@@ -467,6 +474,7 @@ public class BrokerServiceImpl
         existingSession.delete();
         existingSession = fixSessionDao.save(existingSession);
         sessionNamesBySessionId.remove(new SessionID(existingSession.getSessionId()));
+        unregisterBroker(new SessionID(existingSession.getSessionId()));
         ReportBrokerStatusTask reportStatusTask = new ReportBrokerStatusTask(existingSession,
                                                                              FixSessionStatus.DELETED);
         clusterService.execute(reportStatusTask);
@@ -779,6 +787,8 @@ public class BrokerServiceImpl
         existingSession = fixSessionDao.save(existingSession);
         sessionNamesBySessionId.put(new SessionID(existingSession.getSessionId()),
                                     existingSession.getName());
+        unregisterBroker(new SessionID(inFixSession.getSessionId()));
+        unregisterBroker(new SessionID(existingSession.getSessionId()));
         // have each cluster member report disabled status for this session
         ReportBrokerStatusTask reportStatusTask = new ReportBrokerStatusTask(existingSession,
                                                                              FixSessionStatus.DISABLED);
@@ -963,6 +973,7 @@ public class BrokerServiceImpl
         Validate.notNull(fixSessionDao);
         Validate.notNull(fixSessionAttributeDescriptorDao);
         clusterService.addClusterListener(this);
+        addFixSessionListener(this);
         sessionCustomizationsByName.clear();
         if(sessionCustomizations != null) {
             for(SessionCustomization sessionCustomization : sessionCustomizations) {
@@ -1141,31 +1152,69 @@ public class BrokerServiceImpl
      * @see com.marketcetera.ors.brokers.BrokerService#getBroker(org.marketcetera.trade.BrokerID)
      */
     @Override
-    @Transactional(readOnly=true,propagation=Propagation.REQUIRED)
     public Broker getBroker(BrokerID inBrokerId)
     {
-        // TODO efficiency!
+        Broker broker = brokersByBrokerId.get(inBrokerId);
+        if(broker != null) {
+            return broker;
+        }
+        long generation = getRegistryGeneration();
         FixSession session = fixSessionDao.findByBrokerIdAndIsDeletedFalse(inBrokerId.getValue());
         if(session == null) {
             return null;
         }
-        Broker broker = generateBroker(session);
-        return broker;
+        return registerBroker(session,
+                              generation);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.brokers.BrokerService#getBroker(quickfix.SessionID)
      */
     @Override
-    @Transactional(readOnly=true,propagation=Propagation.REQUIRED)
     public Broker getBroker(SessionID inSessionId)
     {
-        // TODO efficiency!
+        Broker broker = brokersBySessionId.get(inSessionId);
+        if(broker != null) {
+            return broker;
+        }
+        long generation = getRegistryGeneration();
         FixSession session = fixSessionDao.findBySessionIdAndIsDeletedFalse(inSessionId.toString());
         if(session == null) {
             return null;
         }
-        Broker broker = generateBroker(session);
-        return broker;
+        return registerBroker(session,
+                              generation);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.fix.FixSessionListener#sessionDisabled(org.marketcetera.fix.FixSession)
+     */
+    @Override
+    public void sessionDisabled(FixSession inSession)
+    {
+        unregisterBroker(new SessionID(inSession.getSessionId()));
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.fix.FixSessionListener#sessionEnabled(org.marketcetera.fix.FixSession)
+     */
+    @Override
+    public void sessionEnabled(FixSession inSession)
+    {
+        unregisterBroker(new SessionID(inSession.getSessionId()));
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.fix.FixSessionListener#sessionStopped(org.marketcetera.fix.FixSession)
+     */
+    @Override
+    public void sessionStopped(FixSession inSession)
+    {
+        // the session itself is unchanged, the logged on status is refreshed with the broker status
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.fix.FixSessionListener#sessionStarted(org.marketcetera.fix.FixSession)
+     */
+    @Override
+    public void sessionStarted(FixSession inSession)
+    {
+        // the session itself is unchanged, the logged on status is refreshed with the broker status
     }
     /* (non-Javadoc)
      * @see com.marketcetera.matp.service.ClusterListener#memberAdded(com.marketcetera.matp.service.ClusterMember)
@@ -1314,9 +1363,83 @@ public class BrokerServiceImpl
             }
             clusterBrokerStatus.clear();
             clusterBrokerStatus.addAll(updatedStatus);
+            refreshRegisteredBrokers();
             logBrokerInstanceData();
         }
     }
+    /**
+     * Updates the logged on status of the registered brokers from the cluster broker status and drops the brokers
+     * that no longer have a status.
+     */
+    @GuardedBy("clusterBrokerStatus")
+    private void refreshRegisteredBrokers()
+    {
+        for(Map.Entry<SessionID,Broker> entry : brokersBySessionId.entrySet()) {
+            Broker broker = entry.getValue();
+            ClusteredBrokerStatus brokerStatus = getBrokerStatus(broker.getBrokerID());
+            if(brokerStatus == null) {
+                unregisterBroker(entry.getKey());
+            } else {
+                broker.setLoggedOn(brokerStatus.getLoggedOn());
+            }
+        }
+    }
+    /**
+     * Gets the current registry generation, which must be read before the FIX session of a broker to be registered.
+     *
+     * @return a <code>long</code> value
+     */
+    private long getRegistryGeneration()
+    {
+        synchronized(brokerRegistryLock) {
+            return registryGeneration;
+        }
+    }
+    /**
+     * Generates the broker for the given session and registers it unless the registry has changed since the session was
+     * read.
+     *
+     * @param inFixSession a <code>FixSession</code> value
+     * @param inGeneration a <code>long</code> value containing the registry generation read before the session
+     * @return a <code>Broker</code> value
+     */
+    private Broker registerBroker(FixSession inFixSession,
+                                  long inGeneration)
+    {
+        // generate outside the registry lock, the broker status lock is always taken first
+        Broker broker = generateBroker(inFixSession);
+        SessionID sessionId = new SessionID(inFixSession.getSessionId());
+        synchronized(brokerRegistryLock) {
+            if(inGeneration != registryGeneration) {
+                // the session may have changed after it was read, use this broker once but do not keep it
+                return broker;
+            }
+            Broker existingBroker = brokersBySessionId.get(sessionId);
+            if(existingBroker != null) {
+                return existingBroker;
+            }
+            brokersBySessionId.put(sessionId,
+                                   broker);
+            brokersByBrokerId.put(new BrokerID(inFixSession.getBrokerId()),
+                                  broker);
+        }
+        return broker;
+    }
+    /**
+     * Removes the broker for the given session from the registry.
+     *
+     * @param inSessionId a <code>SessionID</code> value
+     */
+    private void unregisterBroker(SessionID inSessionId)
+    {
+        synchronized(brokerRegistryLock) {
+            registryGeneration += 1;
+            Broker broker = brokersBySessionId.remove(inSessionId);
+            if(broker != null) {
+                brokersByBrokerId.values().remove(broker);
+            }
+        }
+    }
     /**
      * Marshals the given value as XML.
      *
@@ -1879,6 +2002,23 @@ public class BrokerServiceImpl
      * caches session names by session id
      */
     private final Map<SessionID,String> sessionNamesBySessionId = new HashMap<>();
+    /**
+     * registered brokers by session id
+     */
+    private final ConcurrentMap<SessionID,Broker> brokersBySessionId = new ConcurrentHashMap<>();
+    /**
+     * registered brokers by broker id
+     */
+    private final ConcurrentMap<BrokerID,Broker> brokersByBrokerId = new ConcurrentHashMap<>();
+    /**
+     * guards changes to the broker registry
+     */
+    private final Object brokerRegistryLock = new Object();
+    /**
+     * incremented each time a broker is removed from the registry
+     */
+    @GuardedBy("brokerRegistryLock")
+    private long registryGeneration;
     /**
      * describes the style of the table cell
      */
@@ -92,6 +92,13 @@ public interface OrderStatusService
      */
     OrderStatus findByRootOrderIdAndOrderId(OrderID inRootID,
                                             OrderID inOrderID);
+    /**
+     * Find all order status values in the given order chain in the order they were created.
+     *
+     * @param inRootOrderId an <code>OrderID</code> value
+     * @return a <code>List&lt;PersistentOrderStatus&gt;</code> value
+     */
+    List<PersistentOrderStatus> findByRootOrderId(OrderID inRootOrderId);
     /**
      * Find the open orders using the given page attributes.
      *
@@ -7,6 +7,7 @@ import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -39,7 +40,7 @@ import quickfix.field.TargetCompID;
  * @since $Release$
  */
 @Entity(name="OutgoingMessage")
-@Table(name="outgoing_messages")
+@Table(name="outgoing_messages",indexes={@Index(name="idx_outgoing_msg_broker_order",columnList="broker_id,order_id")})
 public class PersistentOutgoingMessage
         extends EntityBase
         implements OutgoingMessage
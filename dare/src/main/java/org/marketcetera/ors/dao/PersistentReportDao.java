@@ -1,5 +1,6 @@
 package org.marketcetera.ors.dao;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -74,4 +75,14 @@ public interface PersistentReportDao
     List<Long> findUnhandledIncomingMessageIds(String inSessionId,
                                                Set<String> inMessageTypes,
                                                Date inSince);
+    /**
+     * Finds the most recent report of the given type for each of the given order ids.
+     *
+     * @param inOrderIds a <code>Collection&lt;String&gt;</code> value
+     * @param inReportType a <code>ReportType</code> value
+     * @return a <code>List&lt;PersistentReport&gt;</code> value with at most one report per order id
+     */
+    @Query("select r from PersistentReport r where r.id in (select max(r2.id) from PersistentReport r2 where r2.orderID.mValue in (?1) and r2.mReportType=?2 group by r2.orderID.mValue)")
+    List<PersistentReport> findLatestByOrderIdIn(Collection<String> inOrderIds,
+                                                 ReportType inReportType);
 }
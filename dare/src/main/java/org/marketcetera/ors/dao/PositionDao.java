@@ -0,0 +1,19 @@
+package org.marketcetera.ors.dao;
+
+import org.marketcetera.ors.history.PersistentPosition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.querydsl.QueryDslPredicateExecutor;
+
+/* $License$ */
+
+/**
+ * Provides data store access to {@link PersistentPosition} objects.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public interface PositionDao
+        extends JpaRepository<PersistentPosition,Long>,QueryDslPredicateExecutor<PersistentPosition>
+{
+}
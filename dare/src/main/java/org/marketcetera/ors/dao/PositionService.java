@@ -0,0 +1,78 @@
+package org.marketcetera.ors.dao;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import org.marketcetera.ors.history.ExecutionReportSummary;
+import org.marketcetera.ors.history.PersistentPosition;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.SecurityType;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Maintains positions as fills are saved and answers position queries.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface PositionService
+{
+    /**
+     * Applies the fill in the given execution report summary, if any, to the current positions.
+     *
+     * @param inReportSummary an <code>ExecutionReportSummary</code> value
+     */
+    void add(ExecutionReportSummary inReportSummary);
+    /**
+     * Removes the fill in the given execution report summary, if any, from the current positions.
+     *
+     * @param inReportSummary an <code>ExecutionReportSummary</code> value
+     */
+    void remove(ExecutionReportSummary inReportSummary);
+    /**
+     * Gets the position in the given instrument as of the given date visible to the given user.
+     *
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inDate a <code>Date</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>BigDecimal</code> value
+     */
+    BigDecimal getPositionAsOf(SimpleUser inUser,
+                               Date inDate,
+                               Instrument inInstrument);
+    /**
+     * Gets the positions in instruments of the given type as of the given date visible to the given user.
+     *
+     * <p>Each position returned has a distinct key of instrument, account, actor, and viewer.
+     *
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inDate a <code>Date</code> value
+     * @param inSecurityType a <code>SecurityType</code> value
+     * @param inSymbols a <code>String[]</code> value containing the symbols to which to limit the positions or <code>null</code> or empty for all symbols
+     * @return a <code>List&lt;PersistentPosition&gt;</code> value
+     */
+    List<PersistentPosition> getPositionsAsOf(SimpleUser inUser,
+                                              Date inDate,
+                                              SecurityType inSecurityType,
+                                              String...inSymbols);
+    /**
+     * Builds the current positions from the fills saved so far if they have not been built yet.
+     *
+     * @throws RuntimeException if the positions cannot be built
+     */
+    void initialize();
+    /**
+     * Records a snapshot of the positions made up of the fills transacted before the given date.
+     *
+     * <p>Nothing is recorded if a snapshot for the given date already exists.
+     *
+     * @param inSnapshotDate a <code>Date</code> value
+     */
+    void createSnapshot(Date inSnapshotDate);
+}
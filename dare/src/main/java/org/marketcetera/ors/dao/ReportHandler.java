@@ -0,0 +1,25 @@
+package org.marketcetera.ors.dao;
+
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Receives reports one at a time as they are read from the data store.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface ReportHandler
+{
+    /**
+     * Handles the given report.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @return a <code>boolean</code> value indicating if more reports should be read
+     */
+    boolean handle(ReportBase inReport);
+}
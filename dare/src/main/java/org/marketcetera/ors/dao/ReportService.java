@@ -75,6 +75,19 @@ public interface ReportService
      */
     public List<ReportBase> getReportsSince(SimpleUser inUser,
                                             Date inDate);
+    /**
+     * Passes the reports visible to the given user since the given date to the given handler in sending time order.
+     *
+     * <p>Reports are read from the data store a page at a time, so only one page is held in memory at once unless the
+     * handler keeps them.
+     *
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inDate a <code>Date</code> value
+     * @param inHandler a <code>ReportHandler</code> value
+     */
+    public void getReportsSince(SimpleUser inUser,
+                                Date inDate,
+                                ReportHandler inHandler);
     /**
      * Gets the position of the given equity as of the given date from the point of view
      * of the given user.
@@ -206,6 +219,15 @@ public interface ReportService
      * @return a <code>PersistentReport</code> value
      */
     public PersistentReport save(ReportBase inReport);
+    /**
+     * Saves the given reports in a single transaction.
+     *
+     * <p>Either all reports are saved or none are. The returned reports are in the same order as the given reports.
+     *
+     * @param inReports a <code>List&lt;ReportBase&gt;</code> value
+     * @return a <code>List&lt;PersistentReport&gt;</code> value
+     */
+    public List<PersistentReport> save(List<ReportBase> inReports);
     /**
      * Deletes the given report.
      *
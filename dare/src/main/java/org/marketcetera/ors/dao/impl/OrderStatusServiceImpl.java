@@ -150,6 +150,19 @@ public class OrderStatusServiceImpl
         return orderStatusDao.findByRootOrderIdAndOrderId(inRootID,
                                                           inOrderID);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.OrderStatusService#findByRootOrderId(org.marketcetera.trade.OrderID)
+     */
+    @Override
+    public List<PersistentOrderStatus> findByRootOrderId(OrderID inRootOrderId)
+    {
+        BooleanBuilder where = new BooleanBuilder();
+        where = where.and(QPersistentOrderStatus.persistentOrderStatus.rootOrderId.eq(inRootOrderId));
+        Sort sort = new Sort(new Sort.Order(Sort.Direction.ASC,
+                                            QPersistentOrderStatus.persistentOrderStatus.id.getMetadata().getName()));
+        return Lists.newArrayList(orderStatusDao.findAll(where,
+                                                         sort));
+    }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.OrderStatusService#findByOrderId(org.marketcetera.trade.OrderID)
      */
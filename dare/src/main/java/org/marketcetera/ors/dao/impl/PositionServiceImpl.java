@@ -0,0 +1,675 @@
+package org.marketcetera.ors.dao.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+
+import org.marketcetera.admin.service.AuthorizationService;
+import org.marketcetera.ors.TradingPermissions;
+import org.marketcetera.ors.dao.PositionDao;
+import org.marketcetera.ors.dao.PositionService;
+import org.marketcetera.ors.history.ExecutionReportSummary;
+import org.marketcetera.ors.history.InstrumentSummaryFields;
+import org.marketcetera.ors.history.PersistentPosition;
+import org.marketcetera.ors.history.QExecutionReportSummary;
+import org.marketcetera.ors.history.QPersistentOrderStatus;
+import org.marketcetera.ors.history.QPersistentPosition;
+import org.marketcetera.ors.security.QSimpleUser;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.SecurityType;
+import org.marketcetera.trade.Side;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/* $License$ */
+
+/**
+ * Maintains positions in the positions table as fills are saved and answers position queries from it.
+ *
+ * <p>The current positions are kept up-to-date as each fill is saved, so a query for the current position reads one
+ * row per position. A query as of an earlier date starts from the latest snapshot taken before that date and adds the
+ * fills transacted since the snapshot. Dates before the first snapshot are answered from the order status records as they
+ * were before the positions table existed. Fills are placed in time by their transact time throughout, as order status
+ * records are.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@Transactional(readOnly=true,propagation=Propagation.REQUIRED)
+@ClassVersion("$Id$")
+public class PositionServiceImpl
+        implements PositionService
+{
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#add(org.marketcetera.ors.history.ExecutionReportSummary)
+     */
+    @Override
+    @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
+    public void add(ExecutionReportSummary inReportSummary)
+    {
+        apply(inReportSummary,
+              inReportSummary.getPositionDelta());
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#remove(org.marketcetera.ors.history.ExecutionReportSummary)
+     */
+    @Override
+    @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
+    public void remove(ExecutionReportSummary inReportSummary)
+    {
+        BigDecimal delta = inReportSummary.getPositionDelta();
+        apply(inReportSummary,
+              delta == null ? null : delta.negate());
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#getPositionAsOf(org.marketcetera.ors.security.SimpleUser, java.util.Date, org.marketcetera.trade.Instrument)
+     */
+    @Override
+    public BigDecimal getPositionAsOf(SimpleUser inUser,
+                                      Date inDate,
+                                      Instrument inInstrument)
+    {
+        PositionFilter filter = new PositionFilter(inInstrument.getSecurityType(),
+                                                   new String[] { inInstrument.getSymbol() },
+                                                   inInstrument,
+                                                   inUser,
+                                                   authzService.getSubjectUsersFor(inUser,
+                                                                                   TradingPermissions.ViewPositionAction.name()));
+        BigDecimal result = BigDecimal.ZERO;
+        for(PersistentPosition position : getPositionsAsOf(filter,
+                                                           inDate)) {
+            result = result.add(position.getQuantity());
+        }
+        return result;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#getPositionsAsOf(org.marketcetera.ors.security.SimpleUser, java.util.Date, org.marketcetera.trade.SecurityType, java.lang.String[])
+     */
+    @Override
+    public List<PersistentPosition> getPositionsAsOf(SimpleUser inUser,
+                                                     Date inDate,
+                                                     SecurityType inSecurityType,
+                                                     String...inSymbols)
+    {
+        PositionFilter filter = new PositionFilter(inSecurityType,
+                                                   inSymbols,
+                                                   null,
+                                                   inUser,
+                                                   authzService.getSubjectUsersFor(inUser,
+                                                                                   TradingPermissions.ViewPositionAction.name()));
+        return getPositionsAsOf(filter,
+                                inDate);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#initialize()
+     */
+    @Override
+    @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
+    public void initialize()
+    {
+        if(positionDao.count() > 0) {
+            return;
+        }
+        // the positions table is empty: either no fills have been saved yet or they were saved before the table existed
+        Date now = new Date();
+        QPersistentOrderStatus o = QPersistentOrderStatus.persistentOrderStatus;
+        Map<List<Object>,PersistentPosition> positions = sumPositions(ORDER_STATUS_COLUMNS,
+                                                                      getSignedCumulativeQuantity(),
+                                                                      o.transactTime,
+                                                                      o.transactTime.loe(now).and(o.securityType.isNotNull()).and(o.symbol.isNotNull()));
+        if(positions.isEmpty()) {
+            return;
+        }
+        for(PersistentPosition position : positions.values()) {
+            positionDao.save(new PersistentPosition(position,
+                                                    position.getQuantity(),
+                                                    null));
+            positionDao.save(new PersistentPosition(position,
+                                                    position.getQuantity(),
+                                                    now));
+        }
+        SLF4JLoggerProxy.info(this,
+                              "Built {} position(s) from existing order status records as of {}",
+                              positions.size(),
+                              now);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.PositionService#createSnapshot(java.util.Date)
+     */
+    @Override
+    @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
+    public void createSnapshot(Date inSnapshotDate)
+    {
+        QPersistentPosition p = QPersistentPosition.persistentPosition;
+        JPAQueryFactory jpaQueryFactory = new JPAQueryFactory(entityManager);
+        // a snapshot at or after the given date already covers the fills before it
+        Long laterSnapshots = jpaQueryFactory.select(p.count()).from(p).where(p.snapshotDate.goe(inSnapshotDate)).fetchOne();
+        if(laterSnapshots != null && laterSnapshots > 0) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Not creating position snapshot for {}, a snapshot already exists",
+                                   inSnapshotDate);
+            return;
+        }
+        Date previousSnapshotDate = jpaQueryFactory.select(p.snapshotDate.max()).from(p).where(p.snapshotDate.lt(inSnapshotDate)).fetchOne();
+        Map<List<Object>,PersistentPosition> positions = new LinkedHashMap<>();
+        QExecutionReportSummary e = QExecutionReportSummary.executionReportSummary;
+        BooleanBuilder fillWhere = new BooleanBuilder(e.positionDelta.isNotNull()).and(e.transactTime.lt(inSnapshotDate));
+        if(previousSnapshotDate != null) {
+            positions = sumPositions(POSITION_COLUMNS,
+                                     p.quantity,
+                                     p.lastFillTime,
+                                     p.snapshotDate.eq(previousSnapshotDate));
+            fillWhere = fillWhere.and(e.transactTime.goe(previousSnapshotDate));
+        }
+        addPositions(positions,
+                     sumPositions(EXECUTION_REPORT_COLUMNS,
+                                  e.positionDelta,
+                                  e.transactTime,
+                                  fillWhere).values());
+        for(PersistentPosition position : positions.values()) {
+            positionDao.save(new PersistentPosition(position,
+                                                    position.getQuantity(),
+                                                    inSnapshotDate));
+        }
+        SLF4JLoggerProxy.debug(this,
+                               "Created snapshot of {} position(s) for {} from snapshot {}",
+                               positions.size(),
+                               inSnapshotDate,
+                               previousSnapshotDate);
+    }
+    /**
+     * Get the positionDao value.
+     *
+     * @return a <code>PositionDao</code> value
+     */
+    public PositionDao getPositionDao()
+    {
+        return positionDao;
+    }
+    /**
+     * Sets the positionDao value.
+     *
+     * @param inPositionDao a <code>PositionDao</code> value
+     */
+    public void setPositionDao(PositionDao inPositionDao)
+    {
+        positionDao = inPositionDao;
+    }
+    /**
+     * Get the entityManager value.
+     *
+     * @return an <code>EntityManager</code> value
+     */
+    public EntityManager getEntityManager()
+    {
+        return entityManager;
+    }
+    /**
+     * Sets the entityManager value.
+     *
+     * @param inEntityManager an <code>EntityManager</code> value
+     */
+    public void setEntityManager(EntityManager inEntityManager)
+    {
+        entityManager = inEntityManager;
+    }
+    /**
+     * Calculates the change in position caused by the given cumulative quantity of an order with the given side.
+     *
+     * <p>Buys increase the position and all other sides decrease it, as with the effective cumulative quantity of an
+     * execution report summary.
+     *
+     * @param inSide a <code>Side</code> value
+     * @param inCumulativeQuantity a <code>BigDecimal</code> value containing the cumulative quantity of the order
+     * @param inPreviousCumulativeQuantity a <code>BigDecimal</code> value containing the cumulative quantity of the order before the report or <code>null</code>
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the position did not change
+     */
+    static BigDecimal getPositionDelta(Side inSide,
+                                       BigDecimal inCumulativeQuantity,
+                                       BigDecimal inPreviousCumulativeQuantity)
+    {
+        if(inCumulativeQuantity == null) {
+            return null;
+        }
+        BigDecimal delta = inPreviousCumulativeQuantity == null ? inCumulativeQuantity : inCumulativeQuantity.subtract(inPreviousCumulativeQuantity);
+        if(delta.signum() == 0) {
+            return null;
+        }
+        return inSide == Side.Buy ? delta : delta.negate();
+    }
+    /**
+     * Creates the key that identifies the given position without regard to its quantity or snapshot.
+     *
+     * @param inPosition a <code>PersistentPosition</code> value
+     * @return a <code>List&lt;Object&gt;</code> value
+     */
+    static List<Object> getPositionKey(PersistentPosition inPosition)
+    {
+        return Arrays.<Object>asList(inPosition.getSecurityType(),
+                                     inPosition.getSymbol(),
+                                     inPosition.getExpiry(),
+                                     inPosition.getStrikePrice() == null ? null : inPosition.getStrikePrice().stripTrailingZeros(),
+                                     inPosition.getOptionType(),
+                                     inPosition.getAccount(),
+                                     inPosition.getActor() == null ? null : inPosition.getActor().getId(),
+                                     inPosition.getViewer() == null ? null : inPosition.getViewer().getId());
+    }
+    /**
+     * Adds the given positions to the given positions by key.
+     *
+     * @param inPositions a <code>Map&lt;List&lt;Object&gt;,PersistentPosition&gt;</code> value
+     * @param inPositionsToAdd an <code>Iterable&lt;PersistentPosition&gt;</code> value
+     */
+    static void addPositions(Map<List<Object>,PersistentPosition> inPositions,
+                             Iterable<PersistentPosition> inPositionsToAdd)
+    {
+        for(PersistentPosition position : inPositionsToAdd) {
+            List<Object> key = getPositionKey(position);
+            PersistentPosition existingPosition = inPositions.get(key);
+            if(existingPosition == null) {
+                inPositions.put(key,
+                                position);
+            } else {
+                existingPosition.setQuantity(existingPosition.getQuantity().add(position.getQuantity()));
+                if(existingPosition.getLastFillTime() == null || (position.getLastFillTime() != null && position.getLastFillTime().after(existingPosition.getLastFillTime()))) {
+                    existingPosition.setLastFillTime(position.getLastFillTime());
+                }
+            }
+        }
+    }
+    /**
+     * Applies the given change in position to the current position of the given fill.
+     *
+     * @param inFill an <code>ExecutionReportSummary</code> value
+     * @param inQuantity a <code>BigDecimal</code> value or <code>null</code>
+     */
+    private void apply(ExecutionReportSummary inFill,
+                       BigDecimal inQuantity)
+    {
+        if(inQuantity == null || inQuantity.signum() == 0 || inFill.getSecurityType() == null || inFill.getSymbol() == null) {
+            return;
+        }
+        QPersistentPosition p = QPersistentPosition.persistentPosition;
+        BooleanBuilder where = new BooleanBuilder(p.snapshotDate.isNull());
+        where = where.and(p.securityType.eq(inFill.getSecurityType()));
+        where = where.and(p.symbol.eq(inFill.getSymbol()));
+        where = where.and(inFill.getExpiry() == null ? p.expiry.isNull() : p.expiry.eq(inFill.getExpiry()));
+        where = where.and(inFill.getStrikePrice() == null ? p.strikePrice.isNull() : p.strikePrice.eq(inFill.getStrikePrice()));
+        where = where.and(inFill.getOptionType() == null ? p.optionType.isNull() : p.optionType.eq(inFill.getOptionType()));
+        where = where.and(inFill.getAccount() == null ? p.account.isNull() : p.account.eq(inFill.getAccount()));
+        where = where.and(inFill.getActor() == null ? p.actor.isNull() : p.actor.eq(inFill.getActor()));
+        where = where.and(inFill.getViewer() == null ? p.viewer.isNull() : p.viewer.eq(inFill.getViewer()));
+        // lock the current position so concurrent fills for the same position are applied one at a time
+        List<PersistentPosition> positions = new JPAQueryFactory(entityManager).selectFrom(p).where(where).setLockMode(LockModeType.PESSIMISTIC_WRITE).fetch();
+        if(positions.isEmpty()) {
+            positionDao.save(new PersistentPosition(inFill,
+                                                    inQuantity));
+            return;
+        }
+        PersistentPosition position = positions.get(0);
+        position.setQuantity(position.getQuantity().add(inQuantity));
+        if(inFill.getTransactTime() != null && (position.getLastFillTime() == null || inFill.getTransactTime().after(position.getLastFillTime()))) {
+            position.setLastFillTime(inFill.getTransactTime());
+        }
+        positionDao.save(position);
+    }
+    /**
+     * Gets the positions that match the given filter as of the given date.
+     *
+     * @param inFilter a <code>PositionFilter</code> value
+     * @param inDate a <code>Date</code> value
+     * @return a <code>List&lt;PersistentPosition&gt;</code> value
+     */
+    private List<PersistentPosition> getPositionsAsOf(PositionFilter inFilter,
+                                                      Date inDate)
+    {
+        QPersistentPosition p = QPersistentPosition.persistentPosition;
+        Map<List<Object>,PersistentPosition> positions = sumPositions(POSITION_COLUMNS,
+                                                                      p.quantity,
+                                                                      p.lastFillTime,
+                                                                      inFilter.where(POSITION_COLUMNS).and(p.snapshotDate.isNull()));
+        boolean current = true;
+        for(PersistentPosition position : positions.values()) {
+            if(position.getLastFillTime() != null && position.getLastFillTime().after(inDate)) {
+                current = false;
+                break;
+            }
+        }
+        if(current) {
+            return new ArrayList<>(positions.values());
+        }
+        Date snapshotDate = new JPAQueryFactory(entityManager).select(p.snapshotDate.max()).from(p).where(p.snapshotDate.loe(inDate)).fetchOne();
+        if(snapshotDate == null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "No position snapshot before {}, using order status records",
+                                   inDate);
+            QPersistentOrderStatus o = QPersistentOrderStatus.persistentOrderStatus;
+            return new ArrayList<>(sumPositions(ORDER_STATUS_COLUMNS,
+                                                getSignedCumulativeQuantity(),
+                                                o.transactTime,
+                                                inFilter.where(ORDER_STATUS_COLUMNS).and(o.transactTime.loe(inDate))).values());
+        }
+        positions = sumPositions(POSITION_COLUMNS,
+                                 p.quantity,
+                                 p.lastFillTime,
+                                 inFilter.where(POSITION_COLUMNS).and(p.snapshotDate.eq(snapshotDate)));
+        QExecutionReportSummary e = QExecutionReportSummary.executionReportSummary;
+        addPositions(positions,
+                     sumPositions(EXECUTION_REPORT_COLUMNS,
+                                  e.positionDelta,
+                                  e.transactTime,
+                                  inFilter.where(EXECUTION_REPORT_COLUMNS).and(e.positionDelta.isNotNull()).and(e.transactTime.goe(snapshotDate)).and(e.transactTime.loe(inDate))).values());
+        return new ArrayList<>(positions.values());
+    }
+    /**
+     * Sums the given quantity of the rows that match the given predicate by position key.
+     *
+     * @param inColumns a <code>PositionColumns</code> value
+     * @param inQuantity a <code>NumberExpression&lt;BigDecimal&gt;</code> value
+     * @param inTime a <code>DateTimeExpression&lt;Date&gt;</code> value
+     * @param inWhere a <code>Predicate</code> value
+     * @return a <code>Map&lt;List&lt;Object&gt;,PersistentPosition&gt;</code> value
+     */
+    private Map<List<Object>,PersistentPosition> sumPositions(PositionColumns inColumns,
+                                                              NumberExpression<BigDecimal> inQuantity,
+                                                              DateTimeExpression<Date> inTime,
+                                                              Predicate inWhere)
+    {
+        NumberExpression<BigDecimal> quantity = inQuantity.sum();
+        DateTimeExpression<Date> lastFillTime = inTime.max();
+        List<Tuple> results = new JPAQueryFactory(entityManager).select(inColumns.securityType,
+                                                                        inColumns.symbol,
+                                                                        inColumns.expiry,
+                                                                        inColumns.strikePrice,
+                                                                        inColumns.optionType,
+                                                                        inColumns.account,
+                                                                        inColumns.actor.id,
+                                                                        inColumns.viewer.id,
+                                                                        quantity,
+                                                                        lastFillTime)
+                .from(inColumns.entity).where(inWhere)
+                .groupBy(inColumns.securityType,
+                         inColumns.symbol,
+                         inColumns.expiry,
+                         inColumns.strikePrice,
+                         inColumns.optionType,
+                         inColumns.account,
+                         inColumns.actor.id,
+                         inColumns.viewer.id).fetch();
+        List<PersistentPosition> positions = new ArrayList<>();
+        for(Tuple result : results) {
+            Long actorId = result.get(inColumns.actor.id);
+            Long viewerId = result.get(inColumns.viewer.id);
+            positions.add(new PersistentPosition(result.get(inColumns.securityType),
+                                                 result.get(inColumns.symbol),
+                                                 result.get(inColumns.expiry),
+                                                 result.get(inColumns.strikePrice),
+                                                 result.get(inColumns.optionType),
+                                                 result.get(inColumns.account),
+                                                 actorId == null ? null : entityManager.getReference(SimpleUser.class,
+                                                                                                     actorId),
+                                                 viewerId == null ? null : entityManager.getReference(SimpleUser.class,
+                                                                                                      viewerId),
+                                                 result.get(quantity) == null ? BigDecimal.ZERO : result.get(quantity),
+                                                 result.get(lastFillTime)));
+        }
+        Map<List<Object>,PersistentPosition> sums = new LinkedHashMap<>();
+        addPositions(sums,
+                     positions);
+        return sums;
+    }
+    /**
+     * Gets the cumulative quantity of an order status record signed by side.
+     *
+     * @return a <code>NumberExpression&lt;BigDecimal&gt;</code> value
+     */
+    private static NumberExpression<BigDecimal> getSignedCumulativeQuantity()
+    {
+        QPersistentOrderStatus o = QPersistentOrderStatus.persistentOrderStatus;
+        return new CaseBuilder().when(o.side.eq(Side.Buy)).then(o.cumulativeQuantity).otherwise(o.cumulativeQuantity.negate());
+    }
+    /**
+     * Holds the columns that make up a position key in a table.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class PositionColumns
+    {
+        /**
+         * Create a new PositionColumns instance.
+         *
+         * @param inEntity an <code>EntityPath&lt;?&gt;</code> value
+         * @param inSecurityType an <code>EnumPath&lt;SecurityType&gt;</code> value
+         * @param inSymbol a <code>StringPath</code> value
+         * @param inExpiry a <code>StringPath</code> value
+         * @param inStrikePrice a <code>NumberPath&lt;BigDecimal&gt;</code> value
+         * @param inOptionType an <code>EnumPath&lt;OptionType&gt;</code> value
+         * @param inAccount a <code>StringPath</code> value
+         * @param inActor a <code>QSimpleUser</code> value
+         * @param inViewer a <code>QSimpleUser</code> value
+         */
+        private PositionColumns(EntityPath<?> inEntity,
+                                EnumPath<SecurityType> inSecurityType,
+                                StringPath inSymbol,
+                                StringPath inExpiry,
+                                NumberPath<BigDecimal> inStrikePrice,
+                                EnumPath<OptionType> inOptionType,
+                                StringPath inAccount,
+                                QSimpleUser inActor,
+                                QSimpleUser inViewer)
+        {
+            entity = inEntity;
+            securityType = inSecurityType;
+            symbol = inSymbol;
+            expiry = inExpiry;
+            strikePrice = inStrikePrice;
+            optionType = inOptionType;
+            account = inAccount;
+            actor = inActor;
+            viewer = inViewer;
+        }
+        /**
+         * table to query
+         */
+        private final EntityPath<?> entity;
+        /**
+         * security type column
+         */
+        private final EnumPath<SecurityType> securityType;
+        /**
+         * symbol column
+         */
+        private final StringPath symbol;
+        /**
+         * expiry column
+         */
+        private final StringPath expiry;
+        /**
+         * strike price column
+         */
+        private final NumberPath<BigDecimal> strikePrice;
+        /**
+         * option type column
+         */
+        private final EnumPath<OptionType> optionType;
+        /**
+         * account column
+         */
+        private final StringPath account;
+        /**
+         * actor column
+         */
+        private final QSimpleUser actor;
+        /**
+         * viewer column
+         */
+        private final QSimpleUser viewer;
+    }
+    /**
+     * Selects the positions to return from a position query.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class PositionFilter
+    {
+        /**
+         * Create a new PositionFilter instance.
+         *
+         * @param inSecurityType a <code>SecurityType</code> value
+         * @param inSymbols a <code>String[]</code> value or <code>null</code> for all symbols
+         * @param inInstrument an <code>Instrument</code> value or <code>null</code> for all instruments of the given symbols
+         * @param inViewer a <code>SimpleUser</code> value
+         * @param inSubjectUsers a <code>Set&lt;SimpleUser&gt;</code> value containing the users whose positions the viewer may also see
+         */
+        private PositionFilter(SecurityType inSecurityType,
+                               String[] inSymbols,
+                               Instrument inInstrument,
+                               SimpleUser inViewer,
+                               Set<SimpleUser> inSubjectUsers)
+        {
+            securityType = inSecurityType;
+            symbols = inSymbols;
+            instrument = inInstrument;
+            viewer = inViewer;
+            subjectUsers = inSubjectUsers == null ? Collections.<SimpleUser>emptySet() : inSubjectUsers;
+        }
+        /**
+         * Builds a predicate that selects the rows of the given table that match this filter.
+         *
+         * @param inColumns a <code>PositionColumns</code> value
+         * @return a <code>BooleanBuilder</code> value
+         */
+        private BooleanBuilder where(PositionColumns inColumns)
+        {
+            BooleanBuilder where = new BooleanBuilder(inColumns.securityType.eq(securityType));
+            if(symbols != null && symbols.length != 0) {
+                where = where.and(inColumns.symbol.in(symbols));
+            }
+            if(instrument != null) {
+                InstrumentSummaryFields<?> summaryFields = InstrumentSummaryFields.SELECTOR.forInstrument(instrument);
+                String expiry = summaryFields.getExpiry(instrument);
+                if(expiry != null) {
+                    where = where.and(inColumns.expiry.eq(expiry));
+                }
+                BigDecimal strikePrice = summaryFields.getStrikePrice(instrument);
+                if(strikePrice != null) {
+                    where = where.and(inColumns.strikePrice.eq(strikePrice));
+                }
+                OptionType optionType = summaryFields.getOptionType(instrument);
+                if(optionType != null) {
+                    where = where.and(inColumns.optionType.eq(optionType));
+                }
+            }
+            // show the position if the given user is this user or has supervisor permission over the position (the position permission has already been checked for the "same user" case)
+            if(subjectUsers.isEmpty()) {
+                where = where.and(inColumns.viewer.eq(viewer));
+            } else {
+                where = where.and(inColumns.viewer.in(subjectUsers).or(inColumns.viewer.eq(viewer)));
+            }
+            return where;
+        }
+        /**
+         * security type of the positions
+         */
+        private final SecurityType securityType;
+        /**
+         * symbols of the positions or <code>null</code> for all symbols
+         */
+        private final String[] symbols;
+        /**
+         * instrument of the positions or <code>null</code> for all instruments
+         */
+        private final Instrument instrument;
+        /**
+         * user requesting the positions
+         */
+        private final SimpleUser viewer;
+        /**
+         * users whose positions the viewer may also see
+         */
+        private final Set<SimpleUser> subjectUsers;
+    }
+    /**
+     * key columns of the positions table
+     */
+    private static final PositionColumns POSITION_COLUMNS = new PositionColumns(QPersistentPosition.persistentPosition,
+                                                                                QPersistentPosition.persistentPosition.securityType,
+                                                                                QPersistentPosition.persistentPosition.symbol,
+                                                                                QPersistentPosition.persistentPosition.expiry,
+                                                                                QPersistentPosition.persistentPosition.strikePrice,
+                                                                                QPersistentPosition.persistentPosition.optionType,
+                                                                                QPersistentPosition.persistentPosition.account,
+                                                                                QPersistentPosition.persistentPosition.actor,
+                                                                                QPersistentPosition.persistentPosition.viewer);
+    /**
+     * key columns of the execution reports table
+     */
+    private static final PositionColumns EXECUTION_REPORT_COLUMNS = new PositionColumns(QExecutionReportSummary.executionReportSummary,
+                                                                                        QExecutionReportSummary.executionReportSummary.securityType,
+                                                                                        QExecutionReportSummary.executionReportSummary.symbol,
+                                                                                        QExecutionReportSummary.executionReportSummary.expiry,
+                                                                                        QExecutionReportSummary.executionReportSummary.strikePrice,
+                                                                                        QExecutionReportSummary.executionReportSummary.optionType,
+                                                                                        QExecutionReportSummary.executionReportSummary.account,
+                                                                                        QExecutionReportSummary.executionReportSummary.actor,
+                                                                                        QExecutionReportSummary.executionReportSummary.viewer);
+    /**
+     * key columns of the order status table
+     */
+    private static final PositionColumns ORDER_STATUS_COLUMNS = new PositionColumns(QPersistentOrderStatus.persistentOrderStatus,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.securityType,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.symbol,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.expiry,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.strikePrice,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.optionType,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.account,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.actor,
+                                                                                    QPersistentOrderStatus.persistentOrderStatus.viewer);
+    /**
+     * provides datastore access to positions
+     */
+    @Autowired
+    private PositionDao positionDao;
+    /**
+     * provides access to authorization services
+     */
+    @Autowired
+    private AuthorizationService authzService;
+    /**
+     * entity manager value used to construct queries
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+}
@@ -2,7 +2,9 @@ package org.marketcetera.ors.dao.impl;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,13 +34,15 @@ import org.marketcetera.ors.brokers.BrokerService;
 import org.marketcetera.ors.dao.ExecutionReportDao;
 import org.marketcetera.ors.dao.OrderStatusService;
 import org.marketcetera.ors.dao.PersistentReportDao;
+import org.marketcetera.ors.dao.PositionService;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.ors.dao.ReportService;
 import org.marketcetera.ors.dao.UserService;
 import org.marketcetera.ors.history.ExecutionReportSummary;
 import org.marketcetera.ors.history.PersistentOrderStatus;
+import org.marketcetera.ors.history.PersistentPosition;
 import org.marketcetera.ors.history.PersistentReport;
 import org.marketcetera.ors.history.QExecutionReportSummary;
-import org.marketcetera.ors.history.QPersistentOrderStatus;
 import org.marketcetera.ors.history.QPersistentReport;
 import org.marketcetera.ors.history.ReportType;
 import org.marketcetera.ors.history.RootOrderIdFactory;
@@ -75,7 +79,6 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -103,6 +106,17 @@ public class ReportServiceImpl
         cachedSessionStart = CacheBuilder.newBuilder().build();
         Validate.isTrue(missingSeqNumBatchSize > 0,
                         "missingSeqNumBatchSize must be positive");
+        Validate.isTrue(reportPageSize > 0,
+                        "reportPageSize must be positive");
+        Validate.isTrue(parsedReportCacheSize >= 0,
+                        "parsedReportCacheSize must not be negative");
+        parsedReports = CacheBuilder.newBuilder().maximumSize(parsedReportCacheSize).build();
+        // positions answered from an incomplete positions table would be wrong, so do not start without it
+        positionService.initialize();
+        if(positionSnapshotsEnabled) {
+            // snapshot today if no snapshot exists yet, then at the start of each following day
+            schedulePositionSnapshot(new Date());
+        }
     }
     /**
      * Stop the object.
@@ -221,6 +235,9 @@ public class ReportServiceImpl
         List<Long> ids = new ArrayList<Long>();
         for(PersistentReport report : reports) {
             ids.add(report.getId());
+            if(report.getReportID() != null) {
+                parsedReports.invalidate(report.getReportID());
+            }
         }
         // delete report summaries first - need to use a manual query here to include the list param
         entityManager.createNativeQuery("DELETE FROM exec_reports WHERE report_id IN (:ids)").setParameter("ids",ids).executeUpdate();
@@ -272,30 +289,60 @@ public class ReportServiceImpl
     @Override
     public List<ReportBase> getReportsSince(SimpleUser inUser,
                                             Date inDate)
+    {
+        final List<ReportBase> results = new ArrayList<ReportBase>();
+        getReportsSince(inUser,
+                        inDate,
+                        new ReportHandler() {
+                            @Override
+                            public boolean handle(ReportBase inReport)
+                            {
+                                results.add(inReport);
+                                return true;
+                            }
+                        });
+        return results;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.ReportService#getReportsSince(org.marketcetera.ors.security.SimpleUser, java.util.Date, org.marketcetera.ors.dao.ReportHandler)
+     */
+    @Override
+    public void getReportsSince(SimpleUser inUser,
+                                Date inDate,
+                                ReportHandler inHandler)
     {
         QPersistentReport r = QPersistentReport.persistentReport;
-        BooleanExpression where = r.sendingTime.goe(inDate);
+        BooleanExpression visible = r.viewer.eq(inUser);
         Set<SimpleUser> subjectUsers = authzService.getSubjectUsersFor(inUser,
                                                                        TradingPermissions.ViewReportAction.name());
         // show the report if the given user is this user or has supervisor permission over the report (the report permission has already been checked for the "same user" case)
         if(!subjectUsers.isEmpty()) {
-            where = where.and(r.viewer.in(subjectUsers)).or(r.viewer.eq(inUser));
-        } else {
-            where = where.and(r.viewer.eq(inUser));
+            visible = r.viewer.in(subjectUsers).or(visible);
         }
-        Sort sort = new Sort(Sort.Direction.ASC,
-                             r.sendingTime.getMetadata().getName());
-        // can expose the page and page size to allow paging through the api interfaces
-        PageRequest page = new PageRequest(0,
-                                           Integer.MAX_VALUE,
-                                           sort);
-        Iterable<PersistentReport> reports = persistentReportDao.findAll(where,
-                                                                         page);
-        List<ReportBase> results = new ArrayList<ReportBase>();
-        for(PersistentReport report : reports) {
-            results.add(report.toReport());
+        // the date applies to the user's own reports as well as to those of the subject users
+        // read the reports a page at a time, each page starting after the last report of the previous one, so neither the
+        // query nor the persistence context has to hold every report at once. reports with the same sending time are
+        // ordered by id so none is skipped or repeated across a page boundary
+        BooleanExpression after = r.sendingTime.goe(inDate);
+        while(true) {
+            List<PersistentReport> reports = new JPAQueryFactory(entityManager).selectFrom(r)
+                    .where(visible.and(after))
+                    .orderBy(r.sendingTime.asc(),r.id.asc())
+                    .limit(reportPageSize)
+                    .fetch();
+            for(PersistentReport report : reports) {
+                ReportBase reportBase = getReport(report);
+                entityManager.detach(report);
+                if(!inHandler.handle(reportBase)) {
+                    return;
+                }
+            }
+            if(reports.size() < reportPageSize) {
+                return;
+            }
+            PersistentReport lastReport = reports.get(reports.size()-1);
+            after = r.sendingTime.gt(lastReport.getSendingTime()).or(r.sendingTime.eq(lastReport.getSendingTime()).and(r.id.gt(lastReport.getId())));
         }
-        return results;
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getExecutions(int, int)
@@ -320,17 +367,9 @@ public class ReportServiceImpl
                                             Date inDate,
                                             Equity inEquity)
     {
-        return getPositionAsOf(inUser,
-                               inDate,
-                               inEquity,
-                               new SymbolMatcher<Equity>() {
-            @Override
-            public BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                           Equity inInstrument)
-            {
-                return inTableProxy.symbol.eq(inInstrument.getSymbol());
-            }
-        });
+        return positionService.getPositionAsOf(inUser,
+                                               inDate,
+                                               inEquity);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getOpenOrders(com.marketcetera.ors.security.SimpleUser)
@@ -343,7 +382,7 @@ public class ReportServiceImpl
                                                                                            OrderStatus.openOrderStatuses);
         List<ReportBaseImpl> reports = Lists.newArrayList();
         for(PersistentReport report : reportValues) {
-            reports.add((ReportBaseImpl)report.toReport());
+            reports.add((ReportBaseImpl)getReport(report));
         }
         return reports;
     }
@@ -379,17 +418,9 @@ public class ReportServiceImpl
                                               Date inDate,
                                               Currency inCurrency)
     {
-        return getPositionAsOf(inUser,
-                               inDate,
-                               inCurrency,
-                               new SymbolMatcher<Currency>() {
-            @Override
-            public BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                           Currency inInstrument)
-            {
-                return inTableProxy.symbol.eq(inInstrument.getSymbol());
-            }
-        });
+        return positionService.getPositionAsOf(inUser,
+                                               inDate,
+                                               inCurrency);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getAllCurrencyPositionsAsOf(com.marketcetera.ors.security.SimpleUser, java.util.Date)
@@ -472,17 +503,9 @@ public class ReportServiceImpl
                                                      Date inDate,
                                                      ConvertibleBond inConvertibleBond)
     {
-        return getPositionAsOf(inUser,
-                               inDate,
-                               inConvertibleBond,
-                               new SymbolMatcher<ConvertibleBond>() {
-            @Override
-            public BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                           ConvertibleBond inInstrument)
-            {
-                return inTableProxy.symbol.eq(inInstrument.getSymbol());
-            }
-        });
+        return positionService.getPositionAsOf(inUser,
+                                               inDate,
+                                               inConvertibleBond);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getFuturePositionAsOf(com.marketcetera.ors.security.SimpleUser, java.util.Date, org.marketcetera.trade.Future)
@@ -492,17 +515,9 @@ public class ReportServiceImpl
                                             Date inDate,
                                             Future inFuture)
     {
-        return getPositionAsOf(inUser,
-                               inDate,
-                               inFuture,
-                               new SymbolMatcher<Future>() {
-            @Override
-            public BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                           Future inInstrument)
-            {
-                return inTableProxy.symbol.eq(inInstrument.getSymbol()).and(inTableProxy.expiry.eq(inInstrument.getExpiryAsString()));
-            }
-        });
+        return positionService.getPositionAsOf(inUser,
+                                               inDate,
+                                               inFuture);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getOptionPositionAsOf(com.marketcetera.ors.security.SimpleUser, java.util.Date, org.marketcetera.trade.Option)
@@ -512,20 +527,9 @@ public class ReportServiceImpl
                                             Date inDate,
                                             Option inOption)
     {
-        return getPositionAsOf(inUser,
-                               inDate,
-                               inOption,
-                               new SymbolMatcher<Option>() {
-            @Override
-            public BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                           Option inInstrument)
-            {
-                return inTableProxy.symbol.eq(inInstrument.getSymbol())
-                        .and(inTableProxy.expiry.eq(inInstrument.getExpiry()))
-                        .and(inTableProxy.strikePrice.eq(inInstrument.getStrikePrice()))
-                        .and(inTableProxy.optionType.eq(inInstrument.getType()));
-            }
-        });
+        return positionService.getPositionAsOf(inUser,
+                                               inDate,
+                                               inOption);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getAllOptionPositionsAsOf(com.marketcetera.ors.security.SimpleUser, java.util.Date)
@@ -589,81 +593,65 @@ public class ReportServiceImpl
     @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
     public PersistentReport save(ReportBase inReport)
     {
-        PersistentReport newReport = new PersistentReport(inReport,
-                                                          inReport.getActorID() == null ? null : userService.findOne(inReport.getActorID().getValue()),
-                                                          inReport.getViewerID() == null ? null : userService.findOne(inReport.getViewerID().getValue()));
-        // check to see if the report already exists. if it does, just return it.
-        BooleanBuilder where = new BooleanBuilder();
-        where = where.and(QPersistentReport.persistentReport.msgSeqNum.eq(newReport.getMsgSeqNum()));
-        if(inReport.getOrderID() != null) {
-            where = where.and(QPersistentReport.persistentReport.orderID.eq(inReport.getOrderID()));
-        }
-        if(newReport.getSessionId() != null) {
-            where = where.and(QPersistentReport.persistentReport.sessionIdValue.eq(newReport.getSessionId().toString()));
-        }
-        Date sessionStart = getSessionStart(newReport.getSessionId());
-        if(sessionStart == null) {
-            sessionStart = new Date(0);
-        }
-        where = where.and(QPersistentReport.persistentReport.sendingTime.goe(getSessionStart(newReport.getSessionId())));
-        PersistentReport report = persistentReportDao.findOne(where);
+        PersistentReport newReport = createPersistentReport(inReport);
+        PersistentReport report = findExistingReport(inReport,
+                                                     newReport);
         if(report != null) {
-            SLF4JLoggerProxy.debug(this,
-                                   "Using existing report {} for {}",
-                                   report,
-                                   inReport);
-            // reset the report id to the original report id
-            ReportBaseImpl.assignReportID((ReportBaseImpl)inReport,
-                                          report.getReportID());
             return report;
         }
-        report = persistentReportDao.save(newReport);
-        OrderID rootID = rootOrderIdFactory.getRootOrderId((TradeMessage)inReport);
-        if(report.getReportType() == ReportType.ExecutionReport) {
-            ExecutionReportSummary reportSummary = new ExecutionReportSummary((ExecutionReport)inReport,
-                                                                              report);
-            reportSummary.setRootOrderID(rootID);
-            reportSummary = executionReportDao.save(reportSummary);
-        }
-        // update order status record
-        try {
-            org.marketcetera.ors.history.OrderStatus orderStatus;
-            if(inReport instanceof OrderCancelReject) {
-                // need to search for some particulars to help us fill out this record
-                orderStatus = orderStatusService.findMostRecentExecutionByRootOrderId(rootID);
-            } else {
-                orderStatus = orderStatusService.findByRootOrderIdAndOrderId(rootID,
-                                                                             inReport.getOrderID());
-                if(orderStatus == null && inReport.getOriginalOrderID() != null) {
-                    orderStatus = orderStatusService.findByRootOrderIdAndOrderId(rootID,
-                                                                                 inReport.getOriginalOrderID());
+        return persistReport(inReport,
+                             newReport,
+                             null);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.dao.ReportService#save(java.util.List)
+     */
+    @Override
+    @Transactional(readOnly=false,propagation=Propagation.REQUIRED)
+    public List<PersistentReport> save(List<ReportBase> inReports)
+    {
+        int size = inReports.size();
+        PersistentReport[] newReports = new PersistentReport[size];
+        PersistentReport[] results = new PersistentReport[size];
+        int[] duplicateOf = new int[size];
+        // check for existing reports before anything is written so the duplicate queries do not force the pending inserts to be flushed one at a time
+        Map<String,Integer> batchReportKeys = new HashMap<>();
+        for(int i=0;i<size;i++) {
+            ReportBase report = inReports.get(i);
+            newReports[i] = createPersistentReport(report);
+            results[i] = findExistingReport(report,
+                                            newReports[i]);
+            duplicateOf[i] = -1;
+            if(results[i] == null) {
+                String reportKey = newReports[i].getMsgSeqNum() + "|" + report.getOrderID() + "|" + newReports[i].getSessionId();
+                Integer earlierIndex = batchReportKeys.get(reportKey);
+                if(earlierIndex == null) {
+                    batchReportKeys.put(reportKey,
+                                        i);
+                } else {
+                    duplicateOf[i] = earlierIndex;
                 }
             }
-            if(orderStatus == null) {
-                orderStatus = new PersistentOrderStatus(report,
-                                                        inReport,
-                                                        rootID);
-                orderStatus = orderStatusService.save(orderStatus);
-            } else {
-                orderStatusService.update(orderStatus,
-                                          report,
-                                          inReport);
-            }
-        } catch (Exception e) {
-            if(SLF4JLoggerProxy.isDebugEnabled(this)) {
-                SLF4JLoggerProxy.warn(this,
-                                      e,
-                                      "Unable to create or update the order status record for {}: {}",
-                                      inReport,
-                                      ExceptionUtils.getRootCauseMessage(e));
-            } else {
-                SLF4JLoggerProxy.warn(this,
-                                      "Unable to create or update the order status record for {}: {}",
-                                      inReport,
-                                      ExceptionUtils.getRootCauseMessage(e));
+        }
+        // order chains touched by this batch, by root order id, in the order the order status records were created
+        Map<OrderID,List<PersistentOrderStatus>> orderStatusCache = new HashMap<>();
+        for(int i=0;i<size;i++) {
+            ReportBase report = inReports.get(i);
+            if(duplicateOf[i] >= 0) {
+                results[i] = results[duplicateOf[i]];
+                SLF4JLoggerProxy.debug(this,
+                                       "Using existing report {} for {}",
+                                       results[i],
+                                       report);
+                ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                              results[i].getReportID());
+            } else if(results[i] == null) {
+                results[i] = persistReport(report,
+                                           newReports[i],
+                                           orderStatusCache);
             }
         }
-        return report;
+        return Arrays.asList(results);
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#delete(com.marketcetera.ors.history.PersistentReport)
@@ -687,6 +675,7 @@ public class ReportServiceImpl
         // first, delete the execution report summary for this report
         ExecutionReportSummary reportSummary = executionReportDao.findByReportId(reportToDelete.getId());
         if(reportSummary != null) {
+            positionService.remove(reportSummary);
             executionReportDao.delete(reportSummary);
         }
         // next, delete the order status
@@ -695,6 +684,9 @@ public class ReportServiceImpl
             orderStatusService.delete(orderStatus);
         }
         persistentReportDao.delete(reportToDelete);
+        if(reportToDelete.getReportID() != null) {
+            parsedReports.invalidate(reportToDelete.getReportID());
+        }
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.dao.ReportService#getRootOrderIdFor(org.marketcetera.trade.OrderID)
@@ -852,6 +844,322 @@ public class ReportServiceImpl
     {
         cacheSize = inCacheSize;
     }
+    /**
+     * Get the positionSnapshotsEnabled value.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean getPositionSnapshotsEnabled()
+    {
+        return positionSnapshotsEnabled;
+    }
+    /**
+     * Sets the positionSnapshotsEnabled value.
+     *
+     * <p>Snapshots bound the number of fills read to answer a position query for an earlier date. In a cluster,
+     * snapshots need only be enabled on one instance.
+     *
+     * @param inPositionSnapshotsEnabled a <code>boolean</code> value
+     */
+    public void setPositionSnapshotsEnabled(boolean inPositionSnapshotsEnabled)
+    {
+        positionSnapshotsEnabled = inPositionSnapshotsEnabled;
+    }
+    /**
+     * Get the parsedReportCacheSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getParsedReportCacheSize()
+    {
+        return parsedReportCacheSize;
+    }
+    /**
+     * Sets the parsedReportCacheSize value.
+     *
+     * <p>Each cached report holds its parsed FIX message, so the cache should be sized to the number of reports clients
+     * typically read back on reconnect rather than to the whole report history. A value of 0 disables the cache.
+     *
+     * @param inParsedReportCacheSize an <code>int</code> value
+     */
+    public void setParsedReportCacheSize(int inParsedReportCacheSize)
+    {
+        parsedReportCacheSize = inParsedReportCacheSize;
+    }
+    /**
+     * Get the reportPageSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getReportPageSize()
+    {
+        return reportPageSize;
+    }
+    /**
+     * Sets the reportPageSize value.
+     *
+     * @param inReportPageSize an <code>int</code> value
+     */
+    public void setReportPageSize(int inReportPageSize)
+    {
+        reportPageSize = inReportPageSize;
+    }
+    /**
+     * Gets the report for the given persistent report, parsing its FIX message only if the report is not cached.
+     *
+     * @param inReport a <code>PersistentReport</code> value
+     * @return a <code>ReportBase</code> value
+     */
+    private ReportBase getReport(PersistentReport inReport)
+    {
+        ReportID reportId = inReport.getReportID();
+        if(reportId == null) {
+            return inReport.toReport();
+        }
+        ReportBase report = parsedReports.getIfPresent(reportId);
+        if(report == null) {
+            report = inReport.toReport();
+            parsedReports.put(reportId,
+                              report);
+        }
+        return report;
+    }
+    /**
+     * Creates the persistent form of the given report.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @return a <code>PersistentReport</code> value
+     */
+    private PersistentReport createPersistentReport(ReportBase inReport)
+    {
+        return new PersistentReport(inReport,
+                                    inReport.getActorID() == null ? null : userService.findOne(inReport.getActorID().getValue()),
+                                    inReport.getViewerID() == null ? null : userService.findOne(inReport.getViewerID().getValue()));
+    }
+    /**
+     * Finds a report already saved for the current session that matches the given report.
+     * 
+     * <p>If a match is found, the report id of the given report is reset to the report id of the existing report.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @param inNewReport a <code>PersistentReport</code> value
+     * @return a <code>PersistentReport</code> value or <code>null</code>
+     */
+    private PersistentReport findExistingReport(ReportBase inReport,
+                                                PersistentReport inNewReport)
+    {
+        BooleanBuilder where = new BooleanBuilder();
+        where = where.and(QPersistentReport.persistentReport.msgSeqNum.eq(inNewReport.getMsgSeqNum()));
+        if(inReport.getOrderID() != null) {
+            where = where.and(QPersistentReport.persistentReport.orderID.eq(inReport.getOrderID()));
+        }
+        if(inNewReport.getSessionId() != null) {
+            where = where.and(QPersistentReport.persistentReport.sessionIdValue.eq(inNewReport.getSessionId().toString()));
+        }
+        where = where.and(QPersistentReport.persistentReport.sendingTime.goe(getSessionStart(inNewReport.getSessionId())));
+        PersistentReport report = persistentReportDao.findOne(where);
+        if(report != null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "Using existing report {} for {}",
+                                   report,
+                                   inReport);
+            // reset the report id to the original report id
+            ReportBaseImpl.assignReportID((ReportBaseImpl)inReport,
+                                          report.getReportID());
+        }
+        return report;
+    }
+    /**
+     * Writes the given new report along with its execution report summary and order status.
+     *
+     * @param inReport a <code>ReportBase</code> value
+     * @param inNewReport a <code>PersistentReport</code> value
+     * @param inOrderStatusCache a <code>Map&lt;OrderID,List&lt;PersistentOrderStatus&gt;&gt;</code> value holding the order chains already read in this transaction or <code>null</code> to read from the data store
+     * @return a <code>PersistentReport</code> value
+     */
+    private PersistentReport persistReport(ReportBase inReport,
+                                           PersistentReport inNewReport,
+                                           Map<OrderID,List<PersistentOrderStatus>> inOrderStatusCache)
+    {
+        PersistentReport report = persistentReportDao.save(inNewReport);
+        if(report.getReportID() != null) {
+            // the report has already been parsed, keep it so it is not parsed again when read back
+            parsedReports.put(report.getReportID(),
+                              inReport);
+        }
+        OrderID rootID = rootOrderIdFactory.getRootOrderId((TradeMessage)inReport);
+        // find the order status record before it is updated so the change in cumulative quantity can be measured
+        org.marketcetera.ors.history.OrderStatus orderStatus = null;
+        boolean orderStatusFound = false;
+        try {
+            orderStatus = findOrderStatus(rootID,
+                                          inReport,
+                                          inOrderStatusCache);
+            orderStatusFound = true;
+        } catch (Exception e) {
+            logWarning(e,
+                       "Unable to create or update the order status record for {}: {}",
+                       inReport,
+                       ExceptionUtils.getRootCauseMessage(e));
+        }
+        if(report.getReportType() == ReportType.ExecutionReport) {
+            ExecutionReportSummary reportSummary = new ExecutionReportSummary((ExecutionReport)inReport,
+                                                                              report);
+            reportSummary.setRootOrderID(rootID);
+            if(orderStatusFound && reportSummary.getSecurityType() != null) {
+                reportSummary.setPositionDelta(PositionServiceImpl.getPositionDelta(reportSummary.getSide(),
+                                                                                    reportSummary.getCumQuantity(),
+                                                                                    orderStatus == null ? null : orderStatus.getCumulativeQuantity()));
+            }
+            reportSummary = executionReportDao.save(reportSummary);
+            positionService.add(reportSummary);
+        }
+        if(!orderStatusFound) {
+            return report;
+        }
+        // update order status record
+        try {
+            if(orderStatus == null) {
+                PersistentOrderStatus newOrderStatus = (PersistentOrderStatus)orderStatusService.save(new PersistentOrderStatus(report,
+                                                                                                                                inReport,
+                                                                                                                                rootID));
+                if(inOrderStatusCache != null) {
+                    inOrderStatusCache.get(rootID).add(newOrderStatus);
+                }
+            } else {
+                orderStatusService.update(orderStatus,
+                                          report,
+                                          inReport);
+            }
+        } catch (Exception e) {
+            logWarning(e,
+                       "Unable to create or update the order status record for {}: {}",
+                       inReport,
+                       ExceptionUtils.getRootCauseMessage(e));
+        }
+        return report;
+    }
+    /**
+     * Schedules a snapshot of the positions as of the start of the day at the given time.
+     *
+     * <p>Each snapshot schedules the next one for the start of the following day, so snapshots keep to the start of the
+     * day across daylight saving time changes.
+     *
+     * @param inRunTime a <code>Date</code> value
+     */
+    private void schedulePositionSnapshot(Date inRunTime)
+    {
+        Timer timer = timerService;
+        if(timer == null) {
+            return;
+        }
+        timer.schedule(new TimerTask() {
+            @Override
+            public void run()
+            {
+                DateTime startOfDay = new DateTime().withTimeAtStartOfDay();
+                try {
+                    positionService.createSnapshot(startOfDay.toDate());
+                } catch (Exception e) {
+                    logWarning(e,
+                               "Unable to create position snapshot for {}: {}",
+                               startOfDay,
+                               ExceptionUtils.getRootCauseMessage(e));
+                }
+                try {
+                    schedulePositionSnapshot(startOfDay.plusDays(1).withTimeAtStartOfDay().toDate());
+                } catch (IllegalStateException ignored) {
+                    // the service was stopped
+                }
+            }
+        },inRunTime);
+    }
+    /**
+     * Logs the given warning, including the stack trace of the given exception if debug logging is enabled.
+     *
+     * @param inException an <code>Exception</code> value
+     * @param inMessage a <code>String</code> value
+     * @param inParameters an <code>Object[]</code> value
+     */
+    private void logWarning(Exception inException,
+                            String inMessage,
+                            Object...inParameters)
+    {
+        if(SLF4JLoggerProxy.isDebugEnabled(this)) {
+            SLF4JLoggerProxy.warn(this,
+                                  inException,
+                                  inMessage,
+                                  inParameters);
+        } else {
+            SLF4JLoggerProxy.warn(this,
+                                  inMessage,
+                                  inParameters);
+        }
+    }
+    /**
+     * Finds the order status record to update with the given report.
+     *
+     * @param inRootID an <code>OrderID</code> value
+     * @param inReport a <code>ReportBase</code> value
+     * @param inOrderStatusCache a <code>Map&lt;OrderID,List&lt;PersistentOrderStatus&gt;&gt;</code> value holding the order chains already read in this transaction or <code>null</code> to read from the data store
+     * @return an <code>org.marketcetera.ors.history.OrderStatus</code> value or <code>null</code> if the report starts a new order status record
+     */
+    private org.marketcetera.ors.history.OrderStatus findOrderStatus(OrderID inRootID,
+                                                                     ReportBase inReport,
+                                                                     Map<OrderID,List<PersistentOrderStatus>> inOrderStatusCache)
+    {
+        if(inOrderStatusCache == null) {
+            if(inReport instanceof OrderCancelReject) {
+                // need to search for some particulars to help us fill out this record
+                return orderStatusService.findMostRecentExecutionByRootOrderId(inRootID);
+            }
+            org.marketcetera.ors.history.OrderStatus orderStatus = orderStatusService.findByRootOrderIdAndOrderId(inRootID,
+                                                                                                                  inReport.getOrderID());
+            if(orderStatus == null && inReport.getOriginalOrderID() != null) {
+                orderStatus = orderStatusService.findByRootOrderIdAndOrderId(inRootID,
+                                                                             inReport.getOriginalOrderID());
+            }
+            return orderStatus;
+        }
+        List<PersistentOrderStatus> orderChain = inOrderStatusCache.get(inRootID);
+        if(orderChain == null) {
+            orderChain = new ArrayList<>(orderStatusService.findByRootOrderId(inRootID));
+            inOrderStatusCache.put(inRootID,
+                                   orderChain);
+        }
+        if(inReport instanceof OrderCancelReject) {
+            for(int i=orderChain.size()-1;i>=0;i--) {
+                if(orderChain.get(i).getSecurityType() != null) {
+                    return orderChain.get(i);
+                }
+            }
+            return null;
+        }
+        PersistentOrderStatus orderStatus = findOrderStatus(orderChain,
+                                                            inReport.getOrderID());
+        if(orderStatus == null && inReport.getOriginalOrderID() != null) {
+            orderStatus = findOrderStatus(orderChain,
+                                          inReport.getOriginalOrderID());
+        }
+        return orderStatus;
+    }
+    /**
+     * Finds the order status record for the given order id in the given order chain.
+     *
+     * @param inOrderChain a <code>List&lt;PersistentOrderStatus&gt;</code> value
+     * @param inOrderID an <code>OrderID</code> value
+     * @return a <code>PersistentOrderStatus</code> value or <code>null</code>
+     */
+    private PersistentOrderStatus findOrderStatus(List<PersistentOrderStatus> inOrderChain,
+                                                  OrderID inOrderID)
+    {
+        for(PersistentOrderStatus orderStatus : inOrderChain) {
+            if(inOrderID.equals(orderStatus.getOrderId())) {
+                return orderStatus;
+            }
+        }
+        return null;
+    }
     /**
      * Get the planned session start for the given session id.
      *
@@ -928,80 +1236,27 @@ public class ReportServiceImpl
                                                                                       PositionTransformer<I> inTupleTransformer,
                                                                                       String...inSymbols)
     {
-        QPersistentOrderStatus o = QPersistentOrderStatus.persistentOrderStatus;
-        JPAQueryFactory jpaQueryFactory = new JPAQueryFactory(entityManager);
-        BooleanBuilder primaryWhere = new BooleanBuilder();
-        primaryWhere = primaryWhere.and(o.transactTime.loe(inAsOfDate));
-        primaryWhere = primaryWhere.and(o.securityType.eq(inSecurityType));
-        if(inSymbols != null && inSymbols.length != 0) {
-            primaryWhere = primaryWhere.and(o.symbol.in(inSymbols));
-        }
-        BooleanBuilder permissionWhere = new BooleanBuilder();
-        Set<SimpleUser> subjectUsers = authzService.getSubjectUsersFor(inViewer,
-                                                                       TradingPermissions.ViewPositionAction.name());
-        // show the position if the given user is this user or has supervisor permission over the position (the position permission has already been checked for the "same user" case)
-        if(subjectUsers.isEmpty()) {
-            permissionWhere = permissionWhere.and(permissionWhere.and(o.viewer.eq(inViewer)));
-        } else {
-            permissionWhere = permissionWhere.and(permissionWhere.and(o.viewer.in(subjectUsers)).or(o.viewer.eq(inViewer)));
-        }
-        primaryWhere = primaryWhere.and(permissionWhere);
-        List<Tuple> results = jpaQueryFactory.select(o.cumulativeQuantity,o.symbol,o.expiry,o.strikePrice,o.optionType,o.account,o.actor.id).from(o).where(primaryWhere).fetch();
         Map<PositionKey<I>,BigDecimal> finalResults = new LinkedHashMap<PositionKey<I>,BigDecimal>();
-        if(results != null) {
-            for(Tuple result : results) {
-                PositionKey<I> key = inTupleTransformer.createPositionKey(result.get(o.symbol),
-                                                                          result.get(o.expiry),
-                                                                          result.get(o.strikePrice),
-                                                                          result.get(o.optionType),
-                                                                          result.get(o.account),
-                                                                          result.get(o.actor.id));
-                BigDecimal quantity = finalResults.get(key);
-                if(quantity == null) {
-                    quantity = BigDecimal.ZERO;
-                }
-                quantity = quantity.add(result.get(o.cumulativeQuantity));
-                finalResults.put(key,
-                                 quantity);
+        for(PersistentPosition position : positionService.getPositionsAsOf(inViewer,
+                                                                           inAsOfDate,
+                                                                           inSecurityType,
+                                                                           inSymbols)) {
+            PositionKey<I> key = inTupleTransformer.createPositionKey(position.getSymbol(),
+                                                                      position.getExpiry(),
+                                                                      position.getStrikePrice(),
+                                                                      position.getOptionType(),
+                                                                      position.getAccount(),
+                                                                      position.getActor() == null ? null : position.getActor().getId());
+            BigDecimal quantity = finalResults.get(key);
+            if(quantity == null) {
+                quantity = BigDecimal.ZERO;
             }
+            quantity = quantity.add(position.getQuantity());
+            finalResults.put(key,
+                             quantity);
         }
         return finalResults;
     }
-    /**
-     * Executes a position query for the given instrument.
-     *
-     * @param inUser a <code>SimpleUser</code> value
-     * @param inDate a <code>Date</code> value
-     * @param inInstrument an <code>I</code> value
-     * @param inSymbolMatcher a <code>SymbolMatcher&lt;I&gt;</code> value
-     * @return a <code>BigDecimal</code> value
-     */
-    private <I extends Instrument> BigDecimal getPositionAsOf(SimpleUser inUser,
-                                                              Date inDate,
-                                                              I inInstrument,
-                                                              SymbolMatcher<I> inSymbolMatcher)
-    {
-        QPersistentOrderStatus o = QPersistentOrderStatus.persistentOrderStatus;
-        JPAQueryFactory jpaQueryFactory = new JPAQueryFactory(entityManager);
-        BooleanBuilder primaryWhere = new BooleanBuilder().and(inSymbolMatcher.where(o,
-                                                                                     inInstrument));
-        primaryWhere = primaryWhere.and(o.securityType.eq(inInstrument.getSecurityType()));
-        primaryWhere = primaryWhere.and(o.transactTime.loe(inDate));
-        BooleanBuilder permissionWhere = new BooleanBuilder();
-        Set<SimpleUser> subjectUsers = authzService.getSubjectUsersFor(inUser,
-                                                                       TradingPermissions.ViewPositionAction.name());
-        if(subjectUsers.isEmpty()) {
-            permissionWhere = permissionWhere.and(o.viewer.eq(inUser));
-        } else {
-            permissionWhere = permissionWhere.and(o.viewer.in(subjectUsers)).or(o.viewer.eq(inUser));
-        }
-        primaryWhere = primaryWhere.and(permissionWhere);
-        BigDecimal result = jpaQueryFactory.select(o.cumulativeQuantity.sum()).from(o).where(primaryWhere).fetchOne();
-        if(result == null) {
-            result = BigDecimal.ZERO;
-        }
-        return result;
-    }
     /**
      * Translates a position tuple to a position key.
      *
@@ -1030,26 +1285,6 @@ public class ReportServiceImpl
                                          String inAccount,
                                          Long inTraderId);
     }
-    /**
-     * Creates a predicate used to match rows to a given instrument.
-     *
-     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
-     * @version $Id$
-     * @since 2.4.2
-     */
-    @ClassVersion("$Id$")
-    private interface SymbolMatcher<I extends Instrument>
-    {
-        /**
-         * Builds a where predicate that matches records to the given instrument.
-         *
-         * @param inTableProxy a <code>QPersistentOrderStatus</code> value
-         * @param inInstrument an <code>I</code> value
-         * @return a <code>BooleanExpression</code> value
-         */
-        BooleanExpression where(QPersistentOrderStatus inTableProxy,
-                                I inInstrument);
-    }
     /**
      * caches session start for a session
      */
@@ -1058,6 +1293,18 @@ public class ReportServiceImpl
      * number of order principals to cache
      */
     private int cacheSize = 1000;
+    /**
+     * parsed reports by report id, shared by the save and read paths
+     */
+    private Cache<ReportID,ReportBase> parsedReports;
+    /**
+     * maximum number of parsed reports to cache
+     */
+    private int parsedReportCacheSize = 50000;
+    /**
+     * number of reports read from the data store at a time
+     */
+    private int reportPageSize = 1000;
     /**
      * page size for finding missing seq num in the reports table
      */
@@ -1107,8 +1354,17 @@ public class ReportServiceImpl
      */
     @Autowired
     private AuthorizationService authzService;
+    /**
+     * indicates if positions are snapshot at the start of each day
+     */
+    private boolean positionSnapshotsEnabled = true;
+    /**
+     * provides datastore access to positions
+     */
+    @Autowired
+    private PositionService positionService;
     /**
      * provides scheduled services
      */
-    private Timer timerService;
+    private volatile Timer timerService;
 }
@@ -60,6 +60,12 @@ public interface Messages
     static final I18NMessage1P NO_BROKER_USERNAME = new I18NMessage1P(LOGGER,"no_broker_username"); //$NON-NLS-1$
     static final I18NMessage0P NON_CONFORMING_FIELD_SPECIFICATION = new I18NMessage0P(LOGGER,
                                                                                       "non_conforming_field_specification"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_OPEN_ORDERS = new I18NMessage3P(LOGGER,"max_open_orders"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_OPEN_NOTIONAL = new I18NMessage3P(LOGGER,"max_open_notional"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_POSITION = new I18NMessage3P(LOGGER,"max_position"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_ORDER_RATE = new I18NMessage3P(LOGGER,"max_order_rate"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_CANCEL_RATE = new I18NMessage3P(LOGGER,"max_cancel_rate"); //$NON-NLS-1$
+    static final I18NMessage3P MAX_PRICE_DEVIATION = new I18NMessage3P(LOGGER,"max_price_deviation"); //$NON-NLS-1$
     // LEGACY CODE.
 
     static final I18NMessage1P ERROR_UNRECOGNIZED_ROUTE = 
@@ -0,0 +1,1282 @@
+package org.marketcetera.ors.filters;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.lang.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.marketcetera.client.ReportListener;
+import org.marketcetera.client.ReportPublisher;
+import org.marketcetera.core.CoreException;
+import org.marketcetera.core.instruments.InstrumentFromMessage;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.marketdata.Content;
+import org.marketcetera.marketdata.core.manager.MarketDataManager;
+import org.marketcetera.ors.dao.PositionService;
+import org.marketcetera.ors.history.InstrumentSummaryFields;
+import org.marketcetera.ors.history.PersistentPosition;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.quickfix.FIXMessageUtil;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.ExecutionType;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.trade.OrderStatus;
+import org.marketcetera.util.log.I18NBoundMessage3P;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import quickfix.FieldNotFound;
+import quickfix.Message;
+import quickfix.field.Account;
+import quickfix.field.ClOrdID;
+import quickfix.field.OrderQty;
+import quickfix.field.OrigClOrdID;
+import quickfix.field.Price;
+import quickfix.field.Side;
+
+/* $License$ */
+
+/**
+ * Checks orders against limits that depend on the orders and fills that came before them.
+ *
+ * <p>For each user, account, and instrument, the filter tracks the orders it accepted that are still open and the net
+ * position. New and replacement orders are rejected if they would exceed the maximum number of open orders, the maximum
+ * open notional, or the maximum absolute position if all open orders on the same side were filled. Each user is also
+ * limited to a number of orders and of cancels within a sliding window, and orders priced too far from the last trade
+ * price reported by the {@link MarketDataManager} are rejected. A limit of <code>0</code> or <code>null</code> is not
+ * checked.
+ *
+ * <p>Open orders and positions are kept current from the execution reports delivered by the {@link ReportPublisher}.
+ * The position of a user, account, and instrument is read from the {@link PositionService}, if available, the first
+ * time the filter sees an order for it. Fills reported while it is read are applied after it unless the position already
+ * includes them. After that, checks read counters only. Quantities, prices, and notional values
+ * are kept as exact decimals. The counters are updated without locking, so orders checked at the same time for the same
+ * user, account, and instrument may together exceed a limit by the size of the orders being checked.
+ *
+ * <p>Orders this filter accepts that are not sent to the broker, for example because a message modifier intercepts
+ * them, are released through {@link UnsentOrderListener}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class RiskLimitFilter
+        implements OrderFilter, UnsentOrderListener, ReportListener, RiskLimitFilterMXBean
+{
+    /**
+     * Validates and starts the object.
+     */
+    @PostConstruct
+    public void start()
+    {
+        Validate.isTrue(rateWindowMillis > 0,
+                        "rateWindowMillis must be positive"); //$NON-NLS-1$
+        if(reportPublisher != null) {
+            reportPublisher.addReportListener(this);
+        }
+        if(jmxName != null) {
+            try {
+                MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+                mbeanServer.registerMBean(this,
+                                          new ObjectName(jmxName));
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      "Unable to register {}: {}", //$NON-NLS-1$
+                                      jmxName,
+                                      ExceptionUtils.getRootCauseMessage(e));
+            }
+        }
+    }
+    /**
+     * Stops the object.
+     */
+    @PreDestroy
+    public void stop()
+    {
+        if(reportPublisher != null) {
+            reportPublisher.removeReportListener(this);
+        }
+        if(jmxName != null) {
+            try {
+                MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+                ObjectName objectName = new ObjectName(jmxName);
+                if(mbeanServer.isRegistered(objectName)) {
+                    mbeanServer.unregisterMBean(objectName);
+                }
+            } catch (Exception ignored) {}
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.OrderFilter#isAccepted(org.marketcetera.ors.filters.OrderFilter.MessageInfo, quickfix.Message)
+     */
+    @Override
+    public boolean isAccepted(MessageInfo inMessageInfo,
+                              Message inMessage)
+            throws CoreException
+    {
+        boolean isCancel = FIXMessageUtil.isCancelRequest(inMessage);
+        boolean isReplace = FIXMessageUtil.isCancelReplaceRequest(inMessage);
+        if(!isCancel && !isReplace && !FIXMessageUtil.isOrderSingle(inMessage)) {
+            return true;
+        }
+        try {
+            check(inMessageInfo.getUser(),
+                  inMessage,
+                  isCancel,
+                  isReplace);
+        } catch (CoreException e) {
+            rejectedOrders.increment();
+            throw e;
+        }
+        acceptedOrders.increment();
+        return true;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.ReportListener#receiveExecutionReport(org.marketcetera.trade.ExecutionReport)
+     */
+    @Override
+    public void receiveExecutionReport(ExecutionReport inReport)
+    {
+        if(inReport.getOrderID() == null) {
+            return;
+        }
+        String orderId = inReport.getOrderID().getValue();
+        OpenOrder order = openOrders.get(orderId);
+        if(order == null) {
+            applyUntrackedFill(inReport);
+            return;
+        }
+        if(order.replacedOrder != null && isReplaceConfirmed(inReport)) {
+            // the replace was accepted, so the replaced order no longer needs to be restored
+            order.replacedOrder = null;
+        }
+        BigDecimal cumulativeQuantity = inReport.getCumulativeQuantity();
+        if(cumulativeQuantity != null) {
+            BigDecimal fillQuantity = cumulativeQuantity.subtract(order.cumulativeQuantity);
+            if(fillQuantity.signum() > 0) {
+                order.cumulativeQuantity = cumulativeQuantity;
+                order.counters.fill(order,
+                                    fillQuantity);
+            }
+        }
+        OrderStatus orderStatus = inReport.getOrderStatus();
+        if(orderStatus != null && orderStatus != OrderStatus.Unknown && OrderStatus.closedOrderStatuses.contains(orderStatus)) {
+            if(openOrders.remove(orderId,
+                                 order)) {
+                order.counters.remove(order);
+            }
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.client.ReportListener#receiveCancelReject(org.marketcetera.trade.OrderCancelReject)
+     */
+    @Override
+    public void receiveCancelReject(OrderCancelReject inReport)
+    {
+        if(inReport.getOrderID() == null) {
+            return;
+        }
+        // a rejected replace leaves the replaced order open
+        OpenOrder order = openOrders.get(inReport.getOrderID().getValue());
+        if(order == null || order.replacedOrder == null) {
+            return;
+        }
+        release(order);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.UnsentOrderListener#receiveUnsentOrder(quickfix.Message)
+     */
+    @Override
+    public void receiveUnsentOrder(Message inMessage)
+    {
+        if(!inMessage.isSetField(ClOrdID.FIELD)) {
+            return;
+        }
+        try {
+            OpenOrder order = openOrders.get(inMessage.getString(ClOrdID.FIELD));
+            if(order != null) {
+                release(order);
+            }
+        } catch (FieldNotFound ignored) {}
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.RiskLimitFilterMXBean#getAcceptedOrderCount()
+     */
+    @Override
+    public long getAcceptedOrderCount()
+    {
+        return acceptedOrders.sum();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.RiskLimitFilterMXBean#getRejectedOrderCount()
+     */
+    @Override
+    public long getRejectedOrderCount()
+    {
+        return rejectedOrders.sum();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.RiskLimitFilterMXBean#getOpenOrderCount()
+     */
+    @Override
+    public int getOpenOrderCount()
+    {
+        return openOrders.size();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.RiskLimitFilterMXBean#getUtilization()
+     */
+    @Override
+    public List<RiskUtilization> getUtilization()
+    {
+        List<RiskUtilization> utilization = new ArrayList<>();
+        for(Map.Entry<RiskKey,RiskCounters> entry : riskCounters.entrySet()) {
+            RiskKey key = entry.getKey();
+            RiskCounters counters = entry.getValue();
+            long openOrderCount = counters.openOrders.sum();
+            BigDecimal openNotional = counters.openNotional.sum();
+            BigDecimal position = counters.position.sum();
+            utilization.add(new RiskUtilization(key.userId,
+                                                key.account,
+                                                key.instrument.getFullSymbol(),
+                                                openOrderCount,
+                                                openNotional.doubleValue(),
+                                                position.doubleValue(),
+                                                getUtilization(BigDecimal.valueOf(openOrderCount),
+                                                               maxOpenOrders == 0 ? null : BigDecimal.valueOf(maxOpenOrders)),
+                                                getUtilization(openNotional,
+                                                               maxOpenNotional),
+                                                getUtilization(position.abs(),
+                                                               maxPosition)));
+        }
+        return utilization;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.filters.RiskLimitFilterMXBean#reset()
+     */
+    @Override
+    public void reset()
+    {
+        openOrders.clear();
+        riskCounters.clear();
+        rateCounters.clear();
+        acceptedOrders.reset();
+        rejectedOrders.reset();
+    }
+    /**
+     * Get the maxOpenOrders value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxOpenOrders()
+    {
+        return maxOpenOrders;
+    }
+    /**
+     * Sets the maximum number of open orders per user, account, and instrument.
+     *
+     * @param inMaxOpenOrders an <code>int</code> value or <code>0</code> for no limit
+     */
+    public void setMaxOpenOrders(int inMaxOpenOrders)
+    {
+        maxOpenOrders = inMaxOpenOrders;
+    }
+    /**
+     * Get the maxOpenNotional value.
+     *
+     * @return a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public BigDecimal getMaxOpenNotional()
+    {
+        return maxOpenNotional;
+    }
+    /**
+     * Sets the maximum notional value of open orders per user, account, and instrument.
+     *
+     * @param inMaxOpenNotional a <code>BigDecimal</code> value or <code>null</code> for no limit
+     */
+    public void setMaxOpenNotional(BigDecimal inMaxOpenNotional)
+    {
+        maxOpenNotional = inMaxOpenNotional == null || inMaxOpenNotional.signum() == 0 ? null : inMaxOpenNotional;
+    }
+    /**
+     * Get the maxPosition value.
+     *
+     * @return a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public BigDecimal getMaxPosition()
+    {
+        return maxPosition;
+    }
+    /**
+     * Sets the maximum absolute position per user, account, and instrument, including open orders.
+     *
+     * @param inMaxPosition a <code>BigDecimal</code> value or <code>null</code> for no limit
+     */
+    public void setMaxPosition(BigDecimal inMaxPosition)
+    {
+        maxPosition = inMaxPosition == null || inMaxPosition.signum() == 0 ? null : inMaxPosition;
+    }
+    /**
+     * Get the maxOrdersPerWindow value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxOrdersPerWindow()
+    {
+        return maxOrdersPerWindow;
+    }
+    /**
+     * Sets the maximum number of new and replacement orders per user in the rate window.
+     *
+     * @param inMaxOrdersPerWindow an <code>int</code> value or <code>0</code> for no limit
+     */
+    public void setMaxOrdersPerWindow(int inMaxOrdersPerWindow)
+    {
+        maxOrdersPerWindow = inMaxOrdersPerWindow;
+    }
+    /**
+     * Get the maxCancelsPerWindow value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxCancelsPerWindow()
+    {
+        return maxCancelsPerWindow;
+    }
+    /**
+     * Sets the maximum number of cancels per user in the rate window.
+     *
+     * @param inMaxCancelsPerWindow an <code>int</code> value or <code>0</code> for no limit
+     */
+    public void setMaxCancelsPerWindow(int inMaxCancelsPerWindow)
+    {
+        maxCancelsPerWindow = inMaxCancelsPerWindow;
+    }
+    /**
+     * Get the rateWindowMillis value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getRateWindowMillis()
+    {
+        return rateWindowMillis;
+    }
+    /**
+     * Sets the length of the sliding window over which order and cancel rates are measured.
+     *
+     * @param inRateWindowMillis a <code>long</code> value
+     */
+    public void setRateWindowMillis(long inRateWindowMillis)
+    {
+        rateWindowMillis = inRateWindowMillis;
+    }
+    /**
+     * Get the maxPriceDeviation value.
+     *
+     * @return a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public BigDecimal getMaxPriceDeviation()
+    {
+        return maxPriceDeviation;
+    }
+    /**
+     * Sets the maximum difference between the order price and the last trade price as a fraction of the last trade price.
+     *
+     * <p>For example, <code>0.1</code> rejects orders priced more than 10% away from the last trade.
+     *
+     * @param inMaxPriceDeviation a <code>BigDecimal</code> value or <code>null</code> for no limit
+     */
+    public void setMaxPriceDeviation(BigDecimal inMaxPriceDeviation)
+    {
+        maxPriceDeviation = inMaxPriceDeviation == null || inMaxPriceDeviation.signum() == 0 ? null : inMaxPriceDeviation;
+    }
+    /**
+     * Get the reportPublisher value.
+     *
+     * @return a <code>ReportPublisher</code> value
+     */
+    public ReportPublisher getReportPublisher()
+    {
+        return reportPublisher;
+    }
+    /**
+     * Sets the publisher of the execution reports used to track open orders and positions.
+     *
+     * @param inReportPublisher a <code>ReportPublisher</code> value
+     */
+    public void setReportPublisher(ReportPublisher inReportPublisher)
+    {
+        reportPublisher = inReportPublisher;
+    }
+    /**
+     * Get the marketDataManager value.
+     *
+     * @return a <code>MarketDataManager</code> value
+     */
+    public MarketDataManager getMarketDataManager()
+    {
+        return marketDataManager;
+    }
+    /**
+     * Sets the marketDataManager value.
+     *
+     * @param inMarketDataManager a <code>MarketDataManager</code> value
+     */
+    public void setMarketDataManager(MarketDataManager inMarketDataManager)
+    {
+        marketDataManager = inMarketDataManager;
+    }
+    /**
+     * Get the positionService value.
+     *
+     * @return a <code>PositionService</code> value
+     */
+    public PositionService getPositionService()
+    {
+        return positionService;
+    }
+    /**
+     * Sets the positionService value.
+     *
+     * @param inPositionService a <code>PositionService</code> value
+     */
+    public void setPositionService(PositionService inPositionService)
+    {
+        positionService = inPositionService;
+    }
+    /**
+     * Get the jmxName value.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getJmxName()
+    {
+        return jmxName;
+    }
+    /**
+     * Sets the JMX object name of the filter.
+     *
+     * @param inJmxName a <code>String</code> value or <code>null</code> to not register the filter
+     */
+    public void setJmxName(String inJmxName)
+    {
+        jmxName = inJmxName;
+    }
+    /**
+     * Checks the given order against the limits and records it if it is accepted.
+     *
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inMessage a <code>Message</code> value
+     * @param inIsCancel a <code>boolean</code> value
+     * @param inIsReplace a <code>boolean</code> value
+     * @throws CoreException if the order exceeds a limit
+     */
+    private void check(SimpleUser inUser,
+                       Message inMessage,
+                       boolean inIsCancel,
+                       boolean inIsReplace)
+            throws CoreException
+    {
+        long now = System.currentTimeMillis();
+        RateCounters rates = rateCounters.get(inUser.getId());
+        if(rates == null) {
+            rates = new RateCounters(rateWindowMillis);
+            RateCounters existingRates = rateCounters.putIfAbsent(inUser.getId(),
+                                                                  rates);
+            if(existingRates != null) {
+                rates = existingRates;
+            }
+        }
+        if(inIsCancel) {
+            if(maxCancelsPerWindow > 0 && rates.cancels.get(now) >= maxCancelsPerWindow) {
+                throw new CoreException(new I18NBoundMessage3P(Messages.MAX_CANCEL_RATE,
+                                                               maxCancelsPerWindow,
+                                                               rateWindowMillis,
+                                                               inUser.getName()));
+            }
+            rates.cancels.increment(now);
+            return;
+        }
+        if(maxOrdersPerWindow > 0 && rates.orders.get(now) >= maxOrdersPerWindow) {
+            throw new CoreException(new I18NBoundMessage3P(Messages.MAX_ORDER_RATE,
+                                                           maxOrdersPerWindow,
+                                                           rateWindowMillis,
+                                                           inUser.getName()));
+        }
+        Instrument instrument;
+        String orderId;
+        BigDecimal quantity;
+        boolean isBuy;
+        try {
+            instrument = InstrumentFromMessage.SELECTOR.forValue(inMessage).extract(inMessage);
+            orderId = inMessage.getString(ClOrdID.FIELD);
+            quantity = new BigDecimal(inMessage.getString(OrderQty.FIELD));
+            isBuy = inMessage.getChar(Side.FIELD) == Side.BUY;
+        } catch (FieldNotFound | IllegalArgumentException e) {
+            // orders that cannot be tracked are left to the other filters and the broker
+            SLF4JLoggerProxy.debug(this,
+                                   "Not checking risk limits for {}: {}", //$NON-NLS-1$
+                                   inMessage,
+                                   ExceptionUtils.getRootCauseMessage(e));
+            rates.orders.increment(now);
+            return;
+        }
+        if(instrument == null) {
+            rates.orders.increment(now);
+            return;
+        }
+        BigDecimal price = null;
+        if(inMessage.isSetField(Price.FIELD)) {
+            try {
+                price = new BigDecimal(inMessage.getString(Price.FIELD));
+            } catch (FieldNotFound | NumberFormatException ignored) {}
+        }
+        String account = null;
+        if(inMessage.isSetField(Account.FIELD)) {
+            try {
+                account = inMessage.getString(Account.FIELD);
+            } catch (FieldNotFound ignored) {}
+        }
+        String symbol = instrument.getFullSymbol();
+        if(price != null && maxPriceDeviation != null) {
+            BigDecimal lastPrice = getLastPrice(instrument);
+            if(lastPrice != null && lastPrice.signum() > 0 && price.subtract(lastPrice).abs().compareTo(maxPriceDeviation.multiply(lastPrice)) > 0) {
+                throw new CoreException(new I18NBoundMessage3P(Messages.MAX_PRICE_DEVIATION,
+                                                               price,
+                                                               lastPrice,
+                                                               symbol));
+            }
+        }
+        if(price == null && maxOpenNotional != null) {
+            // market orders are valued at the last trade price, if known
+            price = getLastPrice(instrument);
+        }
+        RiskCounters counters = getRiskCounters(new RiskKey(inUser.getId(),
+                                                            account,
+                                                            instrument),
+                                                inUser);
+        OpenOrder replacedOrder = null;
+        if(inIsReplace && inMessage.isSetField(OrigClOrdID.FIELD)) {
+            try {
+                replacedOrder = openOrders.get(inMessage.getString(OrigClOrdID.FIELD));
+            } catch (FieldNotFound ignored) {}
+        }
+        BigDecimal notional = price == null ? BigDecimal.ZERO : price.multiply(quantity);
+        if(maxOpenOrders > 0 && replacedOrder == null) {
+            long openOrderCount = counters.openOrders.sum();
+            if(openOrderCount >= maxOpenOrders) {
+                throw new CoreException(new I18NBoundMessage3P(Messages.MAX_OPEN_ORDERS,
+                                                               openOrderCount,
+                                                               maxOpenOrders,
+                                                               symbol));
+            }
+        }
+        if(maxOpenNotional != null) {
+            BigDecimal openNotional = counters.openNotional.sum().add(notional);
+            if(replacedOrder != null) {
+                openNotional = openNotional.subtract(replacedOrder.getNotional());
+            }
+            if(openNotional.compareTo(maxOpenNotional) > 0) {
+                throw new CoreException(new I18NBoundMessage3P(Messages.MAX_OPEN_NOTIONAL,
+                                                               openNotional,
+                                                               maxOpenNotional,
+                                                               symbol));
+            }
+        }
+        if(maxPosition != null) {
+            BigDecimal replacedQuantity = replacedOrder == null || replacedOrder.isBuy != isBuy ? BigDecimal.ZERO : replacedOrder.leavesQuantity;
+            BigDecimal projectedPosition;
+            if(isBuy) {
+                projectedPosition = counters.position.sum().add(counters.openBuyQuantity.sum()).subtract(replacedQuantity).add(quantity);
+            } else {
+                projectedPosition = counters.position.sum().subtract(counters.openSellQuantity.sum()).add(replacedQuantity).subtract(quantity);
+            }
+            if(projectedPosition.abs().compareTo(maxPosition) > 0) {
+                throw new CoreException(new I18NBoundMessage3P(Messages.MAX_POSITION,
+                                                               projectedPosition,
+                                                               maxPosition,
+                                                               symbol));
+            }
+        }
+        rates.orders.increment(now);
+        OpenOrder order = new OpenOrder(orderId,
+                                        counters,
+                                        isBuy,
+                                        quantity,
+                                        price);
+        if(replacedOrder != null && openOrders.remove(replacedOrder.orderId,
+                                                      replacedOrder)) {
+            replacedOrder.counters.remove(replacedOrder);
+            order.replacedOrder = replacedOrder;
+            // fills of the replaced order count toward the replacement
+            order.cumulativeQuantity = replacedOrder.cumulativeQuantity;
+        }
+        openOrders.put(orderId,
+                       order);
+        counters.add(order);
+    }
+    /**
+     * Gets the counters for the given key, creating them with the current position if necessary.
+     *
+     * @param inKey a <code>RiskKey</code> value
+     * @param inUser a <code>SimpleUser</code> value
+     * @return a <code>RiskCounters</code> value
+     */
+    private RiskCounters getRiskCounters(RiskKey inKey,
+                                         final SimpleUser inUser)
+    {
+        RiskCounters counters = riskCounters.get(inKey);
+        if(counters != null) {
+            return counters;
+        }
+        // the position is read while the key is reserved, so fills reported meanwhile wait for it instead of being lost
+        return riskCounters.computeIfAbsent(inKey,
+                                            new Function<RiskKey,RiskCounters>() {
+            @Override
+            public RiskCounters apply(RiskKey inNewKey)
+            {
+                return newRiskCounters(inNewKey,
+                                       inUser);
+            }
+        });
+    }
+    /**
+     * Creates the counters for the given key, starting from the position in the position service, if available.
+     *
+     * @param inKey a <code>RiskKey</code> value
+     * @param inUser a <code>SimpleUser</code> value
+     * @return a <code>RiskCounters</code> value
+     */
+    private RiskCounters newRiskCounters(RiskKey inKey,
+                                         SimpleUser inUser)
+    {
+        RiskCounters counters = new RiskCounters();
+        if(positionService != null) {
+            Date positionDate = new Date();
+            try {
+                counters.position.add(getPosition(inKey,
+                                                  inUser,
+                                                  positionDate));
+                counters.positionTime = positionDate.getTime();
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      "Unable to read the position of {}, starting from 0: {}", //$NON-NLS-1$
+                                      inKey,
+                                      ExceptionUtils.getRootCauseMessage(e));
+            }
+        }
+        return counters;
+    }
+    /**
+     * Reads the position of the given key as of the given date from the position service.
+     *
+     * @param inKey a <code>RiskKey</code> value
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inDate a <code>Date</code> value
+     * @return a <code>BigDecimal</code> value
+     */
+    private BigDecimal getPosition(RiskKey inKey,
+                                   SimpleUser inUser,
+                                   Date inDate)
+    {
+        Instrument instrument = inKey.instrument;
+        InstrumentSummaryFields<?> summaryFields = InstrumentSummaryFields.SELECTOR.forInstrument(instrument);
+        String expiry = summaryFields.getExpiry(instrument);
+        BigDecimal strikePrice = summaryFields.getStrikePrice(instrument);
+        BigDecimal position = BigDecimal.ZERO;
+        for(PersistentPosition persistentPosition : positionService.getPositionsAsOf(inUser,
+                                                                                     inDate,
+                                                                                     instrument.getSecurityType(),
+                                                                                     instrument.getSymbol())) {
+            if(persistentPosition.getActor() != null && persistentPosition.getActor().getId() == inKey.userId
+                    && Objects.equals(persistentPosition.getAccount(),inKey.account)
+                    && Objects.equals(persistentPosition.getExpiry(),expiry)
+                    && Objects.equals(persistentPosition.getOptionType(),summaryFields.getOptionType(instrument))
+                    && (strikePrice == null ? persistentPosition.getStrikePrice() == null : persistentPosition.getStrikePrice() != null && strikePrice.compareTo(persistentPosition.getStrikePrice()) == 0)) {
+                position = position.add(persistentPosition.getQuantity());
+            }
+        }
+        return position;
+    }
+    /**
+     * Applies a fill of an order not accepted by this filter to the position of its user, account, and instrument.
+     *
+     * <p>Positions not yet tracked are left alone because they are read from the position service when first needed.
+     * A fill of a position being read waits for it and is skipped if it happened no later than the read.
+     *
+     * @param inReport an <code>ExecutionReport</code> value
+     */
+    private void applyUntrackedFill(ExecutionReport inReport)
+    {
+        if(inReport.getExecutionType() == null || !inReport.getExecutionType().isFill() || inReport.getLastQuantity() == null
+                || inReport.getActorID() == null || inReport.getInstrument() == null || inReport.getSide() == null) {
+            return;
+        }
+        final BigDecimal quantity = inReport.getSide() == org.marketcetera.trade.Side.Buy ? inReport.getLastQuantity() : inReport.getLastQuantity().negate();
+        final Date transactTime = inReport.getTransactTime();
+        riskCounters.computeIfPresent(new RiskKey(inReport.getActorID().getValue(),
+                                                  inReport.getAccount(),
+                                                  inReport.getInstrument()),
+                                      new BiFunction<RiskKey,RiskCounters,RiskCounters>() {
+            @Override
+            public RiskCounters apply(RiskKey inKey,
+                                      RiskCounters inCounters)
+            {
+                if(transactTime == null || transactTime.getTime() > inCounters.positionTime) {
+                    inCounters.position.add(quantity);
+                }
+                return inCounters;
+            }
+        });
+    }
+    /**
+     * Indicates if the given report on a replacement order shows that the broker accepted the replace.
+     *
+     * @param inReport an <code>ExecutionReport</code> value
+     * @return a <code>boolean</code> value
+     */
+    private static boolean isReplaceConfirmed(ExecutionReport inReport)
+    {
+        ExecutionType executionType = inReport.getExecutionType();
+        if(executionType != null && executionType != ExecutionType.Unknown) {
+            return executionType == ExecutionType.Replace || executionType == ExecutionType.New || executionType.isFill();
+        }
+        OrderStatus orderStatus = inReport.getOrderStatus();
+        return orderStatus == OrderStatus.Replaced || orderStatus == OrderStatus.New || orderStatus == OrderStatus.PartiallyFilled || orderStatus == OrderStatus.Filled;
+    }
+    /**
+     * Stops tracking the given order, restoring the order it replaced, if any.
+     *
+     * @param inOrder an <code>OpenOrder</code> value
+     */
+    private void release(OpenOrder inOrder)
+    {
+        if(openOrders.remove(inOrder.orderId,
+                             inOrder)) {
+            inOrder.counters.remove(inOrder);
+            OpenOrder replacedOrder = inOrder.replacedOrder;
+            if(replacedOrder != null) {
+                openOrders.put(replacedOrder.orderId,
+                               replacedOrder);
+                replacedOrder.counters.add(replacedOrder);
+            }
+        }
+    }
+    /**
+     * Gets the last trade price of the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the last trade price is not available
+     */
+    private BigDecimal getLastPrice(Instrument inInstrument)
+    {
+        if(marketDataManager == null) {
+            return null;
+        }
+        try {
+            Event event = marketDataManager.requestMarketDataSnapshot(inInstrument,
+                                                                      Content.LATEST_TICK,
+                                                                      null);
+            if(event instanceof TradeEvent && ((TradeEvent)event).getPrice() != null) {
+                return ((TradeEvent)event).getPrice();
+            }
+        } catch (Exception e) {
+            SLF4JLoggerProxy.debug(this,
+                                   "No last price for {}: {}", //$NON-NLS-1$
+                                   inInstrument,
+                                   ExceptionUtils.getRootCauseMessage(e));
+        }
+        return null;
+    }
+    /**
+     * Calculates the given value as a percentage of the given limit.
+     *
+     * @param inValue a <code>BigDecimal</code> value
+     * @param inLimit a <code>BigDecimal</code> value or <code>null</code> if there is no limit
+     * @return a <code>double</code> value or <code>0</code> if there is no limit
+     */
+    private static double getUtilization(BigDecimal inValue,
+                                         BigDecimal inLimit)
+    {
+        return inLimit == null ? 0 : inValue.doubleValue() * 100 / inLimit.doubleValue();
+    }
+    /**
+     * Identifies the orders and position of a user in an account and instrument.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class RiskKey
+    {
+        /**
+         * Create a new RiskKey instance.
+         *
+         * @param inUserId a <code>long</code> value
+         * @param inAccount a <code>String</code> value or <code>null</code>
+         * @param inInstrument an <code>Instrument</code> value
+         */
+        private RiskKey(long inUserId,
+                        String inAccount,
+                        Instrument inInstrument)
+        {
+            userId = inUserId;
+            account = inAccount;
+            instrument = inInstrument;
+            hashCode = Objects.hash(userId,
+                                    account,
+                                    instrument);
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object inObject)
+        {
+            if(this == inObject) {
+                return true;
+            }
+            if(!(inObject instanceof RiskKey)) {
+                return false;
+            }
+            RiskKey other = (RiskKey)inObject;
+            return userId == other.userId && Objects.equals(account,other.account) && instrument.equals(other.instrument);
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return userId + "/" + account + "/" + instrument.getFullSymbol(); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        /**
+         * user id value
+         */
+        private final long userId;
+        /**
+         * account value, may be <code>null</code>
+         */
+        private final String account;
+        /**
+         * instrument value
+         */
+        private final Instrument instrument;
+        /**
+         * cached hash code value
+         */
+        private final int hashCode;
+    }
+    /**
+     * Holds the open orders and position of a user in an account and instrument.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class RiskCounters
+    {
+        /**
+         * Adds the unfilled quantity of the given order to the open orders.
+         *
+         * @param inOrder an <code>OpenOrder</code> value
+         */
+        private void add(OpenOrder inOrder)
+        {
+            openOrders.increment();
+            adjustOpenQuantity(inOrder,
+                               inOrder.leavesQuantity);
+        }
+        /**
+         * Removes the unfilled quantity of the given order from the open orders.
+         *
+         * @param inOrder an <code>OpenOrder</code> value
+         */
+        private void remove(OpenOrder inOrder)
+        {
+            openOrders.decrement();
+            adjustOpenQuantity(inOrder,
+                               inOrder.leavesQuantity.negate());
+        }
+        /**
+         * Moves the given quantity of the given order from the open orders to the position.
+         *
+         * @param inOrder an <code>OpenOrder</code> value
+         * @param inQuantity a <code>BigDecimal</code> value
+         */
+        private void fill(OpenOrder inOrder,
+                          BigDecimal inQuantity)
+        {
+            BigDecimal openQuantity = inQuantity.min(inOrder.leavesQuantity);
+            inOrder.leavesQuantity = inOrder.leavesQuantity.subtract(openQuantity);
+            adjustOpenQuantity(inOrder,
+                               openQuantity.negate());
+            position.add(inOrder.isBuy ? inQuantity : inQuantity.negate());
+        }
+        /**
+         * Adjusts the open quantity and notional on the side of the given order.
+         *
+         * @param inOrder an <code>OpenOrder</code> value
+         * @param inQuantity a <code>BigDecimal</code> value
+         */
+        private void adjustOpenQuantity(OpenOrder inOrder,
+                                        BigDecimal inQuantity)
+        {
+            if(inOrder.isBuy) {
+                openBuyQuantity.add(inQuantity);
+            } else {
+                openSellQuantity.add(inQuantity);
+            }
+            if(inOrder.price != null) {
+                openNotional.add(inQuantity.multiply(inOrder.price));
+            }
+        }
+        /**
+         * number of open orders
+         */
+        private final LongAdder openOrders = new LongAdder();
+        /**
+         * unfilled quantity of open buy orders
+         */
+        private final DecimalSum openBuyQuantity = new DecimalSum();
+        /**
+         * unfilled quantity of open sell orders
+         */
+        private final DecimalSum openSellQuantity = new DecimalSum();
+        /**
+         * notional value of the unfilled quantity of open orders
+         */
+        private final DecimalSum openNotional = new DecimalSum();
+        /**
+         * net position, negative if short
+         */
+        private final DecimalSum position = new DecimalSum();
+        /**
+         * time as of which the position was read from the position service
+         */
+        private long positionTime = Long.MIN_VALUE;
+    }
+    /**
+     * Sums decimal values without locking.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class DecimalSum
+    {
+        /**
+         * Adds the given value to the sum.
+         *
+         * @param inValue a <code>BigDecimal</code> value
+         */
+        private void add(BigDecimal inValue)
+        {
+            while(true) {
+                BigDecimal current = value.get();
+                if(value.compareAndSet(current,
+                                       current.add(inValue))) {
+                    return;
+                }
+            }
+        }
+        /**
+         * Gets the sum.
+         *
+         * @return a <code>BigDecimal</code> value
+         */
+        private BigDecimal sum()
+        {
+            return value.get();
+        }
+        /**
+         * current sum
+         */
+        private final AtomicReference<BigDecimal> value = new AtomicReference<>(BigDecimal.ZERO);
+    }
+    /**
+     * Holds an order accepted by the filter that has not yet been closed.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class OpenOrder
+    {
+        /**
+         * Create a new OpenOrder instance.
+         *
+         * @param inOrderId a <code>String</code> value
+         * @param inCounters a <code>RiskCounters</code> value
+         * @param inIsBuy a <code>boolean</code> value
+         * @param inQuantity a <code>BigDecimal</code> value
+         * @param inPrice a <code>BigDecimal</code> value or <code>null</code> if not known
+         */
+        private OpenOrder(String inOrderId,
+                          RiskCounters inCounters,
+                          boolean inIsBuy,
+                          BigDecimal inQuantity,
+                          BigDecimal inPrice)
+        {
+            orderId = inOrderId;
+            counters = inCounters;
+            isBuy = inIsBuy;
+            leavesQuantity = inQuantity;
+            price = inPrice;
+        }
+        /**
+         * Gets the notional value of the unfilled quantity of the order.
+         *
+         * @return a <code>BigDecimal</code> value
+         */
+        private BigDecimal getNotional()
+        {
+            return price == null ? BigDecimal.ZERO : leavesQuantity.multiply(price);
+        }
+        /**
+         * order id value
+         */
+        private final String orderId;
+        /**
+         * counters of the user, account, and instrument of the order
+         */
+        private final RiskCounters counters;
+        /**
+         * indicates if the order is a buy
+         */
+        private final boolean isBuy;
+        /**
+         * order price or <code>null</code> if not known
+         */
+        private final BigDecimal price;
+        /**
+         * quantity not yet filled
+         */
+        private volatile BigDecimal leavesQuantity;
+        /**
+         * quantity filled so far
+         */
+        private volatile BigDecimal cumulativeQuantity = BigDecimal.ZERO;
+        /**
+         * order replaced by this order until the replace is confirmed
+         */
+        private volatile OpenOrder replacedOrder;
+    }
+    /**
+     * Holds the order and cancel rates of a user.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class RateCounters
+    {
+        /**
+         * Create a new RateCounters instance.
+         *
+         * @param inWindowMillis a <code>long</code> value
+         */
+        private RateCounters(long inWindowMillis)
+        {
+            orders = new SlidingWindowCounter(inWindowMillis);
+            cancels = new SlidingWindowCounter(inWindowMillis);
+        }
+        /**
+         * new and replacement orders in the window
+         */
+        private final SlidingWindowCounter orders;
+        /**
+         * cancels in the window
+         */
+        private final SlidingWindowCounter cancels;
+    }
+    /**
+     * Counts events in a sliding window made up of buckets that are reused as the window moves.
+     *
+     * <p>Each bucket holds its bucket number and its count in a single value, so an increment that moves a bucket to a new
+     * bucket number and the increments that race with it cannot undo one another.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    static class SlidingWindowCounter
+    {
+        /**
+         * Create a new SlidingWindowCounter instance.
+         *
+         * @param inWindowMillis a <code>long</code> value
+         */
+        SlidingWindowCounter(long inWindowMillis)
+        {
+            bucketMillis = Math.max(1,
+                                    inWindowMillis / BUCKETS);
+        }
+        /**
+         * Counts an event at the given time.
+         *
+         * @param inTimestamp a <code>long</code> value
+         */
+        void increment(long inTimestamp)
+        {
+            long bucket = inTimestamp / bucketMillis;
+            int index = (int)(bucket % BUCKETS);
+            while(true) {
+                long slot = slots.get(index);
+                long newSlot;
+                if(slot >>> COUNT_BITS == bucket) {
+                    if((slot & COUNT_MASK) == COUNT_MASK) {
+                        // the count is saturated, which is far beyond any limit
+                        return;
+                    }
+                    newSlot = slot + 1;
+                } else if(slot >>> COUNT_BITS < bucket) {
+                    newSlot = (bucket << COUNT_BITS) | 1;
+                } else {
+                    // the bucket has already moved past this timestamp
+                    return;
+                }
+                if(slots.compareAndSet(index,
+                                       slot,
+                                       newSlot)) {
+                    return;
+                }
+            }
+        }
+        /**
+         * Gets the number of events in the window that ends at the given time.
+         *
+         * @param inTimestamp a <code>long</code> value
+         * @return a <code>long</code> value
+         */
+        long get(long inTimestamp)
+        {
+            long bucket = inTimestamp / bucketMillis;
+            long total = 0;
+            for(int index=0;index<BUCKETS;index++) {
+                long slot = slots.get(index);
+                long countedBucket = slot >>> COUNT_BITS;
+                if(countedBucket > bucket - BUCKETS && countedBucket <= bucket) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+        /**
+         * length of each bucket
+         */
+        private final long bucketMillis;
+        /**
+         * bucket number counted in each bucket in the high bits and the events counted in the low bits
+         */
+        private final AtomicLongArray slots = new AtomicLongArray(BUCKETS);
+        /**
+         * number of buckets in a window
+         */
+        private static final int BUCKETS = 10;
+        /**
+         * number of low bits of a slot that hold the count, leaving room for bucket numbers of millisecond timestamps
+         */
+        private static final int COUNT_BITS = 20;
+        /**
+         * mask of the count in a slot
+         */
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    }
+    /**
+     * maximum open orders per user, account, and instrument, <code>0</code> for no limit
+     */
+    private int maxOpenOrders;
+    /**
+     * maximum open notional per user, account, and instrument, <code>null</code> for no limit
+     */
+    private BigDecimal maxOpenNotional;
+    /**
+     * maximum absolute position per user, account, and instrument, <code>null</code> for no limit
+     */
+    private BigDecimal maxPosition;
+    /**
+     * maximum orders per user in the rate window, <code>0</code> for no limit
+     */
+    private int maxOrdersPerWindow;
+    /**
+     * maximum cancels per user in the rate window, <code>0</code> for no limit
+     */
+    private int maxCancelsPerWindow;
+    /**
+     * length of the rate window
+     */
+    private long rateWindowMillis = 1000;
+    /**
+     * maximum deviation from the last trade price as a fraction of the last trade price, <code>null</code> for no limit
+     */
+    private BigDecimal maxPriceDeviation;
+    /**
+     * JMX object name of the filter, <code>null</code> to not register
+     */
+    private String jmxName = "org.marketcetera.ors:type=RiskLimitFilter"; //$NON-NLS-1$
+    /**
+     * publishes execution reports
+     */
+    private ReportPublisher reportPublisher;
+    /**
+     * provides access to market data services (optionally required)
+     */
+    @Autowired(required=false)
+    private MarketDataManager marketDataManager;
+    /**
+     * provides the positions of users not yet tracked (optionally required)
+     */
+    @Autowired(required=false)
+    private PositionService positionService;
+    /**
+     * open orders accepted by this filter by order id
+     */
+    private final ConcurrentMap<String,OpenOrder> openOrders = new ConcurrentHashMap<>();
+    /**
+     * counters by user, account, and instrument
+     */
+    private final ConcurrentMap<RiskKey,RiskCounters> riskCounters = new ConcurrentHashMap<>();
+    /**
+     * order and cancel rates by user id
+     */
+    private final ConcurrentMap<Long,RateCounters> rateCounters = new ConcurrentHashMap<>();
+    /**
+     * number of orders accepted
+     */
+    private final LongAdder acceptedOrders = new LongAdder();
+    /**
+     * number of orders rejected
+     */
+    private final LongAdder rejectedOrders = new LongAdder();
+}
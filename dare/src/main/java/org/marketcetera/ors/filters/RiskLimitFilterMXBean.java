@@ -0,0 +1,50 @@
+package org.marketcetera.ors.filters;
+
+import java.util.List;
+
+import javax.management.MXBean;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * JMX management interface for {@link RiskLimitFilter}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+@MXBean(true)
+public interface RiskLimitFilterMXBean
+{
+    /**
+     * Gets the number of orders accepted since the filter started or was reset.
+     *
+     * @return a <code>long</code> value
+     */
+    long getAcceptedOrderCount();
+    /**
+     * Gets the number of orders rejected since the filter started or was reset.
+     *
+     * @return a <code>long</code> value
+     */
+    long getRejectedOrderCount();
+    /**
+     * Gets the number of orders accepted by the filter that are still open.
+     *
+     * @return an <code>int</code> value
+     */
+    int getOpenOrderCount();
+    /**
+     * Gets the current utilization of each user, account, and instrument tracked by the filter.
+     *
+     * @return a <code>List&lt;RiskUtilization&gt;</code> value
+     */
+    List<RiskUtilization> getUtilization();
+    /**
+     * Discards all open orders, positions, and rates tracked by the filter.
+     */
+    void reset();
+}
@@ -0,0 +1,181 @@
+package org.marketcetera.ors.filters;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Describes how much of its risk limits a user, account, and instrument is using.
+ *
+ * <p>Utilization values are percentages of the corresponding limit, or <code>0</code> if there is no limit.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class RiskUtilization
+{
+    /**
+     * Create a new RiskUtilization instance.
+     *
+     * @param inUserId a <code>long</code> value
+     * @param inAccount a <code>String</code> value or <code>null</code>
+     * @param inInstrument a <code>String</code> value
+     * @param inOpenOrders a <code>long</code> value
+     * @param inOpenNotional a <code>double</code> value
+     * @param inPosition a <code>double</code> value
+     * @param inOpenOrderUtilization a <code>double</code> value
+     * @param inOpenNotionalUtilization a <code>double</code> value
+     * @param inPositionUtilization a <code>double</code> value
+     */
+    public RiskUtilization(long inUserId,
+                           String inAccount,
+                           String inInstrument,
+                           long inOpenOrders,
+                           double inOpenNotional,
+                           double inPosition,
+                           double inOpenOrderUtilization,
+                           double inOpenNotionalUtilization,
+                           double inPositionUtilization)
+    {
+        userId = inUserId;
+        account = inAccount;
+        instrument = inInstrument;
+        openOrders = inOpenOrders;
+        openNotional = inOpenNotional;
+        position = inPosition;
+        openOrderUtilization = inOpenOrderUtilization;
+        openNotionalUtilization = inOpenNotionalUtilization;
+        positionUtilization = inPositionUtilization;
+    }
+    /**
+     * Get the userId value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getUserId()
+    {
+        return userId;
+    }
+    /**
+     * Get the account value.
+     *
+     * @return a <code>String</code> value or <code>null</code>
+     */
+    public String getAccount()
+    {
+        return account;
+    }
+    /**
+     * Get the instrument value.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getInstrument()
+    {
+        return instrument;
+    }
+    /**
+     * Get the openOrders value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getOpenOrders()
+    {
+        return openOrders;
+    }
+    /**
+     * Get the openNotional value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getOpenNotional()
+    {
+        return openNotional;
+    }
+    /**
+     * Get the position value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getPosition()
+    {
+        return position;
+    }
+    /**
+     * Get the openOrderUtilization value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getOpenOrderUtilization()
+    {
+        return openOrderUtilization;
+    }
+    /**
+     * Get the openNotionalUtilization value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getOpenNotionalUtilization()
+    {
+        return openNotionalUtilization;
+    }
+    /**
+     * Get the positionUtilization value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getPositionUtilization()
+    {
+        return positionUtilization;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("RiskUtilization [userId=").append(userId).append(", account=").append(account).append(", instrument=")
+                .append(instrument).append(", openOrders=").append(openOrders).append(", openNotional=").append(openNotional)
+                .append(", position=").append(position).append("]");
+        return builder.toString();
+    }
+    /**
+     * user id value
+     */
+    private final long userId;
+    /**
+     * account value
+     */
+    private final String account;
+    /**
+     * full symbol of the instrument
+     */
+    private final String instrument;
+    /**
+     * number of open orders
+     */
+    private final long openOrders;
+    /**
+     * notional value of the open orders
+     */
+    private final double openNotional;
+    /**
+     * net position
+     */
+    private final double position;
+    /**
+     * open orders as a percentage of the limit
+     */
+    private final double openOrderUtilization;
+    /**
+     * open notional as a percentage of the limit
+     */
+    private final double openNotionalUtilization;
+    /**
+     * absolute position as a percentage of the limit
+     */
+    private final double positionUtilization;
+}
@@ -0,0 +1,28 @@
+package org.marketcetera.ors.filters;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+import quickfix.Message;
+
+/* $License$ */
+
+/**
+ * Receives orders that were accepted by the order filters but not sent to the broker.
+ *
+ * <p>An {@link OrderFilter} that tracks the orders it accepts implements this interface to stop tracking orders that
+ * are intercepted by a message modifier or fail before they are sent.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface UnsentOrderListener
+{
+    /**
+     * Receives an order that was not sent to the broker.
+     *
+     * @param inMessage a <code>Message</code> value as accepted by the order filters
+     */
+    void receiveUnsentOrder(Message inMessage);
+}
@@ -1,8 +1,13 @@
 package org.marketcetera.ors.history;
 
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.apache.commons.lang.Validate;
 import org.marketcetera.client.jms.JmsManager;
+import org.marketcetera.core.BatchQueueProcessor;
 import org.marketcetera.core.IDFactory;
-import org.marketcetera.core.QueueProcessor;
 import org.marketcetera.ors.dao.ReportService;
 import org.marketcetera.trade.ReportBase;
 import org.marketcetera.util.misc.ClassVersion;
@@ -13,6 +18,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * Provides services to save and query reports with asynchronous saving.
+ * 
+ * <p>Reports that accumulate while earlier reports are being saved are written together, up to {@link #getBatchSize()}
+ * reports per transaction.
  *
  * @author tlerios@marketcetera.com
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
@@ -41,6 +49,26 @@ public class AsyncSaveReportHistoryServices
     {
         reportService = inReportService;
     }
+    /**
+     * Get the batchSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+    /**
+     * Sets the maximum number of reports to save in a single transaction.
+     * 
+     * <p>A value of 1 saves each report in its own transaction.
+     *
+     * @param inBatchSize an <code>int</code> value
+     */
+    public void setBatchSize(int inBatchSize)
+    {
+        batchSize = inBatchSize;
+    }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.history.BasicReportHistoryServices#init(org.marketcetera.core.IDFactory, org.marketcetera.client.jms.JmsManager, com.marketcetera.ors.history.ReportSavedListener)
      */
@@ -49,6 +77,8 @@ public class AsyncSaveReportHistoryServices
                      JmsManager inJmsManager,
                      ReportSavedListener inReportSavedListener)
     {
+        Validate.isTrue(batchSize > 0,
+                        "batchSize must be positive");
         super.init(inIdFactory,
                    inJmsManager,
                    inReportSavedListener);
@@ -75,17 +105,81 @@ public class AsyncSaveReportHistoryServices
      */
     @ClassVersion("$Id$")
     private class QueueHandler
-            extends QueueProcessor<ReportBase>
+            extends BatchQueueProcessor<ReportBase>
     {
         /* (non-Javadoc)
-         * @see org.marketcetera.core.QueueProcessor#processData(java.lang.Object)
+         * @see org.marketcetera.core.BatchQueueProcessor#processData(java.util.Deque)
          */
         @Override
-        protected void processData(ReportBase inReport)
+        protected void processData(Deque<ReportBase> inReports)
                 throws Exception
         {
-            Messages.RHS_DEQUEUED_REPLY.debug(this,
-                                              inReport);
+            List<ReportBase> batch = new ArrayList<>(Math.min(inReports.size(),
+                                                              batchSize));
+            for(ReportBase report : inReports) {
+                Messages.RHS_DEQUEUED_REPLY.debug(this,
+                                                  report);
+                batch.add(report);
+                if(batch.size() == batchSize) {
+                    saveBatch(batch);
+                    batch.clear();
+                }
+            }
+            if(!batch.isEmpty()) {
+                saveBatch(batch);
+            }
+        }
+        /**
+         * Adds the given report to the processing queue.
+         *
+         * @param inData a <code>ReportBase</code> value
+         */
+        @Override
+        protected void add(ReportBase inData)
+        {
+            super.add(inData);
+        }
+        /**
+         * Saves the given reports in a single transaction.
+         * 
+         * <p>If the batch cannot be saved, each report is saved individually so only the reports that cannot be
+         * saved are reported as failed.
+         *
+         * @param inBatch a <code>List&lt;ReportBase&gt;</code> value
+         */
+        private void saveBatch(List<ReportBase> inBatch)
+        {
+            if(inBatch.size() == 1) {
+                saveReport(inBatch.get(0));
+                return;
+            }
+            boolean success = false;
+            try {
+                reportService.save(inBatch);
+                success = true;
+            } catch (RuntimeException e) {
+                Messages.RHS_BATCH_PERSIST_ERROR.warn(this,
+                                                      e,
+                                                      inBatch.size());
+            }
+            for(ReportBase report : inBatch) {
+                if(success) {
+                    Messages.RHS_PERSISTED_REPLY.info(this,
+                                                      report);
+                    invokeListener(report,
+                                   true);
+                } else {
+                    saveReport(report);
+                }
+            }
+        }
+        /**
+         * Saves the given report in its own transaction.
+         *
+         * @param inReport a <code>ReportBase</code> value
+         */
+        private void saveReport(ReportBase inReport)
+        {
             boolean success = false;
             try {
                 reportService.save(inReport);
@@ -101,15 +195,6 @@ public class AsyncSaveReportHistoryServices
                                success);
             }
         }
-        /**
-         * Adds the given report to the processing queue.
-         *
-         * @param inData a <code>ReportBase</code> value
-         */
-        protected void add(ReportBase inData)
-        {
-            super.add(inData);
-        }
         /**
          * Create a new QueueHandler instance.
          */
@@ -118,6 +203,10 @@ public class AsyncSaveReportHistoryServices
             super("Async Report Processor"); //$NON-NLS-1$
         }
     }
+    /**
+     * maximum number of reports to save in a single transaction
+     */
+    private int batchSize = 100;
     /**
      * manages reports to be saved
      */
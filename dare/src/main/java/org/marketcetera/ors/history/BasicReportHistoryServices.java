@@ -15,6 +15,7 @@ import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.core.time.TimeFactory;
 import org.marketcetera.core.time.TimeFactoryImpl;
 import org.marketcetera.ors.LongIDFactory;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.ors.dao.ReportService;
 import org.marketcetera.ors.security.SimpleUser;
 import org.marketcetera.persist.PersistenceException;
@@ -114,6 +115,15 @@ public class BasicReportHistoryServices
                                              inDate).toArray(new ReportBaseImpl[0]);
     }
     @Override
+    public void getReportsSince(SimpleUser inUser,
+                                Date inDate,
+                                ReportHandler inHandler)
+    {
+        reportService.getReportsSince(inUser,
+                                      inDate,
+                                      inHandler);
+    }
+    @Override
     public BigDecimal getEquityPositionAsOf(SimpleUser inUser,
                                             Date inDate,
                                             Equity inEquity)
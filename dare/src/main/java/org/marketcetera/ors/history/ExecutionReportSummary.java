@@ -8,6 +8,7 @@ import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -38,7 +39,7 @@ import org.marketcetera.util.misc.ClassVersion;
  * @since 1.0.0
  */
 @Entity
-@Table(name="exec_reports")
+@Table(name="exec_reports",indexes={@Index(name="idx_exec_reports_transact_time",columnList="transact_time")})
 @ClassVersion("$Id$")
 public class ExecutionReportSummary
         extends EntityBase
@@ -81,6 +82,7 @@ public class ExecutionReportSummary
             execType = ExecutionType.Unknown;
         }
         sendingTime = inReport.getSendingTime();
+        transactTime = inReport.getTransactTime() == null ? sendingTime : inReport.getTransactTime();
         viewer = inSavedReport.getViewer();
         actor = inSavedReport.getActor();
     }
@@ -300,6 +302,24 @@ public class ExecutionReportSummary
     {
         effectiveCumQuantity = inEffectiveCumQuantity;
     }
+    /**
+     * Get the positionDelta value.
+     *
+     * @return a <code>BigDecimal</code> value or <code>null</code> if the report did not change the position
+     */
+    public BigDecimal getPositionDelta()
+    {
+        return positionDelta;
+    }
+    /**
+     * Sets the positionDelta value.
+     *
+     * @param inPositionDelta a <code>BigDecimal</code> value
+     */
+    public void setPositionDelta(BigDecimal inPositionDelta)
+    {
+        positionDelta = inPositionDelta;
+    }
     /**
      * Get the avgPrice value.
      *
@@ -408,6 +428,24 @@ public class ExecutionReportSummary
     {
         sendingTime = inSendingTime;
     }
+    /**
+     * Get the transactTime value.
+     *
+     * @return a <code>Date</code> value
+     */
+    public Date getTransactTime()
+    {
+        return transactTime;
+    }
+    /**
+     * Sets the transactTime value.
+     *
+     * @param inTransactTime a <code>Date</code> value
+     */
+    public void setTransactTime(Date inTransactTime)
+    {
+        transactTime = inTransactTime;
+    }
     /**
      * Get the viewer value.
      *
@@ -543,6 +581,11 @@ public class ExecutionReportSummary
      */
     @Column(name="eff_cum_qty",precision=DECIMAL_PRECISION,scale=DECIMAL_SCALE,nullable=false)
     private BigDecimal effectiveCumQuantity;
+    /**
+     * change in the position of the order chain caused by this report, adjusted for side, may be <code>null</code>
+     */
+    @Column(name="position_delta",precision=DECIMAL_PRECISION,scale=DECIMAL_SCALE,nullable=true)
+    private BigDecimal positionDelta;
     /**
      * average price value
      */
@@ -573,6 +616,11 @@ public class ExecutionReportSummary
      */
     @Column(name="send_time",nullable=false)
     private Date sendingTime;
+    /**
+     * transact time value or the sending time if the report has none, <code>null</code> for reports saved before positions were maintained
+     */
+    @Column(name="transact_time",nullable=true)
+    private Date transactTime;
     /**
      * viewer value
      */
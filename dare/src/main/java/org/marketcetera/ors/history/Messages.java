@@ -45,4 +45,5 @@ public interface Messages {
         new I18NMessage1P(LOGGER,"rhs_persist_error"); //$NON-NLS-1$
     static final I18NMessage1P RHS_PURGING_RECORDS = new I18NMessage1P(LOGGER,"rhs_purging_records"); //$NON-NLS-1$
     static final I18NMessage1P RHS_RECORDS_PURGED = new I18NMessage1P(LOGGER,"rhs_records_purged"); //$NON-NLS-1$
+    static final I18NMessage1P RHS_BATCH_PERSIST_ERROR = new I18NMessage1P(LOGGER,"rhs_batch_persist_error"); //$NON-NLS-1$
 }
\ No newline at end of file
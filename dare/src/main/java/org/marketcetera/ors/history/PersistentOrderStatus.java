@@ -191,6 +191,15 @@ public class PersistentOrderStatus
     {
         return orderId;
     }
+    /**
+     * Get the security type value.
+     *
+     * @return a <code>SecurityType</code> value or <code>null</code> if the report did not identify an instrument
+     */
+    public SecurityType getSecurityType()
+    {
+        return securityType;
+    }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.history.OrderStatus#getCumulativeQuantity()
      */
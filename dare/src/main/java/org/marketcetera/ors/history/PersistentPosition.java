@@ -0,0 +1,312 @@
+package org.marketcetera.ors.history;
+
+import static org.marketcetera.ors.history.ExecutionReportSummary.DECIMAL_PRECISION;
+import static org.marketcetera.ors.history.ExecutionReportSummary.DECIMAL_SCALE;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.persist.EntityBase;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.SecurityType;
+
+/* $License$ */
+
+/**
+ * Holds the position of an instrument, account, and actor as seen by a viewer.
+ *
+ * <p>A position with no snapshot date is the current position and is updated as fills are saved. A position with a
+ * snapshot date holds the position made up of the fills transacted before that date.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@Entity(name="Position")
+@Table(name="positions",indexes={@Index(name="idx_positions_symbol",columnList="security_type,symbol"),@Index(name="idx_positions_snapshot",columnList="snapshot_date")})
+public class PersistentPosition
+        extends EntityBase
+{
+    /**
+     * Create a new PersistentPosition instance.
+     */
+    public PersistentPosition()
+    {
+    }
+    /**
+     * Create a new PersistentPosition instance with the key of the given fill.
+     *
+     * @param inFill an <code>ExecutionReportSummary</code> value
+     * @param inQuantity a <code>BigDecimal</code> value
+     */
+    public PersistentPosition(ExecutionReportSummary inFill,
+                              BigDecimal inQuantity)
+    {
+        securityType = inFill.getSecurityType();
+        symbol = inFill.getSymbol();
+        expiry = inFill.getExpiry();
+        strikePrice = inFill.getStrikePrice();
+        optionType = inFill.getOptionType();
+        account = inFill.getAccount();
+        actor = inFill.getActor();
+        viewer = inFill.getViewer();
+        quantity = inQuantity;
+        lastFillTime = inFill.getTransactTime();
+    }
+    /**
+     * Create a new PersistentPosition instance.
+     *
+     * @param inSecurityType a <code>SecurityType</code> value
+     * @param inSymbol a <code>String</code> value
+     * @param inExpiry a <code>String</code> value or <code>null</code>
+     * @param inStrikePrice a <code>BigDecimal</code> value or <code>null</code>
+     * @param inOptionType an <code>OptionType</code> value or <code>null</code>
+     * @param inAccount a <code>String</code> value or <code>null</code>
+     * @param inActor a <code>SimpleUser</code> value or <code>null</code>
+     * @param inViewer a <code>SimpleUser</code> value or <code>null</code>
+     * @param inQuantity a <code>BigDecimal</code> value
+     * @param inLastFillTime a <code>Date</code> value or <code>null</code>
+     */
+    public PersistentPosition(SecurityType inSecurityType,
+                              String inSymbol,
+                              String inExpiry,
+                              BigDecimal inStrikePrice,
+                              OptionType inOptionType,
+                              String inAccount,
+                              SimpleUser inActor,
+                              SimpleUser inViewer,
+                              BigDecimal inQuantity,
+                              Date inLastFillTime)
+    {
+        securityType = inSecurityType;
+        symbol = inSymbol;
+        expiry = inExpiry;
+        strikePrice = inStrikePrice;
+        optionType = inOptionType;
+        account = inAccount;
+        actor = inActor;
+        viewer = inViewer;
+        quantity = inQuantity;
+        lastFillTime = inLastFillTime;
+    }
+    /**
+     * Create a new PersistentPosition instance with the key of the given position.
+     *
+     * @param inPosition a <code>PersistentPosition</code> value
+     * @param inQuantity a <code>BigDecimal</code> value
+     * @param inSnapshotDate a <code>Date</code> value or <code>null</code> for a current position
+     */
+    public PersistentPosition(PersistentPosition inPosition,
+                              BigDecimal inQuantity,
+                              Date inSnapshotDate)
+    {
+        securityType = inPosition.getSecurityType();
+        symbol = inPosition.getSymbol();
+        expiry = inPosition.getExpiry();
+        strikePrice = inPosition.getStrikePrice();
+        optionType = inPosition.getOptionType();
+        account = inPosition.getAccount();
+        actor = inPosition.getActor();
+        viewer = inPosition.getViewer();
+        quantity = inQuantity;
+        lastFillTime = inPosition.getLastFillTime();
+        snapshotDate = inSnapshotDate;
+    }
+    /**
+     * Get the securityType value.
+     *
+     * @return a <code>SecurityType</code> value
+     */
+    public SecurityType getSecurityType()
+    {
+        return securityType;
+    }
+    /**
+     * Get the symbol value.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getSymbol()
+    {
+        return symbol;
+    }
+    /**
+     * Get the expiry value.
+     *
+     * @return a <code>String</code> value or <code>null</code>
+     */
+    public String getExpiry()
+    {
+        return expiry;
+    }
+    /**
+     * Get the strikePrice value.
+     *
+     * @return a <code>BigDecimal</code> value or <code>null</code>
+     */
+    public BigDecimal getStrikePrice()
+    {
+        return strikePrice;
+    }
+    /**
+     * Get the optionType value.
+     *
+     * @return an <code>OptionType</code> value or <code>null</code>
+     */
+    public OptionType getOptionType()
+    {
+        return optionType;
+    }
+    /**
+     * Get the account value.
+     *
+     * @return a <code>String</code> value or <code>null</code>
+     */
+    public String getAccount()
+    {
+        return account;
+    }
+    /**
+     * Get the actor value.
+     *
+     * @return a <code>SimpleUser</code> value or <code>null</code>
+     */
+    public SimpleUser getActor()
+    {
+        return actor;
+    }
+    /**
+     * Get the viewer value.
+     *
+     * @return a <code>SimpleUser</code> value or <code>null</code>
+     */
+    public SimpleUser getViewer()
+    {
+        return viewer;
+    }
+    /**
+     * Get the quantity value.
+     *
+     * @return a <code>BigDecimal</code> value
+     */
+    public BigDecimal getQuantity()
+    {
+        return quantity;
+    }
+    /**
+     * Sets the quantity value.
+     *
+     * @param inQuantity a <code>BigDecimal</code> value
+     */
+    public void setQuantity(BigDecimal inQuantity)
+    {
+        quantity = inQuantity;
+    }
+    /**
+     * Get the lastFillTime value.
+     *
+     * @return a <code>Date</code> value or <code>null</code>
+     */
+    public Date getLastFillTime()
+    {
+        return lastFillTime;
+    }
+    /**
+     * Sets the lastFillTime value.
+     *
+     * @param inLastFillTime a <code>Date</code> value
+     */
+    public void setLastFillTime(Date inLastFillTime)
+    {
+        lastFillTime = inLastFillTime;
+    }
+    /**
+     * Get the snapshotDate value.
+     *
+     * @return a <code>Date</code> value or <code>null</code> for a current position
+     */
+    public Date getSnapshotDate()
+    {
+        return snapshotDate;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append("PersistentPosition [securityType=").append(securityType).append(", symbol=").append(symbol)
+                .append(", expiry=").append(expiry).append(", strikePrice=").append(strikePrice).append(", optionType=")
+                .append(optionType).append(", account=").append(account).append(", actor=").append(actor)
+                .append(", viewer=").append(viewer).append(", quantity=").append(quantity).append(", lastFillTime=")
+                .append(lastFillTime).append(", snapshotDate=").append(snapshotDate).append("]");
+        return builder.toString();
+    }
+    /**
+     * security type value
+     */
+    @Column(name="security_type",nullable=false)
+    private SecurityType securityType;
+    /**
+     * symbol value
+     */
+    @Column(name="symbol",nullable=false)
+    private String symbol;
+    /**
+     * expiry value, <code>null</code> for non-option types
+     */
+    @Column(name="expiry",nullable=true)
+    private String expiry;
+    /**
+     * strike price value, <code>null</code> for non-option types
+     */
+    @Column(name="strike_price",precision=DECIMAL_PRECISION,scale=DECIMAL_SCALE,nullable=true)
+    private BigDecimal strikePrice;
+    /**
+     * option type value, <code>null</code> for non-option types
+     */
+    @Column(name="option_type",nullable=true)
+    private OptionType optionType;
+    /**
+     * account value, may be <code>null</code>
+     */
+    @Column(name="account",nullable=true)
+    private String account;
+    /**
+     * actor value
+     */
+    @ManyToOne
+    @JoinColumn(name="actor_id")
+    private SimpleUser actor;
+    /**
+     * viewer value
+     */
+    @ManyToOne
+    @JoinColumn(name="viewer_id")
+    private SimpleUser viewer;
+    /**
+     * position quantity value, negative for a short position
+     */
+    @Column(name="quantity",precision=DECIMAL_PRECISION,scale=DECIMAL_SCALE,nullable=false)
+    private BigDecimal quantity;
+    /**
+     * transact time of the latest fill included in the position
+     */
+    @Column(name="last_fill_time",nullable=true)
+    private Date lastFillTime;
+    /**
+     * date of the snapshot or <code>null</code> for a current position
+     */
+    @Column(name="snapshot_date",nullable=true)
+    private Date snapshotDate;
+    private static final long serialVersionUID = 3946301268372853124L;
+}
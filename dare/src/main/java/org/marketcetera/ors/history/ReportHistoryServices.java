@@ -8,6 +8,7 @@ import java.util.Map;
 import org.marketcetera.client.jms.JmsManager;
 import org.marketcetera.core.IDFactory;
 import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.ors.security.SimpleUser;
 import org.marketcetera.persist.PersistenceException;
 import org.marketcetera.trade.Currency;
@@ -67,6 +68,27 @@ public interface ReportHistoryServices {
          Date inDate)
         throws PersistenceException, ReportPersistenceException;
 
+    /**
+     * Passes all the reports received after the supplied date-time
+     * value, and which are visible to the given user, to the given
+     * handler one at a time, without holding them all in memory.
+     *
+     * @param inUser the user making the query. Cannot be null.
+     * @param inDate the date-time value. Cannot be null.
+     * @param inHandler the handler that receives the reports. Cannot
+     * be null.
+     *
+     * @throws PersistenceException if there were persistence errors
+     * fetching the reports.
+     * @throws ReportPersistenceException if the data retrieved had
+     * unexpected errors.
+     */
+    public void getReportsSince
+        (SimpleUser inUser,
+         Date inDate,
+         ReportHandler inHandler)
+        throws PersistenceException, ReportPersistenceException;
+
     /**
      * Returns the position of the equity based on all reports
      * received for it before or on the supplied date, and which are visible
@@ -0,0 +1,45 @@
+package org.marketcetera.ors.outgoingorder;
+
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.UserID;
+
+/* $License$ */
+
+/**
+ * Resolves the owner of an order sent to a broker.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public interface OrderOwnerService
+{
+    /**
+     * Record the owner of the given order.
+     *
+     * @param inBrokerId a <code>BrokerID</code> value
+     * @param inOrderId a <code>String</code> value
+     * @param inOwner a <code>UserID</code> value
+     */
+    void cacheOwner(BrokerID inBrokerId,
+                    String inOrderId,
+                    UserID inOwner);
+    /**
+     * Get the recorded owner of the given order without consulting the datastore.
+     *
+     * @param inBrokerId a <code>BrokerID</code> value
+     * @param inOrderId a <code>String</code> value
+     * @return a <code>UserID</code> value or <code>null</code> if no owner is recorded
+     */
+    UserID getCachedOwner(BrokerID inBrokerId,
+                          String inOrderId);
+    /**
+     * Get the owner of the given order, consulting the outgoing messages in the datastore if no owner is recorded.
+     *
+     * @param inBrokerId a <code>BrokerID</code> value
+     * @param inOrderId a <code>String</code> value
+     * @return a <code>UserID</code> value or <code>null</code> if the owner cannot be determined
+     */
+    UserID getOwner(BrokerID inBrokerId,
+                    String inOrderId);
+}
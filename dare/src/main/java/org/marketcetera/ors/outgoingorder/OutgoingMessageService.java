@@ -24,9 +24,11 @@ public interface OutgoingMessageService
      * Cache the owner of the outgoing message.
      *
      * @param inOutgoingMessage a <code>Message</code> value
+     * @param inBrokerId a <code>BrokerID</code> value
      * @param inActor a <code>UserID</code> value
      */
     void cacheMessageOwner(Message inOutgoingMessage,
+                           BrokerID inBrokerId,
                            UserID inActor);
     /**
      * Get the owner of the given message received from the given session or broker.
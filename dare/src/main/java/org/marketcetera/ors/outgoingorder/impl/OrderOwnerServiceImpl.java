@@ -0,0 +1,227 @@
+package org.marketcetera.ors.outgoingorder.impl;
+
+import java.util.Iterator;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.marketcetera.core.Cachable;
+import org.marketcetera.ors.dao.PersistentOutgoingMessage;
+import org.marketcetera.ors.dao.PersistentOutgoingMessageDao;
+import org.marketcetera.ors.dao.QPersistentOutgoingMessage;
+import org.marketcetera.ors.outgoingorder.OrderOwnerService;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.UserID;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.querydsl.core.BooleanBuilder;
+
+/* $License$ */
+
+/**
+ * Resolves order owners from a bounded in-memory index backed by the outgoing messages table.
+ *
+ * <p>Owners are recorded as outgoing messages are saved, so the owner of a report for a recently sent order is
+ * found without a query. If the index has no owner for an order, the most recent outgoing message for the broker
+ * and order is read using the index on those columns and its owner is added to the index.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class OrderOwnerServiceImpl
+        implements OrderOwnerService,Cachable
+{
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.outgoingorder.OrderOwnerService#cacheOwner(org.marketcetera.trade.BrokerID, java.lang.String, org.marketcetera.trade.UserID)
+     */
+    @Override
+    public void cacheOwner(BrokerID inBrokerId,
+                           String inOrderId,
+                           UserID inOwner)
+    {
+        if(inBrokerId == null || inOrderId == null || inOwner == null) {
+            return;
+        }
+        ownersByOrder.put(new OrderKey(inBrokerId,
+                                       inOrderId),
+                          inOwner);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.outgoingorder.OrderOwnerService#getCachedOwner(org.marketcetera.trade.BrokerID, java.lang.String)
+     */
+    @Override
+    public UserID getCachedOwner(BrokerID inBrokerId,
+                                 String inOrderId)
+    {
+        if(inBrokerId == null || inOrderId == null) {
+            return null;
+        }
+        return ownersByOrder.getIfPresent(new OrderKey(inBrokerId,
+                                                       inOrderId));
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.ors.outgoingorder.OrderOwnerService#getOwner(org.marketcetera.trade.BrokerID, java.lang.String)
+     */
+    @Override
+    @Transactional(readOnly=true)
+    public UserID getOwner(BrokerID inBrokerId,
+                           String inOrderId)
+    {
+        UserID owner = getCachedOwner(inBrokerId,
+                                      inOrderId);
+        if(owner != null || inBrokerId == null || inOrderId == null) {
+            return owner;
+        }
+        BooleanBuilder where = new BooleanBuilder();
+        where = where.and(QPersistentOutgoingMessage.persistentOutgoingMessage.brokerId.eq(inBrokerId));
+        where = where.and(QPersistentOutgoingMessage.persistentOutgoingMessage.orderId.eq(inOrderId));
+        Sort sort = new Sort(Sort.Direction.DESC,
+                             QPersistentOutgoingMessage.persistentOutgoingMessage.lastUpdated.getMetadata().getName(),
+                             QPersistentOutgoingMessage.persistentOutgoingMessage.msgSeqNum.getMetadata().getName());
+        // there could be multiple matches and each could be owned by a different user, the most recent message is used
+        Iterator<PersistentOutgoingMessage> candidates = outgoingMessageDao.findAll(where,
+                                                                                    new PageRequest(0,
+                                                                                                    1,
+                                                                                                    sort)).iterator();
+        SimpleUser actor = candidates.hasNext() ? candidates.next().getActor() : null;
+        if(actor == null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "No outgoing messages match {} for {}",
+                                   inOrderId,
+                                   inBrokerId);
+            return null;
+        }
+        owner = actor.getUserID();
+        cacheOwner(inBrokerId,
+                   inOrderId,
+                   owner);
+        return owner;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.core.Cachable#clear()
+     */
+    @Override
+    public void clear()
+    {
+        ownersByOrder.invalidateAll();
+    }
+    /**
+     * Validate and start the object.
+     */
+    @PostConstruct
+    public void start()
+    {
+        ownersByOrder = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
+    /**
+     * Get the cacheSize value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getCacheSize()
+    {
+        return cacheSize;
+    }
+    /**
+     * Sets the cacheSize value.
+     *
+     * @param inCacheSize a <code>long</code> value
+     */
+    public void setCacheSize(long inCacheSize)
+    {
+        cacheSize = inCacheSize;
+    }
+    /**
+     * Get the outgoingMessageDao value.
+     *
+     * @return a <code>PersistentOutgoingMessageDao</code> value
+     */
+    public PersistentOutgoingMessageDao getOutgoingMessageDao()
+    {
+        return outgoingMessageDao;
+    }
+    /**
+     * Sets the outgoingMessageDao value.
+     *
+     * @param inOutgoingMessageDao a <code>PersistentOutgoingMessageDao</code> value
+     */
+    public void setOutgoingMessageDao(PersistentOutgoingMessageDao inOutgoingMessageDao)
+    {
+        outgoingMessageDao = inOutgoingMessageDao;
+    }
+    /**
+     * Identifies an order sent to a broker.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class OrderKey
+    {
+        /**
+         * Create a new OrderKey instance.
+         *
+         * @param inBrokerId a <code>BrokerID</code> value
+         * @param inOrderId a <code>String</code> value
+         */
+        private OrderKey(BrokerID inBrokerId,
+                         String inOrderId)
+        {
+            brokerId = inBrokerId;
+            orderId = inOrderId;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode()
+        {
+            return new HashCodeBuilder().append(brokerId).append(orderId).toHashCode();
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object inObject)
+        {
+            if(this == inObject) {
+                return true;
+            }
+            if(!(inObject instanceof OrderKey)) {
+                return false;
+            }
+            OrderKey other = (OrderKey)inObject;
+            return new EqualsBuilder().append(brokerId,other.brokerId).append(orderId,other.orderId).isEquals();
+        }
+        /**
+         * broker to which the order was sent
+         */
+        private final BrokerID brokerId;
+        /**
+         * order id
+         */
+        private final String orderId;
+    }
+    /**
+     * allows datastore access to outgoing messages
+     */
+    @Autowired
+    private PersistentOutgoingMessageDao outgoingMessageDao;
+    /**
+     * max number of order owners to cache
+     */
+    private long cacheSize = 10000;
+    /**
+     * caches owner by broker and order id
+     */
+    private Cache<OrderKey,UserID> ownersByOrder;
+}
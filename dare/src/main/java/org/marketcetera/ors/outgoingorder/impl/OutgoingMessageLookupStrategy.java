@@ -1,25 +1,16 @@
 package org.marketcetera.ors.outgoingorder.impl;
 
-import java.util.Iterator;
-
-import org.marketcetera.ors.dao.PersistentOutgoingMessage;
-import org.marketcetera.ors.dao.PersistentOutgoingMessageDao;
-import org.marketcetera.ors.dao.QPersistentOutgoingMessage;
 import org.marketcetera.ors.outgoingorder.IdentifyOwnerStrategy;
-import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.ors.outgoingorder.OrderOwnerService;
 import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.UserID;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 
 import quickfix.FieldNotFound;
 import quickfix.Message;
 import quickfix.SessionID;
 
-import com.querydsl.core.BooleanBuilder;
-
 /* $License$ */
 
 /**
@@ -64,58 +55,41 @@ public class OutgoingMessageLookupStrategy
                                    "{} has no order id field, so the owner cannot be determined from the outgoing order table",
                                    inMessage);
             return null;
-        } else {
-            BooleanBuilder where = new BooleanBuilder();
-            where = where.and(QPersistentOutgoingMessage.persistentOutgoingMessage.brokerId.eq(inBrokerId));
-            where = where.and(QPersistentOutgoingMessage.persistentOutgoingMessage.orderId.eq(orderId));
-            Sort sort = new Sort(Sort.Direction.DESC,
-                                 QPersistentOutgoingMessage.persistentOutgoingMessage.lastUpdated.getMetadata().getName(),
-                                 QPersistentOutgoingMessage.persistentOutgoingMessage.msgSeqNum.getMetadata().getName());
-            PageRequest pageRequest = new PageRequest(0,
-                                                      1,
-                                                      sort);
-            // this query, as structured, cannot return multiple rows, but there could be multiple matches in the db and the
-            //  matches could each be owned by a different user. this is not a perfect technique as, for example, the original
-            //  order could be masked by subsequent order status requests. what if the order status requests were owned by
-            //  a different user from the original order? does that even make sense?
-            Iterable<PersistentOutgoingMessage> candidates = outgoingMessageDao.findAll(pageRequest);
-            Iterator<PersistentOutgoingMessage> candidateIterator = candidates.iterator();
-            SimpleUser actor = null;
-            if(candidateIterator.hasNext()) {
-                PersistentOutgoingMessage outgoingMessage = candidateIterator.next();
-                actor = outgoingMessage.getActor();
-            }
-            if(actor == null) {
-                SLF4JLoggerProxy.debug(this,
-                                       "No outgoing messages match {}",
-                                       inMessage);
-                return null;
-            } else {
-                return actor.getUserID();
-            }
         }
+        // the owner index answers for recently sent orders, otherwise the most recent outgoing message for this broker and
+        //  order id is used. this is not a perfect technique as, for example, the original order could be masked by
+        //  subsequent order status requests. what if the order status requests were owned by a different user from the
+        //  original order? does that even make sense?
+        UserID owner = orderOwnerService.getOwner(inBrokerId,
+                                                  orderId);
+        if(owner == null) {
+            SLF4JLoggerProxy.debug(this,
+                                   "No outgoing messages match {}",
+                                   inMessage);
+        }
+        return owner;
     }
     /**
-     * Get the outgoingMessageDao value.
+     * Get the orderOwnerService value.
      *
-     * @return a <code>PersistentOutgoingMessageDao</code> value
+     * @return an <code>OrderOwnerService</code> value
      */
-    public PersistentOutgoingMessageDao getOutgoingMessageDao()
+    public OrderOwnerService getOrderOwnerService()
     {
-        return outgoingMessageDao;
+        return orderOwnerService;
     }
     /**
-     * Sets the outgoingMessageDao value.
+     * Sets the orderOwnerService value.
      *
-     * @param inOutgoingMessageDao a <code>PersistentOutgoingMessageDao</code> value
+     * @param inOrderOwnerService an <code>OrderOwnerService</code> value
      */
-    public void setOutgoingMessageDao(PersistentOutgoingMessageDao inOutgoingMessageDao)
+    public void setOrderOwnerService(OrderOwnerService inOrderOwnerService)
     {
-        outgoingMessageDao = inOutgoingMessageDao;
+        orderOwnerService = inOrderOwnerService;
     }
     /**
-     * allows datastore access to outgoing messages
+     * resolves order owners from the owner index and outgoing messages
      */
     @Autowired
-    private PersistentOutgoingMessageDao outgoingMessageDao;
+    private OrderOwnerService orderOwnerService;
 }
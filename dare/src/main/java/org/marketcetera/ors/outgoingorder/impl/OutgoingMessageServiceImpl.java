@@ -2,14 +2,13 @@ package org.marketcetera.ors.outgoingorder.impl;
 
 import java.util.List;
 
-import javax.annotation.PostConstruct;
-
 import org.marketcetera.core.Cachable;
 import org.marketcetera.ors.dao.PersistentOutgoingMessage;
 import org.marketcetera.ors.dao.PersistentOutgoingMessageDao;
 import org.marketcetera.ors.domain.OutgoingMessage;
 import org.marketcetera.ors.domain.OutgoingMessageFactory;
 import org.marketcetera.ors.outgoingorder.IdentifyOwnerStrategy;
+import org.marketcetera.ors.outgoingorder.OrderOwnerService;
 import org.marketcetera.ors.outgoingorder.OutgoingMessageService;
 import org.marketcetera.ors.security.SimpleUser;
 import org.marketcetera.trade.BrokerID;
@@ -23,8 +22,6 @@ import quickfix.FieldNotFound;
 import quickfix.Message;
 import quickfix.SessionID;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 
 /* $License$ */
@@ -40,10 +37,11 @@ public class OutgoingMessageServiceImpl
         implements OutgoingMessageService, Cachable
 {
     /* (non-Javadoc)
-     * @see com.marketcetera.ors.outgoingorder.OrderService#cache(quickfix.Message, org.marketcetera.trade.UserID)
+     * @see com.marketcetera.ors.outgoingorder.OrderService#cache(quickfix.Message, org.marketcetera.trade.BrokerID, org.marketcetera.trade.UserID)
      */
     @Override
     public void cacheMessageOwner(Message inOutgoingMessage,
+                                  BrokerID inBrokerId,
                                   UserID inActor)
     {
         String orderId = null;
@@ -65,8 +63,9 @@ public class OutgoingMessageServiceImpl
                                   "Not caching owner for {}",
                                   inOutgoingMessage);
         } else {
-            usersByOrderId.put(orderId,
-                               inActor);
+            orderOwnerService.cacheOwner(inBrokerId,
+                                         orderId,
+                                         inActor);
         }
     }
     /* (non-Javadoc)
@@ -97,7 +96,14 @@ public class OutgoingMessageServiceImpl
         } else {
             pOutgoingMessage = new PersistentOutgoingMessage(inOutgoingMessage);
         }
-        return outgoingMessageDao.save(pOutgoingMessage);
+        pOutgoingMessage = outgoingMessageDao.save(pOutgoingMessage);
+        // index the owner of the order so reports for it can be matched without a query
+        if(pOutgoingMessage.getActor() != null) {
+            orderOwnerService.cacheOwner(pOutgoingMessage.getBrokerId(),
+                                         pOutgoingMessage.getOrderId(),
+                                         pOutgoingMessage.getActor().getUserID());
+        }
+        return pOutgoingMessage;
     }
     /* (non-Javadoc)
      * @see com.marketcetera.ors.outgoingorder.OutgoingMessageService#getMessageOwner(quickfix.Message, quickfix.SessionID, org.marketcetera.trade.BrokerID)
@@ -127,7 +133,8 @@ public class OutgoingMessageServiceImpl
                                    "{} has no order id field, cannot determine owner from cache",
                                    inIncomingMessage);
         } else {
-            UserID owner = usersByOrderId.getIfPresent(orderId);
+            UserID owner = orderOwnerService.getCachedOwner(inBrokerId,
+                                                            orderId);
             if(owner != null) {
                 SLF4JLoggerProxy.debug(this,
                                        "{} is owned by {} according to the cache",
@@ -145,8 +152,9 @@ public class OutgoingMessageServiceImpl
                                                inBrokerId);
             if(owner != null) {
                 if(orderId != null) {
-                    usersByOrderId.put(orderId,
-                                       owner);
+                    orderOwnerService.cacheOwner(inBrokerId,
+                                                 orderId,
+                                                 owner);
                 }
                 SLF4JLoggerProxy.debug(this,
                                        "{} is owned by {} according to identity strategies",
@@ -163,15 +171,9 @@ public class OutgoingMessageServiceImpl
     @Override
     public void clear()
     {
-        usersByOrderId.invalidateAll();
-    }
-    /**
-     * Validate and start the object.
-     */
-    @PostConstruct
-    public void start()
-    {
-        usersByOrderId = CacheBuilder.newBuilder().maximumSize(orderCacheSize).build();
+        if(orderOwnerService instanceof Cachable) {
+            ((Cachable)orderOwnerService).clear();
+        }
     }
     /**
      * Get the outgoingMessageFactory value.
@@ -210,22 +212,22 @@ public class OutgoingMessageServiceImpl
         outgoingMessageDao = inOutgoingMessageDao;
     }
     /**
-     * Get the orderCacheSize value.
+     * Get the orderOwnerService value.
      *
-     * @return a <code>long</code> value
+     * @return an <code>OrderOwnerService</code> value
      */
-    public long getOrderCacheSize()
+    public OrderOwnerService getOrderOwnerService()
     {
-        return orderCacheSize;
+        return orderOwnerService;
     }
     /**
-     * Sets the orderCacheSize value.
+     * Sets the orderOwnerService value.
      *
-     * @param inOrderCacheSize a <code>long</code> value
+     * @param inOrderOwnerService an <code>OrderOwnerService</code> value
      */
-    public void setOrderCacheSize(long inOrderCacheSize)
+    public void setOrderOwnerService(OrderOwnerService inOrderOwnerService)
     {
-        orderCacheSize = inOrderCacheSize;
+        orderOwnerService = inOrderOwnerService;
     }
     /**
      * Get the identifyOwnerStrategies value.
@@ -256,13 +258,10 @@ public class OutgoingMessageServiceImpl
     @Autowired
     private OutgoingMessageFactory outgoingMessageFactory;
     /**
-     * max number of order owners to cache
+     * indexes order owners by broker and order id
      */
-    private long orderCacheSize = 10000;
-    /**
-     * caches owner id by order id
-     */
-    private Cache<String,UserID> usersByOrderId;
+    @Autowired
+    private OrderOwnerService orderOwnerService;
     /**
      * provides a collection of strategies to use to identify the owner of a message
      */
@@ -8,6 +8,7 @@ import java.util.List;
 import org.marketcetera.client.brokers.BrokersStatus;
 import org.marketcetera.client.users.UserInfo;
 import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.trade.BrokerID;
 import org.marketcetera.trade.Currency;
 import org.marketcetera.trade.Equity;
@@ -43,14 +44,15 @@ public interface RpcServerAdapter
      */
     String getNextOrderID();
     /**
-     * Gets the reports for the given user since the given origin.
+     * Passes the reports for the given user since the given origin to the given handler one at a time.
      *
      * @param inUsername a <code>String</code> value
      * @param inOrigin a <code>Date</code> value
-     * @return a <code>ReportBaseImpl[]</code> value
+     * @param inHandler a <code>ReportHandler</code> value
      */
-    ReportBaseImpl[] getReportsSince(String inUsername,
-                                     Date inOrigin);
+    void getReportsSince(String inUsername,
+                         Date inOrigin,
+                         ReportHandler inHandler);
     /**
      * Gets the open orders for the given user.
      *
@@ -51,6 +51,9 @@ import org.marketcetera.client.users.UserInfo;
 import org.marketcetera.core.Util;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.ors.TradingPermissions;
+import org.marketcetera.ors.dao.ReportHandler;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.trade.*;
 import org.marketcetera.trade.Currency;
 import org.marketcetera.util.except.ExceptUtils;
@@ -60,12 +63,14 @@ import org.marketcetera.util.rpc.RpcCredentials;
 import org.marketcetera.util.rpc.RpcServerServices;
 import org.marketcetera.util.rpc.RpcServiceSpec;
 import org.marketcetera.util.ws.stateful.SessionHolder;
+import org.marketcetera.util.ws.stateful.SessionListener;
 import org.marketcetera.util.ws.tags.SessionId;
 import org.marketcetera.util.ws.wrappers.MapWrapper;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import quickfix.Message;
 
+import com.google.common.collect.Maps;
 import com.google.protobuf.BlockingService;
 import com.google.protobuf.RpcController;
 import com.google.protobuf.ServiceException;
@@ -119,7 +124,13 @@ public class RpcServerServiceImpl<SessionClazz>
                                                                        new Locale(inRequest.getLocale().getLanguage(),
                                                                                   inRequest.getLocale().getCountry(),
                                                                                   inRequest.getLocale().getVariant())));
-            return LoginResponse.newBuilder().setSessionId(sessionId.getValue()).build();
+            PayloadRpc.PayloadFormat sessionPayloadFormat = PayloadRpc.PayloadFormat.XML;
+            if(inRequest.getPayloadFormat() == PayloadRpc.PayloadFormat.PROTOBUF && payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                sessionPayloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
+            }
+            payloadFormats.put(sessionId.getValue(),
+                               sessionPayloadFormat);
+            return LoginResponse.newBuilder().setSessionId(sessionId.getValue()).setPayloadFormat(sessionPayloadFormat).build();
         } catch (Exception e) {
             throw new ServiceException(e);
         }
@@ -136,6 +147,7 @@ public class RpcServerServiceImpl<SessionClazz>
                                "RpcClient Service received logout request for {}",
                                inRequest.getSessionId());
         serverServices.logout(inRequest.getSessionId());
+        payloadFormats.remove(inRequest.getSessionId());
         return LogoutResponse.newBuilder().setStatus(true).build();
     }
     /* (non-Javadoc)
@@ -219,17 +231,9 @@ public class RpcServerServiceImpl<SessionClazz>
         authzService.authorize(sessionInfo.getUser(),
                                TradingPermissions.ViewOpenOrdersAction.name());
         List<ReportBaseImpl> reports = serverAdapter.getOpenOrders(sessionInfo.getUser());
-        RpcClient.ReportList.Builder rpcReportListBuilder = RpcClient.ReportList.newBuilder();
-        if(reports != null) {
-            for(ReportBaseImpl report : reports) {
-                try {
-                    rpcReportListBuilder.addReports(serverServices.marshal(report));
-                } catch (JAXBException e) {
-                    throw new ServiceException(e);
-                }
-            }
-        }
-        return RpcClient.OpenOrdersResponse.newBuilder().setReports(rpcReportListBuilder.build()).build();
+        RpcClient.ReportList rpcReportList = getRpcReportList(reports,
+                                                              getPayloadFormat(inRequest.getSessionId()));
+        return RpcClient.OpenOrdersResponse.newBuilder().setReports(rpcReportList).build();
     }
     /* (non-Javadoc)
      * @see org.marketcetera.client.RpcClient.RpcClientService.BlockingInterface#getReportsSince(com.google.protobuf.RpcController, org.marketcetera.client.RpcClient.ReportsSinceRequest)
@@ -242,17 +246,29 @@ public class RpcServerServiceImpl<SessionClazz>
         SessionHolder<SessionClazz> sessionInfo = serverServices.validateAndReturnSession(inRequest.getSessionId());
         authzService.authorize(sessionInfo.getUser(),
                                TradingPermissions.ViewReportAction.name());
-        ReportBaseImpl[] reports = serverAdapter.getReportsSince(sessionInfo.getUser(),
-                                                                 new Date(inRequest.getOrigin()));
-        RpcClient.ReportList.Builder rpcReportListBuilder = RpcClient.ReportList.newBuilder();
-        if(reports != null) {
-            for(ReportBaseImpl report : reports) {
+        final RpcClient.ReportList.Builder rpcReportListBuilder = RpcClient.ReportList.newBuilder();
+        final PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
+        final JAXBException[] failure = new JAXBException[1];
+        // each report is converted as it is read so the reports are not also held in an intermediate list
+        serverAdapter.getReportsSince(sessionInfo.getUser(),
+                                      new Date(inRequest.getOrigin()),
+                                      new ReportHandler() {
+            @Override
+            public boolean handle(ReportBase inReport)
+            {
                 try {
-                    rpcReportListBuilder.addReports(serverServices.marshal(report));
+                    addRpcReport(rpcReportListBuilder,
+                                 (ReportBaseImpl)inReport,
+                                 sessionPayloadFormat);
+                    return true;
                 } catch (JAXBException e) {
-                    throw new ServiceException(e);
+                    failure[0] = e;
+                    return false;
                 }
             }
+        });
+        if(failure[0] != null) {
+            throw new ServiceException(failure[0]);
         }
         return RpcClient.ReportsSinceResponse.newBuilder().setReports(rpcReportListBuilder.build()).build();
     }
@@ -268,13 +284,14 @@ public class RpcServerServiceImpl<SessionClazz>
         authzService.authorize(sessionInfo.getUser(),
                                TradingPermissions.ViewPositionAction.name());
         RpcClient.PositionResponse.Builder rpcPositionResponseBuilder = RpcClient.PositionResponse.newBuilder();
+        PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
         try {
             if(inRequest.hasInstrument()) {
                 Instrument instrument;
                 Date origin = new Date(inRequest.getOrigin());
                 BigDecimal position;
                 try {
-                    instrument = serverServices.unmarshall(inRequest.getInstrument().getPayload());
+                    instrument = getInstrument(inRequest.getInstrument());
                 } catch (JAXBException e) {
                     throw new ServiceException(e);
                 }
@@ -311,7 +328,8 @@ public class RpcServerServiceImpl<SessionClazz>
                                 PositionKey<Currency> positionKey = entry.getKey();
                                 RpcClient.PositionKey rpcPositionKey = RpcClient.PositionKey.newBuilder()
                                         .setAccount(positionKey.getAccount()==null?"":positionKey.getAccount())
-                                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(positionKey.getInstrument())))
+                                        .setInstrument(getRpcInstrument(positionKey.getInstrument(),
+                                                                        sessionPayloadFormat))
                                         .setTraderId(positionKey.getTraderId()==null?"":positionKey.getTraderId()).build();
                                 rpcPositionResponseBuilder.addKeys(rpcPositionKey);
                                 rpcPositionResponseBuilder.addValues(entry.getValue().toPlainString());
@@ -326,7 +344,8 @@ public class RpcServerServiceImpl<SessionClazz>
                                 PositionKey<Equity> positionKey = entry.getKey();
                                 RpcClient.PositionKey rpcPositionKey = RpcClient.PositionKey.newBuilder()
                                         .setAccount(positionKey.getAccount()==null?"":positionKey.getAccount())
-                                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(positionKey.getInstrument())))
+                                        .setInstrument(getRpcInstrument(positionKey.getInstrument(),
+                                                                        sessionPayloadFormat))
                                         .setTraderId(positionKey.getTraderId()==null?"":positionKey.getTraderId()).build();
                                 rpcPositionResponseBuilder.addKeys(rpcPositionKey);
                                 rpcPositionResponseBuilder.addValues(entry.getValue().toPlainString());
@@ -341,7 +360,8 @@ public class RpcServerServiceImpl<SessionClazz>
                                 PositionKey<Future> positionKey = entry.getKey();
                                 RpcClient.PositionKey rpcPositionKey = RpcClient.PositionKey.newBuilder()
                                         .setAccount(positionKey.getAccount()==null?"":positionKey.getAccount())
-                                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(positionKey.getInstrument())))
+                                        .setInstrument(getRpcInstrument(positionKey.getInstrument(),
+                                                                        sessionPayloadFormat))
                                         .setTraderId(positionKey.getTraderId()==null?"":positionKey.getTraderId()).build();
                                 rpcPositionResponseBuilder.addKeys(rpcPositionKey);
                                 rpcPositionResponseBuilder.addValues(entry.getValue().toPlainString());
@@ -356,7 +376,8 @@ public class RpcServerServiceImpl<SessionClazz>
                                 PositionKey<Option> positionKey = entry.getKey();
                                 RpcClient.PositionKey rpcPositionKey = RpcClient.PositionKey.newBuilder()
                                         .setAccount(positionKey.getAccount()==null?"":positionKey.getAccount())
-                                        .setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(positionKey.getInstrument())))
+                                        .setInstrument(getRpcInstrument(positionKey.getInstrument(),
+                                                                        sessionPayloadFormat))
                                         .setTraderId(positionKey.getTraderId()==null?"":positionKey.getTraderId()).build();
                                 rpcPositionResponseBuilder.addKeys(rpcPositionKey);
                                 rpcPositionResponseBuilder.addValues(entry.getValue().toPlainString());
@@ -374,7 +395,8 @@ public class RpcServerServiceImpl<SessionClazz>
                         PositionKey<Option> positionKey = entry.getKey();
                         RpcClient.PositionKey rpcPositionKey = RpcClient.PositionKey.newBuilder()
                                 .setAccount(positionKey.getAccount()==null?"":positionKey.getAccount())
-                                .setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(positionKey.getInstrument())))
+                                .setInstrument(getRpcInstrument(positionKey.getInstrument(),
+                                                                        sessionPayloadFormat))
                                 .setTraderId(positionKey.getTraderId()==null?"":positionKey.getTraderId()).build();
                         rpcPositionResponseBuilder.addKeys(rpcPositionKey);
                         rpcPositionResponseBuilder.addValues(entry.getValue().toPlainString());
@@ -465,7 +487,8 @@ public class RpcServerServiceImpl<SessionClazz>
             Instrument instrument = serverAdapter.resolveSymbol(inRequest.getSymbol());
             RpcClient.ResolveSymbolResponse.Builder responseBuilder = RpcClient.ResolveSymbolResponse.newBuilder();
             if(instrument != null) {
-                responseBuilder.setInstrument(RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(instrument)));
+                responseBuilder.setInstrument(getRpcInstrument(instrument,
+                                                               getPayloadFormat(inRequest.getSessionId())));
             }
             return responseBuilder.build();
         } catch (JAXBException e) {
@@ -579,6 +602,14 @@ public class RpcServerServiceImpl<SessionClazz>
     public void setRpcServerServices(RpcServerServices<SessionClazz> inServerServices)
     {
         serverServices = inServerServices;
+        // sessions that expire are never logged out, so forget their payload format when the session ends
+        serverServices.addSessionListener(new SessionListener() {
+            @Override
+            public void removedSession(SessionId inSessionId)
+            {
+                payloadFormats.remove(inSessionId.getValue());
+            }
+        });
     }
     /**
      * Get the serverAdapter value.
@@ -598,6 +629,127 @@ public class RpcServerServiceImpl<SessionClazz>
     {
         serverAdapter = inServerAdapter;
     }
+    /**
+     * Get the payloadFormat value.
+     *
+     * @return a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public PayloadRpc.PayloadFormat getPayloadFormat()
+    {
+        return payloadFormat;
+    }
+    /**
+     * Sets the payloadFormat value.
+     * 
+     * <p>Clients that request the native protobuf format are granted it only if this value is
+     * {@link PayloadRpc.PayloadFormat#PROTOBUF}. All other clients receive XML payloads.
+     *
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public void setPayloadFormat(PayloadRpc.PayloadFormat inPayloadFormat)
+    {
+        payloadFormat = inPayloadFormat;
+    }
+    /**
+     * Gets the payload format agreed with the given session.
+     *
+     * @param inSessionId a <code>String</code> value
+     * @return a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    private PayloadRpc.PayloadFormat getPayloadFormat(String inSessionId)
+    {
+        PayloadRpc.PayloadFormat sessionPayloadFormat = payloadFormats.get(inSessionId);
+        return sessionPayloadFormat == null ? PayloadRpc.PayloadFormat.XML : sessionPayloadFormat;
+    }
+    /**
+     * Builds the RPC report list for the given reports in the given format.
+     * 
+     * <p>Reports with no native form are carried as XML in the native list to preserve their order.
+     *
+     * @param inReports a <code>Collection&lt;ReportBaseImpl&gt;</code> value or <code>null</code>
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     * @return an <code>RpcClient.ReportList</code> value
+     * @throws ServiceException if a report cannot be marshalled
+     */
+    private RpcClient.ReportList getRpcReportList(Collection<ReportBaseImpl> inReports,
+                                                  PayloadRpc.PayloadFormat inPayloadFormat)
+            throws ServiceException
+    {
+        RpcClient.ReportList.Builder rpcReportListBuilder = RpcClient.ReportList.newBuilder();
+        if(inReports != null) {
+            for(ReportBaseImpl report : inReports) {
+                try {
+                    addRpcReport(rpcReportListBuilder,
+                                 report,
+                                 inPayloadFormat);
+                } catch (JAXBException e) {
+                    throw new ServiceException(e);
+                }
+            }
+        }
+        return rpcReportListBuilder.build();
+    }
+    /**
+     * Adds the given report to the given RPC report list in the given payload format.
+     *
+     * @param inRpcReportListBuilder a <code>RpcClient.ReportList.Builder</code> value
+     * @param inReport a <code>ReportBaseImpl</code> value
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     * @throws JAXBException if the report cannot be marshalled
+     */
+    private void addRpcReport(RpcClient.ReportList.Builder inRpcReportListBuilder,
+                              ReportBaseImpl inReport,
+                              PayloadRpc.PayloadFormat inPayloadFormat)
+            throws JAXBException
+    {
+        if(inPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+            PayloadRpc.Report rpcReport = PayloadRpcUtil.getRpcReport(inReport);
+            if(rpcReport == null) {
+                rpcReport = PayloadRpc.Report.newBuilder().setPayload(serverServices.marshal(inReport)).build();
+            }
+            inRpcReportListBuilder.addReportPayloads(rpcReport);
+        } else {
+            inRpcReportListBuilder.addReports(serverServices.marshal(inReport));
+        }
+    }
+    /**
+     * Gets the RPC form of the given instrument in the given format.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     * @return an <code>RpcClient.Instrument</code> value
+     * @throws JAXBException if the instrument cannot be marshalled
+     */
+    private RpcClient.Instrument getRpcInstrument(Instrument inInstrument,
+                                                  PayloadRpc.PayloadFormat inPayloadFormat)
+            throws JAXBException
+    {
+        if(inPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+            PayloadRpc.Instrument rpcInstrument = PayloadRpcUtil.getRpcInstrument(inInstrument);
+            if(rpcInstrument != null) {
+                return RpcClient.Instrument.newBuilder().setInstrument(rpcInstrument).build();
+            }
+        }
+        return RpcClient.Instrument.newBuilder().setPayload(serverServices.marshal(inInstrument)).build();
+    }
+    /**
+     * Gets the instrument from the given RPC form.
+     *
+     * @param inRpcInstrument an <code>RpcClient.Instrument</code> value
+     * @return an <code>Instrument</code> value
+     * @throws JAXBException if the instrument cannot be unmarshalled
+     */
+    private Instrument getInstrument(RpcClient.Instrument inRpcInstrument)
+            throws JAXBException
+    {
+        if(inRpcInstrument.hasInstrument()) {
+            Instrument instrument = PayloadRpcUtil.getInstrument(inRpcInstrument.getInstrument());
+            if(instrument != null) {
+                return instrument;
+            }
+        }
+        return serverServices.unmarshall(inRpcInstrument.getPayload());
+    }
     /**
      * RPC server to which to bind
      */
@@ -615,4 +767,12 @@ public class RpcServerServiceImpl<SessionClazz>
      */
     @Autowired
     private AuthorizationService authzService;
+    /**
+     * most compact payload format offered to clients
+     */
+    private PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
+    /**
+     * payload format agreed with each session by session id
+     */
+    private final Map<String,PayloadRpc.PayloadFormat> payloadFormats = Maps.newConcurrentMap();
 }
@@ -14,6 +14,7 @@ import org.marketcetera.client.users.UserInfo;
 import org.marketcetera.core.CoreException;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.ors.TradingPermissions;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.ors.dao.UserService;
 import org.marketcetera.ors.history.ReportPersistenceException;
 import org.marketcetera.ors.rpc.RpcServerAdapter;
@@ -540,14 +541,16 @@ public class ServiceImpl
         return serviceProvider.getNextOrderId();
     }
     /* (non-Javadoc)
-     * @see org.marketcetera.client.rpc.RpcServerAdapter#getReportsSince(java.lang.String, java.util.Date)
+     * @see org.marketcetera.ors.rpc.RpcServerAdapter#getReportsSince(java.lang.String, java.util.Date, org.marketcetera.ors.dao.ReportHandler)
      */
     @Override
-    public ReportBaseImpl[] getReportsSince(String inUsername,
-                                            Date inOrigin)
+    public void getReportsSince(String inUsername,
+                                Date inOrigin,
+                                ReportHandler inHandler)
     {
-        return serviceProvider.getReportsSince(userService.findByName(inUsername),
-                                               inOrigin);
+        serviceProvider.getReportsSince(userService.findByName(inUsername),
+                                        inOrigin,
+                                        inHandler);
     }
     /* (non-Javadoc)
      * @see org.marketcetera.client.rpc.RpcServerAdapter#getOpenOrders(java.lang.String)
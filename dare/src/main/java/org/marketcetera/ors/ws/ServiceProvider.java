@@ -19,6 +19,7 @@ import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.ors.OptionRootUnderlyingMap;
 import org.marketcetera.ors.OrderRoutingSystem;
 import org.marketcetera.ors.brokers.BrokerService;
+import org.marketcetera.ors.dao.ReportHandler;
 import org.marketcetera.ors.dao.UserService;
 import org.marketcetera.ors.history.ReportHistoryServices;
 import org.marketcetera.ors.security.SimpleUser;
@@ -81,6 +82,21 @@ public class ServiceProvider
         return getHistoryServices().getReportsSince(inUser,
                                                     inDate);
     }
+    /**
+     * Passes the reports since the given date to the given handler one at a time.
+     *
+     * @param inUser a <code>SimpleUser</code> value
+     * @param inDate a <code>Date</code> value
+     * @param inHandler a <code>ReportHandler</code> value
+     */
+    public void getReportsSince(SimpleUser inUser,
+                                Date inDate,
+                                ReportHandler inHandler)
+    {
+        getHistoryServices().getReportsSince(inUser,
+                                             inDate,
+                                             inHandler);
+    }
     /**
      * Returns the open orders visible to the given user.
      *
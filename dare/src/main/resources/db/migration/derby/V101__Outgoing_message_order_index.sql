@@ -0,0 +1 @@
+CREATE INDEX METC.IDX_OUTGOING_MSG_BROKER_ORDER ON METC.OUTGOING_MESSAGES (BROKER_ID, ORDER_ID);
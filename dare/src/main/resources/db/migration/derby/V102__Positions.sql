@@ -0,0 +1,30 @@
+CREATE TABLE METC.POSITIONS (
+	ID BIGINT NOT NULL,
+	LAST_UPDATED TIMESTAMP NOT NULL,
+	UPDATE_COUNT INTEGER NOT NULL,
+	ACCOUNT VARCHAR(255),
+	EXPIRY VARCHAR(255),
+	LAST_FILL_TIME TIMESTAMP,
+	OPTION_TYPE INTEGER,
+	QUANTITY NUMERIC(17,7) NOT NULL,
+	SECURITY_TYPE INTEGER NOT NULL,
+	SNAPSHOT_DATE TIMESTAMP,
+	STRIKE_PRICE NUMERIC(17,7),
+	SYMBOL VARCHAR(255) NOT NULL,
+	ACTOR_ID BIGINT,
+	VIEWER_ID BIGINT,
+	PRIMARY KEY (ID)
+);
+CREATE INDEX METC.IDX_POSITIONS_SYMBOL ON METC.POSITIONS (SECURITY_TYPE, SYMBOL);
+CREATE INDEX METC.IDX_POSITIONS_SNAPSHOT ON METC.POSITIONS (SNAPSHOT_DATE);
+ALTER TABLE METC.POSITIONS
+	ADD FOREIGN KEY (VIEWER_ID) 
+	REFERENCES METC.USERS (ID);
+
+ALTER TABLE METC.POSITIONS
+	ADD FOREIGN KEY (ACTOR_ID) 
+	REFERENCES METC.USERS (ID);
+
+ALTER TABLE METC.EXEC_REPORTS ADD COLUMN POSITION_DELTA NUMERIC(17,7);
+ALTER TABLE METC.EXEC_REPORTS ADD COLUMN TRANSACT_TIME TIMESTAMP;
+CREATE INDEX METC.IDX_EXEC_REPORTS_TRANSACT_TIME ON METC.EXEC_REPORTS (TRANSACT_TIME);
@@ -0,0 +1 @@
+CREATE INDEX `idx_outgoing_msg_broker_order` ON `outgoing_messages` (`broker_id`,`order_id`);
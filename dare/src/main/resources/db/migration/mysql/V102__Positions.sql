@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS `positions` (
+  `id` bigint(20) NOT NULL,
+  `last_updated` timestamp(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  `update_count` int(11) NOT NULL,
+  `account` varchar(255) DEFAULT NULL,
+  `expiry` varchar(255) DEFAULT NULL,
+  `last_fill_time` timestamp(3) NULL DEFAULT NULL,
+  `option_type` int(11) DEFAULT NULL,
+  `quantity` decimal(17,7) NOT NULL,
+  `security_type` int(11) NOT NULL,
+  `snapshot_date` timestamp(3) NULL DEFAULT NULL,
+  `strike_price` decimal(17,7) DEFAULT NULL,
+  `symbol` varchar(255) NOT NULL,
+  `actor_id` bigint(20) DEFAULT NULL,
+  `viewer_id` bigint(20) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_positions_symbol` (`security_type`,`symbol`),
+  KEY `idx_positions_snapshot` (`snapshot_date`),
+  KEY `fk_positions_actor` (`actor_id`),
+  KEY `fk_positions_viewer` (`viewer_id`),
+  CONSTRAINT `fk_positions_actor` FOREIGN KEY (`actor_id`) REFERENCES `users` (`id`),
+  CONSTRAINT `fk_positions_viewer` FOREIGN KEY (`viewer_id`) REFERENCES `users` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+ALTER TABLE `exec_reports` ADD COLUMN `position_delta` decimal(17,7) DEFAULT NULL;
+ALTER TABLE `exec_reports` ADD COLUMN `transact_time` timestamp(3) NULL DEFAULT NULL;
+CREATE INDEX `idx_exec_reports_transact_time` ON `exec_reports` (`transact_time`);
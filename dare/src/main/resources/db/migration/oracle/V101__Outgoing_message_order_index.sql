@@ -0,0 +1 @@
+CREATE INDEX "IDX_OUTGOING_MSG_BROKER_ORDER" ON "OUTGOING_MESSAGES" ("BROKER_ID", "ORDER_ID");
@@ -0,0 +1,24 @@
+CREATE TABLE "POSITIONS"
+   (    "ID" NUMBER(19,0) NOT NULL ENABLE,
+    "LAST_UPDATED" TIMESTAMP (6) NOT NULL ENABLE,
+    "UPDATE_COUNT" NUMBER(10,0) NOT NULL ENABLE,
+    "ACCOUNT" VARCHAR2(255 CHAR),
+    "EXPIRY" VARCHAR2(255 CHAR),
+    "LAST_FILL_TIME" TIMESTAMP (6),
+    "OPTION_TYPE" NUMBER(10,0),
+    "QUANTITY" NUMBER(17,7) NOT NULL ENABLE,
+    "SECURITY_TYPE" NUMBER(10,0) NOT NULL ENABLE,
+    "SNAPSHOT_DATE" TIMESTAMP (6),
+    "STRIKE_PRICE" NUMBER(17,7),
+    "SYMBOL" VARCHAR2(255 CHAR) NOT NULL ENABLE,
+    "ACTOR_ID" NUMBER(19,0),
+    "VIEWER_ID" NUMBER(19,0),
+    PRIMARY KEY ("ID")
+   );
+CREATE INDEX "IDX_POSITIONS_SYMBOL" ON "POSITIONS" ("SECURITY_TYPE", "SYMBOL");
+CREATE INDEX "IDX_POSITIONS_SNAPSHOT" ON "POSITIONS" ("SNAPSHOT_DATE");
+ALTER TABLE "POSITIONS" ADD CONSTRAINT "FK_POSITIONS_ACTOR" FOREIGN KEY ("ACTOR_ID") REFERENCES "USERS" ("ID") ENABLE;
+ALTER TABLE "POSITIONS" ADD CONSTRAINT "FK_POSITIONS_VIEWER" FOREIGN KEY ("VIEWER_ID") REFERENCES "USERS" ("ID") ENABLE;
+ALTER TABLE "EXEC_REPORTS" ADD ("POSITION_DELTA" NUMBER(17,7));
+ALTER TABLE "EXEC_REPORTS" ADD ("TRANSACT_TIME" TIMESTAMP (6));
+CREATE INDEX "IDX_EXEC_REPORTS_TRANSACT_TIME" ON "EXEC_REPORTS" ("TRANSACT_TIME");
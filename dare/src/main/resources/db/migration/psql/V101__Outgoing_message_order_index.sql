@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_outgoing_msg_broker_order ON public.outgoing_messages USING btree (broker_id, order_id);
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS public.positions (
+    id bigint NOT NULL,
+    last_updated timestamp without time zone NOT NULL,
+    update_count integer NOT NULL,
+    account character varying(255),
+    expiry character varying(255),
+    last_fill_time timestamp without time zone,
+    option_type integer,
+    quantity numeric(17,7) NOT NULL,
+    security_type integer NOT NULL,
+    snapshot_date timestamp without time zone,
+    strike_price numeric(17,7),
+    symbol character varying(255) NOT NULL,
+    actor_id bigint,
+    viewer_id bigint,
+    CONSTRAINT positions_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_positions_actor FOREIGN KEY (actor_id) REFERENCES public.users(id),
+    CONSTRAINT fk_positions_viewer FOREIGN KEY (viewer_id) REFERENCES public.users(id)
+);
+CREATE INDEX IF NOT EXISTS idx_positions_symbol ON public.positions USING btree (security_type, symbol);
+CREATE INDEX IF NOT EXISTS idx_positions_snapshot ON public.positions USING btree (snapshot_date);
+ALTER TABLE public.exec_reports ADD COLUMN IF NOT EXISTS position_delta numeric(17,7);
+ALTER TABLE public.exec_reports ADD COLUMN IF NOT EXISTS transact_time timestamp without time zone;
+CREATE INDEX IF NOT EXISTS idx_exec_reports_transact_time ON public.exec_reports USING btree (transact_time);
@@ -15,6 +15,7 @@ import org.marketcetera.core.instruments.InstrumentToMessage;
 import org.marketcetera.core.position.PositionKey;
 import org.marketcetera.event.EventTestBase;
 import org.marketcetera.fix.FixSession;
+import org.marketcetera.ors.dao.PositionService;
 import org.marketcetera.ors.security.SimpleUser;
 import org.marketcetera.quickfix.FIXMessageFactory;
 import org.marketcetera.quickfix.FIXMessageUtil;
@@ -130,6 +131,62 @@ public class PositionTest
         doAllPositionsTest(new Option("METC","201811",EventTestBase.generateDecimalValue(),OptionType.Put),
                            FIXVersion.FIX42);
     }
+    /**
+     * Tests positions as of dates before, at, and after a position snapshot.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPositionSnapshot()
+            throws Exception
+    {
+        Instrument instrument = new Equity("SNAPSHOT_" + counter.incrementAndGet());
+        setupSession(FIXVersion.FIX42);
+        PositionService positionService = applicationContext.getBean(PositionService.class);
+        BigDecimal orderQty = new BigDecimal(10000);
+        BigDecimal fillQty = new BigDecimal(1000);
+        generatePosition(instrument,
+                         orderQty,
+                         fillQty);
+        Date snapshotDate = new Date();
+        positionService.createSnapshot(snapshotDate);
+        // fills are placed in time by their transact time, which the test sets one second before the fill is sent
+        Thread.sleep(1500);
+        Date beforeSecondFill = new Date();
+        Thread.sleep(1500);
+        generatePosition(instrument,
+                         orderQty,
+                         fillQty);
+        // current positions come from the maintained positions
+        verifySinglePosition(instrument,
+                             fillQty.add(fillQty),
+                             new Date());
+        verifyPositionFromAllPositions(instrument,
+                                       fillQty.add(fillQty),
+                                       new Date());
+        // earlier positions come from the snapshot and the fills since it
+        verifySinglePosition(instrument,
+                             fillQty,
+                             snapshotDate);
+        verifySinglePosition(instrument,
+                             fillQty,
+                             beforeSecondFill);
+        verifyPositionFromAllPositions(instrument,
+                                       fillQty,
+                                       beforeSecondFill);
+        // a later snapshot includes both fills and answers the same
+        Date secondSnapshotDate = new Date();
+        positionService.createSnapshot(secondSnapshotDate);
+        verifySinglePosition(instrument,
+                             fillQty.add(fillQty),
+                             secondSnapshotDate);
+        verifySinglePosition(instrument,
+                             fillQty,
+                             beforeSecondFill);
+        verifySinglePosition(instrument,
+                             BigDecimal.ZERO,
+                             new Date(0));
+    }
     /* (non-Javadoc)
      * @see com.marketcetera.test.MarketceteraTestBase#getFixVersion()
      */
@@ -0,0 +1,288 @@
+package org.marketcetera.ors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.ors.dao.PersistentReportDao;
+import org.marketcetera.ors.history.PersistentReport;
+import org.marketcetera.ors.history.ReportType;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.OrderStatus;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+
+import quickfix.Message;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.OrdStatus;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Side;
+import quickfix.field.TargetCompID;
+
+/* $License$ */
+
+/**
+ * Tests {@link ReportCache}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class ReportCacheTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        ReportCache.INSTANCE.setReportDao(null);
+        ReportCache.INSTANCE.setMaxSize(100000);
+        ReportCache.INSTANCE.setExpiration(TimeUnit.DAYS.toMillis(1));
+        ReportCache.INSTANCE.setMissExpiration(TimeUnit.SECONDS.toMillis(5));
+    }
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        ReportCache.INSTANCE.setReportDao(null);
+        ReportCache.INSTANCE.clear();
+    }
+    /**
+     * Tests caching and clearing reports for open orders.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOpenOrder()
+            throws Exception
+    {
+        assertNull(ReportCache.INSTANCE.getLatestReportFor(null));
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-1"));
+        ExecutionReport report = generateReport("order-1",
+                                                OrdStatus.PARTIALLY_FILLED);
+        ReportCache.INSTANCE.cache(report);
+        assertSame(report,
+                   ReportCache.INSTANCE.getLatestReportFor("order-1"));
+        ReportCache.INSTANCE.clear(report);
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-1"));
+    }
+    /**
+     * Tests that reports for closed orders are rebuilt from the compact form.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testClosedOrder()
+            throws Exception
+    {
+        ExecutionReport report = generateReport("order-2",
+                                                OrdStatus.FILLED);
+        ReportCache.INSTANCE.cache(report);
+        // the report is compacted on first read rather than when it is cached
+        assertSame(report,
+                   ReportCache.INSTANCE.getLatestReportFor("order-2"));
+        ExecutionReport cachedReport = ReportCache.INSTANCE.getLatestReportFor("order-2");
+        assertNotSame(report,
+                      cachedReport);
+        assertEquals(OrderStatus.Filled,
+                     cachedReport.getOrderStatus());
+        assertEquals(report.getOrderID(),
+                     cachedReport.getOrderID());
+        assertEquals(report.getReportID(),
+                     cachedReport.getReportID());
+        assertEquals(report.getBrokerID(),
+                     cachedReport.getBrokerID());
+        assertEquals(report.getOriginator(),
+                     cachedReport.getOriginator());
+        assertEquals(report.getCumulativeQuantity(),
+                     cachedReport.getCumulativeQuantity());
+    }
+    /**
+     * Tests that the cache does not grow beyond its maximum size.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMaxSize()
+            throws Exception
+    {
+        ReportCache.INSTANCE.setMaxSize(10);
+        for(int i=0;i<100;i++) {
+            ReportCache.INSTANCE.cache(generateReport("order-" + i,
+                                                      OrdStatus.NEW));
+        }
+        assertTrue(ReportCache.INSTANCE.size() <= 10);
+    }
+    /**
+     * Tests reading reports that are not cached from persistence.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testLoad()
+            throws Exception
+    {
+        PersistentReportDao reportDao = mock(PersistentReportDao.class);
+        ExecutionReport report1 = generateReport("order-3",
+                                                 OrdStatus.NEW);
+        ExecutionReport report2 = generateReport("order-4",
+                                                 OrdStatus.CANCELED);
+        when(reportDao.findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                             eq(ReportType.ExecutionReport))).thenReturn(Arrays.asList(new PersistentReport(report1,null,null),
+                                                                                                       new PersistentReport(report2,null,null)));
+        ReportCache.INSTANCE.setReportDao(reportDao);
+        ExecutionReport cachedReport = generateReport("order-5",
+                                                      OrdStatus.NEW);
+        ReportCache.INSTANCE.cache(cachedReport);
+        Map<String,ExecutionReport> reports = ReportCache.INSTANCE.getLatestReportsFor(Arrays.asList("order-3","order-4","order-5","order-6"));
+        assertEquals(3,
+                     reports.size());
+        assertSame(cachedReport,
+                   reports.get("order-5"));
+        assertEquals(report1.getReportID(),
+                     reports.get("order-3").getReportID());
+        assertEquals(OrderStatus.Canceled,
+                     reports.get("order-4").getOrderStatus());
+        verify(reportDao,
+               times(1)).findLatestByOrderIdIn(Arrays.asList("order-3","order-4","order-6"),
+                                               ReportType.ExecutionReport);
+        // loaded reports are now cached
+        assertEquals(report1.getReportID(),
+                     ReportCache.INSTANCE.getLatestReportFor("order-3").getReportID());
+        verify(reportDao,
+               times(1)).findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                               eq(ReportType.ExecutionReport));
+        // a failing load is reported to the caller and not remembered
+        when(reportDao.findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                             eq(ReportType.ExecutionReport))).thenThrow(new IllegalStateException("This exception is expected"));
+        new ExpectedFailure<IllegalStateException>("This exception is expected") {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                ReportCache.INSTANCE.getLatestReportsFor(Collections.singletonList("order-7"));
+            }
+        };
+        new ExpectedFailure<IllegalStateException>("This exception is expected") {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                ReportCache.INSTANCE.getLatestReportFor("order-7");
+            }
+        };
+    }
+    /**
+     * Tests that order ids with no persisted report are remembered until they expire or a report is cached.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testUnknownOrder()
+            throws Exception
+    {
+        PersistentReportDao reportDao = mock(PersistentReportDao.class);
+        when(reportDao.findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                             eq(ReportType.ExecutionReport))).thenReturn(Collections.<PersistentReport>emptyList());
+        ReportCache.INSTANCE.setReportDao(reportDao);
+        ReportCache.INSTANCE.setMissExpiration(TimeUnit.MINUTES.toMillis(1));
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-8"));
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-8"));
+        assertEquals(Collections.emptyMap(),
+                     ReportCache.INSTANCE.getLatestReportsFor(Collections.singletonList("order-8")));
+        verify(reportDao,
+               times(1)).findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                               eq(ReportType.ExecutionReport));
+        // caching a report replaces the unknown entry
+        ExecutionReport report = generateReport("order-8",
+                                                OrdStatus.NEW);
+        ReportCache.INSTANCE.cache(report);
+        assertSame(report,
+                   ReportCache.INSTANCE.getLatestReportFor("order-8"));
+        // unknown entries expire
+        ReportCache.INSTANCE.setMissExpiration(100);
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-9"));
+        Thread.sleep(250);
+        assertNull(ReportCache.INSTANCE.getLatestReportFor("order-9"));
+        verify(reportDao,
+               times(3)).findLatestByOrderIdIn(anyCollectionOf(String.class),
+                                               eq(ReportType.ExecutionReport));
+    }
+    /**
+     * Generates an execution report for the given order.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inOrderStatus a <code>char</code> value
+     * @return an <code>ExecutionReport</code> value
+     * @throws Exception if the report cannot be generated
+     */
+    private ExecutionReport generateReport(String inOrderId,
+                                           char inOrderStatus)
+            throws Exception
+    {
+        Message message = FIXVersion.FIX42.getMessageFactory().newExecutionReport(inOrderId,
+                                                                                  inOrderId,
+                                                                                  "exec-" + (++counter),
+                                                                                  inOrderStatus,
+                                                                                  Side.BUY,
+                                                                                  BigDecimal.TEN,
+                                                                                  BigDecimal.ONE,
+                                                                                  BigDecimal.ONE,
+                                                                                  BigDecimal.ONE,
+                                                                                  BigDecimal.ONE,
+                                                                                  BigDecimal.ONE,
+                                                                                  new Equity("METC"),
+                                                                                  "account",
+                                                                                  "text");
+        message.getHeader().setField(new SenderCompID("broker"));
+        message.getHeader().setField(new TargetCompID("dare"));
+        message.getHeader().setField(new MsgSeqNum(counter));
+        message.getHeader().setField(new SendingTime(new Date()));
+        ExecutionReport report = Factory.getInstance().createExecutionReport(message,
+                                                                             new BrokerID("broker"),
+                                                                             Originator.Broker,
+                                                                             null,
+                                                                             null);
+        ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                      new ReportID(counter));
+        return report;
+    }
+    /**
+     * generates unique values
+     */
+    private int counter;
+}
@@ -0,0 +1,188 @@
+package org.marketcetera.ors;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.ors.dao.ReportHandler;
+import org.marketcetera.ors.dao.impl.ReportServiceImpl;
+import org.marketcetera.ors.history.RootOrderIdFactory;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.test.MarketceteraTestBase;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.springframework.test.util.AopTestUtils;
+
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.OrdStatus;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Side;
+import quickfix.field.TargetCompID;
+
+/* $License$ */
+
+/**
+ * Tests reading back reports with {@link org.marketcetera.ors.dao.ReportService#getReportsSince(SimpleUser, Date)}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class ReportsSinceTest
+        extends MarketceteraTestBase
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        super.setup();
+        SimpleUser newUser = new SimpleUser();
+        newUser.setName("reports-" + generateId());
+        newUser.setPassword("reports".toCharArray());
+        newUser.setActive(true);
+        user = userService.save(newUser);
+        senderCompId = "broker-" + generateId();
+    }
+    /**
+     * Tests reading more reports than fit in a page when all the reports have the same sending time.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPagesWithEqualSendingTimes()
+            throws Exception
+    {
+        // whole seconds, so the stored sending time matches the query date exactly
+        Date sendingTime = new Date(System.currentTimeMillis() / 1000 * 1000);
+        // reports before the given date are not returned, even the user's own
+        saveReports(new Date(sendingTime.getTime() - 60000),
+                    1);
+        List<ReportID> expectedReportIds = saveReports(sendingTime,
+                                                       REPORT_COUNT);
+        ReportServiceImpl reportServiceImpl = AopTestUtils.getTargetObject(reportService);
+        int reportPageSize = reportServiceImpl.getReportPageSize();
+        reportServiceImpl.setReportPageSize(2);
+        try {
+            List<ReportID> reportIds = new ArrayList<>();
+            for(ReportBase report : reportService.getReportsSince(user,
+                                                                  sendingTime)) {
+                reportIds.add(report.getReportID());
+            }
+            assertEquals(expectedReportIds,
+                         reportIds);
+            // the handler can stop reading part way through a page
+            final List<ReportID> handledReportIds = new ArrayList<>();
+            reportService.getReportsSince(user,
+                                          sendingTime,
+                                          new ReportHandler() {
+                @Override
+                public boolean handle(ReportBase inReport)
+                {
+                    handledReportIds.add(inReport.getReportID());
+                    return handledReportIds.size() < 3;
+                }
+            });
+            assertEquals(expectedReportIds.subList(0,
+                                                   3),
+                         handledReportIds);
+        } finally {
+            reportServiceImpl.setReportPageSize(reportPageSize);
+        }
+    }
+    /**
+     * Saves the given number of execution reports viewed by the test user with the given sending time.
+     *
+     * @param inSendingTime a <code>Date</code> value
+     * @param inCount an <code>int</code> value
+     * @return a <code>List&lt;ReportID&gt;</code> value containing the IDs of the saved reports in the order they were saved
+     * @throws Exception if the reports cannot be saved
+     */
+    private List<ReportID> saveReports(Date inSendingTime,
+                                       int inCount)
+            throws Exception
+    {
+        RootOrderIdFactory rootOrderIdFactory = applicationContext.getBean(RootOrderIdFactory.class);
+        List<ReportBase> reports = new ArrayList<>();
+        List<ReportID> reportIds = new ArrayList<>();
+        for(int i=0;i<inCount;i++) {
+            String orderId = generateId();
+            Message order = fixMessageFactory.newBasicOrder();
+            order.setField(new ClOrdID(orderId));
+            rootOrderIdFactory.receiveOutgoingMessage(order);
+            Message message = fixMessageFactory.newExecutionReport(orderId,
+                                                                   orderId,
+                                                                   generateId(),
+                                                                   OrdStatus.NEW,
+                                                                   Side.BUY,
+                                                                   BigDecimal.TEN,
+                                                                   BigDecimal.ONE,
+                                                                   BigDecimal.ZERO,
+                                                                   BigDecimal.ZERO,
+                                                                   BigDecimal.ZERO,
+                                                                   BigDecimal.ZERO,
+                                                                   new Equity("METC"),
+                                                                   "account",
+                                                                   null);
+            message.getHeader().setField(new SenderCompID(senderCompId));
+            message.getHeader().setField(new TargetCompID("dare"));
+            message.getHeader().setField(new MsgSeqNum(sequenceNumber++));
+            message.getHeader().setField(new SendingTime(inSendingTime));
+            ReportBase report = Factory.getInstance().createExecutionReport(message,
+                                                                            new BrokerID(senderCompId),
+                                                                            Originator.Broker,
+                                                                            user.getUserID(),
+                                                                            user.getUserID());
+            ReportID reportId = new ReportID(reportIdBase + sequenceNumber);
+            ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                          reportId);
+            reports.add(report);
+            reportIds.add(reportId);
+        }
+        reportService.save(reports);
+        return reportIds;
+    }
+    /**
+     * number of reports read back, more than fit in a page
+     */
+    private static final int REPORT_COUNT = 7;
+    /**
+     * creates test FIX messages
+     */
+    private final FIXMessageFactory fixMessageFactory = FIXVersion.FIX42.getMessageFactory();
+    /**
+     * first report ID used by this test
+     */
+    private final long reportIdBase = System.currentTimeMillis() * 1000;
+    /**
+     * next sequence number of the test broker
+     */
+    private int sequenceNumber = 1;
+    /**
+     * owner and viewer of the saved reports
+     */
+    private SimpleUser user;
+    /**
+     * sender of the saved reports
+     */
+    private String senderCompId;
+}
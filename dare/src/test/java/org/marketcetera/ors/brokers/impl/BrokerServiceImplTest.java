@@ -0,0 +1,153 @@
+package org.marketcetera.ors.brokers.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.cluster.service.ClusterMember;
+import org.marketcetera.cluster.service.ClusterService;
+import org.marketcetera.fix.dao.FixSessionAttributeDescriptorDao;
+import org.marketcetera.fix.dao.FixSessionDao;
+import org.marketcetera.fix.dao.PersistentFixSession;
+import org.marketcetera.ors.brokers.Broker;
+import org.marketcetera.trade.BrokerID;
+
+import quickfix.SessionID;
+
+/* $License$ */
+
+/**
+ * Tests the broker registry of {@link BrokerServiceImpl}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class BrokerServiceImplTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        fixSessionDao = mock(FixSessionDao.class);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterMembers()).thenReturn(Collections.<ClusterMember>emptySet());
+        session = mock(PersistentFixSession.class);
+        when(session.getSessionId()).thenReturn(sessionId.toString());
+        when(session.getBrokerId()).thenReturn(brokerId.getValue());
+        when(session.getName()).thenReturn("test-session"); //$NON-NLS-1$
+        when(session.getHost()).thenReturn("localhost"); //$NON-NLS-1$
+        when(session.getPort()).thenReturn(9800);
+        when(session.getSessionSettings()).thenReturn(new HashMap<String,String>());
+        when(fixSessionDao.findBySessionIdAndIsDeletedFalse(sessionId.toString())).thenReturn(session);
+        when(fixSessionDao.findByBrokerIdAndIsDeletedFalse(brokerId.getValue())).thenReturn(session);
+        service = new BrokerServiceImpl();
+        service.setClusterService(clusterService);
+        service.setFixSessionDao(fixSessionDao);
+        service.setFixSessionAttributeDescriptorDao(mock(FixSessionAttributeDescriptorDao.class));
+        service.start();
+    }
+    /**
+     * Tests that brokers are read from the data store once and then found by either key.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testRegisteredBroker()
+            throws Exception
+    {
+        Broker broker = service.getBroker(sessionId);
+        assertEquals(brokerId,
+                     broker.getBrokerID());
+        assertSame(broker,
+                   service.getBroker(sessionId));
+        assertSame(broker,
+                   service.getBroker(brokerId));
+        verify(fixSessionDao,times(1)).findBySessionIdAndIsDeletedFalse(sessionId.toString());
+        verify(fixSessionDao,times(0)).findByBrokerIdAndIsDeletedFalse(brokerId.getValue());
+        assertNull(service.getBroker(new BrokerID("unknown"))); //$NON-NLS-1$
+    }
+    /**
+     * Tests that session changes announced to the listeners drop the broker from the registry.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSessionChange()
+            throws Exception
+    {
+        Broker broker = service.getBroker(brokerId);
+        assertSame(broker,
+                   service.getBroker(sessionId));
+        service.sessionDisabled(session);
+        Broker disabledBroker = service.getBroker(sessionId);
+        assertNotSame(broker,
+                      disabledBroker);
+        assertSame(disabledBroker,
+                   service.getBroker(brokerId));
+        service.sessionStopped(session);
+        assertSame(disabledBroker,
+                   service.getBroker(brokerId));
+        service.sessionEnabled(session);
+        assertNotSame(disabledBroker,
+                      service.getBroker(brokerId));
+        verify(fixSessionDao,times(1)).findBySessionIdAndIsDeletedFalse(sessionId.toString());
+        verify(fixSessionDao,times(2)).findByBrokerIdAndIsDeletedFalse(brokerId.getValue());
+    }
+    /**
+     * Tests that brokers without a cluster broker status are dropped when the cluster changes.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testClusterChange()
+            throws Exception
+    {
+        Broker broker = service.getBroker(sessionId);
+        service.memberChanged(mock(ClusterMember.class));
+        assertNotSame(broker,
+                      service.getBroker(sessionId));
+        verify(fixSessionDao,times(2)).findBySessionIdAndIsDeletedFalse(sessionId.toString());
+    }
+    /**
+     * session used by the tests
+     */
+    private final SessionID sessionId = new SessionID("FIX.4.4", //$NON-NLS-1$
+                                                      "SENDER", //$NON-NLS-1$
+                                                      "TARGET"); //$NON-NLS-1$
+    /**
+     * broker used by the tests
+     */
+    private final BrokerID brokerId = new BrokerID("test-broker"); //$NON-NLS-1$
+    /**
+     * FIX session of the test broker
+     */
+    private PersistentFixSession session;
+    /**
+     * test FIX session data store
+     */
+    private FixSessionDao fixSessionDao;
+    /**
+     * test cluster service
+     */
+    private ClusterService clusterService;
+    /**
+     * service under test
+     */
+    private BrokerServiceImpl service;
+}
@@ -0,0 +1,144 @@
+package org.marketcetera.ors.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.marketcetera.ors.history.PersistentPosition;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.trade.OptionType;
+import org.marketcetera.trade.SecurityType;
+import org.marketcetera.trade.Side;
+
+/* $License$ */
+
+/**
+ * Tests {@link PositionServiceImpl}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class PositionServiceImplTest
+{
+    /**
+     * Tests the change in position calculated from cumulative quantities.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPositionDelta()
+            throws Exception
+    {
+        assertEquals(new BigDecimal("100"),
+                     PositionServiceImpl.getPositionDelta(Side.Buy,
+                                                          new BigDecimal("100"),
+                                                          null));
+        assertEquals(new BigDecimal("40"),
+                     PositionServiceImpl.getPositionDelta(Side.Buy,
+                                                          new BigDecimal("100"),
+                                                          new BigDecimal("60")));
+        assertEquals(new BigDecimal("-40"),
+                     PositionServiceImpl.getPositionDelta(Side.Sell,
+                                                          new BigDecimal("100"),
+                                                          new BigDecimal("60")));
+        assertEquals(new BigDecimal("-25"),
+                     PositionServiceImpl.getPositionDelta(Side.SellShort,
+                                                          new BigDecimal("25"),
+                                                          BigDecimal.ZERO));
+        // reports that do not change the cumulative quantity do not change the position
+        assertNull(PositionServiceImpl.getPositionDelta(Side.Buy,
+                                                        new BigDecimal("60"),
+                                                        new BigDecimal("60.00")));
+        assertNull(PositionServiceImpl.getPositionDelta(Side.Buy,
+                                                        BigDecimal.ZERO,
+                                                        null));
+        assertNull(PositionServiceImpl.getPositionDelta(Side.Buy,
+                                                        null,
+                                                        new BigDecimal("60")));
+    }
+    /**
+     * Tests that positions with the same key are summed.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testAddPositions()
+            throws Exception
+    {
+        SimpleUser trader = mock(SimpleUser.class);
+        when(trader.getId()).thenReturn(1L);
+        SimpleUser otherTrader = mock(SimpleUser.class);
+        when(otherTrader.getId()).thenReturn(2L);
+        Map<List<Object>,PersistentPosition> positions = new LinkedHashMap<>();
+        PositionServiceImpl.addPositions(positions,
+                                         Arrays.asList(createPosition("METC",new BigDecimal("10"),trader,new Date(1000)),
+                                                       createPosition("METC",new BigDecimal("-4"),trader,new Date(3000)),
+                                                       createPosition("METC",new BigDecimal("7"),otherTrader,new Date(2000)),
+                                                       createPosition("GOOG",new BigDecimal("5"),trader,null)));
+        assertEquals(3,
+                     positions.size());
+        PersistentPosition position = positions.values().iterator().next();
+        assertEquals(new BigDecimal("6"),
+                     position.getQuantity());
+        assertEquals(new Date(3000),
+                     position.getLastFillTime());
+        // strike prices that differ only in scale are the same position
+        PersistentPosition option = new PersistentPosition(SecurityType.Option,
+                                                           "METC",
+                                                           "20190119",
+                                                           new BigDecimal("10.0000000"),
+                                                           OptionType.Call,
+                                                           null,
+                                                           trader,
+                                                           trader,
+                                                           BigDecimal.ONE,
+                                                           null);
+        PersistentPosition sameOption = new PersistentPosition(SecurityType.Option,
+                                                               "METC",
+                                                               "20190119",
+                                                               new BigDecimal("10"),
+                                                               OptionType.Call,
+                                                               null,
+                                                               trader,
+                                                               trader,
+                                                               BigDecimal.ONE,
+                                                               null);
+        assertEquals(PositionServiceImpl.getPositionKey(option),
+                     PositionServiceImpl.getPositionKey(sameOption));
+    }
+    /**
+     * Creates an equity position for the given trader.
+     *
+     * @param inSymbol a <code>String</code> value
+     * @param inQuantity a <code>BigDecimal</code> value
+     * @param inTrader a <code>SimpleUser</code> value
+     * @param inLastFillTime a <code>Date</code> value
+     * @return a <code>PersistentPosition</code> value
+     */
+    private PersistentPosition createPosition(String inSymbol,
+                                              BigDecimal inQuantity,
+                                              SimpleUser inTrader,
+                                              Date inLastFillTime)
+    {
+        return new PersistentPosition(SecurityType.CommonStock,
+                                      inSymbol,
+                                      null,
+                                      null,
+                                      null,
+                                      "account",
+                                      inTrader,
+                                      inTrader,
+                                      inQuantity,
+                                      inLastFillTime);
+    }
+}
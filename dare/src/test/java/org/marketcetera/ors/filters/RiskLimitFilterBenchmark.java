@@ -0,0 +1,134 @@
+package org.marketcetera.ors.filters;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.marketcetera.core.CoreException;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.Equity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.Side;
+import quickfix.field.TimeInForce;
+
+/* $License$ */
+
+/**
+ * Measures the time {@link RiskLimitFilter} adds to each order.
+ *
+ * <p>Orders are spread over the given number of instruments with all limits enabled and set high enough that every
+ * order is accepted. Run from the <code>dare</code> directory with
+ * <code>java -cp &lt;test classpath&gt; org.marketcetera.ors.filters.RiskLimitFilterBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class RiskLimitFilterBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(RiskLimitFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Prepares the filter and the orders to check.
+     */
+    @Setup
+    public void setup()
+    {
+        SimpleUser user = mock(SimpleUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getName()).thenReturn("trader");
+        messageInfo = mock(OrderFilter.MessageInfo.class);
+        when(messageInfo.getUser()).thenReturn(user);
+        filter = new RiskLimitFilter();
+        filter.setJmxName(null);
+        filter.setMaxOpenOrders(Integer.MAX_VALUE);
+        filter.setMaxOpenNotional(new BigDecimal("1E15"));
+        filter.setMaxPosition(new BigDecimal("1E15"));
+        filter.setMaxOrdersPerWindow(Integer.MAX_VALUE);
+        filter.start();
+        FIXMessageFactory messageFactory = FIXVersion.FIX42.getMessageFactory();
+        orders = new Message[instruments];
+        for(int i=0;i<instruments;i++) {
+            orders[i] = messageFactory.newLimitOrder("order",
+                                                     i % 2 == 0 ? Side.BUY : Side.SELL,
+                                                     BigDecimal.ONE,
+                                                     new Equity("SYM" + i),
+                                                     BigDecimal.TEN,
+                                                     TimeInForce.DAY,
+                                                     "account");
+        }
+    }
+    /**
+     * Checks one order.
+     *
+     * @return a <code>boolean</code> value
+     * @throws CoreException if the order is rejected
+     */
+    @Benchmark
+    public boolean checkOrder()
+            throws CoreException
+    {
+        long orderId = counter.incrementAndGet();
+        Message order = (Message)orders[(int)(orderId % instruments)].clone();
+        order.setField(new ClOrdID(String.valueOf(orderId)));
+        return filter.isAccepted(messageInfo,
+                                 order);
+    }
+    /**
+     * number of instruments to spread orders over
+     */
+    @Param({"1","100"})
+    public int instruments;
+    /**
+     * filter under test
+     */
+    private RiskLimitFilter filter;
+    /**
+     * user sending the orders
+     */
+    private OrderFilter.MessageInfo messageInfo;
+    /**
+     * order templates by instrument
+     */
+    private Message[] orders;
+    /**
+     * generates order ids
+     */
+    private final AtomicLong counter = new AtomicLong();
+}
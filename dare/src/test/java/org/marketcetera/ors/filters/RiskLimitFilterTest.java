@@ -0,0 +1,622 @@
+package org.marketcetera.ors.filters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.core.CoreException;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.marketdata.Content;
+import org.marketcetera.marketdata.core.manager.MarketDataManager;
+import org.marketcetera.ors.dao.PositionService;
+import org.marketcetera.ors.history.PersistentPosition;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.SecurityType;
+import org.marketcetera.trade.UserID;
+
+import quickfix.Message;
+import quickfix.field.Account;
+import quickfix.field.ClOrdID;
+import quickfix.field.ExecType;
+import quickfix.field.LastShares;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.OrigClOrdID;
+import quickfix.field.OrdStatus;
+import quickfix.field.Price;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Side;
+import quickfix.field.Symbol;
+import quickfix.field.TargetCompID;
+import quickfix.field.TimeInForce;
+import quickfix.field.TransactTime;
+
+/* $License$ */
+
+/**
+ * Tests {@link RiskLimitFilter}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class RiskLimitFilterTest
+{
+    /**
+     * Runs before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        user = mock(SimpleUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getName()).thenReturn("trader");
+        messageInfo = mock(OrderFilter.MessageInfo.class);
+        when(messageInfo.getUser()).thenReturn(user);
+        filter = new RiskLimitFilter();
+        filter.setJmxName(null);
+        filter.start();
+    }
+    /**
+     * Tests the open order and position limits and that fills and closed orders are applied to them.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOpenOrdersAndPosition()
+            throws Exception
+    {
+        filter.setMaxOpenOrders(2);
+        filter.setMaxPosition(new BigDecimal("250"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"100")));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-2",Side.BUY,"100")));
+        assertRejected(newOrder("order-3",Side.BUY,"10"));
+        assertEquals(2,
+                     filter.getOpenOrderCount());
+        // a complete fill closes the order and moves its quantity to the position
+        filter.receiveExecutionReport(newReport("order-1",OrdStatus.FILLED,Side.BUY,"100","100"));
+        assertEquals(1,
+                     filter.getOpenOrderCount());
+        assertEquals(100,
+                     filter.getUtilization().get(0).getPosition(),
+                     0.0001);
+        // 100 filled plus 100 open plus 60 exceeds the position limit
+        assertRejected(newOrder("order-4",Side.BUY,"60"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-5",Side.BUY,"50")));
+        // sells reduce the position and are checked against open sells only
+        filter.receiveExecutionReport(newReport("order-2",OrdStatus.CANCELED,Side.BUY,"100","0"));
+        filter.receiveExecutionReport(newReport("order-5",OrdStatus.CANCELED,Side.BUY,"50","0"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-6",Side.SELL,"300")));
+        assertRejected(newOrder("order-7",Side.SELL,"60"));
+        assertEquals(4,
+                     filter.getAcceptedOrderCount());
+        assertEquals(3,
+                     filter.getRejectedOrderCount());
+        // positions are tracked per account
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-8",Side.BUY,"200",METC,"other-account")));
+        filter.reset();
+        assertEquals(0,
+                     filter.getOpenOrderCount());
+        assertEquals(0,
+                     filter.getAcceptedOrderCount());
+    }
+    /**
+     * Tests that a replace takes the place of the replaced order and that a rejected replace restores it.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReplace()
+            throws Exception
+    {
+        filter.setMaxOpenOrders(1);
+        filter.setMaxOpenNotional(new BigDecimal("1500"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"100")));
+        // notional of the replacement replaces the notional of the replaced order
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newReplace("order-2","order-1","140")));
+        assertEquals(1,
+                     filter.getOpenOrderCount());
+        assertEquals(1400,
+                     filter.getUtilization().get(0).getOpenNotional(),
+                     0.0001);
+        filter.receiveCancelReject(newCancelReject("order-2"));
+        assertEquals(1000,
+                     filter.getUtilization().get(0).getOpenNotional(),
+                     0.0001);
+        assertRejected(newOrder("order-3",Side.BUY,"10"));
+    }
+    /**
+     * Tests that a replace rejected after the broker reports it as pending restores the replaced order.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPendingReplaceRejected()
+            throws Exception
+    {
+        filter.setMaxOpenOrders(1);
+        filter.setMaxOpenNotional(new BigDecimal("1500"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"100")));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newReplace("order-2","order-1","140")));
+        Message pendingReplace = newReportMessage("order-2",
+                                                  OrdStatus.PENDING_REPLACE,
+                                                  Side.BUY,
+                                                  "140",
+                                                  "0",
+                                                  null);
+        pendingReplace.setField(new ExecType(ExecType.PENDING_REPLACE));
+        filter.receiveExecutionReport(Factory.getInstance().createExecutionReport(pendingReplace,
+                                                                                  new BrokerID("broker"),
+                                                                                  Originator.Broker,
+                                                                                  null,
+                                                                                  null));
+        assertEquals(1,
+                     filter.getOpenOrderCount());
+        filter.receiveCancelReject(newCancelReject("order-2"));
+        assertEquals(1,
+                     filter.getOpenOrderCount());
+        assertEquals(1000,
+                     filter.getUtilization().get(0).getOpenNotional(),
+                     0.0001);
+        // the replaced order is tracked again, so it can still be replaced and closed
+        filter.receiveExecutionReport(newReport("order-1",OrdStatus.CANCELED,Side.BUY,"100","0"));
+        assertEquals(0,
+                     filter.getOpenOrderCount());
+    }
+    /**
+     * Tests that orders accepted by the filter but not sent are no longer tracked.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testUnsentOrder()
+            throws Exception
+    {
+        filter.setMaxOpenOrders(1);
+        filter.setMaxOpenNotional(new BigDecimal("1500"));
+        Message order = newOrder("order-1",Side.BUY,"100");
+        assertTrue(filter.isAccepted(messageInfo,
+                                     order));
+        Message replace = newReplace("order-2","order-1","140");
+        assertTrue(filter.isAccepted(messageInfo,
+                                     replace));
+        // an unsent replace leaves the replaced order open
+        filter.receiveUnsentOrder(replace);
+        assertEquals(1,
+                     filter.getOpenOrderCount());
+        assertEquals(1000,
+                     filter.getUtilization().get(0).getOpenNotional(),
+                     0.0001);
+        filter.receiveUnsentOrder(order);
+        assertEquals(0,
+                     filter.getOpenOrderCount());
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-3",Side.BUY,"100")));
+    }
+    /**
+     * Tests that fills of orders not accepted by the filter are applied to the position read from the position service
+     * only if they happened after it was read.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPositionFromPositionService()
+            throws Exception
+    {
+        PersistentPosition persistentPosition = mock(PersistentPosition.class);
+        when(persistentPosition.getActor()).thenReturn(user);
+        when(persistentPosition.getAccount()).thenReturn("account");
+        when(persistentPosition.getQuantity()).thenReturn(new BigDecimal("100"));
+        PositionService positionService = mock(PositionService.class);
+        List<PersistentPosition> positions = new ArrayList<>();
+        positions.add(persistentPosition);
+        when(positionService.getPositionsAsOf(any(SimpleUser.class),
+                                              any(Date.class),
+                                              any(SecurityType.class),
+                                              (String[])anyVararg())).thenReturn(positions);
+        filter.setPositionService(positionService);
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"10")));
+        assertEquals(100,
+                     filter.getUtilization().get(0).getPosition(),
+                     0.0001);
+        // a fill from before the position was read is already part of it
+        filter.receiveExecutionReport(newUntrackedFill("other-1",
+                                                       "5",
+                                                       new Date(System.currentTimeMillis() - 60000)));
+        assertEquals(100,
+                     filter.getUtilization().get(0).getPosition(),
+                     0.0001);
+        filter.receiveExecutionReport(newUntrackedFill("other-2",
+                                                       "5",
+                                                       new Date(System.currentTimeMillis() + 60000)));
+        assertEquals(105,
+                     filter.getUtilization().get(0).getPosition(),
+                     0.0001);
+    }
+    /**
+     * Tests the order and cancel rate limits.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testRates()
+            throws Exception
+    {
+        filter.setRateWindowMillis(60000);
+        filter.setMaxOrdersPerWindow(2);
+        filter.setMaxCancelsPerWindow(1);
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"1")));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-2",Side.BUY,"1")));
+        assertRejected(newOrder("order-3",Side.BUY,"1"));
+        Message cancel = messageFactory.createMessage(MsgType.ORDER_CANCEL_REQUEST);
+        cancel.setField(new ClOrdID("order-4"));
+        cancel.setField(new OrigClOrdID("order-1"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     cancel));
+        assertRejected(cancel);
+        RiskLimitFilter.SlidingWindowCounter counter = new RiskLimitFilter.SlidingWindowCounter(1000);
+        counter.increment(1000);
+        counter.increment(1050);
+        counter.increment(1900);
+        assertEquals(3,
+                     counter.get(1950));
+        // the first bucket leaves the window
+        assertEquals(1,
+                     counter.get(2050));
+        assertEquals(0,
+                     counter.get(5000));
+        counter.increment(5000);
+        assertEquals(1,
+                     counter.get(5000));
+    }
+    /**
+     * Tests that increments racing with the move of a bucket to a new time are all counted.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConcurrentRateCounter()
+            throws Exception
+    {
+        final RiskLimitFilter.SlidingWindowCounter counter = new RiskLimitFilter.SlidingWindowCounter(1000);
+        counter.increment(0);
+        final int threads = 4;
+        final int increments = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for(int i=0;i<threads;i++) {
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call()
+                            throws Exception
+                    {
+                        start.await();
+                        for(int j=0;j<increments;j++) {
+                            // the first of these moves the bucket of time 0 to time 5000
+                            counter.increment(5000);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for(Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * increments,
+                     counter.get(5000));
+    }
+    /**
+     * Tests that open notional is summed exactly.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testExactNotional()
+            throws Exception
+    {
+        filter.setMaxOpenNotional(new BigDecimal("0.3"));
+        // 0.1 three times exceeds 0.3 in binary floating point
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"0.01")));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-2",Side.BUY,"0.01")));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-3",Side.BUY,"0.01")));
+        assertRejected(newOrder("order-4",Side.BUY,"0.01"));
+    }
+    /**
+     * Tests that orders priced too far from the last trade are rejected.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testPriceDeviation()
+            throws Exception
+    {
+        TradeEvent trade = mock(TradeEvent.class);
+        when(trade.getPrice()).thenReturn(new BigDecimal("9.50"));
+        MarketDataManager marketDataManager = mock(MarketDataManager.class);
+        when(marketDataManager.requestMarketDataSnapshot(eq(METC),
+                                                         eq(Content.LATEST_TICK),
+                                                         any(String.class))).thenReturn(trade);
+        filter.setMarketDataManager(marketDataManager);
+        filter.setMaxPriceDeviation(new BigDecimal("0.1"));
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-1",Side.BUY,"1")));
+        filter.setMaxPriceDeviation(new BigDecimal("0.05"));
+        assertRejected(newOrder("order-2",Side.BUY,"1"));
+        // instruments without a last trade are not checked
+        assertTrue(filter.isAccepted(messageInfo,
+                                     newOrder("order-3",Side.BUY,"1",new Equity("GOOG"),"account")));
+    }
+    /**
+     * Verifies that the given order is rejected.
+     *
+     * @param inOrder a <code>Message</code> value
+     */
+    private void assertRejected(Message inOrder)
+    {
+        try {
+            filter.isAccepted(messageInfo,
+                              inOrder);
+            fail();
+        } catch (CoreException expected) {}
+    }
+    /**
+     * Creates a limit order for METC at 10.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inSide a <code>char</code> value
+     * @param inQuantity a <code>String</code> value
+     * @return a <code>Message</code> value
+     */
+    private Message newOrder(String inOrderId,
+                             char inSide,
+                             String inQuantity)
+    {
+        return newOrder(inOrderId,
+                        inSide,
+                        inQuantity,
+                        METC,
+                        "account");
+    }
+    /**
+     * Creates a limit order at 10.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inSide a <code>char</code> value
+     * @param inQuantity a <code>String</code> value
+     * @param inInstrument an <code>Instrument</code> value
+     * @param inAccount a <code>String</code> value
+     * @return a <code>Message</code> value
+     */
+    private Message newOrder(String inOrderId,
+                             char inSide,
+                             String inQuantity,
+                             Instrument inInstrument,
+                             String inAccount)
+    {
+        return messageFactory.newLimitOrder(inOrderId,
+                                            inSide,
+                                            new BigDecimal(inQuantity),
+                                            inInstrument,
+                                            BigDecimal.TEN,
+                                            TimeInForce.DAY,
+                                            inAccount);
+    }
+    /**
+     * Creates a buy replace at 10 for METC.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inOriginalOrderId a <code>String</code> value
+     * @param inQuantity a <code>String</code> value
+     * @return a <code>Message</code> value
+     */
+    private Message newReplace(String inOrderId,
+                               String inOriginalOrderId,
+                               String inQuantity)
+    {
+        Message replace = messageFactory.newCancelReplaceShares(inOrderId,
+                                                                inOriginalOrderId,
+                                                                new BigDecimal(inQuantity));
+        replace.setField(new Side(Side.BUY));
+        replace.setField(new Price(BigDecimal.TEN));
+        replace.setField(new Symbol("METC"));
+        replace.setField(new Account("account"));
+        return replace;
+    }
+    /**
+     * Creates a cancel reject for the given METC order.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @return an <code>OrderCancelReject</code> value
+     * @throws Exception if the reject cannot be created
+     */
+    private OrderCancelReject newCancelReject(String inOrderId)
+            throws Exception
+    {
+        return Factory.getInstance().createOrderCancelReject(newReportMessage(inOrderId,
+                                                                              OrdStatus.NEW,
+                                                                              Side.BUY,
+                                                                              "140",
+                                                                              "0",
+                                                                              MsgType.ORDER_CANCEL_REJECT),
+                                                             new BrokerID("broker"),
+                                                             Originator.Broker,
+                                                             null,
+                                                             null);
+    }
+    /**
+     * Creates a buy fill of METC by the test user for an order the filter did not accept.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inQuantity a <code>String</code> value
+     * @param inTransactTime a <code>Date</code> value
+     * @return an <code>ExecutionReport</code> value
+     * @throws Exception if the report cannot be created
+     */
+    private ExecutionReport newUntrackedFill(String inOrderId,
+                                             String inQuantity,
+                                             Date inTransactTime)
+            throws Exception
+    {
+        Message message = newReportMessage(inOrderId,
+                                           OrdStatus.PARTIALLY_FILLED,
+                                           Side.BUY,
+                                           "1000",
+                                           inQuantity,
+                                           null);
+        message.setField(new ExecType(ExecType.PARTIAL_FILL));
+        message.setField(new LastShares(new BigDecimal(inQuantity)));
+        message.setField(new TransactTime(inTransactTime));
+        return Factory.getInstance().createExecutionReport(message,
+                                                           new BrokerID("broker"),
+                                                           Originator.Broker,
+                                                           new UserID(1),
+                                                           new UserID(1));
+    }
+    /**
+     * Creates an execution report for the given METC order.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inOrderStatus a <code>char</code> value
+     * @param inSide a <code>char</code> value
+     * @param inQuantity a <code>String</code> value
+     * @param inCumulativeQuantity a <code>String</code> value
+     * @return an <code>ExecutionReport</code> value
+     * @throws Exception if the report cannot be created
+     */
+    private ExecutionReport newReport(String inOrderId,
+                                      char inOrderStatus,
+                                      char inSide,
+                                      String inQuantity,
+                                      String inCumulativeQuantity)
+            throws Exception
+    {
+        return Factory.getInstance().createExecutionReport(newReportMessage(inOrderId,
+                                                                            inOrderStatus,
+                                                                            inSide,
+                                                                            inQuantity,
+                                                                            inCumulativeQuantity,
+                                                                            null),
+                                                           new BrokerID("broker"),
+                                                           Originator.Broker,
+                                                           null,
+                                                           null);
+    }
+    /**
+     * Creates an execution report message for the given METC order.
+     *
+     * @param inOrderId a <code>String</code> value
+     * @param inOrderStatus a <code>char</code> value
+     * @param inSide a <code>char</code> value
+     * @param inQuantity a <code>String</code> value
+     * @param inCumulativeQuantity a <code>String</code> value
+     * @param inMsgType a <code>String</code> value or <code>null</code> for an execution report
+     * @return a <code>Message</code> value
+     * @throws Exception if the message cannot be created
+     */
+    private Message newReportMessage(String inOrderId,
+                                     char inOrderStatus,
+                                     char inSide,
+                                     String inQuantity,
+                                     String inCumulativeQuantity,
+                                     String inMsgType)
+            throws Exception
+    {
+        Message message = messageFactory.newExecutionReport("broker-" + inOrderId,
+                                                            inOrderId,
+                                                            "exec-" + (++counter),
+                                                            inOrderStatus,
+                                                            inSide,
+                                                            new BigDecimal(inQuantity),
+                                                            BigDecimal.TEN,
+                                                            BigDecimal.ZERO,
+                                                            BigDecimal.TEN,
+                                                            new BigDecimal(inCumulativeQuantity),
+                                                            BigDecimal.TEN,
+                                                            METC,
+                                                            "account",
+                                                            null);
+        if(inMsgType != null) {
+            message.getHeader().setField(new MsgType(inMsgType));
+        }
+        message.getHeader().setField(new SenderCompID("broker"));
+        message.getHeader().setField(new TargetCompID("dare"));
+        message.getHeader().setField(new MsgSeqNum(counter));
+        message.getHeader().setField(new SendingTime(new Date()));
+        return message;
+    }
+    /**
+     * test instrument
+     */
+    private static final Equity METC = new Equity("METC");
+    /**
+     * creates test messages
+     */
+    private final FIXMessageFactory messageFactory = FIXVersion.FIX42.getMessageFactory();
+    /**
+     * user sending the test orders
+     */
+    private SimpleUser user;
+    /**
+     * describes the test orders
+     */
+    private OrderFilter.MessageInfo messageInfo;
+    /**
+     * test filter
+     */
+    private RiskLimitFilter filter;
+    /**
+     * generates unique values
+     */
+    private int counter;
+}
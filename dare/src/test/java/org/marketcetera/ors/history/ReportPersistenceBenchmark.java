@@ -0,0 +1,249 @@
+package org.marketcetera.ors.history;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.marketcetera.ors.dao.ReportService;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.FileSystemXmlApplicationContext;
+
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.OrdStatus;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Side;
+import quickfix.field.TargetCompID;
+
+/* $License$ */
+
+/**
+ * Compares saving reports one transaction at a time with saving them in batches.
+ *
+ * <p>Each operation saves a fill storm of the given number of reports spread over a handful of orders, either with one
+ * {@link ReportService#save(ReportBase)} call per report or with a single {@link ReportService#save(List)} call.
+ *
+ * <p>Uses an in-memory H2 database unless the <code>metc.jdbc.*</code> system properties say otherwise. Run from the
+ * <code>dare</code> directory with <code>java -cp &lt;test classpath&gt; org.marketcetera.ors.history.ReportPersistenceBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3,time=5)
+@Measurement(iterations=5,time=5)
+@Fork(1)
+public class ReportPersistenceBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(ReportPersistenceBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Starts the report persistence services.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        setDefaultProperty("metc.jdbc.driver",
+                           "org.h2.Driver");
+        setDefaultProperty("metc.jdbc.url",
+                           "jdbc:h2:mem:reports;DB_CLOSE_DELAY=-1");
+        setDefaultProperty("metc.jdbc.user",
+                           "sa");
+        setDefaultProperty("metc.jdbc.password",
+                           "");
+        setDefaultProperty("metc.jdbc.testquery",
+                           "select 1");
+        setDefaultProperty("metc.jdbc.pool.size",
+                           "2");
+        setDefaultProperty("metc.hibernate.dialect",
+                           "org.hibernate.dialect.H2Dialect");
+        context = new FileSystemXmlApplicationContext("src/test/sample_data/conf/benchmark.xml");
+        reportService = context.getBean(ReportService.class);
+        rootOrderIdFactory = context.getBean(RootOrderIdFactory.class);
+    }
+    /**
+     * Stops the report persistence services.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        if(context != null) {
+            context.close();
+        }
+    }
+    /**
+     * Generates the reports to save in the next operation.
+     *
+     * @throws Exception if the reports cannot be generated
+     */
+    @Setup(Level.Invocation)
+    public void generateReports()
+            throws Exception
+    {
+        reports.clear();
+        int orderCount = Math.max(1,
+                                  batchSize / 10);
+        String[] orderIds = new String[orderCount];
+        for(int i=0;i<orderCount;i++) {
+            orderIds[i] = "order-" + (++orderCounter);
+            Message order = messageFactory.newBasicOrder();
+            order.setField(new ClOrdID(orderIds[i]));
+            rootOrderIdFactory.receiveOutgoingMessage(order);
+        }
+        for(int i=0;i<batchSize;i++) {
+            String orderId = orderIds[i % orderCount];
+            boolean isNew = i < orderCount;
+            Message message = messageFactory.newExecutionReport(orderId,
+                                                                orderId,
+                                                                "exec-" + (++execCounter),
+                                                                isNew ? OrdStatus.NEW : OrdStatus.PARTIALLY_FILLED,
+                                                                Side.BUY,
+                                                                ORDER_QTY,
+                                                                PRICE,
+                                                                isNew ? BigDecimal.ZERO : BigDecimal.ONE,
+                                                                isNew ? BigDecimal.ZERO : PRICE,
+                                                                new BigDecimal(i / orderCount),
+                                                                isNew ? BigDecimal.ZERO : PRICE,
+                                                                instrument,
+                                                                "account",
+                                                                null);
+            message.getHeader().setField(new SenderCompID("broker"));
+            message.getHeader().setField(new TargetCompID("dare"));
+            message.getHeader().setField(new MsgSeqNum(++msgSeqNum));
+            message.getHeader().setField(new SendingTime(new Date()));
+            ReportBase report = Factory.getInstance().createExecutionReport(message,
+                                                                            brokerId,
+                                                                            Originator.Broker,
+                                                                            null,
+                                                                            null);
+            ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                          new ReportID(msgSeqNum));
+            reports.add(report);
+        }
+    }
+    /**
+     * Saves each report in its own transaction.
+     */
+    @Benchmark
+    public void saveIndividually()
+    {
+        for(ReportBase report : reports) {
+            reportService.save(report);
+        }
+    }
+    /**
+     * Saves all reports in a single transaction.
+     */
+    @Benchmark
+    public void saveBatch()
+    {
+        reportService.save(reports);
+    }
+    /**
+     * Sets the given system property if it does not already have a value.
+     *
+     * @param inKey a <code>String</code> value
+     * @param inValue a <code>String</code> value
+     */
+    private static void setDefaultProperty(String inKey,
+                                           String inValue)
+    {
+        if(System.getProperty(inKey) == null) {
+            System.setProperty(inKey,
+                               inValue);
+        }
+    }
+    /**
+     * order quantity of each generated order
+     */
+    private static final BigDecimal ORDER_QTY = new BigDecimal(100000);
+    /**
+     * price of each generated report
+     */
+    private static final BigDecimal PRICE = new BigDecimal("12.34");
+    /**
+     * number of reports saved per operation
+     */
+    @Param({"10","100","1000"})
+    public int batchSize;
+    /**
+     * creates test FIX messages
+     */
+    private final FIXMessageFactory messageFactory = FIXVersion.FIX42.getMessageFactory();
+    /**
+     * test instrument
+     */
+    private final Equity instrument = new Equity("METC");
+    /**
+     * test broker
+     */
+    private final BrokerID brokerId = new BrokerID("benchmark");
+    /**
+     * reports to save in the next operation
+     */
+    private final List<ReportBase> reports = new ArrayList<>();
+    /**
+     * report persistence services context
+     */
+    private FileSystemXmlApplicationContext context;
+    /**
+     * service under test
+     */
+    private ReportService reportService;
+    /**
+     * provides root order ids
+     */
+    private RootOrderIdFactory rootOrderIdFactory;
+    /**
+     * generated order counter
+     */
+    private long orderCounter;
+    /**
+     * generated execution counter
+     */
+    private long execCounter;
+    /**
+     * last assigned message sequence number
+     */
+    private int msgSeqNum;
+}
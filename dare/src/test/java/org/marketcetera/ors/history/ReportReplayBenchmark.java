@@ -0,0 +1,252 @@
+package org.marketcetera.ors.history;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.marketcetera.ors.dao.ReportService;
+import org.marketcetera.ors.dao.UserService;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.quickfix.FIXMessageFactory;
+import org.marketcetera.quickfix.FIXVersion;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Factory;
+import org.marketcetera.trade.Originator;
+import org.marketcetera.trade.ReportBase;
+import org.marketcetera.trade.ReportBaseImpl;
+import org.marketcetera.trade.ReportID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.FileSystemXmlApplicationContext;
+
+import quickfix.Message;
+import quickfix.field.ClOrdID;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.OrdStatus;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.Side;
+import quickfix.field.TargetCompID;
+
+/* $License$ */
+
+/**
+ * Measures the time to read back a day of reports the way a reconnecting client does.
+ *
+ * <p>The reports are saved once per trial. Each operation reads all of them with
+ * {@link ReportService#getReportsSince(SimpleUser, Date)}, with the parsed report cache disabled or large enough to hold
+ * every report.
+ *
+ * <p>Uses an in-memory H2 database unless the <code>metc.jdbc.*</code> system properties say otherwise. Run from the
+ * <code>dare</code> directory with <code>java -cp &lt;test classpath&gt; org.marketcetera.ors.history.ReportReplayBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=2,time=10)
+@Measurement(iterations=3,time=10)
+@Fork(value=1,jvmArgsAppend="-Xmx2g")
+public class ReportReplayBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(ReportReplayBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Starts the report persistence services and saves the reports to read back.
+     *
+     * @throws Exception if the reports cannot be saved
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        setDefaultProperty("metc.jdbc.driver",
+                           "org.h2.Driver");
+        setDefaultProperty("metc.jdbc.url",
+                           "jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1");
+        setDefaultProperty("metc.jdbc.user",
+                           "sa");
+        setDefaultProperty("metc.jdbc.password",
+                           "");
+        setDefaultProperty("metc.jdbc.testquery",
+                           "select 1");
+        setDefaultProperty("metc.jdbc.pool.size",
+                           "2");
+        setDefaultProperty("metc.hibernate.dialect",
+                           "org.hibernate.dialect.H2Dialect");
+        System.setProperty("metc.report.parsed.cache.size",
+                           String.valueOf(parsedReportCacheSize));
+        context = new FileSystemXmlApplicationContext("src/test/sample_data/conf/benchmark.xml");
+        reportService = context.getBean(ReportService.class);
+        RootOrderIdFactory rootOrderIdFactory = context.getBean(RootOrderIdFactory.class);
+        SimpleUser newUser = new SimpleUser();
+        newUser.setName("replay");
+        newUser.setPassword("replay".toCharArray());
+        newUser.setActive(true);
+        user = context.getBean(UserService.class).save(newUser);
+        since = new Date();
+        List<ReportBase> reports = new ArrayList<>();
+        int orderCount = Math.max(1,
+                                  reportCount / 10);
+        for(int i=0;i<orderCount;i++) {
+            Message order = messageFactory.newBasicOrder();
+            order.setField(new ClOrdID("order-" + i));
+            rootOrderIdFactory.receiveOutgoingMessage(order);
+        }
+        for(int i=0;i<reportCount;i++) {
+            String orderId = "order-" + (i % orderCount);
+            boolean isNew = i < orderCount;
+            Message message = messageFactory.newExecutionReport(orderId,
+                                                                orderId,
+                                                                "exec-" + i,
+                                                                isNew ? OrdStatus.NEW : OrdStatus.PARTIALLY_FILLED,
+                                                                Side.BUY,
+                                                                ORDER_QTY,
+                                                                PRICE,
+                                                                isNew ? BigDecimal.ZERO : BigDecimal.ONE,
+                                                                isNew ? BigDecimal.ZERO : PRICE,
+                                                                new BigDecimal(i / orderCount),
+                                                                isNew ? BigDecimal.ZERO : PRICE,
+                                                                instrument,
+                                                                "account",
+                                                                null);
+            message.getHeader().setField(new SenderCompID("broker"));
+            message.getHeader().setField(new TargetCompID("dare"));
+            message.getHeader().setField(new MsgSeqNum(i + 1));
+            message.getHeader().setField(new SendingTime(new Date()));
+            ReportBase report = Factory.getInstance().createExecutionReport(message,
+                                                                            brokerId,
+                                                                            Originator.Broker,
+                                                                            user.getUserID(),
+                                                                            user.getUserID());
+            ReportBaseImpl.assignReportID((ReportBaseImpl)report,
+                                          new ReportID(i + 1));
+            reports.add(report);
+            if(reports.size() == SAVE_BATCH_SIZE) {
+                reportService.save(reports);
+                reports.clear();
+            }
+        }
+        if(!reports.isEmpty()) {
+            reportService.save(reports);
+        }
+    }
+    /**
+     * Stops the report persistence services.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        if(context != null) {
+            context.close();
+        }
+    }
+    /**
+     * Reads back all the saved reports.
+     *
+     * @return a <code>List&lt;ReportBase&gt;</code> value
+     */
+    @Benchmark
+    public List<ReportBase> replay()
+    {
+        List<ReportBase> reports = reportService.getReportsSince(user,
+                                                                 since);
+        if(reports.size() != reportCount) {
+            throw new IllegalStateException("Expected " + reportCount + " reports, read " + reports.size());
+        }
+        return reports;
+    }
+    /**
+     * Sets the given system property if it does not already have a value.
+     *
+     * @param inKey a <code>String</code> value
+     * @param inValue a <code>String</code> value
+     */
+    private static void setDefaultProperty(String inKey,
+                                           String inValue)
+    {
+        if(System.getProperty(inKey) == null) {
+            System.setProperty(inKey,
+                               inValue);
+        }
+    }
+    /**
+     * order quantity of each generated order
+     */
+    private static final BigDecimal ORDER_QTY = new BigDecimal(100000);
+    /**
+     * price of each generated report
+     */
+    private static final BigDecimal PRICE = new BigDecimal("12.34");
+    /**
+     * number of reports saved per transaction while setting up
+     */
+    private static final int SAVE_BATCH_SIZE = 1000;
+    /**
+     * number of reports to read back
+     */
+    @Param({"100000"})
+    public int reportCount;
+    /**
+     * maximum number of parsed reports to cache, 0 to parse every report as it is read
+     */
+    @Param({"0","100000"})
+    public int parsedReportCacheSize;
+    /**
+     * creates test FIX messages
+     */
+    private final FIXMessageFactory messageFactory = FIXVersion.FIX42.getMessageFactory();
+    /**
+     * test instrument
+     */
+    private final Equity instrument = new Equity("METC");
+    /**
+     * test broker
+     */
+    private final BrokerID brokerId = new BrokerID("benchmark");
+    /**
+     * report persistence services context
+     */
+    private FileSystemXmlApplicationContext context;
+    /**
+     * service under test
+     */
+    private ReportService reportService;
+    /**
+     * owner and viewer of the saved reports
+     */
+    private SimpleUser user;
+    /**
+     * time before the first report was saved
+     */
+    private Date since;
+}
@@ -0,0 +1,164 @@
+package org.marketcetera.ors.outgoingorder.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.marketcetera.ors.dao.PersistentOutgoingMessage;
+import org.marketcetera.ors.dao.PersistentOutgoingMessageDao;
+import org.marketcetera.ors.security.SimpleUser;
+import org.marketcetera.trade.BrokerID;
+import org.marketcetera.trade.UserID;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.querydsl.core.types.Predicate;
+
+/* $License$ */
+
+/**
+ * Tests {@link OrderOwnerServiceImpl}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class OrderOwnerServiceImplTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        outgoingMessageDao = mock(PersistentOutgoingMessageDao.class);
+        service = new OrderOwnerServiceImpl();
+        service.setOutgoingMessageDao(outgoingMessageDao);
+        service.setCacheSize(2);
+        service.start();
+    }
+    /**
+     * Tests that owners recorded in the index are returned without a query.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testCachedOwner()
+            throws Exception
+    {
+        service.cacheOwner(broker1,
+                           "order-1",
+                           user1);
+        service.cacheOwner(broker2,
+                           "order-1",
+                           user2);
+        assertEquals(user1,
+                     service.getOwner(broker1,
+                                      "order-1"));
+        assertEquals(user2,
+                     service.getOwner(broker2,
+                                      "order-1"));
+        assertNull(service.getCachedOwner(broker1,
+                                          "order-2"));
+        verify(outgoingMessageDao,never()).findAll(any(Predicate.class),
+                                                   any(Pageable.class));
+        verify(outgoingMessageDao,never()).findAll(any(Pageable.class));
+        service.clear();
+        assertNull(service.getCachedOwner(broker1,
+                                          "order-1"));
+    }
+    /**
+     * Tests that an owner missing from the index is read with a filtered query and then indexed.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOwnerQuery()
+            throws Exception
+    {
+        SimpleUser actor = mock(SimpleUser.class);
+        when(actor.getUserID()).thenReturn(user1);
+        PersistentOutgoingMessage message = mock(PersistentOutgoingMessage.class);
+        when(message.getActor()).thenReturn(actor);
+        when(outgoingMessageDao.findAll(any(Predicate.class),
+                                        any(Pageable.class))).thenReturn(new PageImpl<>(Collections.singletonList(message)));
+        assertEquals(user1,
+                     service.getOwner(broker1,
+                                      "order-1"));
+        assertEquals(user1,
+                     service.getOwner(broker1,
+                                      "order-1"));
+        verify(outgoingMessageDao,times(1)).findAll(any(Predicate.class),
+                                                    any(Pageable.class));
+        verify(outgoingMessageDao,never()).findAll(any(Pageable.class));
+        // unknown orders are not indexed
+        when(outgoingMessageDao.findAll(any(Predicate.class),
+                                        any(Pageable.class))).thenReturn(new PageImpl<PersistentOutgoingMessage>(Collections.<PersistentOutgoingMessage>emptyList()));
+        assertNull(service.getOwner(broker1,
+                                    "order-2"));
+        assertNull(service.getOwner(broker1,
+                                    "order-2"));
+        verify(outgoingMessageDao,times(3)).findAll(any(Predicate.class),
+                                                    any(Pageable.class));
+    }
+    /**
+     * Tests that the index does not grow beyond its configured size.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testCacheSize()
+            throws Exception
+    {
+        for(int i=0;i<10;i++) {
+            service.cacheOwner(broker1,
+                               "order-" + i,
+                               user1);
+        }
+        int cached = 0;
+        for(int i=0;i<10;i++) {
+            if(service.getCachedOwner(broker1,
+                                      "order-" + i) != null) {
+                cached += 1;
+            }
+        }
+        assertEquals(2,
+                     cached);
+    }
+    /**
+     * test broker
+     */
+    private final BrokerID broker1 = new BrokerID("broker1");
+    /**
+     * test broker
+     */
+    private final BrokerID broker2 = new BrokerID("broker2");
+    /**
+     * test user
+     */
+    private final UserID user1 = new UserID(1);
+    /**
+     * test user
+     */
+    private final UserID user2 = new UserID(2);
+    /**
+     * mock outgoing message datastore
+     */
+    private PersistentOutgoingMessageDao outgoingMessageDao;
+    /**
+     * service under test
+     */
+    private OrderOwnerServiceImpl service;
+}
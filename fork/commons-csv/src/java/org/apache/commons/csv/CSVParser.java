@@ -167,7 +167,19 @@ public class CSVParser {
     this.in = new ExtendedBufferedReader(input);
     this.strategy = strategy;
   }
-  
+
+  /**
+   * Customized CSV parser using the given {@link CSVStrategy} and read buffer size
+   *
+   * @param input a Reader containing "csv-formatted" input
+   * @param strategy the CSVStrategy used for CSV parsing
+   * @param bufferSize the number of chars read from the input at a time
+   */
+  public CSVParser(Reader input, CSVStrategy strategy, int bufferSize) {
+    this.in = new ExtendedBufferedReader(input, bufferSize);
+    this.strategy = strategy;
+  }
+
   // ======================================================
   //  the parser
   // ======================================================
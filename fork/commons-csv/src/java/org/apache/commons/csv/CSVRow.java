@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.csv;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * A single record parsed by a {@link CSVTokenizer}.
+ *
+ * <p>A row does not copy its values: each field is a view (source, offset
+ * and length) into the parsed input.  Only values that contain doubled
+ * encapsulators or escapes are unescaped, into a buffer owned by the row.
+ * Numbers are parsed straight from the view without creating Strings.</p>
+ *
+ * <p>The tokenizer reuses the same row for every record, so a row is only
+ * valid during the {@link CSVRowHandler#handleRow(CSVRow)} call it is passed
+ * to.  Use {@link #getString(int)} to keep a value.</p>
+ */
+public final class CSVRow {
+
+  /** Number of fields a new row has room for. */
+  private static final int INITIAL_FIELDS = 16;
+
+  /** Powers of ten that are exactly representable as doubles. */
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+    1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+    1e21, 1e22
+  };
+
+  /** Largest integer all smaller integers of which are exact doubles. */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  /** The input being parsed. */
+  private CharSequence input;
+
+  /** Offsets of the fields in their source. */
+  private int[] offsets = new int[INITIAL_FIELDS];
+
+  /** Lengths of the fields. */
+  private int[] lengths = new int[INITIAL_FIELDS];
+
+  /** Whether each field was unescaped into the scratch buffer. */
+  private boolean[] unescaped = new boolean[INITIAL_FIELDS];
+
+  /** Number of fields in the row. */
+  private int size;
+
+  /** Line number at which the row starts. */
+  private long lineNumber;
+
+  /** Holds unescaped field values. */
+  private char[] scratch = new char[64];
+
+  /** Number of chars used in the scratch buffer. */
+  private int scratchLength;
+
+  /** View of the scratch buffer, created once. */
+  private final CharSequence scratchView = new CharSequence() {
+    public int length() {
+      return scratchLength;
+    }
+    public char charAt(int index) {
+      return scratch[index];
+    }
+    public CharSequence subSequence(int start, int end) {
+      return new String(scratch, start, end - start);
+    }
+    public String toString() {
+      return new String(scratch, 0, scratchLength);
+    }
+  };
+
+  /** Scaled value of the last decimal parsed. */
+  private long unscaledValue;
+
+  /** Scale of the last decimal parsed. */
+  private int scale;
+
+  /**
+   * Returns the number of fields in the row.
+   *
+   * @return number of fields
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the line number in the input at which the row starts,
+   * the first line being 1.
+   *
+   * @return line number
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Returns the chars the given field is a view of: the parsed input, or
+   * the row's buffer if the field had to be unescaped.
+   *
+   * @param field index of the field
+   * @return source of the field value
+   */
+  public CharSequence getSource(int field) {
+    checkField(field);
+    return unescaped[field] ? scratchView : input;
+  }
+
+  /**
+   * Returns the offset of the given field in its {@link #getSource(int) source}.
+   *
+   * @param field index of the field
+   * @return offset of the first char of the value
+   */
+  public int getOffset(int field) {
+    checkField(field);
+    return offsets[field];
+  }
+
+  /**
+   * Returns the length of the given field.
+   *
+   * @param field index of the field
+   * @return number of chars in the value
+   */
+  public int getLength(int field) {
+    checkField(field);
+    return lengths[field];
+  }
+
+  /**
+   * Returns a char of the given field.
+   *
+   * @param field index of the field
+   * @param index index of the char in the value
+   * @return the char
+   */
+  public char charAt(int field, int index) {
+    checkField(field);
+    if (index < 0 || index >= lengths[field]) {
+      throw new IndexOutOfBoundsException("index " + index + " of field " + field);
+    }
+    return unescaped[field] ? scratch[offsets[field] + index] : input.charAt(offsets[field] + index);
+  }
+
+  /**
+   * Returns true if the given field has no chars.
+   *
+   * @param field index of the field
+   * @return true if the value is empty
+   */
+  public boolean isEmpty(int field) {
+    checkField(field);
+    return lengths[field] == 0;
+  }
+
+  /**
+   * Compares the given field to the given chars without creating a String.
+   *
+   * @param field index of the field
+   * @param value the chars to compare
+   * @return true if the value has the same chars
+   */
+  public boolean contentEquals(int field, CharSequence value) {
+    checkField(field);
+    int length = lengths[field];
+    if (value.length() != length) {
+      return false;
+    }
+    CharSequence source = unescaped[field] ? scratchView : input;
+    int offset = offsets[field];
+    for (int i = 0; i < length; i++) {
+      if (source.charAt(offset + i) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the given field as a new String.
+   *
+   * @param field index of the field
+   * @return the value
+   */
+  public String getString(int field) {
+    checkField(field);
+    if (unescaped[field]) {
+      return new String(scratch, offsets[field], lengths[field]);
+    }
+    return input.subSequence(offsets[field], offsets[field] + lengths[field]).toString();
+  }
+
+  /**
+   * Returns all the fields as new Strings, in the form returned
+   * by {@link CSVParser#getLine()}.
+   *
+   * @return the values
+   */
+  public String[] getValues() {
+    String[] values = new String[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = getString(i);
+    }
+    return values;
+  }
+
+  /**
+   * Parses the given field as an int.
+   *
+   * @param field index of the field
+   * @return the value
+   * @throws NumberFormatException if the value is not an int
+   */
+  public int getInt(int field) {
+    long value = getLong(field);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw numberFormatException(field);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Parses the given field as a long: an optional sign followed by decimal
+   * digits.
+   *
+   * @param field index of the field
+   * @return the value
+   * @throws NumberFormatException if the value is not a long
+   */
+  public long getLong(int field) {
+    checkField(field);
+    int length = lengths[field];
+    int index = 0;
+    boolean negative = false;
+    if (length > 0) {
+      char c = charAt(field, 0);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        index = 1;
+      }
+    }
+    if (index == length) {
+      throw numberFormatException(field);
+    }
+    // accumulate negatively so that Long.MIN_VALUE can be parsed
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long result = 0;
+    for (; index < length; index++) {
+      int digit = charAt(field, index) - '0';
+      if (digit < 0 || digit > 9 || result < (limit + digit) / 10) {
+        throw numberFormatException(field);
+      }
+      result = result * 10 - digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Parses the given field as a double.
+   *
+   * <p>Plain decimals with at most 15 significant digits are parsed without
+   * creating a String.  Other values, such as those with exponents, are
+   * parsed with {@link Double#parseDouble(String)}.</p>
+   *
+   * @param field index of the field
+   * @return the value
+   * @throws NumberFormatException if the value is not a number
+   */
+  public double getDouble(int field) {
+    if (parseDecimal(field)
+        && Math.abs(unscaledValue) < MAX_EXACT_DOUBLE
+        && scale < POWERS_OF_TEN.length) {
+      // both operands are exact, so the quotient is correctly rounded
+      return unscaledValue / POWERS_OF_TEN[scale];
+    }
+    return Double.parseDouble(getString(field));
+  }
+
+  /**
+   * Parses the given field as a BigDecimal.
+   *
+   * <p>Plain decimals with at most 18 digits are built directly from their
+   * digits.  Other values are parsed with {@link BigDecimal#BigDecimal(String)}.</p>
+   *
+   * @param field index of the field
+   * @return the value
+   * @throws NumberFormatException if the value is not a number
+   */
+  public BigDecimal getDecimal(int field) {
+    if (parseDecimal(field)) {
+      return BigDecimal.valueOf(unscaledValue, scale);
+    }
+    return new BigDecimal(getString(field));
+  }
+
+  /**
+   * Returns a String representation of the row, for debugging.
+   *
+   * @return the values
+   */
+  public String toString() {
+    return Arrays.toString(getValues());
+  }
+
+  /**
+   * Starts a new row.
+   *
+   * @param in the input being parsed
+   * @param line the line number at which the row starts
+   */
+  void reset(CharSequence in, long line) {
+    input = in;
+    lineNumber = line;
+    size = 0;
+    scratchLength = 0;
+  }
+
+  /**
+   * Adds a field that is a view of the input.
+   *
+   * @param offset offset of the value in the input
+   * @param length length of the value
+   */
+  void addField(int offset, int length) {
+    ensureFieldCapacity();
+    offsets[size] = offset;
+    lengths[size] = length;
+    unescaped[size] = false;
+    size++;
+  }
+
+  /**
+   * Starts a field whose value is appended to the scratch buffer.
+   */
+  void startUnescapedField() {
+    ensureFieldCapacity();
+    offsets[size] = scratchLength;
+    lengths[size] = 0;
+    unescaped[size] = true;
+    size++;
+  }
+
+  /**
+   * Appends chars of the input to the field being unescaped.
+   *
+   * @param offset offset of the chars in the input
+   * @param length number of chars
+   */
+  void appendInput(int offset, int length) {
+    ensureScratchCapacity(length);
+    for (int i = 0; i < length; i++) {
+      scratch[scratchLength++] = input.charAt(offset + i);
+    }
+    lengths[size - 1] += length;
+  }
+
+  /**
+   * Appends a char to the field being unescaped.
+   *
+   * @param c the char
+   */
+  void append(char c) {
+    ensureScratchCapacity(1);
+    scratch[scratchLength++] = c;
+    lengths[size - 1]++;
+  }
+
+  /**
+   * Removes trailing whitespace from the last field.
+   */
+  void trimLastField() {
+    int field = size - 1;
+    int length = lengths[field];
+    while (length > 0 && Character.isWhitespace(charAt(field, length - 1))) {
+      length--;
+    }
+    if (unescaped[field]) {
+      scratchLength -= lengths[field] - length;
+    }
+    lengths[field] = length;
+  }
+
+  /**
+   * Parses the given field as a plain decimal: an optional sign, digits, and
+   * an optional point followed by digits.  Sets {@link #unscaledValue} and
+   * {@link #scale}.
+   *
+   * @param field index of the field
+   * @return false if the value has another form or too many digits to
+   *         parse this way
+   */
+  private boolean parseDecimal(int field) {
+    checkField(field);
+    int length = lengths[field];
+    int index = 0;
+    boolean negative = false;
+    if (length > 0) {
+      char c = charAt(field, 0);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        index = 1;
+      }
+    }
+    long result = 0;
+    int digits = 0;
+    int pointAt = -1;
+    for (; index < length; index++) {
+      char c = charAt(field, index);
+      if (c == '.' && pointAt < 0) {
+        pointAt = index;
+      } else if (c >= '0' && c <= '9') {
+        if (++digits > 18) {
+          return false;
+        }
+        result = result * 10 + (c - '0');
+      } else {
+        return false;
+      }
+    }
+    if (digits == 0 || (negative && result == 0)) {
+      // leave negative zero to the JDK parsers
+      return false;
+    }
+    unscaledValue = negative ? -result : result;
+    scale = pointAt < 0 ? 0 : length - pointAt - 1;
+    return true;
+  }
+
+  /**
+   * Creates the exception thrown when a field is not a number.
+   *
+   * @param field index of the field
+   * @return the exception
+   */
+  private NumberFormatException numberFormatException(int field) {
+    return new NumberFormatException("For input string: \"" + getString(field) + "\"");
+  }
+
+  /**
+   * Checks that the given field exists.
+   *
+   * @param field index of the field
+   */
+  private void checkField(int field) {
+    if (field < 0 || field >= size) {
+      throw new IndexOutOfBoundsException("field " + field + " of " + size);
+    }
+  }
+
+  /**
+   * Makes room for one more field.
+   */
+  private void ensureFieldCapacity() {
+    if (size == offsets.length) {
+      int capacity = size * 2;
+      int[] newOffsets = new int[capacity];
+      int[] newLengths = new int[capacity];
+      boolean[] newUnescaped = new boolean[capacity];
+      System.arraycopy(offsets, 0, newOffsets, 0, size);
+      System.arraycopy(lengths, 0, newLengths, 0, size);
+      System.arraycopy(unescaped, 0, newUnescaped, 0, size);
+      offsets = newOffsets;
+      lengths = newLengths;
+      unescaped = newUnescaped;
+    }
+  }
+
+  /**
+   * Makes room for the given number of chars in the scratch buffer.
+   *
+   * @param length number of chars to add
+   */
+  private void ensureScratchCapacity(int length) {
+    if (scratchLength + length > scratch.length) {
+      char[] newScratch = new char[Math.max(scratch.length * 2, scratchLength + length)];
+      System.arraycopy(scratch, 0, newScratch, 0, scratchLength);
+      scratch = newScratch;
+    }
+  }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Parses CSV input held in memory and passes each record to a
+ * {@link CSVRowHandler}.
+ *
+ * <p>Unlike {@link CSVParser}, the tokenizer does not copy the input: each
+ * record is a {@link CSVRow} of views into the input, and the same row is
+ * reused for every record.  Once the row has grown to fit the widest record,
+ * parsing allocates nothing for records without escapes.</p>
+ *
+ * <p>Large files can be parsed without reading them onto the heap by
+ * mapping them:</p>
+ * <pre>
+ *  FileChannel channel = new FileInputStream(file).getChannel();
+ *  new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY).parse(
+ *    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), handler);
+ * </pre>
+ *
+ * <p>Records are split as {@link CSVParser#getLine()} splits them, with
+ * these differences:</p>
+ * <ul>
+ *   <li>comments are recognized only at the start of a line</li>
+ *   <li>unicode escapes are not supported</li>
+ * </ul>
+ *
+ * <p>A tokenizer is not thread-safe.</p>
+ */
+public class CSVTokenizer {
+
+  /** Charset in which bytes are read, one char per byte. */
+  private static final Charset BYTE_CHARSET = Charset.forName("ISO-8859-1");
+
+  /** Value separator. */
+  private final char delimiter;
+
+  /** Value encapsulation marker. */
+  private final char encapsulator;
+
+  /** Comment marker. */
+  private final char commentStart;
+
+  /** Escape char. */
+  private final char escape;
+
+  /** Whether comments are recognized. */
+  private final boolean commentsEnabled;
+
+  /** Whether leading whitespace is dropped from simple values. */
+  private final boolean ignoreLeadingWhitespaces;
+
+  /** Whether trailing whitespace is dropped from simple values. */
+  private final boolean ignoreTrailingWhitespaces;
+
+  /** Whether empty lines are skipped. */
+  private final boolean ignoreEmptyLines;
+
+  /** The row reused for each record. */
+  private final CSVRow row = new CSVRow();
+
+  /** The input being parsed. */
+  private CharSequence in;
+
+  /** Length of the input being parsed. */
+  private int end;
+
+  /** Current line number. */
+  private long lineNumber;
+
+  /**
+   * Creates a tokenizer for the given {@link CSVStrategy}.
+   *
+   * @param strategy the CSVStrategy used for CSV parsing
+   * @throws IllegalArgumentException if the strategy interprets unicode
+   *         escapes
+   */
+  public CSVTokenizer(CSVStrategy strategy) {
+    if (strategy.getUnicodeEscapeInterpretation()) {
+      throw new IllegalArgumentException("unicode escapes are not supported");
+    }
+    delimiter = strategy.getDelimiter();
+    encapsulator = strategy.getEncapsulator();
+    commentStart = strategy.getCommentStart();
+    escape = strategy.getEscape();
+    commentsEnabled = !strategy.isCommentingDisabled();
+    ignoreLeadingWhitespaces = strategy.getIgnoreLeadingWhitespaces();
+    ignoreTrailingWhitespaces = strategy.getIgnoreTrailingWhitespaces();
+    ignoreEmptyLines = strategy.getIgnoreEmptyLines();
+  }
+
+  /**
+   * Parses the given bytes, one char per byte (ISO-8859-1), from the
+   * buffer's position to its limit.  The buffer's position is not changed.
+   *
+   * @param input the CSV-formatted bytes
+   * @param handler receives each record
+   * @return number of records passed to the handler
+   * @throws IOException on parse error
+   */
+  public long parse(ByteBuffer input, CSVRowHandler handler) throws IOException {
+    return parse(new ByteBufferCharSequence(input), handler);
+  }
+
+  /**
+   * Parses the given chars.
+   *
+   * @param input the CSV-formatted chars
+   * @param handler receives each record
+   * @return number of records passed to the handler
+   * @throws IOException on parse error
+   */
+  public long parse(CharSequence input, CSVRowHandler handler) throws IOException {
+    in = input;
+    end = input.length();
+    lineNumber = 1;
+    long rows = 0;
+    try {
+      int pos = 0;
+      while (pos < end) {
+        if (commentsEnabled && in.charAt(pos) == commentStart) {
+          pos = skipLine(pos);
+          continue;
+        }
+        if (ignoreEmptyLines && isEndOfLine(pos)) {
+          pos = skipEndOfLine(pos);
+          continue;
+        }
+        row.reset(in, lineNumber);
+        pos = parseRow(pos);
+        rows++;
+        if (!handler.handleRow(row)) {
+          break;
+        }
+      }
+    } finally {
+      in = null;
+    }
+    return rows;
+  }
+
+  // ======================================================
+  //  the lexer
+  // ======================================================
+
+  /**
+   * Parses the record starting at the given position into the row.
+   *
+   * @param pos position of the first char of the record
+   * @return position after the record and its line end
+   * @throws IOException on parse error
+   */
+  private int parseRow(int pos) throws IOException {
+    for (;;) {
+      pos = parseField(pos);
+      if (pos >= end) {
+        return pos;
+      }
+      if (in.charAt(pos) != delimiter) {
+        return skipEndOfLine(pos);
+      }
+      pos++;
+      if (pos >= end) {
+        // a delimiter at the end of input is followed by an empty value
+        row.addField(pos, 0);
+        return pos;
+      }
+    }
+  }
+
+  /**
+   * Parses the value starting at the given position and adds it to the row.
+   *
+   * @param pos position of the first char of the value
+   * @return position of the delimiter or line end after the value, or the
+   *         end of input
+   * @throws IOException on parse error
+   */
+  private int parseField(int pos) throws IOException {
+    int start = pos;
+    while (pos < end && isWhitespace(in.charAt(pos)) && !isEndOfLine(pos)) {
+      pos++;
+    }
+    if (pos >= end || in.charAt(pos) == delimiter || isEndOfLine(pos)) {
+      // whitespace alone is an empty value
+      row.addField(pos, 0);
+      return pos;
+    }
+    if (in.charAt(pos) == encapsulator) {
+      return parseEncapsulatedField(pos);
+    }
+    int valueStart = ignoreLeadingWhitespaces ? pos : start;
+    for (; pos < end; pos++) {
+      char c = in.charAt(pos);
+      if (c == delimiter || isEndOfLine(pos)) {
+        break;
+      }
+      if (c == escape) {
+        return parseEscapedField(valueStart, pos);
+      }
+    }
+    row.addField(valueStart, pos - valueStart);
+    if (ignoreTrailingWhitespaces) {
+      row.trimLastField();
+    }
+    return pos;
+  }
+
+  /**
+   * Continues parsing a simple value that contains escapes, unescaping it
+   * into the row.
+   *
+   * @param valueStart position of the first char of the value
+   * @param pos position of the first escape
+   * @return position of the delimiter or line end after the value, or the
+   *         end of input
+   */
+  private int parseEscapedField(int valueStart, int pos) {
+    row.startUnescapedField();
+    row.appendInput(valueStart, pos - valueStart);
+    while (pos < end) {
+      char c = in.charAt(pos);
+      if (c == delimiter || isEndOfLine(pos)) {
+        break;
+      }
+      if (c == escape) {
+        pos++;
+        if (pos < end) {
+          row.append(unescape(in.charAt(pos)));
+        }
+      } else {
+        row.append(c);
+      }
+      pos++;
+    }
+    if (ignoreTrailingWhitespaces) {
+      row.trimLastField();
+    }
+    return pos;
+  }
+
+  /**
+   * Parses an encapsulated value and adds it to the row.  The value is a
+   * view of the input unless it contains doubled encapsulators or escapes.
+   *
+   * @param pos position of the opening encapsulator
+   * @return position of the delimiter or line end after the value, or the
+   *         end of input
+   * @throws IOException on parse error
+   */
+  private int parseEncapsulatedField(int pos) throws IOException {
+    long startLineNumber = lineNumber;
+    int valueStart = pos + 1;
+    boolean unescaping = false;
+    pos = valueStart;
+    for (;;) {
+      if (pos >= end) {
+        throw new IOException(
+                "(startline " + startLineNumber + ")"
+                        + "eof reached before encapsulated token finished"
+        );
+      }
+      char c = in.charAt(pos);
+      if (c == escape || (c == encapsulator && pos + 1 < end && in.charAt(pos + 1) == encapsulator)) {
+        if (!unescaping) {
+          row.startUnescapedField();
+          row.appendInput(valueStart, pos - valueStart);
+          unescaping = true;
+        }
+        pos++;
+        if (pos < end) {
+          row.append(c == escape ? unescape(in.charAt(pos)) : encapsulator);
+          pos++;
+        }
+      } else if (c == encapsulator) {
+        if (!unescaping) {
+          row.addField(valueStart, pos - valueStart);
+        }
+        // ignore whitespace till delimiter
+        for (pos++; pos < end; pos++) {
+          c = in.charAt(pos);
+          if (c == delimiter || isEndOfLine(pos)) {
+            break;
+          }
+          if (!isWhitespace(c)) {
+            throw new IOException(
+                    "(line " + lineNumber
+                            + ") invalid char between encapsulated token end delimiter"
+            );
+          }
+        }
+        return pos;
+      } else {
+        if (c == '\n') {
+          lineNumber++;
+        }
+        if (unescaping) {
+          row.append(c);
+        }
+        pos++;
+      }
+    }
+  }
+
+  /**
+   * Skips the rest of the line starting at the given position.
+   *
+   * @param pos a position in the line
+   * @return position of the first char of the next line
+   */
+  private int skipLine(int pos) {
+    while (pos < end && in.charAt(pos) != '\n') {
+      pos++;
+    }
+    if (pos < end) {
+      pos++;
+      lineNumber++;
+    }
+    return pos;
+  }
+
+  /**
+   * Skips the line end at the given position.
+   *
+   * @param pos position of a line end
+   * @return position of the first char of the next line
+   */
+  private int skipEndOfLine(int pos) {
+    lineNumber++;
+    return in.charAt(pos) == '\r' ? pos + 2 : pos + 1;
+  }
+
+  /**
+   * Returns the char for the escape sequence ending with the given char.
+   *
+   * @param c the char after the escape
+   * @return the unescaped char
+   */
+  private static char unescape(char c) {
+    switch (c) {
+      case 'r': return '\r';
+      case 'n': return '\n';
+      case 't': return '\t';
+      case 'b': return '\b';
+      case 'f': return '\f';
+      default : return c;
+    }
+  }
+
+  // ======================================================
+  //  Character class checker
+  // ======================================================
+
+  /**
+   * @return true if the given char is a whitespace character
+   */
+  private boolean isWhitespace(char c) {
+    return Character.isWhitespace(c) && (c != delimiter);
+  }
+
+  /**
+   * Accepts \n and \r\n.
+   *
+   * @return true if a line end starts at the given position
+   */
+  private boolean isEndOfLine(int pos) {
+    char c = in.charAt(pos);
+    return c == '\n' || (c == '\r' && pos + 1 < end && in.charAt(pos + 1) == '\n');
+  }
+
+  /**
+   * Chars of a ByteBuffer, one per byte.
+   */
+  private static final class ByteBufferCharSequence implements CharSequence {
+
+    /** The bytes. */
+    private final ByteBuffer buffer;
+
+    /** Position of the first byte in the buffer. */
+    private final int offset;
+
+    /** Number of bytes. */
+    private final int length;
+
+    ByteBufferCharSequence(ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.offset = buffer.position();
+      this.length = buffer.remaining();
+    }
+
+    public int length() {
+      return length;
+    }
+
+    public char charAt(int index) {
+      return (char) (buffer.get(offset + index) & 0xff);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+      byte[] bytes = new byte[end - start];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = buffer.get(offset + start + i);
+      }
+      return new String(bytes, BYTE_CHARSET);
+    }
+
+    public String toString() {
+      return subSequence(0, length).toString();
+    }
+  }
+}
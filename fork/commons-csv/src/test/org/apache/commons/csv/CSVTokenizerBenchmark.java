@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * CSVTokenizerBenchmark
+ *
+ * Compares the rows per second read by {@link CSVParser#getLine()} with
+ * those read by {@link CSVTokenizer} from a String and from a direct
+ * ByteBuffer.  Each method reads the same market data rows and parses the
+ * timestamp, price and size of each, the way the CSV market data feed does.
+ *
+ * Run with <code>java -cp &lt;test classpath&gt; org.apache.commons.csv.CSVTokenizerBenchmark</code>,
+ * adding <code>-prof gc</code> to the JMH options to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CSVTokenizerBenchmark {
+
+  /** Number of rows parsed per invocation. */
+  private static final int ROWS = 100000;
+
+  /** The rows as chars. */
+  private String chars;
+
+  /** The rows as bytes. */
+  private ByteBuffer bytes;
+
+  /** The tokenizer, reused like a parser would be for a file. */
+  private final CSVTokenizer tokenizer = new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY);
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CSVTokenizerBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    StringBuffer buffer = new StringBuffer();
+    for (int row = 0; row < ROWS; row++) {
+      buffer.append(row % 3 == 0 ? "TRADE" : (row % 3 == 1 ? "BID" : "ASK"))
+            .append(',').append(1470000000000L + row * 7L)
+            .append(",METC,1470000000000,Q,")
+            .append(100 + row % 50).append('.').append(row % 100)
+            .append(',').append(100 * (1 + row % 10))
+            .append('\n');
+    }
+    chars = buffer.toString();
+    byte[] data = chars.getBytes("ISO-8859-1");
+    bytes = ByteBuffer.allocateDirect(data.length);
+    bytes.put(data);
+    bytes.flip();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void parserGetLine(Blackhole blackhole) throws IOException {
+    CSVParser parser = new CSVParser(new StringReader(chars), CSVStrategy.EXCEL_STRATEGY);
+    String[] line;
+    while ((line = parser.getLine()) != null) {
+      blackhole.consume(Long.parseLong(line[1]));
+      blackhole.consume(Double.parseDouble(line[5]));
+      blackhole.consume(Long.parseLong(line[6]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long tokenizerString(Blackhole blackhole) throws IOException {
+    return tokenizer.parse(chars, new RowConsumer(blackhole));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public long tokenizerByteBuffer(Blackhole blackhole) throws IOException {
+    return tokenizer.parse(bytes, new RowConsumer(blackhole));
+  }
+
+  /**
+   * Parses the numbers of each row.
+   */
+  private static final class RowConsumer implements CSVRowHandler {
+
+    private final Blackhole blackhole;
+
+    RowConsumer(Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    public boolean handleRow(CSVRow row) {
+      blackhole.consume(row.getLong(1));
+      blackhole.consume(row.getDouble(5));
+      blackhole.consume(row.getLong(6));
+      return true;
+    }
+  }
+}
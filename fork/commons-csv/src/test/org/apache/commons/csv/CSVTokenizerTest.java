@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.csv;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * CSVTokenizerTest
+ *
+ * Compares the records of the tokenizer to those of {@link CSVParser#getLine()}
+ * and tests the field views of {@link CSVRow}.
+ */
+public class CSVTokenizerTest extends TestCase {
+
+  /** Inputs compared with CSVParser. */
+  private static final String[] INPUTS = {
+    "",
+    "a",
+    "a,b,c",
+    "a,b,c\n",
+    "a,b,c\r\nd,e,f\r\n",
+    "a,\nb,",
+    "a,,\n,,b\n,\n",
+    "\n\na\n\n\nb\n\n",
+    "  a ,  b  , c\t\n",
+    "a, ,\t,b",
+    "\"a\",\"b,c\",\"d\"\"e\"\n",
+    "a,  \"b\"  ,c",
+    "\"a\nb\",c\n\"\"\n",
+    "\"\"\"\"\n\" \"\" \"",
+    "a\rb,c\r",
+    "abc,def, hijk,  lmnop,   qrst,uv ,wxy   ,z , ,",
+  };
+
+  /** Strategies compared with CSVParser. */
+  private static final CSVStrategy[] STRATEGIES = {
+    CSVStrategy.DEFAULT_STRATEGY,
+    CSVStrategy.EXCEL_STRATEGY,
+    new CSVStrategy(';', '\'', CSVStrategy.COMMENTS_DISABLED, '\\', false, true, false, false),
+  };
+
+  public void testSameRecordsAsParser() throws IOException {
+    for (int i = 0; i < STRATEGIES.length; i++) {
+      for (int j = 0; j < INPUTS.length; j++) {
+        String input = INPUTS[j];
+        if (i == 2) {
+          input = input.replace(',', ';').replace('"', '\'');
+        }
+        assertEquals("strategy " + i + " input " + j,
+                     parse(STRATEGIES[i], input),
+                     tokenize(STRATEGIES[i], input));
+      }
+    }
+  }
+
+  public void testEscapes() throws IOException {
+    CSVStrategy strategy = new CSVStrategy(',', '"', CSVStrategy.COMMENTS_DISABLED, '\\', false, false, false, true);
+    String input = "a\\,b,\"c\\\"d\",e\\ne\n";
+    assertEquals(parse(strategy, input), tokenize(strategy, input));
+    assertEquals("[[a,b, c\"d, e\ne]]", tokenize(strategy, input).toString());
+  }
+
+  public void testComments() throws IOException {
+    CSVStrategy strategy = (CSVStrategy) CSVStrategy.DEFAULT_STRATEGY.clone();
+    strategy.setCommentStart('#');
+    assertEquals("[[a, b], [c]]", tokenize(strategy, "#x,y\na,b\n# z\nc").toString());
+  }
+
+  public void testByteBuffer() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+    buffer.put("skip".getBytes("ISO-8859-1"));
+    buffer.put("a,\"b\"\"c\",d\n1,2,3\n".getBytes("ISO-8859-1"));
+    buffer.flip();
+    buffer.position(4);
+    final List<String> rows = new ArrayList<String>();
+    long count = new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY).parse(buffer, new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        rows.add(Arrays.toString(row.getValues()));
+        return true;
+      }
+    });
+    assertEquals(2, count);
+    assertEquals("[[a, b\"c, d], [1, 2, 3]]", rows.toString());
+    assertEquals(4, buffer.position());
+  }
+
+  public void testFieldViews() throws IOException {
+    final String input = "x\n\"one\",\"t\"\"wo\",  three \n";
+    new CSVTokenizer(CSVStrategy.DEFAULT_STRATEGY).parse(input, new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        if (row.getLineNumber() == 1) {
+          return true;
+        }
+        assertEquals(2, row.getLineNumber());
+        assertEquals(3, row.size());
+        // plain values are views of the input
+        assertSame(input, row.getSource(0));
+        assertEquals(3, row.getOffset(0));
+        assertEquals(3, row.getLength(0));
+        assertTrue(row.contentEquals(0, "one"));
+        assertFalse(row.contentEquals(0, "on"));
+        // values with doubled encapsulators are unescaped into the row
+        assertNotSame(input, row.getSource(1));
+        assertEquals("t\"wo", row.getString(1));
+        assertEquals('"', row.charAt(1, 1));
+        assertEquals("three", row.getString(2));
+        return true;
+      }
+    });
+  }
+
+  public void testStop() throws IOException {
+    final List<String> rows = new ArrayList<String>();
+    long count = new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY).parse("a\nb\nc\n", new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        rows.add(row.getString(0));
+        return rows.size() < 2;
+      }
+    });
+    assertEquals(2, count);
+    assertEquals("[a, b]", rows.toString());
+  }
+
+  public void testNumbers() throws IOException {
+    final String[] values = {
+      "0", "-17", "+42", "9223372036854775807", "-9223372036854775808", "9223372036854775808", "12.50",
+      "-0.001", ".5", "1.", "123456789012345678", "1234567890.123456789", "1e3", "-0.0",
+    };
+    StringBuffer input = new StringBuffer();
+    for (int i = 0; i < values.length; i++) {
+      input.append(i == 0 ? "" : ",").append(values[i]);
+    }
+    new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY).parse(input, new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        for (int i = 0; i < values.length; i++) {
+          String value = values[i];
+          try {
+            assertEquals(value, Long.parseLong(value), row.getLong(i));
+          } catch (NumberFormatException e) {
+            try {
+              row.getLong(i);
+              fail(value);
+            } catch (NumberFormatException expected) {
+            }
+          }
+          assertEquals(value, Double.toString(Double.parseDouble(value)), Double.toString(row.getDouble(i)));
+          assertEquals(value, new BigDecimal(value), row.getDecimal(i));
+        }
+        return true;
+      }
+    });
+    assertNumberFormatException("");
+    assertNumberFormatException("abc");
+    assertNumberFormatException("1-2");
+    assertNumberFormatException("-");
+  }
+
+  public void testUnterminatedEncapsulator() {
+    try {
+      tokenize(CSVStrategy.EXCEL_STRATEGY, "a,\"b\nc");
+      fail();
+    } catch (IOException expected) {
+    }
+    try {
+      tokenize(CSVStrategy.EXCEL_STRATEGY, "a,\"b\"c");
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testUnicodeEscapesRejected() {
+    CSVStrategy strategy = (CSVStrategy) CSVStrategy.DEFAULT_STRATEGY.clone();
+    strategy.setUnicodeEscapeInterpretation(true);
+    try {
+      new CSVTokenizer(strategy);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  private void assertNumberFormatException(String value) throws IOException {
+    new CSVTokenizer(CSVStrategy.EXCEL_STRATEGY).parse(value + ",x", new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        try {
+          row.getLong(0);
+          fail();
+        } catch (NumberFormatException expected) {
+        }
+        try {
+          row.getDecimal(0);
+          fail();
+        } catch (NumberFormatException expected) {
+        }
+        return true;
+      }
+    });
+  }
+
+  private static List<String> tokenize(CSVStrategy strategy, String input) throws IOException {
+    final List<String> rows = new ArrayList<String>();
+    new CSVTokenizer(strategy).parse(input, new CSVRowHandler() {
+      public boolean handleRow(CSVRow row) {
+        rows.add(Arrays.toString(row.getValues()));
+        return true;
+      }
+    });
+    return rows;
+  }
+
+  private static List<String> parse(CSVStrategy strategy, String input) throws IOException {
+    List<String> rows = new ArrayList<String>();
+    CSVParser parser = new CSVParser(new StringReader(input), (CSVStrategy) strategy.clone());
+    String[] line;
+    while ((line = parser.getLine()) != null) {
+      rows.add(Arrays.toString(line));
+    }
+    return rows;
+  }
+}
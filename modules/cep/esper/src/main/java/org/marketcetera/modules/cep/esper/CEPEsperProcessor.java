@@ -65,7 +65,7 @@ import java.util.*;
  */
 @ClassVersion("$Id$") //$NON-NLS-1$
 public class CEPEsperProcessor extends Module
-        implements DataReceiver, DataEmitter, CEPEsperProcessorMXBean {
+        implements BatchDataReceiver, DataEmitter, CEPEsperProcessorMXBean {
 
     /** Reference counter that keep track if we get events posted back into us from events that we emit
      * ie we emit to a strategy that sends events in back to this Esper instance
@@ -127,28 +127,9 @@ public class CEPEsperProcessor extends Module
         if(inData != null) {
             getDelegate().preProcessData(inFlowID, inData);
             int selfPostedCounter = mSelfPostingEvents.get();
-            boolean fSelfPostedEvent = selfPostedCounter > 0;
             mSelfPostingEvents.set(selfPostedCounter+1);
             try {
-                if (inData instanceof Map) {
-                    if(fSelfPostedEvent) {
-                        mService.getEPRuntime().route((Map<?,?>)inData, CEPDataTypes.MAP);
-                    } else {
-                        mService.getEPRuntime().sendEvent((Map<?,?>)inData, CEPDataTypes.MAP);
-                    }
-                } else if(inData instanceof Node) {
-                    if (fSelfPostedEvent) {
-                        mService.getEPRuntime().route((Node) inData);
-                    } else {
-                        mService.getEPRuntime().sendEvent((Node) inData);
-                    }
-                } else {
-                    if (fSelfPostedEvent) {
-                        mService.getEPRuntime().route(inData);
-                    } else {
-                        mService.getEPRuntime().sendEvent(inData);
-                    }
-                }
+                process(inData, selfPostedCounter > 0);
             } finally {
                 mSelfPostingEvents.set(selfPostedCounter);
             }
@@ -156,6 +137,59 @@ public class CEPEsperProcessor extends Module
         //ignore null data
     }
 
+    /**
+     * Receives a batch of data, sending it to the esper runtime in order.
+     * The self-posting reference count is updated once for the whole batch.
+     */
+    @Override
+    public void receiveData(DataFlowID inFlowID, Object[] inData, int inCount)
+            throws UnsupportedDataTypeException, StopDataFlowException {
+        ThreadedMetric.event("cep-IN");  //$NON-NLS-1$
+        int selfPostedCounter = mSelfPostingEvents.get();
+        boolean fSelfPostedEvent = selfPostedCounter > 0;
+        mSelfPostingEvents.set(selfPostedCounter+1);
+        try {
+            for(int i = 0; i < inCount; i++) {
+                //ignore null data
+                if(inData[i] != null) {
+                    getDelegate().preProcessData(inFlowID, inData[i]);
+                    process(inData[i], fSelfPostedEvent);
+                }
+            }
+        } finally {
+            mSelfPostingEvents.set(selfPostedCounter);
+        }
+    }
+
+    /**
+     * Sends the supplied data to the esper runtime, routing it if it
+     * was posted back into this module by one of the events it emitted.
+     *
+     * @param inData the data, cannot be null.
+     * @param inSelfPostedEvent if the data was posted back into this module.
+     */
+    private void process(Object inData, boolean inSelfPostedEvent) {
+        if (inData instanceof Map) {
+            if(inSelfPostedEvent) {
+                mService.getEPRuntime().route((Map<?,?>)inData, CEPDataTypes.MAP);
+            } else {
+                mService.getEPRuntime().sendEvent((Map<?,?>)inData, CEPDataTypes.MAP);
+            }
+        } else if(inData instanceof Node) {
+            if (inSelfPostedEvent) {
+                mService.getEPRuntime().route((Node) inData);
+            } else {
+                mService.getEPRuntime().sendEvent((Node) inData);
+            }
+        } else {
+            if (inSelfPostedEvent) {
+                mService.getEPRuntime().route(inData);
+            } else {
+                mService.getEPRuntime().sendEvent(inData);
+            }
+        }
+    }
+
     @Override
     public String getConfiguration() {
         return mConfiguration;
@@ -141,6 +141,15 @@ public class BasicCSVFeedEventTranslator
         }
         return events;
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedEventTranslator#getReplayTimestamp(org.marketcetera.marketdata.csv.CSVQuantum)
+     */
+    @Override
+    public Date getReplayTimestamp(CSVQuantum inData)
+            throws CoreException
+    {
+        return guessEventTimestamp(inData);
+    }
     /**
      * Validates the given line as a market statistic. 
      *
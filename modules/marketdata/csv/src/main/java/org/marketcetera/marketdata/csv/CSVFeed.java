@@ -15,6 +15,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +27,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVStrategy;
+import org.apache.commons.lang.Validate;
 import org.marketcetera.core.NoMoreIDsException;
 import org.marketcetera.marketdata.AbstractMarketDataFeed;
 import org.marketcetera.marketdata.AssetClass;
@@ -42,6 +45,10 @@ import org.marketcetera.util.misc.ClassVersion;
  * request specifies a symbol which is matched against a file of the same
  * name in the specified directory. Market data is read
  * from the file or files until exhausted.
+ *
+ * <p>By default, each file is replayed separately with a fixed delay between lines. If the credentials specify
+ * a replay mode, the files of a request are instead merged in timestamp order by a {@link CSVReplayEngine}
+ * paced by a {@link CSVReplayClock}.
  * 
  * @author toli kuznets
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
@@ -141,14 +148,34 @@ public class CSVFeed
     @Override
     protected final synchronized void doCancel(String inHandle)
     {
-        CsvFeedRequest request = requests.remove(inHandle);
+        FeedRequest request = requests.remove(inHandle);
         if(request == null) {
             CANCEL_REQUEST_FAILED_HANDLE_NOT_FOUND.warn(CSVFeed.class,
                                                         inHandle);
             return;
         }
+        // a merged replay serves several handles, all of which stop with it
+        requests.values().removeAll(Collections.singleton(request));
         request.stop();
     }
+    /**
+     * Allows active stepped replays to release lines up to the given number of milliseconds further into the data.
+     *
+     * <p>Has no effect on requests that are not replayed with a {@link CSVReplayClock.Mode#STEPPED} clock.
+     *
+     * @param inMillis a <code>long</code> value
+     * @throws IllegalArgumentException if the step is negative
+     */
+    public synchronized void stepReplay(long inMillis)
+    {
+        Validate.isTrue(inMillis >= 0,
+                        "Replay step must not be negative");
+        for(FeedRequest request : new LinkedHashSet<FeedRequest>(requests.values())) {
+            if(request instanceof CsvReplayRequest) {
+                ((CsvReplayRequest)request).step(inMillis);
+            }
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.AbstractMarketDataFeed#doLevelOneMarketDataRequest(java.lang.Object)
      */
@@ -156,6 +183,16 @@ public class CSVFeed
     protected final synchronized List<String> doMarketDataRequest(MarketDataRequest inData)
     {
         List<String> handleList = new ArrayList<String>();
+        if(credentials.getReplayMode() != null) {
+            CsvReplayRequest request = new CsvReplayRequest(inData);
+            for(String filename : inData.getSymbols()) {
+                String handle = request.addFile(filename);
+                handleList.add(handle);
+                requests.put(handle,
+                             request);
+            }
+            return handleList;
+        }
         for(String filename : inData.getSymbols()) {
             CsvFeedRequest request = new CsvFeedRequest(filename,
                                                         inData);
@@ -228,15 +265,16 @@ public class CSVFeed
             return;
         }
         try {
+            Set<FeedRequest> submittedRequests = new LinkedHashSet<FeedRequest>();
             for(String actualHandle : inHandles) {
-                CsvFeedRequest request = requests.get(actualHandle);
+                FeedRequest request = requests.get(actualHandle);
                 SLF4JLoggerProxy.debug(CSVFeed.class,
                                        "Found request {} for handle {}", //$NON-NLS-1$
                                        request,
                                        actualHandle);
                 if(request == null) {
                     throw new NullPointerException();
-                } else {
+                } else if(submittedRequests.add(request)) {
                     SLF4JLoggerProxy.debug(CSVFeed.class,
                                            "Submitting {}", //$NON-NLS-1$
                                            request);
@@ -268,7 +306,7 @@ public class CSVFeed
     /**
      * holds active market data requests
      */
-    private final Map<String,CsvFeedRequest> requests = new HashMap<String,CsvFeedRequest>();
+    private final Map<String,FeedRequest> requests = new HashMap<String,FeedRequest>();
     /**
      * executes and manages market data requests
      */
@@ -289,6 +327,21 @@ public class CSVFeed
      * counter used to generate unique ids
      */
     private static final AtomicLong counter = new AtomicLong(0);
+    /**
+     * Replays market data for one or more handles.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private interface FeedRequest
+            extends Runnable
+    {
+        /**
+         * Stops the request as soon as possible.
+         */
+        void stop();
+    }
     /**
      * Corresponds to a single market data request submitted to {@link CSVFeed}.
      *
@@ -298,7 +351,7 @@ public class CSVFeed
      */
     @ClassVersion("$Id$")
     private class CsvFeedRequest
-            implements Runnable
+            implements FeedRequest
     {
         /* (non-Javadoc)
          * @see java.lang.Runnable#run()
@@ -381,7 +434,8 @@ public class CSVFeed
         /**
          * Stops the currently running request as soon as possible. 
          */
-        private void stop()
+        @Override
+        public void stop()
         {
             if(!isRunning.get()) {
                 return;
@@ -414,4 +468,162 @@ public class CSVFeed
          */
         private final AtomicBoolean isRunning = new AtomicBoolean(false);
     }
+    /**
+     * Replays all the files of a single market data request merged in timestamp order.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private class CsvReplayRequest
+            implements FeedRequest, CSVReplayEngine.CSVReplayListener
+    {
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            SLF4JLoggerProxy.debug(CSVFeed.class,
+                                   "Beginning replay {}", //$NON-NLS-1$
+                                   this);
+            runner = Thread.currentThread();
+            try {
+                while(isRunning.get()) {
+                    long start = System.currentTimeMillis();
+                    CSVReplayEngine newEngine = new CSVReplayEngine(files,
+                                                                    request,
+                                                                    credentials.getEventTranslator(),
+                                                                    new CSVReplayClock(credentials.getReplayMode(),
+                                                                                       credentials.getReplayMultiplier()),
+                                                                    credentials.getReplayRate());
+                    synchronized(this) {
+                        if(!isRunning.get()) {
+                            break;
+                        }
+                        engine = newEngine;
+                        if(pendingStep != 0) {
+                            engine.getClock().step(pendingStep);
+                            pendingStep = 0;
+                        }
+                    }
+                    long count = newEngine.replay(this);
+                    Messages.END_OF_DATA_REACHED.debug(org.marketcetera.core.Messages.USER_MSG_CATEGORY,
+                                                       count,
+                                                       System.currentTimeMillis() - start);
+                    if(!credentials.getReplayEvents()) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                SLF4JLoggerProxy.debug(CSVFeed.class,
+                                       "Replay {} interrupted", //$NON-NLS-1$
+                                       this);
+            } catch (Exception e) {
+                REQUEST_FAILED.warn(org.marketcetera.core.Messages.USER_MSG_CATEGORY,
+                                    e,
+                                    this);
+            } finally {
+                isRunning.set(false);
+                runner = null;
+            }
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.csv.CSVReplayEngine.CSVReplayListener#replayed(java.lang.String, org.marketcetera.marketdata.csv.CSVQuantum)
+         */
+        @Override
+        public void replayed(String inHandle,
+                             CSVQuantum inData)
+        {
+            dataReceived(inHandle,
+                         inData);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.csv.CSVFeed.FeedRequest#stop()
+         */
+        @Override
+        public synchronized void stop()
+        {
+            isRunning.set(false);
+            if(engine != null) {
+                engine.stop();
+            }
+            // a stepped clock may be waiting for a step that will never come
+            Thread thread = runner;
+            if(thread != null) {
+                thread.interrupt();
+            }
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString()
+        {
+            return String.format("CsvReplayRequest [handles=%s, request=%s]", //$NON-NLS-1$
+                                 files.keySet(),
+                                 request);
+        }
+        /**
+         * Create a new CsvReplayRequest instance.
+         *
+         * @param inRequest a <code>MarketDataRequest</code> value
+         */
+        private CsvReplayRequest(MarketDataRequest inRequest)
+        {
+            request = inRequest;
+        }
+        /**
+         * Adds the given file to the replay.
+         *
+         * @param inDataFilename a <code>String</code> value
+         * @return a <code>String</code> value containing the handle with which the lines of the file are replayed
+         */
+        private String addFile(String inDataFilename)
+        {
+            String handle = Long.toHexString(counter.incrementAndGet());
+            files.put(handle,
+                      new File(credentials.getMarketdataDirectory(),
+                               inDataFilename));
+            return handle;
+        }
+        /**
+         * Steps the replay clock by the given number of milliseconds.
+         *
+         * @param inMillis a <code>long</code> value
+         */
+        private synchronized void step(long inMillis)
+        {
+            if(engine == null) {
+                pendingStep += inMillis;
+            } else {
+                engine.getClock().step(inMillis);
+            }
+        }
+        /**
+         * files to replay by handle
+         */
+        private final Map<String,File> files = new LinkedHashMap<String,File>();
+        /**
+         * the original request
+         */
+        private final MarketDataRequest request;
+        /**
+         * indicates if the request is running or not
+         */
+        private final AtomicBoolean isRunning = new AtomicBoolean(true);
+        /**
+         * replays the current pass over the files, <code>null</code> until the replay begins
+         */
+        private CSVReplayEngine engine;
+        /**
+         * steps taken before the replay began
+         */
+        private long pendingStep;
+        /**
+         * thread running the replay, <code>null</code> if the replay is not running
+         */
+        private volatile Thread runner;
+    }
 }
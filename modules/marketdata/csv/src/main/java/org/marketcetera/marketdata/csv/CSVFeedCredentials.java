@@ -29,9 +29,11 @@ public final class CSVFeedCredentials
     @Override
     public String toString()
     {
-        return String.format("CSVFeedCredentials [eventTranslator=%s, millisecondDelay=%s]", //$NON-NLS-1$
+        return String.format("CSVFeedCredentials [eventTranslator=%s, millisecondDelay=%s, replayMode=%s, replayMultiplier=%s]", //$NON-NLS-1$
                              eventTranslator,
-                             replayRate);
+                             replayRate,
+                             replayMode,
+                             replayMultiplier);
     }
     /**
      * Retrieves an instance of <code>CSVFeedCredentials</code>.
@@ -48,18 +50,49 @@ public final class CSVFeedCredentials
                                           String inMarketdataDirectory,
                                           String inEventTranslatorClassname)
             throws FeedException
+    {
+        return getInstance(inReplayRate,
+                           inReplayEvents,
+                           inMarketdataDirectory,
+                           inEventTranslatorClassname,
+                           null,
+                           1);
+    }
+    /**
+     * Retrieves an instance of <code>CSVFeedCredentials</code>.
+     * 
+     * @param inReplayRate a <code>long</code> value containing the rate at which to replay marketdata
+     * @param inReplayEvents a <code>boolean</code> value indicating whether to replay events upon completion
+     * @param inMarketdataDirectory a <code>String</code> value containing the marketdata files
+     * @param inEventTranslatorClassname a <code>String</code> value containing the fully-qualified name of the event translator class
+     * @param inReplayMode a <code>CSVReplayClock.Mode</code> value containing the pace at which to merge the files of a request or <code>null</code> to replay each file separately at the replay rate
+     * @param inReplayMultiplier a <code>double</code> value containing the replay speed relative to the recorded speed for {@link CSVReplayClock.Mode#SCALED}
+     * @return a <code>CSVFeedCredentials</code> value
+     * @throws FeedException if an error occurs while retrieving the credentials object
+     */
+    static CSVFeedCredentials getInstance(long inReplayRate,
+                                          boolean inReplayEvents,
+                                          String inMarketdataDirectory,
+                                          String inEventTranslatorClassname,
+                                          CSVReplayClock.Mode inReplayMode,
+                                          double inReplayMultiplier)
+            throws FeedException
     {
         SLF4JLoggerProxy.debug(CSVFeedCredentials.class,
-                               "Creating credentials at a replay rate of {}, replay events value of {}, marketdata directory {}, and event translator classname {}", //$NON-NLS-1$
+                               "Creating credentials at a replay rate of {}, replay events value of {}, marketdata directory {}, event translator classname {}, and replay mode {} x{}", //$NON-NLS-1$
                                inReplayRate,
                                inReplayEvents,
                                inMarketdataDirectory,
-                               inEventTranslatorClassname);
+                               inEventTranslatorClassname,
+                               inReplayMode,
+                               inReplayMultiplier);
         try {
             return new CSVFeedCredentials(inReplayRate,
                                           inReplayEvents,
                                           inMarketdataDirectory,
-                                          inEventTranslatorClassname);
+                                          inEventTranslatorClassname,
+                                          inReplayMode,
+                                          inReplayMultiplier);
         } catch (FeedException e) {
             throw e;
         } catch (Exception e) {
@@ -96,7 +129,9 @@ public final class CSVFeedCredentials
             return new CSVFeedCredentials(inReplayRate,
                                           inReplayEvents,
                                           inMarketdataDirectory,
-                                          inEventTranslator);
+                                          inEventTranslator,
+                                          null,
+                                          1);
         } catch (Exception e) {
             INVALID_EVENT_TRANSLATOR.error(CSVFeedCredentials.class,
                                            e,
@@ -133,6 +168,24 @@ public final class CSVFeedCredentials
     {
         return eventTranslator;
     }
+    /**
+     * Get the replayMode value.
+     *
+     * @return a <code>CSVReplayClock.Mode</code> value or <code>null</code> if each file is replayed separately at the replay rate
+     */
+    public CSVReplayClock.Mode getReplayMode()
+    {
+        return replayMode;
+    }
+    /**
+     * Get the replayMultiplier value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getReplayMultiplier()
+    {
+        return replayMultiplier;
+    }
     /**
      * Get the replayEvents value.
      *
@@ -149,6 +202,8 @@ public final class CSVFeedCredentials
      * @param inReplayEvents a <code>boolean</code> value indicating whether to replay events upon completion
      * @param inMarketdataDirectory a <code>String</code> value containing the marketdata files
      * @param inEventTranslatorClassname a <code>String</code> value containing the fully-qualified name of the event translator class
+     * @param inReplayMode a <code>CSVReplayClock.Mode</code> value or <code>null</code>
+     * @param inReplayMultiplier a <code>double</code> value
      * @throws ClassNotFoundException if the given classname does not exist in the classpath 
      * @throws IllegalAccessException if the class referred to by the classname is not accessible
      * @throws InstantiationException if the class referred to by the classname cannot be instantiated
@@ -157,13 +212,17 @@ public final class CSVFeedCredentials
 	private CSVFeedCredentials(long inReplayRate,
 	                           boolean inReplayEvents,
 	                           String inMarketdataDirectory,
-	                           String inEventTranslatorClassname)
+	                           String inEventTranslatorClassname,
+	                           CSVReplayClock.Mode inReplayMode,
+	                           double inReplayMultiplier)
 	        throws InstantiationException, IllegalAccessException, ClassNotFoundException, FeedException
 	{
         this(inReplayRate,
              inReplayEvents,
              inMarketdataDirectory,
-             (CSVFeedEventTranslator)Class.forName(inEventTranslatorClassname).newInstance());
+             (CSVFeedEventTranslator)Class.forName(inEventTranslatorClassname).newInstance(),
+             inReplayMode,
+             inReplayMultiplier);
 	}
     /**
      * Creates a new <code>CSVFeedCredentials</code> instance.
@@ -172,12 +231,16 @@ public final class CSVFeedCredentials
      * @param inReplayEvents a <code>boolean</code> value indicating whether to replay events upon completion
      * @param inMarketdataDirectory a <code>String</code> value containing the marketdata files
      * @param inEventTranslatorClassname a <code>String</code> value containing the fully-qualified name of the event translator class
+     * @param inReplayMode a <code>CSVReplayClock.Mode</code> value or <code>null</code>
+     * @param inReplayMultiplier a <code>double</code> value
      * @throws FeedException if an error occurs while constructing the credentials object
      */
     private CSVFeedCredentials(long inReplayRate,
                                boolean inReplayEvents,
                                String inMarketdataDirectory,
-                               CSVFeedEventTranslator inEventTranslator)
+                               CSVFeedEventTranslator inEventTranslator,
+                               CSVReplayClock.Mode inReplayMode,
+                               double inReplayMultiplier)
             throws FeedException 
     {
         if(inEventTranslator == null) {
@@ -190,7 +253,11 @@ public final class CSVFeedCredentials
                         "Marketdata directory does not exist");
         Validate.isTrue(marketdataDirectory.canRead(),
                         "Marketdata directory is not readable");
+        Validate.isTrue(inReplayMultiplier > 0,
+                        "Replay multiplier must be positive");
         eventTranslator = inEventTranslator;
+        replayMode = inReplayMode;
+        replayMultiplier = inReplayMultiplier;
     }
     /**
      * the directory in which to find marketdata
@@ -208,4 +275,12 @@ public final class CSVFeedCredentials
      * the event translator to use 
      */
     private final CSVFeedEventTranslator eventTranslator;
+    /**
+     * pace at which to merge the files of a request or <code>null</code> to replay each file separately
+     */
+    private final CSVReplayClock.Mode replayMode;
+    /**
+     * replay speed relative to the recorded speed when the replay mode is {@link CSVReplayClock.Mode#SCALED}
+     */
+    private final double replayMultiplier;
 }
@@ -1,5 +1,6 @@
 package org.marketcetera.marketdata.csv;
 
+import java.util.Date;
 import java.util.List;
 
 import org.marketcetera.core.CoreException;
@@ -39,6 +40,21 @@ public class CSVFeedEventTranslator
     {
         throw new UnsupportedOperationException();
     }
+    /**
+     * Gets the time used to order the given line among the lines of other files during a replay.
+     *
+     * <p>Override this method to replay several files in time order with {@link CSVReplayEngine}.  This
+     * implementation returns <code>null</code>, in which case the line is replayed with the line before it.
+     *
+     * @param inData a <code>CSVQuantum</code> value
+     * @return a <code>Date</code> value or <code>null</code>
+     * @throws CoreException if the time cannot be interpreted
+     */
+    public Date getReplayTimestamp(CSVQuantum inData)
+            throws CoreException
+    {
+        return null;
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.event.IEventTranslator#translate(org.marketcetera.event.Event)
      */
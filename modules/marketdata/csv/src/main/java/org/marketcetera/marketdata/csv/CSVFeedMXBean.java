@@ -76,4 +76,39 @@ public interface CSVFeedMXBean
      */
     @DisplayName("Indicates if events should be replayed upon completion")
     public void setReplayEvents(String inReplayEvents);
+    /**
+     * Gets the replay mode.
+     *
+     * @return a <code>String</code> value
+     */
+    @DisplayName("The pace at which the files of a request are merged in time order, or empty to replay each file separately at the replay rate")
+    public String getReplayMode();
+    /**
+     * Sets the replay mode.
+     *
+     * @param inReplayMode a <code>String</code> value containing one of <code>FASTEST</code>, <code>SCALED</code>, or <code>STEPPED</code>, or empty to replay each file separately
+     */
+    @DisplayName("The pace at which the files of a request are merged in time order, or empty to replay each file separately at the replay rate")
+    public void setReplayMode(String inReplayMode);
+    /**
+     * Gets the replay multiplier.
+     *
+     * @return a <code>String</code> value
+     */
+    @DisplayName("The replay speed relative to the recorded speed in SCALED replay mode")
+    public String getReplayMultiplier();
+    /**
+     * Sets the replay multiplier.
+     *
+     * @param inReplayMultiplier a <code>String</code> value
+     */
+    @DisplayName("The replay speed relative to the recorded speed in SCALED replay mode")
+    public void setReplayMultiplier(String inReplayMultiplier);
+    /**
+     * Advances active replays in STEPPED replay mode by the given number of milliseconds.
+     *
+     * @param inMillis a <code>String</code> value
+     */
+    @DisplayName("Advances active replays in STEPPED replay mode")
+    public void stepReplay(@DisplayName("The number of milliseconds by which to advance")String inMillis);
 }
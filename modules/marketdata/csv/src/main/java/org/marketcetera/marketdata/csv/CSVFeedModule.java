@@ -83,6 +83,47 @@ public class CSVFeedModule
     {
         replayEvents = Boolean.valueOf(StringUtils.trimToNull(inReplayEvents));
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedMXBean#getReplayMode()
+     */
+    @Override
+    public String getReplayMode()
+    {
+        return replayMode == null ? "" : replayMode.name(); //$NON-NLS-1$
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedMXBean#setReplayMode(java.lang.String)
+     */
+    @Override
+    public void setReplayMode(String inReplayMode)
+    {
+        String value = StringUtils.trimToNull(inReplayMode);
+        replayMode = value == null ? null : CSVReplayClock.Mode.valueOf(value.toUpperCase());
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedMXBean#getReplayMultiplier()
+     */
+    @Override
+    public String getReplayMultiplier()
+    {
+        return String.valueOf(replayMultiplier);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedMXBean#setReplayMultiplier(java.lang.String)
+     */
+    @Override
+    public void setReplayMultiplier(String inReplayMultiplier)
+    {
+        replayMultiplier = Double.parseDouble(StringUtils.trimToNull(inReplayMultiplier));
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.csv.CSVFeedMXBean#stepReplay(java.lang.String)
+     */
+    @Override
+    public void stepReplay(String inMillis)
+    {
+        ((CSVFeed)getFeed()).stepReplay(Long.parseLong(StringUtils.trimToNull(inMillis)));
+    }
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
@@ -113,7 +154,9 @@ public class CSVFeedModule
         return CSVFeedCredentials.getInstance(replayRate,
                                               replayEvents,
                                               marketdataDirectory,
-                                              getEventTranslatorClassName());
+                                              getEventTranslatorClassName(),
+                                              replayMode,
+                                              replayMultiplier);
     }
     /**
      * the event translator classname to use
@@ -131,4 +174,12 @@ public class CSVFeedModule
      * indicates if events should be replayed upon completion
      */
     private volatile boolean replayEvents = false;
+    /**
+     * pace at which to merge the files of a request or <code>null</code> to replay each file separately
+     */
+    private volatile CSVReplayClock.Mode replayMode;
+    /**
+     * replay speed relative to the recorded speed in scaled replay mode
+     */
+    private volatile double replayMultiplier = 1;
 }
@@ -0,0 +1,198 @@
+package org.marketcetera.marketdata.csv;
+
+import org.apache.commons.lang.Validate;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Virtual clock that paces a historical replay.
+ *
+ * <p>The clock time is the timestamp of the data most recently released. How quickly the clock follows the data
+ * depends on the {@link Mode}:
+ * <ul>
+ *   <li>{@link Mode#FASTEST} releases data as soon as it is read</li>
+ *   <li>{@link Mode#SCALED} releases data at the rate it was recorded, multiplied by the given multiplier</li>
+ *   <li>{@link Mode#STEPPED} releases data only up to the limit set by calls to {@link #step(long)}</li>
+ * </ul>
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class CSVReplayClock
+{
+    /**
+     * Create a new CSVReplayClock instance.
+     *
+     * @param inMode a <code>Mode</code> value
+     * @param inMultiplier a <code>double</code> value containing the replay speed relative to the recorded speed, used only in {@link Mode#SCALED}
+     * @throws IllegalArgumentException if the multiplier is not positive
+     */
+    public CSVReplayClock(Mode inMode,
+                          double inMultiplier)
+    {
+        Validate.notNull(inMode,
+                         "Replay mode is required");
+        Validate.isTrue(inMultiplier > 0,
+                        "Replay multiplier must be positive");
+        mode = inMode;
+        multiplier = inMultiplier;
+    }
+    /**
+     * Waits until data with the given timestamp may be released and advances the clock to that time.
+     *
+     * <p>Data with a timestamp before the current clock time is released immediately without moving the clock back.
+     * Data without a timestamp is released immediately and does not start or move the clock.
+     *
+     * @param inTimestamp a <code>long</code> value containing the timestamp of the data in milliseconds or {@link #NO_TIMESTAMP}
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void awaitTime(long inTimestamp)
+            throws InterruptedException
+    {
+        if(inTimestamp == NO_TIMESTAMP) {
+            return;
+        }
+        switch(mode) {
+            case FASTEST:
+                break;
+            case SCALED:
+                if(start == null) {
+                    start = inTimestamp;
+                    wallStart = System.nanoTime();
+                    break;
+                }
+                long wait = wallStart + (long)((inTimestamp - start) * NANOS_PER_MILLI / multiplier) - System.nanoTime();
+                if(wait > 0) {
+                    Thread.sleep(wait / NANOS_PER_MILLI,
+                                 (int)(wait % NANOS_PER_MILLI));
+                }
+                break;
+            case STEPPED:
+                synchronized(this) {
+                    if(start == null) {
+                        start = inTimestamp;
+                        limit = inTimestamp + pendingStep;
+                    }
+                    while(inTimestamp > limit) {
+                        wait();
+                    }
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException(mode.name());
+        }
+        if(inTimestamp > time) {
+            time = inTimestamp;
+        }
+    }
+    /**
+     * Allows data up to the given number of milliseconds past the current limit to be released.
+     *
+     * <p>Has no effect unless the clock is {@link Mode#STEPPED}. Before the first data is read, the limit is the timestamp
+     * of the first data, which is always released.
+     *
+     * @param inMillis a <code>long</code> value
+     * @throws IllegalArgumentException if the step is negative
+     */
+    public synchronized void step(long inMillis)
+    {
+        Validate.isTrue(inMillis >= 0,
+                        "Replay step must not be negative");
+        if(start == null) {
+            pendingStep += inMillis;
+            return;
+        }
+        limit += inMillis;
+        notifyAll();
+    }
+    /**
+     * Gets the current clock time.
+     *
+     * @return a <code>long</code> value containing the timestamp of the latest data released or {@link #NO_TIMESTAMP} if no data with a timestamp has been released
+     */
+    public long getTime()
+    {
+        return time;
+    }
+    /**
+     * Get the mode value.
+     *
+     * @return a <code>Mode</code> value
+     */
+    public Mode getMode()
+    {
+        return mode;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("CSVReplayClock [mode=%s, multiplier=%s, time=%s]", //$NON-NLS-1$
+                             mode,
+                             multiplier,
+                             time);
+    }
+    /**
+     * Indicates how a replay clock is paced.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    public static enum Mode
+    {
+        /**
+         * release data as fast as it can be read
+         */
+        FASTEST,
+        /**
+         * release data at the recorded rate times a multiplier
+         */
+        SCALED,
+        /**
+         * release data only as the clock is stepped
+         */
+        STEPPED;
+    }
+    /**
+     * stands in for the timestamp of data that does not have one
+     */
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    /**
+     * number of nanoseconds in a millisecond
+     */
+    private static final long NANOS_PER_MILLI = 1000000;
+    /**
+     * pacing mode
+     */
+    private final Mode mode;
+    /**
+     * replay speed relative to the recorded speed
+     */
+    private final double multiplier;
+    /**
+     * timestamp of the first data, <code>null</code> until the first data is read
+     */
+    private Long start;
+    /**
+     * system nano time at which the first data was released
+     */
+    private long wallStart;
+    /**
+     * latest timestamp that may be released in stepped mode
+     */
+    private long limit;
+    /**
+     * steps taken before the first data was read
+     */
+    private long pendingStep;
+    /**
+     * timestamp of the latest data released
+     */
+    private volatile long time = NO_TIMESTAMP;
+}
@@ -0,0 +1,299 @@
+package org.marketcetera.marketdata.csv;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Date;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVStrategy;
+import org.apache.commons.lang.Validate;
+import org.marketcetera.core.CoreException;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Replays several CSV market data files as a single stream in timestamp order.
+ *
+ * <p>Each file is read ahead by one line. The next line replayed is the earliest of the lines read ahead, as
+ * ordered by {@link CSVFeedEventTranslator#getReplayTimestamp(CSVQuantum)}, so files are merged with the same
+ * column mapping the translator uses to build events. Lines with the same timestamp are replayed in the order the
+ * files were given. A line without a timestamp is replayed with the line before it in the same file.
+ *
+ * <p>Lines are released at the pace of the given {@link CSVReplayClock}.
+ *
+ * <p>An engine replays its files once and is not thread-safe, except for {@link #stop()}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public class CSVReplayEngine
+{
+    /**
+     * Create a new CSVReplayEngine instance.
+     *
+     * @param inFiles a <code>Map&lt;String,File&gt;</code> value containing the files to replay by the handle with which to replay their lines, in the order to replay lines with the same timestamp
+     * @param inRequest a <code>MarketDataRequest</code> value containing the request to attach to each line
+     * @param inTranslator a <code>CSVFeedEventTranslator</code> value used to interpret line timestamps
+     * @param inClock a <code>CSVReplayClock</code> value used to pace the replay
+     * @param inReplayRate a <code>double</code> value containing the replay rate to attach to each line
+     */
+    public CSVReplayEngine(Map<String,File> inFiles,
+                           MarketDataRequest inRequest,
+                           CSVFeedEventTranslator inTranslator,
+                           CSVReplayClock inClock,
+                           double inReplayRate)
+    {
+        Validate.notEmpty(inFiles,
+                          "At least one file is required");
+        Validate.notNull(inTranslator);
+        Validate.notNull(inClock);
+        files = inFiles;
+        request = inRequest;
+        translator = inTranslator;
+        clock = inClock;
+        replayRate = inReplayRate;
+    }
+    /**
+     * Replays the files to the given listener until all lines have been replayed or the engine is stopped.
+     *
+     * <p>All the files are closed before this method returns.
+     *
+     * @param inListener a <code>CSVReplayListener</code> value
+     * @return a <code>long</code> value containing the number of lines replayed
+     * @throws IOException if a file cannot be read
+     * @throws InterruptedException if the thread is interrupted while waiting for the clock
+     */
+    public long replay(CSVReplayListener inListener)
+            throws IOException, InterruptedException
+    {
+        PriorityQueue<Source> sources = new PriorityQueue<Source>(files.size());
+        long count = 0;
+        try {
+            int sequence = 0;
+            for(Map.Entry<String,File> entry : files.entrySet()) {
+                Source source = new Source(entry.getKey(),
+                                           entry.getValue(),
+                                           sequence++);
+                if(source.advance()) {
+                    sources.add(source);
+                } else {
+                    source.close();
+                }
+            }
+            Source source;
+            while(isRunning.get() && (source = sources.poll()) != null) {
+                clock.awaitTime(source.timestamp);
+                inListener.replayed(source.handle,
+                                    source.quantum);
+                count += 1;
+                if(source.advance()) {
+                    sources.add(source);
+                } else {
+                    source.close();
+                }
+            }
+            return count;
+        } finally {
+            for(Source source : sources) {
+                source.close();
+            }
+        }
+    }
+    /**
+     * Stops the replay after the line being replayed.
+     */
+    public void stop()
+    {
+        isRunning.set(false);
+    }
+    /**
+     * Get the clock value.
+     *
+     * @return a <code>CSVReplayClock</code> value
+     */
+    public CSVReplayClock getClock()
+    {
+        return clock;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("CSVReplayEngine [files=%s, clock=%s]", //$NON-NLS-1$
+                             files.values(),
+                             clock);
+    }
+    /**
+     * Receives lines from a {@link CSVReplayEngine}.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    public interface CSVReplayListener
+    {
+        /**
+         * Receives the next line in timestamp order.
+         *
+         * @param inHandle a <code>String</code> value containing the handle of the file the line was read from
+         * @param inData a <code>CSVQuantum</code> value containing the line
+         */
+        void replayed(String inHandle,
+                      CSVQuantum inData);
+    }
+    /**
+     * Reads ahead one line of a single file.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class Source
+            implements Comparable<Source>
+    {
+        /* (non-Javadoc)
+         * @see java.lang.Comparable#compareTo(java.lang.Object)
+         */
+        @Override
+        public int compareTo(Source inOther)
+        {
+            if(timestamp != inOther.timestamp) {
+                return timestamp < inOther.timestamp ? -1 : 1;
+            }
+            return sequence < inOther.sequence ? -1 : (sequence == inOther.sequence ? 0 : 1);
+        }
+        /**
+         * Create a new Source instance.
+         *
+         * @param inHandle a <code>String</code> value
+         * @param inFile a <code>File</code> value
+         * @param inSequence an <code>int</code> value
+         * @throws IOException if the file cannot be opened
+         */
+        private Source(String inHandle,
+                       File inFile,
+                       int inSequence)
+                throws IOException
+        {
+            handle = inHandle;
+            file = inFile;
+            sequence = inSequence;
+            reader = new FileReader(inFile);
+            parser = new CSVParser(reader,
+                                   CSVStrategy.EXCEL_STRATEGY,
+                                   BUFFER_SIZE);
+        }
+        /**
+         * Reads the next line of the file.
+         *
+         * @return a <code>boolean</code> value indicating if a line was read
+         * @throws IOException if the file cannot be read
+         */
+        private boolean advance()
+                throws IOException
+        {
+            String[] line = parser.getLine();
+            if(line == null) {
+                quantum = null;
+                return false;
+            }
+            quantum = CSVQuantum.getQuantum(line,
+                                            request,
+                                            replayRate);
+            try {
+                Date lineTimestamp = translator.getReplayTimestamp(quantum);
+                if(lineTimestamp != null) {
+                    timestamp = lineTimestamp.getTime();
+                }
+            } catch (CoreException e) {
+                // leave the line where it is in the file, the translator reports the problem when the line is replayed
+                SLF4JLoggerProxy.debug(CSVReplayEngine.class,
+                                       e,
+                                       "Cannot read the timestamp of {} in {}", //$NON-NLS-1$
+                                       quantum,
+                                       file);
+            }
+            return true;
+        }
+        /**
+         * Closes the file.
+         */
+        private void close()
+        {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                SLF4JLoggerProxy.warn(CSVReplayEngine.class,
+                                      e);
+            }
+        }
+        /**
+         * handle with which lines of this file are replayed
+         */
+        private final String handle;
+        /**
+         * file being read
+         */
+        private final File file;
+        /**
+         * position of this file in the replay, breaks timestamp ties
+         */
+        private final int sequence;
+        /**
+         * reads the file
+         */
+        private final Reader reader;
+        /**
+         * parses the file
+         */
+        private final CSVParser parser;
+        /**
+         * line read ahead or <code>null</code> if the file is exhausted
+         */
+        private CSVQuantum quantum;
+        /**
+         * timestamp of the line read ahead or {@link CSVReplayClock#NO_TIMESTAMP} if no line read so far has one
+         */
+        private long timestamp = CSVReplayClock.NO_TIMESTAMP;
+    }
+    /**
+     * number of chars read from a file at a time
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * files to replay by handle
+     */
+    private final Map<String,File> files;
+    /**
+     * request attached to each line
+     */
+    private final MarketDataRequest request;
+    /**
+     * interprets line timestamps
+     */
+    private final CSVFeedEventTranslator translator;
+    /**
+     * paces the replay
+     */
+    private final CSVReplayClock clock;
+    /**
+     * replay rate attached to each line
+     */
+    private final double replayRate;
+    /**
+     * indicates if the replay should continue
+     */
+    private final AtomicBoolean isRunning = new AtomicBoolean(true);
+}
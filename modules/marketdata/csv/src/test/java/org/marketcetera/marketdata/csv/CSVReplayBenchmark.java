@@ -0,0 +1,198 @@
+package org.marketcetera.marketdata.csv;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVStrategy;
+import org.apache.commons.io.FileUtils;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.MarketDataRequestBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Measures the number of CSV market data rows replayed per second.
+ *
+ * <p>The per-file method reads each file in turn the way a {@link CSVFeed} request does without a replay mode, with a
+ * parser over an unbuffered <code>FileReader</code>. The merged method replays all the files in timestamp order with
+ * a {@link CSVReplayEngine} and a {@link CSVReplayClock.Mode#FASTEST} clock. Both build a {@link CSVQuantum} for each
+ * row, neither translates rows to events.
+ *
+ * <p>Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.marketdata.csv.CSVReplayBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+public class CSVReplayBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(CSVReplayBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Writes the market data files.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws IOException
+    {
+        directory = File.createTempFile("csv-replay",
+                                        "");
+        directory.delete();
+        directory.mkdirs();
+        for(int fileIndex=0;fileIndex<FILE_COUNT;fileIndex++) {
+            String symbol = "SYM" + fileIndex;
+            File file = new File(directory,
+                                 symbol + ".csv");
+            BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+            try {
+                for(int row=0;row<ROWS_PER_FILE;row++) {
+                    writer.write(row % 2 == 0 ? "BID," : "TRADE,");
+                    writer.write(String.valueOf(START_TIME + row * 10 + fileIndex));
+                    writer.write(',');
+                    writer.write(symbol);
+                    writer.write(",1470000000000,Q,");
+                    writer.write(String.valueOf(100 + row % 100));
+                    writer.write(".25,");
+                    writer.write(String.valueOf(100 * (1 + row % 10)));
+                    writer.newLine();
+                }
+            } finally {
+                writer.close();
+            }
+            files.put(symbol,
+                      file);
+        }
+    }
+    /**
+     * Deletes the market data files.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+            throws IOException
+    {
+        FileUtils.deleteDirectory(directory);
+    }
+    /**
+     * Reads each file in turn with a parser over an unbuffered reader.
+     *
+     * @param inBlackhole a <code>Blackhole</code> value
+     * @throws IOException if a file cannot be read
+     */
+    @Benchmark
+    @OperationsPerInvocation(FILE_COUNT*ROWS_PER_FILE)
+    public void perFile(Blackhole inBlackhole)
+            throws IOException
+    {
+        for(File file : files.values()) {
+            FileReader reader = new FileReader(file);
+            try {
+                CSVParser parser = new CSVParser(reader,
+                                                 CSVStrategy.EXCEL_STRATEGY);
+                String[] line;
+                while((line = parser.getLine()) != null) {
+                    inBlackhole.consume(CSVQuantum.getQuantum(line,
+                                                              request,
+                                                              0));
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+    /**
+     * Replays all the files merged in timestamp order.
+     *
+     * @param inBlackhole a <code>Blackhole</code> value
+     * @throws Exception if the files cannot be replayed
+     */
+    @Benchmark
+    @OperationsPerInvocation(FILE_COUNT*ROWS_PER_FILE)
+    public void merged(final Blackhole inBlackhole)
+            throws Exception
+    {
+        new CSVReplayEngine(files,
+                            request,
+                            translator,
+                            new CSVReplayClock(CSVReplayClock.Mode.FASTEST,
+                                               1),
+                            0).replay(new CSVReplayEngine.CSVReplayListener() {
+            @Override
+            public void replayed(String inHandle,
+                                 CSVQuantum inData)
+            {
+                inBlackhole.consume(inData);
+            }
+        });
+    }
+    /**
+     * number of files to replay
+     */
+    private static final int FILE_COUNT = 20;
+    /**
+     * number of rows in each file
+     */
+    private static final int ROWS_PER_FILE = 50000;
+    /**
+     * timestamp of the first row
+     */
+    private static final long START_TIME = 1470000000000L;
+    /**
+     * market data files by symbol
+     */
+    private final Map<String,File> files = new LinkedHashMap<String,File>();
+    /**
+     * interprets row timestamps
+     */
+    private final BasicCSVFeedEventTranslator translator = new BasicCSVFeedEventTranslator();
+    /**
+     * request attached to each row
+     */
+    private final MarketDataRequest request = MarketDataRequestBuilder.newRequest().withSymbols("SYM0").create();
+    /**
+     * directory holding the market data files
+     */
+    private File directory;
+}
@@ -0,0 +1,212 @@
+package org.marketcetera.marketdata.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.MarketDataRequestBuilder;
+
+/* $License$ */
+
+/**
+ * Tests {@link CSVReplayEngine}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class CSVReplayEngineTest
+{
+    /**
+     * Tests that lines from several files are replayed in timestamp order, ties in file order.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testMerge()
+            throws Exception
+    {
+        Map<String,File> files = new LinkedHashMap<String,File>();
+        files.put("A",
+                  writeFile("A.csv",
+                            "TRADE,100,A,1,N,1,1",
+                            "TRADE,300,A,1,N,1,1",
+                            "TRADE,300,A,1,N,2,1",
+                            "TRADE,500,A,1,N,1,1"));
+        files.put("B",
+                  writeFile("B.csv",
+                            "TRADE,200,B,1,N,1,1",
+                            "TRADE,300,B,1,N,1,1",
+                            "TRADE,,B,1,N,2,1",
+                            "TRADE,400,B,1,N,1,1"));
+        files.put("C",
+                  writeFile("C.csv"));
+        CSVReplayEngine engine = new CSVReplayEngine(files,
+                                                     request,
+                                                     translator,
+                                                     new CSVReplayClock(CSVReplayClock.Mode.FASTEST,
+                                                                        1),
+                                                     0);
+        final List<String> replayed = new ArrayList<String>();
+        assertEquals(8,
+                     engine.replay(new CSVReplayEngine.CSVReplayListener() {
+                         @Override
+                         public void replayed(String inHandle,
+                                              CSVQuantum inData)
+                         {
+                             replayed.add(inHandle + inData.getLine()[1] + "/" + inData.getLine()[5]);
+                         }
+                     }));
+        assertEquals("[A100/1, B200/1, A300/1, A300/2, B300/1, B/2, B400/1, A500/1]",
+                     replayed.toString());
+        assertEquals(500,
+                     engine.getClock().getTime());
+    }
+    /**
+     * Tests that a stepped clock releases lines only as it is stepped.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=10000)
+    public void testStepped()
+            throws Exception
+    {
+        Map<String,File> files = new LinkedHashMap<String,File>();
+        files.put("A",
+                  writeFile("A.csv",
+                            "TRADE,1000,A,1,N,1,1",
+                            "TRADE,1005,A,1,N,1,1",
+                            "TRADE,1020,A,1,N,1,1"));
+        final CSVReplayClock clock = new CSVReplayClock(CSVReplayClock.Mode.STEPPED,
+                                                        1);
+        final CSVReplayEngine engine = new CSVReplayEngine(files,
+                                                           request,
+                                                           translator,
+                                                           clock,
+                                                           0);
+        final BlockingQueue<String> replayed = new LinkedBlockingQueue<String>();
+        Thread replayer = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                try {
+                    engine.replay(new CSVReplayEngine.CSVReplayListener() {
+                        @Override
+                        public void replayed(String inHandle,
+                                             CSVQuantum inData)
+                        {
+                            replayed.add(inData.getLine()[1]);
+                        }
+                    });
+                } catch (InterruptedException ignored) {
+                } catch (Exception e) {
+                    replayed.add(e.toString());
+                }
+            }
+        });
+        replayer.start();
+        assertEquals("1000",
+                     replayed.take());
+        assertNull(replayed.poll(250,
+                                 TimeUnit.MILLISECONDS));
+        clock.step(10);
+        assertEquals("1005",
+                     replayed.take());
+        assertNull(replayed.poll(250,
+                                 TimeUnit.MILLISECONDS));
+        assertEquals(1005,
+                     clock.getTime());
+        clock.step(20);
+        assertEquals("1020",
+                     replayed.take());
+        replayer.join();
+    }
+    /**
+     * Tests that lines without a timestamp at the start of a file do not start the clock.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test(timeout=10000)
+    public void testLeadingLinesWithoutTimestamp()
+            throws Exception
+    {
+        for(CSVReplayClock.Mode mode : CSVReplayClock.Mode.values()) {
+            Map<String,File> files = new LinkedHashMap<String,File>();
+            files.put("A",
+                      writeFile(mode + ".csv",
+                                "TRADE,,A,1,N,1,1",
+                                "TRADE,1000,A,1,N,1,1",
+                                "TRADE,1005,A,1,N,1,1"));
+            CSVReplayClock clock = new CSVReplayClock(mode,
+                                                      1);
+            // lets the last line through a stepped clock, which always releases the first line with a timestamp
+            clock.step(5);
+            CSVReplayEngine engine = new CSVReplayEngine(files,
+                                                         request,
+                                                         translator,
+                                                         clock,
+                                                         0);
+            final List<String> replayed = new ArrayList<String>();
+            assertEquals(3,
+                         engine.replay(new CSVReplayEngine.CSVReplayListener() {
+                             @Override
+                             public void replayed(String inHandle,
+                                                  CSVQuantum inData)
+                             {
+                                 replayed.add(inData.getLine()[1]);
+                             }
+                         }));
+            assertEquals("[, 1000, 1005]",
+                         replayed.toString());
+            assertEquals(1005,
+                         clock.getTime());
+        }
+    }
+    /**
+     * Writes the given lines to a new file.
+     *
+     * @param inName a <code>String</code> value
+     * @param inLines a <code>String[]</code> value
+     * @return a <code>File</code> value
+     * @throws Exception if the file cannot be written
+     */
+    private File writeFile(String inName,
+                           String...inLines)
+            throws Exception
+    {
+        File file = folder.newFile(inName);
+        StringBuilder contents = new StringBuilder();
+        for(String line : inLines) {
+            contents.append(line).append('\n');
+        }
+        FileUtils.writeStringToFile(file,
+                                    contents.toString());
+        return file;
+    }
+    /**
+     * holds the test files
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    /**
+     * translator used to read line timestamps
+     */
+    private final BasicCSVFeedEventTranslator translator = new BasicCSVFeedEventTranslator();
+    /**
+     * request attached to replayed lines
+     */
+    private final MarketDataRequest request = MarketDataRequestBuilder.newRequest().withSymbols("A").create();
+}
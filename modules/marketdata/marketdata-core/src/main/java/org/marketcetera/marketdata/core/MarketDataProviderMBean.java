@@ -37,6 +37,18 @@ public interface MarketDataProviderMBean
      * @return an <code>int</code> value
      */
     public int getTotalEvents();
+    /**
+     * Gets the number of events from this provider discarded by full subscription queues.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getDroppedEvents();
+    /**
+     * Gets the number of events from this provider replaced in subscription queues by a more recent event of the same kind.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getConflatedEvents();
     /**
      * Gets the status of the provider.
      *
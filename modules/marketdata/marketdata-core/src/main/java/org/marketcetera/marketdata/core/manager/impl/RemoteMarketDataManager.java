@@ -1,7 +1,10 @@
 package org.marketcetera.marketdata.core.manager.impl;
 
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -10,14 +13,17 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
+import org.marketcetera.core.notifications.ServerStatusListener;
 import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.event.Event;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
 import org.marketcetera.marketdata.MarketDataRequest;
 import org.marketcetera.marketdata.core.manager.MarketDataManager;
+import org.marketcetera.marketdata.core.webservice.ConnectionException;
 import org.marketcetera.marketdata.core.webservice.MarketDataServiceClient;
 import org.marketcetera.marketdata.core.webservice.MarketDataServiceClientFactory;
+import org.marketcetera.marketdata.core.webservice.StreamingMarketDataServiceClient;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.ws.ContextClassProvider;
@@ -30,6 +36,11 @@ import com.google.common.cache.CacheBuilder;
 
 /**
  * Provides a remote-capable {@link MarketDataManager} implementation.
+ * 
+ * <p>If {@link #setStreamEvents(boolean) streaming} is enabled, subscription events are pushed by the server.
+ * If the server cannot stream a subscription, its events are retrieved at intervals instead. Streamed
+ * subscriptions are requested again when the connection to the server is restored and keep the request id
+ * originally returned.
  *
  * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
  * @version $Id$
@@ -49,6 +60,26 @@ public class RemoteMarketDataManager
                                "Received market data request {}",
                                inRequest);
         verifyClientRunning();
+        if(inSubscriber != null && streamEvents && marketDataClient instanceof StreamingMarketDataServiceClient) {
+            try {
+                long requestId = ((StreamingMarketDataServiceClient)marketDataClient).subscribe(inRequest,
+                                                                                                inSubscriber);
+                streamsByRequestId.put(requestId,
+                                       new StreamSubscription(inRequest,
+                                                              inSubscriber,
+                                                              requestId));
+                SLF4JLoggerProxy.debug(this,
+                                       "Created streaming market data request id: {}",
+                                       requestId);
+                return requestId;
+            } catch (ConnectionException e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e,
+                                      "Unable to stream market data for {}, events will be retrieved every {}ms instead",
+                                      inRequest,
+                                      eventSubscriptionInterval);
+            }
+        }
         long requestId = marketDataClient.request(inRequest,
                                                   inSubscriber != null);
         if(inSubscriber != null) {
@@ -104,12 +135,15 @@ public class RemoteMarketDataManager
     {
         try {
             verifyClientRunning();
-            marketDataClient.cancel(inRequestId);
+            // a streamed subscription may have been requested again under a different id since it was created
+            StreamSubscription stream = streamsByRequestId.remove(inRequestId);
+            marketDataClient.cancel(stream == null ? inRequestId : stream.clientRequestId);
             EventSubscriber subscriber = subscribersByRequestId.getIfPresent(inRequestId);
             if(subscriber != null) {
                 subscriber.stop();
             }
         } finally {
+            streamsByRequestId.remove(inRequestId);
             subscribersByRequestId.invalidate(inRequestId);
         }
     }
@@ -135,6 +169,8 @@ public class RemoteMarketDataManager
                                                           contextClassProvider);
         marketDataClient.start();
         threadPool = Executors.newScheduledThreadPool(threadPoolSize);
+        serverAvailable = marketDataClient.isRunning();
+        marketDataClient.addServerStatusListener(serverStatusListener);
     }
     /**
      * Stop the object.
@@ -149,9 +185,12 @@ public class RemoteMarketDataManager
             threadPool = null;
         }
         if(marketDataClient != null) {
+            marketDataClient.removeServerStatusListener(serverStatusListener);
             marketDataClient.stop();
             marketDataClient = null;
         }
+        streamsByRequestId.clear();
+        serverAvailable = false;
     }
     /**
      * Get the threadPoolSize value.
@@ -189,6 +228,29 @@ public class RemoteMarketDataManager
     {
         eventSubscriptionInterval = inEventSubscriptionInterval;
     }
+    /**
+     * Get the streamEvents value.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean getStreamEvents()
+    {
+        return streamEvents;
+    }
+    /**
+     * Sets the streamEvents value.
+     * 
+     * <p>If true, subscription events are pushed by the server when the market data client supports it.
+     * Otherwise, or if the client does not support it, events are retrieved every
+     * {@link #getEventSubscriptionInterval() event subscription interval}. Subscriptions the server fails
+     * to stream are retrieved at intervals as well. The default is false.
+     *
+     * @param inStreamEvents a <code>boolean</code> value
+     */
+    public void setStreamEvents(boolean inStreamEvents)
+    {
+        streamEvents = inStreamEvents;
+    }
     /**
      * Get the username value.
      *
@@ -270,6 +332,50 @@ public class RemoteMarketDataManager
     {
         contextClassProvider = inContextClassProvider;
     }
+    /**
+     * Sets the marketDataClientFactory value.
+     *
+     * @param inMarketDataClientFactory a <code>MarketDataServiceClientFactory</code> value
+     */
+    public void setMarketDataClientFactory(MarketDataServiceClientFactory inMarketDataClientFactory)
+    {
+        marketDataClientFactory = inMarketDataClientFactory;
+    }
+    /**
+     * Requests the streamed subscriptions again after the connection to the server is restored.
+     * 
+     * <p>The server forgets the subscriptions of a closed connection. Each subscription keeps the request id it
+     * was created with and is canceled with the id the server assigns to it now.
+     *
+     * @param inStreams a <code>Map&lt;Long,StreamSubscription&gt;</code> value containing the subscriptions made before the connection was restored
+     */
+    private void resubscribe(Map<Long,StreamSubscription> inStreams)
+    {
+        MarketDataServiceClient client = marketDataClient;
+        if(!(client instanceof StreamingMarketDataServiceClient) || inStreams.isEmpty()) {
+            return;
+        }
+        SLF4JLoggerProxy.info(this,
+                              "Resuming {} market data subscription(s)",
+                              inStreams.size());
+        for(Map.Entry<Long,StreamSubscription> entry : inStreams.entrySet()) {
+            StreamSubscription stream = entry.getValue();
+            try {
+                long clientRequestId = ((StreamingMarketDataServiceClient)client).subscribe(stream.request,
+                                                                                            stream.subscriber);
+                stream.clientRequestId = clientRequestId;
+                // the subscription may have been canceled meanwhile
+                if(streamsByRequestId.get(entry.getKey()) != stream) {
+                    client.cancel(clientRequestId);
+                }
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e,
+                                      "Unable to resume market data request {}",
+                                      entry.getKey());
+            }
+        }
+    }
     /**
      * Verify that the client is running.
      */
@@ -370,6 +476,66 @@ public class RemoteMarketDataManager
          */
         private Future<?> subscriptionToken;
     }
+    /**
+     * A subscription whose events are pushed by the server.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class StreamSubscription
+    {
+        /**
+         * Create a new StreamSubscription instance.
+         *
+         * @param inRequest a <code>MarketDataRequest</code> value
+         * @param inSubscriber an <code>ISubscriber</code> value
+         * @param inClientRequestId a <code>long</code> value
+         */
+        private StreamSubscription(MarketDataRequest inRequest,
+                                   ISubscriber inSubscriber,
+                                   long inClientRequestId)
+        {
+            request = inRequest;
+            subscriber = inSubscriber;
+            clientRequestId = inClientRequestId;
+        }
+        /**
+         * market data request value
+         */
+        private final MarketDataRequest request;
+        /**
+         * subscriber value
+         */
+        private final ISubscriber subscriber;
+        /**
+         * request id assigned by the server to the current subscription
+         */
+        private volatile long clientRequestId;
+    }
+    /**
+     * requests the streamed subscriptions again when the connection to the server is restored
+     */
+    private final ServerStatusListener serverStatusListener = new ServerStatusListener() {
+        @Override
+        public void receiveServerStatus(boolean inStatus)
+        {
+            boolean restored = inStatus && !serverAvailable;
+            serverAvailable = inStatus;
+            if(restored && threadPool != null) {
+                // subscriptions made from now on are made on the restored connection
+                final Map<Long,StreamSubscription> streams = new HashMap<>(streamsByRequestId);
+                // listeners are expected to return quickly, so resubscribe on another thread
+                threadPool.execute(new Runnable() {
+                    @Override
+                    public void run()
+                    {
+                        resubscribe(streams);
+                    }
+                });
+            }
+        }
+    };
     /**
      * provides context classes for marshalling and unmarshalling
      */
@@ -402,6 +568,10 @@ public class RemoteMarketDataManager
      * interval in ms at which subscription events are retrieved
      */
     private long eventSubscriptionInterval = 1000;
+    /**
+     * indicates if subscription events are pushed by the server instead of retrieved at intervals
+     */
+    private boolean streamEvents = false;
     /**
      * provides access to market data
      */
@@ -415,4 +585,12 @@ public class RemoteMarketDataManager
      * holds subscribers by request id
      */
     private final Cache<Long,EventSubscriber> subscribersByRequestId = CacheBuilder.newBuilder().build();
+    /**
+     * holds streamed subscriptions by the request id returned when they were created
+     */
+    private final Map<Long,StreamSubscription> streamsByRequestId = new ConcurrentHashMap<>();
+    /**
+     * indicates if the server was available when its status was last reported
+     */
+    private volatile boolean serverAvailable = false;
 }
@@ -1,6 +1,7 @@
 package org.marketcetera.marketdata.core.provider;
 
-import java.util.ArrayList;
+import static com.codahale.metrics.MetricRegistry.name;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -9,7 +10,9 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -39,6 +42,7 @@ import org.marketcetera.marketdata.core.manager.MarketDataProviderRegistry;
 import org.marketcetera.marketdata.core.manager.MarketDataRequestFailed;
 import org.marketcetera.marketdata.core.request.MarketDataRequestAtom;
 import org.marketcetera.marketdata.core.request.MarketDataRequestToken;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.I18NBoundMessage2P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -46,7 +50,11 @@ import org.marketcetera.util.misc.ClassVersion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.Lifecycle;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 
 /* $License$ */
@@ -75,7 +83,7 @@ public abstract class AbstractMarketDataProvider
         Lock snapshotLock = marketdataLock.readLock();
         try {
             snapshotLock.lockInterruptibly();
-            MarketdataCacheElement cachedData = cachedMarketdata.get(inInstrument);
+            MarketdataCacheElement cachedData = getNotifier(inInstrument).cachedMarketdata.get(inInstrument);
             if(cachedData != null) {
                 return cachedData.getSnapshot(inContent);
             }
@@ -103,13 +111,17 @@ public abstract class AbstractMarketDataProvider
             totalRequests = 0;
             totalEvents = 0;
             instrumentsBySymbol.clear();
-            cachedMarketdata.clear();
-            notifications.clear();
             requestsByInstrument.clear();
             requestsByAtom.clear();
             requestsBySymbol.clear();
-            notifier = new EventNotifier();
-            notifier.start();
+            requestSnapshots.clear();
+            EventNotifier[] newNotifiers = new EventNotifier[Math.max(1,
+                                                                      notifierCount)];
+            for(int i=0;i<newNotifiers.length;i++) {
+                newNotifiers[i] = new EventNotifier(i);
+                newNotifiers[i].start();
+            }
+            notifiers = newNotifiers;
             running.set(true);
             setFeedStatus(ProviderStatus.AVAILABLE);
         } catch (Exception e) {
@@ -134,13 +146,14 @@ public abstract class AbstractMarketDataProvider
         } catch (Exception e) {
             setFeedStatus(ProviderStatus.ERROR);
         } finally {
-            notifier.stop();
+            for(EventNotifier notifier : notifiers) {
+                notifier.stop();
+            }
             instrumentsBySymbol.clear();
-            cachedMarketdata.clear();
-            notifications.clear();
             requestsByInstrument.clear();
             requestsByAtom.clear();
             requestsBySymbol.clear();
+            requestSnapshots.clear();
             running.set(false);
         }
     }
@@ -282,13 +295,12 @@ public abstract class AbstractMarketDataProvider
                 }
                 Instrument mappedInstrument = instrumentsBySymbol.get(atom.getSymbol());
                 if(mappedInstrument != null) {
-                    Collection<MarketDataRequestToken> instrumentRequests = requestsByInstrument.get(mappedInstrument);
-                    if(instrumentRequests != null) {
-                        instrumentRequests.remove(inRequestToken);
-                        if(instrumentRequests.isEmpty()) {
-                            // no more requests for this instrument, which means this instrument will no longer be updated - clear the cache for it
-                            cachedMarketdata.remove(mappedInstrument);
-                        }
+                    requestsByInstrument.remove(mappedInstrument,
+                                                inRequestToken);
+                    updateRequestSnapshot(mappedInstrument);
+                    if(!requestsByInstrument.containsKey(mappedInstrument)) {
+                        // no more requests for this instrument, which means this instrument will no longer be updated - clear the cache for it
+                        getNotifier(mappedInstrument).cachedMarketdata.remove(mappedInstrument);
                     }
                 }
             }
@@ -315,6 +327,27 @@ public abstract class AbstractMarketDataProvider
     {
         return getProviderStatus().name();
     }
+    /**
+     * Get the notifierCount value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getNotifierCount()
+    {
+        return notifierCount;
+    }
+    /**
+     * Sets the number of threads which process and publish events.
+     * 
+     * <p>Instruments are divided among the threads, so events for the same instrument are always published in order.
+     * The new value takes effect when the provider is next started.
+     *
+     * @param inNotifierCount an <code>int</code> value
+     */
+    public void setNotifierCount(int inNotifierCount)
+    {
+        notifierCount = inNotifierCount;
+    }
     /**
      * Sets the providerRegistry value.
      *
@@ -359,6 +392,46 @@ public abstract class AbstractMarketDataProvider
     {
         return totalEvents;
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.MarketDataProviderMBean#getDroppedEvents()
+     */
+    @Override
+    public long getDroppedEvents()
+    {
+        return MetricService.getInstance().getMetrics().counter(getDroppedEventsMetricName(getProviderName())).getCount();
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.MarketDataProviderMBean#getConflatedEvents()
+     */
+    @Override
+    public long getConflatedEvents()
+    {
+        return MetricService.getInstance().getMetrics().counter(getConflatedEventsMetricName(getProviderName())).getCount();
+    }
+    /**
+     * Gets the name of the metric which counts events from the given provider discarded by full subscription queues.
+     *
+     * @param inProviderName a <code>String</code> value
+     * @return a <code>String</code> value
+     */
+    public static String getDroppedEventsMetricName(String inProviderName)
+    {
+        return name(MarketDataProvider.class,
+                    inProviderName,
+                    "droppedEvents"); //$NON-NLS-1$
+    }
+    /**
+     * Gets the name of the metric which counts events from the given provider replaced in subscription queues.
+     *
+     * @param inProviderName a <code>String</code> value
+     * @return a <code>String</code> value
+     */
+    public static String getConflatedEventsMetricName(String inProviderName)
+    {
+        return name(MarketDataProvider.class,
+                    inProviderName,
+                    "conflatedEvents"); //$NON-NLS-1$
+    }
     /**
      * Indicates that the given events have been received by the provider and should be sent to interested subscribers.
      *
@@ -373,9 +446,9 @@ public abstract class AbstractMarketDataProvider
         // TODO validation: make sure each event has the proper content and instrument (don't do this every time, just if the provider requests validation)
         // TODO validation: make sure each instrument has a mapping
         totalEvents += inEvents.length;
-        notifications.add(new EventNotification(inContent,
-                                                inInstrument,
-                                                inEvents));
+        getNotifier(inInstrument).notifications.add(new EventNotification(inContent,
+                                                                          inInstrument,
+                                                                          inEvents));
     }
     /**
      * Creates a link between the given symbol and the given instrument.
@@ -400,6 +473,7 @@ public abstract class AbstractMarketDataProvider
                 requestsByInstrument.put(inInstrument,
                                          token);
             }
+            updateRequestSnapshot(inInstrument);
         } catch (InterruptedException e) {
             org.marketcetera.marketdata.core.Messages.UNABLE_TO_ACQUIRE_LOCK.error(this);
             stop();
@@ -422,6 +496,7 @@ public abstract class AbstractMarketDataProvider
             if(instrument != null) {
                 requestsByInstrument.put(instrument,
                                          inToken);
+                updateRequestSnapshot(instrument);
             }
         }
         for(String symbol : inToken.getRequest().getUnderlyingSymbols()) {
@@ -429,9 +504,38 @@ public abstract class AbstractMarketDataProvider
             if(instrument != null) {
                 requestsByInstrument.put(instrument,
                                          inToken);
+                updateRequestSnapshot(instrument);
             }
         }
     }
+    /**
+     * Publishes a snapshot of the requests for the given instrument to the event notifiers.
+     *
+     * <p>This method requires an external write-lock on {@link #requestsByInstrument}.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     */
+    private void updateRequestSnapshot(Instrument inInstrument)
+    {
+        Collection<MarketDataRequestToken> requests = requestsByInstrument.get(inInstrument);
+        if(requests.isEmpty()) {
+            requestSnapshots.remove(inInstrument);
+        } else {
+            requestSnapshots.put(inInstrument,
+                                 ImmutableList.copyOf(requests));
+        }
+    }
+    /**
+     * Gets the event notifier responsible for the given instrument.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>EventNotifier</code> value
+     */
+    private EventNotifier getNotifier(Instrument inInstrument)
+    {
+        EventNotifier[] currentNotifiers = notifiers;
+        return currentNotifiers[(inInstrument.hashCode() & Integer.MAX_VALUE) % currentNotifiers.length];
+    }
     /**
      * Sets the feed status value.
      *
@@ -521,6 +625,13 @@ public abstract class AbstractMarketDataProvider
     }
     /**
      * Processes events returned by the provider and publishes them to interested subscribers.
+     * 
+     * <p>Each notifier processes the events of a fixed subset of instruments, chosen by instrument hash, and
+     * owns the cached market data for those instruments. Events for the same instrument are therefore
+     * processed in order by a single thread without locking.
+     * 
+     * <p>The depth of the notifier queue and the time from when events are published by the provider until
+     * they are passed to subscribers are recorded in the {@link MetricService} while the notifier is running.
      *
      * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
      * @version $Id$
@@ -537,7 +648,6 @@ public abstract class AbstractMarketDataProvider
         public void run()
         {
             try {
-                Collection<MarketDataRequestToken> requests = new ArrayList<MarketDataRequestToken>();
                 while(keepAlive.get()) {
                     running.set(true);
                     EventNotification notification = notifications.take();
@@ -555,15 +665,10 @@ public abstract class AbstractMarketDataProvider
                         // we now have the market data cache object to use - give it the incoming events
                         Collection<Event> outgoingEvents = marketdataCache.update(notification.content,
                                                                                   events);
-                        // find subscribers to this instrument
-                        requests.clear();
-                        Lock requestLock = marketdataLock.readLock();
-                        try {
-                            requestLock.lockInterruptibly();
-                            // defensive copy to avoid chance of CME if a cancel is called while the processing is ongoing
-                            requests.addAll(requestsByInstrument.get(eventInstrument));
-                        } finally {
-                            requestLock.unlock();
+                        // find subscribers to this instrument, the snapshot does not change if a request is added or canceled while processing
+                        Collection<MarketDataRequestToken> requests = requestSnapshots.get(eventInstrument);
+                        if(requests == null) {
+                            requests = Collections.emptyList();
                         }
                         SLF4JLoggerProxy.trace("events.publishing",
                                                "Publishing {} to {}",
@@ -596,11 +701,14 @@ public abstract class AbstractMarketDataProvider
                             }
                         }
                     }
+                    latencyTimer.update(System.nanoTime() - notification.created,
+                                        TimeUnit.NANOSECONDS);
                 }
             } catch (InterruptedException e) {
             } finally {
                 SLF4JLoggerProxy.debug(AbstractMarketDataProvider.this,
-                                       "Event notifier for {} shutting down", //$NON-NLS-1$
+                                       "Event notifier {} for {} shutting down", //$NON-NLS-1$
+                                       index,
                                        getProviderName());
                 running.set(false);
             }
@@ -615,8 +723,29 @@ public abstract class AbstractMarketDataProvider
                 return;
             }
             keepAlive.set(true);
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            queueDepthMetricName = name(AbstractMarketDataProvider.class,
+                                        getProviderName(),
+                                        "notifier", //$NON-NLS-1$
+                                        String.valueOf(index),
+                                        "queueDepth"); //$NON-NLS-1$
+            latencyMetricName = name(AbstractMarketDataProvider.class,
+                                     getProviderName(),
+                                     "notifier", //$NON-NLS-1$
+                                     String.valueOf(index),
+                                     "latency"); //$NON-NLS-1$
+            metrics.remove(queueDepthMetricName);
+            metrics.register(queueDepthMetricName,
+                             new Gauge<Integer>() {
+                                 @Override
+                                 public Integer getValue()
+                                 {
+                                     return notifications.size();
+                                 }
+                             });
+            latencyTimer = metrics.timer(latencyMetricName);
             thread = new Thread(this,
-                                "Market data notifier thread for " + getProviderName()); //$NON-NLS-1$
+                                "Market data notifier thread " + index + " for " + getProviderName()); //$NON-NLS-1$ //$NON-NLS-2$
             thread.start();
         }
         /* (non-Javadoc)
@@ -636,6 +765,11 @@ public abstract class AbstractMarketDataProvider
                 } catch (InterruptedException ignored) {}
                 thread = null;
             }
+            notifications.clear();
+            cachedMarketdata.clear();
+            MetricRegistry metrics = MetricService.getInstance().getMetrics();
+            metrics.remove(queueDepthMetricName);
+            metrics.remove(latencyMetricName);
         }
         /* (non-Javadoc)
          * @see org.springframework.context.Lifecycle#isRunning()
@@ -645,6 +779,27 @@ public abstract class AbstractMarketDataProvider
         {
             return running.get();
         }
+        /**
+         * Create a new EventNotifier instance.
+         *
+         * @param inIndex an <code>int</code> value
+         */
+        private EventNotifier(int inIndex)
+        {
+            index = inIndex;
+        }
+        /**
+         * index of this notifier among the notifiers of the provider
+         */
+        private final int index;
+        /**
+         * notification collection that contains events to publish
+         */
+        private final BlockingDeque<EventNotification> notifications = new LinkedBlockingDeque<EventNotification>();
+        /**
+         * tracks cached market data by the instrument for the instruments of this notifier
+         */
+        private final Map<Instrument,MarketdataCacheElement> cachedMarketdata = new ConcurrentHashMap<Instrument,MarketdataCacheElement>();
         /**
          * keeps the event notifier running
          */
@@ -657,6 +812,18 @@ public abstract class AbstractMarketDataProvider
          * notifier thread
          */
         private volatile Thread thread;
+        /**
+         * name of the queue depth metric
+         */
+        private String queueDepthMetricName;
+        /**
+         * name of the latency metric
+         */
+        private String latencyMetricName;
+        /**
+         * times notifications from when they are published by the provider until they are passed to subscribers
+         */
+        private volatile Timer latencyTimer;
     }
     /**
      * Represents an event notification to be published.
@@ -692,6 +859,10 @@ public abstract class AbstractMarketDataProvider
             content = inContent;
             instrument = inInstrument;
         }
+        /**
+         * time the notification was created in nanoseconds
+         */
+        private final long created = System.nanoTime();
         /**
          * content value
          */
@@ -727,13 +898,13 @@ public abstract class AbstractMarketDataProvider
      */
     private volatile int totalEvents;
     /**
-     * notification collection that contains events to publish
+     * processes events to be published and publishes them, partitioned by instrument
      */
-    private final BlockingDeque<EventNotification> notifications = new LinkedBlockingDeque<EventNotification>();
+    private volatile EventNotifier[] notifiers = new EventNotifier[] { new EventNotifier(0) };
     /**
-     * processes events to be published and publishes them
+     * number of event notifiers to start
      */
-    private volatile EventNotifier notifier;
+    private int notifierCount = Runtime.getRuntime().availableProcessors();
     /**
      * used to protect the market data collections
      */
@@ -759,10 +930,9 @@ public abstract class AbstractMarketDataProvider
     @GuardedBy("marketdataLock")
     private final Multimap<String,MarketDataRequestToken> requestsBySymbol = HashMultimap.create();
     /**
-     * tracks cached market data by the instrument
+     * immutable copies of the market data requests by instrument which can be read without locking
      */
-    @GuardedBy("marketdataLock")
-    private final Map<Instrument,MarketdataCacheElement> cachedMarketdata = new HashMap<Instrument,MarketdataCacheElement>();
+    private final Map<Instrument,Collection<MarketDataRequestToken>> requestSnapshots = new ConcurrentHashMap<Instrument,Collection<MarketDataRequestToken>>();
     /**
      * maps the capabilities needed to honor a request of a particular content type
      */
@@ -21,7 +21,7 @@ import org.marketcetera.event.TradeEvent;
 import org.marketcetera.event.impl.QuoteEventBuilder;
 import org.marketcetera.event.util.MarketstatEventCache;
 import org.marketcetera.marketdata.Content;
-import org.marketcetera.marketdata.OrderBook;
+import org.marketcetera.marketdata.SortedOrderBook;
 import org.marketcetera.marketdata.core.Messages;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -65,7 +65,7 @@ public class MarketdataCacheElement
     {
         StringBuilder builder = new StringBuilder();
         builder.append("MarketdataCacheElement [").append(instrument.getFullSymbol()).append("]").append(System.lineSeparator());
-        for(Map.Entry<Content,OrderBook> entry : orderbooks.entrySet()) {
+        for(Map.Entry<Content,SortedOrderBook> entry : orderbooks.entrySet()) {
             builder.append(entry.getKey()).append(System.lineSeparator());
             builder.append(entry.getValue()).append(System.lineSeparator());
         }
@@ -240,7 +240,7 @@ public class MarketdataCacheElement
                               Collection<Event> inoutResults,
                               Event...inEvents)
     {
-        OrderBook orderbook = getOrderBookFor(inContent);
+        SortedOrderBook orderbook = getOrderBookFor(inContent);
         for(Event event : inEvents) {
             if(event instanceof QuoteEvent) {
                 QuoteEvent quoteEvent = (QuoteEvent)event;
@@ -283,14 +283,14 @@ public class MarketdataCacheElement
      * Gets the order book for the given content.
      *
      * @param inContent a <code>Content</code> value
-     * @return an <code>OrderBook</code> value
+     * @return a <code>SortedOrderBook</code> value
      */
-    private OrderBook getOrderBookFor(Content inContent)
+    private SortedOrderBook getOrderBookFor(Content inContent)
     {
-        OrderBook book = orderbooks.get(inContent);
+        SortedOrderBook book = orderbooks.get(inContent);
         if(book == null) {
-            book = new OrderBook(instrument,
-                                 true);
+            book = new SortedOrderBook(instrument,
+                                       true);
             orderbooks.put(inContent,
                            book);
         }
@@ -341,7 +341,7 @@ public class MarketdataCacheElement
     /**
      * order book structures, by content
      */
-    private final Map<Content,OrderBook> orderbooks = Maps.newHashMap();
+    private final Map<Content,SortedOrderBook> orderbooks = Maps.newHashMap();
     /**
      * cached dividend data
      */
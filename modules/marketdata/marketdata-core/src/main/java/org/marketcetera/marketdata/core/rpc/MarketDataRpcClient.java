@@ -18,6 +18,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -42,15 +43,20 @@ import org.marketcetera.marketdata.MarketDataRequest;
 import org.marketcetera.marketdata.core.Messages;
 import org.marketcetera.marketdata.core.manager.MarketDataRequestFailed;
 import org.marketcetera.marketdata.core.manager.NoMarketDataProvidersAvailable;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.Locale;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.LoginRequest;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.LoginResponse;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.LogoutRequest;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataService;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataService.BlockingInterface;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataStreamService;
 import org.marketcetera.marketdata.core.webservice.ConnectionException;
-import org.marketcetera.marketdata.core.webservice.MarketDataServiceClient;
 import org.marketcetera.marketdata.core.webservice.PageRequest;
+import org.marketcetera.marketdata.core.webservice.StreamingMarketDataServiceClient;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.I18NBoundMessage1P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
@@ -84,7 +90,7 @@ import com.googlecode.protobuf.pro.duplex.logging.CategoryPerServiceLogger;
 @ThreadSafe
 @ClassVersion("$Id$")
 public class MarketDataRpcClient
-        implements MarketDataServiceClient
+        implements StreamingMarketDataServiceClient
 {
     /**
      * Create a new MarketDataServiceRpcClient instance.
@@ -179,6 +185,45 @@ public class MarketDataRpcClient
             throw new ConnectionException(e);
         }
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.webservice.StreamingMarketDataServiceClient#subscribe(org.marketcetera.marketdata.MarketDataRequest, org.marketcetera.core.publisher.ISubscriber)
+     */
+    @Override
+    public long subscribe(MarketDataRequest inRequest,
+                          ISubscriber inSubscriber)
+    {
+        SLF4JLoggerProxy.debug(this,
+                               "Subscribe: {}", //$NON-NLS-1$
+                               inRequest);
+        // the stream is registered before the request is made because the server may push events before it responds
+        long streamId = streamCounter.incrementAndGet();
+        ClientStream stream = new ClientStream(inSubscriber);
+        streams.put(streamId,
+                    stream);
+        boolean subscribed = false;
+        try(CloseableLock requestLock = CloseableLock.create(serviceLock.readLock())) {
+            requestLock.lock();
+            RpcMarketdata.StreamResponse response = clientService.stream(controller,
+                                                                         RpcMarketdata.StreamRequest.newBuilder().setSessionId(sessionId.getValue())
+                                                                             .setRequest(inRequest.toString())
+                                                                             .setStreamId(streamId)
+                                                                             .setCredit(streamCredit).build());
+            SLF4JLoggerProxy.debug(this,
+                                   "StreamResponse: {}", //$NON-NLS-1$
+                                   response.getId());
+            validateResponse(response.getFailed(),
+                             response.getMessage());
+            stream.requestId = response.getId();
+            subscribed = true;
+            return response.getId();
+        } catch (ServiceException e) {
+            throw new ConnectionException(e);
+        } finally {
+            if(!subscribed) {
+                streams.remove(streamId);
+            }
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.webservice.MarketDataServiceClient#getLastUpdate(long)
      */
@@ -218,6 +263,11 @@ public class MarketDataRpcClient
             SLF4JLoggerProxy.debug(this,
                                    "Cancel Response: {}", //$NON-NLS-1$
                                    response);
+            for(Map.Entry<Long,ClientStream> entry : streams.entrySet()) {
+                if(entry.getValue().requestId == inRequestId) {
+                    streams.remove(entry.getKey());
+                }
+            }
             return;
         } catch (ServiceException e) {
             throw new ConnectionException(e);
@@ -241,6 +291,9 @@ public class MarketDataRpcClient
             for(String payload : response.getPayloadList()) {
                 events.add((Event)unmarshall(payload));
             }
+            for(PayloadRpc.Event rpcEvent : response.getEventsList()) {
+                events.add(getEvent(rpcEvent));
+            }
             SLF4JLoggerProxy.debug(this,
                                    "GetEventsResponse: {}", //$NON-NLS-1$
                                    events);
@@ -269,6 +322,9 @@ public class MarketDataRpcClient
                 for(String payload : eventResponse.getPayloadList()) {
                     eventList.add((Event)unmarshall(payload));
                 }
+                for(PayloadRpc.Event rpcEvent : eventResponse.getEventsList()) {
+                    eventList.add(getEvent(rpcEvent));
+                }
                 events.put(eventResponse.getId(),
                            eventList);
             }
@@ -297,7 +353,7 @@ public class MarketDataRpcClient
             requestLock.lock();
             RpcMarketdata.SnapshotRequest.Builder requestBuilder = RpcMarketdata.SnapshotRequest.newBuilder().setSessionId(sessionId.getValue());
             requestBuilder.setContent(RpcMarketdata.ContentAndCapability.valueOf(inContent.name()))
-                .setInstrument(RpcMarketdata.Instrument.newBuilder().setPayload(marshall(inInstrument)));
+                .setInstrument(getRpcInstrument(inInstrument));
             if(inProvider != null){
                 requestBuilder.setProvider(inProvider);
             }
@@ -307,6 +363,9 @@ public class MarketDataRpcClient
             for(String payload : response.getPayloadList()) {
                 events.add((Event)unmarshall(payload));
             }
+            for(PayloadRpc.Event rpcEvent : response.getEventsList()) {
+                events.add(getEvent(rpcEvent));
+            }
             SLF4JLoggerProxy.debug(this,
                                    "GetSnapshotResponse: {}", //$NON-NLS-1$
                                    events);
@@ -334,7 +393,7 @@ public class MarketDataRpcClient
             requestLock.lock();
             RpcMarketdata.SnapshotPageRequest.Builder requestBuilder = RpcMarketdata.SnapshotPageRequest.newBuilder().setSessionId(sessionId.getValue());
             requestBuilder.setContent(RpcMarketdata.ContentAndCapability.valueOf(inContent.name()))
-                .setInstrument(RpcMarketdata.Instrument.newBuilder().setPayload(marshall(inInstrument)))
+                .setInstrument(getRpcInstrument(inInstrument))
                 .setPage(RpcMarketdata.PageRequest.newBuilder().setPage(inPage.getPage()).setSize(inPage.getSize()));
             if(inProvider != null){
                 requestBuilder.setProvider(inProvider);
@@ -345,6 +404,9 @@ public class MarketDataRpcClient
             for(String payload : response.getPayloadList()) {
                 events.add((Event)unmarshall(payload));
             }
+            for(PayloadRpc.Event rpcEvent : response.getEventsList()) {
+                events.add(getEvent(rpcEvent));
+            }
             SLF4JLoggerProxy.debug(this,
                                    "GetSnapshotPageResponse: {}", //$NON-NLS-1$
                                    events);
@@ -432,6 +494,24 @@ public class MarketDataRpcClient
     {
         contextClassProvider = inContextClassProvider;
     }
+    /**
+     * Get the streamCredit value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getStreamCredit()
+    {
+        return streamCredit;
+    }
+    /**
+     * Sets the number of events the server may push to each subscription before waiting for them to be processed.
+     *
+     * @param inStreamCredit an <code>int</code> value
+     */
+    public void setStreamCredit(int inStreamCredit)
+    {
+        streamCredit = inStreamCredit;
+    }
     /**
      * Marshals the given object to an XML stream.
      *
@@ -462,6 +542,43 @@ public class MarketDataRpcClient
         Unmarshaller unmarshaller = context.createUnmarshaller();
         return (Clazz)unmarshaller.unmarshal(new StringReader(inData));
     }
+    /**
+     * Gets the RPC form of the given instrument.
+     * 
+     * <p>The native form is used if the server agreed to it and the instrument has one, otherwise the
+     * instrument is marshalled to XML.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return an <code>RpcMarketdata.Instrument</code> value
+     * @throws JAXBException if an error occurs marshalling the data
+     */
+    private RpcMarketdata.Instrument getRpcInstrument(Instrument inInstrument)
+            throws JAXBException
+    {
+        if(payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+            PayloadRpc.Instrument rpcInstrument = PayloadRpcUtil.getRpcInstrument(inInstrument);
+            if(rpcInstrument != null) {
+                return RpcMarketdata.Instrument.newBuilder().setInstrument(rpcInstrument).build();
+            }
+        }
+        return RpcMarketdata.Instrument.newBuilder().setPayload(marshall(inInstrument)).build();
+    }
+    /**
+     * Gets the event from the given RPC form.
+     *
+     * @param inRpcEvent a <code>PayloadRpc.Event</code> value
+     * @return an <code>Event</code> value
+     * @throws JAXBException if an error occurs unmarshalling the data
+     */
+    private Event getEvent(PayloadRpc.Event inRpcEvent)
+            throws JAXBException
+    {
+        Event event = PayloadRpcUtil.getEvent(inRpcEvent);
+        if(event == null) {
+            event = unmarshall(inRpcEvent.getPayload());
+        }
+        return event;
+    }
     /**
      * Sets the server status to the given value.
      *
@@ -508,6 +625,13 @@ public class MarketDataRpcClient
             clientService = null;
             channel = null;
             sessionId = null;
+            if(!streams.isEmpty()) {
+                SLF4JLoggerProxy.warn(this,
+                                      "Ending {} market data subscription(s) because the connection was closed", //$NON-NLS-1$
+                                      streams.size());
+                streams.clear();
+            }
+            payloadFormat = PayloadRpc.PayloadFormat.XML;
             running.set(false);
         }
     }
@@ -550,6 +674,7 @@ public class MarketDataRpcClient
             logger.setLogRequestProto(false);
             logger.setLogResponseProto(false);
             clientFactory.setRpcLogger(logger);
+            clientFactory.getRpcServiceRegistry().registerService(RpcMarketDataStreamService.newReflectiveBlockingService(new StreamReceiver()));
             channel = clientFactory.peerWith(server,
                                              bootstrap);
             clientService = RpcMarketDataService.newBlockingStub(channel);
@@ -564,10 +689,12 @@ public class MarketDataRpcClient
                                .setLanguage(currentLocale.getLanguage()==null?"":currentLocale.getLanguage()) //$NON-NLS-1$
                                .setVariant(currentLocale.getVariant()==null?"":currentLocale.getVariant()).build()) //$NON-NLS-1$
                                .setUsername(username)
-                               .setPassword(new String(password)).build();
+                               .setPassword(new String(password))
+                               .setPayloadFormat(PayloadRpc.PayloadFormat.PROTOBUF).build();
             LoginResponse loginResponse = clientService.login(controller,
                                                               loginRequest);
             sessionId = new SessionId(loginResponse.getSessionId());
+            payloadFormat = loginResponse.getPayloadFormat();
             setServerStatus(true);
         }
     }
@@ -588,6 +715,103 @@ public class MarketDataRpcClient
                                                                      inMessage));
         }
     }
+    /**
+     * Tracks a market data subscription whose events are pushed by the server.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private static class ClientStream
+    {
+        /**
+         * Create a new ClientStream instance.
+         *
+         * @param inSubscriber an <code>ISubscriber</code> value
+         */
+        private ClientStream(ISubscriber inSubscriber)
+        {
+            subscriber = inSubscriber;
+        }
+        /**
+         * receives the events of the subscription
+         */
+        private final ISubscriber subscriber;
+        /**
+         * sequence number expected for the next event
+         */
+        private long nextSequence = 0;
+        /**
+         * market data request id assigned by the server
+         */
+        private volatile long requestId = -1;
+    }
+    /**
+     * Receives events pushed by the server and grants the server credit to send more.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private class StreamReceiver
+            implements RpcMarketDataStreamService.BlockingInterface
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataStreamService.BlockingInterface#receiveEvents(com.google.protobuf.RpcController, org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch)
+         */
+        @Override
+        public EventBatchResponse receiveEvents(RpcController inController,
+                                                EventBatch inRequest)
+                throws ServiceException
+        {
+            int received = inRequest.getEventsCount() + inRequest.getPayloadCount();
+            ClientStream stream = streams.get(inRequest.getStreamId());
+            if(stream == null) {
+                SLF4JLoggerProxy.debug(MarketDataRpcClient.this,
+                                       "Discarding {} event(s) for unknown stream {}", //$NON-NLS-1$
+                                       received,
+                                       inRequest.getStreamId());
+                return EventBatchResponse.newBuilder().setCredit(0).build();
+            }
+            // the server sends one batch at a time per stream, so batches arrive in sequence
+            if(inRequest.getSequence() != stream.nextSequence) {
+                SLF4JLoggerProxy.warn(MarketDataRpcClient.this,
+                                      "Market data request {} missed {} event(s)", //$NON-NLS-1$
+                                      stream.requestId,
+                                      inRequest.getSequence() - stream.nextSequence);
+            }
+            stream.nextSequence = inRequest.getSequence() + received;
+            for(PayloadRpc.Event rpcEvent : inRequest.getEventsList()) {
+                publishStreamEvent(stream,
+                                   rpcEvent);
+            }
+            for(String payload : inRequest.getPayloadList()) {
+                publishStreamEvent(stream,
+                                   PayloadRpc.Event.newBuilder().setPayload(payload).build());
+            }
+            return EventBatchResponse.newBuilder().setCredit(received).build();
+        }
+        /**
+         * Decodes the given event and publishes it to the subscriber of the given stream.
+         *
+         * @param inStream a <code>ClientStream</code> value
+         * @param inRpcEvent a <code>PayloadRpc.Event</code> value
+         */
+        private void publishStreamEvent(ClientStream inStream,
+                                        PayloadRpc.Event inRpcEvent)
+        {
+            try {
+                inStream.subscriber.publishTo(getEvent(inRpcEvent));
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(MarketDataRpcClient.this,
+                                      e,
+                                      "Market data request {} could not deliver an event", //$NON-NLS-1$
+                                      inStream.requestId);
+            }
+        }
+    }
     /**
      * Sends heartbeats and monitors the responses.
      * 
@@ -695,10 +919,26 @@ public class MarketDataRpcClient
      * session ID value for this connection, may be <code>null</code> if the connection is inactive
      */
     private SessionId sessionId;
+    /**
+     * payload format agreed with the server at login
+     */
+    private volatile PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.XML;
     /**
      * context used to serialize and unserialize messages as necessary
      */
     private JAXBContext context;
+    /**
+     * subscriptions whose events are pushed by the server by stream id
+     */
+    private final Map<Long,ClientStream> streams = Maps.newConcurrentMap();
+    /**
+     * generates stream ids
+     */
+    private final AtomicLong streamCounter = new AtomicLong(0);
+    /**
+     * number of events the server may push to each subscription before they are processed
+     */
+    private volatile int streamCredit = 1000;
     /**
      * interval at which to execute heartbeats
      */
@@ -37,18 +37,25 @@ import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageRequest;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageResponse;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotRequest;
 import org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotResponse;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse;
 import org.marketcetera.marketdata.core.webservice.PageRequest;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.trade.Instrument;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.rpc.RpcCredentials;
 import org.marketcetera.util.rpc.RpcServerServices;
 import org.marketcetera.util.rpc.RpcServiceSpec;
+import org.marketcetera.util.ws.stateful.SessionListener;
 import org.marketcetera.util.ws.tags.SessionId;
 
+import com.google.common.collect.Maps;
 import com.google.protobuf.BlockingService;
 import com.google.protobuf.RpcController;
 import com.google.protobuf.ServiceException;
+import com.googlecode.protobuf.pro.duplex.execute.ServerRpcController;
 
 /* $License$ */
 
@@ -85,7 +92,13 @@ public class MarketDataRpcService<SessionClazz>
                                                                           new Locale(inRequest.getLocale().getLanguage(),
                                                                                      inRequest.getLocale().getCountry(),
                                                                                      inRequest.getLocale().getVariant())));
-            return responseBuilder.setSessionId(sessionId.getValue()).build();
+            PayloadRpc.PayloadFormat sessionPayloadFormat = PayloadRpc.PayloadFormat.XML;
+            if(inRequest.getPayloadFormat() == PayloadRpc.PayloadFormat.PROTOBUF && payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                sessionPayloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
+            }
+            payloadFormats.put(sessionId.getValue(),
+                               sessionPayloadFormat);
+            return responseBuilder.setSessionId(sessionId.getValue()).setPayloadFormat(sessionPayloadFormat).build();
         } catch (Exception e) {
             SLF4JLoggerProxy.warn(this,
                                   e);
@@ -107,6 +120,12 @@ public class MarketDataRpcService<SessionClazz>
         RpcMarketdata.LogoutResponse.Builder responseBuilder = RpcMarketdata.LogoutResponse.newBuilder();
         try {
             serverServices.logout(inRequest.getSessionId());
+            payloadFormats.remove(inRequest.getSessionId());
+            for(MarketDataRpcStream stream : streamsByRequestId.values()) {
+                if(stream.getSessionId().equals(inRequest.getSessionId())) {
+                    cancelStream(stream);
+                }
+            }
             return responseBuilder.build();
         } catch (Exception e) {
             return responseBuilder.setFailed(true).setMessage(e.getMessage()==null?"":e.getMessage()).build();
@@ -149,6 +168,46 @@ public class MarketDataRpcService<SessionClazz>
             return responseBuilder.setFailed(true).setId(-1).setMessage(ExceptionUtils.getRootCauseMessage(e)).build();
         }
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataService.BlockingInterface#stream(com.google.protobuf.RpcController, org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest)
+     */
+    @Override
+    public StreamResponse stream(RpcController inController,
+                                 StreamRequest inRequest)
+            throws ServiceException
+    {
+        SLF4JLoggerProxy.debug(this,
+                               "Received {}",
+                               inRequest);
+        RpcMarketdata.StreamResponse.Builder responseBuilder = RpcMarketdata.StreamResponse.newBuilder();
+        try {
+            serverServices.validateAndReturnSession(inRequest.getSessionId());
+            MarketDataRpcStream stream = new MarketDataRpcStream(this,
+                                                                 inRequest.getSessionId(),
+                                                                 inRequest.getStreamId(),
+                                                                 ServerRpcController.getRpcChannel(inController),
+                                                                 getPayloadFormat(inRequest.getSessionId()),
+                                                                 inRequest.getCredit(),
+                                                                 maxStreamQueueSize,
+                                                                 maxStreamBatchSize);
+            long requestId;
+            try {
+                requestId = serviceAdapter.request(org.marketcetera.marketdata.MarketDataRequestBuilder.newRequestFromString(inRequest.getRequest()),
+                                                   stream);
+            } catch (RuntimeException e) {
+                stream.stop();
+                throw e;
+            }
+            stream.setRequestId(requestId);
+            streamsByRequestId.put(requestId,
+                                   stream);
+            return responseBuilder.setId(requestId).build();
+        } catch (Exception e) {
+            SLF4JLoggerProxy.warn(this,
+                                  e);
+            return responseBuilder.setFailed(true).setId(-1).setMessage(ExceptionUtils.getRootCauseMessage(e)).build();
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataService.BlockingInterface#getLastUpdate(com.google.protobuf.RpcController, org.marketcetera.marketdata.core.rpc.RpcMarketdata.LastUpdateRequest)
      */
@@ -177,6 +236,10 @@ public class MarketDataRpcService<SessionClazz>
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
             serviceAdapter.cancel(inRequest.getId());
+            MarketDataRpcStream stream = streamsByRequestId.remove(inRequest.getId());
+            if(stream != null) {
+                stream.stop();
+            }
             return responseBuilder.build();
         } catch (Exception e) {
             return responseBuilder.setFailed(true).setMessage(e.getMessage()==null?"":e.getMessage()).build();
@@ -195,8 +258,13 @@ public class MarketDataRpcService<SessionClazz>
             serverServices.validateAndReturnSession(inRequest.getSessionId());
             Deque<Event> events = serviceAdapter.getEvents(inRequest.getId());
             responseBuilder.setId(inRequest.getId());
+            PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
             for(Event event : events) {
-                responseBuilder.addPayload(serverServices.marshal(event));
+                if(sessionPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                    responseBuilder.addEvents(getRpcEvent(event));
+                } else {
+                    responseBuilder.addPayload(serverServices.marshal(event));
+                }
             }
             return responseBuilder.build();
         } catch (Exception e) {
@@ -215,10 +283,15 @@ public class MarketDataRpcService<SessionClazz>
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
             Map<Long,LinkedList<Event>> events = serviceAdapter.getAllEvents(inRequest.getIdList());
+            PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
             for(Map.Entry<Long,LinkedList<Event>> entry : events.entrySet()) {
                 RpcMarketdata.EventsResponse.Builder entryBuilder = RpcMarketdata.EventsResponse.newBuilder().setId(entry.getKey());
                 for(Event event : entry.getValue()) {
-                    entryBuilder.addPayload(serverServices.marshal(event));
+                    if(sessionPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                        entryBuilder.addEvents(getRpcEvent(event));
+                    } else {
+                        entryBuilder.addPayload(serverServices.marshal(event));
+                    }
                 }
                 responseBuilder.addEvents(entryBuilder.build());
             }
@@ -238,7 +311,7 @@ public class MarketDataRpcService<SessionClazz>
         RpcMarketdata.SnapshotResponse.Builder responseBuilder = RpcMarketdata.SnapshotResponse.newBuilder();
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
-            Instrument instrument = serverServices.unmarshall(inRequest.getInstrument().getPayload());
+            Instrument instrument = getInstrument(inRequest.getInstrument());
             Content content = Content.valueOf(inRequest.getContent().name());
             String provider = null;
             if(inRequest.hasProvider()) {
@@ -247,8 +320,13 @@ public class MarketDataRpcService<SessionClazz>
             Deque<Event> events = serviceAdapter.getSnapshot(instrument,
                                                              content,
                                                              provider);
+            PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
             for(Event event : events) {
-                responseBuilder.addPayload(serverServices.marshal(event));
+                if(sessionPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                    responseBuilder.addEvents(getRpcEvent(event));
+                } else {
+                    responseBuilder.addPayload(serverServices.marshal(event));
+                }
             }
             return responseBuilder.build();
         } catch (Exception e) {
@@ -266,7 +344,7 @@ public class MarketDataRpcService<SessionClazz>
         RpcMarketdata.SnapshotPageResponse.Builder responseBuilder = RpcMarketdata.SnapshotPageResponse.newBuilder();
         try {
             serverServices.validateAndReturnSession(inRequest.getSessionId());
-            Instrument instrument = serverServices.unmarshall(inRequest.getInstrument().getPayload());
+            Instrument instrument = getInstrument(inRequest.getInstrument());
             Content content = Content.valueOf(inRequest.getContent().name());
             String provider = null;
             if(inRequest.hasProvider()) {
@@ -277,8 +355,13 @@ public class MarketDataRpcService<SessionClazz>
                                                                  provider,
                                                                  new PageRequest(inRequest.getPage().getPage(),
                                                                                  inRequest.getPage().getSize()));
+            PayloadRpc.PayloadFormat sessionPayloadFormat = getPayloadFormat(inRequest.getSessionId());
             for(Event event : events) {
-                responseBuilder.addPayload(serverServices.marshal(event));
+                if(sessionPayloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                    responseBuilder.addEvents(getRpcEvent(event));
+                } else {
+                    responseBuilder.addPayload(serverServices.marshal(event));
+                }
             }
             return responseBuilder.build();
         } catch (JAXBException e) {
@@ -328,6 +411,14 @@ public class MarketDataRpcService<SessionClazz>
     public void setRpcServerServices(RpcServerServices<SessionClazz> inServerServices)
     {
         serverServices = inServerServices;
+        // sessions that expire are never logged out, so forget their payload format when the session ends
+        serverServices.addSessionListener(new SessionListener() {
+            @Override
+            public void removedSession(SessionId inSessionId)
+            {
+                payloadFormats.remove(inSessionId.getValue());
+            }
+        });
     }
     /**
      * Validates this object.
@@ -357,6 +448,139 @@ public class MarketDataRpcService<SessionClazz>
     {
         serviceAdapter = inServiceAdapter;
     }
+    /**
+     * Get the payloadFormat value.
+     *
+     * @return a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public PayloadRpc.PayloadFormat getPayloadFormat()
+    {
+        return payloadFormat;
+    }
+    /**
+     * Sets the payloadFormat value.
+     * 
+     * <p>Clients that request the native protobuf format are granted it only if this value is
+     * {@link PayloadRpc.PayloadFormat#PROTOBUF}. All other clients receive XML payloads.
+     *
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public void setPayloadFormat(PayloadRpc.PayloadFormat inPayloadFormat)
+    {
+        payloadFormat = inPayloadFormat;
+    }
+    /**
+     * Get the maxStreamQueueSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxStreamQueueSize()
+    {
+        return maxStreamQueueSize;
+    }
+    /**
+     * Sets the maximum number of events each stream holds for a client that has run out of credit.
+     * 
+     * <p>When a stream is full, its oldest event is discarded.
+     *
+     * @param inMaxStreamQueueSize an <code>int</code> value
+     */
+    public void setMaxStreamQueueSize(int inMaxStreamQueueSize)
+    {
+        maxStreamQueueSize = inMaxStreamQueueSize;
+    }
+    /**
+     * Get the maxStreamBatchSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getMaxStreamBatchSize()
+    {
+        return maxStreamBatchSize;
+    }
+    /**
+     * Sets the maximum number of events pushed to a client in one batch.
+     *
+     * @param inMaxStreamBatchSize an <code>int</code> value
+     */
+    public void setMaxStreamBatchSize(int inMaxStreamBatchSize)
+    {
+        maxStreamBatchSize = inMaxStreamBatchSize;
+    }
+    /**
+     * Marshals the given event for a client that uses XML payloads.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>String</code> value
+     * @throws JAXBException if the event cannot be marshalled
+     */
+    String marshal(Event inEvent)
+            throws JAXBException
+    {
+        return serverServices.marshal(inEvent);
+    }
+    /**
+     * Cancels the market data request of the given stream and stops the stream.
+     *
+     * @param inStream a <code>MarketDataRpcStream</code> value
+     */
+    void cancelStream(MarketDataRpcStream inStream)
+    {
+        if(streamsByRequestId.remove(inStream.getRequestId()) != null) {
+            try {
+                serviceAdapter.cancel(inStream.getRequestId());
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e);
+            }
+        }
+        inStream.stop();
+    }
+    /**
+     * Gets the payload format agreed with the given session.
+     *
+     * @param inSessionId a <code>String</code> value
+     * @return a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    private PayloadRpc.PayloadFormat getPayloadFormat(String inSessionId)
+    {
+        PayloadRpc.PayloadFormat sessionPayloadFormat = payloadFormats.get(inSessionId);
+        return sessionPayloadFormat == null ? PayloadRpc.PayloadFormat.XML : sessionPayloadFormat;
+    }
+    /**
+     * Gets the native RPC form of the given event, falling back to XML if the event has no native form.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>PayloadRpc.Event</code> value
+     * @throws JAXBException if the event cannot be marshalled
+     */
+    PayloadRpc.Event getRpcEvent(Event inEvent)
+            throws JAXBException
+    {
+        PayloadRpc.Event rpcEvent = PayloadRpcUtil.getRpcEvent(inEvent);
+        if(rpcEvent == null) {
+            rpcEvent = PayloadRpc.Event.newBuilder().setPayload(serverServices.marshal(inEvent)).build();
+        }
+        return rpcEvent;
+    }
+    /**
+     * Gets the instrument from the given RPC form.
+     *
+     * @param inRpcInstrument an <code>RpcMarketdata.Instrument</code> value
+     * @return an <code>Instrument</code> value
+     * @throws JAXBException if the instrument cannot be unmarshalled
+     */
+    private Instrument getInstrument(RpcMarketdata.Instrument inRpcInstrument)
+            throws JAXBException
+    {
+        if(inRpcInstrument.hasInstrument()) {
+            Instrument instrument = PayloadRpcUtil.getInstrument(inRpcInstrument.getInstrument());
+            if(instrument != null) {
+                return instrument;
+            }
+        }
+        return serverServices.unmarshall(inRpcInstrument.getPayload());
+    }
     /**
      * provides a link to the service provider for market data services
      */
@@ -365,6 +589,26 @@ public class MarketDataRpcService<SessionClazz>
      * provides RPC Server services
      */
     private RpcServerServices<SessionClazz> serverServices;
+    /**
+     * most compact payload format offered to clients
+     */
+    private PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
+    /**
+     * payload format agreed with each session by session id
+     */
+    private final Map<String,PayloadRpc.PayloadFormat> payloadFormats = Maps.newConcurrentMap();
+    /**
+     * streams pushing events to clients by market data request id
+     */
+    private final Map<Long,MarketDataRpcStream> streamsByRequestId = Maps.newConcurrentMap();
+    /**
+     * maximum number of events each stream holds for its client
+     */
+    private int maxStreamQueueSize = 10000;
+    /**
+     * maximum number of events pushed to a client in one batch
+     */
+    private int maxStreamBatchSize = 100;
     /**
      * description of the service
      */
@@ -0,0 +1,416 @@
+package org.marketcetera.marketdata.core.rpc;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.xml.bind.JAXBException;
+
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.event.AggregateEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse;
+import org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataStreamService;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.Lists;
+import com.google.protobuf.RpcCallback;
+import com.googlecode.protobuf.pro.duplex.ClientRpcController;
+import com.googlecode.protobuf.pro.duplex.RpcClientChannel;
+
+/* $License$ */
+
+/**
+ * Pushes the events of one market data request to an RPC client as they arrive.
+ *
+ * <p>Events are sent in batches over the duplex channel of the client that made the request. The client grants
+ * credit, the number of events it is prepared to receive, when it opens the stream and again when it acknowledges
+ * each batch. At most one batch is outstanding at a time and no batch is larger than the available credit, so a
+ * slow client causes events to queue here rather than in the network layer.
+ *
+ * <p>Queued events are bounded. If the queue is full, the oldest event is discarded. Each event is assigned a
+ * sequence number when it is queued so that discarded events, including events that cannot be encoded, appear to
+ * the client as a gap in the sequence.
+ *
+ * <p>The time from when each event is queued until its batch is acknowledged is recorded, in microseconds, in a
+ * histogram registered with the {@link MetricService} for the life of the stream.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+class MarketDataRpcStream
+        implements ISubscriber
+{
+    /**
+     * Create a new MarketDataRpcStream instance.
+     *
+     * @param inService a <code>MarketDataRpcService&lt;?&gt;</code> value
+     * @param inSessionId a <code>String</code> value
+     * @param inStreamId a <code>long</code> value
+     * @param inChannel a <code>RpcClientChannel</code> value
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     * @param inCredit an <code>int</code> value
+     * @param inMaxQueueSize an <code>int</code> value
+     * @param inMaxBatchSize an <code>int</code> value
+     */
+    MarketDataRpcStream(MarketDataRpcService<?> inService,
+                        String inSessionId,
+                        long inStreamId,
+                        RpcClientChannel inChannel,
+                        PayloadRpc.PayloadFormat inPayloadFormat,
+                        int inCredit,
+                        int inMaxQueueSize,
+                        int inMaxBatchSize)
+    {
+        service = inService;
+        sessionId = inSessionId;
+        streamId = inStreamId;
+        channel = inChannel;
+        stub = RpcMarketDataStreamService.newStub(inChannel);
+        payloadFormat = inPayloadFormat;
+        credit = inCredit;
+        maxQueueSize = inMaxQueueSize;
+        maxBatchSize = inMaxBatchSize;
+        latencyMetricName = name(MarketDataRpcStream.class,
+                                 inSessionId,
+                                 String.valueOf(inStreamId),
+                                 "latency"); //$NON-NLS-1$
+        droppedMetricName = name(MarketDataRpcStream.class,
+                                 inSessionId,
+                                 String.valueOf(inStreamId),
+                                 "dropped"); //$NON-NLS-1$
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        latencyHistogram = metrics.histogram(latencyMetricName);
+        droppedCounter = metrics.counter(droppedMetricName);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.core.publisher.ISubscriber#isInteresting(java.lang.Object)
+     */
+    @Override
+    public boolean isInteresting(Object inData)
+    {
+        return true;
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.core.publisher.ISubscriber#publishTo(java.lang.Object)
+     */
+    @Override
+    public void publishTo(Object inData)
+    {
+        synchronized(this) {
+            enqueue(inData);
+        }
+        sendBatch();
+    }
+    /**
+     * Stops the stream and releases its metrics.
+     *
+     * <p>Events queued or received after this call are discarded.
+     */
+    void stop()
+    {
+        synchronized(this) {
+            if(stopped) {
+                return;
+            }
+            stopped = true;
+            queue.clear();
+        }
+        MetricRegistry metrics = MetricService.getInstance().getMetrics();
+        metrics.remove(latencyMetricName);
+        metrics.remove(droppedMetricName);
+    }
+    /**
+     * Get the sessionId value.
+     *
+     * @return a <code>String</code> value
+     */
+    String getSessionId()
+    {
+        return sessionId;
+    }
+    /**
+     * Get the requestId value.
+     *
+     * @return a <code>long</code> value
+     */
+    long getRequestId()
+    {
+        return requestId;
+    }
+    /**
+     * Sets the requestId value.
+     *
+     * @param inRequestId a <code>long</code> value
+     */
+    void setRequestId(long inRequestId)
+    {
+        requestId = inRequestId;
+    }
+    /**
+     * Queues the given data, decomposing aggregate events and collections.
+     *
+     * @param inData an <code>Object</code> value
+     */
+    @GuardedBy("this")
+    private void enqueue(Object inData)
+    {
+        if(stopped) {
+            return;
+        }
+        if(inData instanceof Event) {
+            if(queue.size() >= maxQueueSize) {
+                queue.pollFirst();
+                droppedCounter.inc();
+            }
+            queue.addLast(new QueuedEvent((Event)inData,
+                                          nextSequence++));
+        } else if(inData instanceof AggregateEvent) {
+            for(Event event : ((AggregateEvent)inData).decompose()) {
+                enqueue(event);
+            }
+        } else if(inData instanceof Collection<?>) {
+            for(Object data : (Collection<?>)inData) {
+                enqueue(data);
+            }
+        } else {
+            SLF4JLoggerProxy.warn(this,
+                                  "Stream {} discarding unexpected data {}", //$NON-NLS-1$
+                                  streamId,
+                                  inData);
+        }
+    }
+    /**
+     * Sends the next batch of queued events if the client has granted credit and no batch is outstanding.
+     *
+     * <p>A batch carries the sequence number of its first event and the client numbers the rest consecutively, so
+     * a batch never spans an event that could not be encoded. Such an event is discarded, which the client sees as
+     * a gap, and the events after it are returned to the queue for the next batch.
+     */
+    private void sendBatch()
+    {
+        final List<QueuedEvent> batch;
+        synchronized(this) {
+            if(stopped || batchOutstanding || credit <= 0 || queue.isEmpty()) {
+                return;
+            }
+            int batchSize = Math.min(credit,
+                                     Math.min(maxBatchSize,
+                                              queue.size()));
+            batch = Lists.newArrayListWithCapacity(batchSize);
+            for(int i=0;i<batchSize;i++) {
+                batch.add(queue.pollFirst());
+            }
+            credit -= batchSize;
+            batchOutstanding = true;
+        }
+        final List<QueuedEvent> sent = Lists.newArrayListWithCapacity(batch.size());
+        EventBatch.Builder batchBuilder = EventBatch.newBuilder().setStreamId(streamId);
+        int index = 0;
+        while(index < batch.size()) {
+            QueuedEvent queuedEvent = batch.get(index++);
+            try {
+                if(payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                    batchBuilder.addEvents(service.getRpcEvent(queuedEvent.event));
+                } else {
+                    batchBuilder.addPayload(service.marshal(queuedEvent.event));
+                }
+            } catch (JAXBException | RuntimeException e) {
+                droppedCounter.inc();
+                SLF4JLoggerProxy.warn(this,
+                                      e,
+                                      "Stream {} cannot send {}", //$NON-NLS-1$
+                                      streamId,
+                                      queuedEvent.event);
+                if(sent.isEmpty()) {
+                    continue;
+                }
+                break;
+            }
+            if(sent.isEmpty()) {
+                batchBuilder.setSequence(queuedEvent.sequence);
+            }
+            sent.add(queuedEvent);
+        }
+        synchronized(this) {
+            // the client grants credit for the events it receives, so restore the credit of events that were not sent
+            credit += batch.size() - sent.size();
+            if(!stopped) {
+                for(int i=batch.size()-1;i>=index;i--) {
+                    queue.addFirst(batch.get(i));
+                }
+            }
+            if(sent.isEmpty()) {
+                batchOutstanding = false;
+            }
+        }
+        if(sent.isEmpty()) {
+            sendBatch();
+            return;
+        }
+        final ClientRpcController controller = channel.newRpcController();
+        try {
+            stub.receiveEvents(controller,
+                               batchBuilder.build(),
+                               new RpcCallback<EventBatchResponse>() {
+                @Override
+                public void run(EventBatchResponse inResponse)
+                {
+                    if(inResponse == null) {
+                        SLF4JLoggerProxy.warn(MarketDataRpcStream.this,
+                                              "Stream {} for {} failed: {}", //$NON-NLS-1$
+                                              streamId,
+                                              sessionId,
+                                              controller.errorText());
+                        service.cancelStream(MarketDataRpcStream.this);
+                        return;
+                    }
+                    long now = System.nanoTime();
+                    for(QueuedEvent queuedEvent : sent) {
+                        latencyHistogram.update(TimeUnit.NANOSECONDS.toMicros(now - queuedEvent.queued));
+                    }
+                    synchronized(MarketDataRpcStream.this) {
+                        credit += inResponse.getCredit();
+                        batchOutstanding = false;
+                    }
+                    sendBatch();
+                }
+            });
+        } catch (RuntimeException e) {
+            // no acknowledgement will arrive to clear the outstanding batch, so the stream cannot continue
+            SLF4JLoggerProxy.warn(this,
+                                  e,
+                                  "Stream {} for {} failed", //$NON-NLS-1$
+                                  streamId,
+                                  sessionId);
+            service.cancelStream(this);
+        }
+    }
+    /**
+     * An event waiting to be sent.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class QueuedEvent
+    {
+        /**
+         * Create a new QueuedEvent instance.
+         *
+         * @param inEvent an <code>Event</code> value
+         * @param inSequence a <code>long</code> value
+         */
+        private QueuedEvent(Event inEvent,
+                            long inSequence)
+        {
+            event = inEvent;
+            sequence = inSequence;
+        }
+        /**
+         * event to send
+         */
+        private final Event event;
+        /**
+         * position of the event in the stream
+         */
+        private final long sequence;
+        /**
+         * time the event was queued in nanoseconds
+         */
+        private final long queued = System.nanoTime();
+    }
+    /**
+     * service which owns this stream
+     */
+    private final MarketDataRpcService<?> service;
+    /**
+     * session which opened the stream
+     */
+    private final String sessionId;
+    /**
+     * stream id assigned by the client
+     */
+    private final long streamId;
+    /**
+     * channel to the client
+     */
+    private final RpcClientChannel channel;
+    /**
+     * sends batches to the client
+     */
+    private final RpcMarketDataStreamService.Stub stub;
+    /**
+     * payload format agreed with the session
+     */
+    private final PayloadRpc.PayloadFormat payloadFormat;
+    /**
+     * maximum number of events to queue
+     */
+    private final int maxQueueSize;
+    /**
+     * maximum number of events to send in one batch
+     */
+    private final int maxBatchSize;
+    /**
+     * name of the latency histogram
+     */
+    private final String latencyMetricName;
+    /**
+     * name of the dropped event counter
+     */
+    private final String droppedMetricName;
+    /**
+     * microseconds from when each event is queued until its batch is acknowledged
+     */
+    private final Histogram latencyHistogram;
+    /**
+     * counts events discarded because the queue was full or because they could not be encoded
+     */
+    private final Counter droppedCounter;
+    /**
+     * events waiting to be sent
+     */
+    @GuardedBy("this")
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+    /**
+     * sequence number to assign to the next queued event
+     */
+    @GuardedBy("this")
+    private long nextSequence = 0;
+    /**
+     * number of events the client is prepared to receive
+     */
+    @GuardedBy("this")
+    private int credit;
+    /**
+     * indicates if a batch has been sent and not yet acknowledged
+     */
+    @GuardedBy("this")
+    private boolean batchOutstanding = false;
+    /**
+     * indicates if the stream has been stopped
+     */
+    @GuardedBy("this")
+    private boolean stopped = false;
+    /**
+     * market data request id of the stream
+     */
+    private volatile long requestId;
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.event.Event;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
@@ -35,6 +36,18 @@ public interface MarketDataServiceAdapter
      */
     long request(MarketDataRequest inRequest,
                  boolean inStreamEvents);
+    /**
+     * Requests the given market data to be delivered to the given subscriber as it arrives.
+     * 
+     * <p>Events are not queued for retrieval with {@link #getEvents(long)}. The request is ended
+     * with {@link #cancel(long)}.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inSubscriber an <code>ISubscriber</code> value
+     * @return a <code>long</code> value
+     */
+    long request(MarketDataRequest inRequest,
+                 ISubscriber inSubscriber);
     /**
      * Gets the timestamp of the most recent update for the given request.
      *
@@ -385,6 +385,15 @@ public final class RpcMarketdata {
      */
     com.google.protobuf.ByteString
         getPasswordBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginRequest}
@@ -481,6 +490,17 @@ public final class RpcMarketdata {
               password_ = bs;
               break;
             }
+            case 56: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000040;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -752,6 +772,21 @@ public final class RpcMarketdata {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 7;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       appId_ = "";
       clientId_ = "";
@@ -759,6 +794,7 @@ public final class RpcMarketdata {
       versionId_ = "";
       username_ = "";
       password_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -819,6 +855,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeBytes(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeEnum(7, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -852,6 +891,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -986,6 +1029,8 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000010);
         password_ = "";
         bitField0_ = (bitField0_ & ~0x00000020);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -1042,6 +1087,10 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000020;
         }
         result.password_ = password_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1086,6 +1135,9 @@ public final class RpcMarketdata {
           password_ = other.password_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1637,6 +1689,41 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginRequest)
     }
 
@@ -2494,6 +2581,15 @@ public final class RpcMarketdata {
      */
     com.google.protobuf.ByteString
         getMessageBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginResponse}
@@ -2564,6 +2660,17 @@ public final class RpcMarketdata {
               message_ = bs;
               break;
             }
+            case 32: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2703,10 +2810,26 @@ public final class RpcMarketdata {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 4;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       sessionId_ = "";
       failed_ = false;
       message_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2734,6 +2857,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2755,6 +2881,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, getMessageBytes());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2878,6 +3008,8 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         message_ = "";
         bitField0_ = (bitField0_ & ~0x00000004);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -2918,6 +3050,10 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000004;
         }
         result.message_ = message_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2947,6 +3083,9 @@ public final class RpcMarketdata {
           message_ = other.message_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3162,6 +3301,41 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 4;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginResponse)
     }
 
@@ -5261,18 +5435,31 @@ public final class RpcMarketdata {
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     boolean hasPayload();
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     java.lang.String getPayload();
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     com.google.protobuf.ByteString
         getPayloadBytes();
+
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    boolean hasInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Instrument getInstrument();
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder();
   }
   /**
    * Protobuf type {@code Instrument}
@@ -5332,6 +5519,19 @@ public final class RpcMarketdata {
               payload_ = bs;
               break;
             }
+            case 18: {
+              org.marketcetera.rpc.PayloadRpc.Instrument.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = instrument_.toBuilder();
+              }
+              instrument_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Instrument.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(instrument_);
+                instrument_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -5375,13 +5575,13 @@ public final class RpcMarketdata {
     public static final int PAYLOAD_FIELD_NUMBER = 1;
     private java.lang.Object payload_;
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public boolean hasPayload() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public java.lang.String getPayload() {
       java.lang.Object ref = payload_;
@@ -5398,7 +5598,7 @@ public final class RpcMarketdata {
       }
     }
     /**
-     * <code>required string payload = 1;</code>
+     * <code>optional string payload = 1;</code>
      */
     public com.google.protobuf.ByteString
         getPayloadBytes() {
@@ -5414,8 +5614,30 @@ public final class RpcMarketdata {
       }
     }
 
+    public static final int INSTRUMENT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.Instrument instrument_;
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public boolean hasInstrument() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+      return instrument_;
+    }
+    /**
+     * <code>optional .payload.Instrument instrument = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+      return instrument_;
+    }
+
     private void initFields() {
       payload_ = "";
+      instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5423,10 +5645,6 @@ public final class RpcMarketdata {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasPayload()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -5437,6 +5655,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, instrument_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5450,6 +5671,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, instrument_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -5559,6 +5784,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getInstrumentFieldBuilder();
         }
       }
       private static Builder create() {
@@ -5569,6 +5795,12 @@ public final class RpcMarketdata {
         super.clear();
         payload_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -5601,6 +5833,14 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000001;
         }
         result.payload_ = payload_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (instrumentBuilder_ == null) {
+          result.instrument_ = instrument_;
+        } else {
+          result.instrument_ = instrumentBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5622,15 +5862,14 @@ public final class RpcMarketdata {
           payload_ = other.payload_;
           onChanged();
         }
+        if (other.hasInstrument()) {
+          mergeInstrument(other.getInstrument());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasPayload()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -5655,13 +5894,13 @@ public final class RpcMarketdata {
 
       private java.lang.Object payload_ = "";
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public boolean hasPayload() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public java.lang.String getPayload() {
         java.lang.Object ref = payload_;
@@ -5678,7 +5917,7 @@ public final class RpcMarketdata {
         }
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public com.google.protobuf.ByteString
           getPayloadBytes() {
@@ -5694,7 +5933,7 @@ public final class RpcMarketdata {
         }
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder setPayload(
           java.lang.String value) {
@@ -5707,7 +5946,7 @@ public final class RpcMarketdata {
         return this;
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder clearPayload() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -5716,7 +5955,7 @@ public final class RpcMarketdata {
         return this;
       }
       /**
-       * <code>required string payload = 1;</code>
+       * <code>optional string payload = 1;</code>
        */
       public Builder setPayloadBytes(
           com.google.protobuf.ByteString value) {
@@ -5729,88 +5968,204 @@ public final class RpcMarketdata {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:Instrument)
-    }
-
-    static {
-      defaultInstance = new Instrument(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:Instrument)
-  }
-
-  public interface MarketDataRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:MarketDataRequest)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    boolean hasSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    java.lang.String getSessionId();
-    /**
-     * <code>required string sessionId = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getSessionIdBytes();
-
-    /**
-     * <code>required string request = 2;</code>
-     */
-    boolean hasRequest();
-    /**
-     * <code>required string request = 2;</code>
-     */
-    java.lang.String getRequest();
-    /**
-     * <code>required string request = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getRequestBytes();
-
-    /**
-     * <code>optional bool streamEvents = 3;</code>
-     */
-    boolean hasStreamEvents();
-    /**
-     * <code>optional bool streamEvents = 3;</code>
-     */
-    boolean getStreamEvents();
-  }
-  /**
-   * Protobuf type {@code MarketDataRequest}
-   */
-  public static final class MarketDataRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:MarketDataRequest)
-      MarketDataRequestOrBuilder {
-    // Use MarketDataRequest.newBuilder() to construct.
-    private MarketDataRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private MarketDataRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final MarketDataRequest defaultInstance;
-    public static MarketDataRequest getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public MarketDataRequest getDefaultInstanceForType() {
-      return defaultInstance;
-    }
-
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private MarketDataRequest(
+      private org.marketcetera.rpc.PayloadRpc.Instrument instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> instrumentBuilder_;
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public boolean hasInstrument() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument getInstrument() {
+        if (instrumentBuilder_ == null) {
+          return instrument_;
+        } else {
+          return instrumentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instrument_ = value;
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder setInstrument(
+          org.marketcetera.rpc.PayloadRpc.Instrument.Builder builderForValue) {
+        if (instrumentBuilder_ == null) {
+          instrument_ = builderForValue.build();
+          onChanged();
+        } else {
+          instrumentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder mergeInstrument(org.marketcetera.rpc.PayloadRpc.Instrument value) {
+        if (instrumentBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              instrument_ != org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance()) {
+            instrument_ =
+              org.marketcetera.rpc.PayloadRpc.Instrument.newBuilder(instrument_).mergeFrom(value).buildPartial();
+          } else {
+            instrument_ = value;
+          }
+          onChanged();
+        } else {
+          instrumentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public Builder clearInstrument() {
+        if (instrumentBuilder_ == null) {
+          instrument_ = org.marketcetera.rpc.PayloadRpc.Instrument.getDefaultInstance();
+          onChanged();
+        } else {
+          instrumentBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Instrument.Builder getInstrumentBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstrumentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder getInstrumentOrBuilder() {
+        if (instrumentBuilder_ != null) {
+          return instrumentBuilder_.getMessageOrBuilder();
+        } else {
+          return instrument_;
+        }
+      }
+      /**
+       * <code>optional .payload.Instrument instrument = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder> 
+          getInstrumentFieldBuilder() {
+        if (instrumentBuilder_ == null) {
+          instrumentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Instrument, org.marketcetera.rpc.PayloadRpc.Instrument.Builder, org.marketcetera.rpc.PayloadRpc.InstrumentOrBuilder>(
+                  getInstrument(),
+                  getParentForChildren(),
+                  isClean());
+          instrument_ = null;
+        }
+        return instrumentBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Instrument)
+    }
+
+    static {
+      defaultInstance = new Instrument(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Instrument)
+  }
+
+  public interface MarketDataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:MarketDataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    java.lang.String getSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSessionIdBytes();
+
+    /**
+     * <code>required string request = 2;</code>
+     */
+    boolean hasRequest();
+    /**
+     * <code>required string request = 2;</code>
+     */
+    java.lang.String getRequest();
+    /**
+     * <code>required string request = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getRequestBytes();
+
+    /**
+     * <code>optional bool streamEvents = 3;</code>
+     */
+    boolean hasStreamEvents();
+    /**
+     * <code>optional bool streamEvents = 3;</code>
+     */
+    boolean getStreamEvents();
+  }
+  /**
+   * Protobuf type {@code MarketDataRequest}
+   */
+  public static final class MarketDataRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:MarketDataRequest)
+      MarketDataRequestOrBuilder {
+    // Use MarketDataRequest.newBuilder() to construct.
+    private MarketDataRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MarketDataRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MarketDataRequest defaultInstance;
+    public static MarketDataRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MarketDataRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MarketDataRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7107,8 +7462,8 @@ public final class RpcMarketdata {
     // @@protoc_insertion_point(class_scope:MarketDataResponse)
   }
 
-  public interface LastUpdateRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:LastUpdateRequest)
+  public interface StreamRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StreamRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -7126,34 +7481,57 @@ public final class RpcMarketdata {
         getSessionIdBytes();
 
     /**
-     * <code>required int64 id = 2;</code>
+     * <code>required string request = 2;</code>
      */
-    boolean hasId();
+    boolean hasRequest();
     /**
-     * <code>required int64 id = 2;</code>
+     * <code>required string request = 2;</code>
      */
-    long getId();
+    java.lang.String getRequest();
+    /**
+     * <code>required string request = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getRequestBytes();
+
+    /**
+     * <code>required int64 streamId = 3;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>required int64 streamId = 3;</code>
+     */
+    long getStreamId();
+
+    /**
+     * <code>required int32 credit = 4;</code>
+     */
+    boolean hasCredit();
+    /**
+     * <code>required int32 credit = 4;</code>
+     */
+    int getCredit();
   }
   /**
-   * Protobuf type {@code LastUpdateRequest}
+   * Protobuf type {@code StreamRequest}
    */
-  public static final class LastUpdateRequest extends
+  public static final class StreamRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:LastUpdateRequest)
-      LastUpdateRequestOrBuilder {
-    // Use LastUpdateRequest.newBuilder() to construct.
-    private LastUpdateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:StreamRequest)
+      StreamRequestOrBuilder {
+    // Use StreamRequest.newBuilder() to construct.
+    private StreamRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private LastUpdateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private StreamRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final LastUpdateRequest defaultInstance;
-    public static LastUpdateRequest getDefaultInstance() {
+    private static final StreamRequest defaultInstance;
+    public static StreamRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public LastUpdateRequest getDefaultInstanceForType() {
+    public StreamRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -7163,7 +7541,7 @@ public final class RpcMarketdata {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private LastUpdateRequest(
+    private StreamRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7192,9 +7570,20 @@ public final class RpcMarketdata {
               sessionId_ = bs;
               break;
             }
-            case 16: {
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000002;
-              id_ = input.readInt64();
+              request_ = bs;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              streamId_ = input.readInt64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              credit_ = input.readInt32();
               break;
             }
           }
@@ -7211,28 +7600,28 @@ public final class RpcMarketdata {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_LastUpdateRequest_descriptor;
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_LastUpdateRequest_fieldAccessorTable
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.marketcetera.marketdata.core.rpc.RpcMarketdata.LastUpdateRequest.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.LastUpdateRequest.Builder.class);
+              org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<LastUpdateRequest> PARSER =
-        new com.google.protobuf.AbstractParser<LastUpdateRequest>() {
-      public LastUpdateRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<StreamRequest> PARSER =
+        new com.google.protobuf.AbstractParser<StreamRequest>() {
+      public StreamRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new LastUpdateRequest(input, extensionRegistry);
+        return new StreamRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<LastUpdateRequest> getParserForType() {
+    public com.google.protobuf.Parser<StreamRequest> getParserForType() {
       return PARSER;
     }
 
@@ -7279,30 +7668,2896 @@ public final class RpcMarketdata {
       }
     }
 
-    public static final int ID_FIELD_NUMBER = 2;
-    private long id_;
+    public static final int REQUEST_FIELD_NUMBER = 2;
+    private java.lang.Object request_;
     /**
-     * <code>required int64 id = 2;</code>
+     * <code>required string request = 2;</code>
      */
-    public boolean hasId() {
+    public boolean hasRequest() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required int64 id = 2;</code>
+     * <code>required string request = 2;</code>
      */
-    public long getId() {
-      return id_;
-    }
-
-    private void initFields() {
-      sessionId_ = "";
-      id_ = 0L;
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+    public java.lang.String getRequest() {
+      java.lang.Object ref = request_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          request_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string request = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRequestBytes() {
+      java.lang.Object ref = request_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        request_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STREAMID_FIELD_NUMBER = 3;
+    private long streamId_;
+    /**
+     * <code>required int64 streamId = 3;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required int64 streamId = 3;</code>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    public static final int CREDIT_FIELD_NUMBER = 4;
+    private int credit_;
+    /**
+     * <code>required int32 credit = 4;</code>
+     */
+    public boolean hasCredit() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required int32 credit = 4;</code>
+     */
+    public int getCredit() {
+      return credit_;
+    }
+
+    private void initFields() {
+      sessionId_ = "";
+      request_ = "";
+      streamId_ = 0L;
+      credit_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasSessionId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRequest()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStreamId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasCredit()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getSessionIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getRequestBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, streamId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, credit_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getSessionIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getRequestBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, streamId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, credit_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StreamRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StreamRequest)
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        sessionId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        request_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        credit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamRequest_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest build() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest result = new org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sessionId_ = sessionId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.request_ = request_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.credit_ = credit_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.getDefaultInstance()) return this;
+        if (other.hasSessionId()) {
+          bitField0_ |= 0x00000001;
+          sessionId_ = other.sessionId_;
+          onChanged();
+        }
+        if (other.hasRequest()) {
+          bitField0_ |= 0x00000002;
+          request_ = other.request_;
+          onChanged();
+        }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasCredit()) {
+          setCredit(other.getCredit());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasSessionId()) {
+          
+          return false;
+        }
+        if (!hasRequest()) {
+          
+          return false;
+        }
+        if (!hasStreamId()) {
+          
+          return false;
+        }
+        if (!hasCredit()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object sessionId_ = "";
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public boolean hasSessionId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public java.lang.String getSessionId() {
+        java.lang.Object ref = sessionId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sessionId_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSessionIdBytes() {
+        java.lang.Object ref = sessionId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sessionId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public Builder setSessionId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public Builder clearSessionId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sessionId_ = getDefaultInstance().getSessionId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string sessionId = 1;</code>
+       */
+      public Builder setSessionIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        sessionId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object request_ = "";
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public boolean hasRequest() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public java.lang.String getRequest() {
+        java.lang.Object ref = request_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            request_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRequestBytes() {
+        java.lang.Object ref = request_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          request_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public Builder setRequest(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        request_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public Builder clearRequest() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        request_ = getDefaultInstance().getRequest();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string request = 2;</code>
+       */
+      public Builder setRequestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        request_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long streamId_ ;
+      /**
+       * <code>required int64 streamId = 3;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required int64 streamId = 3;</code>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>required int64 streamId = 3;</code>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000004;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 streamId = 3;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int credit_ ;
+      /**
+       * <code>required int32 credit = 4;</code>
+       */
+      public boolean hasCredit() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required int32 credit = 4;</code>
+       */
+      public int getCredit() {
+        return credit_;
+      }
+      /**
+       * <code>required int32 credit = 4;</code>
+       */
+      public Builder setCredit(int value) {
+        bitField0_ |= 0x00000008;
+        credit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 credit = 4;</code>
+       */
+      public Builder clearCredit() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        credit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:StreamRequest)
+    }
+
+    static {
+      defaultInstance = new StreamRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:StreamRequest)
+  }
+
+  public interface StreamResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:StreamResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    boolean hasId();
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    long getId();
+
+    /**
+     * <code>optional bool failed = 2;</code>
+     */
+    boolean hasFailed();
+    /**
+     * <code>optional bool failed = 2;</code>
+     */
+    boolean getFailed();
+
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    boolean hasMessage();
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    java.lang.String getMessage();
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getMessageBytes();
+  }
+  /**
+   * Protobuf type {@code StreamResponse}
+   */
+  public static final class StreamResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:StreamResponse)
+      StreamResponseOrBuilder {
+    // Use StreamResponse.newBuilder() to construct.
+    private StreamResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private StreamResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final StreamResponse defaultInstance;
+    public static StreamResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public StreamResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StreamResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              id_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              failed_ = input.readBool();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              message_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<StreamResponse> PARSER =
+        new com.google.protobuf.AbstractParser<StreamResponse>() {
+      public StreamResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StreamResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StreamResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private long id_;
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 id = 1;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+
+    public static final int FAILED_FIELD_NUMBER = 2;
+    private boolean failed_;
+    /**
+     * <code>optional bool failed = 2;</code>
+     */
+    public boolean hasFailed() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool failed = 2;</code>
+     */
+    public boolean getFailed() {
+      return failed_;
+    }
+
+    public static final int MESSAGE_FIELD_NUMBER = 3;
+    private java.lang.Object message_;
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    public boolean hasMessage() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          message_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string message = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMessageBytes() {
+      java.lang.Object ref = message_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        message_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      id_ = 0L;
+      failed_ = false;
+      message_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, failed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getMessageBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, failed_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getMessageBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code StreamResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:StreamResponse)
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        id_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        failed_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        message_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_StreamResponse_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse build() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse result = new org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.failed_ = failed_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.message_ = message_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          setId(other.getId());
+        }
+        if (other.hasFailed()) {
+          setFailed(other.getFailed());
+        }
+        if (other.hasMessage()) {
+          bitField0_ |= 0x00000004;
+          message_ = other.message_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasId()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long id_ ;
+      /**
+       * <code>required int64 id = 1;</code>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int64 id = 1;</code>
+       */
+      public long getId() {
+        return id_;
+      }
+      /**
+       * <code>required int64 id = 1;</code>
+       */
+      public Builder setId(long value) {
+        bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 id = 1;</code>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean failed_ ;
+      /**
+       * <code>optional bool failed = 2;</code>
+       */
+      public boolean hasFailed() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bool failed = 2;</code>
+       */
+      public boolean getFailed() {
+        return failed_;
+      }
+      /**
+       * <code>optional bool failed = 2;</code>
+       */
+      public Builder setFailed(boolean value) {
+        bitField0_ |= 0x00000002;
+        failed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool failed = 2;</code>
+       */
+      public Builder clearFailed() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        failed_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public boolean hasMessage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            message_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder clearMessage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:StreamResponse)
+    }
+
+    static {
+      defaultInstance = new StreamResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:StreamResponse)
+  }
+
+  public interface EventBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EventBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int64 streamId = 1;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>required int64 streamId = 1;</code>
+     */
+    long getStreamId();
+
+    /**
+     * <code>required int64 sequence = 2;</code>
+     */
+    boolean hasSequence();
+    /**
+     * <code>required int64 sequence = 2;</code>
+     */
+    long getSequence();
+
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getPayloadList();
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    int getPayloadCount();
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    java.lang.String getPayload(int index);
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getPayloadBytes(int index);
+
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<org.marketcetera.rpc.PayloadRpc.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Event getEvents(int index);
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code EventBatch}
+   */
+  public static final class EventBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:EventBatch)
+      EventBatchOrBuilder {
+    // Use EventBatch.newBuilder() to construct.
+    private EventBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private EventBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final EventBatch defaultInstance;
+    public static EventBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EventBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EventBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              streamId_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              sequence_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                payload_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              payload_.add(bs);
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              events_.add(input.readMessage(org.marketcetera.rpc.PayloadRpc.Event.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          payload_ = payload_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = java.util.Collections.unmodifiableList(events_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<EventBatch> PARSER =
+        new com.google.protobuf.AbstractParser<EventBatch>() {
+      public EventBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EventBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EventBatch> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int STREAMID_FIELD_NUMBER = 1;
+    private long streamId_;
+    /**
+     * <code>required int64 streamId = 1;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int64 streamId = 1;</code>
+     */
+    public long getStreamId() {
+      return streamId_;
+    }
+
+    public static final int SEQUENCE_FIELD_NUMBER = 2;
+    private long sequence_;
+    /**
+     * <code>required int64 sequence = 2;</code>
+     */
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int64 sequence = 2;</code>
+     */
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int PAYLOAD_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList payload_;
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPayloadList() {
+      return payload_;
+    }
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    public int getPayloadCount() {
+      return payload_.size();
+    }
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    public java.lang.String getPayload(int index) {
+      return payload_.get(index);
+    }
+    /**
+     * <code>repeated string payload = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPayloadBytes(int index) {
+      return payload_.getByteString(index);
+    }
+
+    public static final int EVENTS_FIELD_NUMBER = 4;
+    private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_;
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
+    private void initFields() {
+      streamId_ = 0L;
+      sequence_ = 0L;
+      payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      events_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasStreamId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasSequence()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, streamId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, sequence_);
+      }
+      for (int i = 0; i < payload_.size(); i++) {
+        output.writeBytes(3, payload_.getByteString(i));
+      }
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(4, events_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, streamId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, sequence_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < payload_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(payload_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPayloadList().size();
+      }
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, events_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code EventBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:EventBatch)
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        streamId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatch_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch build() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch result = new org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.sequence_ = sequence_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          payload_ = payload_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.payload_ = payload_;
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.getDefaultInstance()) return this;
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (!other.payload_.isEmpty()) {
+          if (payload_.isEmpty()) {
+            payload_ = other.payload_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensurePayloadIsMutable();
+            payload_.addAll(other.payload_);
+          }
+          onChanged();
+        }
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasStreamId()) {
+          
+          return false;
+        }
+        if (!hasSequence()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long streamId_ ;
+      /**
+       * <code>required int64 streamId = 1;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int64 streamId = 1;</code>
+       */
+      public long getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>required int64 streamId = 1;</code>
+       */
+      public Builder setStreamId(long value) {
+        bitField0_ |= 0x00000001;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 streamId = 1;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        streamId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long sequence_ ;
+      /**
+       * <code>required int64 sequence = 2;</code>
+       */
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required int64 sequence = 2;</code>
+       */
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>required int64 sequence = 2;</code>
+       */
+      public Builder setSequence(long value) {
+        bitField0_ |= 0x00000002;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int64 sequence = 2;</code>
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePayloadIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          payload_ = new com.google.protobuf.LazyStringArrayList(payload_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPayloadList() {
+        return payload_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public int getPayloadCount() {
+        return payload_.size();
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public java.lang.String getPayload(int index) {
+        return payload_.get(index);
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPayloadBytes(int index) {
+        return payload_.getByteString(index);
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public Builder setPayload(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePayloadIsMutable();
+        payload_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public Builder addPayload(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePayloadIsMutable();
+        payload_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public Builder addAllPayload(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePayloadIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, payload_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public Builder clearPayload() {
+        payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string payload = 3;</code>
+       */
+      public Builder addPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePayloadIsMutable();
+        payload_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>(events_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.marketcetera.rpc.PayloadRpc.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
+        } else {
+          eventsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:EventBatch)
+    }
+
+    static {
+      defaultInstance = new EventBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:EventBatch)
+  }
+
+  public interface EventBatchResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EventBatchResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required int32 credit = 1;</code>
+     */
+    boolean hasCredit();
+    /**
+     * <code>required int32 credit = 1;</code>
+     */
+    int getCredit();
+  }
+  /**
+   * Protobuf type {@code EventBatchResponse}
+   */
+  public static final class EventBatchResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:EventBatchResponse)
+      EventBatchResponseOrBuilder {
+    // Use EventBatchResponse.newBuilder() to construct.
+    private EventBatchResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private EventBatchResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final EventBatchResponse defaultInstance;
+    public static EventBatchResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EventBatchResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EventBatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              credit_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<EventBatchResponse> PARSER =
+        new com.google.protobuf.AbstractParser<EventBatchResponse>() {
+      public EventBatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EventBatchResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EventBatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int CREDIT_FIELD_NUMBER = 1;
+    private int credit_;
+    /**
+     * <code>required int32 credit = 1;</code>
+     */
+    public boolean hasCredit() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 credit = 1;</code>
+     */
+    public int getCredit() {
+      return credit_;
+    }
+
+    private void initFields() {
+      credit_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasCredit()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, credit_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, credit_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code EventBatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:EventBatchResponse)
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.Builder.class);
+      }
+
+      // Construct using org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        credit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_EventBatchResponse_descriptor;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse getDefaultInstanceForType() {
+        return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance();
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse build() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse buildPartial() {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse result = new org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.credit_ = credit_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse) {
+          return mergeFrom((org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse other) {
+        if (other == org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance()) return this;
+        if (other.hasCredit()) {
+          setCredit(other.getCredit());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasCredit()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int credit_ ;
+      /**
+       * <code>required int32 credit = 1;</code>
+       */
+      public boolean hasCredit() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 credit = 1;</code>
+       */
+      public int getCredit() {
+        return credit_;
+      }
+      /**
+       * <code>required int32 credit = 1;</code>
+       */
+      public Builder setCredit(int value) {
+        bitField0_ |= 0x00000001;
+        credit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 credit = 1;</code>
+       */
+      public Builder clearCredit() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        credit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:EventBatchResponse)
+    }
+
+    static {
+      defaultInstance = new EventBatchResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:EventBatchResponse)
+  }
+
+  public interface LastUpdateRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LastUpdateRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    boolean hasSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    java.lang.String getSessionId();
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getSessionIdBytes();
+
+    /**
+     * <code>required int64 id = 2;</code>
+     */
+    boolean hasId();
+    /**
+     * <code>required int64 id = 2;</code>
+     */
+    long getId();
+  }
+  /**
+   * Protobuf type {@code LastUpdateRequest}
+   */
+  public static final class LastUpdateRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:LastUpdateRequest)
+      LastUpdateRequestOrBuilder {
+    // Use LastUpdateRequest.newBuilder() to construct.
+    private LastUpdateRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private LastUpdateRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final LastUpdateRequest defaultInstance;
+    public static LastUpdateRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public LastUpdateRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private LastUpdateRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              sessionId_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              id_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_LastUpdateRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.internal_static_LastUpdateRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.marketcetera.marketdata.core.rpc.RpcMarketdata.LastUpdateRequest.class, org.marketcetera.marketdata.core.rpc.RpcMarketdata.LastUpdateRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<LastUpdateRequest> PARSER =
+        new com.google.protobuf.AbstractParser<LastUpdateRequest>() {
+      public LastUpdateRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new LastUpdateRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LastUpdateRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int SESSIONID_FIELD_NUMBER = 1;
+    private java.lang.Object sessionId_;
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    public boolean hasSessionId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    public java.lang.String getSessionId() {
+      java.lang.Object ref = sessionId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          sessionId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string sessionId = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSessionIdBytes() {
+      java.lang.Object ref = sessionId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sessionId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ID_FIELD_NUMBER = 2;
+    private long id_;
+    /**
+     * <code>required int64 id = 2;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required int64 id = 2;</code>
+     */
+    public long getId() {
+      return id_;
+    }
+
+    private void initFields() {
+      sessionId_ = "";
+      id_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       if (!hasSessionId()) {
         memoizedIsInitialized = 0;
@@ -10549,6 +13804,30 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 4;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    java.util.List<org.marketcetera.rpc.PayloadRpc.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Event getEvents(int index);
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code EventsResponse}
@@ -10627,6 +13906,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              events_.add(input.readMessage(org.marketcetera.rpc.PayloadRpc.Event.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -10638,6 +13925,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          events_ = java.util.Collections.unmodifiableList(events_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -10771,11 +14061,47 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int EVENTS_FIELD_NUMBER = 5;
+    private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_;
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .payload.Event events = 5;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
     private void initFields() {
       id_ = 0L;
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      events_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -10806,6 +14132,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBool(4, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(5, events_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -10836,6 +14165,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(4, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, events_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -10945,6 +14278,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -10961,6 +14295,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000004);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000008);
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          eventsBuilder_.clear();
+        }
         return this;
       }
 
@@ -11006,6 +14346,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000004;
         }
         result.failed_ = failed_;
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -11043,6 +14392,32 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -11177,134 +14552,374 @@ public final class RpcMarketdata {
         return this;
       }
       /**
-       * <code>repeated string payload = 2;</code>
+       * <code>repeated string payload = 2;</code>
+       */
+      public Builder clearPayload() {
+        payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string payload = 2;</code>
+       */
+      public Builder addPayloadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePayloadIsMutable();
+        payload_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object message_ = "";
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public boolean hasMessage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            message_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMessageBytes() {
+        java.lang.Object ref = message_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          message_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder clearMessage() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        message_ = getDefaultInstance().getMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string message = 3;</code>
+       */
+      public Builder setMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        message_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean failed_ ;
+      /**
+       * <code>optional bool failed = 4;</code>
+       */
+      public boolean hasFailed() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool failed = 4;</code>
+       */
+      public boolean getFailed() {
+        return failed_;
+      }
+      /**
+       * <code>optional bool failed = 4;</code>
+       */
+      public Builder setFailed(boolean value) {
+        bitField0_ |= 0x00000008;
+        failed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool failed = 4;</code>
+       */
+      public Builder clearFailed() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        failed_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>(events_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public Builder addEvents(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder clearPayload() {
-        payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
+      public Builder addEvents(
+          org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>repeated string payload = 2;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder addPayloadBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensurePayloadIsMutable();
-        payload_.add(value);
-        onChanged();
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
-
-      private java.lang.Object message_ = "";
-      /**
-       * <code>optional string message = 3;</code>
-       */
-      public boolean hasMessage() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
       /**
-       * <code>optional string message = 3;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            message_ = s;
-          }
-          return s;
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.marketcetera.rpc.PayloadRpc.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          eventsBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>optional string message = 3;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          message_ = b;
-          return b;
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          eventsBuilder_.clear();
         }
+        return this;
       }
       /**
-       * <code>optional string message = 3;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder setMessage(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        message_ = value;
-        onChanged();
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
         return this;
       }
       /**
-       * <code>optional string message = 3;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder clearMessage() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        message_ = getDefaultInstance().getMessage();
-        onChanged();
-        return this;
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional string message = 3;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder setMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        message_ = value;
-        onChanged();
-        return this;
+      public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
       }
-
-      private boolean failed_ ;
       /**
-       * <code>optional bool failed = 4;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public boolean hasFailed() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
       }
       /**
-       * <code>optional bool failed = 4;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public boolean getFailed() {
-        return failed_;
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
       }
       /**
-       * <code>optional bool failed = 4;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder setFailed(boolean value) {
-        bitField0_ |= 0x00000008;
-        failed_ = value;
-        onChanged();
-        return this;
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
       }
       /**
-       * <code>optional bool failed = 4;</code>
+       * <code>repeated .payload.Event events = 5;</code>
        */
-      public Builder clearFailed() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        failed_ = false;
-        onChanged();
-        return this;
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
       }
 
       // @@protoc_insertion_point(builder_scope:EventsResponse)
@@ -13209,10 +16824,6 @@ public final class RpcMarketdata {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getInstrument().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -13484,10 +17095,6 @@ public final class RpcMarketdata {
           
           return false;
         }
-        if (!getInstrument().isInitialized()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -13869,6 +17476,30 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 3;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<org.marketcetera.rpc.PayloadRpc.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Event getEvents(int index);
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code SnapshotResponse}
@@ -13942,6 +17573,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              events_.add(input.readMessage(org.marketcetera.rpc.PayloadRpc.Event.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13953,6 +17592,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = java.util.Collections.unmodifiableList(events_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -14071,10 +17713,46 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int EVENTS_FIELD_NUMBER = 4;
+    private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_;
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
     private void initFields() {
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      events_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -14098,6 +17776,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBool(3, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(4, events_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -14124,6 +17805,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, events_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -14233,6 +17918,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -14247,6 +17933,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          eventsBuilder_.clear();
+        }
         return this;
       }
 
@@ -14288,6 +17980,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000002;
         }
         result.failed_ = failed_;
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -14322,6 +18023,32 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -14550,6 +18277,246 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>(events_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.marketcetera.rpc.PayloadRpc.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
+        } else {
+          eventsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:SnapshotResponse)
     }
 
@@ -14939,10 +18906,6 @@ public final class RpcMarketdata {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getInstrument().isInitialized()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       if (!getPage().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -15247,10 +19210,6 @@ public final class RpcMarketdata {
           
           return false;
         }
-        if (!getInstrument().isInitialized()) {
-          
-          return false;
-        }
         if (!getPage().isInitialized()) {
           
           return false;
@@ -15752,6 +19711,30 @@ public final class RpcMarketdata {
      * <code>optional bool failed = 3;</code>
      */
     boolean getFailed();
+
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<org.marketcetera.rpc.PayloadRpc.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Event getEvents(int index);
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code SnapshotPageResponse}
@@ -15825,6 +19808,14 @@ public final class RpcMarketdata {
               failed_ = input.readBool();
               break;
             }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              events_.add(input.readMessage(org.marketcetera.rpc.PayloadRpc.Event.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -15836,6 +19827,9 @@ public final class RpcMarketdata {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
           payload_ = payload_.getUnmodifiableView();
         }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = java.util.Collections.unmodifiableList(events_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -15954,10 +19948,46 @@ public final class RpcMarketdata {
       return failed_;
     }
 
+    public static final int EVENTS_FIELD_NUMBER = 4;
+    private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_;
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .payload.Event events = 4;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
     private void initFields() {
       payload_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       message_ = "";
       failed_ = false;
+      events_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -15981,6 +20011,9 @@ public final class RpcMarketdata {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBool(3, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(4, events_.get(i));
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -16007,6 +20040,10 @@ public final class RpcMarketdata {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(3, failed_);
       }
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, events_.get(i));
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -16116,6 +20153,7 @@ public final class RpcMarketdata {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getEventsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -16130,6 +20168,12 @@ public final class RpcMarketdata {
         bitField0_ = (bitField0_ & ~0x00000002);
         failed_ = false;
         bitField0_ = (bitField0_ & ~0x00000004);
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          eventsBuilder_.clear();
+        }
         return this;
       }
 
@@ -16171,6 +20215,15 @@ public final class RpcMarketdata {
           to_bitField0_ |= 0x00000002;
         }
         result.failed_ = failed_;
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -16205,6 +20258,32 @@ public final class RpcMarketdata {
         if (other.hasFailed()) {
           setFailed(other.getFailed());
         }
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -16433,6 +20512,246 @@ public final class RpcMarketdata {
         return this;
       }
 
+      private java.util.List<org.marketcetera.rpc.PayloadRpc.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          events_ = new java.util.ArrayList<org.marketcetera.rpc.PayloadRpc.Event>(events_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder setEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addEvents(
+          int index, org.marketcetera.rpc.PayloadRpc.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.marketcetera.rpc.PayloadRpc.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
+        } else {
+          eventsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<? extends org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.marketcetera.rpc.PayloadRpc.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .payload.Event events = 4;</code>
+       */
+      public java.util.List<org.marketcetera.rpc.PayloadRpc.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Event, org.marketcetera.rpc.PayloadRpc.Event.Builder, org.marketcetera.rpc.PayloadRpc.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:SnapshotPageResponse)
     }
 
@@ -18241,6 +22560,14 @@ public final class RpcMarketdata {
           org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest request,
           com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse> done);
 
+      /**
+       * <code>rpc stream(.StreamRequest) returns (.StreamResponse);</code>
+       */
+      public abstract void stream(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request,
+          com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse> done);
+
     }
 
     public static com.google.protobuf.Service newReflectiveService(
@@ -18334,6 +22661,14 @@ public final class RpcMarketdata {
           impl.getAvailableCapability(controller, request, done);
         }
 
+        @java.lang.Override
+        public  void stream(
+            com.google.protobuf.RpcController controller,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request,
+            com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse> done) {
+          impl.stream(controller, request, done);
+        }
+
       };
     }
 
@@ -18378,6 +22713,8 @@ public final class RpcMarketdata {
               return impl.getSnapshotPage(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageRequest)request);
             case 10:
               return impl.getAvailableCapability(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest)request);
+            case 11:
+              return impl.stream(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest)request);
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -18414,6 +22751,8 @@ public final class RpcMarketdata {
               return org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageRequest.getDefaultInstance();
             case 10:
               return org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest.getDefaultInstance();
+            case 11:
+              return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.getDefaultInstance();
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -18450,6 +22789,8 @@ public final class RpcMarketdata {
               return org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageResponse.getDefaultInstance();
             case 10:
               return org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance();
+            case 11:
+              return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance();
             default:
               throw new java.lang.AssertionError("Can't get here.");
           }
@@ -18546,6 +22887,14 @@ public final class RpcMarketdata {
         org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest request,
         com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse> done);
 
+    /**
+     * <code>rpc stream(.StreamRequest) returns (.StreamResponse);</code>
+     */
+    public abstract void stream(
+        com.google.protobuf.RpcController controller,
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request,
+        com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse> done);
+
     public static final
         com.google.protobuf.Descriptors.ServiceDescriptor
         getDescriptor() {
@@ -18623,6 +22972,11 @@ public final class RpcMarketdata {
             com.google.protobuf.RpcUtil.<org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse>specializeCallback(
               done));
           return;
+        case 11:
+          this.stream(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest)request,
+            com.google.protobuf.RpcUtil.<org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse>specializeCallback(
+              done));
+          return;
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -18659,6 +23013,8 @@ public final class RpcMarketdata {
           return org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageRequest.getDefaultInstance();
         case 10:
           return org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest.getDefaultInstance();
+        case 11:
+          return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest.getDefaultInstance();
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -18695,6 +23051,8 @@ public final class RpcMarketdata {
           return org.marketcetera.marketdata.core.rpc.RpcMarketdata.SnapshotPageResponse.getDefaultInstance();
         case 10:
           return org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance();
+        case 11:
+          return org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance();
         default:
           throw new java.lang.AssertionError("Can't get here.");
       }
@@ -18877,8 +23235,23 @@ public final class RpcMarketdata {
           org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance(),
           com.google.protobuf.RpcUtil.generalizeCallback(
             done,
-            org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.class,
-            org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance()));
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.class,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance()));
+      }
+
+      public  void stream(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request,
+          com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse> done) {
+        channel.callMethod(
+          getDescriptor().getMethods().get(11),
+          controller,
+          request,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance(),
+          com.google.protobuf.RpcUtil.generalizeCallback(
+            done,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.class,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance()));
       }
     }
 
@@ -18942,6 +23315,11 @@ public final class RpcMarketdata {
           com.google.protobuf.RpcController controller,
           org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityRequest request)
           throws com.google.protobuf.ServiceException;
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse stream(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request)
+          throws com.google.protobuf.ServiceException;
     }
 
     private static final class BlockingStub implements BlockingInterface {
@@ -19082,11 +23460,255 @@ public final class RpcMarketdata {
           org.marketcetera.marketdata.core.rpc.RpcMarketdata.AvailableCapabilityResponse.getDefaultInstance());
       }
 
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse stream(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamRequest request)
+          throws com.google.protobuf.ServiceException {
+        return (org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse) channel.callBlockingMethod(
+          getDescriptor().getMethods().get(11),
+          controller,
+          request,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.StreamResponse.getDefaultInstance());
+      }
+
     }
 
     // @@protoc_insertion_point(class_scope:RpcMarketDataService)
   }
 
+  /**
+   * Protobuf service {@code RpcMarketDataStreamService}
+   */
+  public static abstract class RpcMarketDataStreamService
+      implements com.google.protobuf.Service {
+    protected RpcMarketDataStreamService() {}
+
+    public interface Interface {
+      /**
+       * <code>rpc receiveEvents(.EventBatch) returns (.EventBatchResponse);</code>
+       */
+      public abstract void receiveEvents(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request,
+          com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse> done);
+
+    }
+
+    public static com.google.protobuf.Service newReflectiveService(
+        final Interface impl) {
+      return new RpcMarketDataStreamService() {
+        @java.lang.Override
+        public  void receiveEvents(
+            com.google.protobuf.RpcController controller,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request,
+            com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse> done) {
+          impl.receiveEvents(controller, request, done);
+        }
+
+      };
+    }
+
+    public static com.google.protobuf.BlockingService
+        newReflectiveBlockingService(final BlockingInterface impl) {
+      return new com.google.protobuf.BlockingService() {
+        public final com.google.protobuf.Descriptors.ServiceDescriptor
+            getDescriptorForType() {
+          return getDescriptor();
+        }
+
+        public final com.google.protobuf.Message callBlockingMethod(
+            com.google.protobuf.Descriptors.MethodDescriptor method,
+            com.google.protobuf.RpcController controller,
+            com.google.protobuf.Message request)
+            throws com.google.protobuf.ServiceException {
+          if (method.getService() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "Service.callBlockingMethod() given method descriptor for " +
+              "wrong service type.");
+          }
+          switch(method.getIndex()) {
+            case 0:
+              return impl.receiveEvents(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch)request);
+            default:
+              throw new java.lang.AssertionError("Can't get here.");
+          }
+        }
+
+        public final com.google.protobuf.Message
+            getRequestPrototype(
+            com.google.protobuf.Descriptors.MethodDescriptor method) {
+          if (method.getService() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "Service.getRequestPrototype() given method " +
+              "descriptor for wrong service type.");
+          }
+          switch(method.getIndex()) {
+            case 0:
+              return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.getDefaultInstance();
+            default:
+              throw new java.lang.AssertionError("Can't get here.");
+          }
+        }
+
+        public final com.google.protobuf.Message
+            getResponsePrototype(
+            com.google.protobuf.Descriptors.MethodDescriptor method) {
+          if (method.getService() != getDescriptor()) {
+            throw new java.lang.IllegalArgumentException(
+              "Service.getResponsePrototype() given method " +
+              "descriptor for wrong service type.");
+          }
+          switch(method.getIndex()) {
+            case 0:
+              return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance();
+            default:
+              throw new java.lang.AssertionError("Can't get here.");
+          }
+        }
+
+      };
+    }
+
+    /**
+     * <code>rpc receiveEvents(.EventBatch) returns (.EventBatchResponse);</code>
+     */
+    public abstract void receiveEvents(
+        com.google.protobuf.RpcController controller,
+        org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request,
+        com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse> done);
+
+    public static final
+        com.google.protobuf.Descriptors.ServiceDescriptor
+        getDescriptor() {
+      return org.marketcetera.marketdata.core.rpc.RpcMarketdata.getDescriptor().getServices().get(1);
+    }
+    public final com.google.protobuf.Descriptors.ServiceDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+
+    public final void callMethod(
+        com.google.protobuf.Descriptors.MethodDescriptor method,
+        com.google.protobuf.RpcController controller,
+        com.google.protobuf.Message request,
+        com.google.protobuf.RpcCallback<
+          com.google.protobuf.Message> done) {
+      if (method.getService() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "Service.callMethod() given method descriptor for wrong " +
+          "service type.");
+      }
+      switch(method.getIndex()) {
+        case 0:
+          this.receiveEvents(controller, (org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch)request,
+            com.google.protobuf.RpcUtil.<org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse>specializeCallback(
+              done));
+          return;
+        default:
+          throw new java.lang.AssertionError("Can't get here.");
+      }
+    }
+
+    public final com.google.protobuf.Message
+        getRequestPrototype(
+        com.google.protobuf.Descriptors.MethodDescriptor method) {
+      if (method.getService() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "Service.getRequestPrototype() given method " +
+          "descriptor for wrong service type.");
+      }
+      switch(method.getIndex()) {
+        case 0:
+          return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch.getDefaultInstance();
+        default:
+          throw new java.lang.AssertionError("Can't get here.");
+      }
+    }
+
+    public final com.google.protobuf.Message
+        getResponsePrototype(
+        com.google.protobuf.Descriptors.MethodDescriptor method) {
+      if (method.getService() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "Service.getResponsePrototype() given method " +
+          "descriptor for wrong service type.");
+      }
+      switch(method.getIndex()) {
+        case 0:
+          return org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance();
+        default:
+          throw new java.lang.AssertionError("Can't get here.");
+      }
+    }
+
+    public static Stub newStub(
+        com.google.protobuf.RpcChannel channel) {
+      return new Stub(channel);
+    }
+
+    public static final class Stub extends org.marketcetera.marketdata.core.rpc.RpcMarketdata.RpcMarketDataStreamService implements Interface {
+      private Stub(com.google.protobuf.RpcChannel channel) {
+        this.channel = channel;
+      }
+
+      private final com.google.protobuf.RpcChannel channel;
+
+      public com.google.protobuf.RpcChannel getChannel() {
+        return channel;
+      }
+
+      public  void receiveEvents(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request,
+          com.google.protobuf.RpcCallback<org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse> done) {
+        channel.callMethod(
+          getDescriptor().getMethods().get(0),
+          controller,
+          request,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance(),
+          com.google.protobuf.RpcUtil.generalizeCallback(
+            done,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.class,
+            org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance()));
+      }
+    }
+
+    public static BlockingInterface newBlockingStub(
+        com.google.protobuf.BlockingRpcChannel channel) {
+      return new BlockingStub(channel);
+    }
+
+    public interface BlockingInterface {
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse receiveEvents(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request)
+          throws com.google.protobuf.ServiceException;
+    }
+
+    private static final class BlockingStub implements BlockingInterface {
+      private BlockingStub(com.google.protobuf.BlockingRpcChannel channel) {
+        this.channel = channel;
+      }
+
+      private final com.google.protobuf.BlockingRpcChannel channel;
+
+      public org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse receiveEvents(
+          com.google.protobuf.RpcController controller,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatch request)
+          throws com.google.protobuf.ServiceException {
+        return (org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse) channel.callBlockingMethod(
+          getDescriptor().getMethods().get(0),
+          controller,
+          request,
+          org.marketcetera.marketdata.core.rpc.RpcMarketdata.EventBatchResponse.getDefaultInstance());
+      }
+
+    }
+
+    // @@protoc_insertion_point(class_scope:RpcMarketDataStreamService)
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_LoginRequest_descriptor;
   private static
@@ -19137,6 +23759,26 @@ public final class RpcMarketdata {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_MarketDataResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_StreamRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_StreamResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EventBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_EventBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_EventBatchResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_EventBatchResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_LastUpdateRequest_descriptor;
   private static
@@ -19226,76 +23868,93 @@ public final class RpcMarketdata {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\017rpc_mdata.proto\"\177\n\014LoginRequest\022\r\n\005app" +
-      "Id\030\001 \002(\t\022\020\n\010clientId\030\002 \002(\t\022\027\n\006locale\030\003 \002" +
-      "(\0132\007.Locale\022\021\n\tversionId\030\004 \002(\t\022\020\n\010userna" +
-      "me\030\005 \002(\t\022\020\n\010password\030\006 \002(\t\"<\n\006Locale\022\017\n\007" +
-      "country\030\001 \002(\t\022\020\n\010language\030\002 \002(\t\022\017\n\007varia" +
-      "nt\030\003 \001(\t\"C\n\rLoginResponse\022\021\n\tsessionId\030\001" +
-      " \002(\t\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"\"\n" +
-      "\rLogoutRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\016Log" +
-      "outResponse\022\016\n\006failed\030\001 \001(\010\022\017\n\007message\030\002" +
-      " \001(\t\"\036\n\020HeartbeatRequest\022\n\n\002id\030\001 \002(\003\"@\n\021",
-      "HeartbeatResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006failed\030" +
-      "\002 \001(\010\022\017\n\007message\030\003 \001(\t\"\035\n\nInstrument\022\017\n\007" +
-      "payload\030\001 \002(\t\"M\n\021MarketDataRequest\022\021\n\tse" +
-      "ssionId\030\001 \002(\t\022\017\n\007request\030\002 \002(\t\022\024\n\014stream" +
-      "Events\030\003 \001(\010\"A\n\022MarketDataResponse\022\n\n\002id" +
-      "\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"" +
-      "2\n\021LastUpdateRequest\022\021\n\tsessionId\030\001 \002(\t\022" +
-      "\n\n\002id\030\002 \002(\003\"H\n\022LastUpdateResponse\022\021\n\ttim" +
-      "estamp\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030" +
-      "\003 \001(\t\".\n\rCancelRequest\022\021\n\tsessionId\030\001 \002(",
-      "\t\022\n\n\002id\030\002 \002(\003\"1\n\016CancelResponse\022\017\n\007messa" +
-      "ge\030\001 \001(\t\022\016\n\006failed\030\002 \001(\010\"\030\n\005Event\022\017\n\007pay" +
-      "load\030\001 \002(\t\".\n\rEventsRequest\022\021\n\tsessionId" +
-      "\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"N\n\016EventsResponse\022\n\n\002" +
-      "id\030\001 \002(\003\022\017\n\007payload\030\002 \003(\t\022\017\n\007message\030\003 \001" +
-      "(\t\022\016\n\006failed\030\004 \001(\010\"1\n\020AllEventsRequest\022\021" +
-      "\n\tsessionId\030\001 \002(\t\022\n\n\002id\030\002 \003(\003\"U\n\021AllEven" +
-      "tsResponse\022\037\n\006events\030\001 \003(\0132\017.EventsRespo" +
-      "nse\022\017\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\177\n\017" +
-      "SnapshotRequest\022\021\n\tsessionId\030\001 \002(\t\022\037\n\nin",
-      "strument\030\002 \002(\0132\013.Instrument\022&\n\007content\030\003" +
-      " \002(\0162\025.ContentAndCapability\022\020\n\010provider\030" +
-      "\004 \001(\t\"D\n\020SnapshotResponse\022\017\n\007payload\030\001 \003" +
-      "(\t\022\017\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\237\001\n\023" +
-      "SnapshotPageRequest\022\021\n\tsessionId\030\001 \002(\t\022\037" +
-      "\n\ninstrument\030\002 \002(\0132\013.Instrument\022&\n\007conte" +
-      "nt\030\003 \002(\0162\025.ContentAndCapability\022\020\n\010provi" +
-      "der\030\004 \001(\t\022\032\n\004page\030\005 \002(\0132\014.PageRequest\"H\n" +
-      "\024SnapshotPageResponse\022\017\n\007payload\030\001 \003(\t\022\017" +
-      "\n\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\")\n\013PageR",
-      "equest\022\014\n\004page\030\001 \002(\005\022\014\n\004size\030\002 \002(\005\"/\n\032Av" +
-      "ailableCapabilityRequest\022\021\n\tsessionId\030\001 " +
-      "\002(\t\"i\n\033AvailableCapabilityResponse\022)\n\nca" +
-      "pability\030\001 \003(\0162\025.ContentAndCapability\022\017\n" +
-      "\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010*B\n\016Instru" +
-      "mentType\022\n\n\006EQUITY\020\000\022\n\n\006OPTION\020\001\022\n\n\006FUTU" +
-      "RE\020\002\022\014\n\010CURRENCY\020\003*\366\001\n\024ContentAndCapabil" +
-      "ity\022\017\n\013TOP_OF_BOOK\020\000\022\r\n\tOPEN_BOOK\020\001\022\017\n\013M" +
-      "ARKET_STAT\020\002\022\016\n\nTOTAL_VIEW\020\003\022\013\n\007LEVEL_2\020" +
-      "\004\022\017\n\013LATEST_TICK\020\005\022\t\n\005BBO10\020\006\022\010\n\004NBBO\020\007\022",
-      "\014\n\010DIVIDEND\020\010\022\024\n\020AGGREGATED_DEPTH\020\t\022\026\n\022U" +
-      "NAGGREGATED_DEPTH\020\n\022\r\n\tIMBALANCE\020\013\022\013\n\007UN" +
-      "KNOWN\020\014\022\022\n\016EVENT_BOUNDARY\020\r2\344\004\n\024RpcMarke" +
-      "tDataService\022&\n\005login\022\r.LoginRequest\032\016.L" +
-      "oginResponse\022)\n\006logout\022\016.LogoutRequest\032\017" +
-      ".LogoutResponse\0222\n\theartbeat\022\021.Heartbeat" +
-      "Request\032\022.HeartbeatResponse\0222\n\007request\022\022" +
-      ".MarketDataRequest\032\023.MarketDataResponse\022" +
-      "8\n\rgetLastUpdate\022\022.LastUpdateRequest\032\023.L" +
-      "astUpdateResponse\022)\n\006cancel\022\016.CancelRequ",
-      "est\032\017.CancelResponse\022,\n\tgetEvents\022\016.Even" +
-      "tsRequest\032\017.EventsResponse\0225\n\014getAllEven" +
-      "ts\022\021.AllEventsRequest\032\022.AllEventsRespons" +
-      "e\0222\n\013getSnapshot\022\020.SnapshotRequest\032\021.Sna" +
-      "pshotResponse\022>\n\017getSnapshotPage\022\024.Snaps" +
-      "hotPageRequest\032\025.SnapshotPageResponse\022S\n" +
-      "\026getAvailableCapability\022\033.AvailableCapab" +
-      "ilityRequest\032\034.AvailableCapabilityRespon" +
-      "seB8\n$org.marketcetera.marketdata.core.r" +
-      "pcB\rRpcMarketdata\210\001\001"
+      "\n\017rpc_mdata.proto\032\021rpc_payload.proto\"\256\001\n" +
+      "\014LoginRequest\022\r\n\005appId\030\001 \002(\t\022\020\n\010clientId" +
+      "\030\002 \002(\t\022\027\n\006locale\030\003 \002(\0132\007.Locale\022\021\n\tversi" +
+      "onId\030\004 \002(\t\022\020\n\010username\030\005 \002(\t\022\020\n\010password" +
+      "\030\006 \002(\t\022-\n\rpayloadFormat\030\007 \001(\0162\026.payload." +
+      "PayloadFormat\"<\n\006Locale\022\017\n\007country\030\001 \002(\t" +
+      "\022\020\n\010language\030\002 \002(\t\022\017\n\007variant\030\003 \001(\t\"r\n\rL" +
+      "oginResponse\022\021\n\tsessionId\030\001 \002(\t\022\016\n\006faile" +
+      "d\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\022-\n\rpayloadForma" +
+      "t\030\004 \001(\0162\026.payload.PayloadFormat\"\"\n\rLogou",
+      "tRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\016LogoutRes" +
+      "ponse\022\016\n\006failed\030\001 \001(\010\022\017\n\007message\030\002 \001(\t\"\036" +
+      "\n\020HeartbeatRequest\022\n\n\002id\030\001 \002(\003\"@\n\021Heartb" +
+      "eatResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022" +
+      "\017\n\007message\030\003 \001(\t\"F\n\nInstrument\022\017\n\007payloa" +
+      "d\030\001 \001(\t\022\'\n\ninstrument\030\002 \001(\0132\023.payload.In" +
+      "strument\"M\n\021MarketDataRequest\022\021\n\tsession" +
+      "Id\030\001 \002(\t\022\017\n\007request\030\002 \002(\t\022\024\n\014streamEvent" +
+      "s\030\003 \001(\010\"A\n\022MarketDataResponse\022\n\n\002id\030\001 \002(" +
+      "\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"U\n\rSt",
+      "reamRequest\022\021\n\tsessionId\030\001 \002(\t\022\017\n\007reques" +
+      "t\030\002 \002(\t\022\020\n\010streamId\030\003 \002(\003\022\016\n\006credit\030\004 \002(" +
+      "\005\"=\n\016StreamResponse\022\n\n\002id\030\001 \002(\003\022\016\n\006faile" +
+      "d\030\002 \001(\010\022\017\n\007message\030\003 \001(\t\"a\n\nEventBatch\022\020" +
+      "\n\010streamId\030\001 \002(\003\022\020\n\010sequence\030\002 \002(\003\022\017\n\007pa" +
+      "yload\030\003 \003(\t\022\036\n\006events\030\004 \003(\0132\016.payload.Ev" +
+      "ent\"$\n\022EventBatchResponse\022\016\n\006credit\030\001 \002(" +
+      "\005\"2\n\021LastUpdateRequest\022\021\n\tsessionId\030\001 \002(" +
+      "\t\022\n\n\002id\030\002 \002(\003\"H\n\022LastUpdateResponse\022\021\n\tt" +
+      "imestamp\030\001 \002(\003\022\016\n\006failed\030\002 \001(\010\022\017\n\007messag",
+      "e\030\003 \001(\t\".\n\rCancelRequest\022\021\n\tsessionId\030\001 " +
+      "\002(\t\022\n\n\002id\030\002 \002(\003\"1\n\016CancelResponse\022\017\n\007mes" +
+      "sage\030\001 \001(\t\022\016\n\006failed\030\002 \001(\010\"\030\n\005Event\022\017\n\007p" +
+      "ayload\030\001 \002(\t\".\n\rEventsRequest\022\021\n\tsession" +
+      "Id\030\001 \002(\t\022\n\n\002id\030\002 \002(\003\"n\n\016EventsResponse\022\n" +
+      "\n\002id\030\001 \002(\003\022\017\n\007payload\030\002 \003(\t\022\017\n\007message\030\003" +
+      " \001(\t\022\016\n\006failed\030\004 \001(\010\022\036\n\006events\030\005 \003(\0132\016.p" +
+      "ayload.Event\"1\n\020AllEventsRequest\022\021\n\tsess" +
+      "ionId\030\001 \002(\t\022\n\n\002id\030\002 \003(\003\"U\n\021AllEventsResp" +
+      "onse\022\037\n\006events\030\001 \003(\0132\017.EventsResponse\022\017\n",
+      "\007message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\"\177\n\017Snapsh" +
+      "otRequest\022\021\n\tsessionId\030\001 \002(\t\022\037\n\ninstrume" +
+      "nt\030\002 \002(\0132\013.Instrument\022&\n\007content\030\003 \002(\0162\025" +
+      ".ContentAndCapability\022\020\n\010provider\030\004 \001(\t\"" +
+      "d\n\020SnapshotResponse\022\017\n\007payload\030\001 \003(\t\022\017\n\007" +
+      "message\030\002 \001(\t\022\016\n\006failed\030\003 \001(\010\022\036\n\006events\030" +
+      "\004 \003(\0132\016.payload.Event\"\237\001\n\023SnapshotPageRe" +
+      "quest\022\021\n\tsessionId\030\001 \002(\t\022\037\n\ninstrument\030\002" +
+      " \002(\0132\013.Instrument\022&\n\007content\030\003 \002(\0162\025.Con" +
+      "tentAndCapability\022\020\n\010provider\030\004 \001(\t\022\032\n\004p",
+      "age\030\005 \002(\0132\014.PageRequest\"h\n\024SnapshotPageR" +
+      "esponse\022\017\n\007payload\030\001 \003(\t\022\017\n\007message\030\002 \001(" +
+      "\t\022\016\n\006failed\030\003 \001(\010\022\036\n\006events\030\004 \003(\0132\016.payl" +
+      "oad.Event\")\n\013PageRequest\022\014\n\004page\030\001 \002(\005\022\014" +
+      "\n\004size\030\002 \002(\005\"/\n\032AvailableCapabilityReque" +
+      "st\022\021\n\tsessionId\030\001 \002(\t\"i\n\033AvailableCapabi" +
+      "lityResponse\022)\n\ncapability\030\001 \003(\0162\025.Conte" +
+      "ntAndCapability\022\017\n\007message\030\002 \001(\t\022\016\n\006fail" +
+      "ed\030\003 \001(\010*B\n\016InstrumentType\022\n\n\006EQUITY\020\000\022\n" +
+      "\n\006OPTION\020\001\022\n\n\006FUTURE\020\002\022\014\n\010CURRENCY\020\003*\366\001\n",
+      "\024ContentAndCapability\022\017\n\013TOP_OF_BOOK\020\000\022\r" +
+      "\n\tOPEN_BOOK\020\001\022\017\n\013MARKET_STAT\020\002\022\016\n\nTOTAL_" +
+      "VIEW\020\003\022\013\n\007LEVEL_2\020\004\022\017\n\013LATEST_TICK\020\005\022\t\n\005" +
+      "BBO10\020\006\022\010\n\004NBBO\020\007\022\014\n\010DIVIDEND\020\010\022\024\n\020AGGRE" +
+      "GATED_DEPTH\020\t\022\026\n\022UNAGGREGATED_DEPTH\020\n\022\r\n" +
+      "\tIMBALANCE\020\013\022\013\n\007UNKNOWN\020\014\022\022\n\016EVENT_BOUND" +
+      "ARY\020\r2\217\005\n\024RpcMarketDataService\022&\n\005login\022" +
+      "\r.LoginRequest\032\016.LoginResponse\022)\n\006logout" +
+      "\022\016.LogoutRequest\032\017.LogoutResponse\0222\n\thea" +
+      "rtbeat\022\021.HeartbeatRequest\032\022.HeartbeatRes",
+      "ponse\0222\n\007request\022\022.MarketDataRequest\032\023.M" +
+      "arketDataResponse\0228\n\rgetLastUpdate\022\022.Las" +
+      "tUpdateRequest\032\023.LastUpdateResponse\022)\n\006c" +
+      "ancel\022\016.CancelRequest\032\017.CancelResponse\022," +
+      "\n\tgetEvents\022\016.EventsRequest\032\017.EventsResp" +
+      "onse\0225\n\014getAllEvents\022\021.AllEventsRequest\032" +
+      "\022.AllEventsResponse\0222\n\013getSnapshot\022\020.Sna" +
+      "pshotRequest\032\021.SnapshotResponse\022>\n\017getSn" +
+      "apshotPage\022\024.SnapshotPageRequest\032\025.Snaps" +
+      "hotPageResponse\022S\n\026getAvailableCapabilit",
+      "y\022\033.AvailableCapabilityRequest\032\034.Availab" +
+      "leCapabilityResponse\022)\n\006stream\022\016.StreamR" +
+      "equest\032\017.StreamResponse2O\n\032RpcMarketData" +
+      "StreamService\0221\n\rreceiveEvents\022\013.EventBa" +
+      "tch\032\023.EventBatchResponseB8\n$org.marketce" +
+      "tera.marketdata.core.rpcB\rRpcMarketdata\210" +
+      "\001\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -19308,13 +23967,14 @@ public final class RpcMarketdata {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.marketcetera.rpc.PayloadRpc.getDescriptor(),
         }, assigner);
     internal_static_LoginRequest_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_LoginRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginRequest_descriptor,
-        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", });
+        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", "PayloadFormat", });
     internal_static_Locale_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Locale_fieldAccessorTable = new
@@ -19326,7 +23986,7 @@ public final class RpcMarketdata {
     internal_static_LoginResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginResponse_descriptor,
-        new java.lang.String[] { "SessionId", "Failed", "Message", });
+        new java.lang.String[] { "SessionId", "Failed", "Message", "PayloadFormat", });
     internal_static_LogoutRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_LogoutRequest_fieldAccessorTable = new
@@ -19356,7 +24016,7 @@ public final class RpcMarketdata {
     internal_static_Instrument_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Instrument_descriptor,
-        new java.lang.String[] { "Payload", });
+        new java.lang.String[] { "Payload", "Instrument", });
     internal_static_MarketDataRequest_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_MarketDataRequest_fieldAccessorTable = new
@@ -19369,102 +24029,127 @@ public final class RpcMarketdata {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_MarketDataResponse_descriptor,
         new java.lang.String[] { "Id", "Failed", "Message", });
-    internal_static_LastUpdateRequest_descriptor =
+    internal_static_StreamRequest_descriptor =
       getDescriptor().getMessageTypes().get(10);
+    internal_static_StreamRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_StreamRequest_descriptor,
+        new java.lang.String[] { "SessionId", "Request", "StreamId", "Credit", });
+    internal_static_StreamResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_StreamResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_StreamResponse_descriptor,
+        new java.lang.String[] { "Id", "Failed", "Message", });
+    internal_static_EventBatch_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_EventBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_EventBatch_descriptor,
+        new java.lang.String[] { "StreamId", "Sequence", "Payload", "Events", });
+    internal_static_EventBatchResponse_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_EventBatchResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_EventBatchResponse_descriptor,
+        new java.lang.String[] { "Credit", });
+    internal_static_LastUpdateRequest_descriptor =
+      getDescriptor().getMessageTypes().get(14);
     internal_static_LastUpdateRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LastUpdateRequest_descriptor,
         new java.lang.String[] { "SessionId", "Id", });
     internal_static_LastUpdateResponse_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_LastUpdateResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LastUpdateResponse_descriptor,
         new java.lang.String[] { "Timestamp", "Failed", "Message", });
     internal_static_CancelRequest_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_CancelRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_CancelRequest_descriptor,
         new java.lang.String[] { "SessionId", "Id", });
     internal_static_CancelResponse_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_CancelResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_CancelResponse_descriptor,
         new java.lang.String[] { "Message", "Failed", });
     internal_static_Event_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_Event_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Event_descriptor,
         new java.lang.String[] { "Payload", });
     internal_static_EventsRequest_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_EventsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EventsRequest_descriptor,
         new java.lang.String[] { "SessionId", "Id", });
     internal_static_EventsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_EventsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EventsResponse_descriptor,
-        new java.lang.String[] { "Id", "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Id", "Payload", "Message", "Failed", "Events", });
     internal_static_AllEventsRequest_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_AllEventsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_AllEventsRequest_descriptor,
         new java.lang.String[] { "SessionId", "Id", });
     internal_static_AllEventsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_AllEventsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_AllEventsResponse_descriptor,
         new java.lang.String[] { "Events", "Message", "Failed", });
     internal_static_SnapshotRequest_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_SnapshotRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotRequest_descriptor,
         new java.lang.String[] { "SessionId", "Instrument", "Content", "Provider", });
     internal_static_SnapshotResponse_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_SnapshotResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotResponse_descriptor,
-        new java.lang.String[] { "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Payload", "Message", "Failed", "Events", });
     internal_static_SnapshotPageRequest_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_SnapshotPageRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotPageRequest_descriptor,
         new java.lang.String[] { "SessionId", "Instrument", "Content", "Provider", "Page", });
     internal_static_SnapshotPageResponse_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_SnapshotPageResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SnapshotPageResponse_descriptor,
-        new java.lang.String[] { "Payload", "Message", "Failed", });
+        new java.lang.String[] { "Payload", "Message", "Failed", "Events", });
     internal_static_PageRequest_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_PageRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_PageRequest_descriptor,
         new java.lang.String[] { "Page", "Size", });
     internal_static_AvailableCapabilityRequest_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_AvailableCapabilityRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_AvailableCapabilityRequest_descriptor,
         new java.lang.String[] { "SessionId", });
     internal_static_AvailableCapabilityResponse_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_AvailableCapabilityResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_AvailableCapabilityResponse_descriptor,
         new java.lang.String[] { "Capability", "Message", "Failed", });
+    org.marketcetera.rpc.PayloadRpc.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
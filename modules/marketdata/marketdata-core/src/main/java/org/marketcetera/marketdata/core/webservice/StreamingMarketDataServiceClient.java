@@ -0,0 +1,32 @@
+package org.marketcetera.marketdata.core.webservice;
+
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Provides access to remote market data services that push events to the client as they arrive.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface StreamingMarketDataServiceClient
+        extends MarketDataServiceClient
+{
+    /**
+     * Request market data to be delivered to the given subscriber as it arrives.
+     * 
+     * <p>Events are pushed by the server instead of being queued for retrieval via {@link #getEvents(long)}.
+     * The returned id is used to cancel the subscription via {@link #cancel(long)}.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inSubscriber an <code>ISubscriber</code> value
+     * @return a <code>long</code> value
+     */
+    long subscribe(MarketDataRequest inRequest,
+                   ISubscriber inSubscriber);
+}
@@ -13,7 +13,6 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.apache.commons.lang.Validate;
@@ -141,6 +140,17 @@ public class MarketDataServiceImpl
         return doRequest(inRequest,
                          inStreamEvents);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#request(org.marketcetera.marketdata.MarketDataRequest, org.marketcetera.core.publisher.ISubscriber)
+     */
+    @Override
+    public long request(MarketDataRequest inRequest,
+                        ISubscriber inSubscriber)
+    {
+        Validate.notNull(inSubscriber);
+        return doRequest(inRequest,
+                         new ServiceSubscriber(inSubscriber));
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.webservice.MarketDataService#getAllEvents(org.marketcetera.util.ws.stateful.ClientContext, java.util.List)
      */
@@ -508,6 +518,42 @@ public class MarketDataServiceImpl
     {
         maxSubscriptionInterval = inMaxSubscriptionInterval;
     }
+    /**
+     * Get the queuePolicy value.
+     *
+     * @return a <code>SubscriptionQueuePolicy</code> value
+     */
+    public SubscriptionQueuePolicy getQueuePolicy()
+    {
+        return queuePolicy;
+    }
+    /**
+     * Sets the policy applied to requests whose events are held until retrieved.
+     *
+     * @param inQueuePolicy a <code>SubscriptionQueuePolicy</code> value
+     */
+    public void setQueuePolicy(SubscriptionQueuePolicy inQueuePolicy)
+    {
+        queuePolicy = inQueuePolicy;
+    }
+    /**
+     * Get the queueSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getQueueSize()
+    {
+        return queueSize;
+    }
+    /**
+     * Sets the maximum number of events held for each request until retrieved.
+     *
+     * @param inQueueSize an <code>int</code> value
+     */
+    public void setQueueSize(int inQueueSize)
+    {
+        queueSize = inQueueSize;
+    }
     /**
      * Executes the given market data request.
      *
@@ -518,7 +564,54 @@ public class MarketDataServiceImpl
     private long doRequest(MarketDataRequest inRequest,
                            boolean inStreamEvents)
     {
-        ServiceSubscriber subscriber = new ServiceSubscriber(inStreamEvents);
+        return doRequest(inRequest,
+                         new ServiceSubscriber(inStreamEvents ? createQueue(inRequest) : null));
+    }
+    /**
+     * Creates the queue which holds events for the given request.
+     * 
+     * <p>The request may override the {@link #setQueuePolicy(SubscriptionQueuePolicy) queue policy} and
+     * {@link #setQueueSize(int) queue size} with the {@link #QUEUE_POLICY_PARAMETER} and {@link #QUEUE_SIZE_PARAMETER}
+     * parameters.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @return a <code>SubscriptionQueue</code> value
+     * @throws IllegalArgumentException if the request specifies an invalid queue policy or size
+     */
+    private SubscriptionQueue createQueue(MarketDataRequest inRequest)
+    {
+        SubscriptionQueuePolicy requestQueuePolicy = queuePolicy;
+        int requestQueueSize = queueSize;
+        String value = inRequest.getParameters().get(QUEUE_POLICY_PARAMETER);
+        if(value != null) {
+            requestQueuePolicy = SubscriptionQueuePolicy.valueOf(value.toUpperCase());
+        }
+        value = inRequest.getParameters().get(QUEUE_SIZE_PARAMETER);
+        if(value != null) {
+            requestQueueSize = Integer.parseInt(value);
+        }
+        // quotes for depth of book must all be kept to rebuild the book
+        boolean conflateQuotes = true;
+        for(Content content : inRequest.getContent()) {
+            if(content.isDepth()) {
+                conflateQuotes = false;
+            }
+        }
+        return new SubscriptionQueue(requestQueuePolicy,
+                                     requestQueueSize,
+                                     conflateQuotes);
+    }
+    /**
+     * Executes the given market data request on behalf of the given subscriber.
+     *
+     * @param inRequest a <code>MarketDataRequest</code> value
+     * @param inSubscriber a <code>ServiceSubscriber</code> value
+     * @return a <code>long</code> value
+     */
+    private long doRequest(MarketDataRequest inRequest,
+                           ServiceSubscriber inSubscriber)
+    {
+        ServiceSubscriber subscriber = inSubscriber;
         long requestId = marketDataManager.requestMarketData(inRequest,
                                                              subscriber);
         subscriber.setRequestId(requestId);
@@ -650,11 +743,24 @@ public class MarketDataServiceImpl
         /**
          * Create a new ServiceSubscriber instance.
          *
-         * @param inStreamEvents a <code>boolean</code> value
+         * @param inQueue a <code>SubscriptionQueue</code> value to hold events until they are retrieved or <code>null</code> to not hold events
          */
-        public ServiceSubscriber(boolean inStreamEvents)
+        public ServiceSubscriber(SubscriptionQueue inQueue)
         {
-            storeEvents = inStreamEvents;
+            storeEvents = inQueue != null;
+            queue = inQueue;
+            delegate = null;
+        }
+        /**
+         * Create a new ServiceSubscriber instance that passes events to the given subscriber instead of storing them.
+         *
+         * @param inDelegate an <code>ISubscriber</code> value
+         */
+        public ServiceSubscriber(ISubscriber inDelegate)
+        {
+            storeEvents = false;
+            queue = null;
+            delegate = inDelegate;
         }
         /* (non-Javadoc)
          * @see org.marketcetera.core.publisher.ISubscriber#isInteresting(java.lang.Object)
@@ -670,28 +776,33 @@ public class MarketDataServiceImpl
         @Override
         public void publishTo(Object inData)
         {
-            try(CloseableLock publishEventLock = CloseableLock.create(lock.writeLock())) {
-                publishEventLock.lock();
-                updateTimestamp = System.currentTimeMillis();
-                if(!storeEvents) {
-                    return;
+            updateTimestamp = System.currentTimeMillis();
+            if(delegate != null) {
+                try(CloseableLock publishEventLock = CloseableLock.create(lock.writeLock())) {
+                    publishEventLock.lock();
+                    delegate.publishTo(inData);
                 }
-                if(inData instanceof Event) {
-                    events.addFirst((Event)inData);
-                } else if(inData instanceof AggregateEvent) {
-                    for(Event event : ((AggregateEvent)inData).decompose()) {
-                        events.addFirst(event);
-                    }
-                } else if(inData instanceof Collection<?>) {
-                    Collection<?> collectionData = (Collection<?>)inData;
-                    for(Object data : collectionData) {
-                        publishTo(data);
-                    }
-                } else {
-                    SLF4JLoggerProxy.warn(this,
-                                          "Unknown data type: " + inData.getClass().getName()); // TODO message
-                    throw new UnsupportedOperationException();
+                return;
+            }
+            if(!storeEvents) {
+                return;
+            }
+            // the queue guards itself, and may wait for room if its policy blocks
+            if(inData instanceof Event) {
+                queue.add((Event)inData);
+            } else if(inData instanceof AggregateEvent) {
+                for(Event event : ((AggregateEvent)inData).decompose()) {
+                    queue.add(event);
+                }
+            } else if(inData instanceof Collection<?>) {
+                Collection<?> collectionData = (Collection<?>)inData;
+                for(Object data : collectionData) {
+                    publishTo(data);
                 }
+            } else {
+                SLF4JLoggerProxy.warn(this,
+                                      "Unknown data type: " + inData.getClass().getName()); // TODO message
+                throw new UnsupportedOperationException();
             }
         }
         /**
@@ -699,9 +810,8 @@ public class MarketDataServiceImpl
          */
         private void cancel()
         {
-            try(CloseableLock publishEventLock = CloseableLock.create(lock.writeLock())) {
-                publishEventLock.lock();
-                events.clear();
+            if(queue != null) {
+                queue.cancel();
             }
         }
         /**
@@ -712,13 +822,10 @@ public class MarketDataServiceImpl
         private Deque<Event> getEvents()
         {
             retrieveTimestamp = System.currentTimeMillis();
-            Deque<Event> eventsToReturn = Lists.newLinkedList();
-            try(CloseableLock getEventLock = CloseableLock.create(lock.writeLock())) {
-                getEventLock.lock();
-                eventsToReturn.addAll(events);
-                events.clear();
+            if(queue == null) {
+                return Lists.newLinkedList();
             }
-            return eventsToReturn;
+            return queue.drain();
         }
         /**
          * Get the updateTimestamp value.
@@ -759,19 +866,22 @@ public class MarketDataServiceImpl
          * indicates whether the subscriber should store updates or not
          */
         private final boolean storeEvents;
+        /**
+         * receives events as they arrive, may be <code>null</code>
+         */
+        private final ISubscriber delegate;
         /**
          * tracks the time of the most recent update to the subscription
          */
         private volatile long updateTimestamp;
         /**
-         * controls access to critical data
+         * serializes events passed to the delegate
          */
         private final ReadWriteLock lock = new ReentrantReadWriteLock();
         /**
-         * contains events not yet seen for this subscriber
+         * contains events not yet seen for this subscriber, may be <code>null</code>
          */
-        @GuardedBy("lock")
-        private final Deque<Event> events = Lists.newLinkedList();
+        private final SubscriptionQueue queue;
     }
     /**
      * Retires market data subscriptions that have not been checked in a while.
@@ -844,4 +954,20 @@ public class MarketDataServiceImpl
      * indicates if the service is running or not
      */
     private final AtomicBoolean running = new AtomicBoolean(false);
+    /**
+     * policy applied to requests whose events are held until retrieved
+     */
+    private SubscriptionQueuePolicy queuePolicy = SubscriptionQueuePolicy.DROP_OLDEST;
+    /**
+     * maximum number of events held for each request
+     */
+    private int queueSize = 10000;
+    /**
+     * market data request parameter which overrides the queue policy for the request
+     */
+    public static final String QUEUE_POLICY_PARAMETER = "queuePolicy"; //$NON-NLS-1$
+    /**
+     * market data request parameter which overrides the queue size for the request
+     */
+    public static final String QUEUE_SIZE_PARAMETER = "queueSize"; //$NON-NLS-1$
 }
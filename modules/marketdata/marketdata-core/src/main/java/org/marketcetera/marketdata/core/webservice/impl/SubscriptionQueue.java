@@ -0,0 +1,355 @@
+package org.marketcetera.marketdata.core.webservice.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.Validate;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.HasInstrument;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.marketdata.Content;
+import org.marketcetera.marketdata.core.provider.AbstractMarketDataProvider;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.trade.Instrument;
+import org.marketcetera.util.misc.ClassVersion;
+
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Holds the events of one market data subscription until they are retrieved.
+ *
+ * <p>The queue holds at most a fixed number of events and applies a {@link SubscriptionQueuePolicy} when it is full.
+ * Events discarded or replaced by the policy are counted for the subscription and, by provider, in the
+ * {@link MetricService} where they are reported by each provider.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+@ClassVersion("$Id$")
+class SubscriptionQueue
+{
+    /**
+     * Create a new SubscriptionQueue instance.
+     *
+     * @param inPolicy a <code>SubscriptionQueuePolicy</code> value
+     * @param inCapacity an <code>int</code> value
+     * @param inConflateQuotes a <code>boolean</code> value indicating if quotes are top-of-book only and may be conflated
+     */
+    SubscriptionQueue(SubscriptionQueuePolicy inPolicy,
+                      int inCapacity,
+                      boolean inConflateQuotes)
+    {
+        Validate.notNull(inPolicy);
+        Validate.isTrue(inCapacity > 0);
+        policy = inPolicy;
+        capacity = inCapacity;
+        conflateQuotes = inConflateQuotes;
+    }
+    /**
+     * Adds the given event to the queue.
+     *
+     * <p>If the policy is {@link SubscriptionQueuePolicy#BLOCK}, this call waits while the queue is full.
+     *
+     * @param inEvent an <code>Event</code> value
+     */
+    void add(Event inEvent)
+    {
+        lock.lock();
+        try {
+            if(canceled) {
+                return;
+            }
+            if(policy == SubscriptionQueuePolicy.CONFLATE) {
+                Object key = getConflationKey(inEvent);
+                if(key != null && events.containsKey(key)) {
+                    events.put(key,
+                               inEvent);
+                    conflated.incrementAndGet();
+                    increment(AbstractMarketDataProvider.getConflatedEventsMetricName(inEvent.getProvider()));
+                    return;
+                }
+                makeRoom(inEvent);
+                events.put(key == null ? Long.valueOf(nextKey++) : key,
+                           inEvent);
+            } else {
+                if(!makeRoom(inEvent)) {
+                    return;
+                }
+                ring.addLast(inEvent);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Removes and returns all queued events, most recent first.
+     *
+     * @return a <code>Deque&lt;Event&gt;</code> value
+     */
+    Deque<Event> drain()
+    {
+        Deque<Event> eventsToReturn = Lists.newLinkedList();
+        lock.lock();
+        try {
+            Iterable<Event> queuedEvents = policy == SubscriptionQueuePolicy.CONFLATE ? events.values() : ring;
+            for(Event event : queuedEvents) {
+                eventsToReturn.addFirst(event);
+            }
+            events.clear();
+            ring.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return eventsToReturn;
+    }
+    /**
+     * Discards queued events and releases any waiting publisher.
+     *
+     * <p>Events added after this call are ignored.
+     */
+    void cancel()
+    {
+        lock.lock();
+        try {
+            canceled = true;
+            events.clear();
+            ring.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    /**
+     * Gets the number of events discarded because the queue was full.
+     *
+     * @return a <code>long</code> value
+     */
+    long getDropped()
+    {
+        return dropped.get();
+    }
+    /**
+     * Gets the number of events replaced by a more recent event of the same kind.
+     *
+     * @return a <code>long</code> value
+     */
+    long getConflated()
+    {
+        return conflated.get();
+    }
+    /**
+     * Makes room for the given event if the queue is full, according to the queue policy.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return a <code>boolean</code> value indicating if the event may be added
+     */
+    @GuardedBy("lock")
+    private boolean makeRoom(Event inEvent)
+    {
+        if(policy == SubscriptionQueuePolicy.BLOCK) {
+            while(ring.size() >= capacity && !canceled) {
+                try {
+                    notFull.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    recordDropped(inEvent);
+                    return false;
+                }
+            }
+            return !canceled;
+        }
+        if(policy == SubscriptionQueuePolicy.CONFLATE) {
+            if(events.size() >= capacity) {
+                Iterator<Event> eldest = events.values().iterator();
+                recordDropped(eldest.next());
+                eldest.remove();
+            }
+            return true;
+        }
+        if(ring.size() >= capacity) {
+            recordDropped(ring.pollFirst());
+        }
+        return true;
+    }
+    /**
+     * Counts the given event as discarded.
+     *
+     * @param inEvent an <code>Event</code> value
+     */
+    private void recordDropped(Event inEvent)
+    {
+        dropped.incrementAndGet();
+        increment(AbstractMarketDataProvider.getDroppedEventsMetricName(inEvent.getProvider()));
+    }
+    /**
+     * Increments the provider counter with the given name.
+     *
+     * @param inMetricName a <code>String</code> value
+     */
+    private static void increment(String inMetricName)
+    {
+        MetricService.getInstance().getMetrics().counter(inMetricName).inc();
+    }
+    /**
+     * Gets the key which identifies events that may replace the given event.
+     *
+     * @param inEvent an <code>Event</code> value
+     * @return an <code>Object</code> value or <code>null</code> if the event may not be conflated
+     */
+    private Object getConflationKey(Event inEvent)
+    {
+        if(!(inEvent instanceof HasInstrument)) {
+            return null;
+        }
+        Instrument instrument = ((HasInstrument)inEvent).getInstrument();
+        if(inEvent instanceof QuoteEvent) {
+            if(!conflateQuotes) {
+                return null;
+            }
+            return new ConflationKey(instrument,
+                                     Content.TOP_OF_BOOK,
+                                     inEvent instanceof BidEvent ? BidEvent.class : AskEvent.class);
+        }
+        if(inEvent instanceof TradeEvent) {
+            return new ConflationKey(instrument,
+                                     Content.LATEST_TICK,
+                                     TradeEvent.class);
+        }
+        if(inEvent instanceof MarketstatEvent) {
+            return new ConflationKey(instrument,
+                                     Content.MARKET_STAT,
+                                     MarketstatEvent.class);
+        }
+        return null;
+    }
+    /**
+     * Identifies events of the same kind for the same instrument.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    @ClassVersion("$Id$")
+    private static class ConflationKey
+    {
+        /**
+         * Create a new ConflationKey instance.
+         *
+         * @param inInstrument an <code>Instrument</code> value
+         * @param inContent a <code>Content</code> value
+         * @param inEventType a <code>Class&lt;? extends Event&gt;</code> value
+         */
+        private ConflationKey(Instrument inInstrument,
+                              Content inContent,
+                              Class<? extends Event> inEventType)
+        {
+            instrument = inInstrument;
+            content = inContent;
+            eventType = inEventType;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode()
+        {
+            return new HashCodeBuilder().append(instrument).append(content).append(eventType).toHashCode();
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object inObject)
+        {
+            if(this == inObject) {
+                return true;
+            }
+            if(!(inObject instanceof ConflationKey)) {
+                return false;
+            }
+            ConflationKey other = (ConflationKey)inObject;
+            return new EqualsBuilder().append(instrument,other.instrument).append(content,other.content).append(eventType,other.eventType).isEquals();
+        }
+        /**
+         * instrument of the event
+         */
+        private final Instrument instrument;
+        /**
+         * content of the event
+         */
+        private final Content content;
+        /**
+         * type of the event
+         */
+        private final Class<? extends Event> eventType;
+    }
+    /**
+     * policy applied when the queue is full
+     */
+    private final SubscriptionQueuePolicy policy;
+    /**
+     * maximum number of events held
+     */
+    private final int capacity;
+    /**
+     * indicates if quotes are top-of-book only and may be conflated
+     */
+    private final boolean conflateQuotes;
+    /**
+     * guards the queued events
+     */
+    private final Lock lock = new ReentrantLock();
+    /**
+     * signaled when queued events are removed
+     */
+    private final Condition notFull = lock.newCondition();
+    /**
+     * events held in arrival order for policies which do not conflate
+     */
+    @GuardedBy("lock")
+    private final Deque<Event> ring = new ArrayDeque<>();
+    /**
+     * events held in arrival order by conflation key for the conflating policy
+     */
+    @GuardedBy("lock")
+    private final Map<Object,Event> events = new LinkedHashMap<>();
+    /**
+     * generates keys for events which may not be conflated
+     */
+    @GuardedBy("lock")
+    private long nextKey = 0;
+    /**
+     * indicates if the subscription has been canceled
+     */
+    @GuardedBy("lock")
+    private boolean canceled = false;
+    /**
+     * number of events discarded because the queue was full
+     */
+    private final AtomicLong dropped = new AtomicLong(0);
+    /**
+     * number of events replaced by a more recent event of the same kind
+     */
+    private final AtomicLong conflated = new AtomicLong(0);
+}
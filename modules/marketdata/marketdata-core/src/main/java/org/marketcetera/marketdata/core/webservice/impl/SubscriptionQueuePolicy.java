@@ -0,0 +1,35 @@
+package org.marketcetera.marketdata.core.webservice.impl;
+
+import org.marketcetera.util.misc.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Describes how events are held for a market data subscription until they are retrieved.
+ *
+ * <p>Each policy holds a bounded number of events per subscription.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public enum SubscriptionQueuePolicy
+{
+    /**
+     * when the queue is full, the oldest event is discarded to make room for the newest
+     */
+    DROP_OLDEST,
+    /**
+     * top-of-book quotes, latest trades, and market statistics replace any unretrieved event of the same kind for the
+     * same instrument, other events are queued as with {@link #DROP_OLDEST}
+     */
+    CONFLATE,
+    /**
+     * when the queue is full, the publisher waits until events are retrieved or the subscription is canceled
+     *
+     * <p>This holds up delivery of events from the provider to every subscriber, so use it only for clients that
+     * must not miss events and retrieve them promptly.
+     */
+    BLOCK;
+}
@@ -0,0 +1,192 @@
+package org.marketcetera.marketdata.core.manager.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.marketcetera.core.notifications.ServerStatusListener;
+import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.event.Event;
+import org.marketcetera.marketdata.MarketDataRequest;
+import org.marketcetera.marketdata.MarketDataRequestBuilder;
+import org.marketcetera.marketdata.core.webservice.ConnectionException;
+import org.marketcetera.marketdata.core.webservice.MarketDataServiceClientFactory;
+import org.marketcetera.marketdata.core.webservice.StreamingMarketDataServiceClient;
+import org.marketcetera.util.ws.ContextClassProvider;
+
+/* $License$ */
+
+/**
+ * Tests {@link RemoteMarketDataManager}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class RemoteMarketDataManagerTest
+{
+    /**
+     * Run before each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Before
+    public void setup()
+            throws Exception
+    {
+        client = mock(StreamingMarketDataServiceClient.class);
+        when(client.isRunning()).thenReturn(true);
+        MarketDataServiceClientFactory clientFactory = mock(MarketDataServiceClientFactory.class);
+        when(clientFactory.create(anyString(),
+                                  anyString(),
+                                  anyString(),
+                                  anyInt(),
+                                  any(ContextClassProvider.class))).thenReturn(client);
+        manager = new RemoteMarketDataManager();
+        manager.setMarketDataClientFactory(clientFactory);
+        manager.setUsername("user");
+        manager.setPassword("password");
+        manager.setHostname("localhost");
+        manager.setEventSubscriptionInterval(10);
+        request = MarketDataRequestBuilder.newRequest().withSymbols("METC").create();
+        subscriber = mock(ISubscriber.class);
+        when(subscriber.isInteresting(any())).thenReturn(true);
+    }
+    /**
+     * Run after each test.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @After
+    public void cleanup()
+            throws Exception
+    {
+        manager.stop();
+    }
+    /**
+     * Tests that events are retrieved at intervals unless streaming is enabled.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStreamingDisabledByDefault()
+            throws Exception
+    {
+        assertFalse(manager.getStreamEvents());
+        manager.start();
+        when(client.request(request,
+                            true)).thenReturn(1L);
+        assertEquals(1L,
+                     manager.requestMarketData(request,
+                                               subscriber));
+        verify(client,
+               never()).subscribe(any(MarketDataRequest.class),
+                                  any(ISubscriber.class));
+        verify(client,
+               timeout(5000).atLeastOnce()).getEvents(1L);
+    }
+    /**
+     * Tests that events are retrieved at intervals if the server cannot stream them.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStreamFailure()
+            throws Exception
+    {
+        manager.setStreamEvents(true);
+        manager.start();
+        when(client.subscribe(request,
+                              subscriber)).thenThrow(new ConnectionException());
+        when(client.request(request,
+                            true)).thenReturn(1L);
+        Event event = mock(Event.class);
+        LinkedList<Event> events = new LinkedList<>();
+        events.add(event);
+        when(client.getEvents(1L)).thenReturn(events);
+        assertEquals(1L,
+                     manager.requestMarketData(request,
+                                               subscriber));
+        verify(subscriber,
+               timeout(5000).atLeastOnce()).publishTo(event);
+        manager.cancelMarketDataRequest(1L);
+        verify(client).cancel(1L);
+    }
+    /**
+     * Tests that streamed subscriptions are requested again when the connection is restored.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testReconnect()
+            throws Exception
+    {
+        manager.setStreamEvents(true);
+        manager.start();
+        ArgumentCaptor<ServerStatusListener> listenerCaptor = ArgumentCaptor.forClass(ServerStatusListener.class);
+        verify(client).addServerStatusListener(listenerCaptor.capture());
+        ServerStatusListener listener = listenerCaptor.getValue();
+        when(client.subscribe(request,
+                              subscriber)).thenReturn(1L,
+                                                      2L);
+        assertEquals(1L,
+                     manager.requestMarketData(request,
+                                               subscriber));
+        verify(client).subscribe(request,
+                                 subscriber);
+        // the connection is lost and restored
+        listener.receiveServerStatus(false);
+        listener.receiveServerStatus(true);
+        verify(client,
+               timeout(5000).times(2)).subscribe(request,
+                                                 subscriber);
+        // let the resubscription record the new id
+        Thread.sleep(500);
+        // the subscription keeps its original id and is canceled with the id of the new subscription
+        manager.cancelMarketDataRequest(1L);
+        verify(client).cancel(2L);
+        verify(client,
+               never()).cancel(1L);
+        verify(client,
+               never()).request(any(MarketDataRequest.class),
+                                 anyBoolean());
+        // canceled subscriptions are not requested again
+        listener.receiveServerStatus(false);
+        listener.receiveServerStatus(true);
+        Thread.sleep(500);
+        verify(client,
+               times(2)).subscribe(request,
+                                   subscriber);
+    }
+    /**
+     * test market data client
+     */
+    private StreamingMarketDataServiceClient client;
+    /**
+     * test object
+     */
+    private RemoteMarketDataManager manager;
+    /**
+     * test market data request
+     */
+    private MarketDataRequest request;
+    /**
+     * receives test market data
+     */
+    private ISubscriber subscriber;
+}
@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.marketcetera.core.notifications.ServerStatusListener;
+import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.event.Event;
 import org.marketcetera.event.EventTestBase;
 import org.marketcetera.marketdata.Capability;
@@ -29,6 +30,7 @@ import org.marketcetera.marketdata.MarketDataFeedTestBase;
 import org.marketcetera.marketdata.MarketDataRequestBuilder;
 import org.marketcetera.marketdata.core.webservice.PageRequest;
 import org.marketcetera.marketdata.core.webservice.impl.MarketDataContextClassProvider;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.options.OptionUtils;
 import org.marketcetera.trade.Currency;
 import org.marketcetera.trade.Equity;
@@ -154,6 +156,67 @@ public class MarketDataRpcClientServerTest
         assertEquals(1,
                      serviceAdapter.getRequests().size());
     }
+    /**
+     * Tests {@link MarketDataRpcClient#subscribe(org.marketcetera.marketdata.MarketDataRequest, ISubscriber)}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testSubscribe()
+            throws Exception
+    {
+        // grant less credit than the number of events to make the server wait for acknowledgements
+        client.setStreamCredit(3);
+        final List<Event> receivedEvents = Lists.newCopyOnWriteArrayList();
+        long id = client.subscribe(MarketDataRequestBuilder.newRequestFromString("SYMBOLS=METC"),
+                                   new ISubscriber() {
+            @Override
+            public boolean isInteresting(Object inData)
+            {
+                return true;
+            }
+            @Override
+            public void publishTo(Object inData)
+            {
+                receivedEvents.add((Event)inData);
+            }
+        });
+        assertEquals(1,
+                     serviceAdapter.getSubscribers().size());
+        ISubscriber serverSubscriber = serviceAdapter.getSubscribers().get(id);
+        assertEquals(2,
+                     getStreamMetricCount());
+        Equity equity = new Equity("METC");
+        final List<Event> sentEvents = Lists.newArrayList();
+        for(int i=0;i<20;i++) {
+            Event event = EventTestBase.generateEquityBidEvent(equity,
+                                                               "exchange");
+            sentEvents.add(event);
+            serverSubscriber.publishTo(event);
+        }
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return receivedEvents.size() == sentEvents.size();
+            }
+        });
+        for(int i=0;i<sentEvents.size();i++) {
+            assertEquals(sentEvents.get(i).getMessageId(),
+                         receivedEvents.get(i).getMessageId());
+        }
+        client.cancel(id);
+        assertEquals(1,
+                     serviceAdapter.getCanceledIds().size());
+        assertEquals(0,
+                     getStreamMetricCount());
+        serverSubscriber.publishTo(EventTestBase.generateEquityBidEvent(equity,
+                                                                        "exchange"));
+        Thread.sleep(250);
+        assertEquals(sentEvents.size(),
+                     receivedEvents.size());
+    }
     /**
      * Tests {@link MarketDataRpcClient#getLastUpdate(long)}.
      *
@@ -407,6 +470,21 @@ public class MarketDataRpcClientServerTest
         assertEquals(2,
                      serviceAdapter.getCapabilityRequests().get());
     }
+    /**
+     * Counts the metrics registered by market data streams.
+     *
+     * @return an <code>int</code> value
+     */
+    private int getStreamMetricCount()
+    {
+        int count = 0;
+        for(String name : MetricService.getInstance().getMetrics().getNames()) {
+            if(name.startsWith(MarketDataRpcStream.class.getName())) {
+                count += 1;
+            }
+        }
+        return count;
+    }
     /**
      * Stops the test client and server.
      *
@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.marketcetera.core.Pair;
+import org.marketcetera.core.publisher.ISubscriber;
 import org.marketcetera.event.Event;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
@@ -42,6 +43,20 @@ public class MockMarketDataServiceAdapter
                                  inStreamEvents));
         return System.nanoTime();
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#request(org.marketcetera.marketdata.MarketDataRequest, org.marketcetera.core.publisher.ISubscriber)
+     */
+    @Override
+    public long request(MarketDataRequest inRequest,
+                        ISubscriber inSubscriber)
+    {
+        long id = System.nanoTime();
+        requests.add(Pair.create(inRequest,
+                                 true));
+        subscribers.put(id,
+                        inSubscriber);
+        return id;
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.marketdata.core.rpc.MarketDataServiceAdapter#getLastUpdate(long)
      */
@@ -123,6 +138,15 @@ public class MockMarketDataServiceAdapter
     {
         return requests;
     }
+    /**
+     * Get the subscribers value.
+     *
+     * @return a <code>Map&lt;Long,ISubscriber&gt;</code> value
+     */
+    public Map<Long,ISubscriber> getSubscribers()
+    {
+        return subscribers;
+    }
     /**
      * Get the lastUpdateRequests value.
      *
@@ -348,6 +372,10 @@ public class MockMarketDataServiceAdapter
      * stores calls to {@link #request(MarketDataRequest, boolean)}
      */
     private final List<Pair<MarketDataRequest,Boolean>> requests = Lists.newArrayList();
+    /**
+     * stores subscribers passed to {@link #request(MarketDataRequest, ISubscriber)} by request id
+     */
+    private final Map<Long,ISubscriber> subscribers = Maps.newConcurrentMap();
     /**
      * stores calls to {@link #getLastUpdate(long)}
      */
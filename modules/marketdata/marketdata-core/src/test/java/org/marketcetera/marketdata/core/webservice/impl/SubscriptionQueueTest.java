@@ -0,0 +1,202 @@
+package org.marketcetera.marketdata.core.webservice.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.marketdata.core.provider.AbstractMarketDataProvider;
+import org.marketcetera.metrics.MetricService;
+import org.marketcetera.trade.Equity;
+
+import com.google.common.collect.Lists;
+
+/* $License$ */
+
+/**
+ * Tests {@link SubscriptionQueue}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class SubscriptionQueueTest
+{
+    /**
+     * Tests {@link SubscriptionQueuePolicy#DROP_OLDEST}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testDropOldest()
+            throws Exception
+    {
+        SubscriptionQueue queue = new SubscriptionQueue(SubscriptionQueuePolicy.DROP_OLDEST,
+                                                        3,
+                                                        true);
+        List<Event> events = Lists.newArrayList();
+        for(int i=0;i<5;i++) {
+            Event event = generateTrade("provider-drop");
+            events.add(event);
+            queue.add(event);
+        }
+        Deque<Event> queuedEvents = queue.drain();
+        assertEquals(Lists.reverse(events.subList(2,5)),
+                     Lists.newArrayList(queuedEvents));
+        assertEquals(2,
+                     queue.getDropped());
+        assertEquals(0,
+                     queue.getConflated());
+        assertEquals(2,
+                     getProviderCount(AbstractMarketDataProvider.getDroppedEventsMetricName("provider-drop")));
+        assertTrue(queue.drain().isEmpty());
+    }
+    /**
+     * Tests {@link SubscriptionQueuePolicy#CONFLATE}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testConflate()
+            throws Exception
+    {
+        Equity metc = new Equity("METC");
+        Equity goog = new Equity("GOOG");
+        SubscriptionQueue queue = new SubscriptionQueue(SubscriptionQueuePolicy.CONFLATE,
+                                                        10,
+                                                        true);
+        Event metcBid1 = EventTestBase.generateEquityBidEvent(metc,
+                                                              "exchange");
+        Event metcBid2 = EventTestBase.generateEquityBidEvent(metc,
+                                                              "exchange");
+        Event metcAsk = EventTestBase.generateEquityAskEvent(metc,
+                                                             "exchange");
+        Event googBid = EventTestBase.generateEquityBidEvent(goog,
+                                                             "exchange");
+        Event metcTrade1 = EventTestBase.generateEquityTradeEvent(metc);
+        Event metcTrade2 = EventTestBase.generateEquityTradeEvent(metc);
+        Event dividend1 = EventTestBase.generateDividendEvent();
+        Event dividend2 = EventTestBase.generateDividendEvent();
+        for(Event event : new Event[] { metcBid1,metcAsk,googBid,metcTrade1,dividend1,metcBid2,metcTrade2,dividend2 }) {
+            queue.add(event);
+        }
+        // replacements keep the position of the event they replace
+        assertEquals(Lists.newArrayList(dividend2,dividend1,metcTrade2,googBid,metcAsk,metcBid2),
+                     Lists.newArrayList(queue.drain()));
+        assertEquals(2,
+                     queue.getConflated());
+        assertEquals(0,
+                     queue.getDropped());
+        // quotes are not conflated for depth of book
+        queue = new SubscriptionQueue(SubscriptionQueuePolicy.CONFLATE,
+                                      10,
+                                      false);
+        queue.add(metcBid1);
+        queue.add(metcBid2);
+        assertEquals(Lists.newArrayList(metcBid2,metcBid1),
+                     Lists.newArrayList(queue.drain()));
+        assertEquals(0,
+                     queue.getConflated());
+        // the queue is still bounded
+        queue = new SubscriptionQueue(SubscriptionQueuePolicy.CONFLATE,
+                                      2,
+                                      true);
+        queue.add(metcBid1);
+        queue.add(metcAsk);
+        queue.add(googBid);
+        assertEquals(Lists.newArrayList(googBid,metcAsk),
+                     Lists.newArrayList(queue.drain()));
+        assertEquals(1,
+                     queue.getDropped());
+    }
+    /**
+     * Tests {@link SubscriptionQueuePolicy#BLOCK}.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBlock()
+            throws Exception
+    {
+        final SubscriptionQueue queue = new SubscriptionQueue(SubscriptionQueuePolicy.BLOCK,
+                                                              2,
+                                                              true);
+        final List<Event> events = Lists.newArrayList();
+        for(int i=0;i<4;i++) {
+            events.add(generateTrade("provider-block"));
+        }
+        final CountDownLatch published = new CountDownLatch(1);
+        Thread publisher = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                for(Event event : events) {
+                    queue.add(event);
+                }
+                published.countDown();
+            }
+        });
+        publisher.start();
+        assertFalse(published.await(250,
+                                    TimeUnit.MILLISECONDS));
+        List<Event> receivedEvents = Lists.newArrayList();
+        while(receivedEvents.size() < events.size()) {
+            receivedEvents.addAll(Lists.reverse(Lists.newArrayList(queue.drain())));
+            Thread.sleep(50);
+        }
+        assertTrue(published.await(1,
+                                   TimeUnit.SECONDS));
+        assertEquals(events,
+                     receivedEvents);
+        assertEquals(0,
+                     queue.getDropped());
+        // canceling releases a waiting publisher
+        queue.add(events.get(0));
+        queue.add(events.get(1));
+        final CountDownLatch released = new CountDownLatch(1);
+        publisher = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                queue.add(events.get(2));
+                released.countDown();
+            }
+        });
+        publisher.start();
+        assertFalse(released.await(250,
+                                   TimeUnit.MILLISECONDS));
+        queue.cancel();
+        assertTrue(released.await(1,
+                                  TimeUnit.SECONDS));
+        assertTrue(queue.drain().isEmpty());
+    }
+    /**
+     * Generates a trade event from the given provider.
+     *
+     * @param inProvider a <code>String</code> value
+     * @return an <code>Event</code> value
+     */
+    private Event generateTrade(String inProvider)
+    {
+        Event event = EventTestBase.generateEquityTradeEvent(new Equity("METC"));
+        event.setProvider(inProvider);
+        return event;
+    }
+    /**
+     * Gets the value of the given provider counter.
+     *
+     * @param inMetricName a <code>String</code> value
+     * @return a <code>long</code> value
+     */
+    private long getProviderCount(String inMetricName)
+    {
+        return MetricService.getInstance().getMetrics().counter(inMetricName).getCount();
+    }
+}
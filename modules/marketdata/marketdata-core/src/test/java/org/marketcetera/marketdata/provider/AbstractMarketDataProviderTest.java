@@ -2,18 +2,27 @@ package org.marketcetera.marketdata.provider;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.marketcetera.core.publisher.ISubscriber;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.event.TradeEvent;
 import org.marketcetera.marketdata.Capability;
 import org.marketcetera.marketdata.Content;
+import org.marketcetera.marketdata.MarketDataFeedTestBase;
 import org.marketcetera.marketdata.MarketDataRequest;
 import org.marketcetera.marketdata.MarketDataRequestBuilder;
 import org.marketcetera.marketdata.core.Messages;
@@ -23,7 +32,14 @@ import org.marketcetera.marketdata.core.manager.MarketDataRequestFailed;
 import org.marketcetera.marketdata.core.provider.AbstractMarketDataProvider;
 import org.marketcetera.marketdata.core.request.MarketDataRequestAtom;
 import org.marketcetera.marketdata.core.request.MarketDataRequestToken;
+import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.ExpectedFailure;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.Instrument;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
 
 /* $License$ */
 
@@ -161,6 +177,108 @@ public class AbstractMarketDataProviderTest
 //        assertSame(provider.getRequestedAtoms().get(0),
 //                   provider.getCanceledAtoms().get(0));
     }
+    /**
+     * Tests that events are published in order for each instrument when several notifiers share the instruments.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testShardedNotification()
+            throws Exception
+    {
+        provider.stop();
+        provider.setNotifierCount(4);
+        provider.start();
+        assertEquals(4,
+                     getNotifierMetricCount());
+        String[] symbols = new String[20];
+        for(int i=0;i<symbols.length;i++) {
+            symbols[i] = "SYM" + i;
+            provider.mapSymbol(symbols[i],
+                               new Equity(symbols[i]));
+        }
+        final Map<Instrument,List<Long>> receivedIds = Maps.newConcurrentMap();
+        final AtomicInteger receivedCount = new AtomicInteger(0);
+        provider.requestMarketData(generateRequestToken(generateRequest(symbols,
+                                                                        EnumSet.of(Content.LATEST_TICK)),
+                                                        new ISubscriber() {
+            @Override
+            public void publishTo(Object inData)
+            {
+                TradeEvent trade = (TradeEvent)inData;
+                List<Long> ids = receivedIds.get(trade.getInstrument());
+                if(ids == null) {
+                    ids = Lists.newCopyOnWriteArrayList();
+                    List<Long> existingIds = receivedIds.putIfAbsent(trade.getInstrument(),
+                                                                     ids);
+                    if(existingIds != null) {
+                        ids = existingIds;
+                    }
+                }
+                ids.add(trade.getMessageId());
+                receivedCount.incrementAndGet();
+            }
+            @Override
+            public boolean isInteresting(Object inData)
+            {
+                return true;
+            }
+        }));
+        final int eventsPerSymbol = 50;
+        long messageId = 0;
+        for(int i=0;i<eventsPerSymbol;i++) {
+            for(String symbol : symbols) {
+                Equity equity = new Equity(symbol);
+                provider.publish(Content.LATEST_TICK,
+                                 equity,
+                                 EventTestBase.generateEquityTradeEvent(++messageId,
+                                                                        System.currentTimeMillis(),
+                                                                        equity,
+                                                                        "exchange",
+                                                                        BigDecimal.ONE,
+                                                                        BigDecimal.TEN));
+            }
+        }
+        final int expectedCount = eventsPerSymbol * symbols.length;
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return receivedCount.get() == expectedCount;
+            }
+        });
+        assertEquals(symbols.length,
+                     receivedIds.size());
+        for(List<Long> ids : receivedIds.values()) {
+            assertEquals(eventsPerSymbol,
+                         ids.size());
+            assertEquals(Ordering.natural().sortedCopy(ids),
+                         ids);
+        }
+        for(String symbol : symbols) {
+            assertNotNull(provider.getSnapshot(new Equity(symbol),
+                                               Content.LATEST_TICK));
+        }
+        provider.stop();
+        assertEquals(0,
+                     getNotifierMetricCount());
+    }
+    /**
+     * Counts the notifier queue depth metrics registered for the test provider.
+     *
+     * @return an <code>int</code> value
+     */
+    private int getNotifierMetricCount()
+    {
+        int count = 0;
+        for(String name : MetricService.getInstance().getMetrics().getGauges().keySet()) {
+            if(name.startsWith(AbstractMarketDataProvider.class.getName() + "." + provider.getProviderName() + ".notifier")) {
+                count += 1;
+            }
+        }
+        return count;
+    }
     private MarketDataRequest generateRequest(String[] inSymbols,
                                               Set<Content> inContent)
     {
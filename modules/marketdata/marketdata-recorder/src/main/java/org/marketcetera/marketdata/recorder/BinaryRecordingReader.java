@@ -0,0 +1,129 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.marketcetera.event.Event;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+/* $License$ */
+
+/**
+ * Reads market data recorded by {@link MarketDataRecorderModule} in {@link RecordingFormat#BINARY}.
+ *
+ * <p>A recording starts with a four-byte header followed by one record per event. Each record is the length of the
+ * event as a four-byte integer followed by the event in its native protobuf form. A record truncated by an
+ * interrupted recording ends the recording.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@NotThreadSafe
+public class BinaryRecordingReader
+        implements Closeable
+{
+    /**
+     * Create a new BinaryRecordingReader instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @throws IOException if the file cannot be opened or is not a binary recording
+     */
+    public BinaryRecordingReader(File inFile)
+            throws IOException
+    {
+        file = inFile;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(inFile),
+                                                            BUFFER_SIZE));
+        try {
+            if(input.readInt() != MAGIC) {
+                throw new IOException(Messages.NOT_A_RECORDING.getText(inFile));
+            }
+        } catch (IOException e) {
+            input.close();
+            if(e instanceof EOFException) {
+                throw new IOException(Messages.NOT_A_RECORDING.getText(inFile),
+                                      e);
+            }
+            throw e;
+        }
+    }
+    /**
+     * Reads the next event.
+     *
+     * @return an <code>Event</code> value or <code>null</code> if there are no more events
+     * @throws IOException if the recording cannot be read
+     */
+    public Event next()
+            throws IOException
+    {
+        while(true) {
+            int length;
+            try {
+                length = input.readInt();
+                if(length < 0) {
+                    throw new IOException(Messages.NOT_A_RECORDING.getText(file));
+                }
+                if(record.length < length) {
+                    record = new byte[length];
+                }
+                input.readFully(record,
+                                0,
+                                length);
+            } catch (EOFException e) {
+                return null;
+            }
+            Event event = PayloadRpcUtil.getEvent(PayloadRpc.Event.PARSER.parseFrom(record,
+                                                                                     0,
+                                                                                     length));
+            if(event != null) {
+                return event;
+            }
+            SLF4JLoggerProxy.warn(this,
+                                  "Skipping unreadable event in {}", //$NON-NLS-1$
+                                  file);
+        }
+    }
+    /* (non-Javadoc)
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close()
+            throws IOException
+    {
+        input.close();
+    }
+    /**
+     * identifies the start of a binary recording
+     */
+    static final int MAGIC = 0x4d445231;
+    /**
+     * length of the header which starts a binary recording
+     */
+    static final int HEADER_LENGTH = 4;
+    /**
+     * file being read
+     */
+    private final File file;
+    /**
+     * reads the file
+     */
+    private final DataInputStream input;
+    /**
+     * holds the record being read
+     */
+    private byte[] record = new byte[256];
+    /**
+     * size of the read buffer
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+}
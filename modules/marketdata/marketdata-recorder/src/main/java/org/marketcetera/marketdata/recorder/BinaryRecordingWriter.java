@@ -0,0 +1,83 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+
+import com.google.protobuf.CodedOutputStream;
+
+/* $License$ */
+
+/**
+ * Records quotes in the binary form read by {@link BinaryRecordingReader}.
+ *
+ * <p>Each quote is written in its native protobuf form directly into the buffer. Quotes which have no native form
+ * are not recorded.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+class BinaryRecordingWriter
+        extends RecordingWriter
+{
+    /**
+     * Create a new BinaryRecordingWriter instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inBufferSize an <code>int</code> value
+     * @param inFlushSize an <code>int</code> value
+     * @param inFlushInterval a <code>long</code> value
+     * @throws IOException if the file cannot be opened
+     */
+    BinaryRecordingWriter(File inFile,
+                          int inBufferSize,
+                          int inFlushSize,
+                          long inFlushInterval)
+            throws IOException
+    {
+        super(inFile,
+              inBufferSize,
+              inFlushSize,
+              inFlushInterval);
+        synchronized(this) {
+            if(size() == 0) {
+                reserve(BinaryRecordingReader.HEADER_LENGTH).putInt(BinaryRecordingReader.MAGIC);
+            }
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.recorder.RecordingWriter#append(org.marketcetera.event.QuoteEvent)
+     */
+    @Override
+    protected boolean append(QuoteEvent inQuote)
+            throws IOException
+    {
+        PayloadRpc.Event rpcEvent = PayloadRpcUtil.getRpcEvent(inQuote);
+        if(rpcEvent == null) {
+            SLF4JLoggerProxy.warn(this,
+                                  "Cannot record {} in {}", //$NON-NLS-1$
+                                  inQuote,
+                                  getFile());
+            return false;
+        }
+        int length = rpcEvent.getSerializedSize();
+        ByteBuffer buffer = reserve(length + 4);
+        buffer.putInt(length);
+        CodedOutputStream output = CodedOutputStream.newInstance(buffer.array(),
+                                                                 buffer.arrayOffset() + buffer.position(),
+                                                                 length);
+        rpcEvent.writeTo(output);
+        output.checkNoSpaceLeft();
+        buffer.position(buffer.position() + length);
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package org.marketcetera.marketdata.recorder;
+
+import static org.marketcetera.core.time.TimeFactoryImpl.COLON;
+import static org.marketcetera.core.time.TimeFactoryImpl.DASH;
+import static org.marketcetera.core.time.TimeFactoryImpl.DAY;
+import static org.marketcetera.core.time.TimeFactoryImpl.HOUR;
+import static org.marketcetera.core.time.TimeFactoryImpl.MINUTE;
+import static org.marketcetera.core.time.TimeFactoryImpl.MONTH;
+import static org.marketcetera.core.time.TimeFactoryImpl.SECOND;
+import static org.marketcetera.core.time.TimeFactoryImpl.YEAR;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeFormatterBuilder;
+import org.marketcetera.event.QuoteEvent;
+
+/* $License$ */
+
+/**
+ * Records quotes as comma-separated values, one quote per line.
+ *
+ * <p>Timestamps are written as <code>yyyyMMdd-HH:mm:ss.SSS</code> in the local time zone. The formatted second is
+ * cached so that most timestamps only require the milliseconds to be appended.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+class CsvRecordingWriter
+        extends RecordingWriter
+{
+    /**
+     * Create a new CsvRecordingWriter instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inBufferSize an <code>int</code> value
+     * @param inFlushSize an <code>int</code> value
+     * @param inFlushInterval a <code>long</code> value
+     * @throws IOException if the file cannot be opened
+     */
+    CsvRecordingWriter(File inFile,
+                       int inBufferSize,
+                       int inFlushSize,
+                       long inFlushInterval)
+            throws IOException
+    {
+        super(inFile,
+              inBufferSize,
+              inFlushSize,
+              inFlushInterval);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.marketdata.recorder.RecordingWriter#append(org.marketcetera.event.QuoteEvent)
+     */
+    @Override
+    protected boolean append(QuoteEvent inQuote)
+            throws IOException
+    {
+        line.setLength(0);
+        line.append(inQuote.getAction()).append(',');
+        line.append(inQuote.getInstrument().getFullSymbol()).append(',');
+        line.append(inQuote.getMessageId()).append(',');
+        line.append(inQuote.getEventType()).append(',');
+        line.append(inQuote.getPrice().toPlainString()).append(',');
+        line.append(inQuote.getSize().toPlainString()).append(',');
+        line.append(inQuote.getExchange()).append(',');
+        appendTimestamp(inQuote.getExchangeTimestamp().getTime());
+        appendTimestamp(inQuote.getProcessedTimestamp());
+        appendTimestamp(inQuote.getReceivedTimestamp());
+        line.append(System.lineSeparator());
+        byte[] record = line.toString().getBytes(StandardCharsets.UTF_8);
+        reserve(record.length).put(record);
+        return true;
+    }
+    /**
+     * Appends the given timestamp and a separator to the current line.
+     *
+     * @param inTimestamp a <code>long</code> value
+     */
+    @GuardedBy("this")
+    private void appendTimestamp(long inTimestamp)
+    {
+        long second = Math.floorDiv(inTimestamp,
+                                    1000);
+        if(second != formattedSecond) {
+            formattedSecondValue = secondFormatter.print(second * 1000);
+            formattedSecond = second;
+        }
+        int millis = (int)Math.floorMod(inTimestamp,
+                                        1000);
+        line.append(formattedSecondValue).append('.');
+        if(millis < 100) {
+            line.append('0');
+        }
+        if(millis < 10) {
+            line.append('0');
+        }
+        line.append(millis).append(',');
+    }
+    /**
+     * holds the line being written
+     */
+    @GuardedBy("this")
+    private final StringBuilder line = new StringBuilder();
+    /**
+     * second most recently formatted
+     */
+    @GuardedBy("this")
+    private long formattedSecond = Long.MIN_VALUE;
+    /**
+     * formatted value of {@link #formattedSecond}
+     */
+    @GuardedBy("this")
+    private String formattedSecondValue;
+    /**
+     * formats market data timestamps to the second
+     */
+    private static final DateTimeFormatter secondFormatter = new DateTimeFormatterBuilder().append(YEAR).append(MONTH).append(DAY).append(DASH)
+            .append(HOUR).append(COLON).append(MINUTE).append(COLON).append(SECOND).toFormatter();
+}
@@ -1,15 +1,8 @@
 package org.marketcetera.marketdata.recorder;
 
 import static com.codahale.metrics.MetricRegistry.name;
-import static org.marketcetera.core.time.TimeFactoryImpl.COLON;
-import static org.marketcetera.core.time.TimeFactoryImpl.DASH;
 import static org.marketcetera.core.time.TimeFactoryImpl.DAY;
-import static org.marketcetera.core.time.TimeFactoryImpl.HOUR;
-import static org.marketcetera.core.time.TimeFactoryImpl.MILLISECOND;
-import static org.marketcetera.core.time.TimeFactoryImpl.MINUTE;
 import static org.marketcetera.core.time.TimeFactoryImpl.MONTH;
-import static org.marketcetera.core.time.TimeFactoryImpl.PERIOD;
-import static org.marketcetera.core.time.TimeFactoryImpl.SECOND;
 import static org.marketcetera.core.time.TimeFactoryImpl.YEAR;
 
 import java.io.File;
@@ -19,6 +12,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
@@ -36,6 +33,8 @@ import org.marketcetera.event.QuoteEvent;
 import org.marketcetera.metrics.MetricService;
 import org.marketcetera.module.AbstractDataReemitterModule;
 import org.marketcetera.module.AutowiredModule;
+import org.marketcetera.module.BatchDataReceiver;
+import org.marketcetera.module.DataEmitterSupport;
 import org.marketcetera.module.DataFlowID;
 import org.marketcetera.module.ModuleException;
 import org.marketcetera.module.ModuleURN;
@@ -43,6 +42,7 @@ import org.marketcetera.module.ReceiveDataException;
 import org.marketcetera.module.StopDataFlowException;
 import org.marketcetera.util.log.I18NBoundMessage3P;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.NamedThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.codahale.metrics.Histogram;
@@ -53,12 +53,17 @@ import com.codahale.metrics.MetricRegistry;
 /**
  * Provides an implementation that writes market data to files in a given directory.
  * <p>
+ * Quotes are written to one file per symbol, exchange, and session in the {@link RecordingFormat} given by the
+ * {@link MarketDataRecorderModuleConfiguration}. Each file is kept open while it is in use and quotes are buffered
+ * according to the configured flush size and flush interval. Recordings made in {@link RecordingFormat#BINARY} can be
+ * replayed with {@link MarketDataReplayModule}.
+ * <p>
  * Module Features
  * <table summary="MarketDataRecorderModule featues">
  * <tr><th>Capabilities</th><td>Data Receiver,Data Emitter</td></tr>
  * <tr><th>Stops data flows</th><td>No</td></tr>
  * <tr><th>Start Operation</th><td>Checks that the directory exists and is writable</td></tr>
- * <tr><th>Stop Operation</th><td>None</td></tr>
+ * <tr><th>Stop Operation</th><td>Writes buffered quotes and closes open files</td></tr>
  * <tr><th>Management Interface</th><td>None</td></tr>
  * <tr><th>MX Notification</th><td>None</td></tr>
  * <tr><th>Factory</th><td>{@link MarketDataRecorderModule}</td></tr>
@@ -72,6 +77,7 @@ import com.codahale.metrics.MetricRegistry;
 @AutowiredModule
 public class MarketDataRecorderModule
         extends AbstractDataReemitterModule
+        implements BatchDataReceiver
 {
     /* (non-Javadoc)
      * @see org.marketcetera.module.DataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object)
@@ -81,29 +87,40 @@ public class MarketDataRecorderModule
                             Object inData)
             throws ReceiveDataException
     {
-        try {
-            if(SLF4JLoggerProxy.isTraceEnabled(this)) {
-                SLF4JLoggerProxy.trace(this,
-                                       "Received {} from {}", //$NON-NLS-1$
-                                       inData,
-                                       inFlowID);
-            }
-            if(inData instanceof QuoteEvent) {
-                processQuoteEvent((QuoteEvent)inData);
-            } else {
-                Messages.FILERECORDER_IGNORING_UNEXPECTED_DATA.warn(this,
-                                                                    inData.getClass().getSimpleName());
-            }
-        } catch (Exception e) {
-            throw new StopDataFlowException(e,
-                                            new I18NBoundMessage3P(Messages.STOPPING_DATA_FLOW,
-                                                                   inFlowID,
-                                                                   String.valueOf(inData),
-                                                                   ExceptionUtils.getRootCauseMessage(e)));
-        }
+        record(inFlowID,
+               inData);
         super.receiveData(inFlowID,
                           inData);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.BatchDataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object[], int)
+     */
+    @Override
+    public void receiveData(DataFlowID inFlowID,
+                            Object[] inData,
+                            int inCount)
+            throws ReceiveDataException
+    {
+        for(int i=0;i<inCount;i++) {
+            record(inFlowID,
+                   inData[i]);
+        }
+        DataEmitterSupport dataEmitterSupport = getDataSupport().getIfPresent(inFlowID);
+        if(dataEmitterSupport == null) {
+            return;
+        }
+        Object[] reemit = new Object[inCount];
+        int reemitCount = 0;
+        for(int i=0;i<inCount;i++) {
+            Object data = onReceiveData(inData[i],
+                                        dataEmitterSupport);
+            if(data != null) {
+                reemit[reemitCount++] = data;
+            }
+        }
+        dataEmitterSupport.sendBatch(reemit,
+                                     reemitCount);
+    }
     /**
      * Get the config value.
      *
@@ -142,6 +159,19 @@ public class MarketDataRecorderModule
                                sessionResetTimestamp);
         currentOrdinal.clear();
         snapshotsInProgress.clear();
+        fileTimestampSecond = -1;
+        format = config.getFormat();
+        suffix = format.getSuffix();
+        if(config.getFlushInterval() > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(getURN().instanceName()+"-flusher-")); //$NON-NLS-1$
+            flusher.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run()
+                {
+                    flushWriters();
+                }
+            },config.getFlushInterval(),config.getFlushInterval(),TimeUnit.MILLISECONDS);
+        }
         MetricRegistry metrics = MetricService.getInstance().getMetrics();
         eventCounterMetricName = name(getURN().getValue(),
                                       "recordedEvents", //$NON-NLS-1$
@@ -155,6 +185,14 @@ public class MarketDataRecorderModule
     protected void preStop()
             throws ModuleException
     {
+        if(flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+        for(RecordingWriter writer : writers.values()) {
+            closeWriter(writer);
+        }
+        writers.clear();
         snapshotsInProgress.clear();
         currentOrdinal.clear();
         MetricRegistry metrics = MetricService.getInstance().getMetrics();
@@ -173,6 +211,38 @@ public class MarketDataRecorderModule
               false);
         directoryName = StringUtils.trimToNull(inDirectoryName);
     }
+    /**
+     * Records the given data.
+     *
+     * @param inFlowID a <code>DataFlowID</code> value
+     * @param inData an <code>Object</code> value
+     * @throws StopDataFlowException if the data cannot be recorded
+     */
+    private void record(DataFlowID inFlowID,
+                        Object inData)
+            throws StopDataFlowException
+    {
+        try {
+            if(SLF4JLoggerProxy.isTraceEnabled(this)) {
+                SLF4JLoggerProxy.trace(this,
+                                       "Received {} from {}", //$NON-NLS-1$
+                                       inData,
+                                       inFlowID);
+            }
+            if(inData instanceof QuoteEvent) {
+                processQuoteEvent((QuoteEvent)inData);
+            } else {
+                Messages.FILERECORDER_IGNORING_UNEXPECTED_DATA.warn(this,
+                                                                    inData.getClass().getSimpleName());
+            }
+        } catch (Exception e) {
+            throw new StopDataFlowException(e,
+                                            new I18NBoundMessage3P(Messages.STOPPING_DATA_FLOW,
+                                                                   inFlowID,
+                                                                   String.valueOf(inData),
+                                                                   ExceptionUtils.getRootCauseMessage(e)));
+        }
+    }
     /**
      * Processes the given quote event.
      *
@@ -182,52 +252,74 @@ public class MarketDataRecorderModule
     private void processQuoteEvent(QuoteEvent inQuote)
             throws IOException
     {
-        StringBuilder builder = new StringBuilder();
-        File outputFile = getOutputFile(inQuote);
-        writeQuoteEvent(inQuote,
-                        builder);
-        FileUtils.write(outputFile,
-                        builder.toString(),
-                        true);
-        builder.setLength(0);
-        eventCounterMetric.update(1);
+        Validate.notNull(inQuote.getEventType(),
+                         Messages.EVENT_BOUNDARY_CAPABILITY_REQUIRED.getText());
+        String symbolKey = getSymbolKey(inQuote);
+        File outputFile = getOutputFile(inQuote,
+                                        symbolKey);
+        RecordingWriter writer = writers.get(symbolKey);
+        if(writer == null || !writer.getFile().equals(outputFile)) {
+            if(writer != null) {
+                closeWriter(writer);
+            }
+            writer = RecordingWriter.open(format,
+                                          outputFile,
+                                          config.getBufferSize(),
+                                          config.getFlushSize(),
+                                          config.getFlushInterval());
+            writers.put(symbolKey,
+                        writer);
+        }
+        if(writer.write(inQuote)) {
+            eventCounterMetric.update(1);
+        }
+    }
+    /**
+     * Writes buffered quotes for which the flush interval has passed.
+     */
+    private void flushWriters()
+    {
+        for(RecordingWriter writer : writers.values()) {
+            try {
+                writer.flushIfDue();
+            } catch (IOException e) {
+                SLF4JLoggerProxy.warn(this,
+                                      e,
+                                      "Unable to write to {}", //$NON-NLS-1$
+                                      writer.getFile());
+            }
+        }
     }
     /**
-     * Writes the given quote event to the given buffer.
+     * Writes buffered quotes to the given writer's file and closes it.
      *
-     * @param inQuote a <code>QuoteEvent</code> value
-     * @param inBuffer a <code>StringBuilder</code> value
+     * @param inWriter a <code>RecordingWriter</code> value
      */
-    private void writeQuoteEvent(QuoteEvent inQuote,
-                                 StringBuilder inBuffer)
+    private void closeWriter(RecordingWriter inWriter)
     {
-        inBuffer.append(inQuote.getAction()).append(',');
-        inBuffer.append(inQuote.getInstrument().getFullSymbol()).append(',');
-        inBuffer.append(inQuote.getMessageId()).append(',');
-        inBuffer.append(inQuote.getEventType()).append(',');
-        inBuffer.append(inQuote.getPrice().toPlainString()).append(',');
-        inBuffer.append(inQuote.getSize().toPlainString()).append(',');
-        inBuffer.append(inQuote.getExchange()).append(',');
-        inBuffer.append(marketDataTimestampFormatter.print(inQuote.getExchangeTimestamp().getTime())).append(',');
-        inBuffer.append(marketDataTimestampFormatter.print(inQuote.getProcessedTimestamp())).append(',');
-        inBuffer.append(marketDataTimestampFormatter.print(inQuote.getReceivedTimestamp())).append(',');
-        inBuffer.append(System.lineSeparator());
+        try {
+            inWriter.close();
+        } catch (IOException e) {
+            SLF4JLoggerProxy.warn(this,
+                                  e,
+                                  "Unable to close {}", //$NON-NLS-1$
+                                  inWriter.getFile());
+        }
     }
     /**
      * Gets the filename to use for the given quote event.
      *
      * @param inQuote a <code>QuoteEvent</code> value
+     * @param inSymbolKey a <code>String</code> value
      * @return a <code>File</code> value
      */
-    private File getOutputFile(QuoteEvent inQuote)
+    private File getOutputFile(QuoteEvent inQuote,
+                               String inSymbolKey)
     {
-        Validate.notNull(inQuote.getEventType(),
-                         Messages.EVENT_BOUNDARY_CAPABILITY_REQUIRED.getText());
         StringBuilder filename = new StringBuilder();
-        String symbolKey = getSymbolKey(inQuote);
-        String timestampValue = timestampFormatter.print(getFileTimestamp());
-        filename.append(symbolKey).append('-').append(timestampValue).append('-');
-        File currentFile = currentFiles.get(symbolKey);
+        String timestampValue = getFileTimestampValue();
+        filename.append(inSymbolKey).append('-').append(timestampValue).append('-');
+        File currentFile = currentFiles.get(inSymbolKey);
         if(currentFile != null) {
             if(currentFile.getName().contains(timestampValue)) {
                 // still in same session
@@ -246,22 +338,22 @@ public class MarketDataRecorderModule
             currentFile = new File(outputDirectoryFile,
                                    filename.toString());
             if(inQuote.getEventType().isSnapshot() && !inQuote.getEventType().isComplete()) {
-                snapshotsInProgress.add(symbolKey);
+                snapshotsInProgress.add(inSymbolKey);
             }
         } else {
             // recording is in progress for this symbol, determine if we need to create a new file
-            if(snapshotsInProgress.contains(symbolKey)) {
+            if(snapshotsInProgress.contains(inSymbolKey)) {
                 if(inQuote.getEventType().isSnapshot()) {
                     // snapshot is in progress and this event is also a snapshot
                     if(inQuote.getEventType().isComplete()) {
                         // snapshot is in progress and this event is a snapshot final
-                        snapshotsInProgress.remove(symbolKey);
+                        snapshotsInProgress.remove(inSymbolKey);
                     } else {
                         // snapshot is in progress and this event is a snapshot part, nothing special to do
                     }
                 } else {
                     // snapshot is in progress and this event is not a snapshot
-                    snapshotsInProgress.remove(symbolKey);
+                    snapshotsInProgress.remove(inSymbolKey);
                 }
             } else {
                 // no snapshot in progress, check to see if this event starts a new snapshot
@@ -272,7 +364,7 @@ public class MarketDataRecorderModule
                     currentFile = new File(outputDirectoryFile,
                                            filename.toString());
                     if(!inQuote.getEventType().isComplete()) {
-                        snapshotsInProgress.add(symbolKey);
+                        snapshotsInProgress.add(inSymbolKey);
                     }
                 } else {
                     // nothing to do
@@ -282,7 +374,7 @@ public class MarketDataRecorderModule
         SLF4JLoggerProxy.debug(this,
                                "Current file is {}", //$NON-NLS-1$
                                currentFile);
-        currentFiles.put(symbolKey,
+        currentFiles.put(inSymbolKey,
                          currentFile);
         return currentFile;
     }
@@ -317,6 +409,22 @@ public class MarketDataRecorderModule
         }
         return ordinal;
     }
+    /**
+     * Gets the formatted timestamp to use as part of the current session.
+     *
+     * <p>The value is calculated at most once a second.
+     *
+     * @return a <code>String</code> value
+     */
+    private String getFileTimestampValue()
+    {
+        long second = System.currentTimeMillis() / 1000;
+        if(second != fileTimestampSecond) {
+            fileTimestampValue = timestampFormatter.print(getFileTimestamp());
+            fileTimestampSecond = second;
+        }
+        return fileTimestampValue;
+    }
     /**
      * Determine the timestamp to use as part of the current session.
      *
@@ -358,6 +466,30 @@ public class MarketDataRecorderModule
      * caches current filenames in use for symbol keys
      */
     private final Map<String,File> currentFiles = new HashMap<>();
+    /**
+     * open writers by symbol key
+     */
+    private final Map<String,RecordingWriter> writers = new ConcurrentHashMap<>();
+    /**
+     * writes buffered quotes when the flush interval passes, if there is a flush interval
+     */
+    private ScheduledExecutorService flusher;
+    /**
+     * format in which to record quotes
+     */
+    private RecordingFormat format;
+    /**
+     * suffix to use for output files
+     */
+    private String suffix;
+    /**
+     * second in which {@link #fileTimestampValue} was calculated
+     */
+    private long fileTimestampSecond = -1;
+    /**
+     * formatted timestamp of the current session
+     */
+    private String fileTimestampValue;
     /**
      * indicates which data streams by key have a snapshot in progress
      */
@@ -394,15 +526,6 @@ public class MarketDataRecorderModule
      * output timestamp for filenames
      */
     private static final DateTimeFormatter timestampFormatter = new DateTimeFormatterBuilder().append(YEAR).append(MONTH).append(DAY).toFormatter();
-    /**
-     * output timestamp for market data timestamps
-     */
-    private static final DateTimeFormatter marketDataTimestampFormatter = new DateTimeFormatterBuilder().append(YEAR).append(MONTH).append(DAY).append(DASH)
-            .append(HOUR).append(COLON).append(MINUTE).append(COLON).append(SECOND).append(PERIOD).append(MILLISECOND).toFormatter();
-    /**
-     * suffix to use for output files
-     */
-    private static final String suffix = ".csv"; //$NON-NLS-1$
     /**
      * identifier to use for URNs
      */
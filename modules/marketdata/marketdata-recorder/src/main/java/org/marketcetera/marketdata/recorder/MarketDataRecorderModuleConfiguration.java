@@ -38,6 +38,9 @@ public class MarketDataRecorderModuleConfiguration
             throw new IllegalArgumentException(Messages.SESSION_RESET_REQUIRED.getText(),
                                                e);
         }
+        Validate.notNull(format);
+        Validate.isTrue(bufferSize >= 0 && flushSize >= 0 && flushInterval >= 0,
+                        Messages.INVALID_BUFFERING.getText());
     }
     /**
      * Get the timestampGenerator value.
@@ -89,6 +92,78 @@ public class MarketDataRecorderModuleConfiguration
     {
         sessionReset = inSessionReset;
     }
+    /**
+     * Get the format value.
+     *
+     * @return a <code>RecordingFormat</code> value
+     */
+    public RecordingFormat getFormat()
+    {
+        return format;
+    }
+    /**
+     * Sets the format value.
+     *
+     * @param inFormat a <code>RecordingFormat</code> value
+     */
+    public void setFormat(RecordingFormat inFormat)
+    {
+        format = inFormat;
+    }
+    /**
+     * Get the bufferSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getBufferSize()
+    {
+        return bufferSize;
+    }
+    /**
+     * Sets the bufferSize value.
+     *
+     * @param inBufferSize an <code>int</code> value
+     */
+    public void setBufferSize(int inBufferSize)
+    {
+        bufferSize = inBufferSize;
+    }
+    /**
+     * Get the flushSize value.
+     *
+     * @return an <code>int</code> value
+     */
+    public int getFlushSize()
+    {
+        return flushSize;
+    }
+    /**
+     * Sets the flushSize value.
+     *
+     * @param inFlushSize an <code>int</code> value
+     */
+    public void setFlushSize(int inFlushSize)
+    {
+        flushSize = inFlushSize;
+    }
+    /**
+     * Get the flushInterval value.
+     *
+     * @return a <code>long</code> value
+     */
+    public long getFlushInterval()
+    {
+        return flushInterval;
+    }
+    /**
+     * Sets the flushInterval value.
+     *
+     * @param inFlushInterval a <code>long</code> value
+     */
+    public void setFlushInterval(long inFlushInterval)
+    {
+        flushInterval = inFlushInterval;
+    }
     /**
      * generates timestamps
      */
@@ -97,6 +172,22 @@ public class MarketDataRecorderModuleConfiguration
      * indicates the time time the session should reset
      */
     private String sessionReset;
+    /**
+     * format in which to record market data
+     */
+    private RecordingFormat format = RecordingFormat.CSV;
+    /**
+     * size in bytes of the buffer kept for each open file
+     */
+    private int bufferSize = 64 * 1024;
+    /**
+     * number of buffered bytes which causes a write to the file, 0 to write each event as it arrives
+     */
+    private int flushSize = 0;
+    /**
+     * milliseconds after which buffered events are written to the file, 0 to wait for the flush size
+     */
+    private long flushInterval = 0;
     /**
      * used to parse the {@link #sessionReset} value
      */
@@ -0,0 +1,237 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.marketcetera.event.Event;
+import org.marketcetera.event.HasTimestamps;
+import org.marketcetera.module.DataEmitter;
+import org.marketcetera.module.DataEmitterSupport;
+import org.marketcetera.module.DataFlowID;
+import org.marketcetera.module.DataRequest;
+import org.marketcetera.module.IllegalRequestParameterValue;
+import org.marketcetera.module.Module;
+import org.marketcetera.module.RequestDataException;
+import org.marketcetera.module.RequestID;
+import org.marketcetera.module.UnsupportedRequestParameterType;
+import org.marketcetera.util.log.I18NBoundMessage1P;
+import org.marketcetera.util.log.I18NBoundMessage2P;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.NamedThreadFactory;
+
+/* $License$ */
+
+/**
+ * Emits the events of a binary market data recording into a data flow.
+ * <p>
+ * The module accepts request parameters of the following types:
+ * <ul>
+ *   <li>{@link MarketDataReplayRequest}: the recording to replay and the speed at which to replay it</li>
+ *   <li>{@link File} or {@link String}: the path of a recording to replay at its original pace</li>
+ * </ul>
+ * <p>
+ * Events are emitted at the pace at which they were originally received, adjusted by the requested speed. The data
+ * flow is stopped when all the events have been emitted.
+ * <p>
+ * Module Features
+ * <table summary="MarketDataReplayModule features">
+ * <tr><th>Capabilities</th><td>Data Emitter</td></tr>
+ * <tr><th>DataFlow Request Parameters</th><td>MarketDataReplayRequest, File, or String</td></tr>
+ * <tr><th>Stops data flows</th><td>Yes, when the recording has been replayed or cannot be read</td></tr>
+ * <tr><th>Start Operation</th><td>Starts the replay threads</td></tr>
+ * <tr><th>Stop Operation</th><td>Stops the replay threads</td></tr>
+ * <tr><th>Management Interface</th><td>None</td></tr>
+ * <tr><th>MX Notification</th><td>None</td></tr>
+ * <tr><th>Factory</th><td>{@link MarketDataReplayModuleFactory}</td></tr>
+ * </table>
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+public class MarketDataReplayModule
+        extends Module
+        implements DataEmitter
+{
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.DataEmitter#requestData(org.marketcetera.module.DataRequest, org.marketcetera.module.DataEmitterSupport)
+     */
+    @Override
+    public void requestData(DataRequest inRequest,
+                            DataEmitterSupport inSupport)
+            throws RequestDataException
+    {
+        Object data = inRequest.getData();
+        MarketDataReplayRequest request;
+        if(data instanceof MarketDataReplayRequest) {
+            request = (MarketDataReplayRequest)data;
+        } else if(data instanceof File) {
+            request = new MarketDataReplayRequest((File)data,
+                                                  1);
+        } else if(data instanceof String) {
+            request = new MarketDataReplayRequest(new File((String)data),
+                                                  1);
+        } else if(data == null) {
+            throw new IllegalRequestParameterValue(getURN(),
+                                                   null);
+        } else {
+            throw new UnsupportedRequestParameterType(getURN(),
+                                                      data);
+        }
+        if(!request.getFile().canRead()) {
+            throw new IllegalRequestParameterValue(getURN(),
+                                                   request.getFile());
+        }
+        replays.put(inSupport.getRequestID(),
+                    replayService.submit(new Replay(request,
+                                                    inSupport)));
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.DataFlowID, org.marketcetera.module.RequestID)
+     */
+    @Override
+    public void cancel(DataFlowID inFlowID,
+                       RequestID inRequestID)
+    {
+        Future<?> replay = replays.remove(inRequestID);
+        if(replay != null) {
+            replay.cancel(true);
+        }
+    }
+    /**
+     * Create a new MarketDataReplayModule instance.
+     */
+    MarketDataReplayModule()
+    {
+        super(MarketDataReplayModuleFactory.INSTANCE_URN,
+              true);
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.Module#preStart()
+     */
+    @Override
+    protected void preStart()
+    {
+        replayService = Executors.newCachedThreadPool(new NamedThreadFactory("MarketDataReplay-")); //$NON-NLS-1$
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.Module#preStop()
+     */
+    @Override
+    protected void preStop()
+    {
+        replayService.shutdownNow();
+        replays.clear();
+    }
+    /**
+     * Replays one recording into a data flow.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class Replay
+            implements Runnable
+    {
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            File file = request.getFile();
+            try(BinaryRecordingReader reader = new BinaryRecordingReader(file)) {
+                long firstEventTime = -1;
+                long replayStart = System.nanoTime();
+                Event event;
+                while((event = reader.next()) != null) {
+                    if(Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    long eventTime = getEventTime(event);
+                    if(request.getSpeed() > 0 && eventTime > 0) {
+                        if(firstEventTime < 0) {
+                            firstEventTime = eventTime;
+                        }
+                        long delay = replayStart + (long)(TimeUnit.MILLISECONDS.toNanos(eventTime - firstEventTime) / request.getSpeed()) - System.nanoTime();
+                        if(delay > 0) {
+                            TimeUnit.NANOSECONDS.sleep(delay);
+                        }
+                    }
+                    support.send(event);
+                }
+                SLF4JLoggerProxy.debug(MarketDataReplayModule.this,
+                                       "Replay of {} complete", //$NON-NLS-1$
+                                       file);
+                support.dataEmitError(new I18NBoundMessage1P(Messages.REPLAY_COMPLETE,
+                                                             file),
+                                      true);
+            } catch (InterruptedException e) {
+                SLF4JLoggerProxy.debug(MarketDataReplayModule.this,
+                                       "Replay of {} canceled", //$NON-NLS-1$
+                                       file);
+            } catch (Exception e) {
+                SLF4JLoggerProxy.warn(MarketDataReplayModule.this,
+                                      e,
+                                      "Replay of {} failed", //$NON-NLS-1$
+                                      file);
+                support.dataEmitError(new I18NBoundMessage2P(Messages.REPLAY_FAILED,
+                                                             file,
+                                                             ExceptionUtils.getRootCauseMessage(e)),
+                                      true);
+            } finally {
+                replays.remove(support.getRequestID());
+            }
+        }
+        /**
+         * Gets the time the given event was originally received.
+         *
+         * @param inEvent an <code>Event</code> value
+         * @return a <code>long</code> value or 0 if the time is not known
+         */
+        private long getEventTime(Event inEvent)
+        {
+            if(inEvent instanceof HasTimestamps && ((HasTimestamps)inEvent).getReceivedTimestamp() > 0) {
+                return ((HasTimestamps)inEvent).getReceivedTimestamp();
+            }
+            return inEvent.getTimestamp() == null ? 0 : inEvent.getTimestamp().getTime();
+        }
+        /**
+         * Create a new Replay instance.
+         *
+         * @param inRequest a <code>MarketDataReplayRequest</code> value
+         * @param inSupport a <code>DataEmitterSupport</code> value
+         */
+        private Replay(MarketDataReplayRequest inRequest,
+                       DataEmitterSupport inSupport)
+        {
+            request = inRequest;
+            support = inSupport;
+        }
+        /**
+         * recording to replay
+         */
+        private final MarketDataReplayRequest request;
+        /**
+         * emits events into the data flow
+         */
+        private final DataEmitterSupport support;
+    }
+    /**
+     * runs replays
+     */
+    private volatile ExecutorService replayService;
+    /**
+     * replays in progress by request
+     */
+    private final Map<RequestID,Future<?>> replays = new ConcurrentHashMap<>();
+}
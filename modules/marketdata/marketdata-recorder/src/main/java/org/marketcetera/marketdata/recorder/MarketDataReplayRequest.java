@@ -0,0 +1,73 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.Serializable;
+
+import org.apache.commons.lang.Validate;
+
+/* $License$ */
+
+/**
+ * Requests the replay of a binary market data recording by {@link MarketDataReplayModule}.
+ *
+ * <p>The speed is relative to the time the events were originally received. A speed of <code>1</code> replays the
+ * events at their original pace, a speed of <code>10</code> replays them ten times faster, and a speed of
+ * <code>0</code> replays them as fast as they can be read.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class MarketDataReplayRequest
+        implements Serializable
+{
+    /**
+     * Create a new MarketDataReplayRequest instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inSpeed a <code>double</code> value
+     */
+    public MarketDataReplayRequest(File inFile,
+                                   double inSpeed)
+    {
+        Validate.notNull(inFile);
+        Validate.isTrue(inSpeed >= 0);
+        file = inFile;
+        speed = inSpeed;
+    }
+    /**
+     * Get the file value.
+     *
+     * @return a <code>File</code> value
+     */
+    public File getFile()
+    {
+        return file;
+    }
+    /**
+     * Get the speed value.
+     *
+     * @return a <code>double</code> value
+     */
+    public double getSpeed()
+    {
+        return speed;
+    }
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return new StringBuilder().append("Replay ").append(file).append(" at ").append(speed).append('x').toString(); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    /**
+     * recording to replay
+     */
+    private final File file;
+    /**
+     * replay speed relative to the original pace
+     */
+    private final double speed;
+    private static final long serialVersionUID = -3141287062617415521L;
+}
@@ -3,6 +3,7 @@ package org.marketcetera.marketdata.recorder;
 import org.marketcetera.util.log.I18NLoggerProxy;
 import org.marketcetera.util.log.I18NMessage0P;
 import org.marketcetera.util.log.I18NMessage1P;
+import org.marketcetera.util.log.I18NMessage2P;
 import org.marketcetera.util.log.I18NMessage3P;
 import org.marketcetera.util.log.I18NMessageProvider;
 
@@ -33,4 +34,9 @@ public interface Messages
     static final I18NMessage3P STOPPING_DATA_FLOW = new I18NMessage3P(LOGGER,"stopping_data_flow");   //$NON-NLS-1$
     static final I18NMessage1P NOT_A_DIRECTORY = new I18NMessage1P(LOGGER,"not_a_directory");   //$NON-NLS-1$
     static final I18NMessage0P EVENT_BOUNDARY_CAPABILITY_REQUIRED = new I18NMessage0P(LOGGER,"event_boundary_capability_required");   //$NON-NLS-1$
+    static final I18NMessage0P INVALID_BUFFERING = new I18NMessage0P(LOGGER,"invalid_buffering");   //$NON-NLS-1$
+    static final I18NMessage1P NOT_A_RECORDING = new I18NMessage1P(LOGGER,"not_a_recording");   //$NON-NLS-1$
+    static final I18NMessage0P REPLAY_PROVIDER_DESCRIPTION = new I18NMessage0P(LOGGER, "replay_provider_description");   //$NON-NLS-1$
+    static final I18NMessage1P REPLAY_COMPLETE = new I18NMessage1P(LOGGER,"replay_complete");   //$NON-NLS-1$
+    static final I18NMessage2P REPLAY_FAILED = new I18NMessage2P(LOGGER,"replay_failed");   //$NON-NLS-1$
 }
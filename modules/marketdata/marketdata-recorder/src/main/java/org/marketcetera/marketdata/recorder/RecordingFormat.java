@@ -0,0 +1,44 @@
+package org.marketcetera.marketdata.recorder;
+
+/* $License$ */
+
+/**
+ * Describes the formats in which {@link MarketDataRecorderModule} can write market data.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public enum RecordingFormat
+{
+    /**
+     * one line of comma-separated values per quote
+     */
+    CSV(".csv"), //$NON-NLS-1$
+    /**
+     * length-prefixed native protobuf events which can be replayed with {@link MarketDataReplayModule}
+     */
+    BINARY(".mdr"); //$NON-NLS-1$
+    /**
+     * Get the suffix of files written in this format.
+     *
+     * @return a <code>String</code> value
+     */
+    public String getSuffix()
+    {
+        return suffix;
+    }
+    /**
+     * Create a new RecordingFormat instance.
+     *
+     * @param inSuffix a <code>String</code> value
+     */
+    private RecordingFormat(String inSuffix)
+    {
+        suffix = inSuffix;
+    }
+    /**
+     * suffix of files written in this format
+     */
+    private final String suffix;
+}
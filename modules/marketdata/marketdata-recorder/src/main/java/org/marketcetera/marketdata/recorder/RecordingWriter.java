@@ -0,0 +1,226 @@
+package org.marketcetera.marketdata.recorder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.marketcetera.event.QuoteEvent;
+
+/* $License$ */
+
+/**
+ * Appends recorded market data to one open file.
+ *
+ * <p>Records are collected in a buffer and written to the file when the buffered records reach the flush size or
+ * when the flush interval has passed since the last write to the file, whichever comes first. A flush size of zero
+ * writes each record as it arrives.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ThreadSafe
+abstract class RecordingWriter
+{
+    /**
+     * Creates a writer for the given file in the given format.
+     *
+     * @param inFormat a <code>RecordingFormat</code> value
+     * @param inFile a <code>File</code> value
+     * @param inBufferSize an <code>int</code> value
+     * @param inFlushSize an <code>int</code> value
+     * @param inFlushInterval a <code>long</code> value
+     * @return a <code>RecordingWriter</code> value
+     * @throws IOException if the file cannot be opened
+     */
+    static RecordingWriter open(RecordingFormat inFormat,
+                                File inFile,
+                                int inBufferSize,
+                                int inFlushSize,
+                                long inFlushInterval)
+            throws IOException
+    {
+        switch(inFormat) {
+            case BINARY:
+                return new BinaryRecordingWriter(inFile,
+                                                 inBufferSize,
+                                                 inFlushSize,
+                                                 inFlushInterval);
+            case CSV:
+            default:
+                return new CsvRecordingWriter(inFile,
+                                              inBufferSize,
+                                              inFlushSize,
+                                              inFlushInterval);
+        }
+    }
+    /**
+     * Records the given quote.
+     *
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @return a <code>boolean</code> value indicating if the quote was recorded
+     * @throws IOException if the quote cannot be written
+     */
+    synchronized boolean write(QuoteEvent inQuote)
+            throws IOException
+    {
+        if(!append(inQuote)) {
+            return false;
+        }
+        if(buffer.position() >= flushSize || System.currentTimeMillis() - lastFlush >= flushInterval) {
+            flush();
+        }
+        return true;
+    }
+    /**
+     * Writes buffered records to the file.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    synchronized void flush()
+            throws IOException
+    {
+        lastFlush = System.currentTimeMillis();
+        if(buffer.position() == 0 || !channel.isOpen()) {
+            return;
+        }
+        buffer.flip();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    /**
+     * Writes buffered records to the file if the flush interval has passed since the last write.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    synchronized void flushIfDue()
+            throws IOException
+    {
+        if(System.currentTimeMillis() - lastFlush >= flushInterval) {
+            flush();
+        }
+    }
+    /**
+     * Writes buffered records and closes the file.
+     *
+     * @throws IOException if the records cannot be written or the file cannot be closed
+     */
+    synchronized void close()
+            throws IOException
+    {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+    /**
+     * Get the file value.
+     *
+     * @return a <code>File</code> value
+     */
+    File getFile()
+    {
+        return file;
+    }
+    /**
+     * Create a new RecordingWriter instance.
+     *
+     * @param inFile a <code>File</code> value
+     * @param inBufferSize an <code>int</code> value
+     * @param inFlushSize an <code>int</code> value
+     * @param inFlushInterval a <code>long</code> value
+     * @throws IOException if the file cannot be opened
+     */
+    protected RecordingWriter(File inFile,
+                              int inBufferSize,
+                              int inFlushSize,
+                              long inFlushInterval)
+            throws IOException
+    {
+        file = inFile;
+        flushSize = inFlushSize;
+        flushInterval = inFlushInterval > 0 ? inFlushInterval : Long.MAX_VALUE;
+        buffer = ByteBuffer.allocate(Math.max(inBufferSize,
+                                              inFlushSize));
+        channel = new FileOutputStream(inFile,
+                                       true).getChannel();
+        lastFlush = System.currentTimeMillis();
+    }
+    /**
+     * Appends the given quote to the buffer.
+     *
+     * @param inQuote a <code>QuoteEvent</code> value
+     * @return a <code>boolean</code> value indicating if the quote was appended
+     * @throws IOException if buffered records cannot be written to make room
+     */
+    @GuardedBy("this")
+    protected abstract boolean append(QuoteEvent inQuote)
+            throws IOException;
+    /**
+     * Gets a buffer with room for a record of the given length.
+     *
+     * <p>Buffered records are written to the file if necessary to make room.
+     *
+     * @param inLength an <code>int</code> value
+     * @return a <code>ByteBuffer</code> value
+     * @throws IOException if buffered records cannot be written
+     */
+    @GuardedBy("this")
+    protected ByteBuffer reserve(int inLength)
+            throws IOException
+    {
+        if(buffer.remaining() < inLength) {
+            flush();
+            if(buffer.capacity() < inLength) {
+                buffer = ByteBuffer.allocate(inLength);
+            }
+        }
+        return buffer;
+    }
+    /**
+     * Get the size of the file including buffered records.
+     *
+     * @return a <code>long</code> value
+     * @throws IOException if the size of the file cannot be determined
+     */
+    @GuardedBy("this")
+    protected long size()
+            throws IOException
+    {
+        return channel.size() + buffer.position();
+    }
+    /**
+     * file to which records are written
+     */
+    private final File file;
+    /**
+     * open channel to {@link #file}
+     */
+    private final FileChannel channel;
+    /**
+     * number of buffered bytes which causes a write to the file
+     */
+    private final int flushSize;
+    /**
+     * milliseconds after which buffered records are written to the file
+     */
+    private final long flushInterval;
+    /**
+     * records not yet written to the file
+     */
+    @GuardedBy("this")
+    private ByteBuffer buffer;
+    /**
+     * time of the last write to the file
+     */
+    @GuardedBy("this")
+    private long lastFlush;
+}
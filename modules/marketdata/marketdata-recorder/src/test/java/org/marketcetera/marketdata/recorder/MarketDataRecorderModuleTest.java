@@ -9,6 +9,7 @@ import static org.marketcetera.core.time.TimeFactoryImpl.MINUTE;
 import static org.marketcetera.core.time.TimeFactoryImpl.SECOND;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -40,6 +41,7 @@ import org.marketcetera.marketdata.MarketDataRequestBuilder;
 import org.marketcetera.marketdata.bogus.BogusFeedModuleFactory;
 import org.marketcetera.marketdata.module.TestFeed;
 import org.marketcetera.marketdata.module.TestFeedModuleFactory;
+import org.marketcetera.module.BlockingSinkDataListener;
 import org.marketcetera.module.DataFlowExceptionHandler;
 import org.marketcetera.module.DataFlowID;
 import org.marketcetera.module.DataRequest;
@@ -688,6 +690,162 @@ public class MarketDataRecorderModuleTest
         verifyEventCount(dataFile,
                          1);
     }
+    /**
+     * Tests that quotes are buffered until the flush size or flush interval is reached.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBufferedRecording()
+            throws Exception
+    {
+        MarketDataRecorderModuleConfiguration config = generateConfig(sessionReset);
+        config.setFlushSize(1024*1024);
+        ModuleURN instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                                  config);
+        DataFlowID flowId = establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                                        Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                                        AssetClass.FUTURE),
+                                              TestFeedModuleFactory.PROVIDER_URN,
+                                              instanceUrn);
+        for(int i=0;i<10;i++) {
+            AskEvent ask = generateAskEvent(gcInstrument,
+                                            "EX");
+            ask.setEventType(i == 0 ? EventType.SNAPSHOT_FINAL : EventType.UPDATE_FINAL);
+            testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+        }
+        Collection<File> testFiles = getFiles();
+        assertEquals(1,
+                     testFiles.size());
+        File dataFile = testFiles.iterator().next();
+        verifyEventCount(dataFile,
+                         0);
+        // stopping the module writes the buffered quotes
+        moduleManager.cancel(flowId);
+        moduleManager.stop(instanceUrn);
+        verifyEventCount(dataFile,
+                         10);
+        // buffered quotes are also written when the flush interval passes
+        FileUtils.cleanDirectory(testDirectory);
+        config.setFlushInterval(250);
+        instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                        config);
+        establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                    Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                    AssetClass.FUTURE),
+                          TestFeedModuleFactory.PROVIDER_URN,
+                          instanceUrn);
+        AskEvent ask = generateAskEvent(gcInstrument,
+                                        "EX");
+        ask.setEventType(EventType.SNAPSHOT_FINAL);
+        testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+        dataFile = getFiles().iterator().next();
+        long timeout = System.currentTimeMillis() + 5000;
+        while(getEventCount(dataFile) == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50);
+        }
+        verifyEventCount(dataFile,
+                         1);
+    }
+    /**
+     * Tests recording quotes in binary form and replaying them.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBinaryRecordingAndReplay()
+            throws Exception
+    {
+        MarketDataRecorderModuleConfiguration config = generateConfig(sessionReset);
+        config.setFormat(RecordingFormat.BINARY);
+        config.setFlushSize(1024*1024);
+        ModuleURN instanceUrn = getRecorderModule(testDirectory.getAbsolutePath(),
+                                                  config);
+        DataFlowID flowId = establishDataFlow(generateMarketDataRequest(Lists.newArrayList(gcInstrument.getFullSymbol()),
+                                                                        Lists.newArrayList(Content.TOP_OF_BOOK),
+                                                                        AssetClass.FUTURE),
+                                              TestFeedModuleFactory.PROVIDER_URN,
+                                              instanceUrn);
+        List<AskEvent> asks = Lists.newArrayList();
+        for(int i=0;i<3;i++) {
+            AskEvent ask = QuoteEventBuilder.askEvent(gcInstrument).withExchange("EX")
+                    .withPrice(EventTestBase.generateDecimalValue())
+                    .withSize(EventTestBase.generateDecimalValue())
+                    .withQuoteDate(new Date())
+                    .withEventType(i == 0 ? EventType.SNAPSHOT_FINAL : EventType.UPDATE_FINAL).create();
+            asks.add(ask);
+            testMarketDataFeed.sendEvents(Lists.newArrayList((Event)ask));
+            Thread.sleep(300);
+        }
+        moduleManager.cancel(flowId);
+        moduleManager.stop(instanceUrn);
+        Collection<File> testFiles = FileUtils.listFiles(testDirectory,
+                                                         null,
+                                                         false);
+        assertEquals(1,
+                     testFiles.size());
+        File dataFile = testFiles.iterator().next();
+        assertTrue(dataFile.getName().endsWith(RecordingFormat.BINARY.getSuffix()));
+        try(BinaryRecordingReader reader = new BinaryRecordingReader(dataFile)) {
+            for(AskEvent expectedAsk : asks) {
+                verifyAsk(expectedAsk,
+                          reader.next());
+            }
+            assertNull(reader.next());
+        }
+        // replay the recording at twice the original pace
+        BlockingSinkDataListener sink = new BlockingSinkDataListener();
+        moduleManager.addSinkListener(sink);
+        long start = System.currentTimeMillis();
+        moduleManager.createDataFlow(new DataRequest[] { new DataRequest(MarketDataReplayModuleFactory.INSTANCE_URN,
+                                                                         new MarketDataReplayRequest(dataFile,
+                                                                                                     2)) });
+        for(AskEvent expectedAsk : asks) {
+            verifyAsk(expectedAsk,
+                      sink.getNextData());
+        }
+        assertTrue(System.currentTimeMillis() - start >= 250);
+        // files which are not recordings are rejected
+        final File notARecording = new File(testDirectory,
+                                            "not-a-recording.mdr");
+        FileUtils.write(notARecording,
+                        "not a recording");
+        new ExpectedFailure<IOException>(Messages.NOT_A_RECORDING.getText(notARecording)) {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                new BinaryRecordingReader(notARecording).close();
+            }
+        };
+    }
+    /**
+     * Verifies that the given actual value matches the given ask.
+     *
+     * @param inExpectedAsk an <code>AskEvent</code> value
+     * @param inActual an <code>Object</code> value
+     */
+    private void verifyAsk(AskEvent inExpectedAsk,
+                           Object inActual)
+    {
+        assertTrue(String.valueOf(inActual),
+                   inActual instanceof AskEvent);
+        AskEvent actualAsk = (AskEvent)inActual;
+        assertEquals(inExpectedAsk.getMessageId(),
+                     actualAsk.getMessageId());
+        assertEquals(inExpectedAsk.getInstrument(),
+                     actualAsk.getInstrument());
+        assertEquals(inExpectedAsk.getPrice(),
+                     actualAsk.getPrice());
+        assertEquals(inExpectedAsk.getSize(),
+                     actualAsk.getSize());
+        assertEquals(inExpectedAsk.getExchange(),
+                     actualAsk.getExchange());
+        assertEquals(inExpectedAsk.getEventType(),
+                     actualAsk.getEventType());
+        assertEquals(inExpectedAsk.getReceivedTimestamp(),
+                     actualAsk.getReceivedTimestamp());
+    }
     /**
      * Verifies that the event count in the given file matches the given expected count.
      *
@@ -800,7 +958,20 @@ public class MarketDataRecorderModuleTest
     private ModuleURN getRecorderModule(String inDirectoryName,
                                         String inSessionReset)
     {
-        ApplicationContext applicationContext = generateApplicationContext(generateConfig(inSessionReset));
+        return getRecorderModule(inDirectoryName,
+                                 generateConfig(inSessionReset));
+    }
+    /**
+     * Creates and starts a recorder module instance with the given configuration.
+     *
+     * @param inDirectoryName a <code>String</code> value
+     * @param inConfig a <code>MarketDataRecorderModuleConfiguration</code> value
+     * @return a <code>ModuleURN</code> value
+     */
+    private ModuleURN getRecorderModule(String inDirectoryName,
+                                        MarketDataRecorderModuleConfiguration inConfig)
+    {
+        ApplicationContext applicationContext = generateApplicationContext(inConfig);
         moduleManager.setApplicationContext(applicationContext);
         ModuleURN recorderUrn = moduleManager.createModule(MarketDataRecorderModuleFactory.PROVIDER_URN,
                                                            inDirectoryName);
@@ -0,0 +1,205 @@
+package org.marketcetera.marketdata.recorder;
+
+import static org.marketcetera.core.time.TimeFactoryImpl.COLON;
+import static org.marketcetera.core.time.TimeFactoryImpl.DASH;
+import static org.marketcetera.core.time.TimeFactoryImpl.DAY;
+import static org.marketcetera.core.time.TimeFactoryImpl.HOUR;
+import static org.marketcetera.core.time.TimeFactoryImpl.MILLISECOND;
+import static org.marketcetera.core.time.TimeFactoryImpl.MINUTE;
+import static org.marketcetera.core.time.TimeFactoryImpl.MONTH;
+import static org.marketcetera.core.time.TimeFactoryImpl.PERIOD;
+import static org.marketcetera.core.time.TimeFactoryImpl.SECOND;
+import static org.marketcetera.core.time.TimeFactoryImpl.YEAR;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeFormatterBuilder;
+import org.marketcetera.event.EventType;
+import org.marketcetera.event.QuoteEvent;
+import org.marketcetera.event.impl.QuoteEventBuilder;
+import org.marketcetera.trade.Equity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Compares the number of quotes per second recorded by each recording method.
+ *
+ * <p>The per-event method writes each quote the way the recorder did before files were kept open: it formats the
+ * line with Joda formatters and appends it with {@link FileUtils#write(File, CharSequence, boolean)}, which opens
+ * and closes the file for each quote. The other methods use the recording writers with a 64k flush size.
+ *
+ * <p>Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.marketdata.recorder.RecordingWriterBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class RecordingWriterBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(RecordingWriterBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Prepares the quote and the output files.
+     *
+     * @throws IOException if the output files cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws IOException
+    {
+        directory = new File(FileUtils.getTempDirectory(),
+                             RecordingWriterBenchmark.class.getSimpleName());
+        FileUtils.deleteQuietly(directory);
+        FileUtils.forceMkdir(directory);
+        perEventFile = new File(directory,
+                                "per-event.csv");
+        csvWriter = RecordingWriter.open(RecordingFormat.CSV,
+                                         new File(directory,
+                                                  "buffered.csv"),
+                                         FLUSH_SIZE,
+                                         FLUSH_SIZE,
+                                         0);
+        binaryWriter = RecordingWriter.open(RecordingFormat.BINARY,
+                                            new File(directory,
+                                                     "buffered.mdr"),
+                                            FLUSH_SIZE,
+                                            FLUSH_SIZE,
+                                            0);
+        quote = QuoteEventBuilder.askEvent(new Equity("METC")).withMessageId(1)
+                                                             .withTimestamp(new Date())
+                                                             .withPrice(new BigDecimal("12.34"))
+                                                             .withSize(new BigDecimal(100))
+                                                             .withExchange("TEST")
+                                                             .withQuoteDate(new Date())
+                                                             .withProcessedTimestamp(System.currentTimeMillis())
+                                                             .withReceivedTimestamp(System.currentTimeMillis())
+                                                             .withEventType(EventType.UPDATE_FINAL).create();
+    }
+    /**
+     * Closes and removes the output files.
+     *
+     * @throws IOException if the output files cannot be closed
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+            throws IOException
+    {
+        csvWriter.close();
+        binaryWriter.close();
+        FileUtils.deleteQuietly(directory);
+    }
+    /**
+     * Records a quote by formatting it and appending it to the file.
+     *
+     * @throws IOException if the quote cannot be written
+     */
+    @Benchmark
+    public void perEventCsv()
+            throws IOException
+    {
+        StringBuilder line = new StringBuilder();
+        line.append(quote.getAction()).append(',');
+        line.append(quote.getInstrument().getFullSymbol()).append(',');
+        line.append(quote.getMessageId()).append(',');
+        line.append(quote.getEventType()).append(',');
+        line.append(quote.getPrice().toPlainString()).append(',');
+        line.append(quote.getSize().toPlainString()).append(',');
+        line.append(quote.getExchange()).append(',');
+        line.append(marketDataTimestampFormatter.print(quote.getExchangeTimestamp().getTime())).append(',');
+        line.append(marketDataTimestampFormatter.print(quote.getProcessedTimestamp())).append(',');
+        line.append(marketDataTimestampFormatter.print(quote.getReceivedTimestamp())).append(',');
+        line.append(System.lineSeparator());
+        FileUtils.write(perEventFile,
+                        line.toString(),
+                        true);
+    }
+    /**
+     * Records a quote with the buffered CSV writer.
+     *
+     * @return a <code>boolean</code> value
+     * @throws IOException if the quote cannot be written
+     */
+    @Benchmark
+    public boolean bufferedCsv()
+            throws IOException
+    {
+        return csvWriter.write(quote);
+    }
+    /**
+     * Records a quote with the buffered binary writer.
+     *
+     * @return a <code>boolean</code> value
+     * @throws IOException if the quote cannot be written
+     */
+    @Benchmark
+    public boolean bufferedBinary()
+            throws IOException
+    {
+        return binaryWriter.write(quote);
+    }
+    /**
+     * directory to which to write
+     */
+    private File directory;
+    /**
+     * file written by {@link #perEventCsv()}
+     */
+    private File perEventFile;
+    /**
+     * writer used by {@link #bufferedCsv()}
+     */
+    private RecordingWriter csvWriter;
+    /**
+     * writer used by {@link #bufferedBinary()}
+     */
+    private RecordingWriter binaryWriter;
+    /**
+     * quote to record
+     */
+    private QuoteEvent quote;
+    /**
+     * buffer and flush size of the buffered writers
+     */
+    private static final int FLUSH_SIZE = 64 * 1024;
+    /**
+     * timestamp format used for CSV recordings
+     */
+    private static final DateTimeFormatter marketDataTimestampFormatter = new DateTimeFormatterBuilder().append(YEAR).append(MONTH).append(DAY).append(DASH)
+            .append(HOUR).append(COLON).append(MINUTE).append(COLON).append(SECOND).append(PERIOD).append(MILLISECOND).toFormatter();
+}
@@ -163,15 +163,21 @@ public class CSVEmitter extends Module implements DataEmitter {
                             true);
                     return false;
                 }
-                if (mReverse) {
-                    for(int i = rows.length - 1; i > 0; i--) {
-                        mSupport.send(createMap(rows[0], rows[i]));
-                    }
-                } else {
-                    for(int i = 1; i < rows.length; i++) {
-                        mSupport.send(createMap(rows[0], rows[i]));
+                //Emit the rows in batches so that receivers that accept
+                //batches get several rows per call.
+                Object[] batch = new Object[Math.min(BATCH_SIZE, rows.length - 1)];
+                int count = 0;
+                for(int j = 1; j < rows.length; j++) {
+                    int i = mReverse ? rows.length - j : j;
+                    batch[count++] = createMap(rows[0], rows[i]);
+                    if(count == batch.length) {
+                        mSupport.sendBatch(batch, count);
+                        count = 0;
                     }
                 }
+                if(count > 0) {
+                    mSupport.sendBatch(batch, count);
+                }
                 //Terminate the data flow.
                 mSupport.dataEmitError(Messages.NO_MORE_DATA,true);
             } catch (Throwable e) {
@@ -216,4 +222,8 @@ public class CSVEmitter extends Module implements DataEmitter {
     private final Map<RequestID, Future<Boolean>> mRequests =
             new Hashtable<RequestID, Future<Boolean>>();
     static final String PREFIX_REVERSE = "r:";  //$NON-NLS-1$
+    /**
+     * The maximum number of rows emitted in one batch.
+     */
+    static final int BATCH_SIZE = 256;
 }
@@ -4,18 +4,19 @@ import static org.marketcetera.strategy.Messages.*;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import org.marketcetera.client.ClientInitException;
 import org.marketcetera.client.ClientManager;
+import org.marketcetera.client.ConnectionException;
 import org.marketcetera.client.OrderValidationException;
 import org.marketcetera.client.Validations;
 import org.marketcetera.client.brokers.BrokerStatus;
 import org.marketcetera.client.utils.LiveOrderHistoryManager;
+import org.marketcetera.client.utils.LivePositionCache;
+import org.marketcetera.client.utils.PositionSource;
 import org.marketcetera.core.notifications.Notification;
 import org.marketcetera.core.position.PositionKey;
+import org.marketcetera.core.position.PositionMetrics;
 import org.marketcetera.event.Event;
 import org.marketcetera.event.impl.LogEventBuilder;
 import org.marketcetera.marketdata.MarketDataRequest;
@@ -29,7 +30,6 @@ import org.marketcetera.trade.Currency;
 import org.marketcetera.util.collections.UnmodifiableDeque;
 import org.marketcetera.util.log.SLF4JLoggerProxy;
 import org.marketcetera.util.misc.ClassVersion;
-import org.marketcetera.util.misc.NamedThreadFactory;
 
 import quickfix.Message;
 
@@ -78,6 +78,7 @@ public abstract class AbstractRunningStrategy
     final void setStrategy(Strategy inStrategy)
     {
         strategy = inStrategy;
+        callbacks = CallbackScheduler.getInstance().createQueue(inStrategy);
     }
     /**
      * Called when the <code>AbstractRunningStrategy</code> starts.
@@ -91,6 +92,8 @@ public abstract class AbstractRunningStrategy
                 initializeReportHistoryManager();
             }
         }
+        positionCache = new LivePositionCache(new StrategyPositionSource());
+        positionCache.start();
         // Add the strategy as a broker status listener
         ClientManager.getInstance().addBrokerStatusListener(this);
     }
@@ -99,10 +102,13 @@ public abstract class AbstractRunningStrategy
      */
     final void stop()
     {
-        // no new callbacks will be allowed
-        callbackService.shutdown();
-        // terminate existing callbacks, best effort
-        callbackService.shutdownNow();
+        // no new callbacks will be allowed and pending callbacks are canceled
+        if(callbacks != null) {
+            callbacks.close();
+        }
+        if(positionCache != null) {
+            positionCache.stop();
+        }
         // Delete the strategy as a broker status listener
         try {
         	ClientManager.getInstance().removeBrokerStatusListener(this);
@@ -120,6 +126,10 @@ public abstract class AbstractRunningStrategy
     {
         // record the execution report
         orderHistoryManager.add(inExecutionReport);
+        LivePositionCache cache = positionCache;
+        if(cache != null) {
+            cache.add(inExecutionReport);
+        }
         // now notify the strategy
         onExecutionReport(inExecutionReport);
     }
@@ -927,15 +937,15 @@ public abstract class AbstractRunningStrategy
      *   as a request for an immediate callback.
      * @param inData an <code>Object</code> value to deliver along with the callback,
      *   may be null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    protected final void requestCallbackAfter(long inDelay,
-                                              Object inData)
+    protected final CallbackHandle requestCallbackAfter(long inDelay,
+                                                        Object inData)
     {
-        callbackService.schedule(new Callback(this,
-                                              strategy,
-                                              inData),
-                                 inDelay,
-                                 TimeUnit.MILLISECONDS);
+        return callbacks.schedule(new Callback(this,
+                                               strategy,
+                                               inData),
+                                  inDelay);
     }
     /**
      * Requests a callback periodically after a specified period in milliseconds.
@@ -955,13 +965,14 @@ public abstract class AbstractRunningStrategy
      *   The value must be &gt; 0.
      * @param inData an <code>Object</code> value to deliver along with the callback,
      *   may be null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    protected final void requestCallbackEvery(long inDelay, long inPeriod,
-                                              Object inData)
+    protected final CallbackHandle requestCallbackEvery(long inDelay, long inPeriod,
+                                                        Object inData)
     {
-        callbackService.scheduleAtFixedRate(new Callback(this,
+        return callbacks.scheduleAtFixedRate(new Callback(this,
                 strategy,
-                inData), inDelay, inPeriod, TimeUnit.MILLISECONDS);
+                inData), inDelay, inPeriod);
     }
     /**
      * Requests a callback at a specific point in time.
@@ -978,12 +989,13 @@ public abstract class AbstractRunningStrategy
      *   value earlier than the present will be interpreted as a request for an
      *   immediate callback.
      * @param inData an <code>Object</code> value to deliver with the callback or null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    protected final void requestCallbackAt(Date inDate,
-                                           Object inData)
+    protected final CallbackHandle requestCallbackAt(Date inDate,
+                                                     Object inData)
     {
-        requestCallbackAfter(inDate.getTime() - System.currentTimeMillis(),
-                             inData);
+        return requestCallbackAfter(inDate.getTime() - System.currentTimeMillis(),
+                                    inData);
     }
     /**
      * Returns the list of brokers known to the system.
@@ -1048,8 +1060,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            BigDecimal result = strategy.getServicesProvider().getPositionAsOf(inDate,
-                                                                               new Equity(inSymbol)); 
+            BigDecimal result = positionCache.getPositionAsOf(inDate,
+                                                              new Equity(inSymbol)); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITION,
                                                                    String.valueOf(strategy),
                                                                    result,
@@ -1089,7 +1101,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            Map<PositionKey<Equity>,BigDecimal> result = strategy.getServicesProvider().getAllPositionsAsOf(inDate); 
+            Map<PositionKey<Equity>,BigDecimal> result = positionCache.getAllPositionsAsOf(inDate,
+                                                                                                  Equity.class); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITIONS,
                                                                    String.valueOf(strategy),
                                                                    String.valueOf(result),
@@ -1142,10 +1155,10 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            BigDecimal result = strategy.getServicesProvider().getFuturePositionAsOf(inDate,
-                                                                                     new Future(inUnderlyingSymbol,
-                                                                                                inExpirationMonth,
-                                                                                                inExpirationYear)); 
+            BigDecimal result = positionCache.getPositionAsOf(inDate,
+                                                              new Future(inUnderlyingSymbol,
+                                                                         inExpirationMonth,
+                                                                         inExpirationYear)); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITION,
                                                                    String.valueOf(strategy),
                                                                    result,
@@ -1190,8 +1203,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            BigDecimal result = strategy.getServicesProvider().getCurrencyPositionAsOf(inDate,
-                                                                                     new Currency(inSymbol)); 
+            BigDecimal result = positionCache.getPositionAsOf(inDate,
+                                                              new Currency(inSymbol)); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITION,
                                                                    String.valueOf(strategy),
                                                                    result,
@@ -1233,7 +1246,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            Map<PositionKey<Future>,BigDecimal> result = strategy.getServicesProvider().getAllFuturePositionsAsOf(inDate); 
+            Map<PositionKey<Future>,BigDecimal> result = positionCache.getAllPositionsAsOf(inDate,
+                                                                                                  Future.class); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITIONS,
                                                                    String.valueOf(strategy),
                                                                    String.valueOf(result),
@@ -1271,7 +1285,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            Map<PositionKey<Currency>,BigDecimal> result = strategy.getServicesProvider().getAllCurrencyPositionsAsOf(inDate); 
+            Map<PositionKey<Currency>,BigDecimal> result = positionCache.getAllPositionsAsOf(inDate,
+                                                                                                      Currency.class); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITIONS,
                                                                    String.valueOf(strategy),
                                                                    String.valueOf(result),
@@ -1334,8 +1349,8 @@ public abstract class AbstractRunningStrategy
                                        inExpiry,
                                        inStrikePrice,
                                        inType);
-            BigDecimal result = strategy.getServicesProvider().getOptionPositionAsOf(inDate,
-                                                                                     option); 
+            BigDecimal result = positionCache.getPositionAsOf(inDate,
+                                                              option); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITION,
                                                                    String.valueOf(strategy),
                                                                    result,
@@ -1378,7 +1393,8 @@ public abstract class AbstractRunningStrategy
             return null;
         }
         try {
-            Map<PositionKey<Option>,BigDecimal> result = strategy.getServicesProvider().getAllOptionPositionsAsOf(inDate); 
+            Map<PositionKey<Option>,BigDecimal> result = positionCache.getAllPositionsAsOf(inDate,
+                                                                                                  Option.class); 
             StrategyModule.log(LogEventBuilder.debug().withMessage(RECEIVED_POSITIONS,
                                                                    String.valueOf(strategy),
                                                                    String.valueOf(result),
@@ -1447,6 +1463,42 @@ public abstract class AbstractRunningStrategy
             return null;
         }
     }
+    /**
+     * Gets the current position and profit and loss in the given <code>Instrument</code>.
+     *
+     * <p>The position is requested from the server the first time it is needed and is then
+     * maintained from the fills in the execution reports received by the strategy. Profit and
+     * loss are available once a price for the instrument is known from a fill.
+     *
+     * @param inInstrument an <code>Instrument</code> value
+     * @return a <code>PositionMetrics</code> value or <code>null</code> if the metrics could not be determined
+     */
+    protected final PositionMetrics getPositionMetrics(Instrument inInstrument)
+    {
+        if(!canReceiveData()) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(CANNOT_REQUEST_DATA,
+                                                                  String.valueOf(strategy),
+                                                                  strategy.getStatus()).create(),
+                               strategy);
+            return null;
+        }
+        if(inInstrument == null) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(INVALID_POSITION_METRICS_REQUEST,
+                                                                  String.valueOf(strategy)).create(),
+                               strategy);
+            return null;
+        }
+        try {
+            return positionCache.getPositionMetrics(inInstrument);
+        } catch (Exception e) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(CANNOT_RETRIEVE_POSITION_METRICS,
+                                                                  String.valueOf(strategy),
+                                                                  inInstrument)
+                                                     .withException(e).create(),
+                               strategy);
+            return null;
+        }
+    }
     /**
      * Gets the underlying symbol for the given option root, if available.
      *
@@ -1707,6 +1759,11 @@ public abstract class AbstractRunningStrategy
      * <p>This can be a very expensive call depending on the value returned
      * by {@link #getReportHistoryOriginDate()} and the number of execution reports
      * in the database.
+     * 
+     * <p>The report history manager is shared by all strategies. Completed orders beyond the number set by the
+     * <code>{@value #MAX_COMPLETED_ORDERS_PROPERTY}</code> system property, or older than the milliseconds set by the
+     * <code>{@value #MAX_COMPLETED_ORDER_AGE_PROPERTY}</code> system property, keep only their latest report. At most
+     * <code>{@value #MAX_ARCHIVED_ORDERS_PROPERTY}</code> such orders are kept, if set.
      */
     protected final void initializeReportHistoryManager()
     {
@@ -1719,12 +1776,74 @@ public abstract class AbstractRunningStrategy
                     orderHistoryManager.stop();
                 }
                 orderHistoryManager = new LiveOrderHistoryManager(origin);
+                orderHistoryManager.setMaxCompletedOrders(Integer.getInteger(MAX_COMPLETED_ORDERS_PROPERTY,
+                                                                             DEFAULT_MAX_COMPLETED_ORDERS));
+                orderHistoryManager.setMaxCompletedOrderAge(Long.getLong(MAX_COMPLETED_ORDER_AGE_PROPERTY,
+                                                                         0));
+                orderHistoryManager.setMaxArchivedOrders(Integer.getInteger(MAX_ARCHIVED_ORDERS_PROPERTY,
+                                                                            0));
                 orderHistoryManager.start();
             } catch (ClientInitException e) {
                 throw new RuntimeException(e);
             }
         }
     }
+    /**
+     * Provides server positions to the position cache through the services provider of the strategy.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class StrategyPositionSource
+            implements PositionSource
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.utils.PositionSource#getPositionAsOf(java.util.Date, org.marketcetera.trade.Instrument)
+         */
+        @Override
+        public BigDecimal getPositionAsOf(Date inDate,
+                                          Instrument inInstrument)
+                throws ConnectionException, ClientInitException
+        {
+            ServicesProvider servicesProvider = strategy.getServicesProvider();
+            if(inInstrument instanceof Equity) {
+                return servicesProvider.getPositionAsOf(inDate,
+                                                        (Equity)inInstrument);
+            } else if(inInstrument instanceof Future) {
+                return servicesProvider.getFuturePositionAsOf(inDate,
+                                                              (Future)inInstrument);
+            } else if(inInstrument instanceof Currency) {
+                return servicesProvider.getCurrencyPositionAsOf(inDate,
+                                                                (Currency)inInstrument);
+            } else if(inInstrument instanceof Option) {
+                return servicesProvider.getOptionPositionAsOf(inDate,
+                                                              (Option)inInstrument);
+            }
+            throw new UnsupportedOperationException(String.valueOf(inInstrument));
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.utils.PositionSource#getAllPositionsAsOf(java.util.Date, java.lang.Class)
+         */
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public <I extends Instrument> Map<PositionKey<I>,BigDecimal> getAllPositionsAsOf(Date inDate,
+                                                                                         Class<I> inInstrumentType)
+                throws ConnectionException, ClientInitException
+        {
+            ServicesProvider servicesProvider = strategy.getServicesProvider();
+            if(Equity.class.equals(inInstrumentType)) {
+                return (Map)servicesProvider.getAllPositionsAsOf(inDate);
+            } else if(Future.class.equals(inInstrumentType)) {
+                return (Map)servicesProvider.getAllFuturePositionsAsOf(inDate);
+            } else if(Currency.class.equals(inInstrumentType)) {
+                return (Map)servicesProvider.getAllCurrencyPositionsAsOf(inDate);
+            } else if(Option.class.equals(inInstrumentType)) {
+                return (Map)servicesProvider.getAllOptionPositionsAsOf(inDate);
+            }
+            throw new UnsupportedOperationException(String.valueOf(inInstrumentType));
+        }
+    }
     /**
      * Indicates if incoming data can be received.
      *
@@ -1734,14 +1853,30 @@ public abstract class AbstractRunningStrategy
     {
         return strategy.getStatus().canReceiveData();
     }
+    /**
+     * system property that sets the number of completed orders whose full report history is kept
+     */
+    static final String MAX_COMPLETED_ORDERS_PROPERTY = "metc.strategy.orderhistory.maxCompletedOrders"; //$NON-NLS-1$
+    /**
+     * system property that sets how long in milliseconds the full report history of a completed order is kept
+     */
+    static final String MAX_COMPLETED_ORDER_AGE_PROPERTY = "metc.strategy.orderhistory.maxCompletedOrderAge"; //$NON-NLS-1$
+    /**
+     * system property that sets the number of archived completed orders that are kept
+     */
+    static final String MAX_ARCHIVED_ORDERS_PROPERTY = "metc.strategy.orderhistory.maxArchivedOrders"; //$NON-NLS-1$
+    /**
+     * number of completed orders whose full report history is kept by default
+     */
+    private static final int DEFAULT_MAX_COMPLETED_ORDERS = 10000;
     /**
      * common properties store shared among all strategies
      */
     private static final Properties properties = new Properties();
     /**
-     * scheduler for request callbacks
+     * schedules request callbacks on the timer shared by all strategies
      */
-    private final ScheduledExecutorService callbackService = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("StrategyCallback"));  //$NON-NLS-1$
+    private CallbackScheduler.CallbackQueue callbacks;
     /**
      * tracks submitted orders
      */
@@ -1754,6 +1889,10 @@ public abstract class AbstractRunningStrategy
      * tracks orders based on execution reports
      */
     private static volatile LiveOrderHistoryManager orderHistoryManager;
+    /**
+     * tracks the positions of this strategy based on execution reports
+     */
+    private volatile LivePositionCache positionCache;
     /**
      * static strategy object of which this object is a running representation
      */
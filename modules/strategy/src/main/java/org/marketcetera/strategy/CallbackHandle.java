@@ -0,0 +1,31 @@
+package org.marketcetera.strategy;
+
+import org.marketcetera.core.ClassVersion;
+
+/* $License$ */
+
+/**
+ * Refers to a callback requested by a strategy.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface CallbackHandle
+{
+    /**
+     * Cancels the callback.
+     *
+     * <p>A callback that is already being delivered is not interrupted. A periodic callback is not delivered again.
+     *
+     * @return a <code>boolean</code> value indicating if the callback was canceled by this call
+     */
+    public boolean cancel();
+    /**
+     * Indicates if the callback has been canceled.
+     *
+     * @return a <code>boolean</code> value
+     */
+    public boolean isCancelled();
+}
@@ -0,0 +1,459 @@
+package org.marketcetera.strategy;
+
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.marketcetera.core.ClassVersion;
+import org.marketcetera.util.log.SLF4JLoggerProxy;
+import org.marketcetera.util.misc.NamedThreadFactory;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.TimerTask;
+
+/* $License$ */
+
+/**
+ * Schedules strategy callbacks for all strategies in this JVM on a single hashed-wheel timer.
+ *
+ * <p>When a callback is due, the timer thread hands it to the {@link CallbackQueue} of the strategy that requested it.
+ * Callbacks requested with no delay skip the timer and go to the queue at once. Each queue delivers its callbacks one
+ * at a time, in the order they became due, using a pool of threads shared by all strategies. Callbacks that become due
+ * in the same timer tick are delivered in no particular order.
+ *
+ * <p>The callback is delivered with {@link Strategy#callbackReceived(Runnable)}. If the strategy has an inbox, the
+ * callback is added to it and run on the strategy's inbox thread, and delivery never blocks a pool thread: if the inbox
+ * is full, the callback stays at the head of the queue and delivery is tried again after {@value #RETRY_DELAY} ms.
+ * Without an inbox, the callback runs on the pool thread once the strategy is not receiving data on another thread, so
+ * the strategy still receives data and callbacks one at a time. A callback that blocks holds its pool thread, so the
+ * pool starts another thread whenever a queue has callbacks to deliver and no thread is idle. Callbacks of other
+ * strategies are not held up. A queue delivers at most {@value #DELIVERIES_PER_RUN} callbacks before yielding its
+ * thread. A callback that is canceled, or whose queue is closed, after it became due is not run.
+ *
+ * <p>The timer resolution in milliseconds is set with the <code>{@value #TICK_PROPERTY}</code> system property and is 1
+ * by default. The number of delivery threads kept when idle is set with the <code>{@value #THREADS_PROPERTY}</code>
+ * system property and is the number of available processors by default. Other delivery threads stop after they have
+ * been idle for {@value #IDLE_THREAD_TIMEOUT} seconds.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+final class CallbackScheduler
+{
+    /**
+     * Gets the scheduler shared by all strategies.
+     *
+     * @return a <code>CallbackScheduler</code> value
+     */
+    static CallbackScheduler getInstance()
+    {
+        return instance;
+    }
+    /**
+     * Creates a queue through which callbacks are delivered to the given strategy.
+     *
+     * @param inStrategy a <code>Strategy</code> value
+     * @return a <code>CallbackQueue</code> value
+     */
+    CallbackQueue createQueue(Strategy inStrategy)
+    {
+        return new CallbackQueue(inStrategy);
+    }
+    /**
+     * Create a new CallbackScheduler instance.
+     *
+     * @param inTickMillis a <code>long</code> value containing the timer resolution in milliseconds
+     * @param inThreads an <code>int</code> value containing the number of threads that deliver callbacks kept when idle
+     */
+    CallbackScheduler(long inTickMillis,
+                      int inThreads)
+    {
+        timer = new HashedWheelTimer(new DaemonThreadFactory("StrategyCallbackTimer"), //$NON-NLS-1$
+                                     inTickMillis,
+                                     TimeUnit.MILLISECONDS,
+                                     TICKS_PER_WHEEL);
+        deliveryService = new ThreadPoolExecutor(inThreads,
+                                                 Integer.MAX_VALUE,
+                                                 IDLE_THREAD_TIMEOUT,
+                                                 TimeUnit.SECONDS,
+                                                 new SynchronousQueue<Runnable>(),
+                                                 new DaemonThreadFactory("StrategyCallback")); //$NON-NLS-1$
+    }
+    /**
+     * Delivers callbacks to one strategy, one at a time, in the order they become due.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    final class CallbackQueue
+            implements Runnable
+    {
+        /**
+         * Schedules the given callback to be delivered after the given delay.
+         *
+         * @param inCallback a <code>Runnable</code> value
+         * @param inDelay a <code>long</code> value containing the delay in milliseconds, values &lt;= 0 mean now
+         * @return a <code>CallbackHandle</code> value
+         * @throws RejectedExecutionException if the queue has been closed
+         */
+        CallbackHandle schedule(Runnable inCallback,
+                                long inDelay)
+        {
+            return schedule(inCallback,
+                            inDelay,
+                            0);
+        }
+        /**
+         * Schedules the given callback to be delivered after the given delay and then repeatedly with the given period.
+         *
+         * @param inCallback a <code>Runnable</code> value
+         * @param inDelay a <code>long</code> value containing the delay in milliseconds, values &lt;= 0 mean now
+         * @param inPeriod a <code>long</code> value containing the period in milliseconds, must be &gt; 0
+         * @return a <code>CallbackHandle</code> value
+         * @throws RejectedExecutionException if the queue has been closed
+         * @throws IllegalArgumentException if the period is not positive
+         */
+        CallbackHandle scheduleAtFixedRate(Runnable inCallback,
+                                           long inDelay,
+                                           long inPeriod)
+        {
+            if(inPeriod <= 0) {
+                throw new IllegalArgumentException();
+            }
+            return schedule(inCallback,
+                            inDelay,
+                            inPeriod);
+        }
+        /**
+         * Cancels all pending callbacks and rejects new ones.
+         */
+        void close()
+        {
+            closed = true;
+            for(ScheduledCallback callback : pending) {
+                callback.cancel();
+            }
+            due.clear();
+        }
+        /**
+         * Gets the number of callbacks waiting to become due.
+         *
+         * @return an <code>int</code> value
+         */
+        int getPendingCount()
+        {
+            return pending.size();
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            while(true) {
+                ScheduledCallback callback;
+                int delivered = 0;
+                // only the thread that holds the delivering flag takes callbacks from the queue
+                while((callback = due.peek()) != null) {
+                    if(closed) {
+                        return;
+                    }
+                    if(delivered == DELIVERIES_PER_RUN) {
+                        deliveryService.execute(this);
+                        return;
+                    }
+                    if(!callback.isCancelled()) {
+                        try {
+                            if(!strategy.callbackReceived(callback)) {
+                                timer.newTimeout(retry,
+                                                 RETRY_DELAY,
+                                                 TimeUnit.MILLISECONDS);
+                                return;
+                            }
+                        } catch (RuntimeException e) {
+                            SLF4JLoggerProxy.warn(CallbackScheduler.class,
+                                                  e);
+                        }
+                        delivered += 1;
+                    }
+                    due.poll();
+                }
+                delivering.set(false);
+                // a callback may have become due after the queue was found empty but before the flag was cleared
+                if(due.isEmpty() || !delivering.compareAndSet(false,
+                                                              true)) {
+                    return;
+                }
+            }
+        }
+        /**
+         * Create a new CallbackQueue instance.
+         *
+         * @param inStrategy a <code>Strategy</code> value
+         */
+        private CallbackQueue(Strategy inStrategy)
+        {
+            strategy = inStrategy;
+        }
+        /**
+         * Schedules the given callback.
+         *
+         * @param inCallback a <code>Runnable</code> value
+         * @param inDelay a <code>long</code> value
+         * @param inPeriod a <code>long</code> value, 0 for a single callback
+         * @return a <code>CallbackHandle</code> value
+         * @throws RejectedExecutionException if the queue has been closed
+         */
+        private CallbackHandle schedule(Runnable inCallback,
+                                        long inDelay,
+                                        long inPeriod)
+        {
+            if(closed) {
+                throw new RejectedExecutionException();
+            }
+            long delay = Math.max(0,
+                                  inDelay);
+            ScheduledCallback callback = new ScheduledCallback(inCallback,
+                                                               System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay),
+                                                               TimeUnit.MILLISECONDS.toNanos(inPeriod));
+            pending.add(callback);
+            if(delay == 0) {
+                // the timer does not keep the order of callbacks that expire in the same tick, so callbacks due now skip it
+                callback.run((Timeout)null);
+            } else {
+                callback.timeout = timer.newTimeout(callback,
+                                                    delay,
+                                                    TimeUnit.MILLISECONDS);
+            }
+            return callback;
+        }
+        /**
+         * Queues the given callback for delivery.
+         *
+         * @param inCallback a <code>ScheduledCallback</code> value
+         */
+        private void deliver(ScheduledCallback inCallback)
+        {
+            if(closed) {
+                return;
+            }
+            due.add(inCallback);
+            if(delivering.compareAndSet(false,
+                                        true)) {
+                deliveryService.execute(this);
+            }
+        }
+        /**
+         * A callback waiting on the timer.
+         *
+         * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+         * @version $Id$
+         * @since 3.2.1
+         */
+        private final class ScheduledCallback
+                implements CallbackHandle, TimerTask, Runnable
+        {
+            /* (non-Javadoc)
+             * @see io.netty.util.TimerTask#run(io.netty.util.Timeout)
+             */
+            @Override
+            public void run(Timeout inTimeout)
+            {
+                if(cancelled) {
+                    return;
+                }
+                if(period > 0) {
+                    // fixed rate: the next deadline does not drift with the time it takes to deliver this one
+                    deadline += period;
+                    timeout = timer.newTimeout(this,
+                                               Math.max(0,
+                                                        deadline - System.nanoTime()),
+                                               TimeUnit.NANOSECONDS);
+                } else {
+                    pending.remove(this);
+                }
+                deliver(this);
+            }
+            /* (non-Javadoc)
+             * @see java.lang.Runnable#run()
+             */
+            @Override
+            public void run()
+            {
+                // the callback may have been canceled while it was waiting to be delivered or in the strategy's inbox
+                if(cancelled || closed) {
+                    return;
+                }
+                callback.run();
+            }
+            /* (non-Javadoc)
+             * @see org.marketcetera.strategy.CallbackHandle#cancel()
+             */
+            @Override
+            public boolean cancel()
+            {
+                if(cancelled) {
+                    return false;
+                }
+                cancelled = true;
+                pending.remove(this);
+                Timeout currentTimeout = timeout;
+                return currentTimeout == null || currentTimeout.cancel() || period > 0;
+            }
+            /* (non-Javadoc)
+             * @see org.marketcetera.strategy.CallbackHandle#isCancelled()
+             */
+            @Override
+            public boolean isCancelled()
+            {
+                return cancelled;
+            }
+            /**
+             * Create a new ScheduledCallback instance.
+             *
+             * @param inCallback a <code>Runnable</code> value
+             * @param inDeadline a <code>long</code> value containing the first deadline in {@link System#nanoTime()} terms
+             * @param inPeriod a <code>long</code> value containing the period in nanoseconds, 0 for a single callback
+             */
+            private ScheduledCallback(Runnable inCallback,
+                                      long inDeadline,
+                                      long inPeriod)
+            {
+                callback = inCallback;
+                deadline = inDeadline;
+                period = inPeriod;
+            }
+            /**
+             * callback to deliver
+             */
+            private final Runnable callback;
+            /**
+             * period in nanoseconds, 0 for a single callback
+             */
+            private final long period;
+            /**
+             * next deadline in {@link System#nanoTime()} terms, updated only by the timer thread
+             */
+            private long deadline;
+            /**
+             * current timer entry
+             */
+            private volatile Timeout timeout;
+            /**
+             * indicates if the callback has been canceled
+             */
+            private volatile boolean cancelled;
+        }
+        /**
+         * strategy to which callbacks are delivered
+         */
+        private final Strategy strategy;
+        /**
+         * callbacks that are due and waiting to be delivered
+         */
+        private final Queue<ScheduledCallback> due = new ConcurrentLinkedQueue<ScheduledCallback>();
+        /**
+         * resumes delivery after the strategy's inbox was found full
+         */
+        private final TimerTask retry = new TimerTask() {
+            @Override
+            public void run(Timeout inTimeout)
+            {
+                deliveryService.execute(CallbackQueue.this);
+            }
+        };
+        /**
+         * indicates if a delivery thread is working on this queue
+         */
+        private final AtomicBoolean delivering = new AtomicBoolean(false);
+        /**
+         * callbacks waiting on the timer
+         */
+        private final Set<ScheduledCallback> pending = Collections.newSetFromMap(new ConcurrentHashMap<ScheduledCallback,Boolean>());
+        /**
+         * indicates if the queue has been closed
+         */
+        private volatile boolean closed;
+    }
+    /**
+     * Creates daemon threads so the shared timer does not keep the JVM running.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class DaemonThreadFactory
+            extends NamedThreadFactory
+    {
+        /**
+         * Create a new DaemonThreadFactory instance.
+         *
+         * @param inNamePrefix a <code>String</code> value
+         */
+        private DaemonThreadFactory(String inNamePrefix)
+        {
+            super(inNamePrefix);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.util.misc.NamedThreadFactory#newThread(java.lang.Runnable)
+         */
+        @Override
+        public Thread newThread(Runnable inRunnable)
+        {
+            Thread thread = super.newThread(inRunnable);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    /**
+     * system property that sets the timer resolution in milliseconds
+     */
+    static final String TICK_PROPERTY = "metc.strategy.callback.tick"; //$NON-NLS-1$
+    /**
+     * system property that sets the number of threads that deliver callbacks kept when idle
+     */
+    static final String THREADS_PROPERTY = "metc.strategy.callback.threads"; //$NON-NLS-1$
+    /**
+     * maximum number of callbacks a queue delivers before yielding its delivery thread
+     */
+    static final int DELIVERIES_PER_RUN = 64;
+    /**
+     * time in milliseconds to wait before delivering to a strategy whose inbox was full
+     */
+    static final long RETRY_DELAY = 10;
+    /**
+     * time in seconds after which an idle delivery thread beyond those set by {@link #THREADS_PROPERTY} stops
+     */
+    static final long IDLE_THREAD_TIMEOUT = 60;
+    /**
+     * number of buckets in the timer wheel
+     */
+    private static final int TICKS_PER_WHEEL = 1024;
+    /**
+     * scheduler shared by all strategies
+     */
+    private static final CallbackScheduler instance = new CallbackScheduler(Long.getLong(TICK_PROPERTY,
+                                                                                         1),
+                                                                            Integer.getInteger(THREADS_PROPERTY,
+                                                                                               Runtime.getRuntime().availableProcessors()));
+    /**
+     * timer on which all callbacks wait
+     */
+    private final HashedWheelTimer timer;
+    /**
+     * delivers due callbacks
+     */
+    private final ExecutorService deliveryService;
+}
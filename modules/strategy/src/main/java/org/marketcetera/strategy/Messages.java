@@ -131,6 +131,10 @@ public interface Messages
                                                                              "cannot_retrieve_positions"); //$NON-NLS-1$
     static final I18NMessage3P CANNOT_RETRIEVE_POSITIONS_BY_OPTION_ROOTS = new I18NMessage3P(LOGGER,
                                                                                              "cannot_retrieve_positions_by_option_roots"); //$NON-NLS-1$
+    static final I18NMessage1P INVALID_POSITION_METRICS_REQUEST = new I18NMessage1P(LOGGER,
+                                                                                    "invalid_position_metrics_request"); //$NON-NLS-1$
+    static final I18NMessage2P CANNOT_RETRIEVE_POSITION_METRICS = new I18NMessage2P(LOGGER,
+                                                                                    "cannot_retrieve_position_metrics"); //$NON-NLS-1$
     static final I18NMessage2P CANNOT_RETRIEVE_UNDERLYING = new I18NMessage2P(LOGGER,
                                                                               "cannot_retrieve_underlying"); //$NON-NLS-1$
     static final I18NMessage2P CANNOT_RETRIEVE_OPTION_ROOTS = new I18NMessage2P(LOGGER,
@@ -254,4 +258,14 @@ public interface Messages
     
     static final I18NMessage2P BROKER_STATUS_PROCESS_FAILED = new I18NMessage2P(LOGGER,
     																		  "broker_status_process_failed"); //$NON-NLS-1$
+    static final I18NMessage2P INBOX_FULL = new I18NMessage2P(LOGGER,
+                                                              "inbox_full"); //$NON-NLS-1$
+    static final I18NMessage2P INBOX_INTERRUPTED = new I18NMessage2P(LOGGER,
+                                                                     "inbox_interrupted"); //$NON-NLS-1$
+    static final I18NMessage2P INVALID_INBOX_SIZE = new I18NMessage2P(LOGGER,
+                                                                      "invalid_inbox_size"); //$NON-NLS-1$
+    static final I18NMessage2P INBOX_NOT_STOPPED = new I18NMessage2P(LOGGER,
+                                                                     "inbox_not_stopped"); //$NON-NLS-1$
+    static final I18NMessage2P INBOX_DELIVERY_ERROR = new I18NMessage2P(LOGGER,
+                                                                        "inbox_delivery_error"); //$NON-NLS-1$
 }
@@ -24,12 +24,32 @@ public interface Strategy
      * environment property name used to indicate the source directory of included strategy scripts
      */
     public static final String CLASSPATH_PROPERTYNAME = "strategy.classpath"; //$NON-NLS-1$
+    /**
+     * strategy parameter name used to give the strategy an inbox of the given size and a thread of its own to deliver data
+     */
+    public static final String INBOX_SIZE_PARAMETER = "strategy.inbox.size"; //$NON-NLS-1$
     /**
      * Sends data received from an external source to a strategy.
      *
+     * <p>If the strategy has no inbox, the data is delivered on the calling thread, after any data or callback being
+     * delivered to the strategy on another thread.
+     *
      * @param inData an <code>Object</code> value
      */
     public void dataReceived(Object inData);
+    /**
+     * Delivers a callback requested by the strategy.
+     * 
+     * <p>The callback is run on the thread that delivers data to the strategy if the strategy has one of its own,
+     * otherwise on the calling thread, after any data or callback being delivered to the strategy on another thread.
+     * Either way the strategy receives data and callbacks one at a time. This method does not wait for room in the
+     * strategy's inbox, but without an inbox it runs the callback, and waits for it to finish.
+     *
+     * @param inCallback a <code>Runnable</code> value
+     * @return a <code>boolean</code> value indicating if the callback was run or queued, <code>false</code> if the
+     *  inbox is full and the callback must be delivered again later
+     */
+    public boolean callbackReceived(Runnable inCallback);
     /**
      * Gets the script to execute.
      *
@@ -9,19 +9,26 @@ import static org.marketcetera.strategy.Status.UNSTARTED;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FileUtils;
 import org.marketcetera.core.ClassVersion;
 import org.marketcetera.event.AskEvent;
 import org.marketcetera.event.BidEvent;
 import org.marketcetera.event.DividendEvent;
+import org.marketcetera.event.Event;
 import org.marketcetera.event.MarketstatEvent;
 import org.marketcetera.event.TradeEvent;
 import org.marketcetera.event.impl.LogEventBuilder;
 import org.marketcetera.trade.ExecutionReport;
 import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.util.log.I18NBoundMessage2P;
 
 /* $License$ */
 
@@ -59,6 +66,7 @@ class StrategyImpl
         throws StrategyException
     {
         try {
+            startInbox();
             setExecutor(getLanguage().getExecutor(this));
             setStatus(COMPILING);
             getExecutor().start();
@@ -70,6 +78,7 @@ class StrategyImpl
             //  is thrown initializing the execution of "onStart" - this is caught
             //  below
         } catch (Exception e) {
+            stopInbox();
             setStatus(FAILED);
             throw new StrategyException(e);
         }
@@ -85,10 +94,13 @@ class StrategyImpl
         //  more needs (or is allowed) to be done (and the status should not change)
         if(getStatus().equals(FAILED) ||
            getStatus().equals(STOPPED)) {
+            stopInbox();
             return;
         }
         try {
             setStatus(STOPPING);
+            // data still waiting in the inbox cannot be received once the strategy is stopping
+            stopInbox();
             getExecutor().stop();
             // intentionally not setting status to "STOPPED" because the
             //  "onStop" method, successful completion of which is required
@@ -108,85 +120,32 @@ class StrategyImpl
     @Override
     public final void dataReceived(Object inData)
     {
-        // make sure that the strategy is in a state to receive incoming data
-        if(!getStatus().canReceiveData()) {
-            StrategyModule.log(LogEventBuilder.warn().withMessage(INVALID_STATUS_TO_RECEIVE_DATA,
-                                                                  String.valueOf(this),
-                                                                  String.valueOf(inData),
-                                                                  getStatus()).create(),
-                               this);
-            return;
-        }
-        String method = "onOther"; //$NON-NLS-1$
-        try {
-            RunningStrategy runningStrategy = getRunningStrategy();
-            if(runningStrategy == null) {
-                StrategyModule.log(LogEventBuilder.warn().withMessage(STRATEGY_NOT_READY_TO_RECEIVE_DATA,
-                                                                      String.valueOf(this),
-                                                                      String.valueOf(inData)).create(),
-                                   this);
-                return;
+        // data posted back by the strategy itself from the inbox thread is dispatched directly to avoid waiting on a full
+        //  inbox, as is data that arrives while the inbox thread is not running, which the strategy cannot receive anyway
+        Thread thread = inboxThread;
+        if(thread == null || Thread.currentThread() == thread) {
+            synchronized(deliveryLock) {
+                dispatch(inData);
             }
-            if(inData instanceof AskEvent) {
-                method = "onAsk"; //$NON-NLS-1$
-                runningStrategy.onAsk((AskEvent)inData);
-                return;
-            }
-            if(inData instanceof BidEvent) {
-                method = "onBid"; //$NON-NLS-1$
-                runningStrategy.onBid((BidEvent)inData);
-                return;
-            }
-            if(inData instanceof MarketstatEvent) {
-                method = "onMarketstat"; //$NON-NLS-1$
-                runningStrategy.onMarketstat((MarketstatEvent)inData);
-                return;
-            }
-            if(inData instanceof DividendEvent) {
-                method = "onDividend"; //$NON-NLS-1$
-                runningStrategy.onDividend((DividendEvent)inData);
-                return;
-            }
-            if(inData instanceof OrderCancelReject) {
-                method = "onCancelReject"; //$NON-NLS-1$
-                if(runningStrategy instanceof AbstractRunningStrategy) {
-                    ((AbstractRunningStrategy)runningStrategy).onCancelRejectRedirected((OrderCancelReject)inData);
-                } else {
-                    runningStrategy.onCancelReject((OrderCancelReject)inData);
-                }
-                return;
-            }
-            if(inData instanceof ExecutionReport) {
-                method = "onExecutionReport"; //$NON-NLS-1$
-                if(runningStrategy instanceof AbstractRunningStrategy) {
-                    ((AbstractRunningStrategy)runningStrategy).onExecutionReportRedirected((ExecutionReport)inData);
-                } else {
-                    runningStrategy.onExecutionReport((ExecutionReport)inData);
-                }
-                return;
-            }
-            if(inData instanceof TradeEvent) {
-                method = "onTrade"; //$NON-NLS-1$
-                runningStrategy.onTrade((TradeEvent)inData);
-                return;
-            }
-            // catch-all for every other type of data
-            runningStrategy.onOther(inData);
-        } catch (Exception e) {
-            Executor executor = getExecutor();
-            String methodName = method;
-            String exceptionTranslation = e.toString();
-            if(executor != null) {
-                methodName = getExecutor().translateMethodName(method);
-                exceptionTranslation = getExecutor().interpretRuntimeException(e);
+        } else {
+            enqueue(inData);
+        }
+    }
+    /* (non-Javadoc)
+     * @see org.marketcetera.strategy.Strategy#callbackReceived(java.lang.Runnable)
+     */
+    @Override
+    public final boolean callbackReceived(Runnable inCallback)
+    {
+        Thread thread = inboxThread;
+        if(thread == null || Thread.currentThread() == thread) {
+            // without an inbox, callbacks arrive on a different thread than data and must wait their turn
+            synchronized(deliveryLock) {
+                inCallback.run();
             }
-            StrategyModule.log(LogEventBuilder.warn().withMessage(RUNTIME_ERROR,
-                                                                  String.valueOf(this),
-                                                                  methodName,
-                                                                  exceptionTranslation)
-                                                     .withException(e).create(),
-                               this);
+            return true;
         }
+        return inbox.offer(new InboxCallback(inCallback));
     }
     /* (non-Javadoc)
      * @see org.marketcetera.strategy.Strategy#getCode()
@@ -280,6 +239,7 @@ class StrategyImpl
      * @param inServicesProvider an <code>OutboundServices</code> value
      * @param inInboundServicesProvider an <code>InboundServices</code> value
      * @throws IOException if the given <code>File</code> could not be resolved
+     * @throws StrategyException if the inbox size parameter is not a positive whole number
      */
     StrategyImpl(String inName,
                  String inUniqueIdentifier,
@@ -288,7 +248,7 @@ class StrategyImpl
                  Properties inParameters,
                  String inNamespace,
                  ServicesProvider inServicesProvider)
-        throws IOException
+        throws IOException, StrategyException
     {
         status = UNSTARTED;
         name = inName;
@@ -307,6 +267,23 @@ class StrategyImpl
             code = fileToString(getSource());
         }
         defaultNamespace = inNamespace;
+        String inboxSize = parameters.getProperty(INBOX_SIZE_PARAMETER);
+        if(inboxSize == null) {
+            inbox = null;
+        } else {
+            int capacity;
+            try {
+                capacity = Integer.parseInt(inboxSize.trim());
+            } catch (NumberFormatException e) {
+                capacity = 0;
+            }
+            if(capacity <= 0) {
+                throw new StrategyException(new I18NBoundMessage2P(INVALID_INBOX_SIZE,
+                                                                   inName,
+                                                                   inboxSize));
+            }
+            inbox = new ArrayBlockingQueue<Object>(capacity);
+        }
     }
     /**
      * Get the uniqueIdentifier value.
@@ -378,6 +355,7 @@ class StrategyImpl
     final void setRunningStrategy(RunningStrategy inRunningStrategy)
     {
         runningStrategy = inRunningStrategy;
+        dispatchTable = inRunningStrategy == null ? null : new DispatchTable(inRunningStrategy);
     }
     /**
      * Sets the executor value.
@@ -388,6 +366,158 @@ class StrategyImpl
     {
         executor = inExecutor;
     }
+    /**
+     * Delivers the given data to the embedded strategy.
+     *
+     * @param inData an <code>Object</code> value
+     */
+    private void dispatch(Object inData)
+    {
+        // make sure that the strategy is in a state to receive incoming data
+        if(!getStatus().canReceiveData()) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(INVALID_STATUS_TO_RECEIVE_DATA,
+                                                                  String.valueOf(this),
+                                                                  String.valueOf(inData),
+                                                                  getStatus()).create(),
+                               this);
+            return;
+        }
+        DispatchTable table = dispatchTable;
+        if(table == null) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(STRATEGY_NOT_READY_TO_RECEIVE_DATA,
+                                                                  String.valueOf(this),
+                                                                  String.valueOf(inData)).create(),
+                               this);
+            return;
+        }
+        DataHandler handler = table.getHandler(inData);
+        try {
+            handler.dispatch(table.runningStrategy,
+                             inData);
+        } catch (Exception e) {
+            Executor executor = getExecutor();
+            String methodName = handler.method;
+            String exceptionTranslation = e.toString();
+            if(executor != null) {
+                methodName = executor.translateMethodName(handler.method);
+                exceptionTranslation = executor.interpretRuntimeException(e);
+            }
+            StrategyModule.log(LogEventBuilder.warn().withMessage(RUNTIME_ERROR,
+                                                                  String.valueOf(this),
+                                                                  methodName,
+                                                                  exceptionTranslation)
+                                                     .withException(e).create(),
+                               this);
+        }
+    }
+    /**
+     * Adds the given data to the inbox to be dispatched by the inbox thread.
+     * 
+     * <p>If the inbox is full, market data events are discarded so that a strategy that falls behind does not hold up
+     * the data flow that delivers them. All other data, such as execution reports, waits for room in the inbox.
+     *
+     * @param inData an <code>Object</code> value
+     */
+    private void enqueue(Object inData)
+    {
+        Object data = inData == null ? NULL_DATA : inData;
+        if(data instanceof Event) {
+            if(inbox.offer(data)) {
+                if(inboxOverflowing) {
+                    inboxOverflowing = false;
+                }
+            } else {
+                long discarded = discardedData.incrementAndGet();
+                if(!inboxOverflowing) {
+                    inboxOverflowing = true;
+                    StrategyModule.log(LogEventBuilder.warn().withMessage(INBOX_FULL,
+                                                                          String.valueOf(this),
+                                                                          discarded).create(),
+                                       this);
+                }
+            }
+            return;
+        }
+        try {
+            inbox.put(data);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            StrategyModule.log(LogEventBuilder.warn().withMessage(INBOX_INTERRUPTED,
+                                                                  String.valueOf(this),
+                                                                  String.valueOf(inData)).create(),
+                               this);
+        }
+    }
+    /**
+     * Starts the thread that dispatches data from the inbox, if this strategy has an inbox.
+     */
+    final void startInbox()
+    {
+        if(inbox == null) {
+            return;
+        }
+        inboxThread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                try {
+                    while(!Thread.currentThread().isInterrupted()) {
+                        Object data = inbox.take();
+                        try {
+                            if(data instanceof InboxCallback) {
+                                ((InboxCallback)data).callback.run();
+                            } else {
+                                dispatch(data == NULL_DATA ? null : data);
+                            }
+                        } catch (Throwable t) {
+                            // the inbox thread must survive any error, or the threads that put data in the inbox block
+                            //  forever once it is full
+                            StrategyModule.log(LogEventBuilder.warn().withMessage(INBOX_DELIVERY_ERROR,
+                                                                                  String.valueOf(StrategyImpl.this),
+                                                                                  String.valueOf(data))
+                                                                     .withException(t).create(),
+                                               StrategyImpl.this);
+                        }
+                    }
+                } catch (InterruptedException ignored) {
+                    // the strategy is stopping
+                }
+            }
+        },
+                                 "Strategy-" + getName() + "-inbox"); //$NON-NLS-1$ //$NON-NLS-2$
+        inboxThread.setDaemon(true);
+        inboxThread.start();
+    }
+    /**
+     * Stops the inbox thread, if running, and discards any data still in the inbox.
+     *
+     * <p>Waits up to {@link #INBOX_STOP_TIMEOUT} ms for data being delivered to finish, unless called on the inbox thread
+     * itself, so the strategy is not stopped while it is still receiving data.
+     */
+    final void stopInbox()
+    {
+        Thread thread = inboxThread;
+        if(thread == null) {
+            return;
+        }
+        inboxThread = null;
+        thread.interrupt();
+        inbox.clear();
+        if(Thread.currentThread() == thread) {
+            return;
+        }
+        try {
+            thread.join(INBOX_STOP_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(thread.isAlive()) {
+            StrategyModule.log(LogEventBuilder.warn().withMessage(INBOX_NOT_STOPPED,
+                                                                  String.valueOf(this),
+                                                                  INBOX_STOP_TIMEOUT).create(),
+                               this);
+        }
+    }
     /**
      * Reads the given <code>File</code> and renders its contents as a <code>String</code>.
      *
@@ -400,6 +530,223 @@ class StrategyImpl
     {
         return FileUtils.readFileToString(inFile);
     }
+    /**
+     * Delivers a particular type of data to the embedded strategy.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private enum DataHandler
+    {
+        ASK(AskEvent.class,"onAsk") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onAsk((AskEvent)inData);
+            }
+        },
+        BID(BidEvent.class,"onBid") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onBid((BidEvent)inData);
+            }
+        },
+        MARKETSTAT(MarketstatEvent.class,"onMarketstat") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onMarketstat((MarketstatEvent)inData);
+            }
+        },
+        DIVIDEND(DividendEvent.class,"onDividend") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onDividend((DividendEvent)inData);
+            }
+        },
+        CANCEL_REJECT(OrderCancelReject.class,"onCancelReject") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onCancelReject((OrderCancelReject)inData);
+            }
+        },
+        REDIRECTED_CANCEL_REJECT(OrderCancelReject.class,"onCancelReject") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                ((AbstractRunningStrategy)inRunningStrategy).onCancelRejectRedirected((OrderCancelReject)inData);
+            }
+        },
+        EXECUTION_REPORT(ExecutionReport.class,"onExecutionReport") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onExecutionReport((ExecutionReport)inData);
+            }
+        },
+        REDIRECTED_EXECUTION_REPORT(ExecutionReport.class,"onExecutionReport") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                ((AbstractRunningStrategy)inRunningStrategy).onExecutionReportRedirected((ExecutionReport)inData);
+            }
+        },
+        TRADE(TradeEvent.class,"onTrade") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onTrade((TradeEvent)inData);
+            }
+        },
+        OTHER(Object.class,"onOther") { //$NON-NLS-1$
+            @Override
+            void dispatch(RunningStrategy inRunningStrategy,
+                          Object inData)
+            {
+                inRunningStrategy.onOther(inData);
+            }
+        };
+        /**
+         * Delivers the given data to the given strategy.
+         *
+         * @param inRunningStrategy a <code>RunningStrategy</code> value
+         * @param inData an <code>Object</code> value
+         */
+        abstract void dispatch(RunningStrategy inRunningStrategy,
+                               Object inData);
+        /**
+         * Create a new DataHandler instance.
+         *
+         * @param inType a <code>Class&lt;?&gt;</code> value
+         * @param inMethod a <code>String</code> value
+         */
+        private DataHandler(Class<?> inType,
+                            String inMethod)
+        {
+            type = inType;
+            method = inMethod;
+        }
+        /**
+         * type of data delivered by this handler
+         */
+        private final Class<?> type;
+        /**
+         * name of the strategy method this handler invokes
+         */
+        private final String method;
+    }
+    /**
+     * Maps the class of incoming data to the handler that delivers it to a particular running strategy.
+     * 
+     * <p>The handler for each class is found the first time data of that class arrives and reused afterwards.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class DispatchTable
+    {
+        /**
+         * Create a new DispatchTable instance.
+         *
+         * @param inRunningStrategy a <code>RunningStrategy</code> value
+         */
+        private DispatchTable(RunningStrategy inRunningStrategy)
+        {
+            runningStrategy = inRunningStrategy;
+            boolean redirect = inRunningStrategy instanceof AbstractRunningStrategy;
+            // the order matches the order in which data types have always been tested
+            candidates = new DataHandler[] { DataHandler.ASK,
+                                             DataHandler.BID,
+                                             DataHandler.MARKETSTAT,
+                                             DataHandler.DIVIDEND,
+                                             redirect ? DataHandler.REDIRECTED_CANCEL_REJECT : DataHandler.CANCEL_REJECT,
+                                             redirect ? DataHandler.REDIRECTED_EXECUTION_REPORT : DataHandler.EXECUTION_REPORT,
+                                             DataHandler.TRADE };
+        }
+        /**
+         * Gets the handler for the given data.
+         *
+         * @param inData an <code>Object</code> value
+         * @return a <code>DataHandler</code> value
+         */
+        private DataHandler getHandler(Object inData)
+        {
+            if(inData == null) {
+                return DataHandler.OTHER;
+            }
+            Class<?> dataClass = inData.getClass();
+            DataHandler handler = handlers.get(dataClass);
+            if(handler == null) {
+                handler = DataHandler.OTHER;
+                for(DataHandler candidate : candidates) {
+                    if(candidate.type.isAssignableFrom(dataClass)) {
+                        handler = candidate;
+                        break;
+                    }
+                }
+                handlers.put(dataClass,
+                             handler);
+            }
+            return handler;
+        }
+        /**
+         * strategy to which data is delivered
+         */
+        private final RunningStrategy runningStrategy;
+        /**
+         * handlers to consider for a class not seen before, in order of precedence
+         */
+        private final DataHandler[] candidates;
+        /**
+         * handlers by the class of data they deliver
+         */
+        private final Map<Class<?>,DataHandler> handlers = new ConcurrentHashMap<Class<?>,DataHandler>();
+    }
+    /**
+     * Holds a callback in the inbox.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class InboxCallback
+    {
+        /**
+         * Create a new InboxCallback instance.
+         *
+         * @param inCallback a <code>Runnable</code> value
+         */
+        private InboxCallback(Runnable inCallback)
+        {
+            callback = inCallback;
+        }
+        /**
+         * callback to run
+         */
+        private final Runnable callback;
+    }
+    /**
+     * stands in for <code>null</code> data in the inbox
+     */
+    private static final Object NULL_DATA = new Object();
+    /**
+     * maximum time in ms to wait for the inbox thread to stop
+     */
+    private static final long INBOX_STOP_TIMEOUT = 5000;
     /**
      * all strategies that are in RUNNING state 
      */
@@ -452,4 +799,28 @@ class StrategyImpl
      * description of this object initialized when needed
      */
     private String description;
+    /**
+     * delivers data to the running strategy, <code>null</code> until the running strategy is available
+     */
+    private volatile DispatchTable dispatchTable;
+    /**
+     * held while delivering data or a callback outside the inbox thread, so the strategy receives one at a time
+     */
+    private final Object deliveryLock = new Object();
+    /**
+     * data waiting to be dispatched by the inbox thread, <code>null</code> if data is dispatched on the thread that delivers it
+     */
+    private final BlockingQueue<Object> inbox;
+    /**
+     * dispatches data from the inbox, <code>null</code> if not running
+     */
+    private volatile Thread inboxThread;
+    /**
+     * indicates if market data is being discarded because the inbox is full
+     */
+    private volatile boolean inboxOverflowing;
+    /**
+     * number of market data events discarded because the inbox was full
+     */
+    private final AtomicLong discardedData = new AtomicLong();
 }
@@ -78,6 +78,7 @@ import org.marketcetera.event.impl.LogEventBuilder;
 import org.marketcetera.marketdata.MarketDataRequest;
 import org.marketcetera.marketdata.core.manager.MarketDataManager;
 import org.marketcetera.metrics.ThreadedMetric;
+import org.marketcetera.module.BatchDataReceiver;
 import org.marketcetera.module.DataEmitter;
 import org.marketcetera.module.DataEmitterSupport;
 import org.marketcetera.module.DataFlowID;
@@ -143,7 +144,7 @@ import com.google.common.collect.Sets;
 @ClassVersion("$Id$")
 final class StrategyModule
         extends Module
-        implements DataEmitter, DataFlowRequester, DataReceiver, ServicesProvider, StrategyMXBean, NotificationEmitter
+        implements DataEmitter, DataFlowRequester, BatchDataReceiver, ServicesProvider, StrategyMXBean, NotificationEmitter
 {
     /* (non-Javadoc)
      * @see org.marketcetera.module.DataEmitter#cancel(org.marketcetera.module.RequestID)
@@ -227,6 +228,33 @@ final class StrategyModule
         }
         strategy.dataReceived(inData);
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.module.BatchDataReceiver#receiveData(org.marketcetera.module.DataFlowID, java.lang.Object[], int)
+     */
+    @Override
+    public void receiveData(DataFlowID inFlowID,
+                            Object[] inData,
+                            int inCount)
+            throws UnsupportedDataTypeException, StopDataFlowException
+    {
+        ThreadedMetric.event("strategy-IN");  //$NON-NLS-1$
+        assertStateForReceiveData();
+        boolean trace = SLF4JLoggerProxy.isTraceEnabled(StrategyModule.class);
+        for(int i=0;i<inCount;i++) {
+            Object data = inData[i];
+            if(trace) {
+                SLF4JLoggerProxy.trace(StrategyModule.class,
+                                       "{} received {}", //$NON-NLS-1$
+                                       strategy,
+                                       data);
+            }
+            if(data instanceof Event) {
+                setEventSource((Event)data,
+                               inFlowID);
+            }
+            strategy.dataReceived(data);
+        }
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.strategy.OutboundServicesProvider#cancelOrder(org.marketcetera.trade.OrderCancel)
      */
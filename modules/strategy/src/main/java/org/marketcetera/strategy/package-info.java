@@ -237,20 +237,22 @@
  *            <em id="strategy_structure_api_actions_requestcallbackafter">requestCallbackAfter</em>
  *            <br>
  *            <pre>
- *                void requestCallbackAfter(long,java.lang.Object)
+ *                CallbackHandle requestCallbackAfter(long,java.lang.Object)
  *                request_callback_after(delay,data)
  *            </pre>
  *            Requests a callback from the Marketcetera platform after the given delay in milliseconds has elapsed.  The Marketcetera platform will 
- *            execute <a href="#strategy_structure_api_data_oncallback"><code>onCallback</code></a>, passing it the given object.
+ *            execute <a href="#strategy_structure_api_data_oncallback"><code>onCallback</code></a>, passing it the given object.  The returned
+ *            handle may be used to cancel the callback.
  *        <p>
  *            <em id="strategy_structure_api_actions_requestcallbackat">requestCallbackAt</em>
  *            <br>
  *            <pre>
- *                void requestCallbackAt(long,java.lang.Object)
+ *                CallbackHandle requestCallbackAt(long,java.lang.Object)
  *                request_callback_at(time,data)
  *            </pre>
  *            Requests a callback from the Marketcetera platform at the given time, specified in milliseconds since <a href="http://en.wikipedia.org/wiki/Unix_time">epoch</a>.  The Marketcetera platform will 
- *            execute <a href="#strategy_structure_api_data_oncallback"><code>onCallback</code></a>, passing it the given object.
+ *            execute <a href="#strategy_structure_api_data_oncallback"><code>onCallback</code></a>, passing it the given object.  The returned
+ *            handle may be used to cancel the callback.
  *        <p>
  *            <em id="strategy_structure_api_actions_requestmarketdata">requestMarketData</em>
  *            <br>
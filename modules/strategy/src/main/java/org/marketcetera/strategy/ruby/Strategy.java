@@ -14,6 +14,7 @@ import org.marketcetera.module.DataFlowSupport;
 import org.marketcetera.module.DataRequest;
 import org.marketcetera.module.ModuleURN;
 import org.marketcetera.strategy.AbstractRunningStrategy;
+import org.marketcetera.strategy.CallbackHandle;
 import org.marketcetera.strategy.RunningStrategy;
 import org.marketcetera.trade.*;
 import org.marketcetera.trade.Currency;
@@ -272,12 +273,13 @@ public class Strategy
      *   as a request for an immediate callback.
      * @param inData an <code>Object</code> value to deliver along with the callback,
      *   may be null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    public final void request_callback_after(long inDelay,
-                                             Object inData)
+    public final CallbackHandle request_callback_after(long inDelay,
+                                                       Object inData)
     {
-        requestCallbackAfter(inDelay,
-                             inData);
+        return requestCallbackAfter(inDelay,
+                                    inData);
     }
     /**
      * Requests a callback periodically after a specified period in milliseconds.
@@ -297,12 +299,13 @@ public class Strategy
      *   The value must be &gt; 0.
      * @param inData an <code>Object</code> value to deliver along with the callback,
      *   may be null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    public final void request_callback_every(long inDelay,
-                                             long inPeriod,
-                                             Object inData)
+    public final CallbackHandle request_callback_every(long inDelay,
+                                                       long inPeriod,
+                                                       Object inData)
     {
-        requestCallbackEvery(inDelay, inPeriod, inData);
+        return requestCallbackEvery(inDelay, inPeriod, inData);
     }
     /**
      * Requests a callback at a specific point in time.
@@ -319,12 +322,13 @@ public class Strategy
      *   value earlier than the present will be interpreted as a request for an
      *   immediate callback.
      * @param inData an <code>Object</code> value to deliver with the callback or null
+     * @return a <code>CallbackHandle</code> value with which the callback can be canceled
      */
-    public final void request_callback_at(Date inDate,
-                                          Object inData)
+    public final CallbackHandle request_callback_at(Date inDate,
+                                                    Object inData)
     {
-        requestCallbackAt(inDate,
-                          inData);
+        return requestCallbackAt(inDate,
+                                 inData);
     }
     /**
      * Creates a market data request.
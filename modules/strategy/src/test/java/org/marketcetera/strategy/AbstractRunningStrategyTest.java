@@ -685,6 +685,15 @@ public class AbstractRunningStrategyTest
         {
             throw new UnsupportedOperationException(); // TODO
         }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.Strategy#callbackReceived(java.lang.Runnable)
+         */
+        @Override
+        public boolean callbackReceived(Runnable inCallback)
+        {
+            inCallback.run();
+            return true;
+        }
         /* (non-Javadoc)
          * @see org.marketcetera.strategy.Strategy#getScript()
          */
@@ -0,0 +1,179 @@
+package org.marketcetera.strategy;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Compares the shared {@link CallbackScheduler} with one scheduled executor per strategy.
+ *
+ * <p>Each invocation requests a short-delay callback for every strategy and waits for all of them to be delivered.
+ * Run with <code>java -cp &lt;test classpath&gt; org.marketcetera.strategy.CallbackSchedulerBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class CallbackSchedulerBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(CallbackSchedulerBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Creates the strategies, their callback queues, and their executors.
+     *
+     * @throws Exception if a strategy cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        for(int i=0;i<strategies;i++) {
+            StrategyImpl strategy = new StrategyImpl("benchmark" + i, //$NON-NLS-1$
+                                                     String.valueOf(i),
+                                                     Language.JAVA,
+                                                     null,
+                                                     new Properties(),
+                                                     null,
+                                                     mock(ServicesProvider.class));
+            queues.add(CallbackScheduler.getInstance().createQueue(strategy));
+            executors.add(Executors.newSingleThreadScheduledExecutor());
+        }
+    }
+    /**
+     * Closes the callback queues and shuts down the executors.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        for(CallbackScheduler.CallbackQueue queue : queues) {
+            queue.close();
+        }
+        for(ScheduledExecutorService executor : executors) {
+            executor.shutdownNow();
+        }
+    }
+    /**
+     * Requests one callback per strategy from the shared scheduler and waits for all of them.
+     *
+     * @throws InterruptedException if the wait is interrupted
+     */
+    @Benchmark
+    public void sharedScheduler()
+            throws InterruptedException
+    {
+        CountDownLatch latch = new CountDownLatch(strategies);
+        Runnable callback = new CountDown(latch);
+        for(CallbackScheduler.CallbackQueue queue : queues) {
+            queue.schedule(callback,
+                           DELAY);
+        }
+        latch.await();
+    }
+    /**
+     * Requests one callback per strategy from that strategy's own executor and waits for all of them.
+     *
+     * @throws InterruptedException if the wait is interrupted
+     */
+    @Benchmark
+    public void executorPerStrategy()
+            throws InterruptedException
+    {
+        CountDownLatch latch = new CountDownLatch(strategies);
+        Runnable callback = new CountDown(latch);
+        for(ScheduledExecutorService executor : executors) {
+            executor.schedule(callback,
+                              DELAY,
+                              TimeUnit.MILLISECONDS);
+        }
+        latch.await();
+    }
+    /**
+     * Counts down a latch when run.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class CountDown
+            implements Runnable
+    {
+        /**
+         * Create a new CountDown instance.
+         *
+         * @param inLatch a <code>CountDownLatch</code> value
+         */
+        private CountDown(CountDownLatch inLatch)
+        {
+            latch = inLatch;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            latch.countDown();
+        }
+        /**
+         * latch to count down
+         */
+        private final CountDownLatch latch;
+    }
+    /**
+     * number of strategies requesting callbacks
+     */
+    @Param({"10","500"})
+    public int strategies;
+    /**
+     * callback delay in milliseconds
+     */
+    private static final long DELAY = 1;
+    /**
+     * callback queues of the strategies
+     */
+    private final List<CallbackScheduler.CallbackQueue> queues = new ArrayList<CallbackScheduler.CallbackQueue>();
+    /**
+     * one executor per strategy
+     */
+    private final List<ScheduledExecutorService> executors = new ArrayList<ScheduledExecutorService>();
+}
@@ -0,0 +1,385 @@
+package org.marketcetera.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.marketdata.MarketDataFeedTestBase;
+import org.marketcetera.module.ExpectedFailure;
+
+/* $License$ */
+
+/**
+ * Tests {@link CallbackScheduler}.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class CallbackSchedulerTest
+{
+    /**
+     * Stops the strategy under test.
+     */
+    @After
+    public void cleanup()
+    {
+        if(queue != null) {
+            queue.close();
+        }
+        if(strategy != null) {
+            strategy.stopInbox();
+        }
+    }
+    /**
+     * Tests that callbacks are delivered in the order they become due.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testOrder()
+            throws Exception
+    {
+        createQueue(null);
+        queue.schedule(new Record("3"), //$NON-NLS-1$
+                       150);
+        queue.schedule(new Record("1"), //$NON-NLS-1$
+                       -1);
+        queue.schedule(new Record("2"), //$NON-NLS-1$
+                       50);
+        waitForCallbacks(3);
+        assertEquals(Arrays.asList("1","2","3"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                     callbacks);
+        assertEquals(0,
+                     queue.getPendingCount());
+    }
+    /**
+     * Tests canceling callbacks.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testCancel()
+            throws Exception
+    {
+        createQueue(null);
+        CallbackHandle canceled = queue.schedule(new Record("canceled"), //$NON-NLS-1$
+                                                 100);
+        CallbackHandle periodic = queue.scheduleAtFixedRate(new Record("periodic"), //$NON-NLS-1$
+                                                            0,
+                                                            10);
+        assertTrue(canceled.cancel());
+        assertTrue(canceled.isCancelled());
+        assertFalse(canceled.cancel());
+        waitForCallbacks(3);
+        periodic.cancel();
+        Thread.sleep(200);
+        int delivered = callbacks.size();
+        Thread.sleep(200);
+        assertEquals(delivered,
+                     callbacks.size());
+        assertFalse(callbacks.contains("canceled")); //$NON-NLS-1$
+        assertEquals(0,
+                     queue.getPendingCount());
+        new ExpectedFailure<IllegalArgumentException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                queue.scheduleAtFixedRate(new Record("invalid"), //$NON-NLS-1$
+                                          0,
+                                          0);
+            }
+        };
+    }
+    /**
+     * Tests that closing a queue cancels its callbacks and rejects new ones.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testClose()
+            throws Exception
+    {
+        createQueue(null);
+        queue.schedule(new Record("closed"), //$NON-NLS-1$
+                       50);
+        queue.scheduleAtFixedRate(new Record("closed"), //$NON-NLS-1$
+                                  50,
+                                  50);
+        assertEquals(2,
+                     queue.getPendingCount());
+        queue.close();
+        assertEquals(0,
+                     queue.getPendingCount());
+        Thread.sleep(200);
+        assertTrue(callbacks.isEmpty());
+        new ExpectedFailure<RejectedExecutionException>() {
+            @Override
+            protected void run()
+                    throws Exception
+            {
+                queue.schedule(new Record("rejected"), //$NON-NLS-1$
+                               0);
+            }
+        };
+    }
+    /**
+     * Tests that callbacks are delivered on the inbox thread of a strategy that has one.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testInbox()
+            throws Exception
+    {
+        createQueue("10"); //$NON-NLS-1$
+        strategy.startInbox();
+        queue.schedule(new Runnable() {
+            @Override
+            public void run()
+            {
+                callbacks.add(Thread.currentThread().getName());
+            }
+        },
+                       0);
+        waitForCallbacks(1);
+        assertEquals("Strategy-test-inbox", //$NON-NLS-1$
+                     callbacks.get(0));
+    }
+    /**
+     * Tests that callbacks wait for room in a full inbox without blocking delivery and that callbacks canceled while
+     * waiting are not run.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testFullInbox()
+            throws Exception
+    {
+        createQueue("1"); //$NON-NLS-1$
+        strategy.startInbox();
+        final CountDownLatch block = new CountDownLatch(1);
+        queue.schedule(new Runnable() {
+            @Override
+            public void run()
+            {
+                callbacks.add("blocking"); //$NON-NLS-1$
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        },
+                       0);
+        waitForCallbacks(1);
+        // the first fills the inbox, the others wait in the queue
+        CallbackHandle inInbox = queue.schedule(new Record("inbox"), //$NON-NLS-1$
+                                                0);
+        CallbackHandle waiting = queue.schedule(new Record("waiting"), //$NON-NLS-1$
+                                                0);
+        for(int i=0;i<CallbackScheduler.DELIVERIES_PER_RUN*2;i++) {
+            queue.schedule(new Record(String.valueOf(i)),
+                           0);
+        }
+        Thread.sleep(100);
+        // other strategies still get their callbacks
+        CallbackScheduler.CallbackQueue otherQueue = CallbackScheduler.getInstance().createQueue(new StrategyImpl("other", //$NON-NLS-1$
+                                                                                                                  "2", //$NON-NLS-1$
+                                                                                                                  Language.JAVA,
+                                                                                                                  null,
+                                                                                                                  new Properties(),
+                                                                                                                  null,
+                                                                                                                  mock(ServicesProvider.class)));
+        final CountDownLatch other = new CountDownLatch(1);
+        otherQueue.schedule(new Runnable() {
+            @Override
+            public void run()
+            {
+                other.countDown();
+            }
+        },
+                            0);
+        assertTrue(other.await(5,
+                               TimeUnit.SECONDS));
+        otherQueue.close();
+        inInbox.cancel();
+        waiting.cancel();
+        block.countDown();
+        waitForCallbacks(CallbackScheduler.DELIVERIES_PER_RUN*2+1);
+        assertEquals(CallbackScheduler.DELIVERIES_PER_RUN*2+1,
+                     callbacks.size());
+        for(int i=0;i<CallbackScheduler.DELIVERIES_PER_RUN*2;i++) {
+            assertEquals(String.valueOf(i),
+                         callbacks.get(i+1));
+        }
+    }
+    /**
+     * Tests that callbacks that block in strategies without an inbox do not hold up the callbacks of other strategies.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testBlockingCallbacks()
+            throws Exception
+    {
+        final CountDownLatch block = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(Runtime.getRuntime().availableProcessors() + 1);
+        List<CallbackScheduler.CallbackQueue> blockedQueues = new ArrayList<CallbackScheduler.CallbackQueue>();
+        try {
+            for(long i=blocked.getCount();i>0;i--) {
+                CallbackScheduler.CallbackQueue blockedQueue = CallbackScheduler.getInstance().createQueue(new StrategyImpl("blocked", //$NON-NLS-1$
+                                                                                                                            "2", //$NON-NLS-1$
+                                                                                                                            Language.JAVA,
+                                                                                                                            null,
+                                                                                                                            new Properties(),
+                                                                                                                            null,
+                                                                                                                            mock(ServicesProvider.class)));
+                blockedQueues.add(blockedQueue);
+                blockedQueue.schedule(new Runnable() {
+                    @Override
+                    public void run()
+                    {
+                        blocked.countDown();
+                        try {
+                            block.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                },
+                                      0);
+            }
+            assertTrue(blocked.await(5,
+                                     TimeUnit.SECONDS));
+            createQueue(null);
+            queue.schedule(new Record("delivered"), //$NON-NLS-1$
+                           0);
+            waitForCallbacks(1);
+        } finally {
+            block.countDown();
+            for(CallbackScheduler.CallbackQueue blockedQueue : blockedQueues) {
+                blockedQueue.close();
+            }
+        }
+    }
+    /**
+     * Tests that callbacks due now are delivered in the order they were requested.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testImmediateOrder()
+            throws Exception
+    {
+        createQueue(null);
+        List<String> expected = new ArrayList<String>();
+        for(int i=0;i<100;i++) {
+            expected.add(String.valueOf(i));
+            queue.schedule(new Record(String.valueOf(i)),
+                           0);
+        }
+        waitForCallbacks(expected.size());
+        assertEquals(expected,
+                     callbacks);
+    }
+    /**
+     * Creates a strategy and a callback queue for it.
+     *
+     * @param inInboxSize a <code>String</code> value or <code>null</code> for no inbox
+     * @throws Exception if the strategy cannot be created
+     */
+    private void createQueue(String inInboxSize)
+            throws Exception
+    {
+        Properties parameters = new Properties();
+        if(inInboxSize != null) {
+            parameters.setProperty(Strategy.INBOX_SIZE_PARAMETER,
+                                   inInboxSize);
+        }
+        strategy = new StrategyImpl("test", //$NON-NLS-1$
+                                    "1", //$NON-NLS-1$
+                                    Language.JAVA,
+                                    null,
+                                    parameters,
+                                    null,
+                                    mock(ServicesProvider.class));
+        queue = CallbackScheduler.getInstance().createQueue(strategy);
+    }
+    /**
+     * Waits until the given number of callbacks has been delivered.
+     *
+     * @param inCount an <code>int</code> value
+     * @throws Exception if the callbacks are not delivered in time
+     */
+    private void waitForCallbacks(final int inCount)
+            throws Exception
+    {
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return callbacks.size() >= inCount;
+            }
+        });
+    }
+    /**
+     * Records the given value when run.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private class Record
+            implements Runnable
+    {
+        /**
+         * Create a new Record instance.
+         *
+         * @param inValue a <code>String</code> value
+         */
+        private Record(String inValue)
+        {
+            value = inValue;
+        }
+        /* (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run()
+        {
+            callbacks.add(value);
+        }
+        /**
+         * value to record
+         */
+        private final String value;
+    }
+    /**
+     * values recorded by callbacks, in order
+     */
+    private final List<String> callbacks = new CopyOnWriteArrayList<String>();
+    /**
+     * strategy to which callbacks are delivered
+     */
+    private StrategyImpl strategy;
+    /**
+     * queue under test
+     */
+    private CallbackScheduler.CallbackQueue queue;
+}
@@ -0,0 +1,183 @@
+package org.marketcetera.strategy;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.trade.Equity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/* $License$ */
+
+/**
+ * Measures the rate at which {@link StrategyImpl} delivers quotes and trades to a strategy that does nothing with them.
+ *
+ * <p>With no inbox, data is delivered on the calling thread. With an inbox, each invocation sends a burst of events
+ * that fits in the inbox and waits for the inbox thread to deliver all of them. Run with
+ * <code>java -cp &lt;test classpath&gt; org.marketcetera.strategy.StrategyImplBenchmark</code>.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=1)
+@Measurement(iterations=5,time=1)
+@Fork(1)
+public class StrategyImplBenchmark
+{
+    /**
+     * Runs the benchmark.
+     *
+     * @param inArgs a <code>String[]</code> value
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] inArgs)
+            throws RunnerException
+    {
+        new Runner(new OptionsBuilder().include(StrategyImplBenchmark.class.getSimpleName()).build()).run();
+    }
+    /**
+     * Creates the strategy and the events to send to it.
+     *
+     * @throws Exception if the strategy cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setup()
+            throws Exception
+    {
+        Properties parameters = new Properties();
+        if(inboxSize > 0) {
+            parameters.setProperty(Strategy.INBOX_SIZE_PARAMETER,
+                                   String.valueOf(inboxSize));
+        }
+        strategy = new StrategyImpl("benchmark", //$NON-NLS-1$
+                                    "1", //$NON-NLS-1$
+                                    Language.JAVA,
+                                    null,
+                                    parameters,
+                                    null,
+                                    mock(ServicesProvider.class));
+        strategy.setRunningStrategy(runningStrategy);
+        strategy.setStatus(Status.COMPILING);
+        strategy.setStatus(Status.STARTING);
+        strategy.setStatus(Status.RUNNING);
+        strategy.startInbox();
+        Equity equity = new Equity("METC"); //$NON-NLS-1$
+        events = new Object[] { EventTestBase.generateAskEvent(equity),
+                                EventTestBase.generateBidEvent(equity),
+                                EventTestBase.generateTradeEvent(equity),
+                                EventTestBase.generateBidEvent(equity) };
+    }
+    /**
+     * Stops the inbox thread.
+     */
+    @TearDown(Level.Trial)
+    public void teardown()
+    {
+        strategy.stopInbox();
+    }
+    /**
+     * Sends a burst of events and waits for all of them to be delivered.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void dataReceived()
+    {
+        long target = sent + BURST;
+        for(int i=0;i<BURST;i++) {
+            strategy.dataReceived(events[i & 3]);
+        }
+        sent = target;
+        while(runningStrategy.received < target) {
+            Thread.yield();
+        }
+    }
+    /**
+     * Counts the events it receives.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class CountingStrategy
+            extends org.marketcetera.strategy.java.Strategy
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.java.Strategy#onAsk(org.marketcetera.event.AskEvent)
+         */
+        @Override
+        public void onAsk(AskEvent inAsk)
+        {
+            received++;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.java.Strategy#onBid(org.marketcetera.event.BidEvent)
+         */
+        @Override
+        public void onBid(BidEvent inBid)
+        {
+            received++;
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.java.Strategy#onTrade(org.marketcetera.event.TradeEvent)
+         */
+        @Override
+        public void onTrade(TradeEvent inTrade)
+        {
+            received++;
+        }
+        /**
+         * number of events received, written only by the delivering thread
+         */
+        private volatile long received;
+    }
+    /**
+     * size of the strategy inbox, 0 for none
+     */
+    @Param({"0","1024"})
+    public int inboxSize;
+    /**
+     * number of events sent per invocation
+     */
+    private static final int BURST = 1000;
+    /**
+     * receives events
+     */
+    private final CountingStrategy runningStrategy = new CountingStrategy();
+    /**
+     * strategy under test
+     */
+    private StrategyImpl strategy;
+    /**
+     * events to send
+     */
+    private Object[] events;
+    /**
+     * number of events sent
+     */
+    private long sent;
+}
@@ -0,0 +1,447 @@
+package org.marketcetera.strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+import org.marketcetera.client.brokers.BrokerStatus;
+import org.marketcetera.event.AskEvent;
+import org.marketcetera.event.BidEvent;
+import org.marketcetera.event.DividendEvent;
+import org.marketcetera.event.EventTestBase;
+import org.marketcetera.event.MarketstatEvent;
+import org.marketcetera.event.TradeEvent;
+import org.marketcetera.marketdata.MarketDataFeedTestBase;
+import org.marketcetera.trade.Equity;
+import org.marketcetera.trade.ExecutionReport;
+import org.marketcetera.trade.OrderCancelReject;
+import org.marketcetera.util.log.I18NBoundMessage2P;
+
+/* $License$ */
+
+/**
+ * Tests how {@link StrategyImpl} delivers data to the running strategy.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+public class StrategyImplTest
+{
+    /**
+     * Stops the inbox of the strategy under test, if any.
+     */
+    @After
+    public void cleanup()
+    {
+        if(strategy != null) {
+            strategy.stopInbox();
+        }
+    }
+    /**
+     * Tests that data is delivered to the strategy method for its type.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testDispatch()
+            throws Exception
+    {
+        RecordingStrategy runningStrategy = new RecordingStrategy();
+        strategy = createStrategy(null,
+                                  runningStrategy);
+        strategy.dataReceived(ask);
+        strategy.dataReceived(bid);
+        strategy.dataReceived(trade);
+        strategy.dataReceived("other"); //$NON-NLS-1$
+        strategy.dataReceived(null);
+        strategy.dataReceived(ask);
+        assertEquals(Arrays.<Object>asList("onAsk",ask,"onBid",bid,"onTrade",trade,"onOther","other","onOther",null,"onAsk",ask), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+                     runningStrategy.calls);
+    }
+    /**
+     * Tests that a callback delivered to a strategy without an inbox waits for data being delivered on another thread.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testCallbackWaitsForData()
+            throws Exception
+    {
+        final RecordingStrategy runningStrategy = new RecordingStrategy();
+        runningStrategy.block = new CountDownLatch(1);
+        strategy = createStrategy(null,
+                                  runningStrategy);
+        Thread dataThread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                strategy.dataReceived(ask);
+            }
+        });
+        dataThread.start();
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 2;
+            }
+        });
+        Thread callbackThread = new Thread(new Runnable() {
+            @Override
+            public void run()
+            {
+                strategy.callbackReceived(new Runnable() {
+                    @Override
+                    public void run()
+                    {
+                        runningStrategy.calls.add("callback"); //$NON-NLS-1$
+                    }
+                });
+            }
+        });
+        callbackThread.start();
+        Thread.sleep(100);
+        assertEquals(2,
+                     runningStrategy.calls.size());
+        runningStrategy.block.countDown();
+        callbackThread.join(5000);
+        dataThread.join(5000);
+        assertEquals(Arrays.<Object>asList("onAsk",ask,"callback"), //$NON-NLS-1$ //$NON-NLS-2$
+                     runningStrategy.calls);
+    }
+    /**
+     * Tests that data is delivered in order from the inbox and that market data is discarded when the inbox is full.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testInbox()
+            throws Exception
+    {
+        final RecordingStrategy runningStrategy = new RecordingStrategy();
+        runningStrategy.block = new CountDownLatch(1);
+        strategy = createStrategy("2", //$NON-NLS-1$
+                                  runningStrategy);
+        strategy.startInbox();
+        // the inbox thread takes the first event and waits in onAsk
+        strategy.dataReceived(ask);
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 2;
+            }
+        });
+        // these fill the inbox
+        strategy.dataReceived(bid);
+        strategy.dataReceived("other"); //$NON-NLS-1$
+        // this is discarded
+        strategy.dataReceived(trade);
+        runningStrategy.block.countDown();
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 6;
+            }
+        });
+        strategy.dataReceived(trade);
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 8;
+            }
+        });
+        assertEquals(Arrays.<Object>asList("onAsk",ask,"onBid",bid,"onOther","other","onTrade",trade), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+                     runningStrategy.calls);
+    }
+    /**
+     * Tests that stopping the inbox waits for the inbox thread to finish delivering data.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testStopInbox()
+            throws Exception
+    {
+        final RecordingStrategy runningStrategy = new RecordingStrategy();
+        runningStrategy.block = new CountDownLatch(1);
+        strategy = createStrategy("2", //$NON-NLS-1$
+                                  runningStrategy);
+        strategy.startInbox();
+        strategy.dataReceived(ask);
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 2;
+            }
+        });
+        strategy.stopInbox();
+        assertFalse(runningStrategy.thread.isAlive());
+    }
+    /**
+     * Tests that the inbox thread keeps delivering data after a strategy method throws an <code>Error</code>.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testInboxError()
+            throws Exception
+    {
+        final RecordingStrategy runningStrategy = new RecordingStrategy();
+        runningStrategy.error = new Error("test"); //$NON-NLS-1$
+        strategy = createStrategy("2", //$NON-NLS-1$
+                                  runningStrategy);
+        strategy.startInbox();
+        strategy.dataReceived(bid);
+        ExecutionReport report = mock(ExecutionReport.class);
+        strategy.dataReceived(report);
+        MarketDataFeedTestBase.wait(new Callable<Boolean>() {
+            @Override
+            public Boolean call()
+                    throws Exception
+            {
+                return runningStrategy.calls.size() == 4;
+            }
+        });
+        assertEquals(Arrays.<Object>asList("onBid",bid,"onExecutionReport",report), //$NON-NLS-1$ //$NON-NLS-2$
+                     runningStrategy.calls);
+    }
+    /**
+     * Tests that an inbox size that is not a positive whole number is rejected.
+     *
+     * @throws Exception if an unexpected error occurs
+     */
+    @Test
+    public void testInvalidInboxSize()
+            throws Exception
+    {
+        for(String inboxSize : new String[] { "", "x", "0", "-1" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+            try {
+                createStrategy(inboxSize,
+                               new RecordingStrategy());
+                fail(inboxSize);
+            } catch (StrategyException e) {
+                assertEquals(new I18NBoundMessage2P(Messages.INVALID_INBOX_SIZE,
+                                                    "test", //$NON-NLS-1$
+                                                    inboxSize),
+                             e.getI18NBoundMessage());
+            }
+        }
+    }
+    /**
+     * Creates a running strategy with the given inbox size.
+     *
+     * @param inInboxSize a <code>String</code> value or <code>null</code> for no inbox
+     * @param inRunningStrategy a <code>RunningStrategy</code> value
+     * @return a <code>StrategyImpl</code> value
+     * @throws Exception if the strategy cannot be created
+     */
+    private StrategyImpl createStrategy(String inInboxSize,
+                                        RunningStrategy inRunningStrategy)
+            throws Exception
+    {
+        Properties parameters = new Properties();
+        if(inInboxSize != null) {
+            parameters.setProperty(Strategy.INBOX_SIZE_PARAMETER,
+                                   inInboxSize);
+        }
+        StrategyImpl strategy = new StrategyImpl("test", //$NON-NLS-1$
+                                                 "1", //$NON-NLS-1$
+                                                 Language.JAVA,
+                                                 null,
+                                                 parameters,
+                                                 null,
+                                                 mock(ServicesProvider.class));
+        strategy.setRunningStrategy(inRunningStrategy);
+        strategy.setStatus(Status.COMPILING);
+        strategy.setStatus(Status.STARTING);
+        strategy.setStatus(Status.RUNNING);
+        return strategy;
+    }
+    /**
+     * Records the strategy methods invoked and the data passed to them.
+     *
+     * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+     * @version $Id$
+     * @since 3.2.1
+     */
+    private static class RecordingStrategy
+            implements RunningStrategy
+    {
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onAsk(org.marketcetera.event.AskEvent)
+         */
+        @Override
+        public void onAsk(AskEvent inAsk)
+        {
+            record("onAsk", //$NON-NLS-1$
+                   inAsk);
+            if(block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onBid(org.marketcetera.event.BidEvent)
+         */
+        @Override
+        public void onBid(BidEvent inBid)
+        {
+            record("onBid", //$NON-NLS-1$
+                   inBid);
+            if(error != null) {
+                throw error;
+            }
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onTrade(org.marketcetera.event.TradeEvent)
+         */
+        @Override
+        public void onTrade(TradeEvent inTrade)
+        {
+            record("onTrade", //$NON-NLS-1$
+                   inTrade);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onExecutionReport(org.marketcetera.trade.ExecutionReport)
+         */
+        @Override
+        public void onExecutionReport(ExecutionReport inExecutionReport)
+        {
+            record("onExecutionReport", //$NON-NLS-1$
+                   inExecutionReport);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onOther(java.lang.Object)
+         */
+        @Override
+        public void onOther(Object inEvent)
+        {
+            record("onOther", //$NON-NLS-1$
+                   inEvent);
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onMarketstat(org.marketcetera.event.MarketstatEvent)
+         */
+        @Override
+        public void onMarketstat(MarketstatEvent inStatistics)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onDividend(org.marketcetera.event.DividendEvent)
+         */
+        @Override
+        public void onDividend(DividendEvent inDividend)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onCancelReject(org.marketcetera.trade.OrderCancelReject)
+         */
+        @Override
+        public void onCancelReject(OrderCancelReject inCancelReject)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onReceiveBrokerStatus(org.marketcetera.client.brokers.BrokerStatus)
+         */
+        @Override
+        public void onReceiveBrokerStatus(BrokerStatus inStatus)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.client.BrokerStatusListener#receiveBrokerStatus(org.marketcetera.client.brokers.BrokerStatus)
+         */
+        @Override
+        public void receiveBrokerStatus(BrokerStatus inStatus)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onCallback(java.lang.Object)
+         */
+        @Override
+        public void onCallback(Object inData)
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onStart()
+         */
+        @Override
+        public void onStart()
+        {
+        }
+        /* (non-Javadoc)
+         * @see org.marketcetera.strategy.RunningStrategy#onStop()
+         */
+        @Override
+        public void onStop()
+        {
+        }
+        /**
+         * Records a call.
+         *
+         * @param inMethod a <code>String</code> value
+         * @param inData an <code>Object</code> value
+         */
+        private void record(String inMethod,
+                            Object inData)
+        {
+            thread = Thread.currentThread();
+            calls.add(inMethod);
+            calls.add(inData);
+        }
+        /**
+         * methods invoked, each followed by the data passed to it
+         */
+        private final List<Object> calls = new CopyOnWriteArrayList<Object>();
+        /**
+         * if not <code>null</code>, <code>onAsk</code> waits for this latch
+         */
+        private volatile CountDownLatch block;
+        /**
+         * if not <code>null</code>, <code>onBid</code> throws this error
+         */
+        private volatile Error error;
+        /**
+         * thread on which the last call was made
+         */
+        private volatile Thread thread;
+    }
+    /**
+     * test ask event
+     */
+    private final AskEvent ask = EventTestBase.generateAskEvent(new Equity("METC")); //$NON-NLS-1$
+    /**
+     * test bid event
+     */
+    private final BidEvent bid = EventTestBase.generateBidEvent(new Equity("METC")); //$NON-NLS-1$
+    /**
+     * test trade event
+     */
+    private final TradeEvent trade = EventTestBase.generateTradeEvent(new Equity("METC")); //$NON-NLS-1$
+    /**
+     * strategy under test
+     */
+    private StrategyImpl strategy;
+}
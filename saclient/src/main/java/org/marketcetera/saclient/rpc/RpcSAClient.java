@@ -95,6 +95,15 @@ public final class RpcSAClient {
      */
     com.google.protobuf.ByteString
         getPasswordBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginRequest}
@@ -191,6 +200,17 @@ public final class RpcSAClient {
               password_ = bs;
               break;
             }
+            case 56: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(7, rawValue);
+              } else {
+                bitField0_ |= 0x00000040;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -462,6 +482,21 @@ public final class RpcSAClient {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 7;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       appId_ = "";
       clientId_ = "";
@@ -469,6 +504,7 @@ public final class RpcSAClient {
       versionId_ = "";
       username_ = "";
       password_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -529,6 +565,9 @@ public final class RpcSAClient {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeBytes(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeEnum(7, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -562,6 +601,10 @@ public final class RpcSAClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(6, getPasswordBytes());
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(7, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -696,6 +739,8 @@ public final class RpcSAClient {
         bitField0_ = (bitField0_ & ~0x00000010);
         password_ = "";
         bitField0_ = (bitField0_ & ~0x00000020);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -752,6 +797,10 @@ public final class RpcSAClient {
           to_bitField0_ |= 0x00000020;
         }
         result.password_ = password_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -796,6 +845,9 @@ public final class RpcSAClient {
           password_ = other.password_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1347,6 +1399,41 @@ public final class RpcSAClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000040;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 7;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginRequest)
     }
 
@@ -2181,6 +2268,15 @@ public final class RpcSAClient {
      */
     com.google.protobuf.ByteString
         getSessionIdBytes();
+
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    boolean hasPayloadFormat();
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat();
   }
   /**
    * Protobuf type {@code LoginResponse}
@@ -2240,6 +2336,17 @@ public final class RpcSAClient {
               sessionId_ = bs;
               break;
             }
+            case 16: {
+              int rawValue = input.readEnum();
+              org.marketcetera.rpc.PayloadRpc.PayloadFormat value = org.marketcetera.rpc.PayloadRpc.PayloadFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                payloadFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2322,8 +2429,24 @@ public final class RpcSAClient {
       }
     }
 
+    public static final int PAYLOADFORMAT_FIELD_NUMBER = 2;
+    private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_;
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    public boolean hasPayloadFormat() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+      return payloadFormat_;
+    }
+
     private void initFields() {
       sessionId_ = "";
+      payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2345,6 +2468,9 @@ public final class RpcSAClient {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getSessionIdBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, payloadFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2358,6 +2484,10 @@ public final class RpcSAClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, getSessionIdBytes());
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, payloadFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2477,6 +2607,8 @@ public final class RpcSAClient {
         super.clear();
         sessionId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -2509,6 +2641,10 @@ public final class RpcSAClient {
           to_bitField0_ |= 0x00000001;
         }
         result.sessionId_ = sessionId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.payloadFormat_ = payloadFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2530,6 +2666,9 @@ public final class RpcSAClient {
           sessionId_ = other.sessionId_;
           onChanged();
         }
+        if (other.hasPayloadFormat()) {
+          setPayloadFormat(other.getPayloadFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2637,6 +2776,41 @@ public final class RpcSAClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.PayloadFormat payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public boolean hasPayloadFormat() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadFormat getPayloadFormat() {
+        return payloadFormat_;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public Builder setPayloadFormat(org.marketcetera.rpc.PayloadRpc.PayloadFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        payloadFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .payload.PayloadFormat payloadFormat = 2;</code>
+       */
+      public Builder clearPayloadFormat() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        payloadFormat_ = org.marketcetera.rpc.PayloadRpc.PayloadFormat.XML;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:LoginResponse)
     }
 
@@ -17155,18 +17329,31 @@ public final class RpcSAClient {
         getSessionIdBytes();
 
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     boolean hasPayload();
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     java.lang.String getPayload();
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     com.google.protobuf.ByteString
         getPayloadBytes();
+
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    boolean hasData();
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.Payload getData();
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder getDataOrBuilder();
   }
   /**
    * Protobuf type {@code SendDataRequest}
@@ -17232,6 +17419,19 @@ public final class RpcSAClient {
               payload_ = bs;
               break;
             }
+            case 26: {
+              org.marketcetera.rpc.PayloadRpc.Payload.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = data_.toBuilder();
+              }
+              data_ = input.readMessage(org.marketcetera.rpc.PayloadRpc.Payload.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(data_);
+                data_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -17317,13 +17517,13 @@ public final class RpcSAClient {
     public static final int PAYLOAD_FIELD_NUMBER = 2;
     private java.lang.Object payload_;
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     public boolean hasPayload() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     public java.lang.String getPayload() {
       java.lang.Object ref = payload_;
@@ -17340,7 +17540,7 @@ public final class RpcSAClient {
       }
     }
     /**
-     * <code>required string payload = 2;</code>
+     * <code>optional string payload = 2;</code>
      */
     public com.google.protobuf.ByteString
         getPayloadBytes() {
@@ -17356,9 +17556,31 @@ public final class RpcSAClient {
       }
     }
 
+    public static final int DATA_FIELD_NUMBER = 3;
+    private org.marketcetera.rpc.PayloadRpc.Payload data_;
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    public boolean hasData() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.Payload getData() {
+      return data_;
+    }
+    /**
+     * <code>optional .payload.Payload data = 3;</code>
+     */
+    public org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder getDataOrBuilder() {
+      return data_;
+    }
+
     private void initFields() {
       sessionId_ = "";
       payload_ = "";
+      data_ = org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -17370,10 +17592,6 @@ public final class RpcSAClient {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasPayload()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -17387,6 +17605,9 @@ public final class RpcSAClient {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, data_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -17404,6 +17625,10 @@ public final class RpcSAClient {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, getPayloadBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, data_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -17513,6 +17738,7 @@ public final class RpcSAClient {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getDataFieldBuilder();
         }
       }
       private static Builder create() {
@@ -17525,6 +17751,12 @@ public final class RpcSAClient {
         bitField0_ = (bitField0_ & ~0x00000001);
         payload_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        if (dataBuilder_ == null) {
+          data_ = org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance();
+        } else {
+          dataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -17561,6 +17793,14 @@ public final class RpcSAClient {
           to_bitField0_ |= 0x00000002;
         }
         result.payload_ = payload_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (dataBuilder_ == null) {
+          result.data_ = data_;
+        } else {
+          result.data_ = dataBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -17587,6 +17827,9 @@ public final class RpcSAClient {
           payload_ = other.payload_;
           onChanged();
         }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -17596,10 +17839,6 @@ public final class RpcSAClient {
           
           return false;
         }
-        if (!hasPayload()) {
-          
-          return false;
-        }
         return true;
       }
 
@@ -17700,13 +17939,13 @@ public final class RpcSAClient {
 
       private java.lang.Object payload_ = "";
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public boolean hasPayload() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public java.lang.String getPayload() {
         java.lang.Object ref = payload_;
@@ -17723,7 +17962,7 @@ public final class RpcSAClient {
         }
       }
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public com.google.protobuf.ByteString
           getPayloadBytes() {
@@ -17739,7 +17978,7 @@ public final class RpcSAClient {
         }
       }
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public Builder setPayload(
           java.lang.String value) {
@@ -17752,7 +17991,7 @@ public final class RpcSAClient {
         return this;
       }
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public Builder clearPayload() {
         bitField0_ = (bitField0_ & ~0x00000002);
@@ -17761,7 +18000,7 @@ public final class RpcSAClient {
         return this;
       }
       /**
-       * <code>required string payload = 2;</code>
+       * <code>optional string payload = 2;</code>
        */
       public Builder setPayloadBytes(
           com.google.protobuf.ByteString value) {
@@ -17774,6 +18013,122 @@ public final class RpcSAClient {
         return this;
       }
 
+      private org.marketcetera.rpc.PayloadRpc.Payload data_ = org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Payload, org.marketcetera.rpc.PayloadRpc.Payload.Builder, org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder> dataBuilder_;
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Payload getData() {
+        if (dataBuilder_ == null) {
+          return data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public Builder setData(org.marketcetera.rpc.PayloadRpc.Payload value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public Builder setData(
+          org.marketcetera.rpc.PayloadRpc.Payload.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+          onChanged();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public Builder mergeData(org.marketcetera.rpc.PayloadRpc.Payload value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              data_ != org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance()) {
+            data_ =
+              org.marketcetera.rpc.PayloadRpc.Payload.newBuilder(data_).mergeFrom(value).buildPartial();
+          } else {
+            data_ = value;
+          }
+          onChanged();
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public Builder clearData() {
+        if (dataBuilder_ == null) {
+          data_ = org.marketcetera.rpc.PayloadRpc.Payload.getDefaultInstance();
+          onChanged();
+        } else {
+          dataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.Payload.Builder getDataBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      public org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_;
+        }
+      }
+      /**
+       * <code>optional .payload.Payload data = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.marketcetera.rpc.PayloadRpc.Payload, org.marketcetera.rpc.PayloadRpc.Payload.Builder, org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.marketcetera.rpc.PayloadRpc.Payload, org.marketcetera.rpc.PayloadRpc.Payload.Builder, org.marketcetera.rpc.PayloadRpc.PayloadOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+
       // @@protoc_insertion_point(builder_scope:SendDataRequest)
     }
 
@@ -21253,73 +21608,77 @@ public final class RpcSAClient {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\014rpc_sa.proto\"\177\n\014LoginRequest\022\r\n\005appId\030" +
-      "\001 \002(\t\022\020\n\010clientId\030\002 \002(\t\022\027\n\006locale\030\003 \002(\0132" +
-      "\007.Locale\022\021\n\tversionId\030\004 \002(\t\022\020\n\010username\030" +
-      "\005 \002(\t\022\020\n\010password\030\006 \002(\t\"<\n\006Locale\022\017\n\007cou" +
-      "ntry\030\001 \002(\t\022\020\n\010language\030\002 \002(\t\022\017\n\007variant\030" +
-      "\003 \001(\t\"\"\n\rLoginResponse\022\021\n\tsessionId\030\001 \002(" +
-      "\t\"\"\n\rLogoutRequest\022\021\n\tsessionId\030\001 \002(\t\" \n" +
-      "\016LogoutResponse\022\016\n\006status\030\001 \002(\010\"\036\n\020Heart" +
-      "beatRequest\022\n\n\002id\030\001 \002(\003\"\037\n\021HeartbeatResp" +
-      "onse\022\n\n\002id\030\001 \002(\003\"\032\n\tModuleURN\022\r\n\005value\030\001",
-      " \002(\t\"\035\n\nModuleInfo\022\017\n\007payload\030\001 \002(\t\"%\n\020P" +
-      "rovidersRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\021Pr" +
-      "ovidersResponse\022\034\n\010provider\030\001 \003(\0132\n.Modu" +
-      "leURN\"C\n\020InstancesRequest\022\021\n\tsessionId\030\001" +
-      " \002(\t\022\034\n\010provider\030\002 \002(\0132\n.ModuleURN\"1\n\021In" +
-      "stancesResponse\022\034\n\010instance\030\001 \003(\0132\n.Modu" +
-      "leURN\"D\n\021ModuleInfoRequest\022\021\n\tsessionId\030" +
-      "\001 \002(\t\022\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"/\n\022M" +
-      "oduleInfoResponse\022\031\n\004info\030\001 \001(\0132\013.Module" +
-      "Info\"?\n\014StartRequest\022\021\n\tsessionId\030\001 \002(\t\022",
-      "\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"\017\n\rStartRe" +
-      "sponse\">\n\013StopRequest\022\021\n\tsessionId\030\001 \002(\t" +
-      "\022\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"\016\n\014StopRe" +
-      "sponse\"@\n\rDeleteRequest\022\021\n\tsessionId\030\001 \002" +
-      "(\t\022\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"\020\n\016Dele" +
-      "teResponse\"G\n\024GetPropertiesRequest\022\021\n\tse" +
-      "ssionId\030\001 \002(\t\022\034\n\010instance\030\002 \002(\0132\n.Module" +
-      "URN\"8\n\025GetPropertiesResponse\022\037\n\nproperti" +
-      "es\030\001 \002(\0132\013.Properties\"h\n\024SetPropertiesRe" +
-      "quest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010instance\030\002 \002",
-      "(\0132\n.ModuleURN\022\037\n\nproperties\030\004 \002(\0132\013.Pro" +
-      "perties\"8\n\025SetPropertiesResponse\022\037\n\nprop" +
-      "erties\030\001 \002(\0132\013.Properties\"g\n\025CreateStrat" +
-      "egyRequest\022\021\n\tsessionId\030\001 \002(\t\022;\n\030createS" +
-      "trategyParameters\030\002 \002(\0132\031.CreateStrategy" +
-      "Parameters\"6\n\026CreateStrategyResponse\022\034\n\010" +
-      "instance\030\001 \002(\0132\n.ModuleURN\"M\n\032StrategyCr" +
-      "eateParmsRequest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010i" +
-      "nstance\030\002 \002(\0132\n.ModuleURN\"Z\n\033StrategyCre" +
-      "ateParmsResponse\022;\n\030createStrategyParame",
-      "ters\030\001 \002(\0132\031.CreateStrategyParameters\"5\n" +
-      "\017SendDataRequest\022\021\n\tsessionId\030\001 \002(\t\022\017\n\007p" +
-      "ayload\030\002 \002(\t\"\022\n\020SendDataResponse\"#\n\nProp" +
-      "erties\022\025\n\005entry\030\001 \003(\0132\006.Entry\"#\n\005Entry\022\013" +
-      "\n\003key\030\001 \002(\t\022\r\n\005value\030\002 \002(\t\"+\n\030CreateStra" +
-      "tegyParameters\022\017\n\007payload\030\001 \002(\t2\204\006\n\022RpcS" +
-      "AClientService\022&\n\005login\022\r.LoginRequest\032\016" +
-      ".LoginResponse\022)\n\006logout\022\016.LogoutRequest" +
-      "\032\017.LogoutResponse\0222\n\theartbeat\022\021.Heartbe" +
-      "atRequest\032\022.HeartbeatResponse\0225\n\014getProv",
-      "iders\022\021.ProvidersRequest\032\022.ProvidersResp" +
-      "onse\0225\n\014getInstances\022\021.InstancesRequest\032" +
-      "\022.InstancesResponse\0228\n\rgetModuleInfo\022\022.M" +
-      "oduleInfoRequest\032\023.ModuleInfoResponse\022&\n" +
-      "\005start\022\r.StartRequest\032\016.StartResponse\022#\n" +
-      "\004stop\022\014.StopRequest\032\r.StopResponse\022)\n\006de" +
-      "lete\022\016.DeleteRequest\032\017.DeleteResponse\022>\n" +
-      "\rgetProperties\022\025.GetPropertiesRequest\032\026." +
-      "GetPropertiesResponse\022>\n\rsetProperties\022\025" +
-      ".SetPropertiesRequest\032\026.SetPropertiesRes",
-      "ponse\022A\n\016createStrategy\022\026.CreateStrategy" +
-      "Request\032\027.CreateStrategyResponse\022S\n\026getS" +
-      "trategyCreateParms\022\033.StrategyCreateParms" +
-      "Request\032\034.StrategyCreateParmsResponse\022/\n" +
-      "\010sendData\022\020.SendDataRequest\032\021.SendDataRe" +
-      "sponseB/\n\035org.marketcetera.saclient.rpcB" +
-      "\013RpcSAClient\210\001\001"
+      "\n\014rpc_sa.proto\032\021rpc_payload.proto\"\256\001\n\014Lo" +
+      "ginRequest\022\r\n\005appId\030\001 \002(\t\022\020\n\010clientId\030\002 " +
+      "\002(\t\022\027\n\006locale\030\003 \002(\0132\007.Locale\022\021\n\tversionI" +
+      "d\030\004 \002(\t\022\020\n\010username\030\005 \002(\t\022\020\n\010password\030\006 " +
+      "\002(\t\022-\n\rpayloadFormat\030\007 \001(\0162\026.payload.Pay" +
+      "loadFormat\"<\n\006Locale\022\017\n\007country\030\001 \002(\t\022\020\n" +
+      "\010language\030\002 \002(\t\022\017\n\007variant\030\003 \001(\t\"Q\n\rLogi" +
+      "nResponse\022\021\n\tsessionId\030\001 \002(\t\022-\n\rpayloadF" +
+      "ormat\030\002 \001(\0162\026.payload.PayloadFormat\"\"\n\rL" +
+      "ogoutRequest\022\021\n\tsessionId\030\001 \002(\t\" \n\016Logou",
+      "tResponse\022\016\n\006status\030\001 \002(\010\"\036\n\020HeartbeatRe" +
+      "quest\022\n\n\002id\030\001 \002(\003\"\037\n\021HeartbeatResponse\022\n" +
+      "\n\002id\030\001 \002(\003\"\032\n\tModuleURN\022\r\n\005value\030\001 \002(\t\"\035" +
+      "\n\nModuleInfo\022\017\n\007payload\030\001 \002(\t\"%\n\020Provide" +
+      "rsRequest\022\021\n\tsessionId\030\001 \002(\t\"1\n\021Provider" +
+      "sResponse\022\034\n\010provider\030\001 \003(\0132\n.ModuleURN\"" +
+      "C\n\020InstancesRequest\022\021\n\tsessionId\030\001 \002(\t\022\034" +
+      "\n\010provider\030\002 \002(\0132\n.ModuleURN\"1\n\021Instance" +
+      "sResponse\022\034\n\010instance\030\001 \003(\0132\n.ModuleURN\"" +
+      "D\n\021ModuleInfoRequest\022\021\n\tsessionId\030\001 \002(\t\022",
+      "\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"/\n\022ModuleI" +
+      "nfoResponse\022\031\n\004info\030\001 \001(\0132\013.ModuleInfo\"?" +
+      "\n\014StartRequest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010ins" +
+      "tance\030\002 \002(\0132\n.ModuleURN\"\017\n\rStartResponse" +
+      "\">\n\013StopRequest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010in" +
+      "stance\030\002 \002(\0132\n.ModuleURN\"\016\n\014StopResponse" +
+      "\"@\n\rDeleteRequest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010" +
+      "instance\030\002 \002(\0132\n.ModuleURN\"\020\n\016DeleteResp" +
+      "onse\"G\n\024GetPropertiesRequest\022\021\n\tsessionI" +
+      "d\030\001 \002(\t\022\034\n\010instance\030\002 \002(\0132\n.ModuleURN\"8\n",
+      "\025GetPropertiesResponse\022\037\n\nproperties\030\001 \002" +
+      "(\0132\013.Properties\"h\n\024SetPropertiesRequest\022" +
+      "\021\n\tsessionId\030\001 \002(\t\022\034\n\010instance\030\002 \002(\0132\n.M" +
+      "oduleURN\022\037\n\nproperties\030\004 \002(\0132\013.Propertie" +
+      "s\"8\n\025SetPropertiesResponse\022\037\n\nproperties" +
+      "\030\001 \002(\0132\013.Properties\"g\n\025CreateStrategyReq" +
+      "uest\022\021\n\tsessionId\030\001 \002(\t\022;\n\030createStrateg" +
+      "yParameters\030\002 \002(\0132\031.CreateStrategyParame" +
+      "ters\"6\n\026CreateStrategyResponse\022\034\n\010instan" +
+      "ce\030\001 \002(\0132\n.ModuleURN\"M\n\032StrategyCreatePa",
+      "rmsRequest\022\021\n\tsessionId\030\001 \002(\t\022\034\n\010instanc" +
+      "e\030\002 \002(\0132\n.ModuleURN\"Z\n\033StrategyCreatePar" +
+      "msResponse\022;\n\030createStrategyParameters\030\001" +
+      " \002(\0132\031.CreateStrategyParameters\"U\n\017SendD" +
+      "ataRequest\022\021\n\tsessionId\030\001 \002(\t\022\017\n\007payload" +
+      "\030\002 \001(\t\022\036\n\004data\030\003 \001(\0132\020.payload.Payload\"\022" +
+      "\n\020SendDataResponse\"#\n\nProperties\022\025\n\005entr" +
+      "y\030\001 \003(\0132\006.Entry\"#\n\005Entry\022\013\n\003key\030\001 \002(\t\022\r\n" +
+      "\005value\030\002 \002(\t\"+\n\030CreateStrategyParameters" +
+      "\022\017\n\007payload\030\001 \002(\t2\204\006\n\022RpcSAClientService",
+      "\022&\n\005login\022\r.LoginRequest\032\016.LoginResponse" +
+      "\022)\n\006logout\022\016.LogoutRequest\032\017.LogoutRespo" +
+      "nse\0222\n\theartbeat\022\021.HeartbeatRequest\032\022.He" +
+      "artbeatResponse\0225\n\014getProviders\022\021.Provid" +
+      "ersRequest\032\022.ProvidersResponse\0225\n\014getIns" +
+      "tances\022\021.InstancesRequest\032\022.InstancesRes" +
+      "ponse\0228\n\rgetModuleInfo\022\022.ModuleInfoReque" +
+      "st\032\023.ModuleInfoResponse\022&\n\005start\022\r.Start" +
+      "Request\032\016.StartResponse\022#\n\004stop\022\014.StopRe" +
+      "quest\032\r.StopResponse\022)\n\006delete\022\016.DeleteR",
+      "equest\032\017.DeleteResponse\022>\n\rgetProperties" +
+      "\022\025.GetPropertiesRequest\032\026.GetPropertiesR" +
+      "esponse\022>\n\rsetProperties\022\025.SetProperties" +
+      "Request\032\026.SetPropertiesResponse\022A\n\016creat" +
+      "eStrategy\022\026.CreateStrategyRequest\032\027.Crea" +
+      "teStrategyResponse\022S\n\026getStrategyCreateP" +
+      "arms\022\033.StrategyCreateParmsRequest\032\034.Stra" +
+      "tegyCreateParmsResponse\022/\n\010sendData\022\020.Se" +
+      "ndDataRequest\032\021.SendDataResponseB/\n\035org." +
+      "marketcetera.saclient.rpcB\013RpcSAClient\210\001",
+      "\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -21332,13 +21691,14 @@ public final class RpcSAClient {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.marketcetera.rpc.PayloadRpc.getDescriptor(),
         }, assigner);
     internal_static_LoginRequest_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_LoginRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginRequest_descriptor,
-        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", });
+        new java.lang.String[] { "AppId", "ClientId", "Locale", "VersionId", "Username", "Password", "PayloadFormat", });
     internal_static_Locale_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Locale_fieldAccessorTable = new
@@ -21350,7 +21710,7 @@ public final class RpcSAClient {
     internal_static_LoginResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_LoginResponse_descriptor,
-        new java.lang.String[] { "SessionId", });
+        new java.lang.String[] { "SessionId", "PayloadFormat", });
     internal_static_LogoutRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_LogoutRequest_fieldAccessorTable = new
@@ -21512,7 +21872,7 @@ public final class RpcSAClient {
     internal_static_SendDataRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SendDataRequest_descriptor,
-        new java.lang.String[] { "SessionId", "Payload", });
+        new java.lang.String[] { "SessionId", "Payload", "Data", });
     internal_static_SendDataResponse_descriptor =
       getDescriptor().getMessageTypes().get(30);
     internal_static_SendDataResponse_fieldAccessorTable = new
@@ -21537,6 +21897,7 @@ public final class RpcSAClient {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_CreateStrategyParameters_descriptor,
         new java.lang.String[] { "Payload", });
+    org.marketcetera.rpc.PayloadRpc.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -22,6 +22,8 @@ import javax.xml.bind.Unmarshaller;
 import org.marketcetera.core.CloseableLock;
 import org.marketcetera.module.ModuleInfo;
 import org.marketcetera.module.ModuleURN;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.saclient.AbstractSAClient;
 import org.marketcetera.saclient.ConnectionException;
 import org.marketcetera.saclient.CreateStrategyParameters;
@@ -299,10 +301,19 @@ public class RpcSAClientImpl
     {
         failIfDisconnected();
         try {
-            // note that inData must be JAXB marshallable
+            RpcSAClient.SendDataRequest.Builder requestBuilder = RpcSAClient.SendDataRequest.newBuilder().setSessionId(sessionId.getValue());
+            PayloadRpc.Payload rpcPayload = null;
+            if(payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                rpcPayload = PayloadRpcUtil.getRpcPayload(inData);
+            }
+            if(rpcPayload == null) {
+                // note that inData must be JAXB marshallable
+                requestBuilder.setPayload(marshal(new XmlValue(inData)));
+            } else {
+                requestBuilder.setData(rpcPayload);
+            }
             clientService.sendData(controller,
-                                   RpcSAClient.SendDataRequest.newBuilder().setSessionId(sessionId.getValue())
-                                       .setPayload(marshal(new XmlValue(inData))).build());
+                                   requestBuilder.build());
             return;
         } catch (ServiceException | JAXBException e) {
             throw wrapRemoteFailure(e);
@@ -412,10 +423,12 @@ public class RpcSAClientImpl
                                .setLanguage(currentLocale.getLanguage()==null?"":currentLocale.getLanguage()) //$NON-NLS-1$
                                .setVariant(currentLocale.getVariant()==null?"":currentLocale.getVariant()).build()) //$NON-NLS-1$
                                .setUsername(parameters.getUsername())
-                               .setPassword(new String(parameters.getPassword())).build();
+                               .setPassword(new String(parameters.getPassword()))
+                               .setPayloadFormat(PayloadRpc.PayloadFormat.PROTOBUF).build();
             LoginResponse loginResponse = clientService.login(controller,
                                                               loginRequest);
             sessionId = new SessionId(loginResponse.getSessionId());
+            payloadFormat = loginResponse.getPayloadFormat();
             connectionStatusChanged(isRunning(),
                                     true);
         }
@@ -447,6 +460,7 @@ public class RpcSAClientImpl
             clientService = null;
             channel = null;
             sessionId = null;
+            payloadFormat = PayloadRpc.PayloadFormat.XML;
             running.set(false);
         }
     }
@@ -568,6 +582,10 @@ public class RpcSAClientImpl
      * session ID value for this connection, may be <code>null</code> if the connection is inactive
      */
     private SessionId sessionId;
+    /**
+     * payload format agreed with the server at login
+     */
+    private volatile PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.XML;
     /**
      * indicates that a shutdown has been requested
      */
@@ -8,6 +8,8 @@ import javax.xml.bind.JAXBException;
 
 import org.marketcetera.module.ModuleInfo;
 import org.marketcetera.module.ModuleURN;
+import org.marketcetera.rpc.PayloadRpc;
+import org.marketcetera.rpc.PayloadRpcUtil;
 import org.marketcetera.saclient.CreateStrategyParameters;
 import org.marketcetera.saclient.rpc.RpcSAClient.CreateStrategyRequest;
 import org.marketcetera.saclient.rpc.RpcSAClient.CreateStrategyResponse;
@@ -84,7 +86,11 @@ public class SAClientRpcService<SessionClazz>
                                                                           new Locale(inRequest.getLocale().getLanguage(),
                                                                                      inRequest.getLocale().getCountry(),
                                                                                      inRequest.getLocale().getVariant())));
-            return LoginResponse.newBuilder().setSessionId(sessionId.getValue()).build();
+            PayloadRpc.PayloadFormat sessionPayloadFormat = PayloadRpc.PayloadFormat.XML;
+            if(inRequest.getPayloadFormat() == PayloadRpc.PayloadFormat.PROTOBUF && payloadFormat == PayloadRpc.PayloadFormat.PROTOBUF) {
+                sessionPayloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
+            }
+            return LoginResponse.newBuilder().setSessionId(sessionId.getValue()).setPayloadFormat(sessionPayloadFormat).build();
         } catch (Exception e) {
             throw new ServiceException(e);
         }
@@ -415,10 +421,15 @@ public class SAClientRpcService<SessionClazz>
             throws ServiceException
     {
         serverServices.validateAndReturnSession(inRequest.getSessionId());
-        Object data;
+        Object data = null;
         try {
-            data = ((XmlValue)serverServices.unmarshall(inRequest.getPayload())).getValue();
-        } catch (JAXBException e) {
+            if(inRequest.hasData()) {
+                data = PayloadRpcUtil.getPayload(inRequest.getData());
+            }
+            if(data == null) {
+                data = ((XmlValue)serverServices.unmarshall(inRequest.getPayload())).getValue();
+            }
+        } catch (Exception e) {
             throw new ServiceException(e);
         }
         SLF4JLoggerProxy.debug(this,
@@ -465,6 +476,27 @@ public class SAClientRpcService<SessionClazz>
     {
         serviceAdapter = inServiceAdapter;
     }
+    /**
+     * Get the payloadFormat value.
+     *
+     * @return a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public PayloadRpc.PayloadFormat getPayloadFormat()
+    {
+        return payloadFormat;
+    }
+    /**
+     * Sets the payloadFormat value.
+     * 
+     * <p>Clients that request the native protobuf format are granted it only if this value is
+     * {@link PayloadRpc.PayloadFormat#PROTOBUF}. All other clients send XML payloads.
+     *
+     * @param inPayloadFormat a <code>PayloadRpc.PayloadFormat</code> value
+     */
+    public void setPayloadFormat(PayloadRpc.PayloadFormat inPayloadFormat)
+    {
+        payloadFormat = inPayloadFormat;
+    }
     /**
      * provides the SAServices
      */
@@ -473,6 +505,10 @@ public class SAClientRpcService<SessionClazz>
      * provides common RPC server services
      */
     private RpcServerServices<SessionClazz> serverServices;
+    /**
+     * most compact payload format offered to clients
+     */
+    private PayloadRpc.PayloadFormat payloadFormat = PayloadRpc.PayloadFormat.PROTOBUF;
     /**
      * description of the service
      */
@@ -28,6 +28,7 @@ import org.marketcetera.util.ws.ContextClassProvider;
 import org.marketcetera.util.ws.stateful.Authenticator;
 import org.marketcetera.util.ws.stateful.PortDescriptor;
 import org.marketcetera.util.ws.stateful.SessionHolder;
+import org.marketcetera.util.ws.stateful.SessionListener;
 import org.marketcetera.util.ws.stateful.SessionManager;
 import org.marketcetera.util.ws.stateful.UsesPort;
 import org.marketcetera.util.ws.stateless.StatelessClientContext;
@@ -100,6 +101,8 @@ public class RpcServer<SessionClazz>
         }
         try {
             reportContext = JAXBContext.newInstance(contextClassProvider==null?new Class<?>[0]:contextClassProvider.getContextClasses());
+            marshallers = new ThreadLocal<Marshaller>();
+            unmarshallers = new ThreadLocal<Unmarshaller>();
         } catch (JAXBException e) {
             SLF4JLoggerProxy.error(this,
                                    e);
@@ -180,6 +183,8 @@ public class RpcServer<SessionClazz>
             channelToken = null;
             executor = null;
             reportContext = null;
+            marshallers = new ThreadLocal<Marshaller>();
+            unmarshallers = new ThreadLocal<Unmarshaller>();
             running.set(false);
         }
     }
@@ -431,6 +436,14 @@ public class RpcServer<SessionClazz>
         }
         return sessionInfo;
     }
+    /* (non-Javadoc)
+     * @see org.marketcetera.util.rpc.RpcServerServices#addSessionListener(org.marketcetera.util.ws.stateful.SessionListener)
+     */
+    @Override
+    public void addSessionListener(SessionListener inSessionListener)
+    {
+        sessionManager.addSessionListener(inSessionListener);
+    }
     /* (non-Javadoc)
      * @see org.marketcetera.client.rpc.RpcServerServices#marshall(java.lang.Object)
      */
@@ -439,9 +452,8 @@ public class RpcServer<SessionClazz>
             throws JAXBException
     {
         StringWriter output = new StringWriter();
-        Marshaller marshaller = reportContext.createMarshaller();
-        marshaller.marshal(inObject,
-                           output);
+        getMarshaller().marshal(inObject,
+                                output);
         return output.toString();
     }
     /* (non-Javadoc)
@@ -452,8 +464,44 @@ public class RpcServer<SessionClazz>
     public <Clazz> Clazz unmarshall(String inData)
             throws JAXBException
     {
-        Unmarshaller unmarshaller = reportContext.createUnmarshaller();
-        return (Clazz)unmarshaller.unmarshal(new StringReader(inData));
+        return (Clazz)getUnmarshaller().unmarshal(new StringReader(inData));
+    }
+    /**
+     * Gets the marshaller for the current thread.
+     * 
+     * <p>Marshallers are not thread-safe but are reusable, so one is created per calling thread
+     * instead of one per call.
+     *
+     * @return a <code>Marshaller</code> value
+     * @throws JAXBException if the marshaller cannot be created
+     */
+    private Marshaller getMarshaller()
+            throws JAXBException
+    {
+        ThreadLocal<Marshaller> threadMarshallers = marshallers;
+        Marshaller marshaller = threadMarshallers.get();
+        if(marshaller == null) {
+            marshaller = reportContext.createMarshaller();
+            threadMarshallers.set(marshaller);
+        }
+        return marshaller;
+    }
+    /**
+     * Gets the unmarshaller for the current thread.
+     *
+     * @return an <code>Unmarshaller</code> value
+     * @throws JAXBException if the unmarshaller cannot be created
+     */
+    private Unmarshaller getUnmarshaller()
+            throws JAXBException
+    {
+        ThreadLocal<Unmarshaller> threadUnmarshallers = unmarshallers;
+        Unmarshaller unmarshaller = threadUnmarshallers.get();
+        if(unmarshaller == null) {
+            unmarshaller = reportContext.createUnmarshaller();
+            threadUnmarshallers.set(unmarshaller);
+        }
+        return unmarshaller;
     }
     /* (non-Javadoc)
      * @see org.marketcetera.util.ws.stateful.UsesPort#getPortDescriptors()
@@ -546,6 +594,14 @@ public class RpcServer<SessionClazz>
      * context used to control the marshaller and unmarshaller
      */
     private JAXBContext reportContext;
+    /**
+     * marshallers for the current context by calling thread, replaced when the context changes
+     */
+    private volatile ThreadLocal<Marshaller> marshallers = new ThreadLocal<Marshaller>();
+    /**
+     * unmarshallers for the current context by calling thread, replaced when the context changes
+     */
+    private volatile ThreadLocal<Unmarshaller> unmarshallers = new ThreadLocal<Unmarshaller>();
     /**
      * RPC services to manage
      */
@@ -4,6 +4,7 @@ import javax.xml.bind.JAXBException;
 
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.stateful.SessionHolder;
+import org.marketcetera.util.ws.stateful.SessionListener;
 import org.marketcetera.util.ws.tags.SessionId;
 
 /* $License$ */
@@ -38,6 +39,12 @@ public interface RpcServerServices<SessionClazz>
      * @return a <code>SessionHolder&lt;SessionClazz&gt;</code> value
      */
     SessionHolder<SessionClazz> validateAndReturnSession(String inSessionId);
+    /**
+     * Adds a listener to be notified when a session ends, whether by logout or by expiration.
+     *
+     * @param inSessionListener a <code>SessionListener</code> value
+     */
+    void addSessionListener(SessionListener inSessionListener);
     /**
      * Marshals the given object to XML.
      *
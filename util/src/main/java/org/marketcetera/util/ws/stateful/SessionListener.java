@@ -0,0 +1,24 @@
+package org.marketcetera.util.ws.stateful;
+
+import org.marketcetera.util.misc.ClassVersion;
+import org.marketcetera.util.ws.tags.SessionId;
+
+/* $License$ */
+
+/**
+ * Receives notification when a {@link SessionManager} session ends.
+ *
+ * @author <a href="mailto:colin@marketcetera.com">Colin DuPlantis</a>
+ * @version $Id$
+ * @since 3.2.1
+ */
+@ClassVersion("$Id$")
+public interface SessionListener
+{
+    /**
+     * Indicates that the session with the given ID has ended, either because it was removed or because it expired.
+     *
+     * @param inSessionId a <code>SessionId</code> value
+     */
+    void removedSession(SessionId inSessionId);
+}
@@ -2,7 +2,9 @@ package org.marketcetera.util.ws.stateful;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.marketcetera.util.misc.ClassVersion;
 import org.marketcetera.util.ws.tags.NodeId;
 import org.marketcetera.util.ws.tags.SessionId;
@@ -52,6 +54,7 @@ public class SessionManager<T>
     private final SessionFactory<T> mSessionFactory;
     private final Object sessionMapLock = new Object();
     private final HashMap<SessionId,SessionHolder<T>> mMap = new HashMap<SessionId,SessionHolder<T>>();
+    private final List<SessionListener> mListeners = new CopyOnWriteArrayList<SessionListener>();
 
     /**
      * The reaper.
@@ -114,6 +117,7 @@ public class SessionManager<T>
                                     (entry.getValue().getSession());
                             }
                             i.remove();
+                            notifyListeners(entry.getKey());
                         }
                     }
                 }
@@ -307,6 +311,53 @@ public class SessionManager<T>
             if ((holder!=null) && (getSessionFactory()!=null)) {
                 getSessionFactory().removedSession(holder.getSession());
             }
+            if (holder!=null) {
+                notifyListeners(id);
+            }
+        }
+    }
+
+    /**
+     * Adds the given listener, which is notified when a session is
+     * removed or expires.
+     *
+     * @param listener The listener.
+     */
+
+    public void addSessionListener
+        (SessionListener listener)
+    {
+        mListeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener The listener.
+     */
+
+    public void removeSessionListener
+        (SessionListener listener)
+    {
+        mListeners.remove(listener);
+    }
+
+    /**
+     * Notifies the receiver's listeners that the session with the
+     * given ID has ended.
+     *
+     * @param id The session ID.
+     */
+
+    private void notifyListeners
+        (SessionId id)
+    {
+        for (SessionListener listener:mListeners) {
+            try {
+                listener.removedSession(id);
+            } catch (RuntimeException ex) {
+                Messages.SESSION_LISTENER_FAILED.warn(this,ex,id);
+            }
         }
     }
 }
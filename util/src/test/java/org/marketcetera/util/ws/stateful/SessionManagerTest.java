@@ -5,7 +5,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -212,6 +215,42 @@ public class SessionManagerTest
         assertNull(s.get(TEST_SESSION_ID));
     }
 
+    @Test
+    public void listeners()
+        throws Exception
+    {
+        final List<SessionId> removed=new CopyOnWriteArrayList<SessionId>();
+        SessionListener l=new SessionListener() {
+            @Override
+            public void removedSession(SessionId id) {
+                removed.add(id);
+            }
+        };
+        SessionManager<Integer> s=new SessionManager<Integer>(TEST_LIFESPAN);
+        s.addSessionListener(l);
+
+        s.put(TEST_SESSION_ID,new SessionHolder<Integer>(TEST_USER,TEST_CONTEXT));
+        s.remove(TEST_SESSION_ID);
+        assertEquals(Arrays.asList(TEST_SESSION_ID),removed);
+
+        // Removal of nonexistent session ID.
+
+        s.remove(TEST_SESSION_ID);
+        assertEquals(1,removed.size());
+
+        // Expiration.
+
+        s.put(TEST_SESSION_ID_D,new SessionHolder<Integer>(TEST_USER,TEST_CONTEXT));
+        Thread.sleep(TEST_LIFESPAN*2);
+        assertNull(s.get(TEST_SESSION_ID_D));
+        assertEquals(Arrays.asList(TEST_SESSION_ID,TEST_SESSION_ID_D),removed);
+
+        s.removeSessionListener(l);
+        s.put(TEST_SESSION_ID,new SessionHolder<Integer>(TEST_USER,TEST_CONTEXT));
+        s.remove(TEST_SESSION_ID);
+        assertEquals(2,removed.size());
+    }
+
     @Test
     public void termination()
         throws Exception